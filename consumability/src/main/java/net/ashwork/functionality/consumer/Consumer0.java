@@ -11,6 +11,10 @@ package net.ashwork.functionality.consumer;
 
 import net.ashwork.functionality.Function0;
 import net.ashwork.functionality.consumer.abstracts.AbstractConsumer0;
+import net.ashwork.functionality.metrics.InvocationMetrics;
+import net.ashwork.functionality.metrics.MetricsRegistry;
+
+import java.util.Objects;
 
 /**
  * Represents an operation that accepts no arguments and returns no result.
@@ -38,6 +42,33 @@ public interface Consumer0 extends AbstractConsumer0<Consumer0> {
         return runnable::run;
     }
 
+    /**
+     * Returns an operation which records its calls into the metrics registered under
+     * the given name: the number of calls, the number of those which threw, and
+     * the latencies of the calls sampled by the registry. The metrics are looked up
+     * once, when this method is called.
+     *
+     * @param name the name to record the metrics under
+     * @param registry the registry holding the metrics
+     * @return an instrumented operation
+     * @throws NullPointerException if {@code name} or {@code registry} is null
+     *
+     * @see MetricsRegistry
+     */
+    default Consumer0 instrumented(final String name, final MetricsRegistry registry) {
+        final InvocationMetrics metrics = Objects.requireNonNull(registry, "The registry cannot be null.").metrics(Objects.requireNonNull(name, "The name cannot be null."));
+        return () -> {
+            final long start = metrics.start();
+            try {
+                this.accept();
+            } catch (final Throwable t) {
+                metrics.failed(start);
+                throw t;
+            }
+            metrics.succeeded(start);
+        };
+    }
+
     @Override
     default Consumer0 andThen(final Consumer0 after) {
         return (Consumer0) AbstractConsumer0.super.andThen(after);
@@ -11,7 +11,23 @@ package net.ashwork.functionality.consumer;
 
 import net.ashwork.functionality.Function1;
 import net.ashwork.functionality.consumer.abstracts.AbstractConsumer1;
+import net.ashwork.functionality.consumer.concurrent.AsyncConsumer1;
+import net.ashwork.functionality.consumer.concurrent.BatchingConsumer1;
+import net.ashwork.functionality.consumer.concurrent.ConflatingConsumer1;
+import net.ashwork.functionality.consumer.concurrent.IntKeyedConflatingConsumer1;
+import net.ashwork.functionality.consumer.concurrent.OverflowPolicy;
+import net.ashwork.functionality.consumer.concurrent.PartitionedConsumer1;
+import net.ashwork.functionality.consumer.concurrent.ProducerType;
+import net.ashwork.functionality.consumer.concurrent.SerializedConsumer1;
+import net.ashwork.functionality.consumer.concurrent.WaitStrategy;
+import net.ashwork.functionality.metrics.InvocationMetrics;
+import net.ashwork.functionality.metrics.MetricsRegistry;
+import net.ashwork.functionality.primitive.ints.ToIntFunction1;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 
 /**
@@ -43,6 +59,163 @@ public interface Consumer1<T1> extends AbstractConsumer1<T1, Consumer1<T1>> {
         return consumer::accept;
     }
 
+    /**
+     * Creates a consumer which accumulates its inputs and passes them to the
+     * {@code sink} in batches. A batch is passed once it holds {@code maxSize}
+     * inputs, once its oldest input has waited for {@code maxDelay}, or when the
+     * returned consumer is flushed or closed.
+     *
+     * @param maxSize the maximum number of inputs in a single batch
+     * @param maxDelay the maximum time an input waits before it is flushed
+     * @param sink the operation to pass each batch to
+     * @param <T1> the type of the input to the operation
+     * @return a new batching consumer
+     * @throws IllegalArgumentException if {@code maxSize} or {@code maxDelay} is not positive
+     * @throws NullPointerException if {@code maxDelay} or {@code sink} is null
+     *
+     * @see BatchingConsumer1
+     */
+    static <T1> BatchingConsumer1<T1> batched(final int maxSize, final Duration maxDelay, final Consumer1<? super List<T1>> sink) {
+        return BatchingConsumer1.of(maxSize, maxDelay, sink);
+    }
+
+    /**
+     * Returns a consumer which hands its inputs to a dedicated daemon thread that
+     * performs this operation, so the caller does not wait on this operation unless
+     * the buffer between them is full. The returned consumer accepts inputs from any
+     * number of threads and waits for space when its buffer is full.
+     *
+     * @param capacity the minimum number of slots in the buffer, rounded up to a power of two
+     * @param waitStrategy how callers and the consumer thread wait on each other
+     * @return an asynchronous consumer performing this operation
+     * @throws IllegalArgumentException if {@code capacity} is not positive or is greater than {@code 2^30}
+     * @throws NullPointerException if {@code waitStrategy} is null
+     *
+     * @see AsyncConsumer1
+     */
+    default AsyncConsumer1<T1> async(final int capacity, final WaitStrategy waitStrategy) {
+        return AsyncConsumer1.of(this, capacity, waitStrategy);
+    }
+
+    /**
+     * Returns a consumer which hands its inputs to a dedicated daemon thread that
+     * performs this operation, so the caller does not wait on this operation unless
+     * the buffer between them is full.
+     *
+     * @param capacity the minimum number of slots in the buffer, rounded up to a power of two
+     * @param waitStrategy how callers and the consumer thread wait on each other
+     * @param producerType how many threads may pass inputs concurrently
+     * @param overflowPolicy what to do with an input when the buffer is full
+     * @return an asynchronous consumer performing this operation
+     * @throws IllegalArgumentException if {@code capacity} is not positive or is greater than {@code 2^30}
+     * @throws NullPointerException if any argument other than {@code capacity} is null
+     *
+     * @see AsyncConsumer1
+     */
+    default AsyncConsumer1<T1> async(final int capacity, final WaitStrategy waitStrategy, final ProducerType producerType, final OverflowPolicy overflowPolicy) {
+        return AsyncConsumer1.of(this, capacity, waitStrategy, producerType, overflowPolicy);
+    }
+
+    /**
+     * Returns a consumer which performs this operation on the given executor, one
+     * input at a time. Callers queue their inputs without locking or waiting, and a
+     * single drainer passes them to this operation in batches, so this operation
+     * never runs concurrently with itself.
+     *
+     * @param executor the executor to perform this operation on
+     * @return a serialized consumer performing this operation
+     * @throws NullPointerException if {@code executor} is null
+     *
+     * @see SerializedConsumer1
+     */
+    default SerializedConsumer1<T1> serialized(final Executor executor) {
+        return SerializedConsumer1.of(this, executor);
+    }
+
+    /**
+     * Returns a consumer which performs this operation on one of {@code partitions}
+     * lanes running on the given executor, chosen by the hash of the input's key.
+     * Inputs with the same key are passed to this operation one at a time and in the
+     * order they were accepted, while inputs on different lanes may be passed to this
+     * operation in parallel.
+     *
+     * @param key the function computing the key of an input
+     * @param partitions the number of lanes
+     * @param executor the executor to run the lanes on
+     * @return a partitioned consumer performing this operation
+     * @throws IllegalArgumentException if {@code partitions} is not positive
+     * @throws NullPointerException if {@code key} or {@code executor} is null
+     *
+     * @see PartitionedConsumer1
+     */
+    default PartitionedConsumer1<T1> partitioned(final ToIntFunction1<? super T1> key, final int partitions, final Executor executor) {
+        return PartitionedConsumer1.of(this, key, partitions, executor);
+    }
+
+    /**
+     * Returns a consumer which performs this operation on the given executor, one
+     * input at a time, keeping only the latest pending input per key. Inputs which
+     * are replaced by a newer input with the same key before this operation is free
+     * are discarded.
+     *
+     * @param key the function computing the key of an input
+     * @param executor the executor to perform this operation on
+     * @param <K> the type of the key of an input
+     * @return a conflating consumer performing this operation
+     * @throws NullPointerException if {@code key} or {@code executor} is null
+     *
+     * @see ConflatingConsumer1
+     */
+    default <K> ConflatingConsumer1<T1, K> conflating(final Function1<? super T1, ? extends K> key, final Executor executor) {
+        return ConflatingConsumer1.of(this, key, executor);
+    }
+
+    /**
+     * Returns a consumer which performs this operation on the given executor, one
+     * input at a time, keeping only the latest pending input per dense
+     * {@code int}-valued key. Inputs which are replaced by a newer input with the
+     * same key before this operation is free are discarded.
+     *
+     * @param key the function computing the key of an input, between zero inclusive and {@code keys} exclusive
+     * @param keys the number of keys
+     * @param executor the executor to perform this operation on
+     * @return a conflating consumer performing this operation
+     * @throws IllegalArgumentException if {@code keys} is not positive
+     * @throws NullPointerException if {@code key} or {@code executor} is null
+     *
+     * @see IntKeyedConflatingConsumer1
+     */
+    default IntKeyedConflatingConsumer1<T1> conflating(final ToIntFunction1<? super T1> key, final int keys, final Executor executor) {
+        return IntKeyedConflatingConsumer1.of(this, key, keys, executor);
+    }
+
+    /**
+     * Returns an operation which records its calls into the metrics registered under
+     * the given name: the number of calls, the number of those which threw, and
+     * the latencies of the calls sampled by the registry. The metrics are looked up
+     * once, when this method is called.
+     *
+     * @param name the name to record the metrics under
+     * @param registry the registry holding the metrics
+     * @return an instrumented operation
+     * @throws NullPointerException if {@code name} or {@code registry} is null
+     *
+     * @see MetricsRegistry
+     */
+    default Consumer1<T1> instrumented(final String name, final MetricsRegistry registry) {
+        final InvocationMetrics metrics = Objects.requireNonNull(registry, "The registry cannot be null.").metrics(Objects.requireNonNull(name, "The name cannot be null."));
+        return (final T1 t1) -> {
+            final long start = metrics.start();
+            try {
+                this.accept(t1);
+            } catch (final Throwable t) {
+                metrics.failed(start);
+                throw t;
+            }
+            metrics.succeeded(start);
+        };
+    }
+
     @Override
     default Consumer1<T1> andThen(final Consumer1<T1> after) {
         return (Consumer1<T1>) AbstractConsumer1.super.andThen(after);
@@ -11,7 +11,10 @@ package net.ashwork.functionality.consumer;
 
 import net.ashwork.functionality.Function2;
 import net.ashwork.functionality.consumer.abstracts.AbstractConsumer2;
+import net.ashwork.functionality.metrics.InvocationMetrics;
+import net.ashwork.functionality.metrics.MetricsRegistry;
 
+import java.util.Objects;
 import java.util.function.BiConsumer;
 
 /**
@@ -45,6 +48,33 @@ public interface Consumer2<T1, T2> extends AbstractConsumer2<T1, T2, Consumer2<T
         return consumer::accept;
     }
 
+    /**
+     * Returns an operation which records its calls into the metrics registered under
+     * the given name: the number of calls, the number of those which threw, and
+     * the latencies of the calls sampled by the registry. The metrics are looked up
+     * once, when this method is called.
+     *
+     * @param name the name to record the metrics under
+     * @param registry the registry holding the metrics
+     * @return an instrumented operation
+     * @throws NullPointerException if {@code name} or {@code registry} is null
+     *
+     * @see MetricsRegistry
+     */
+    default Consumer2<T1, T2> instrumented(final String name, final MetricsRegistry registry) {
+        final InvocationMetrics metrics = Objects.requireNonNull(registry, "The registry cannot be null.").metrics(Objects.requireNonNull(name, "The name cannot be null."));
+        return (final T1 t1, final T2 t2) -> {
+            final long start = metrics.start();
+            try {
+                this.accept(t1, t2);
+            } catch (final Throwable t) {
+                metrics.failed(start);
+                throw t;
+            }
+            metrics.succeeded(start);
+        };
+    }
+
     @Override
     default Consumer2<T1, T2> andThen(final Consumer2<T1, T2> after) {
         return (Consumer2<T1, T2>) AbstractConsumer2.super.andThen(after);
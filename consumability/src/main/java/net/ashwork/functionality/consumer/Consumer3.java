@@ -0,0 +1,45 @@
+/*
+ * Consumability (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.consumer;
+
+import net.ashwork.functionality.Function3;
+import net.ashwork.functionality.consumer.abstracts.AbstractConsumer3;
+
+/**
+ * Represents an operation that accepts three arguments and returns no result.
+ * This is the three-arity specialization of {@link ConsumerN}.
+ * This is the non-producing specialization of {@link Function3}.
+ *
+ * <p>This is a functional interface whose functional method is {@link #accept(Object, Object, Object)}.
+ *
+ * @param <T1> the type of the first argument to the operation
+ * @param <T2> the type of the second argument to the operation
+ * @param <T3> the type of the third argument to the operation
+ *
+ * @see ConsumerN
+ * @see Function3
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface Consumer3<T1, T2, T3> extends AbstractConsumer3<T1, T2, T3, Consumer3<T1, T2, T3>> {
+
+    @Override
+    default Consumer3<T1, T2, T3> andThen(final Consumer3<T1, T2, T3> after) {
+        return (Consumer3<T1, T2, T3>) AbstractConsumer3.super.andThen(after);
+    }
+
+    @Override
+    default Consumer3<T1, T2, T3> andThenUnchecked(final Consumer3<T1, T2, T3> after) {
+        return (final T1 t1, final T2 t2, final T3 t3) -> {
+            this.accept(t1, t2, t3);
+            after.accept(t1, t2, t3);
+        };
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Consumability (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.consumer;
+
+import net.ashwork.functionality.Function4;
+import net.ashwork.functionality.consumer.abstracts.AbstractConsumer4;
+
+/**
+ * Represents an operation that accepts four arguments and returns no result.
+ * This is the four-arity specialization of {@link ConsumerN}.
+ * This is the non-producing specialization of {@link Function4}.
+ *
+ * <p>This is a functional interface whose functional method is {@link #accept(Object, Object, Object, Object)}.
+ *
+ * @param <T1> the type of the first argument to the operation
+ * @param <T2> the type of the second argument to the operation
+ * @param <T3> the type of the third argument to the operation
+ * @param <T4> the type of the fourth argument to the operation
+ *
+ * @see ConsumerN
+ * @see Function4
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface Consumer4<T1, T2, T3, T4> extends AbstractConsumer4<T1, T2, T3, T4, Consumer4<T1, T2, T3, T4>> {
+
+    @Override
+    default Consumer4<T1, T2, T3, T4> andThen(final Consumer4<T1, T2, T3, T4> after) {
+        return (Consumer4<T1, T2, T3, T4>) AbstractConsumer4.super.andThen(after);
+    }
+
+    @Override
+    default Consumer4<T1, T2, T3, T4> andThenUnchecked(final Consumer4<T1, T2, T3, T4> after) {
+        return (final T1 t1, final T2 t2, final T3 t3, final T4 t4) -> {
+            this.accept(t1, t2, t3, t4);
+            after.accept(t1, t2, t3, t4);
+        };
+    }
+}
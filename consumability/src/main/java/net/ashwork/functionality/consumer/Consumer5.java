@@ -0,0 +1,47 @@
+/*
+ * Consumability (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.consumer;
+
+import net.ashwork.functionality.Function5;
+import net.ashwork.functionality.consumer.abstracts.AbstractConsumer5;
+
+/**
+ * Represents an operation that accepts five arguments and returns no result.
+ * This is the five-arity specialization of {@link ConsumerN}.
+ * This is the non-producing specialization of {@link Function5}.
+ *
+ * <p>This is a functional interface whose functional method is {@link #accept(Object, Object, Object, Object, Object)}.
+ *
+ * @param <T1> the type of the first argument to the operation
+ * @param <T2> the type of the second argument to the operation
+ * @param <T3> the type of the third argument to the operation
+ * @param <T4> the type of the fourth argument to the operation
+ * @param <T5> the type of the fifth argument to the operation
+ *
+ * @see ConsumerN
+ * @see Function5
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface Consumer5<T1, T2, T3, T4, T5> extends AbstractConsumer5<T1, T2, T3, T4, T5, Consumer5<T1, T2, T3, T4, T5>> {
+
+    @Override
+    default Consumer5<T1, T2, T3, T4, T5> andThen(final Consumer5<T1, T2, T3, T4, T5> after) {
+        return (Consumer5<T1, T2, T3, T4, T5>) AbstractConsumer5.super.andThen(after);
+    }
+
+    @Override
+    default Consumer5<T1, T2, T3, T4, T5> andThenUnchecked(final Consumer5<T1, T2, T3, T4, T5> after) {
+        return (final T1 t1, final T2 t2, final T3 t3, final T4 t4, final T5 t5) -> {
+            this.accept(t1, t2, t3, t4, t5);
+            after.accept(t1, t2, t3, t4, t5);
+        };
+    }
+}
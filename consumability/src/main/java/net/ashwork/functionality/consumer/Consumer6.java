@@ -0,0 +1,48 @@
+/*
+ * Consumability (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.consumer;
+
+import net.ashwork.functionality.Function6;
+import net.ashwork.functionality.consumer.abstracts.AbstractConsumer6;
+
+/**
+ * Represents an operation that accepts six arguments and returns no result.
+ * This is the six-arity specialization of {@link ConsumerN}.
+ * This is the non-producing specialization of {@link Function6}.
+ *
+ * <p>This is a functional interface whose functional method is {@link #accept(Object, Object, Object, Object, Object, Object)}.
+ *
+ * @param <T1> the type of the first argument to the operation
+ * @param <T2> the type of the second argument to the operation
+ * @param <T3> the type of the third argument to the operation
+ * @param <T4> the type of the fourth argument to the operation
+ * @param <T5> the type of the fifth argument to the operation
+ * @param <T6> the type of the sixth argument to the operation
+ *
+ * @see ConsumerN
+ * @see Function6
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface Consumer6<T1, T2, T3, T4, T5, T6> extends AbstractConsumer6<T1, T2, T3, T4, T5, T6, Consumer6<T1, T2, T3, T4, T5, T6>> {
+
+    @Override
+    default Consumer6<T1, T2, T3, T4, T5, T6> andThen(final Consumer6<T1, T2, T3, T4, T5, T6> after) {
+        return (Consumer6<T1, T2, T3, T4, T5, T6>) AbstractConsumer6.super.andThen(after);
+    }
+
+    @Override
+    default Consumer6<T1, T2, T3, T4, T5, T6> andThenUnchecked(final Consumer6<T1, T2, T3, T4, T5, T6> after) {
+        return (final T1 t1, final T2 t2, final T3 t3, final T4 t4, final T5 t5, final T6 t6) -> {
+            this.accept(t1, t2, t3, t4, t5, t6);
+            after.accept(t1, t2, t3, t4, t5, t6);
+        };
+    }
+}
@@ -12,6 +12,9 @@ package net.ashwork.functionality.consumer;
 import net.ashwork.functionality.Function1;
 import net.ashwork.functionality.FunctionN;
 import net.ashwork.functionality.consumer.abstracts.AbstractConsumerN;
+import net.ashwork.functionality.consumer.concurrent.SerializedConsumerN;
+
+import java.util.concurrent.Executor;
 
 /**
  * Represents an operation that accepts {@code n} arguments and returns no result.
@@ -26,6 +29,22 @@ import net.ashwork.functionality.consumer.abstracts.AbstractConsumerN;
 @FunctionalInterface
 public interface ConsumerN extends AbstractConsumerN<ConsumerN> {
 
+    /**
+     * Returns a consumer which performs this operation on the given executor, one
+     * input at a time. Callers queue their inputs without locking or waiting, and a
+     * single drainer passes them to this operation in batches, so this operation
+     * never runs concurrently with itself.
+     *
+     * @param executor the executor to perform this operation on
+     * @return a serialized consumer performing this operation
+     * @throws NullPointerException if {@code executor} is null
+     *
+     * @see SerializedConsumerN
+     */
+    default SerializedConsumerN serialized(final Executor executor) {
+        return SerializedConsumerN.of(this, executor);
+    }
+
     @Override
     default ConsumerN andThen(final ConsumerN after) {
         return (ConsumerN) AbstractConsumerN.super.andThen(after);
@@ -0,0 +1,89 @@
+/*
+ * Consumability (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.consumer.abstracts;
+
+import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.Function3;
+import net.ashwork.functionality.util.InheritOnly;
+
+/**
+ * Represents an operation that accepts three arguments and returns no result.
+ * This is the three-arity specialization of {@link AbstractConsumerN}.
+ * This is the non-producing specialization of {@link Function3}.
+ *
+ * @apiNote
+ * This is an abstract consumer and should not be used directly. It should instead
+ * be called by one of its subtypes.
+ *
+ * @param <T1> the type of the first argument to the operation
+ * @param <T2> the type of the second argument to the operation
+ * @param <T3> the type of the third argument to the operation
+ * @param <C> the type of this consumer
+ *
+ * @see AbstractConsumerN
+ * @see Function3
+ * @since 1.0.0
+ */
+@InheritOnly
+public interface AbstractConsumer3<T1, T2, T3, C extends AbstractConsumer3<T1, T2, T3, C>> extends AbstractConsumerN<C> {
+
+    /**
+     * Performs this operation on the given arguments.
+     *
+     * @param t1 the first input argument
+     * @param t2 the second input argument
+     * @param t3 the third input argument
+     */
+    void accept(final T1 t1, final T2 t2, final T3 t3);
+
+    @SuppressWarnings("unchecked")
+    @Override
+    default void acceptAllUnchecked(final Object... args) {
+        this.accept((T1) args[0], (T2) args[1], (T3) args[2]);
+    }
+
+    @Override
+    default int arity() {
+        return 3;
+    }
+
+    @Override
+    default AbstractConsumer3<T1, T2, T3, C> andThen(final C after) {
+        return (AbstractConsumer3<T1, T2, T3, C>) AbstractConsumerN.super.andThen(after);
+    }
+
+    @Override
+    default AbstractConsumer3<T1, T2, T3, C> andThenUnchecked(final C after) {
+        return (final T1 t1, final T2 t2, final T3 t3) -> {
+            this.accept(t1, t2, t3);
+            after.accept(t1, t2, t3);
+        };
+    }
+
+    /**
+     * @see Function3
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    default <V> Function3<T1, T2, T3, V> andThen(final Function1<? super Void, ? extends V> after) {
+        return (Function3<T1, T2, T3, V>) AbstractConsumerN.super.andThen(after);
+    }
+
+    /**
+     * @see Function3
+     */
+    @Override
+    default <V> Function3<T1, T2, T3, V> andThenUnchecked(final Function1<? super Void, ? extends V> after) {
+        return (final T1 t1, final T2 t2, final T3 t3) -> {
+            this.accept(t1, t2, t3);
+            return after.apply(null);
+        };
+    }
+}
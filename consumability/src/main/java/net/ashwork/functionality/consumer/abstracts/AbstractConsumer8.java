@@ -0,0 +1,99 @@
+/*
+ * Consumability (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.consumer.abstracts;
+
+import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.Function8;
+import net.ashwork.functionality.util.InheritOnly;
+
+/**
+ * Represents an operation that accepts eight arguments and returns no result.
+ * This is the eight-arity specialization of {@link AbstractConsumerN}.
+ * This is the non-producing specialization of {@link Function8}.
+ *
+ * @apiNote
+ * This is an abstract consumer and should not be used directly. It should instead
+ * be called by one of its subtypes.
+ *
+ * @param <T1> the type of the first argument to the operation
+ * @param <T2> the type of the second argument to the operation
+ * @param <T3> the type of the third argument to the operation
+ * @param <T4> the type of the fourth argument to the operation
+ * @param <T5> the type of the fifth argument to the operation
+ * @param <T6> the type of the sixth argument to the operation
+ * @param <T7> the type of the seventh argument to the operation
+ * @param <T8> the type of the eighth argument to the operation
+ * @param <C> the type of this consumer
+ *
+ * @see AbstractConsumerN
+ * @see Function8
+ * @since 1.0.0
+ */
+@InheritOnly
+public interface AbstractConsumer8<T1, T2, T3, T4, T5, T6, T7, T8, C extends AbstractConsumer8<T1, T2, T3, T4, T5, T6, T7, T8, C>> extends AbstractConsumerN<C> {
+
+    /**
+     * Performs this operation on the given arguments.
+     *
+     * @param t1 the first input argument
+     * @param t2 the second input argument
+     * @param t3 the third input argument
+     * @param t4 the fourth input argument
+     * @param t5 the fifth input argument
+     * @param t6 the sixth input argument
+     * @param t7 the seventh input argument
+     * @param t8 the eighth input argument
+     */
+    void accept(final T1 t1, final T2 t2, final T3 t3, final T4 t4, final T5 t5, final T6 t6, final T7 t7, final T8 t8);
+
+    @SuppressWarnings("unchecked")
+    @Override
+    default void acceptAllUnchecked(final Object... args) {
+        this.accept((T1) args[0], (T2) args[1], (T3) args[2], (T4) args[3], (T5) args[4], (T6) args[5], (T7) args[6], (T8) args[7]);
+    }
+
+    @Override
+    default int arity() {
+        return 8;
+    }
+
+    @Override
+    default AbstractConsumer8<T1, T2, T3, T4, T5, T6, T7, T8, C> andThen(final C after) {
+        return (AbstractConsumer8<T1, T2, T3, T4, T5, T6, T7, T8, C>) AbstractConsumerN.super.andThen(after);
+    }
+
+    @Override
+    default AbstractConsumer8<T1, T2, T3, T4, T5, T6, T7, T8, C> andThenUnchecked(final C after) {
+        return (final T1 t1, final T2 t2, final T3 t3, final T4 t4, final T5 t5, final T6 t6, final T7 t7, final T8 t8) -> {
+            this.accept(t1, t2, t3, t4, t5, t6, t7, t8);
+            after.accept(t1, t2, t3, t4, t5, t6, t7, t8);
+        };
+    }
+
+    /**
+     * @see Function8
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    default <V> Function8<T1, T2, T3, T4, T5, T6, T7, T8, V> andThen(final Function1<? super Void, ? extends V> after) {
+        return (Function8<T1, T2, T3, T4, T5, T6, T7, T8, V>) AbstractConsumerN.super.andThen(after);
+    }
+
+    /**
+     * @see Function8
+     */
+    @Override
+    default <V> Function8<T1, T2, T3, T4, T5, T6, T7, T8, V> andThenUnchecked(final Function1<? super Void, ? extends V> after) {
+        return (final T1 t1, final T2 t2, final T3 t3, final T4 t4, final T5 t5, final T6 t6, final T7 t7, final T8 t8) -> {
+            this.accept(t1, t2, t3, t4, t5, t6, t7, t8);
+            return after.apply(null);
+        };
+    }
+}
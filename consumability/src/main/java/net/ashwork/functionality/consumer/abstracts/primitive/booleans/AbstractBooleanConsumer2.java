@@ -0,0 +1,90 @@
+/*
+ * Consumability (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.consumer.abstracts.primitive.booleans;
+
+import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.consumer.abstracts.AbstractConsumer2;
+import net.ashwork.functionality.consumer.abstracts.AbstractConsumerN;
+import net.ashwork.functionality.partial.UnboxedInput;
+import net.ashwork.functionality.primitive.booleans.BooleanFunction2;
+import net.ashwork.functionality.util.InheritOnly;
+
+/**
+ * Represents an operation that accepts two {@code boolean}-valued arguments and returns no result.
+ * This is the two-arity specialization of {@link AbstractConsumerN}.
+ * This is the non-producing specialization of {@link BooleanFunction2}.
+ * This is the {@code boolean}-consuming primitive specialization of {@link AbstractConsumer2}.
+ *
+ * @apiNote
+ * This is an abstract consumer and should not be used directly. It should instead
+ * be called by one of its subtypes.
+ *
+ * @param <C> the type of this consumer
+ *
+ * @see AbstractConsumerN
+ * @see BooleanFunction2
+ * @see AbstractConsumer2
+ * @since 1.0.0
+ */
+@InheritOnly
+public interface AbstractBooleanConsumer2<C extends AbstractBooleanConsumer2<C>> extends AbstractConsumerN<C>, UnboxedInput<AbstractConsumer2<Boolean, Boolean, ?>> {
+
+    /**
+     * Performs this operation on the given arguments.
+     *
+     * @param value1 the first input argument
+     * @param value2 the second input argument
+     */
+    void accept(final boolean value1, final boolean value2);
+
+    @Override
+    default void acceptAllUnchecked(final Object... args) {
+        this.accept((boolean) args[0], (boolean) args[1]);
+    }
+
+    @Override
+    default int arity() {
+        return 2;
+    }
+
+    /**
+     * @see AbstractConsumer2
+     */
+    @Override
+    AbstractConsumer2<Boolean, Boolean, ?> boxInput();
+
+    @Override
+    default AbstractBooleanConsumer2<C> andThen(final C after) {
+        return (AbstractBooleanConsumer2<C>) AbstractConsumerN.super.andThen(after);
+    }
+
+    @Override
+    AbstractBooleanConsumer2<C> andThenUnchecked(final C after);
+
+    /**
+     * @see BooleanFunction2
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    default <V> BooleanFunction2<V> andThen(final Function1<? super Void, ? extends V> after) {
+        return (BooleanFunction2<V>) AbstractConsumerN.super.andThen(after);
+    }
+
+    /**
+     * @see BooleanFunction2
+     */
+    @Override
+    default <V> BooleanFunction2<V> andThenUnchecked(final Function1<? super Void, ? extends V> after) {
+        return (final boolean value1, final boolean value2) -> {
+            this.accept(value1, value2);
+            return after.apply(null);
+        };
+    }
+}
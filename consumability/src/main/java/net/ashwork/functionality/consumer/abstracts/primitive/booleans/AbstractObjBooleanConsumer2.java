@@ -0,0 +1,92 @@
+/*
+ * Consumability (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.consumer.abstracts.primitive.booleans;
+
+import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.consumer.abstracts.AbstractConsumer2;
+import net.ashwork.functionality.consumer.abstracts.AbstractConsumerN;
+import net.ashwork.functionality.partial.UnboxedInput;
+import net.ashwork.functionality.primitive.booleans.ObjBooleanFunction2;
+import net.ashwork.functionality.util.InheritOnly;
+
+/**
+ * Represents an operation that accepts an object-valued argument and a {@code boolean}-valued argument and returns no result.
+ * This is the two-arity specialization of {@link AbstractConsumerN}.
+ * This is the non-producing specialization of {@link ObjBooleanFunction2}.
+ * This is the {@code boolean}-consuming primitive specialization of {@link AbstractConsumer2}.
+ *
+ * @apiNote
+ * This is an abstract consumer and should not be used directly. It should instead
+ * be called by one of its subtypes.
+ *
+ * @param <T1> the type of the first argument to the operation
+ * @param <C> the type of this consumer
+ *
+ * @see AbstractConsumerN
+ * @see ObjBooleanFunction2
+ * @see AbstractConsumer2
+ * @since 1.0.0
+ */
+@InheritOnly
+public interface AbstractObjBooleanConsumer2<T1, C extends AbstractObjBooleanConsumer2<T1, C>> extends AbstractConsumerN<C>, UnboxedInput<AbstractConsumer2<T1, Boolean, ?>> {
+
+    /**
+     * Performs this operation on the given arguments.
+     *
+     * @param t1 the first input argument
+     * @param value the second input argument
+     */
+    void accept(final T1 t1, final boolean value);
+
+    @SuppressWarnings("unchecked")
+    @Override
+    default void acceptAllUnchecked(final Object... args) {
+        this.accept((T1) args[0], (boolean) args[1]);
+    }
+
+    @Override
+    default int arity() {
+        return 2;
+    }
+
+    /**
+     * @see AbstractConsumer2
+     */
+    @Override
+    AbstractConsumer2<T1, Boolean, ?> boxInput();
+
+    @Override
+    default AbstractObjBooleanConsumer2<T1, C> andThen(final C after) {
+        return (AbstractObjBooleanConsumer2<T1, C>) AbstractConsumerN.super.andThen(after);
+    }
+
+    @Override
+    AbstractObjBooleanConsumer2<T1, C> andThenUnchecked(final C after);
+
+    /**
+     * @see ObjBooleanFunction2
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    default <V> ObjBooleanFunction2<T1, V> andThen(final Function1<? super Void, ? extends V> after) {
+        return (ObjBooleanFunction2<T1, V>) AbstractConsumerN.super.andThen(after);
+    }
+
+    /**
+     * @see ObjBooleanFunction2
+     */
+    @Override
+    default <V> ObjBooleanFunction2<T1, V> andThenUnchecked(final Function1<? super Void, ? extends V> after) {
+        return (final T1 t1, final boolean value) -> {
+            this.accept(t1, value);
+            return after.apply(null);
+        };
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Consumability (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.consumer.abstracts.primitive.bytes;
+
+import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.consumer.abstracts.AbstractConsumer2;
+import net.ashwork.functionality.consumer.abstracts.AbstractConsumerN;
+import net.ashwork.functionality.partial.UnboxedInput;
+import net.ashwork.functionality.primitive.bytes.ObjByteFunction2;
+import net.ashwork.functionality.util.InheritOnly;
+
+/**
+ * Represents an operation that accepts an object-valued argument and a {@code byte}-valued argument and returns no result.
+ * This is the two-arity specialization of {@link AbstractConsumerN}.
+ * This is the non-producing specialization of {@link ObjByteFunction2}.
+ * This is the {@code byte}-consuming primitive specialization of {@link AbstractConsumer2}.
+ *
+ * @apiNote
+ * This is an abstract consumer and should not be used directly. It should instead
+ * be called by one of its subtypes.
+ *
+ * @param <T1> the type of the first argument to the operation
+ * @param <C> the type of this consumer
+ *
+ * @see AbstractConsumerN
+ * @see ObjByteFunction2
+ * @see AbstractConsumer2
+ * @since 1.0.0
+ */
+@InheritOnly
+public interface AbstractObjByteConsumer2<T1, C extends AbstractObjByteConsumer2<T1, C>> extends AbstractConsumerN<C>, UnboxedInput<AbstractConsumer2<T1, Byte, ?>> {
+
+    /**
+     * Performs this operation on the given arguments.
+     *
+     * @param t1 the first input argument
+     * @param value the second input argument
+     */
+    void accept(final T1 t1, final byte value);
+
+    @SuppressWarnings("unchecked")
+    @Override
+    default void acceptAllUnchecked(final Object... args) {
+        this.accept((T1) args[0], (byte) args[1]);
+    }
+
+    @Override
+    default int arity() {
+        return 2;
+    }
+
+    /**
+     * @see AbstractConsumer2
+     */
+    @Override
+    AbstractConsumer2<T1, Byte, ?> boxInput();
+
+    @Override
+    default AbstractObjByteConsumer2<T1, C> andThen(final C after) {
+        return (AbstractObjByteConsumer2<T1, C>) AbstractConsumerN.super.andThen(after);
+    }
+
+    @Override
+    AbstractObjByteConsumer2<T1, C> andThenUnchecked(final C after);
+
+    /**
+     * @see ObjByteFunction2
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    default <V> ObjByteFunction2<T1, V> andThen(final Function1<? super Void, ? extends V> after) {
+        return (ObjByteFunction2<T1, V>) AbstractConsumerN.super.andThen(after);
+    }
+
+    /**
+     * @see ObjByteFunction2
+     */
+    @Override
+    default <V> ObjByteFunction2<T1, V> andThenUnchecked(final Function1<? super Void, ? extends V> after) {
+        return (final T1 t1, final byte value) -> {
+            this.accept(t1, value);
+            return after.apply(null);
+        };
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Consumability (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.consumer.abstracts.primitive.chars;
+
+import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.consumer.abstracts.AbstractConsumer2;
+import net.ashwork.functionality.consumer.abstracts.AbstractConsumerN;
+import net.ashwork.functionality.partial.UnboxedInput;
+import net.ashwork.functionality.primitive.chars.CharFunction2;
+import net.ashwork.functionality.util.InheritOnly;
+
+/**
+ * Represents an operation that accepts two {@code char}-valued arguments and returns no result.
+ * This is the two-arity specialization of {@link AbstractConsumerN}.
+ * This is the non-producing specialization of {@link CharFunction2}.
+ * This is the {@code char}-consuming primitive specialization of {@link AbstractConsumer2}.
+ *
+ * @apiNote
+ * This is an abstract consumer and should not be used directly. It should instead
+ * be called by one of its subtypes.
+ *
+ * @param <C> the type of this consumer
+ *
+ * @see AbstractConsumerN
+ * @see CharFunction2
+ * @see AbstractConsumer2
+ * @since 1.0.0
+ */
+@InheritOnly
+public interface AbstractCharConsumer2<C extends AbstractCharConsumer2<C>> extends AbstractConsumerN<C>, UnboxedInput<AbstractConsumer2<Character, Character, ?>> {
+
+    /**
+     * Performs this operation on the given arguments.
+     *
+     * @param value1 the first input argument
+     * @param value2 the second input argument
+     */
+    void accept(final char value1, final char value2);
+
+    @Override
+    default void acceptAllUnchecked(final Object... args) {
+        this.accept((char) args[0], (char) args[1]);
+    }
+
+    @Override
+    default int arity() {
+        return 2;
+    }
+
+    /**
+     * @see AbstractConsumer2
+     */
+    @Override
+    AbstractConsumer2<Character, Character, ?> boxInput();
+
+    @Override
+    default AbstractCharConsumer2<C> andThen(final C after) {
+        return (AbstractCharConsumer2<C>) AbstractConsumerN.super.andThen(after);
+    }
+
+    @Override
+    AbstractCharConsumer2<C> andThenUnchecked(final C after);
+
+    /**
+     * @see CharFunction2
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    default <V> CharFunction2<V> andThen(final Function1<? super Void, ? extends V> after) {
+        return (CharFunction2<V>) AbstractConsumerN.super.andThen(after);
+    }
+
+    /**
+     * @see CharFunction2
+     */
+    @Override
+    default <V> CharFunction2<V> andThenUnchecked(final Function1<? super Void, ? extends V> after) {
+        return (final char value1, final char value2) -> {
+            this.accept(value1, value2);
+            return after.apply(null);
+        };
+    }
+}
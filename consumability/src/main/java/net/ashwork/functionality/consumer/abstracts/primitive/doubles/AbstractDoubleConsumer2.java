@@ -0,0 +1,90 @@
+/*
+ * Consumability (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.consumer.abstracts.primitive.doubles;
+
+import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.consumer.abstracts.AbstractConsumer2;
+import net.ashwork.functionality.consumer.abstracts.AbstractConsumerN;
+import net.ashwork.functionality.partial.UnboxedInput;
+import net.ashwork.functionality.primitive.doubles.DoubleFunction2;
+import net.ashwork.functionality.util.InheritOnly;
+
+/**
+ * Represents an operation that accepts two {@code double}-valued arguments and returns no result.
+ * This is the two-arity specialization of {@link AbstractConsumerN}.
+ * This is the non-producing specialization of {@link DoubleFunction2}.
+ * This is the {@code double}-consuming primitive specialization of {@link AbstractConsumer2}.
+ *
+ * @apiNote
+ * This is an abstract consumer and should not be used directly. It should instead
+ * be called by one of its subtypes.
+ *
+ * @param <C> the type of this consumer
+ *
+ * @see AbstractConsumerN
+ * @see DoubleFunction2
+ * @see AbstractConsumer2
+ * @since 1.0.0
+ */
+@InheritOnly
+public interface AbstractDoubleConsumer2<C extends AbstractDoubleConsumer2<C>> extends AbstractConsumerN<C>, UnboxedInput<AbstractConsumer2<Double, Double, ?>> {
+
+    /**
+     * Performs this operation on the given arguments.
+     *
+     * @param value1 the first input argument
+     * @param value2 the second input argument
+     */
+    void accept(final double value1, final double value2);
+
+    @Override
+    default void acceptAllUnchecked(final Object... args) {
+        this.accept((double) args[0], (double) args[1]);
+    }
+
+    @Override
+    default int arity() {
+        return 2;
+    }
+
+    /**
+     * @see AbstractConsumer2
+     */
+    @Override
+    AbstractConsumer2<Double, Double, ?> boxInput();
+
+    @Override
+    default AbstractDoubleConsumer2<C> andThen(final C after) {
+        return (AbstractDoubleConsumer2<C>) AbstractConsumerN.super.andThen(after);
+    }
+
+    @Override
+    AbstractDoubleConsumer2<C> andThenUnchecked(final C after);
+
+    /**
+     * @see DoubleFunction2
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    default <V> DoubleFunction2<V> andThen(final Function1<? super Void, ? extends V> after) {
+        return (DoubleFunction2<V>) AbstractConsumerN.super.andThen(after);
+    }
+
+    /**
+     * @see DoubleFunction2
+     */
+    @Override
+    default <V> DoubleFunction2<V> andThenUnchecked(final Function1<? super Void, ? extends V> after) {
+        return (final double value1, final double value2) -> {
+            this.accept(value1, value2);
+            return after.apply(null);
+        };
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Consumability (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.consumer.abstracts.primitive.ints;
+
+import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.consumer.abstracts.AbstractConsumer2;
+import net.ashwork.functionality.consumer.abstracts.AbstractConsumerN;
+import net.ashwork.functionality.partial.UnboxedInput;
+import net.ashwork.functionality.primitive.ints.IntFunction2;
+import net.ashwork.functionality.util.InheritOnly;
+
+/**
+ * Represents an operation that accepts two {@code int}-valued arguments and returns no result.
+ * This is the two-arity specialization of {@link AbstractConsumerN}.
+ * This is the non-producing specialization of {@link IntFunction2}.
+ * This is the {@code int}-consuming primitive specialization of {@link AbstractConsumer2}.
+ *
+ * @apiNote
+ * This is an abstract consumer and should not be used directly. It should instead
+ * be called by one of its subtypes.
+ *
+ * @param <C> the type of this consumer
+ *
+ * @see AbstractConsumerN
+ * @see IntFunction2
+ * @see AbstractConsumer2
+ * @since 1.0.0
+ */
+@InheritOnly
+public interface AbstractIntConsumer2<C extends AbstractIntConsumer2<C>> extends AbstractConsumerN<C>, UnboxedInput<AbstractConsumer2<Integer, Integer, ?>> {
+
+    /**
+     * Performs this operation on the given arguments.
+     *
+     * @param value1 the first input argument
+     * @param value2 the second input argument
+     */
+    void accept(final int value1, final int value2);
+
+    @Override
+    default void acceptAllUnchecked(final Object... args) {
+        this.accept((int) args[0], (int) args[1]);
+    }
+
+    @Override
+    default int arity() {
+        return 2;
+    }
+
+    /**
+     * @see AbstractConsumer2
+     */
+    @Override
+    AbstractConsumer2<Integer, Integer, ?> boxInput();
+
+    @Override
+    default AbstractIntConsumer2<C> andThen(final C after) {
+        return (AbstractIntConsumer2<C>) AbstractConsumerN.super.andThen(after);
+    }
+
+    @Override
+    AbstractIntConsumer2<C> andThenUnchecked(final C after);
+
+    /**
+     * @see IntFunction2
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    default <V> IntFunction2<V> andThen(final Function1<? super Void, ? extends V> after) {
+        return (IntFunction2<V>) AbstractConsumerN.super.andThen(after);
+    }
+
+    /**
+     * @see IntFunction2
+     */
+    @Override
+    default <V> IntFunction2<V> andThenUnchecked(final Function1<? super Void, ? extends V> after) {
+        return (final int value1, final int value2) -> {
+            this.accept(value1, value2);
+            return after.apply(null);
+        };
+    }
+}
@@ -0,0 +1,236 @@
+/*
+ * Consumability (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.consumer.concurrent;
+
+import java.util.Objects;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The shared state of a consumer which hands its inputs to a dedicated thread
+ * through a preallocated ring buffer. Producers claim a sequence, write their
+ * input into the slot of that sequence, and publish it; the consumer thread
+ * passes each published input to the target in sequence order.
+ *
+ * <p>Every slot records the lap of the sequence last published into it, so the
+ * consumer thread can tell a published slot from a claimed one without any
+ * locking, even when multiple producers publish out of order.
+ *
+ * <p>The closed flag is stored in the same word as the number of claimed
+ * sequences, so a sequence is either claimed before the consumer is closed or
+ * not at all. Once closed, the consumer thread drains up to the last claimed
+ * sequence before it stops.
+ *
+ * @since 1.0.0
+ */
+abstract class AbstractAsyncConsumer implements AutoCloseable {
+
+    private static final int MAX_CAPACITY = 1 << 30;
+    private static final long CLOSED = 1L << 62;
+
+    /**
+     * The mask which maps a sequence to the index of its slot.
+     */
+    protected final int mask;
+    private final int capacity;
+    private final int shift;
+    private final WaitStrategy waitStrategy;
+    private final boolean multiProducer;
+    private final boolean dropOnOverflow;
+    private final AtomicIntegerArray published;
+    private final AtomicLong claimed = new AtomicLong();
+    private final AtomicLong consumed = new AtomicLong(-1L);
+    private long cachedConsumed = -1L;
+    private final LongAdder dropped = new LongAdder();
+    private final Thread thread;
+
+    /**
+     * Constructs the shared state of an asynchronous consumer. The consumer
+     * thread is not started until {@link #start()} is called.
+     *
+     * @param capacity the minimum number of slots in the buffer, rounded up to a power of two
+     * @param waitStrategy how producers and the consumer thread wait on each other
+     * @param producerType how many threads may pass inputs concurrently
+     * @param overflowPolicy what to do with an input when the buffer is full
+     * @param threadFactory the factory to create the consumer thread with
+     * @throws IllegalArgumentException if {@code capacity} is not positive or is greater than {@code 2^30}
+     * @throws NullPointerException if any other argument is null
+     */
+    protected AbstractAsyncConsumer(final int capacity, final WaitStrategy waitStrategy, final ProducerType producerType,
+                                    final OverflowPolicy overflowPolicy, final ThreadFactory threadFactory) {
+        if (capacity <= 0 || capacity > MAX_CAPACITY)
+            throw new IllegalArgumentException("The capacity must be between 1 and 2^30: " + capacity);
+        this.waitStrategy = Objects.requireNonNull(waitStrategy, "The wait strategy cannot be null.");
+        this.multiProducer = Objects.requireNonNull(producerType, "The producer type cannot be null.") == ProducerType.MULTI;
+        this.dropOnOverflow = Objects.requireNonNull(overflowPolicy, "The overflow policy cannot be null.") == OverflowPolicy.DROP;
+        Objects.requireNonNull(threadFactory, "The thread factory cannot be null.");
+
+        this.capacity = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.mask = this.capacity - 1;
+        this.shift = Integer.numberOfTrailingZeros(this.capacity);
+        this.published = new AtomicIntegerArray(this.capacity);
+        for (int i = 0; i < this.capacity; i++)
+            this.published.lazySet(i, -1);
+        this.thread = threadFactory.newThread(this::run);
+    }
+
+    /**
+     * Creates the thread factory used when none is supplied, which creates
+     * daemon threads.
+     *
+     * @return the default thread factory
+     */
+    protected static ThreadFactory defaultThreadFactory() {
+        return runnable -> {
+            final Thread thread = new Thread(runnable, "Async Consumer");
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Starts the consumer thread. Called once, after the slots of the
+     * implementation have been allocated.
+     */
+    protected final void start() {
+        this.thread.start();
+    }
+
+    /**
+     * Passes the input in the slot at {@code index} to the target. Only called
+     * on the consumer thread.
+     *
+     * @param index the index of the slot to consume
+     */
+    protected abstract void consume(final int index);
+
+    /**
+     * Claims the next sequence in the buffer, waiting or dropping according to
+     * the overflow policy if the buffer is full.
+     *
+     * @return the claimed sequence, or {@code -1} if the input was dropped
+     * @throws IllegalStateException if the consumer has been closed
+     */
+    protected final long claim() {
+        while (true) {
+            final long next = this.claimed.get();
+            if ((next & CLOSED) != 0)
+                throw new IllegalStateException("The async consumer has been closed.");
+            if (!this.awaitCapacity(next))
+                return -1L;
+            // A single producer only fails when the consumer is closed concurrently
+            if (this.claimed.compareAndSet(next, next + 1))
+                return next;
+        }
+    }
+
+    private boolean awaitCapacity(final long sequence) {
+        final long wrap = sequence - this.capacity;
+        // Only a single producer may cache the consumed sequence, as it is not shared
+        if (!this.multiProducer && wrap <= this.cachedConsumed)
+            return true;
+        long consumed;
+        while (wrap > (consumed = this.consumed.get())) {
+            if (this.dropOnOverflow) {
+                this.dropped.increment();
+                return false;
+            }
+            this.waitStrategy.idle();
+        }
+        if (!this.multiProducer)
+            this.cachedConsumed = consumed;
+        return true;
+    }
+
+    /**
+     * Publishes a claimed sequence once its slot has been written, making it
+     * visible to the consumer thread.
+     *
+     * @param sequence the sequence to publish
+     */
+    protected final void publish(final long sequence) {
+        this.published.lazySet((int) sequence & this.mask, (int) (sequence >>> this.shift));
+    }
+
+    private void run() {
+        long next = 0L;
+        while (true) {
+            final int index = (int) next & this.mask;
+            if (this.published.get(index) == (int) (next >>> this.shift)) {
+                try {
+                    this.consume(index);
+                } catch (final Throwable t) {
+                    this.thread.getUncaughtExceptionHandler().uncaughtException(this.thread, t);
+                }
+                this.consumed.lazySet(next++);
+            } else if (this.drained(next))
+                return;
+            else
+                this.waitStrategy.idle();
+        }
+    }
+
+    private boolean drained(final long next) {
+        final long claimed = this.claimed.get();
+        return (claimed & CLOSED) != 0 && (claimed & ~CLOSED) <= next;
+    }
+
+    /**
+     * Returns the number of slots in the buffer.
+     *
+     * @return the number of slots in the buffer
+     */
+    public final int capacity() {
+        return this.capacity;
+    }
+
+    /**
+     * Returns the number of inputs discarded because the buffer was full.
+     *
+     * @return the number of dropped inputs
+     */
+    public final long dropped() {
+        return this.dropped.sum();
+    }
+
+    /**
+     * Stops the consumer from accepting any more inputs and waits for the consumer
+     * thread to pass every accepted input to the target. An input passed
+     * concurrently with this call is either accepted and passed to the target, or
+     * rejected with an {@link IllegalStateException}. If the calling thread is
+     * interrupted while waiting, this method returns early with its interrupt
+     * status set. Closing an already closed consumer waits again.
+     */
+    @Override
+    public final void close() {
+        long claimed;
+        do
+            claimed = this.claimed.get();
+        while ((claimed & CLOSED) == 0 && !this.claimed.compareAndSet(claimed, claimed | CLOSED));
+        if (Thread.currentThread() == this.thread)
+            return;
+        try {
+            this.thread.join();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Returns whether the consumer has been closed.
+     *
+     * @return {@code true} if the consumer has been closed, otherwise {@code false}
+     */
+    public final boolean isClosed() {
+        return (this.claimed.get() & CLOSED) != 0;
+    }
+}
@@ -0,0 +1,312 @@
+/*
+ * Consumability (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.consumer.concurrent;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The shared state of a consumer which accumulates its inputs and passes them
+ * to a sink in batches. A batch is flushed once it reaches its maximum size,
+ * once the oldest buffered input has waited for the maximum delay, or when
+ * {@link #flush()} or {@link #close()} is called.
+ *
+ * <p>Inputs are buffered under a short lock. Batches are passed to the sink
+ * one at a time and in the order their inputs were accepted, so the sink
+ * itself never needs to be thread safe. A flush only passes on the inputs
+ * buffered before it started, so a thread which fills a batch is never kept
+ * flushing the batches filled by other threads after it. A flush triggered by
+ * size only passes on full batches, leaving the rest to the next flush.
+ *
+ * <p>At most one timed flush is armed at a time. It is armed outside the lock
+ * when an input is added to an empty buffer and is cancelled once the buffer
+ * is emptied by any other flush, so it never flushes a later batch early. If
+ * the scheduler rejects a timed flush, the buffer is flushed on the calling
+ * thread instead. Any throwable thrown by the sink during a timed flush is
+ * passed to the uncaught exception handler of the scheduler thread.
+ *
+ * @param <B> the type of a batch passed to the sink
+ *
+ * @since 1.0.0
+ */
+abstract class AbstractBatchingConsumer<B> implements AutoCloseable {
+
+    private static final long NONE = 0L;
+    private static final long FLUSH = -1L;
+
+    /**
+     * The lock guarding the buffer of the consumer.
+     */
+    protected final Object lock = new Object();
+    private final Object flushLock = new Object();
+    /**
+     * The maximum number of inputs in a single batch.
+     */
+    protected final int maxSize;
+    private final long maxDelayNanos;
+    private final ScheduledExecutorService scheduler;
+    private final boolean ownsScheduler;
+    private boolean scheduled;
+    private long generation;
+    private ScheduledFuture<?> timer;
+    private boolean closed;
+    private long added;
+    private long drained;
+
+    /**
+     * Constructs the shared state of a batching consumer.
+     *
+     * @param maxSize the maximum number of inputs in a single batch
+     * @param maxDelay the maximum time an input waits before it is flushed,
+     *                 or {@code null} if inputs are only flushed by size
+     * @param scheduler the scheduler to run timed flushes on, or {@code null}
+     *                  if the consumer should create its own
+     * @throws IllegalArgumentException if {@code maxSize} or {@code maxDelay} is not positive
+     */
+    protected AbstractBatchingConsumer(final int maxSize, final Duration maxDelay, final ScheduledExecutorService scheduler) {
+        if (maxSize <= 0)
+            throw new IllegalArgumentException("The maximum batch size must be positive: " + maxSize);
+        if (maxDelay != null && (maxDelay.isNegative() || maxDelay.isZero()))
+            throw new IllegalArgumentException("The maximum batch delay must be positive: " + maxDelay);
+        this.maxSize = maxSize;
+        this.maxDelayNanos = maxDelay == null ? -1L : maxDelay.toNanos();
+        this.ownsScheduler = maxDelay != null && scheduler == null;
+        this.scheduler = this.ownsScheduler ? Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "Batching Consumer Flush");
+            thread.setDaemon(true);
+            return thread;
+        }) : scheduler;
+    }
+
+    /**
+     * Returns the number of inputs currently buffered. Only called while
+     * holding {@link #lock}.
+     *
+     * @return the number of buffered inputs
+     */
+    protected abstract int buffered();
+
+    /**
+     * Removes the oldest {@code count} inputs from the buffer and returns them
+     * as a batch. Only called while holding {@link #lock}.
+     *
+     * @param count the number of inputs to remove
+     * @return the removed inputs
+     */
+    protected abstract B drain(final int count);
+
+    /**
+     * Passes a batch to the sink.
+     *
+     * @param batch the batch to pass
+     */
+    protected abstract void emit(final B batch);
+
+    /**
+     * Verifies the consumer can still accept inputs. Only called while
+     * holding {@link #lock}.
+     *
+     * @throws IllegalStateException if the consumer has been closed
+     */
+    protected final void checkOpen() {
+        if (this.closed)
+            throw new IllegalStateException("The batching consumer has been closed.");
+    }
+
+    /**
+     * Notifies the consumer an input was added to the buffer. Only called while
+     * holding {@link #lock}. The returned signal must be passed to
+     * {@link #afterAdded(long)} once the lock is released.
+     *
+     * @param size the number of inputs in the buffer after the addition
+     * @return the signal describing what to do once the lock is released
+     */
+    protected final long added(final int size) {
+        this.added++;
+        if (size >= this.maxSize)
+            return FLUSH;
+        if (this.scheduler == null || this.scheduled)
+            return NONE;
+        this.scheduled = true;
+        return ++this.generation;
+    }
+
+    /**
+     * Flushes a full batch or arms a timed flush as signalled by {@link #added(int)}.
+     * Must not be called while holding {@link #lock}.
+     *
+     * @param signal the signal returned by {@link #added(int)}
+     */
+    protected final void afterAdded(final long signal) {
+        if (signal == FLUSH)
+            this.flush(true);
+        else if (signal != NONE)
+            this.arm(signal);
+    }
+
+    private void arm(final long generation) {
+        final ScheduledFuture<?> timer;
+        try {
+            timer = this.scheduler.schedule(() -> this.timedFlush(generation), this.maxDelayNanos, TimeUnit.NANOSECONDS);
+        } catch (final RejectedExecutionException e) {
+            synchronized (this.lock) {
+                if (this.generation == generation)
+                    this.scheduled = false;
+            }
+            this.flush();
+            return;
+        }
+        synchronized (this.lock) {
+            // The buffer may have been flushed before the timer was stored
+            if (this.scheduled && this.generation == generation) {
+                this.timer = timer;
+                return;
+            }
+        }
+        timer.cancel(false);
+    }
+
+    private void timedFlush(final long generation) {
+        synchronized (this.lock) {
+            if (!this.scheduled || this.generation != generation)
+                return;
+            this.scheduled = false;
+            this.timer = null;
+        }
+        try {
+            this.flush();
+        } catch (final Throwable t) {
+            // Otherwise the throwable would be kept in the future of the timer, which nothing reads
+            final Thread thread = Thread.currentThread();
+            thread.getUncaughtExceptionHandler().uncaughtException(thread, t);
+        }
+    }
+
+    /**
+     * Cancels the armed timed flush, if any. Only called while holding {@link #lock}.
+     */
+    private void disarm() {
+        if (!this.scheduled)
+            return;
+        this.scheduled = false;
+        this.generation++;
+        if (this.timer != null) {
+            this.timer.cancel(false);
+            this.timer = null;
+        }
+    }
+
+    /**
+     * Passes all buffered inputs to the sink, in batches no larger than the
+     * maximum size. Returns once every input buffered before this call has
+     * been passed to the sink.
+     */
+    public final void flush() {
+        this.flush(false);
+    }
+
+    /**
+     * Passes the inputs buffered before this call to the sink.
+     *
+     * @param full whether to only pass full batches
+     */
+    private void flush(final boolean full) {
+        final long target;
+        synchronized (this.lock) {
+            target = this.added;
+        }
+        synchronized (this.flushLock) {
+            while (true) {
+                final B batch;
+                synchronized (this.lock) {
+                    final int size = this.buffered();
+                    if (this.drained >= target || size == 0 || (full && size < this.maxSize))
+                        return;
+                    final int count = Math.min(size, this.maxSize);
+                    batch = this.drain(count);
+                    this.drained += count;
+                    if (this.buffered() == 0)
+                        this.disarm();
+                }
+                this.emit(batch);
+            }
+        }
+    }
+
+    /**
+     * Flushes all buffered inputs and stops the consumer from accepting any
+     * more. If the consumer created its own scheduler, it is shut down.
+     * Closing an already closed consumer has no effect.
+     */
+    @Override
+    public final void close() {
+        synchronized (this.lock) {
+            if (this.closed)
+                return;
+            this.closed = true;
+        }
+        try {
+            this.flush();
+        } finally {
+            if (this.ownsScheduler)
+                this.scheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * Returns whether the consumer has been closed.
+     *
+     * @return {@code true} if the consumer has been closed, otherwise {@code false}
+     */
+    public final boolean isClosed() {
+        synchronized (this.lock) {
+            return this.closed;
+        }
+    }
+
+    /**
+     * Checks that a sink is not null.
+     *
+     * @param sink the sink to check
+     * @param <S> the type of the sink
+     * @return the sink
+     * @throws NullPointerException if {@code sink} is null
+     */
+    protected static <S> S requireSink(final S sink) {
+        return Objects.requireNonNull(sink, "The sink cannot be null.");
+    }
+
+    /**
+     * Checks that a maximum delay is not null.
+     *
+     * @param maxDelay the maximum delay to check
+     * @return the maximum delay
+     * @throws NullPointerException if {@code maxDelay} is null
+     */
+    protected static Duration requireDelay(final Duration maxDelay) {
+        return Objects.requireNonNull(maxDelay, "The maximum batch delay cannot be null.");
+    }
+
+    /**
+     * Checks that a scheduler is not null.
+     *
+     * @param scheduler the scheduler to check
+     * @return the scheduler
+     * @throws NullPointerException if {@code scheduler} is null
+     */
+    protected static ScheduledExecutorService requireScheduler(final ScheduledExecutorService scheduler) {
+        return Objects.requireNonNull(scheduler, "The scheduler cannot be null.");
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Consumability (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.consumer.concurrent;
+
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * The shared state of a consumer which runs its target on an {@link Executor}
+ * one input at a time. Inputs are appended to a lock-free, multi-producer,
+ * single-consumer queue of nodes; the first producer to find the consumer idle
+ * schedules a drainer, which passes queued inputs to the target in batches
+ * until the queue is empty.
+ *
+ * <p>At most one drainer runs at a time, and each drainer run happens-after
+ * the previous one, so the target may mutate state without any locking.
+ *
+ * @since 1.0.0
+ */
+abstract class AbstractSerializedConsumer {
+
+    /**
+     * The default maximum number of inputs passed to the target before the
+     * drainer yields the executor to other tasks.
+     */
+    protected static final int DEFAULT_BATCH_SIZE = 64;
+
+    private final Executor executor;
+    private final int batchSize;
+    private final AtomicReference<Node> tail;
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private final Runnable drainer = this::drain;
+    private Node head;
+
+    /**
+     * Constructs the shared state of a serialized consumer.
+     *
+     * @param executor the executor to run the drainer on
+     * @param batchSize the maximum number of inputs passed to the target in a single drainer run
+     * @throws IllegalArgumentException if {@code batchSize} is not positive
+     * @throws NullPointerException if {@code executor} is null
+     */
+    protected AbstractSerializedConsumer(final Executor executor, final int batchSize) {
+        if (batchSize <= 0)
+            throw new IllegalArgumentException("The batch size must be positive: " + batchSize);
+        this.executor = Objects.requireNonNull(executor, "The executor cannot be null.");
+        this.batchSize = batchSize;
+        this.head = new Node();
+        this.tail = new AtomicReference<>(this.head);
+    }
+
+    /**
+     * Passes the input held by a node to the target. Only called by the drainer.
+     *
+     * @param node the node holding the input
+     */
+    protected abstract void process(final Node node);
+
+    /**
+     * Appends a node to the queue and schedules the drainer if it is not already
+     * scheduled. If the executor rejects the drainer, it is run on the calling thread.
+     *
+     * @param node the node holding the input
+     */
+    protected final void enqueue(final Node node) {
+        // Swapping the tail first orders concurrent producers without a lock
+        this.tail.getAndSet(node).next = node;
+        if (this.scheduled.compareAndSet(false, true) && !this.trySchedule())
+            this.drain();
+    }
+
+    private boolean trySchedule() {
+        try {
+            this.executor.execute(this.drainer);
+            return true;
+        } catch (final RejectedExecutionException e) {
+            return false;
+        }
+    }
+
+    private void drain() {
+        int processed = 0;
+        while (true) {
+            final Node next = this.head.next;
+            if (next != null) {
+                if (processed == this.batchSize) {
+                    // Yield the executor while keeping the drainer scheduled
+                    if (this.trySchedule())
+                        return;
+                    processed = 0;
+                }
+                processed++;
+                this.head = next;
+                try {
+                    this.process(next);
+                } catch (final Throwable t) {
+                    final Thread thread = Thread.currentThread();
+                    thread.getUncaughtExceptionHandler().uncaughtException(thread, t);
+                }
+            } else if (this.tail.get() != this.head)
+                // A producer has swapped the tail but not yet linked its node
+                Thread.yield();
+            else {
+                this.scheduled.set(false);
+                if (this.tail.get() == this.head || !this.scheduled.compareAndSet(false, true))
+                    return;
+            }
+        }
+    }
+
+    /**
+     * A node in the queue of a serialized consumer. Implementations add a field
+     * holding the input.
+     */
+    static class Node {
+
+        private volatile Node next;
+    }
+}
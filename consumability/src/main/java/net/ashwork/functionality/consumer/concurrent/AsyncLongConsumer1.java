@@ -0,0 +1,129 @@
+/*
+ * Consumability (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.consumer.concurrent;
+
+import net.ashwork.functionality.consumer.primitive.longs.LongConsumer1;
+
+import java.util.Objects;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Represents an operation that accepts a {@code long}-valued argument and hands it to a dedicated
+ * thread which passes it to the target operation. Inputs are handed over through
+ * a preallocated ring buffer, so accepting an input never locks, never allocates,
+ * and does not wait on the target unless the buffer is full. Inputs are stored in a
+ * {@code long} array and are never boxed.
+ *
+ * <p>The target is called on the consumer thread in the order inputs were published.
+ * An exception thrown by the target is passed to the uncaught exception handler
+ * of the consumer thread, which then continues with the next input.
+ *
+ * <p>When the buffer is full, the {@link OverflowPolicy} decides whether the
+ * caller waits using the {@link WaitStrategy} or the input is dropped.
+ *
+ * @see LongConsumer1
+ * @see WaitStrategy
+ * @since 1.0.0
+ */
+public final class AsyncLongConsumer1 extends AbstractAsyncConsumer implements LongConsumer1 {
+
+    private final LongConsumer1 target;
+    private final long[] slots;
+
+    private AsyncLongConsumer1(final LongConsumer1 target, final int capacity, final WaitStrategy waitStrategy, final ProducerType producerType, final OverflowPolicy overflowPolicy, final ThreadFactory threadFactory) {
+        super(capacity, waitStrategy, producerType, overflowPolicy, threadFactory);
+        this.target = Objects.requireNonNull(target, "The target cannot be null.");
+        this.slots = new long[this.mask + 1];
+        this.start();
+    }
+
+    /**
+     * Creates an asynchronous consumer which accepts inputs from any number of
+     * threads and waits for space when its buffer is full. The consumer thread
+     * is a daemon thread.
+     *
+     * @param target the operation to pass each input to
+     * @param capacity the minimum number of slots in the buffer, rounded up to a power of two
+     * @param waitStrategy how producers and the consumer thread wait on each other
+     * @return a new asynchronous consumer
+     * @throws IllegalArgumentException if {@code capacity} is not positive or is greater than {@code 2^30}
+     * @throws NullPointerException if {@code target} or {@code waitStrategy} is null
+     */
+    public static AsyncLongConsumer1 of(final LongConsumer1 target, final int capacity, final WaitStrategy waitStrategy) {
+        return of(target, capacity, waitStrategy, ProducerType.MULTI, OverflowPolicy.BLOCK);
+    }
+
+    /**
+     * Creates an asynchronous consumer. The consumer thread is a daemon thread.
+     *
+     * @param target the operation to pass each input to
+     * @param capacity the minimum number of slots in the buffer, rounded up to a power of two
+     * @param waitStrategy how producers and the consumer thread wait on each other
+     * @param producerType how many threads may pass inputs concurrently
+     * @param overflowPolicy what to do with an input when the buffer is full
+     * @return a new asynchronous consumer
+     * @throws IllegalArgumentException if {@code capacity} is not positive or is greater than {@code 2^30}
+     * @throws NullPointerException if any argument other than {@code capacity} is null
+     */
+    public static AsyncLongConsumer1 of(final LongConsumer1 target, final int capacity, final WaitStrategy waitStrategy, final ProducerType producerType, final OverflowPolicy overflowPolicy) {
+        return of(target, capacity, waitStrategy, producerType, overflowPolicy, defaultThreadFactory());
+    }
+
+    /**
+     * Creates an asynchronous consumer whose consumer thread is created by the
+     * given factory.
+     *
+     * @param target the operation to pass each input to
+     * @param capacity the minimum number of slots in the buffer, rounded up to a power of two
+     * @param waitStrategy how producers and the consumer thread wait on each other
+     * @param producerType how many threads may pass inputs concurrently
+     * @param overflowPolicy what to do with an input when the buffer is full
+     * @param threadFactory the factory to create the consumer thread with
+     * @return a new asynchronous consumer
+     * @throws IllegalArgumentException if {@code capacity} is not positive or is greater than {@code 2^30}
+     * @throws NullPointerException if any argument other than {@code capacity} is null
+     */
+    public static AsyncLongConsumer1 of(final LongConsumer1 target, final int capacity, final WaitStrategy waitStrategy, final ProducerType producerType, final OverflowPolicy overflowPolicy, final ThreadFactory threadFactory) {
+        return new AsyncLongConsumer1(target, capacity, waitStrategy, producerType, overflowPolicy, threadFactory);
+    }
+
+    /**
+     * Passes the input to the consumer thread, unless it is dropped because the
+     * buffer is full.
+     *
+     * @param value the input argument
+     * @return {@code true} if the input was accepted, or {@code false} if it was dropped
+     * @throws IllegalStateException if the consumer has been closed
+     */
+    public boolean offer(final long value) {
+        final long sequence = this.claim();
+        if (sequence < 0)
+            return false;
+        this.slots[(int) sequence & this.mask] = value;
+        this.publish(sequence);
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalStateException if the consumer has been closed
+     * @see #offer(long)
+     */
+    @Override
+    public void accept(final long value) {
+        this.offer(value);
+    }
+
+    @Override
+    protected void consume(final int index) {
+        this.target.accept(this.slots[index]);
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Consumability (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.consumer.concurrent;
+
+import net.ashwork.functionality.consumer.Consumer1;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * Represents an operation that accepts one argument and passes it to a sink
+ * as part of a {@link List} of arguments. A batch is passed to the sink once it
+ * reaches its maximum size, once its oldest argument has waited for the maximum
+ * delay, or when the consumer is flushed or closed.
+ *
+ * <p>The consumer may be called from any number of threads. The sink is called
+ * by one thread at a time with batches in the order their arguments were accepted.
+ * A sink called from a timed flush runs on the scheduler, so any exception it
+ * throws is passed to the uncaught exception handler of the scheduler thread.
+ *
+ * @param <T1> the type of the input to the operation
+ *
+ * @see Consumer1
+ * @since 1.0.0
+ */
+public final class BatchingConsumer1<T1> extends AbstractBatchingConsumer<List<T1>> implements Consumer1<T1> {
+
+    private final Consumer1<? super List<T1>> sink;
+    private ArrayList<T1> buffer;
+
+    private BatchingConsumer1(final int maxSize, final Duration maxDelay, final ScheduledExecutorService scheduler, final Consumer1<? super List<T1>> sink) {
+        super(maxSize, maxDelay, scheduler);
+        this.sink = requireSink(sink);
+        this.buffer = new ArrayList<>(maxSize);
+    }
+
+    /**
+     * Creates a batching consumer which only flushes by size or when it is
+     * flushed or closed.
+     *
+     * @param maxSize the maximum number of arguments in a single batch
+     * @param sink the operation to pass each batch to
+     * @param <T1> the type of the input to the operation
+     * @return a new batching consumer
+     * @throws IllegalArgumentException if {@code maxSize} is not positive
+     * @throws NullPointerException if {@code sink} is null
+     */
+    public static <T1> BatchingConsumer1<T1> of(final int maxSize, final Consumer1<? super List<T1>> sink) {
+        return new BatchingConsumer1<>(maxSize, null, null, sink);
+    }
+
+    /**
+     * Creates a batching consumer which flushes by size or time. Timed flushes
+     * run on a daemon thread owned by the consumer which is stopped when the
+     * consumer is closed.
+     *
+     * @param maxSize the maximum number of arguments in a single batch
+     * @param maxDelay the maximum time an argument waits before it is flushed
+     * @param sink the operation to pass each batch to
+     * @param <T1> the type of the input to the operation
+     * @return a new batching consumer
+     * @throws IllegalArgumentException if {@code maxSize} or {@code maxDelay} is not positive
+     * @throws NullPointerException if {@code maxDelay} or {@code sink} is null
+     */
+    public static <T1> BatchingConsumer1<T1> of(final int maxSize, final Duration maxDelay, final Consumer1<? super List<T1>> sink) {
+        return new BatchingConsumer1<>(maxSize, requireDelay(maxDelay), null, sink);
+    }
+
+    /**
+     * Creates a batching consumer which flushes by size or time. Timed flushes
+     * run on the given scheduler, which is not shut down when the consumer is closed.
+     *
+     * @param maxSize the maximum number of arguments in a single batch
+     * @param maxDelay the maximum time an argument waits before it is flushed
+     * @param scheduler the scheduler to run timed flushes on
+     * @param sink the operation to pass each batch to
+     * @param <T1> the type of the input to the operation
+     * @return a new batching consumer
+     * @throws IllegalArgumentException if {@code maxSize} or {@code maxDelay} is not positive
+     * @throws NullPointerException if {@code maxDelay}, {@code scheduler}, or {@code sink} is null
+     */
+    public static <T1> BatchingConsumer1<T1> of(final int maxSize, final Duration maxDelay, final ScheduledExecutorService scheduler, final Consumer1<? super List<T1>> sink) {
+        return new BatchingConsumer1<>(maxSize, requireDelay(maxDelay), requireScheduler(scheduler), sink);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalStateException if the consumer has been closed
+     */
+    @Override
+    public void accept(final T1 t1) {
+        final long signal;
+        synchronized (this.lock) {
+            this.checkOpen();
+            this.buffer.add(t1);
+            signal = this.added(this.buffer.size());
+        }
+        this.afterAdded(signal);
+    }
+
+    @Override
+    protected int buffered() {
+        return this.buffer.size();
+    }
+
+    @Override
+    protected List<T1> drain(final int count) {
+        final ArrayList<T1> batch;
+        if (count == this.buffer.size()) {
+            batch = this.buffer;
+            this.buffer = new ArrayList<>(this.maxSize);
+        } else {
+            batch = new ArrayList<>(this.buffer.subList(0, count));
+            this.buffer.subList(0, count).clear();
+        }
+        return batch;
+    }
+
+    @Override
+    protected void emit(final List<T1> batch) {
+        this.sink.accept(batch);
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Consumability (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.consumer.concurrent;
+
+import net.ashwork.functionality.consumer.Consumer1;
+import net.ashwork.functionality.consumer.primitive.longs.LongConsumer1;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * Represents an operation that accepts a {@code long}-valued argument and passes it to a sink
+ * as part of a {@code long} array. A batch is passed to the sink once it reaches its
+ * maximum size, once its oldest argument has waited for the maximum delay, or when
+ * the consumer is flushed or closed. No argument is boxed while it is buffered.
+ *
+ * <p>The consumer may be called from any number of threads. The sink is called
+ * by one thread at a time with batches in the order their arguments were accepted.
+ * Each batch is a new array whose length is the number of arguments in the batch.
+ * A sink called from a timed flush runs on the scheduler, so any exception it
+ * throws is passed to the uncaught exception handler of the scheduler thread.
+ *
+ * @see LongConsumer1
+ * @see BatchingConsumer1
+ * @since 1.0.0
+ */
+public final class BatchingLongConsumer1 extends AbstractBatchingConsumer<long[]> implements LongConsumer1 {
+
+    private final Consumer1<? super long[]> sink;
+    private long[] buffer;
+    private int size;
+
+    private BatchingLongConsumer1(final int maxSize, final Duration maxDelay, final ScheduledExecutorService scheduler, final Consumer1<? super long[]> sink) {
+        super(maxSize, maxDelay, scheduler);
+        this.sink = requireSink(sink);
+        this.buffer = new long[maxSize];
+    }
+
+    /**
+     * Creates a batching consumer which only flushes by size or when it is
+     * flushed or closed.
+     *
+     * @param maxSize the maximum number of arguments in a single batch
+     * @param sink the operation to pass each batch to
+     * @return a new batching consumer
+     * @throws IllegalArgumentException if {@code maxSize} is not positive
+     * @throws NullPointerException if {@code sink} is null
+     */
+    public static BatchingLongConsumer1 of(final int maxSize, final Consumer1<? super long[]> sink) {
+        return new BatchingLongConsumer1(maxSize, null, null, sink);
+    }
+
+    /**
+     * Creates a batching consumer which flushes by size or time. Timed flushes
+     * run on a daemon thread owned by the consumer which is stopped when the
+     * consumer is closed.
+     *
+     * @param maxSize the maximum number of arguments in a single batch
+     * @param maxDelay the maximum time an argument waits before it is flushed
+     * @param sink the operation to pass each batch to
+     * @return a new batching consumer
+     * @throws IllegalArgumentException if {@code maxSize} or {@code maxDelay} is not positive
+     * @throws NullPointerException if {@code maxDelay} or {@code sink} is null
+     */
+    public static BatchingLongConsumer1 of(final int maxSize, final Duration maxDelay, final Consumer1<? super long[]> sink) {
+        return new BatchingLongConsumer1(maxSize, requireDelay(maxDelay), null, sink);
+    }
+
+    /**
+     * Creates a batching consumer which flushes by size or time. Timed flushes
+     * run on the given scheduler, which is not shut down when the consumer is closed.
+     *
+     * @param maxSize the maximum number of arguments in a single batch
+     * @param maxDelay the maximum time an argument waits before it is flushed
+     * @param scheduler the scheduler to run timed flushes on
+     * @param sink the operation to pass each batch to
+     * @return a new batching consumer
+     * @throws IllegalArgumentException if {@code maxSize} or {@code maxDelay} is not positive
+     * @throws NullPointerException if {@code maxDelay}, {@code scheduler}, or {@code sink} is null
+     */
+    public static BatchingLongConsumer1 of(final int maxSize, final Duration maxDelay, final ScheduledExecutorService scheduler, final Consumer1<? super long[]> sink) {
+        return new BatchingLongConsumer1(maxSize, requireDelay(maxDelay), requireScheduler(scheduler), sink);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalStateException if the consumer has been closed
+     */
+    @Override
+    public void accept(final long value) {
+        final long signal;
+        synchronized (this.lock) {
+            this.checkOpen();
+            // The buffer only grows past the batch size while another thread is flushing
+            if (this.size == this.buffer.length)
+                this.buffer = Arrays.copyOf(this.buffer, this.buffer.length << 1);
+            this.buffer[this.size++] = value;
+            signal = this.added(this.size);
+        }
+        this.afterAdded(signal);
+    }
+
+    @Override
+    protected int buffered() {
+        return this.size;
+    }
+
+    @Override
+    protected long[] drain(final int count) {
+        final long[] batch = Arrays.copyOf(this.buffer, count);
+        this.size -= count;
+        System.arraycopy(this.buffer, count, this.buffer, 0, this.size);
+        return batch;
+    }
+
+    @Override
+    protected void emit(final long[] batch) {
+        this.sink.accept(batch);
+    }
+}
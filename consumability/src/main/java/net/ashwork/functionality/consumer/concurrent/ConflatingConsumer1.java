@@ -0,0 +1,105 @@
+/*
+ * Consumability (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.consumer.concurrent;
+
+import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.consumer.Consumer1;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * Represents an operation that accepts one argument and passes it to the target
+ * operation on an {@link Executor}, keeping only the latest pending argument per
+ * key. If an argument is accepted while an older one with the same key is still
+ * waiting for the target, the older one is discarded. The target is called one
+ * argument at a time, so a burst of updates to one key costs the target a single
+ * call once it is free.
+ *
+ * <p>Keys are passed to the target in the order their first pending argument was
+ * accepted. Keys are compared using {@link Object#equals(Object)}.
+ *
+ * @param <T1> the type of the input to the operation
+ * @param <K> the type of the key of an input
+ *
+ * @see IntKeyedConflatingConsumer1
+ * @see SerializedConsumer1
+ * @since 1.0.0
+ */
+public final class ConflatingConsumer1<T1, K> extends AbstractSerializedConsumer implements Consumer1<T1> {
+
+    private final Consumer1<? super T1> target;
+    private final Function1<? super T1, ? extends K> key;
+    private final Map<K, T1> pending = new ConcurrentHashMap<>();
+
+    private ConflatingConsumer1(final Consumer1<? super T1> target, final Function1<? super T1, ? extends K> key, final Executor executor) {
+        super(executor, DEFAULT_BATCH_SIZE);
+        this.target = Objects.requireNonNull(target, "The target cannot be null.");
+        this.key = Objects.requireNonNull(key, "The key function cannot be null.");
+    }
+
+    /**
+     * Creates a conflating consumer which runs the target on the given executor.
+     * If the executor rejects the drainer, it runs on the calling thread instead.
+     *
+     * @param target the operation to pass each input to
+     * @param key the function computing the key of an input
+     * @param executor the executor to run the target on
+     * @param <T1> the type of the input to the operation
+     * @param <K> the type of the key of an input
+     * @return a new conflating consumer
+     * @throws NullPointerException if {@code target}, {@code key}, or {@code executor} is null
+     */
+    public static <T1, K> ConflatingConsumer1<T1, K> of(final Consumer1<? super T1> target, final Function1<? super T1, ? extends K> key, final Executor executor) {
+        return new ConflatingConsumer1<>(target, key, executor);
+    }
+
+    /**
+     * Returns the number of keys with an argument waiting for the target.
+     *
+     * @return the number of pending keys
+     */
+    public int pending() {
+        return this.pending.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws NullPointerException if {@code t1} or its key is null
+     */
+    @Override
+    public void accept(final T1 t1) {
+        Objects.requireNonNull(t1, "The input cannot be null.");
+        final K k = Objects.requireNonNull(this.key.apply(t1), "The key cannot be null.");
+        // Only the first pending argument of a key queues the key for the drainer
+        if (this.pending.put(k, t1) == null)
+            this.enqueue(new Node<>(k));
+    }
+
+    @Override
+    protected void process(final AbstractSerializedConsumer.Node node) {
+        @SuppressWarnings("unchecked")
+        final T1 t1 = this.pending.remove(((Node<K>) node).key);
+        if (t1 != null)
+            this.target.accept(t1);
+    }
+
+    private static final class Node<K> extends AbstractSerializedConsumer.Node {
+
+        private final K key;
+
+        private Node(final K key) {
+            this.key = key;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Consumability (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.consumer.concurrent;
+
+import net.ashwork.functionality.consumer.Consumer1;
+import net.ashwork.functionality.primitive.ints.ToIntFunction1;
+
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Represents an operation that accepts one argument and passes it to the target
+ * operation on an {@link Executor}, keeping only the latest pending argument per
+ * {@code int}-valued key. The keys must be dense, between zero and a fixed number
+ * of keys, as each key owns a slot in an array. Compared to a
+ * {@link ConflatingConsumer1}, no key is boxed or hashed and replacing a pending
+ * argument is a single atomic swap.
+ *
+ * <p>If an argument is accepted while an older one with the same key is still
+ * waiting for the target, the older one is discarded. The target is called one
+ * argument at a time, and keys are passed to the target in the order their first
+ * pending argument was accepted.
+ *
+ * @param <T1> the type of the input to the operation
+ *
+ * @see ConflatingConsumer1
+ * @since 1.0.0
+ */
+public final class IntKeyedConflatingConsumer1<T1> extends AbstractSerializedConsumer implements Consumer1<T1> {
+
+    private final Consumer1<? super T1> target;
+    private final ToIntFunction1<? super T1> key;
+    private final AtomicReferenceArray<T1> pending;
+
+    private IntKeyedConflatingConsumer1(final Consumer1<? super T1> target, final ToIntFunction1<? super T1> key, final int keys, final Executor executor) {
+        super(executor, DEFAULT_BATCH_SIZE);
+        if (keys <= 0)
+            throw new IllegalArgumentException("The number of keys must be positive: " + keys);
+        this.target = Objects.requireNonNull(target, "The target cannot be null.");
+        this.key = Objects.requireNonNull(key, "The key function cannot be null.");
+        this.pending = new AtomicReferenceArray<>(keys);
+    }
+
+    /**
+     * Creates a conflating consumer over {@code keys} dense keys which runs the
+     * target on the given executor. If the executor rejects the drainer, it runs
+     * on the calling thread instead.
+     *
+     * @param target the operation to pass each input to
+     * @param key the function computing the key of an input, between zero inclusive and {@code keys} exclusive
+     * @param keys the number of keys
+     * @param executor the executor to run the target on
+     * @param <T1> the type of the input to the operation
+     * @return a new conflating consumer
+     * @throws IllegalArgumentException if {@code keys} is not positive
+     * @throws NullPointerException if {@code target}, {@code key}, or {@code executor} is null
+     */
+    public static <T1> IntKeyedConflatingConsumer1<T1> of(final Consumer1<? super T1> target, final ToIntFunction1<? super T1> key, final int keys, final Executor executor) {
+        return new IntKeyedConflatingConsumer1<>(target, key, keys, executor);
+    }
+
+    /**
+     * Returns the number of keys of this consumer.
+     *
+     * @return the number of keys
+     */
+    public int keys() {
+        return this.pending.length();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws NullPointerException if {@code t1} is null
+     * @throws IndexOutOfBoundsException if the key of {@code t1} is negative or not less than the number of keys
+     */
+    @Override
+    public void accept(final T1 t1) {
+        Objects.requireNonNull(t1, "The input cannot be null.");
+        final int k = this.key.applyAsInt(t1);
+        // Only the first pending argument of a key queues the key for the drainer
+        if (this.pending.getAndSet(k, t1) == null)
+            this.enqueue(new Node(k));
+    }
+
+    @Override
+    protected void process(final AbstractSerializedConsumer.Node node) {
+        final T1 t1 = this.pending.getAndSet(((Node) node).key, null);
+        if (t1 != null)
+            this.target.accept(t1);
+    }
+
+    private static final class Node extends AbstractSerializedConsumer.Node {
+
+        private final int key;
+
+        private Node(final int key) {
+            this.key = key;
+        }
+    }
+}
@@ -0,0 +1,258 @@
+/*
+ * Consumability (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.consumer.concurrent;
+
+import net.ashwork.functionality.consumer.Consumer1;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Represents an operation that accepts one argument and broadcasts it to a set of
+ * subscribers. The subscribers are held in a flat array which is replaced on every
+ * change, so calling the consumer never locks and never observes a partially
+ * updated set of subscribers.
+ *
+ * <p>Chaining another consumer via {@link #andThen(Consumer1)} flattens it into a
+ * new multicast consumer instead of nesting one lambda per subscriber.
+ *
+ * <p>By default, subscribers are called in order on the calling thread, and an
+ * exception thrown by a subscriber is relayed to the caller without calling the
+ * remaining subscribers. If an {@link Executor} is supplied, the subscribers are
+ * called in parallel and the consumer returns once all of them have finished.
+ *
+ * @param <T1> the type of the input to the operation
+ *
+ * @see Consumer1
+ * @since 1.0.0
+ */
+public final class MulticastConsumer1<T1> implements Consumer1<T1> {
+
+    private static final Consumer1<?>[] EMPTY = new Consumer1<?>[0];
+
+    private final AtomicReference<Consumer1<? super T1>[]> subscribers;
+    private final Executor executor;
+
+    private MulticastConsumer1(final Consumer1<? super T1>[] subscribers, final Executor executor) {
+        this.subscribers = new AtomicReference<>(subscribers);
+        this.executor = executor;
+    }
+
+    /**
+     * Creates a multicast consumer which calls its subscribers in order on the calling thread.
+     *
+     * @param subscribers the initial subscribers of the consumer
+     * @param <T1> the type of the input to the operation
+     * @return a new multicast consumer
+     * @throws NullPointerException if any subscriber is null
+     */
+    @SafeVarargs
+    public static <T1> MulticastConsumer1<T1> of(final Consumer1<? super T1>... subscribers) {
+        // Subscribers are copied one at a time so the varargs array never escapes
+        final Consumer1<? super T1>[] copy = newArray(subscribers.length);
+        for (int i = 0; i < copy.length; i++)
+            copy[i] = Objects.requireNonNull(subscribers[i], "A subscriber cannot be null.");
+        return new MulticastConsumer1<>(copy, null);
+    }
+
+    /**
+     * Creates a multicast consumer which calls its subscribers in parallel on the
+     * given executor. If the executor rejects a subscriber, it is called on the
+     * calling thread instead.
+     *
+     * @param executor the executor to call the subscribers on
+     * @param subscribers the initial subscribers of the consumer
+     * @param <T1> the type of the input to the operation
+     * @return a new multicast consumer
+     * @throws NullPointerException if the executor or any subscriber is null
+     */
+    @SafeVarargs
+    public static <T1> MulticastConsumer1<T1> parallel(final Executor executor, final Consumer1<? super T1>... subscribers) {
+        Objects.requireNonNull(executor, "The executor cannot be null.");
+        final Consumer1<? super T1>[] copy = newArray(subscribers.length);
+        for (int i = 0; i < copy.length; i++)
+            copy[i] = Objects.requireNonNull(subscribers[i], "A subscriber cannot be null.");
+        return new MulticastConsumer1<>(copy, executor);
+    }
+
+    /**
+     * Adds a subscriber to the end of this consumer. The subscriber will receive
+     * every input accepted after this method returns.
+     *
+     * @param subscriber the subscriber to add
+     * @throws NullPointerException if {@code subscriber} is null
+     */
+    public void subscribe(final Consumer1<? super T1> subscriber) {
+        Objects.requireNonNull(subscriber, "The subscriber cannot be null.");
+        Consumer1<? super T1>[] current, updated;
+        do {
+            current = this.subscribers.get();
+            updated = Arrays.copyOf(current, current.length + 1);
+            updated[current.length] = subscriber;
+        } while (!this.subscribers.compareAndSet(current, updated));
+    }
+
+    /**
+     * Removes the first occurrence of a subscriber from this consumer, compared by identity.
+     * The subscriber will not receive any input accepted after this method returns.
+     *
+     * @param subscriber the subscriber to remove
+     * @return {@code true} if the subscriber was removed, otherwise {@code false}
+     */
+    public boolean unsubscribe(final Consumer1<? super T1> subscriber) {
+        Consumer1<? super T1>[] current, updated;
+        do {
+            current = this.subscribers.get();
+            int index = -1;
+            for (int i = 0; i < current.length; i++)
+                if (current[i] == subscriber) {
+                    index = i;
+                    break;
+                }
+            if (index < 0)
+                return false;
+            updated = Arrays.copyOf(current, current.length - 1);
+            System.arraycopy(current, index + 1, updated, index, current.length - index - 1);
+        } while (!this.subscribers.compareAndSet(current, updated));
+        return true;
+    }
+
+    /**
+     * Returns the number of subscribers of this consumer.
+     *
+     * @return the number of subscribers
+     */
+    public int size() {
+        return this.subscribers.get().length;
+    }
+
+    /**
+     * Returns whether this consumer calls its subscribers in parallel.
+     *
+     * @return {@code true} if the subscribers are called in parallel, otherwise {@code false}
+     */
+    public boolean isParallel() {
+        return this.executor != null;
+    }
+
+    @Override
+    public void accept(final T1 t1) {
+        final Consumer1<? super T1>[] current = this.subscribers.get();
+        if (this.executor == null || current.length < 2) {
+            for (final Consumer1<? super T1> subscriber : current)
+                subscriber.accept(t1);
+        } else
+            this.acceptParallel(current, t1);
+    }
+
+    private void acceptParallel(final Consumer1<? super T1>[] current, final T1 t1) {
+        final CountDownLatch latch = new CountDownLatch(current.length - 1);
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        for (int i = 1; i < current.length; i++) {
+            final Consumer1<? super T1> subscriber = current[i];
+            final Runnable task = () -> {
+                try {
+                    subscriber.accept(t1);
+                } catch (final Throwable t) {
+                    record(failure, t);
+                } finally {
+                    latch.countDown();
+                }
+            };
+            try {
+                this.executor.execute(task);
+            } catch (final RejectedExecutionException e) {
+                task.run();
+            }
+        }
+
+        // The first subscriber runs on the calling thread while the others are executing
+        try {
+            current[0].accept(t1);
+        } catch (final Throwable t) {
+            record(failure, t);
+        }
+
+        boolean interrupted = false;
+        while (true) {
+            try {
+                latch.await();
+                break;
+            } catch (final InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted)
+            Thread.currentThread().interrupt();
+
+        final Throwable t = failure.get();
+        if (t instanceof RuntimeException)
+            throw (RuntimeException) t;
+        if (t instanceof Error)
+            throw (Error) t;
+        if (t != null)
+            throw new IllegalStateException("A subscriber failed to accept the input.", t);
+    }
+
+    private static void record(final AtomicReference<Throwable> failure, final Throwable t) {
+        if (!failure.compareAndSet(null, t)) {
+            final Throwable first = failure.get();
+            if (first != t)
+                first.addSuppressed(t);
+        }
+    }
+
+    /**
+     * Returns a new multicast consumer which calls the current subscribers of this
+     * consumer followed by {@code after}. If {@code after} is also a multicast consumer,
+     * its current subscribers are added instead of itself. Later changes to the
+     * subscribers of either consumer do not affect the returned consumer.
+     *
+     * <p>The returned consumer uses the executor of this consumer. If this consumer
+     * is sequential and {@code after} is a parallel multicast consumer, the executor
+     * of {@code after} is used instead, so every subscriber of the returned consumer
+     * is called in parallel.
+     *
+     * @param after the operation to perform after this operation
+     * @return a flattened multicast consumer
+     * @throws NullPointerException if {@code after} is null
+     */
+    @Override
+    public MulticastConsumer1<T1> andThen(final Consumer1<T1> after) {
+        return (MulticastConsumer1<T1>) Consumer1.super.andThen(after);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public MulticastConsumer1<T1> andThenUnchecked(final Consumer1<T1> after) {
+        final Consumer1<? super T1>[] current = this.subscribers.get();
+        final Consumer1<? super T1>[] appended;
+        Executor executor = this.executor;
+        if (after instanceof MulticastConsumer1) {
+            final MulticastConsumer1<T1> multicast = (MulticastConsumer1<T1>) after;
+            appended = multicast.subscribers.get();
+            if (executor == null)
+                executor = multicast.executor;
+        } else
+            appended = (Consumer1<? super T1>[]) new Consumer1<?>[]{after};
+        final Consumer1<? super T1>[] flattened = Arrays.copyOf(current, current.length + appended.length);
+        System.arraycopy(appended, 0, flattened, current.length, appended.length);
+        return new MulticastConsumer1<>(flattened, executor);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T1> Consumer1<? super T1>[] newArray(final int length) {
+        return (Consumer1<? super T1>[]) (length == 0 ? EMPTY : new Consumer1<?>[length]);
+    }
+}
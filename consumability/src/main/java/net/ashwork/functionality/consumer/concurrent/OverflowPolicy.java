@@ -0,0 +1,27 @@
+/*
+ * Consumability (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.consumer.concurrent;
+
+/**
+ * Represents what an asynchronous consumer does with an input when its buffer is full.
+ *
+ * @see AsyncConsumer1
+ * @since 1.0.0
+ */
+public enum OverflowPolicy {
+    /**
+     * Waits, using the wait strategy of the consumer, until space frees up in the buffer.
+     */
+    BLOCK,
+    /**
+     * Discards the input immediately and counts it as dropped.
+     */
+    DROP
+}
@@ -0,0 +1,92 @@
+/*
+ * Consumability (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.consumer.concurrent;
+
+import net.ashwork.functionality.consumer.Consumer1;
+import net.ashwork.functionality.primitive.ints.ToIntFunction1;
+
+import java.util.Objects;
+import java.util.concurrent.Executor;
+
+/**
+ * Represents an operation that accepts one argument and passes it to the target
+ * operation on one of a fixed number of lanes, chosen by the hash of a key taken
+ * from the argument. Each lane is a {@link SerializedConsumer1} running on a shared
+ * {@link Executor}, so arguments with the same key are passed to the target one at
+ * a time and in the order they were accepted, while arguments with different keys
+ * may be passed to the target in parallel.
+ *
+ * <p>The target must be safe to call concurrently for arguments on different lanes.
+ * State which is only touched for a single key needs no locking.
+ *
+ * @param <T1> the type of the input to the operation
+ *
+ * @see SerializedConsumer1
+ * @since 1.0.0
+ */
+public final class PartitionedConsumer1<T1> implements Consumer1<T1> {
+
+    private final ToIntFunction1<? super T1> key;
+    private final SerializedConsumer1<T1>[] lanes;
+
+    @SuppressWarnings("unchecked")
+    private PartitionedConsumer1(final Consumer1<? super T1> target, final ToIntFunction1<? super T1> key, final int partitions, final Executor executor) {
+        if (partitions <= 0)
+            throw new IllegalArgumentException("The number of partitions must be positive: " + partitions);
+        Objects.requireNonNull(target, "The target cannot be null.");
+        Objects.requireNonNull(executor, "The executor cannot be null.");
+        this.key = Objects.requireNonNull(key, "The key function cannot be null.");
+        this.lanes = (SerializedConsumer1<T1>[]) new SerializedConsumer1<?>[partitions];
+        for (int i = 0; i < partitions; i++)
+            this.lanes[i] = SerializedConsumer1.of(target, executor);
+    }
+
+    /**
+     * Creates a partitioned consumer which runs its lanes on the given executor.
+     *
+     * @param target the operation to pass each input to
+     * @param key the function computing the key of an input
+     * @param partitions the number of lanes
+     * @param executor the executor to run the lanes on
+     * @param <T1> the type of the input to the operation
+     * @return a new partitioned consumer
+     * @throws IllegalArgumentException if {@code partitions} is not positive
+     * @throws NullPointerException if {@code target}, {@code key}, or {@code executor} is null
+     */
+    public static <T1> PartitionedConsumer1<T1> of(final Consumer1<? super T1> target, final ToIntFunction1<? super T1> key, final int partitions, final Executor executor) {
+        return new PartitionedConsumer1<>(target, key, partitions, executor);
+    }
+
+    /**
+     * Returns the number of lanes of this consumer.
+     *
+     * @return the number of lanes
+     */
+    public int partitions() {
+        return this.lanes.length;
+    }
+
+    /**
+     * Returns the index of the lane an input is passed to.
+     *
+     * @param t1 the input argument
+     * @return the index of the lane of the input
+     */
+    public int partitionOf(final T1 t1) {
+        final int hash = this.key.applyAsInt(t1);
+        // Mix the high bits into the low bits so keys differing only in their high bits are spread
+        return Math.floorMod(hash ^ (hash >>> 16), this.lanes.length);
+    }
+
+    @Override
+    public void accept(final T1 t1) {
+        this.lanes[this.partitionOf(t1)].accept(t1);
+    }
+}
@@ -0,0 +1,28 @@
+/*
+ * Consumability (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.consumer.concurrent;
+
+/**
+ * Represents how many threads may pass inputs to an asynchronous consumer.
+ *
+ * @see AsyncConsumer1
+ * @since 1.0.0
+ */
+public enum ProducerType {
+    /**
+     * Only one thread at a time passes inputs to the consumer. Claiming a slot
+     * in the buffer needs no atomic read-modify-write operation.
+     */
+    SINGLE,
+    /**
+     * Any number of threads may pass inputs to the consumer concurrently.
+     */
+    MULTI
+}
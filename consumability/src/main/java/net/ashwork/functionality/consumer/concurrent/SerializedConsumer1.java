@@ -0,0 +1,97 @@
+/*
+ * Consumability (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.consumer.concurrent;
+
+import net.ashwork.functionality.consumer.Consumer1;
+
+import java.util.Objects;
+import java.util.concurrent.Executor;
+
+/**
+ * Represents an operation that accepts one argument and passes it to the target
+ * operation on an {@link Executor}, one input at a time. Inputs are appended to a
+ * lock-free queue and passed to the target in batches by a single drainer, so the
+ * target never runs concurrently with itself and may mutate state without locking.
+ *
+ * <p>Accepting an input returns without waiting for the target. Inputs from a single
+ * thread are passed to the target in the order they were accepted. An exception
+ * thrown by the target is passed to the uncaught exception handler of the thread
+ * running the drainer, which then continues with the next input.
+ *
+ * @param <T1> the type of the input to the operation
+ *
+ * @see Consumer1
+ * @since 1.0.0
+ */
+public final class SerializedConsumer1<T1> extends AbstractSerializedConsumer implements Consumer1<T1> {
+
+    private final Consumer1<? super T1> target;
+
+    private SerializedConsumer1(final Consumer1<? super T1> target, final Executor executor, final int batchSize) {
+        super(executor, batchSize);
+        this.target = Objects.requireNonNull(target, "The target cannot be null.");
+    }
+
+    /**
+     * Creates a serialized consumer which runs the target on the given executor.
+     * If the executor rejects the drainer, it runs on the calling thread instead.
+     *
+     * @param target the operation to pass each input to
+     * @param executor the executor to run the target on
+     * @param <T1> the type of the input to the operation
+     * @return a new serialized consumer
+     * @throws NullPointerException if {@code target} or {@code executor} is null
+     */
+    public static <T1> SerializedConsumer1<T1> of(final Consumer1<? super T1> target, final Executor executor) {
+        return of(target, executor, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Creates a serialized consumer which runs the target on the given executor,
+     * passing at most {@code batchSize} inputs to the target before yielding the
+     * executor to other tasks. If the executor rejects the drainer, it runs on the
+     * calling thread instead.
+     *
+     * @param target the operation to pass each input to
+     * @param executor the executor to run the target on
+     * @param batchSize the maximum number of inputs passed to the target per task
+     * @param <T1> the type of the input to the operation
+     * @return a new serialized consumer
+     * @throws IllegalArgumentException if {@code batchSize} is not positive
+     * @throws NullPointerException if {@code target} or {@code executor} is null
+     */
+    public static <T1> SerializedConsumer1<T1> of(final Consumer1<? super T1> target, final Executor executor, final int batchSize) {
+        return new SerializedConsumer1<>(target, executor, batchSize);
+    }
+
+    @Override
+    public void accept(final T1 t1) {
+        this.enqueue(new Node<>(t1));
+    }
+
+    @Override
+    protected void process(final AbstractSerializedConsumer.Node node) {
+        @SuppressWarnings("unchecked")
+        final Node<T1> input = (Node<T1>) node;
+        final T1 t1 = input.t1;
+        // Release the input as the node stays in the queue until the next one is processed
+        input.t1 = null;
+        this.target.accept(t1);
+    }
+
+    private static final class Node<T1> extends AbstractSerializedConsumer.Node {
+
+        private T1 t1;
+
+        private Node(final T1 t1) {
+            this.t1 = t1;
+        }
+    }
+}
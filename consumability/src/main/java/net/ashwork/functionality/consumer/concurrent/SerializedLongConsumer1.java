@@ -0,0 +1,88 @@
+/*
+ * Consumability (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.consumer.concurrent;
+
+import net.ashwork.functionality.consumer.primitive.longs.LongConsumer1;
+
+import java.util.Objects;
+import java.util.concurrent.Executor;
+
+/**
+ * Represents an operation that accepts a {@code long}-valued argument and passes it to the target
+ * operation on an {@link Executor}, one input at a time. Inputs are appended to a
+ * lock-free queue and passed to the target in batches by a single drainer, so the
+ * target never runs concurrently with itself and may mutate state without locking.
+ *
+ * <p>Accepting an input returns without waiting for the target. Inputs from a single
+ * thread are passed to the target in the order they were accepted. An exception
+ * thrown by the target is passed to the uncaught exception handler of the thread
+ * running the drainer, which then continues with the next input.
+ *
+ * @see LongConsumer1
+ * @since 1.0.0
+ */
+public final class SerializedLongConsumer1 extends AbstractSerializedConsumer implements LongConsumer1 {
+
+    private final LongConsumer1 target;
+
+    private SerializedLongConsumer1(final LongConsumer1 target, final Executor executor, final int batchSize) {
+        super(executor, batchSize);
+        this.target = Objects.requireNonNull(target, "The target cannot be null.");
+    }
+
+    /**
+     * Creates a serialized consumer which runs the target on the given executor.
+     * If the executor rejects the drainer, it runs on the calling thread instead.
+     *
+     * @param target the operation to pass each input to
+     * @param executor the executor to run the target on
+     * @return a new serialized consumer
+     * @throws NullPointerException if {@code target} or {@code executor} is null
+     */
+    public static SerializedLongConsumer1 of(final LongConsumer1 target, final Executor executor) {
+        return of(target, executor, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Creates a serialized consumer which runs the target on the given executor,
+     * passing at most {@code batchSize} inputs to the target before yielding the
+     * executor to other tasks. If the executor rejects the drainer, it runs on the
+     * calling thread instead.
+     *
+     * @param target the operation to pass each input to
+     * @param executor the executor to run the target on
+     * @param batchSize the maximum number of inputs passed to the target per task
+     * @return a new serialized consumer
+     * @throws IllegalArgumentException if {@code batchSize} is not positive
+     * @throws NullPointerException if {@code target} or {@code executor} is null
+     */
+    public static SerializedLongConsumer1 of(final LongConsumer1 target, final Executor executor, final int batchSize) {
+        return new SerializedLongConsumer1(target, executor, batchSize);
+    }
+
+    @Override
+    public void accept(final long value) {
+        this.enqueue(new Node(value));
+    }
+
+    @Override
+    protected void process(final AbstractSerializedConsumer.Node node) {
+        this.target.accept(((Node) node).value);
+    }
+
+    private static final class Node extends AbstractSerializedConsumer.Node {
+
+        private final long value;
+
+        private Node(final long value) {
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Consumability (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.consumer.concurrent;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Represents how a thread waits for an asynchronous consumer to make progress,
+ * either for an input to become available or for space to free up in its buffer.
+ * Each strategy trades CPU usage for the latency of waking up.
+ *
+ * @see AsyncConsumer1
+ * @since 1.0.0
+ */
+public enum WaitStrategy {
+    /**
+     * Spins in a tight loop. Has the lowest latency, but occupies a core while waiting.
+     */
+    BUSY_SPIN {
+        @Override
+        void idle() {}
+    },
+    /**
+     * Yields the thread to the scheduler on each attempt. Has low latency while
+     * leaving the core to other runnable threads.
+     */
+    YIELD {
+        @Override
+        void idle() {
+            Thread.yield();
+        }
+    },
+    /**
+     * Parks the thread for a short period on each attempt. Uses the least CPU,
+     * but may add tens of microseconds of latency.
+     */
+    PARK {
+        @Override
+        void idle() {
+            LockSupport.parkNanos(PARK_NANOS);
+        }
+    };
+
+    private static final long PARK_NANOS = 50_000L;
+
+    /**
+     * Waits once before the condition being waited on is checked again.
+     */
+    abstract void idle();
+}
@@ -0,0 +1,16 @@
+/*
+ * Consumability (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+/**
+ * This package holds {@code Consumers} which can be safely shared and called between threads,
+ * such as those which broadcast their input to a changing set of subscribers,
+ * accumulate their inputs into batches, hand their inputs to another thread, or run
+ * a target which is not thread safe one input at a time.
+ */
+package net.ashwork.functionality.consumer.concurrent;
\ No newline at end of file
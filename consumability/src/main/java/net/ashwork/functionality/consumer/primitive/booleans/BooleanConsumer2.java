@@ -0,0 +1,53 @@
+/*
+ * Consumability (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.consumer.primitive.booleans;
+
+import net.ashwork.functionality.consumer.Consumer2;
+import net.ashwork.functionality.consumer.ConsumerN;
+import net.ashwork.functionality.consumer.abstracts.primitive.booleans.AbstractBooleanConsumer2;
+import net.ashwork.functionality.primitive.booleans.BooleanFunction2;
+
+/**
+ * Represents an operation that accepts two {@code boolean}-valued arguments and returns no result.
+ * This is the two-arity specialization of {@link ConsumerN}.
+ * This is the non-producing specialization of {@link BooleanFunction2}.
+ * This is the {@code boolean}-consuming primitive specialization of {@link Consumer2}.
+ *
+ * <p>This is a functional interface whose functional method is {@link #accept(boolean, boolean)}.
+ *
+ * @see ConsumerN
+ * @see BooleanFunction2
+ * @see Consumer2
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface BooleanConsumer2 extends AbstractBooleanConsumer2<BooleanConsumer2> {
+
+    /**
+     * @see Consumer2
+     */
+    @Override
+    default Consumer2<Boolean, Boolean> boxInput() {
+        return this::accept;
+    }
+
+    @Override
+    default BooleanConsumer2 andThen(final BooleanConsumer2 after) {
+        return (BooleanConsumer2) AbstractBooleanConsumer2.super.andThen(after);
+    }
+
+    @Override
+    default BooleanConsumer2 andThenUnchecked(final BooleanConsumer2 after) {
+        return (final boolean value1, final boolean value2) -> {
+            this.accept(value1, value2);
+            after.accept(value1, value2);
+        };
+    }
+}
@@ -13,6 +13,23 @@ import net.ashwork.functionality.Function1;
 import net.ashwork.functionality.consumer.Consumer1;
 import net.ashwork.functionality.consumer.ConsumerN;
 import net.ashwork.functionality.consumer.abstracts.primitive.bytes.AbstractByteConsumer1;
+import net.ashwork.functionality.consumer.primitive.booleans.BooleanConsumer1;
+import net.ashwork.functionality.consumer.primitive.chars.CharConsumer1;
+import net.ashwork.functionality.consumer.primitive.doubles.DoubleConsumer1;
+import net.ashwork.functionality.consumer.primitive.floats.FloatConsumer1;
+import net.ashwork.functionality.consumer.primitive.ints.IntConsumer1;
+import net.ashwork.functionality.consumer.primitive.longs.LongConsumer1;
+import net.ashwork.functionality.consumer.primitive.shorts.ShortConsumer1;
+import net.ashwork.functionality.primitive.bytes.ToByteFunction1;
+import net.ashwork.functionality.primitive.combined.BooleanToByteFunction1;
+import net.ashwork.functionality.primitive.combined.CharToByteFunction1;
+import net.ashwork.functionality.primitive.combined.DoubleToByteFunction1;
+import net.ashwork.functionality.primitive.combined.FloatToByteFunction1;
+import net.ashwork.functionality.primitive.combined.IntToByteFunction1;
+import net.ashwork.functionality.primitive.combined.LongToByteFunction1;
+import net.ashwork.functionality.primitive.combined.ShortToByteFunction1;
+
+import java.util.Objects;
 
 /**
  * Represents an operation that accepts a {@code byte}-valued argument and returns no result.
@@ -38,6 +55,152 @@ public interface ByteConsumer1 extends AbstractByteConsumer1<ByteConsumer1> {
         return this::accept;
     }
 
+    /**
+     * Returns a composed consumer that applies the {@code before} function to its
+     * input, and then performs this operation on the {@code byte}-valued result
+     * without boxing it. If evaluation of either throws an exception, it is relayed
+     * to the caller of the composed consumer.
+     *
+     * @param before the function to apply before this operation is performed
+     * @param <V> the type of the input to the {@code before} function, and to
+     *            the composed consumer
+     * @return a composed consumer that first applies the {@code before} function
+     *         and then performs this operation
+     * @throws NullPointerException if {@code before} is null
+     *
+     * @see Consumer1
+     */
+    default <V> Consumer1<V> composeObj(final ToByteFunction1<? super V> before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final V v) -> this.accept(before.applyAsByte(v));
+    }
+
+    /**
+     * Returns a composed consumer that applies the {@code before} function to its
+     * {@code boolean}-valued input, and then performs this operation on the {@code byte}-valued
+     * result without boxing either. If evaluation of either throws an exception, it is
+     * relayed to the caller of the composed consumer.
+     *
+     * @param before the function to apply before this operation is performed
+     * @return a composed consumer that first applies the {@code before} function
+     *         and then performs this operation
+     * @throws NullPointerException if {@code before} is null
+     *
+     * @see BooleanConsumer1
+     */
+    default BooleanConsumer1 composeBoolean(final BooleanToByteFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final boolean value) -> this.accept(before.applyAsByte(value));
+    }
+
+    /**
+     * Returns a composed consumer that applies the {@code before} function to its
+     * {@code char}-valued input, and then performs this operation on the {@code byte}-valued
+     * result without boxing either. If evaluation of either throws an exception, it is
+     * relayed to the caller of the composed consumer.
+     *
+     * @param before the function to apply before this operation is performed
+     * @return a composed consumer that first applies the {@code before} function
+     *         and then performs this operation
+     * @throws NullPointerException if {@code before} is null
+     *
+     * @see CharConsumer1
+     */
+    default CharConsumer1 composeChar(final CharToByteFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final char value) -> this.accept(before.applyAsByte(value));
+    }
+
+    /**
+     * Returns a composed consumer that applies the {@code before} function to its
+     * {@code short}-valued input, and then performs this operation on the {@code byte}-valued
+     * result without boxing either. If evaluation of either throws an exception, it is
+     * relayed to the caller of the composed consumer.
+     *
+     * @param before the function to apply before this operation is performed
+     * @return a composed consumer that first applies the {@code before} function
+     *         and then performs this operation
+     * @throws NullPointerException if {@code before} is null
+     *
+     * @see ShortConsumer1
+     */
+    default ShortConsumer1 composeShort(final ShortToByteFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final short value) -> this.accept(before.applyAsByte(value));
+    }
+
+    /**
+     * Returns a composed consumer that applies the {@code before} function to its
+     * {@code int}-valued input, and then performs this operation on the {@code byte}-valued
+     * result without boxing either. If evaluation of either throws an exception, it is
+     * relayed to the caller of the composed consumer.
+     *
+     * @param before the function to apply before this operation is performed
+     * @return a composed consumer that first applies the {@code before} function
+     *         and then performs this operation
+     * @throws NullPointerException if {@code before} is null
+     *
+     * @see IntConsumer1
+     */
+    default IntConsumer1 composeInt(final IntToByteFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final int value) -> this.accept(before.applyAsByte(value));
+    }
+
+    /**
+     * Returns a composed consumer that applies the {@code before} function to its
+     * {@code long}-valued input, and then performs this operation on the {@code byte}-valued
+     * result without boxing either. If evaluation of either throws an exception, it is
+     * relayed to the caller of the composed consumer.
+     *
+     * @param before the function to apply before this operation is performed
+     * @return a composed consumer that first applies the {@code before} function
+     *         and then performs this operation
+     * @throws NullPointerException if {@code before} is null
+     *
+     * @see LongConsumer1
+     */
+    default LongConsumer1 composeLong(final LongToByteFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final long value) -> this.accept(before.applyAsByte(value));
+    }
+
+    /**
+     * Returns a composed consumer that applies the {@code before} function to its
+     * {@code float}-valued input, and then performs this operation on the {@code byte}-valued
+     * result without boxing either. If evaluation of either throws an exception, it is
+     * relayed to the caller of the composed consumer.
+     *
+     * @param before the function to apply before this operation is performed
+     * @return a composed consumer that first applies the {@code before} function
+     *         and then performs this operation
+     * @throws NullPointerException if {@code before} is null
+     *
+     * @see FloatConsumer1
+     */
+    default FloatConsumer1 composeFloat(final FloatToByteFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final float value) -> this.accept(before.applyAsByte(value));
+    }
+
+    /**
+     * Returns a composed consumer that applies the {@code before} function to its
+     * {@code double}-valued input, and then performs this operation on the {@code byte}-valued
+     * result without boxing either. If evaluation of either throws an exception, it is
+     * relayed to the caller of the composed consumer.
+     *
+     * @param before the function to apply before this operation is performed
+     * @return a composed consumer that first applies the {@code before} function
+     *         and then performs this operation
+     * @throws NullPointerException if {@code before} is null
+     *
+     * @see DoubleConsumer1
+     */
+    default DoubleConsumer1 composeDouble(final DoubleToByteFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final double value) -> this.accept(before.applyAsByte(value));
+    }
+
     @Override
     default ByteConsumer1 andThen(final ByteConsumer1 after) {
         return (ByteConsumer1) AbstractByteConsumer1.super.andThen(after);
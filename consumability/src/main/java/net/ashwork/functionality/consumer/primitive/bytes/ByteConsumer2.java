@@ -0,0 +1,53 @@
+/*
+ * Consumability (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.consumer.primitive.bytes;
+
+import net.ashwork.functionality.consumer.Consumer2;
+import net.ashwork.functionality.consumer.ConsumerN;
+import net.ashwork.functionality.consumer.abstracts.primitive.bytes.AbstractByteConsumer2;
+import net.ashwork.functionality.primitive.bytes.ByteFunction2;
+
+/**
+ * Represents an operation that accepts two {@code byte}-valued arguments and returns no result.
+ * This is the two-arity specialization of {@link ConsumerN}.
+ * This is the non-producing specialization of {@link ByteFunction2}.
+ * This is the {@code byte}-consuming primitive specialization of {@link Consumer2}.
+ *
+ * <p>This is a functional interface whose functional method is {@link #accept(byte, byte)}.
+ *
+ * @see ConsumerN
+ * @see ByteFunction2
+ * @see Consumer2
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface ByteConsumer2 extends AbstractByteConsumer2<ByteConsumer2> {
+
+    /**
+     * @see Consumer2
+     */
+    @Override
+    default Consumer2<Byte, Byte> boxInput() {
+        return this::accept;
+    }
+
+    @Override
+    default ByteConsumer2 andThen(final ByteConsumer2 after) {
+        return (ByteConsumer2) AbstractByteConsumer2.super.andThen(after);
+    }
+
+    @Override
+    default ByteConsumer2 andThenUnchecked(final ByteConsumer2 after) {
+        return (final byte value1, final byte value2) -> {
+            this.accept(value1, value2);
+            after.accept(value1, value2);
+        };
+    }
+}
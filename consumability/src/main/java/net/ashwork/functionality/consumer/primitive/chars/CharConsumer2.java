@@ -0,0 +1,53 @@
+/*
+ * Consumability (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.consumer.primitive.chars;
+
+import net.ashwork.functionality.consumer.Consumer2;
+import net.ashwork.functionality.consumer.ConsumerN;
+import net.ashwork.functionality.consumer.abstracts.primitive.chars.AbstractCharConsumer2;
+import net.ashwork.functionality.primitive.chars.CharFunction2;
+
+/**
+ * Represents an operation that accepts two {@code char}-valued arguments and returns no result.
+ * This is the two-arity specialization of {@link ConsumerN}.
+ * This is the non-producing specialization of {@link CharFunction2}.
+ * This is the {@code char}-consuming primitive specialization of {@link Consumer2}.
+ *
+ * <p>This is a functional interface whose functional method is {@link #accept(char, char)}.
+ *
+ * @see ConsumerN
+ * @see CharFunction2
+ * @see Consumer2
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface CharConsumer2 extends AbstractCharConsumer2<CharConsumer2> {
+
+    /**
+     * @see Consumer2
+     */
+    @Override
+    default Consumer2<Character, Character> boxInput() {
+        return this::accept;
+    }
+
+    @Override
+    default CharConsumer2 andThen(final CharConsumer2 after) {
+        return (CharConsumer2) AbstractCharConsumer2.super.andThen(after);
+    }
+
+    @Override
+    default CharConsumer2 andThenUnchecked(final CharConsumer2 after) {
+        return (final char value1, final char value2) -> {
+            this.accept(value1, value2);
+            after.accept(value1, value2);
+        };
+    }
+}
@@ -13,7 +13,23 @@ import net.ashwork.functionality.Function1;
 import net.ashwork.functionality.consumer.Consumer1;
 import net.ashwork.functionality.consumer.ConsumerN;
 import net.ashwork.functionality.consumer.abstracts.primitive.doubles.AbstractDoubleConsumer1;
+import net.ashwork.functionality.consumer.primitive.booleans.BooleanConsumer1;
+import net.ashwork.functionality.consumer.primitive.bytes.ByteConsumer1;
+import net.ashwork.functionality.consumer.primitive.chars.CharConsumer1;
+import net.ashwork.functionality.consumer.primitive.floats.FloatConsumer1;
+import net.ashwork.functionality.consumer.primitive.ints.IntConsumer1;
+import net.ashwork.functionality.consumer.primitive.longs.LongConsumer1;
+import net.ashwork.functionality.consumer.primitive.shorts.ShortConsumer1;
+import net.ashwork.functionality.primitive.combined.BooleanToDoubleFunction1;
+import net.ashwork.functionality.primitive.combined.ByteToDoubleFunction1;
+import net.ashwork.functionality.primitive.combined.CharToDoubleFunction1;
+import net.ashwork.functionality.primitive.combined.FloatToDoubleFunction1;
+import net.ashwork.functionality.primitive.combined.IntToDoubleFunction1;
+import net.ashwork.functionality.primitive.combined.LongToDoubleFunction1;
+import net.ashwork.functionality.primitive.combined.ShortToDoubleFunction1;
+import net.ashwork.functionality.primitive.doubles.ToDoubleFunction1;
 
+import java.util.Objects;
 import java.util.function.DoubleConsumer;
 
 /**
@@ -52,6 +68,152 @@ public interface DoubleConsumer1 extends AbstractDoubleConsumer1<DoubleConsumer1
         return this::accept;
     }
 
+    /**
+     * Returns a composed consumer that applies the {@code before} function to its
+     * input, and then performs this operation on the {@code double}-valued result
+     * without boxing it. If evaluation of either throws an exception, it is relayed
+     * to the caller of the composed consumer.
+     *
+     * @param before the function to apply before this operation is performed
+     * @param <V> the type of the input to the {@code before} function, and to
+     *            the composed consumer
+     * @return a composed consumer that first applies the {@code before} function
+     *         and then performs this operation
+     * @throws NullPointerException if {@code before} is null
+     *
+     * @see Consumer1
+     */
+    default <V> Consumer1<V> composeObj(final ToDoubleFunction1<? super V> before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final V v) -> this.accept(before.applyAsDouble(v));
+    }
+
+    /**
+     * Returns a composed consumer that applies the {@code before} function to its
+     * {@code boolean}-valued input, and then performs this operation on the {@code double}-valued
+     * result without boxing either. If evaluation of either throws an exception, it is
+     * relayed to the caller of the composed consumer.
+     *
+     * @param before the function to apply before this operation is performed
+     * @return a composed consumer that first applies the {@code before} function
+     *         and then performs this operation
+     * @throws NullPointerException if {@code before} is null
+     *
+     * @see BooleanConsumer1
+     */
+    default BooleanConsumer1 composeBoolean(final BooleanToDoubleFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final boolean value) -> this.accept(before.applyAsDouble(value));
+    }
+
+    /**
+     * Returns a composed consumer that applies the {@code before} function to its
+     * {@code byte}-valued input, and then performs this operation on the {@code double}-valued
+     * result without boxing either. If evaluation of either throws an exception, it is
+     * relayed to the caller of the composed consumer.
+     *
+     * @param before the function to apply before this operation is performed
+     * @return a composed consumer that first applies the {@code before} function
+     *         and then performs this operation
+     * @throws NullPointerException if {@code before} is null
+     *
+     * @see ByteConsumer1
+     */
+    default ByteConsumer1 composeByte(final ByteToDoubleFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final byte value) -> this.accept(before.applyAsDouble(value));
+    }
+
+    /**
+     * Returns a composed consumer that applies the {@code before} function to its
+     * {@code char}-valued input, and then performs this operation on the {@code double}-valued
+     * result without boxing either. If evaluation of either throws an exception, it is
+     * relayed to the caller of the composed consumer.
+     *
+     * @param before the function to apply before this operation is performed
+     * @return a composed consumer that first applies the {@code before} function
+     *         and then performs this operation
+     * @throws NullPointerException if {@code before} is null
+     *
+     * @see CharConsumer1
+     */
+    default CharConsumer1 composeChar(final CharToDoubleFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final char value) -> this.accept(before.applyAsDouble(value));
+    }
+
+    /**
+     * Returns a composed consumer that applies the {@code before} function to its
+     * {@code short}-valued input, and then performs this operation on the {@code double}-valued
+     * result without boxing either. If evaluation of either throws an exception, it is
+     * relayed to the caller of the composed consumer.
+     *
+     * @param before the function to apply before this operation is performed
+     * @return a composed consumer that first applies the {@code before} function
+     *         and then performs this operation
+     * @throws NullPointerException if {@code before} is null
+     *
+     * @see ShortConsumer1
+     */
+    default ShortConsumer1 composeShort(final ShortToDoubleFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final short value) -> this.accept(before.applyAsDouble(value));
+    }
+
+    /**
+     * Returns a composed consumer that applies the {@code before} function to its
+     * {@code int}-valued input, and then performs this operation on the {@code double}-valued
+     * result without boxing either. If evaluation of either throws an exception, it is
+     * relayed to the caller of the composed consumer.
+     *
+     * @param before the function to apply before this operation is performed
+     * @return a composed consumer that first applies the {@code before} function
+     *         and then performs this operation
+     * @throws NullPointerException if {@code before} is null
+     *
+     * @see IntConsumer1
+     */
+    default IntConsumer1 composeInt(final IntToDoubleFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final int value) -> this.accept(before.applyAsDouble(value));
+    }
+
+    /**
+     * Returns a composed consumer that applies the {@code before} function to its
+     * {@code long}-valued input, and then performs this operation on the {@code double}-valued
+     * result without boxing either. If evaluation of either throws an exception, it is
+     * relayed to the caller of the composed consumer.
+     *
+     * @param before the function to apply before this operation is performed
+     * @return a composed consumer that first applies the {@code before} function
+     *         and then performs this operation
+     * @throws NullPointerException if {@code before} is null
+     *
+     * @see LongConsumer1
+     */
+    default LongConsumer1 composeLong(final LongToDoubleFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final long value) -> this.accept(before.applyAsDouble(value));
+    }
+
+    /**
+     * Returns a composed consumer that applies the {@code before} function to its
+     * {@code float}-valued input, and then performs this operation on the {@code double}-valued
+     * result without boxing either. If evaluation of either throws an exception, it is
+     * relayed to the caller of the composed consumer.
+     *
+     * @param before the function to apply before this operation is performed
+     * @return a composed consumer that first applies the {@code before} function
+     *         and then performs this operation
+     * @throws NullPointerException if {@code before} is null
+     *
+     * @see FloatConsumer1
+     */
+    default FloatConsumer1 composeFloat(final FloatToDoubleFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final float value) -> this.accept(before.applyAsDouble(value));
+    }
+
     @Override
     default DoubleConsumer1 andThen(final DoubleConsumer1 after) {
         return (DoubleConsumer1) AbstractDoubleConsumer1.super.andThen(after);
@@ -0,0 +1,53 @@
+/*
+ * Consumability (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.consumer.primitive.doubles;
+
+import net.ashwork.functionality.consumer.Consumer2;
+import net.ashwork.functionality.consumer.ConsumerN;
+import net.ashwork.functionality.consumer.abstracts.primitive.doubles.AbstractDoubleConsumer2;
+import net.ashwork.functionality.primitive.doubles.DoubleFunction2;
+
+/**
+ * Represents an operation that accepts two {@code double}-valued arguments and returns no result.
+ * This is the two-arity specialization of {@link ConsumerN}.
+ * This is the non-producing specialization of {@link DoubleFunction2}.
+ * This is the {@code double}-consuming primitive specialization of {@link Consumer2}.
+ *
+ * <p>This is a functional interface whose functional method is {@link #accept(double, double)}.
+ *
+ * @see ConsumerN
+ * @see DoubleFunction2
+ * @see Consumer2
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface DoubleConsumer2 extends AbstractDoubleConsumer2<DoubleConsumer2> {
+
+    /**
+     * @see Consumer2
+     */
+    @Override
+    default Consumer2<Double, Double> boxInput() {
+        return this::accept;
+    }
+
+    @Override
+    default DoubleConsumer2 andThen(final DoubleConsumer2 after) {
+        return (DoubleConsumer2) AbstractDoubleConsumer2.super.andThen(after);
+    }
+
+    @Override
+    default DoubleConsumer2 andThenUnchecked(final DoubleConsumer2 after) {
+        return (final double value1, final double value2) -> {
+            this.accept(value1, value2);
+            after.accept(value1, value2);
+        };
+    }
+}
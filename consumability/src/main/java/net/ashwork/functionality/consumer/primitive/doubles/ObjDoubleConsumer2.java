@@ -0,0 +1,70 @@
+/*
+ * Consumability (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.consumer.primitive.doubles;
+
+import net.ashwork.functionality.consumer.Consumer2;
+import net.ashwork.functionality.consumer.ConsumerN;
+import net.ashwork.functionality.consumer.abstracts.primitive.doubles.AbstractObjDoubleConsumer2;
+import net.ashwork.functionality.primitive.doubles.ObjDoubleFunction2;
+
+import java.util.function.ObjDoubleConsumer;
+
+/**
+ * Represents an operation that accepts an object-valued argument and a {@code double}-valued argument and returns no result.
+ * This is the two-arity specialization of {@link ConsumerN}.
+ * This is the non-producing specialization of {@link ObjDoubleFunction2}.
+ * This is the {@code double}-consuming primitive specialization of {@link Consumer2}.
+ *
+ * <p>This is a functional interface whose functional method is {@link #accept(Object, double)}.
+ *
+ * @param <T1> the type of the first argument to the operation
+ *
+ * @see ConsumerN
+ * @see ObjDoubleFunction2
+ * @see Consumer2
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface ObjDoubleConsumer2<T1> extends AbstractObjDoubleConsumer2<T1, ObjDoubleConsumer2<T1>> {
+
+    /**
+     * Creates an instance of this object from its {@link ObjDoubleConsumer} variant.
+     *
+     * @param consumer the variant of this object
+     * @param <T1> the type of the first argument to the operation
+     * @return an instance of this object
+     *
+     * @see ObjDoubleConsumer
+     */
+    static <T1> ObjDoubleConsumer2<T1> fromVariant(final ObjDoubleConsumer<T1> consumer) {
+        return consumer::accept;
+    }
+
+    /**
+     * @see Consumer2
+     */
+    @Override
+    default Consumer2<T1, Double> boxInput() {
+        return this::accept;
+    }
+
+    @Override
+    default ObjDoubleConsumer2<T1> andThen(final ObjDoubleConsumer2<T1> after) {
+        return (ObjDoubleConsumer2<T1>) AbstractObjDoubleConsumer2.super.andThen(after);
+    }
+
+    @Override
+    default ObjDoubleConsumer2<T1> andThenUnchecked(final ObjDoubleConsumer2<T1> after) {
+        return (final T1 t1, final double value) -> {
+            this.accept(t1, value);
+            after.accept(t1, value);
+        };
+    }
+}
@@ -13,6 +13,23 @@ import net.ashwork.functionality.Function1;
 import net.ashwork.functionality.consumer.Consumer1;
 import net.ashwork.functionality.consumer.ConsumerN;
 import net.ashwork.functionality.consumer.abstracts.primitive.floats.AbstractFloatConsumer1;
+import net.ashwork.functionality.consumer.primitive.booleans.BooleanConsumer1;
+import net.ashwork.functionality.consumer.primitive.bytes.ByteConsumer1;
+import net.ashwork.functionality.consumer.primitive.chars.CharConsumer1;
+import net.ashwork.functionality.consumer.primitive.doubles.DoubleConsumer1;
+import net.ashwork.functionality.consumer.primitive.ints.IntConsumer1;
+import net.ashwork.functionality.consumer.primitive.longs.LongConsumer1;
+import net.ashwork.functionality.consumer.primitive.shorts.ShortConsumer1;
+import net.ashwork.functionality.primitive.combined.BooleanToFloatFunction1;
+import net.ashwork.functionality.primitive.combined.ByteToFloatFunction1;
+import net.ashwork.functionality.primitive.combined.CharToFloatFunction1;
+import net.ashwork.functionality.primitive.combined.DoubleToFloatFunction1;
+import net.ashwork.functionality.primitive.combined.IntToFloatFunction1;
+import net.ashwork.functionality.primitive.combined.LongToFloatFunction1;
+import net.ashwork.functionality.primitive.combined.ShortToFloatFunction1;
+import net.ashwork.functionality.primitive.floats.ToFloatFunction1;
+
+import java.util.Objects;
 
 /**
  * Represents an operation that accepts a {@code float}-valued argument and returns no result.
@@ -38,6 +55,152 @@ public interface FloatConsumer1 extends AbstractFloatConsumer1<FloatConsumer1> {
         return this::accept;
     }
 
+    /**
+     * Returns a composed consumer that applies the {@code before} function to its
+     * input, and then performs this operation on the {@code float}-valued result
+     * without boxing it. If evaluation of either throws an exception, it is relayed
+     * to the caller of the composed consumer.
+     *
+     * @param before the function to apply before this operation is performed
+     * @param <V> the type of the input to the {@code before} function, and to
+     *            the composed consumer
+     * @return a composed consumer that first applies the {@code before} function
+     *         and then performs this operation
+     * @throws NullPointerException if {@code before} is null
+     *
+     * @see Consumer1
+     */
+    default <V> Consumer1<V> composeObj(final ToFloatFunction1<? super V> before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final V v) -> this.accept(before.applyAsFloat(v));
+    }
+
+    /**
+     * Returns a composed consumer that applies the {@code before} function to its
+     * {@code boolean}-valued input, and then performs this operation on the {@code float}-valued
+     * result without boxing either. If evaluation of either throws an exception, it is
+     * relayed to the caller of the composed consumer.
+     *
+     * @param before the function to apply before this operation is performed
+     * @return a composed consumer that first applies the {@code before} function
+     *         and then performs this operation
+     * @throws NullPointerException if {@code before} is null
+     *
+     * @see BooleanConsumer1
+     */
+    default BooleanConsumer1 composeBoolean(final BooleanToFloatFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final boolean value) -> this.accept(before.applyAsFloat(value));
+    }
+
+    /**
+     * Returns a composed consumer that applies the {@code before} function to its
+     * {@code byte}-valued input, and then performs this operation on the {@code float}-valued
+     * result without boxing either. If evaluation of either throws an exception, it is
+     * relayed to the caller of the composed consumer.
+     *
+     * @param before the function to apply before this operation is performed
+     * @return a composed consumer that first applies the {@code before} function
+     *         and then performs this operation
+     * @throws NullPointerException if {@code before} is null
+     *
+     * @see ByteConsumer1
+     */
+    default ByteConsumer1 composeByte(final ByteToFloatFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final byte value) -> this.accept(before.applyAsFloat(value));
+    }
+
+    /**
+     * Returns a composed consumer that applies the {@code before} function to its
+     * {@code char}-valued input, and then performs this operation on the {@code float}-valued
+     * result without boxing either. If evaluation of either throws an exception, it is
+     * relayed to the caller of the composed consumer.
+     *
+     * @param before the function to apply before this operation is performed
+     * @return a composed consumer that first applies the {@code before} function
+     *         and then performs this operation
+     * @throws NullPointerException if {@code before} is null
+     *
+     * @see CharConsumer1
+     */
+    default CharConsumer1 composeChar(final CharToFloatFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final char value) -> this.accept(before.applyAsFloat(value));
+    }
+
+    /**
+     * Returns a composed consumer that applies the {@code before} function to its
+     * {@code short}-valued input, and then performs this operation on the {@code float}-valued
+     * result without boxing either. If evaluation of either throws an exception, it is
+     * relayed to the caller of the composed consumer.
+     *
+     * @param before the function to apply before this operation is performed
+     * @return a composed consumer that first applies the {@code before} function
+     *         and then performs this operation
+     * @throws NullPointerException if {@code before} is null
+     *
+     * @see ShortConsumer1
+     */
+    default ShortConsumer1 composeShort(final ShortToFloatFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final short value) -> this.accept(before.applyAsFloat(value));
+    }
+
+    /**
+     * Returns a composed consumer that applies the {@code before} function to its
+     * {@code int}-valued input, and then performs this operation on the {@code float}-valued
+     * result without boxing either. If evaluation of either throws an exception, it is
+     * relayed to the caller of the composed consumer.
+     *
+     * @param before the function to apply before this operation is performed
+     * @return a composed consumer that first applies the {@code before} function
+     *         and then performs this operation
+     * @throws NullPointerException if {@code before} is null
+     *
+     * @see IntConsumer1
+     */
+    default IntConsumer1 composeInt(final IntToFloatFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final int value) -> this.accept(before.applyAsFloat(value));
+    }
+
+    /**
+     * Returns a composed consumer that applies the {@code before} function to its
+     * {@code long}-valued input, and then performs this operation on the {@code float}-valued
+     * result without boxing either. If evaluation of either throws an exception, it is
+     * relayed to the caller of the composed consumer.
+     *
+     * @param before the function to apply before this operation is performed
+     * @return a composed consumer that first applies the {@code before} function
+     *         and then performs this operation
+     * @throws NullPointerException if {@code before} is null
+     *
+     * @see LongConsumer1
+     */
+    default LongConsumer1 composeLong(final LongToFloatFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final long value) -> this.accept(before.applyAsFloat(value));
+    }
+
+    /**
+     * Returns a composed consumer that applies the {@code before} function to its
+     * {@code double}-valued input, and then performs this operation on the {@code float}-valued
+     * result without boxing either. If evaluation of either throws an exception, it is
+     * relayed to the caller of the composed consumer.
+     *
+     * @param before the function to apply before this operation is performed
+     * @return a composed consumer that first applies the {@code before} function
+     *         and then performs this operation
+     * @throws NullPointerException if {@code before} is null
+     *
+     * @see DoubleConsumer1
+     */
+    default DoubleConsumer1 composeDouble(final DoubleToFloatFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final double value) -> this.accept(before.applyAsFloat(value));
+    }
+
     @Override
     default FloatConsumer1 andThen(final FloatConsumer1 after) {
         return (FloatConsumer1) AbstractFloatConsumer1.super.andThen(after);
@@ -0,0 +1,53 @@
+/*
+ * Consumability (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.consumer.primitive.floats;
+
+import net.ashwork.functionality.consumer.Consumer2;
+import net.ashwork.functionality.consumer.ConsumerN;
+import net.ashwork.functionality.consumer.abstracts.primitive.floats.AbstractFloatConsumer2;
+import net.ashwork.functionality.primitive.floats.FloatFunction2;
+
+/**
+ * Represents an operation that accepts two {@code float}-valued arguments and returns no result.
+ * This is the two-arity specialization of {@link ConsumerN}.
+ * This is the non-producing specialization of {@link FloatFunction2}.
+ * This is the {@code float}-consuming primitive specialization of {@link Consumer2}.
+ *
+ * <p>This is a functional interface whose functional method is {@link #accept(float, float)}.
+ *
+ * @see ConsumerN
+ * @see FloatFunction2
+ * @see Consumer2
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface FloatConsumer2 extends AbstractFloatConsumer2<FloatConsumer2> {
+
+    /**
+     * @see Consumer2
+     */
+    @Override
+    default Consumer2<Float, Float> boxInput() {
+        return this::accept;
+    }
+
+    @Override
+    default FloatConsumer2 andThen(final FloatConsumer2 after) {
+        return (FloatConsumer2) AbstractFloatConsumer2.super.andThen(after);
+    }
+
+    @Override
+    default FloatConsumer2 andThenUnchecked(final FloatConsumer2 after) {
+        return (final float value1, final float value2) -> {
+            this.accept(value1, value2);
+            after.accept(value1, value2);
+        };
+    }
+}
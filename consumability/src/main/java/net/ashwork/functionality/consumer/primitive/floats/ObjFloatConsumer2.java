@@ -0,0 +1,55 @@
+/*
+ * Consumability (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.consumer.primitive.floats;
+
+import net.ashwork.functionality.consumer.Consumer2;
+import net.ashwork.functionality.consumer.ConsumerN;
+import net.ashwork.functionality.consumer.abstracts.primitive.floats.AbstractObjFloatConsumer2;
+import net.ashwork.functionality.primitive.floats.ObjFloatFunction2;
+
+/**
+ * Represents an operation that accepts an object-valued argument and a {@code float}-valued argument and returns no result.
+ * This is the two-arity specialization of {@link ConsumerN}.
+ * This is the non-producing specialization of {@link ObjFloatFunction2}.
+ * This is the {@code float}-consuming primitive specialization of {@link Consumer2}.
+ *
+ * <p>This is a functional interface whose functional method is {@link #accept(Object, float)}.
+ *
+ * @param <T1> the type of the first argument to the operation
+ *
+ * @see ConsumerN
+ * @see ObjFloatFunction2
+ * @see Consumer2
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface ObjFloatConsumer2<T1> extends AbstractObjFloatConsumer2<T1, ObjFloatConsumer2<T1>> {
+
+    /**
+     * @see Consumer2
+     */
+    @Override
+    default Consumer2<T1, Float> boxInput() {
+        return this::accept;
+    }
+
+    @Override
+    default ObjFloatConsumer2<T1> andThen(final ObjFloatConsumer2<T1> after) {
+        return (ObjFloatConsumer2<T1>) AbstractObjFloatConsumer2.super.andThen(after);
+    }
+
+    @Override
+    default ObjFloatConsumer2<T1> andThenUnchecked(final ObjFloatConsumer2<T1> after) {
+        return (final T1 t1, final float value) -> {
+            this.accept(t1, value);
+            after.accept(t1, value);
+        };
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Consumability (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.consumer.primitive.ints;
+
+import net.ashwork.functionality.consumer.Consumer2;
+import net.ashwork.functionality.consumer.ConsumerN;
+import net.ashwork.functionality.consumer.abstracts.primitive.ints.AbstractIntConsumer2;
+import net.ashwork.functionality.primitive.ints.IntFunction2;
+
+/**
+ * Represents an operation that accepts two {@code int}-valued arguments and returns no result.
+ * This is the two-arity specialization of {@link ConsumerN}.
+ * This is the non-producing specialization of {@link IntFunction2}.
+ * This is the {@code int}-consuming primitive specialization of {@link Consumer2}.
+ *
+ * <p>This is a functional interface whose functional method is {@link #accept(int, int)}.
+ *
+ * @see ConsumerN
+ * @see IntFunction2
+ * @see Consumer2
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface IntConsumer2 extends AbstractIntConsumer2<IntConsumer2> {
+
+    /**
+     * @see Consumer2
+     */
+    @Override
+    default Consumer2<Integer, Integer> boxInput() {
+        return this::accept;
+    }
+
+    @Override
+    default IntConsumer2 andThen(final IntConsumer2 after) {
+        return (IntConsumer2) AbstractIntConsumer2.super.andThen(after);
+    }
+
+    @Override
+    default IntConsumer2 andThenUnchecked(final IntConsumer2 after) {
+        return (final int value1, final int value2) -> {
+            this.accept(value1, value2);
+            after.accept(value1, value2);
+        };
+    }
+}
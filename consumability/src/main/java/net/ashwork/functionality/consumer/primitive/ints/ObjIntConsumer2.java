@@ -0,0 +1,70 @@
+/*
+ * Consumability (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.consumer.primitive.ints;
+
+import net.ashwork.functionality.consumer.Consumer2;
+import net.ashwork.functionality.consumer.ConsumerN;
+import net.ashwork.functionality.consumer.abstracts.primitive.ints.AbstractObjIntConsumer2;
+import net.ashwork.functionality.primitive.ints.ObjIntFunction2;
+
+import java.util.function.ObjIntConsumer;
+
+/**
+ * Represents an operation that accepts an object-valued argument and an {@code int}-valued argument and returns no result.
+ * This is the two-arity specialization of {@link ConsumerN}.
+ * This is the non-producing specialization of {@link ObjIntFunction2}.
+ * This is the {@code int}-consuming primitive specialization of {@link Consumer2}.
+ *
+ * <p>This is a functional interface whose functional method is {@link #accept(Object, int)}.
+ *
+ * @param <T1> the type of the first argument to the operation
+ *
+ * @see ConsumerN
+ * @see ObjIntFunction2
+ * @see Consumer2
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface ObjIntConsumer2<T1> extends AbstractObjIntConsumer2<T1, ObjIntConsumer2<T1>> {
+
+    /**
+     * Creates an instance of this object from its {@link ObjIntConsumer} variant.
+     *
+     * @param consumer the variant of this object
+     * @param <T1> the type of the first argument to the operation
+     * @return an instance of this object
+     *
+     * @see ObjIntConsumer
+     */
+    static <T1> ObjIntConsumer2<T1> fromVariant(final ObjIntConsumer<T1> consumer) {
+        return consumer::accept;
+    }
+
+    /**
+     * @see Consumer2
+     */
+    @Override
+    default Consumer2<T1, Integer> boxInput() {
+        return this::accept;
+    }
+
+    @Override
+    default ObjIntConsumer2<T1> andThen(final ObjIntConsumer2<T1> after) {
+        return (ObjIntConsumer2<T1>) AbstractObjIntConsumer2.super.andThen(after);
+    }
+
+    @Override
+    default ObjIntConsumer2<T1> andThenUnchecked(final ObjIntConsumer2<T1> after) {
+        return (final T1 t1, final int value) -> {
+            this.accept(t1, value);
+            after.accept(t1, value);
+        };
+    }
+}
@@ -13,7 +13,31 @@ import net.ashwork.functionality.Function1;
 import net.ashwork.functionality.consumer.Consumer1;
 import net.ashwork.functionality.consumer.ConsumerN;
 import net.ashwork.functionality.consumer.abstracts.primitive.longs.AbstractLongConsumer1;
+import net.ashwork.functionality.consumer.concurrent.AsyncLongConsumer1;
+import net.ashwork.functionality.consumer.concurrent.BatchingLongConsumer1;
+import net.ashwork.functionality.consumer.concurrent.OverflowPolicy;
+import net.ashwork.functionality.consumer.concurrent.ProducerType;
+import net.ashwork.functionality.consumer.concurrent.SerializedLongConsumer1;
+import net.ashwork.functionality.consumer.concurrent.WaitStrategy;
+import net.ashwork.functionality.consumer.primitive.booleans.BooleanConsumer1;
+import net.ashwork.functionality.consumer.primitive.bytes.ByteConsumer1;
+import net.ashwork.functionality.consumer.primitive.chars.CharConsumer1;
+import net.ashwork.functionality.consumer.primitive.doubles.DoubleConsumer1;
+import net.ashwork.functionality.consumer.primitive.floats.FloatConsumer1;
+import net.ashwork.functionality.consumer.primitive.ints.IntConsumer1;
+import net.ashwork.functionality.consumer.primitive.shorts.ShortConsumer1;
+import net.ashwork.functionality.primitive.combined.BooleanToLongFunction1;
+import net.ashwork.functionality.primitive.combined.ByteToLongFunction1;
+import net.ashwork.functionality.primitive.combined.CharToLongFunction1;
+import net.ashwork.functionality.primitive.combined.DoubleToLongFunction1;
+import net.ashwork.functionality.primitive.combined.FloatToLongFunction1;
+import net.ashwork.functionality.primitive.combined.IntToLongFunction1;
+import net.ashwork.functionality.primitive.combined.ShortToLongFunction1;
+import net.ashwork.functionality.primitive.longs.ToLongFunction1;
 
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.Executor;
 import java.util.function.LongConsumer;
 
 /**
@@ -43,6 +67,78 @@ public interface LongConsumer1 extends AbstractLongConsumer1<LongConsumer1> {
     static LongConsumer1 fromVariant(final LongConsumer consumer) {
         return consumer::accept;
     }
+
+    /**
+     * Creates a consumer which accumulates its inputs into {@code long} arrays and
+     * passes them to the {@code sink} in batches without boxing. A batch is passed
+     * once it holds {@code maxSize} inputs, once its oldest input has waited for
+     * {@code maxDelay}, or when the returned consumer is flushed or closed.
+     *
+     * @param maxSize the maximum number of inputs in a single batch
+     * @param maxDelay the maximum time an input waits before it is flushed
+     * @param sink the operation to pass each batch to
+     * @return a new batching consumer
+     * @throws IllegalArgumentException if {@code maxSize} or {@code maxDelay} is not positive
+     * @throws NullPointerException if {@code maxDelay} or {@code sink} is null
+     *
+     * @see BatchingLongConsumer1
+     */
+    static BatchingLongConsumer1 batched(final int maxSize, final Duration maxDelay, final Consumer1<? super long[]> sink) {
+        return BatchingLongConsumer1.of(maxSize, maxDelay, sink);
+    }
+
+    /**
+     * Returns a consumer which hands its inputs to a dedicated daemon thread that
+     * performs this operation, so the caller does not wait on this operation unless
+     * the buffer between them is full. The returned consumer accepts inputs from any
+     * number of threads and waits for space when its buffer is full.
+     *
+     * @param capacity the minimum number of slots in the buffer, rounded up to a power of two
+     * @param waitStrategy how callers and the consumer thread wait on each other
+     * @return an asynchronous consumer performing this operation
+     * @throws IllegalArgumentException if {@code capacity} is not positive or is greater than {@code 2^30}
+     * @throws NullPointerException if {@code waitStrategy} is null
+     *
+     * @see AsyncLongConsumer1
+     */
+    default AsyncLongConsumer1 async(final int capacity, final WaitStrategy waitStrategy) {
+        return AsyncLongConsumer1.of(this, capacity, waitStrategy);
+    }
+
+    /**
+     * Returns a consumer which hands its inputs to a dedicated daemon thread that
+     * performs this operation, so the caller does not wait on this operation unless
+     * the buffer between them is full.
+     *
+     * @param capacity the minimum number of slots in the buffer, rounded up to a power of two
+     * @param waitStrategy how callers and the consumer thread wait on each other
+     * @param producerType how many threads may pass inputs concurrently
+     * @param overflowPolicy what to do with an input when the buffer is full
+     * @return an asynchronous consumer performing this operation
+     * @throws IllegalArgumentException if {@code capacity} is not positive or is greater than {@code 2^30}
+     * @throws NullPointerException if any argument other than {@code capacity} is null
+     *
+     * @see AsyncLongConsumer1
+     */
+    default AsyncLongConsumer1 async(final int capacity, final WaitStrategy waitStrategy, final ProducerType producerType, final OverflowPolicy overflowPolicy) {
+        return AsyncLongConsumer1.of(this, capacity, waitStrategy, producerType, overflowPolicy);
+    }
+
+    /**
+     * Returns a consumer which performs this operation on the given executor, one
+     * input at a time. Callers queue their inputs without locking or waiting, and a
+     * single drainer passes them to this operation in batches, so this operation
+     * never runs concurrently with itself.
+     *
+     * @param executor the executor to perform this operation on
+     * @return a serialized consumer performing this operation
+     * @throws NullPointerException if {@code executor} is null
+     *
+     * @see SerializedLongConsumer1
+     */
+    default SerializedLongConsumer1 serialized(final Executor executor) {
+        return SerializedLongConsumer1.of(this, executor);
+    }
     
     /**
      * @see Consumer1
@@ -52,6 +148,152 @@ public interface LongConsumer1 extends AbstractLongConsumer1<LongConsumer1> {
         return this::accept;
     }
 
+    /**
+     * Returns a composed consumer that applies the {@code before} function to its
+     * input, and then performs this operation on the {@code long}-valued result
+     * without boxing it. If evaluation of either throws an exception, it is relayed
+     * to the caller of the composed consumer.
+     *
+     * @param before the function to apply before this operation is performed
+     * @param <V> the type of the input to the {@code before} function, and to
+     *            the composed consumer
+     * @return a composed consumer that first applies the {@code before} function
+     *         and then performs this operation
+     * @throws NullPointerException if {@code before} is null
+     *
+     * @see Consumer1
+     */
+    default <V> Consumer1<V> composeObj(final ToLongFunction1<? super V> before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final V v) -> this.accept(before.applyAsLong(v));
+    }
+
+    /**
+     * Returns a composed consumer that applies the {@code before} function to its
+     * {@code boolean}-valued input, and then performs this operation on the {@code long}-valued
+     * result without boxing either. If evaluation of either throws an exception, it is
+     * relayed to the caller of the composed consumer.
+     *
+     * @param before the function to apply before this operation is performed
+     * @return a composed consumer that first applies the {@code before} function
+     *         and then performs this operation
+     * @throws NullPointerException if {@code before} is null
+     *
+     * @see BooleanConsumer1
+     */
+    default BooleanConsumer1 composeBoolean(final BooleanToLongFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final boolean value) -> this.accept(before.applyAsLong(value));
+    }
+
+    /**
+     * Returns a composed consumer that applies the {@code before} function to its
+     * {@code byte}-valued input, and then performs this operation on the {@code long}-valued
+     * result without boxing either. If evaluation of either throws an exception, it is
+     * relayed to the caller of the composed consumer.
+     *
+     * @param before the function to apply before this operation is performed
+     * @return a composed consumer that first applies the {@code before} function
+     *         and then performs this operation
+     * @throws NullPointerException if {@code before} is null
+     *
+     * @see ByteConsumer1
+     */
+    default ByteConsumer1 composeByte(final ByteToLongFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final byte value) -> this.accept(before.applyAsLong(value));
+    }
+
+    /**
+     * Returns a composed consumer that applies the {@code before} function to its
+     * {@code char}-valued input, and then performs this operation on the {@code long}-valued
+     * result without boxing either. If evaluation of either throws an exception, it is
+     * relayed to the caller of the composed consumer.
+     *
+     * @param before the function to apply before this operation is performed
+     * @return a composed consumer that first applies the {@code before} function
+     *         and then performs this operation
+     * @throws NullPointerException if {@code before} is null
+     *
+     * @see CharConsumer1
+     */
+    default CharConsumer1 composeChar(final CharToLongFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final char value) -> this.accept(before.applyAsLong(value));
+    }
+
+    /**
+     * Returns a composed consumer that applies the {@code before} function to its
+     * {@code short}-valued input, and then performs this operation on the {@code long}-valued
+     * result without boxing either. If evaluation of either throws an exception, it is
+     * relayed to the caller of the composed consumer.
+     *
+     * @param before the function to apply before this operation is performed
+     * @return a composed consumer that first applies the {@code before} function
+     *         and then performs this operation
+     * @throws NullPointerException if {@code before} is null
+     *
+     * @see ShortConsumer1
+     */
+    default ShortConsumer1 composeShort(final ShortToLongFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final short value) -> this.accept(before.applyAsLong(value));
+    }
+
+    /**
+     * Returns a composed consumer that applies the {@code before} function to its
+     * {@code int}-valued input, and then performs this operation on the {@code long}-valued
+     * result without boxing either. If evaluation of either throws an exception, it is
+     * relayed to the caller of the composed consumer.
+     *
+     * @param before the function to apply before this operation is performed
+     * @return a composed consumer that first applies the {@code before} function
+     *         and then performs this operation
+     * @throws NullPointerException if {@code before} is null
+     *
+     * @see IntConsumer1
+     */
+    default IntConsumer1 composeInt(final IntToLongFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final int value) -> this.accept(before.applyAsLong(value));
+    }
+
+    /**
+     * Returns a composed consumer that applies the {@code before} function to its
+     * {@code float}-valued input, and then performs this operation on the {@code long}-valued
+     * result without boxing either. If evaluation of either throws an exception, it is
+     * relayed to the caller of the composed consumer.
+     *
+     * @param before the function to apply before this operation is performed
+     * @return a composed consumer that first applies the {@code before} function
+     *         and then performs this operation
+     * @throws NullPointerException if {@code before} is null
+     *
+     * @see FloatConsumer1
+     */
+    default FloatConsumer1 composeFloat(final FloatToLongFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final float value) -> this.accept(before.applyAsLong(value));
+    }
+
+    /**
+     * Returns a composed consumer that applies the {@code before} function to its
+     * {@code double}-valued input, and then performs this operation on the {@code long}-valued
+     * result without boxing either. If evaluation of either throws an exception, it is
+     * relayed to the caller of the composed consumer.
+     *
+     * @param before the function to apply before this operation is performed
+     * @return a composed consumer that first applies the {@code before} function
+     *         and then performs this operation
+     * @throws NullPointerException if {@code before} is null
+     *
+     * @see DoubleConsumer1
+     */
+    default DoubleConsumer1 composeDouble(final DoubleToLongFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final double value) -> this.accept(before.applyAsLong(value));
+    }
+
     @Override
     default LongConsumer1 andThen(final LongConsumer1 after) {
         return (LongConsumer1) AbstractLongConsumer1.super.andThen(after);
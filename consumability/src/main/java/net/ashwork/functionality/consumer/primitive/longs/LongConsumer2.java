@@ -0,0 +1,53 @@
+/*
+ * Consumability (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.consumer.primitive.longs;
+
+import net.ashwork.functionality.consumer.Consumer2;
+import net.ashwork.functionality.consumer.ConsumerN;
+import net.ashwork.functionality.consumer.abstracts.primitive.longs.AbstractLongConsumer2;
+import net.ashwork.functionality.primitive.longs.LongFunction2;
+
+/**
+ * Represents an operation that accepts two {@code long}-valued arguments and returns no result.
+ * This is the two-arity specialization of {@link ConsumerN}.
+ * This is the non-producing specialization of {@link LongFunction2}.
+ * This is the {@code long}-consuming primitive specialization of {@link Consumer2}.
+ *
+ * <p>This is a functional interface whose functional method is {@link #accept(long, long)}.
+ *
+ * @see ConsumerN
+ * @see LongFunction2
+ * @see Consumer2
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface LongConsumer2 extends AbstractLongConsumer2<LongConsumer2> {
+
+    /**
+     * @see Consumer2
+     */
+    @Override
+    default Consumer2<Long, Long> boxInput() {
+        return this::accept;
+    }
+
+    @Override
+    default LongConsumer2 andThen(final LongConsumer2 after) {
+        return (LongConsumer2) AbstractLongConsumer2.super.andThen(after);
+    }
+
+    @Override
+    default LongConsumer2 andThenUnchecked(final LongConsumer2 after) {
+        return (final long value1, final long value2) -> {
+            this.accept(value1, value2);
+            after.accept(value1, value2);
+        };
+    }
+}
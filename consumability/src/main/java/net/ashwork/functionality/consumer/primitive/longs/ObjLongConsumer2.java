@@ -0,0 +1,70 @@
+/*
+ * Consumability (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.consumer.primitive.longs;
+
+import net.ashwork.functionality.consumer.Consumer2;
+import net.ashwork.functionality.consumer.ConsumerN;
+import net.ashwork.functionality.consumer.abstracts.primitive.longs.AbstractObjLongConsumer2;
+import net.ashwork.functionality.primitive.longs.ObjLongFunction2;
+
+import java.util.function.ObjLongConsumer;
+
+/**
+ * Represents an operation that accepts an object-valued argument and a {@code long}-valued argument and returns no result.
+ * This is the two-arity specialization of {@link ConsumerN}.
+ * This is the non-producing specialization of {@link ObjLongFunction2}.
+ * This is the {@code long}-consuming primitive specialization of {@link Consumer2}.
+ *
+ * <p>This is a functional interface whose functional method is {@link #accept(Object, long)}.
+ *
+ * @param <T1> the type of the first argument to the operation
+ *
+ * @see ConsumerN
+ * @see ObjLongFunction2
+ * @see Consumer2
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface ObjLongConsumer2<T1> extends AbstractObjLongConsumer2<T1, ObjLongConsumer2<T1>> {
+
+    /**
+     * Creates an instance of this object from its {@link ObjLongConsumer} variant.
+     *
+     * @param consumer the variant of this object
+     * @param <T1> the type of the first argument to the operation
+     * @return an instance of this object
+     *
+     * @see ObjLongConsumer
+     */
+    static <T1> ObjLongConsumer2<T1> fromVariant(final ObjLongConsumer<T1> consumer) {
+        return consumer::accept;
+    }
+
+    /**
+     * @see Consumer2
+     */
+    @Override
+    default Consumer2<T1, Long> boxInput() {
+        return this::accept;
+    }
+
+    @Override
+    default ObjLongConsumer2<T1> andThen(final ObjLongConsumer2<T1> after) {
+        return (ObjLongConsumer2<T1>) AbstractObjLongConsumer2.super.andThen(after);
+    }
+
+    @Override
+    default ObjLongConsumer2<T1> andThenUnchecked(final ObjLongConsumer2<T1> after) {
+        return (final T1 t1, final long value) -> {
+            this.accept(t1, value);
+            after.accept(t1, value);
+        };
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Consumability (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.consumer.primitive.shorts;
+
+import net.ashwork.functionality.consumer.Consumer2;
+import net.ashwork.functionality.consumer.ConsumerN;
+import net.ashwork.functionality.consumer.abstracts.primitive.shorts.AbstractObjShortConsumer2;
+import net.ashwork.functionality.primitive.shorts.ObjShortFunction2;
+
+/**
+ * Represents an operation that accepts an object-valued argument and a {@code short}-valued argument and returns no result.
+ * This is the two-arity specialization of {@link ConsumerN}.
+ * This is the non-producing specialization of {@link ObjShortFunction2}.
+ * This is the {@code short}-consuming primitive specialization of {@link Consumer2}.
+ *
+ * <p>This is a functional interface whose functional method is {@link #accept(Object, short)}.
+ *
+ * @param <T1> the type of the first argument to the operation
+ *
+ * @see ConsumerN
+ * @see ObjShortFunction2
+ * @see Consumer2
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface ObjShortConsumer2<T1> extends AbstractObjShortConsumer2<T1, ObjShortConsumer2<T1>> {
+
+    /**
+     * @see Consumer2
+     */
+    @Override
+    default Consumer2<T1, Short> boxInput() {
+        return this::accept;
+    }
+
+    @Override
+    default ObjShortConsumer2<T1> andThen(final ObjShortConsumer2<T1> after) {
+        return (ObjShortConsumer2<T1>) AbstractObjShortConsumer2.super.andThen(after);
+    }
+
+    @Override
+    default ObjShortConsumer2<T1> andThenUnchecked(final ObjShortConsumer2<T1> after) {
+        return (final T1 t1, final short value) -> {
+            this.accept(t1, value);
+            after.accept(t1, value);
+        };
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Consumability (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.consumer.primitive.shorts;
+
+import net.ashwork.functionality.consumer.Consumer2;
+import net.ashwork.functionality.consumer.ConsumerN;
+import net.ashwork.functionality.consumer.abstracts.primitive.shorts.AbstractShortConsumer2;
+import net.ashwork.functionality.primitive.shorts.ShortFunction2;
+
+/**
+ * Represents an operation that accepts two {@code short}-valued arguments and returns no result.
+ * This is the two-arity specialization of {@link ConsumerN}.
+ * This is the non-producing specialization of {@link ShortFunction2}.
+ * This is the {@code short}-consuming primitive specialization of {@link Consumer2}.
+ *
+ * <p>This is a functional interface whose functional method is {@link #accept(short, short)}.
+ *
+ * @see ConsumerN
+ * @see ShortFunction2
+ * @see Consumer2
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface ShortConsumer2 extends AbstractShortConsumer2<ShortConsumer2> {
+
+    /**
+     * @see Consumer2
+     */
+    @Override
+    default Consumer2<Short, Short> boxInput() {
+        return this::accept;
+    }
+
+    @Override
+    default ShortConsumer2 andThen(final ShortConsumer2 after) {
+        return (ShortConsumer2) AbstractShortConsumer2.super.andThen(after);
+    }
+
+    @Override
+    default ShortConsumer2 andThenUnchecked(final ShortConsumer2 after) {
+        return (final short value1, final short value2) -> {
+            this.accept(value1, value2);
+            after.accept(value1, value2);
+        };
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Consumability (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.test.consumer;
+
+import net.ashwork.functionality.consumer.concurrent.AsyncConsumer1;
+import net.ashwork.functionality.consumer.concurrent.AsyncIntConsumer1;
+import net.ashwork.functionality.consumer.concurrent.OverflowPolicy;
+import net.ashwork.functionality.consumer.concurrent.ProducerType;
+import net.ashwork.functionality.consumer.concurrent.WaitStrategy;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A testing class that tests the asynchronous consumers.
+ */
+public final class AsyncConsumerTests {
+
+    private static final int PRODUCERS = 4;
+    private static final int INPUTS = 2_000;
+
+    /**
+     * Tests that inputs from multiple producers are all passed to the target,
+     * in order for each producer.
+     */
+    @Test
+    public void multiProducer() throws InterruptedException {
+        final List<Integer> received = new ArrayList<>();
+        final AsyncIntConsumer1 consumer = AsyncIntConsumer1.of(received::add, 64, WaitStrategy.YIELD, ProducerType.MULTI, OverflowPolicy.BLOCK);
+        final Thread[] producers = new Thread[PRODUCERS];
+        for (int p = 0; p < PRODUCERS; p++) {
+            final int producer = p;
+            producers[p] = new Thread(() -> {
+                for (int i = 0; i < INPUTS; i++)
+                    consumer.accept(producer * INPUTS + i);
+            });
+            producers[p].start();
+        }
+        for (final Thread producer : producers)
+            producer.join();
+        consumer.close();
+
+        Assertions.assertEquals(PRODUCERS * INPUTS, received.size());
+        final int[] last = new int[PRODUCERS];
+        Arrays.fill(last, -1);
+        for (final int value : received) {
+            final int producer = value / INPUTS;
+            Assertions.assertTrue(value % INPUTS > last[producer], "Inputs of a producer were reordered");
+            last[producer] = value % INPUTS;
+        }
+    }
+
+    /**
+     * Tests that inputs are dropped and counted once the buffer is full.
+     */
+    @Test
+    public void drop() throws InterruptedException {
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicLong received = new AtomicLong();
+        final AsyncConsumer1<String> consumer = AsyncConsumer1.of(s -> {
+            try {
+                release.await();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            received.incrementAndGet();
+        }, 4, WaitStrategy.PARK, ProducerType.SINGLE, OverflowPolicy.DROP);
+        for (int i = 0; i < 4; i++)
+            Assertions.assertTrue(consumer.offer("accepted"));
+        Assertions.assertFalse(consumer.offer("dropped"));
+        Assertions.assertEquals(1, consumer.dropped());
+        release.countDown();
+        consumer.close();
+        Assertions.assertEquals(4, received.get());
+    }
+
+    /**
+     * Tests that a producer blocked on a full buffer is either accepted and
+     * consumed, or rejected, when the consumer is closed.
+     */
+    @Test
+    public void blockedClose() throws InterruptedException {
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicLong received = new AtomicLong();
+        final AsyncIntConsumer1 consumer = AsyncIntConsumer1.of(value -> {
+            try {
+                release.await();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            received.incrementAndGet();
+        }, 2, WaitStrategy.PARK, ProducerType.MULTI, OverflowPolicy.BLOCK);
+        final AtomicLong accepted = new AtomicLong();
+        final Thread producer = new Thread(() -> {
+            try {
+                for (int i = 0; i < 10; i++) {
+                    consumer.accept(i);
+                    accepted.incrementAndGet();
+                }
+            } catch (final IllegalStateException ignored) {}
+        });
+        producer.start();
+        while (producer.getState() == Thread.State.RUNNABLE && accepted.get() < 2)
+            Thread.yield();
+
+        final Thread closer = new Thread(consumer::close);
+        closer.start();
+        while (!consumer.isClosed())
+            Thread.yield();
+        release.countDown();
+        closer.join();
+        producer.join();
+        Assertions.assertEquals(accepted.get(), received.get());
+        Assertions.assertThrows(IllegalStateException.class, () -> consumer.accept(0));
+    }
+
+    /**
+     * Tests that closing concurrently with producers never loses an input
+     * which was reported as accepted.
+     */
+    @Test
+    public void concurrentClose() throws InterruptedException {
+        for (final OverflowPolicy policy : OverflowPolicy.values())
+            for (int round = 0; round < 20; round++) {
+                final AtomicLong received = new AtomicLong();
+                final AsyncIntConsumer1 consumer = AsyncIntConsumer1.of(value -> received.incrementAndGet(), 16, WaitStrategy.YIELD, ProducerType.MULTI, policy);
+                final AtomicLong accepted = new AtomicLong();
+                final CountDownLatch started = new CountDownLatch(PRODUCERS);
+                final Thread[] producers = new Thread[PRODUCERS];
+                for (int p = 0; p < PRODUCERS; p++) {
+                    producers[p] = new Thread(() -> {
+                        started.countDown();
+                        try {
+                            while (true)
+                                if (consumer.offer(0))
+                                    accepted.incrementAndGet();
+                        } catch (final IllegalStateException ignored) {}
+                    });
+                    producers[p].start();
+                }
+                started.await();
+                Thread.yield();
+                consumer.close();
+                for (final Thread producer : producers)
+                    producer.join();
+                Assertions.assertEquals(accepted.get(), received.get(), "An accepted input was lost with " + policy);
+            }
+    }
+}
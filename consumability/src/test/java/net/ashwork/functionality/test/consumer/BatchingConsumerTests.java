@@ -0,0 +1,201 @@
+/*
+ * Consumability (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.test.consumer;
+
+import net.ashwork.functionality.consumer.concurrent.BatchingConsumer1;
+import net.ashwork.functionality.consumer.concurrent.BatchingIntConsumer1;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A testing class that tests the batching consumers.
+ */
+public final class BatchingConsumerTests {
+
+    /**
+     * Tests that full batches are flushed on the calling thread.
+     */
+    @Test
+    public void sizeFlush() {
+        final List<List<Integer>> batches = new ArrayList<>();
+        final BatchingConsumer1<Integer> consumer = BatchingConsumer1.of(3, batches::add);
+        for (int i = 0; i < 7; i++)
+            consumer.accept(i);
+        Assertions.assertEquals(Arrays.asList(Arrays.asList(0, 1, 2), Arrays.asList(3, 4, 5)), batches);
+        consumer.flush();
+        Assertions.assertEquals(Arrays.asList(6), batches.get(2));
+
+        final List<int[]> ints = new ArrayList<>();
+        final BatchingIntConsumer1 intConsumer = BatchingIntConsumer1.of(2, ints::add);
+        intConsumer.accept(1);
+        intConsumer.accept(2);
+        Assertions.assertEquals(1, ints.size());
+        Assertions.assertArrayEquals(new int[]{1, 2}, ints.get(0));
+    }
+
+    /**
+     * Tests that a partial batch is flushed once its oldest input has waited for the maximum delay.
+     */
+    @Test
+    public void timeFlush() throws InterruptedException {
+        final BlockingQueue<List<String>> batches = new LinkedBlockingQueue<>();
+        try (BatchingConsumer1<String> consumer = BatchingConsumer1.of(10, Duration.ofMillis(20), batches::add)) {
+            consumer.accept("a");
+            consumer.accept("b");
+            Assertions.assertEquals(Arrays.asList("a", "b"), batches.poll(5, TimeUnit.SECONDS));
+            consumer.accept("c");
+            Assertions.assertEquals(Arrays.asList("c"), batches.poll(5, TimeUnit.SECONDS));
+        }
+    }
+
+    /**
+     * Tests that emptying the buffer cancels the armed timed flush, so it does
+     * not flush a later batch early.
+     */
+    @Test
+    public void sizeFlushDisarmsTimer() {
+        final ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1);
+        scheduler.setRemoveOnCancelPolicy(true);
+        try {
+            final List<List<Integer>> batches = new ArrayList<>();
+            final BatchingConsumer1<Integer> consumer = BatchingConsumer1.of(2, Duration.ofHours(1), scheduler, batches::add);
+            consumer.accept(1);
+            Assertions.assertEquals(1, scheduler.getQueue().size());
+            consumer.accept(2);
+            Assertions.assertEquals(1, batches.size());
+            Assertions.assertEquals(0, scheduler.getQueue().size());
+
+            consumer.accept(3);
+            Assertions.assertEquals(1, scheduler.getQueue().size());
+            consumer.flush();
+            Assertions.assertEquals(0, scheduler.getQueue().size());
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * Tests that a rejected timed flush flushes on the calling thread instead of
+     * relaying the rejection or leaving the consumer without a timer.
+     */
+    @Test
+    public void rejectedTimer() {
+        final ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1);
+        scheduler.shutdown();
+        final List<List<Integer>> batches = new ArrayList<>();
+        final BatchingConsumer1<Integer> consumer = BatchingConsumer1.of(10, Duration.ofMillis(1), scheduler, batches::add);
+        consumer.accept(1);
+        consumer.accept(2);
+        Assertions.assertEquals(Arrays.asList(Arrays.asList(1), Arrays.asList(2)), batches);
+    }
+
+    /**
+     * Tests that a thread which fills a batch only flushes the inputs buffered
+     * before it started, leaving batches filled meanwhile to their own threads.
+     */
+    @Test
+    public void sizeFlushBounded() throws InterruptedException {
+        final List<Thread> emitters = new ArrayList<>();
+        final AtomicReference<Thread> helper = new AtomicReference<>();
+        final AtomicReference<BatchingConsumer1<Integer>> consumer = new AtomicReference<>();
+        consumer.set(BatchingConsumer1.of(2, batch -> {
+            emitters.add(Thread.currentThread());
+            if (helper.get() != null)
+                return;
+            // Fill another batch while this one is being flushed
+            final Thread thread = new Thread(() -> {
+                consumer.get().accept(3);
+                consumer.get().accept(4);
+            });
+            helper.set(thread);
+            thread.start();
+            while (thread.getState() != Thread.State.BLOCKED && thread.isAlive())
+                Thread.yield();
+        }));
+        consumer.get().accept(1);
+        consumer.get().accept(2);
+        helper.get().join();
+        Assertions.assertEquals(Arrays.asList(Thread.currentThread(), helper.get()), emitters);
+    }
+
+    /**
+     * Tests that concurrent producers only flush full batches by size.
+     */
+    @Test
+    public void concurrentSizeFlushFull() throws InterruptedException {
+        final List<List<Integer>> batches = Collections.synchronizedList(new ArrayList<>());
+        final BatchingConsumer1<Integer> consumer = BatchingConsumer1.of(4, batches::add);
+        final Thread[] producers = new Thread[4];
+        for (int i = 0; i < producers.length; i++) {
+            producers[i] = new Thread(() -> {
+                for (int j = 0; j < 1000; j++)
+                    consumer.accept(j);
+            });
+            producers[i].start();
+        }
+        for (final Thread producer : producers)
+            producer.join();
+        Assertions.assertEquals(1000, batches.size());
+        for (final List<Integer> batch : batches)
+            Assertions.assertEquals(4, batch.size());
+    }
+
+    /**
+     * Tests that a throwable thrown by the sink during a timed flush is passed to
+     * the uncaught exception handler of the scheduler thread.
+     */
+    @Test
+    public void timedFlushFailureReported() throws InterruptedException {
+        final BlockingQueue<Throwable> uncaught = new LinkedBlockingQueue<>();
+        final ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+            final Thread thread = new Thread(runnable);
+            thread.setUncaughtExceptionHandler((t, e) -> uncaught.add(e));
+            return thread;
+        });
+        try {
+            final IllegalStateException thrown = new IllegalStateException();
+            final BatchingConsumer1<Integer> consumer = BatchingConsumer1.of(10, Duration.ofMillis(1), scheduler, batch -> {
+                throw thrown;
+            });
+            consumer.accept(1);
+            Assertions.assertSame(thrown, uncaught.poll(5, TimeUnit.SECONDS));
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * Tests that closing flushes the buffered inputs and rejects later inputs.
+     */
+    @Test
+    public void closeFlush() {
+        final List<List<Integer>> batches = new ArrayList<>();
+        final BatchingConsumer1<Integer> consumer = BatchingConsumer1.of(10, Duration.ofHours(1), batches::add);
+        consumer.accept(1);
+        consumer.accept(2);
+        consumer.close();
+        Assertions.assertTrue(consumer.isClosed());
+        Assertions.assertEquals(Arrays.asList(Arrays.asList(1, 2)), batches);
+        Assertions.assertThrows(IllegalStateException.class, () -> consumer.accept(3));
+        consumer.close();
+        Assertions.assertEquals(1, batches.size());
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Consumability (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.test.consumer;
+
+import net.ashwork.functionality.consumer.Consumer1;
+import net.ashwork.functionality.consumer.concurrent.ConflatingConsumer1;
+import net.ashwork.functionality.consumer.concurrent.IntKeyedConflatingConsumer1;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+
+/**
+ * A testing class that tests the conflating consumers.
+ */
+public final class ConflatingConsumerTests {
+
+    /**
+     * Tests that only the latest pending input of each key is passed to the
+     * target, in the order the keys were first accepted.
+     */
+    @Test
+    public void conflating() {
+        final Queue<Runnable> tasks = new ArrayDeque<>();
+        final List<String> received = new ArrayList<>();
+        final Consumer1<String> target = received::add;
+        final ConflatingConsumer1<String, Character> consumer = target.conflating(s -> s.charAt(0), tasks::add);
+        for (final String input : Arrays.asList("a1", "b1", "a2", "c1", "a3", "b2"))
+            consumer.accept(input);
+        Assertions.assertEquals(3, consumer.pending());
+        Assertions.assertEquals(1, tasks.size());
+        runAll(tasks);
+        Assertions.assertEquals(Arrays.asList("a3", "b2", "c1"), received);
+        Assertions.assertEquals(0, consumer.pending());
+
+        consumer.accept("a4");
+        runAll(tasks);
+        Assertions.assertEquals("a4", received.get(3));
+        Assertions.assertThrows(NullPointerException.class, () -> consumer.accept(null));
+    }
+
+    /**
+     * Tests that the {@code int}-keyed consumer conflates inputs by their slot.
+     */
+    @Test
+    public void intKeyed() {
+        final Queue<Runnable> tasks = new ArrayDeque<>();
+        final List<int[]> received = new ArrayList<>();
+        final Consumer1<int[]> target = received::add;
+        final IntKeyedConflatingConsumer1<int[]> consumer = target.conflating(input -> input[0], 4, tasks::add);
+        Assertions.assertEquals(4, consumer.keys());
+        consumer.accept(new int[]{2, 1});
+        consumer.accept(new int[]{0, 1});
+        consumer.accept(new int[]{2, 2});
+        runAll(tasks);
+        Assertions.assertEquals(2, received.size());
+        Assertions.assertArrayEquals(new int[]{2, 2}, received.get(0));
+        Assertions.assertArrayEquals(new int[]{0, 1}, received.get(1));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> consumer.accept(new int[]{4, 0}));
+    }
+
+    /**
+     * Tests that nothing is conflated when the drainer runs on the calling thread.
+     */
+    @Test
+    public void synchronous() {
+        final List<Integer> received = new ArrayList<>();
+        final ConflatingConsumer1<Integer, Integer> consumer = ConflatingConsumer1.of(received::add, i -> i % 2, Runnable::run);
+        for (int i = 0; i < 4; i++)
+            consumer.accept(i);
+        Assertions.assertEquals(Arrays.asList(0, 1, 2, 3), received);
+    }
+
+    private static void runAll(final Queue<Runnable> tasks) {
+        Runnable task;
+        while ((task = tasks.poll()) != null)
+            task.run();
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Consumability (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.test.consumer;
+
+import net.ashwork.functionality.consumer.Consumer1;
+import net.ashwork.functionality.consumer.concurrent.MulticastConsumer1;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * A testing class that tests the multicast consumer.
+ */
+public final class MulticastConsumerTests {
+
+    /**
+     * Tests that subscribers are called in order on the calling thread.
+     */
+    @Test
+    public void sequential() {
+        final List<String> calls = new ArrayList<>();
+        final Consumer1<String> first = s -> calls.add("first " + s);
+        final MulticastConsumer1<String> consumer = MulticastConsumer1.of(first, s -> calls.add("second " + s));
+        Assertions.assertFalse(consumer.isParallel());
+        consumer.accept("a");
+        consumer.subscribe(s -> calls.add("third " + s));
+        Assertions.assertTrue(consumer.unsubscribe(first));
+        Assertions.assertFalse(consumer.unsubscribe(first));
+        consumer.accept("b");
+        Assertions.assertEquals(Arrays.asList("first a", "second a", "second b", "third b"), calls);
+        Assertions.assertEquals(2, consumer.size());
+    }
+
+    /**
+     * Tests that a failing subscriber stops the remaining subscribers when called sequentially.
+     */
+    @Test
+    public void sequentialFailure() {
+        final List<String> calls = new ArrayList<>();
+        final MulticastConsumer1<String> consumer = MulticastConsumer1.of(s -> {
+            throw new IllegalStateException(s);
+        }, calls::add);
+        Assertions.assertThrows(IllegalStateException.class, () -> consumer.accept("a"));
+        Assertions.assertTrue(calls.isEmpty());
+        Assertions.assertThrows(NullPointerException.class, () -> MulticastConsumer1.of((Consumer1<Object>) null));
+    }
+
+    /**
+     * Tests that every subscriber is called in parallel and that failures are
+     * relayed once all subscribers have finished.
+     */
+    @Test
+    public void parallel() {
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            final Set<String> calls = ConcurrentHashMap.newKeySet();
+            final MulticastConsumer1<String> consumer = MulticastConsumer1.parallel(executor,
+                    s -> calls.add("first " + s), s -> calls.add("second " + s), s -> calls.add("third " + s));
+            Assertions.assertTrue(consumer.isParallel());
+            consumer.accept("a");
+            Assertions.assertEquals(3, calls.size());
+
+            calls.clear();
+            final MulticastConsumer1<String> failing = MulticastConsumer1.parallel(executor, s -> {
+                throw new IllegalStateException("first");
+            }, s -> {
+                throw new IllegalArgumentException("second");
+            }, s -> calls.add(s));
+            final RuntimeException thrown = Assertions.assertThrows(RuntimeException.class, () -> failing.accept("b"));
+            Assertions.assertEquals(1, thrown.getSuppressed().length);
+            Assertions.assertEquals(1, calls.size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Tests that chaining flattens multicast consumers and keeps a parallel executor.
+     */
+    @Test
+    public void andThen() {
+        final List<String> calls = new ArrayList<>();
+        final MulticastConsumer1<String> consumer = MulticastConsumer1.of(s -> calls.add("first " + s));
+        final MulticastConsumer1<String> flattened = consumer.andThen(MulticastConsumer1.of(s -> calls.add("second " + s), s -> calls.add("third " + s)))
+                .andThen((Consumer1<String>) s -> calls.add("fourth " + s));
+        Assertions.assertEquals(4, flattened.size());
+        Assertions.assertFalse(flattened.isParallel());
+        consumer.subscribe(s -> calls.add("ignored " + s));
+        flattened.accept("a");
+        Assertions.assertEquals(Arrays.asList("first a", "second a", "third a", "fourth a"), calls);
+
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Assertions.assertTrue(consumer.andThen(MulticastConsumer1.parallel(executor, calls::add)).isParallel());
+            Assertions.assertTrue(MulticastConsumer1.<String>parallel(executor).andThen((Consumer1<String>) calls::add).isParallel());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
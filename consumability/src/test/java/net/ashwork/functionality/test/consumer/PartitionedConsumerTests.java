@@ -0,0 +1,113 @@
+/*
+ * Consumability (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.test.consumer;
+
+import net.ashwork.functionality.consumer.Consumer1;
+import net.ashwork.functionality.consumer.concurrent.PartitionedConsumer1;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A testing class that tests the partitioned consumer.
+ */
+public final class PartitionedConsumerTests {
+
+    private static final int KEYS = 16;
+    private static final int INPUTS = 500;
+
+    /**
+     * Tests that inputs are assigned to a lane by their key.
+     */
+    @Test
+    public void partitions() {
+        final PartitionedConsumer1<Integer> consumer = PartitionedConsumer1.of(i -> {}, i -> i, 4, Runnable::run);
+        Assertions.assertEquals(4, consumer.partitions());
+        for (int i = -100; i < 100; i++) {
+            final int partition = consumer.partitionOf(i);
+            Assertions.assertTrue(partition >= 0 && partition < 4);
+            Assertions.assertEquals(partition, consumer.partitionOf(i));
+        }
+        Assertions.assertNotEquals(consumer.partitionOf(0), consumer.partitionOf(1 << 16));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> PartitionedConsumer1.<Integer>of(i -> {}, i -> i, 0, Runnable::run));
+    }
+
+    /**
+     * Tests that inputs with the same key are passed to the target one at a
+     * time and in the order they were accepted.
+     */
+    @Test
+    public void perKeyOrder() throws InterruptedException {
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final Map<Integer, AtomicInteger> active = new ConcurrentHashMap<>();
+            final Map<Integer, List<Integer>> received = new ConcurrentHashMap<>();
+            final CountDownLatch done = new CountDownLatch(KEYS * INPUTS);
+            final Consumer1<int[]> target = input -> {
+                Assertions.assertEquals(1, active.computeIfAbsent(input[0], k -> new AtomicInteger()).incrementAndGet(), "A key was processed concurrently");
+                // Each list is only touched by the lane of its key
+                received.computeIfAbsent(input[0], k -> new ArrayList<>()).add(input[1]);
+                active.get(input[0]).decrementAndGet();
+                done.countDown();
+            };
+            final PartitionedConsumer1<int[]> consumer = target.partitioned(input -> input[0], 4, executor);
+            for (int i = 0; i < INPUTS; i++)
+                for (int key = 0; key < KEYS; key++)
+                    consumer.accept(new int[]{key, i});
+            Assertions.assertTrue(done.await(30, TimeUnit.SECONDS));
+
+            Assertions.assertEquals(KEYS, received.size());
+            for (final List<Integer> values : received.values()) {
+                Assertions.assertEquals(INPUTS, values.size());
+                for (int i = 0; i < INPUTS; i++)
+                    Assertions.assertEquals(i, values.get(i));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Tests that inputs on different lanes are passed to the target in parallel.
+     */
+    @Test
+    public void parallelLanes() throws InterruptedException {
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            final CountDownLatch entered = new CountDownLatch(2);
+            final CountDownLatch done = new CountDownLatch(2);
+            final PartitionedConsumer1<Integer> consumer = PartitionedConsumer1.of(i -> {
+                entered.countDown();
+                try {
+                    // Only returns once both lanes are running at the same time
+                    if (entered.await(10, TimeUnit.SECONDS))
+                        done.countDown();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }, i -> i, 2, executor);
+            Assertions.assertNotEquals(consumer.partitionOf(0), consumer.partitionOf(1));
+            consumer.accept(0);
+            consumer.accept(1);
+            Assertions.assertTrue(done.await(10, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
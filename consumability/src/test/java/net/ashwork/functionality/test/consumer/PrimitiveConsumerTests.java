@@ -0,0 +1,102 @@
+/*
+ * Consumability (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.test.consumer;
+
+import net.ashwork.functionality.consumer.Consumer1;
+import net.ashwork.functionality.consumer.primitive.booleans.BooleanConsumer1;
+import net.ashwork.functionality.consumer.primitive.bytes.ByteConsumer1;
+import net.ashwork.functionality.consumer.primitive.chars.CharConsumer1;
+import net.ashwork.functionality.consumer.primitive.doubles.DoubleConsumer1;
+import net.ashwork.functionality.consumer.primitive.floats.FloatConsumer1;
+import net.ashwork.functionality.consumer.primitive.ints.IntConsumer1;
+import net.ashwork.functionality.consumer.primitive.longs.LongConsumer1;
+import net.ashwork.functionality.consumer.primitive.shorts.ShortConsumer1;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A testing class that tests all primitive-based consumers.
+ */
+public final class PrimitiveConsumerTests {
+
+    /**
+     * Tests composing a function before an {@code int} consumer.
+     */
+    @Test
+    public void composeInt() {
+        final List<Object> accepted = new ArrayList<>();
+        final IntConsumer1 consumer = accepted::add;
+        consumer.composeObj(String::length).accept("four");
+        consumer.composeBoolean(value -> value ? 1 : 0).accept(true);
+        consumer.composeByte(value -> value * 2).accept((byte) 3);
+        consumer.composeChar(value -> value - 'a').accept('c');
+        consumer.composeShort(value -> value + 1).accept((short) 9);
+        consumer.composeLong(value -> (int) (value >>> 32)).accept(5L << 32);
+        consumer.composeFloat(Math::round).accept(6.6F);
+        consumer.composeDouble(value -> (int) value).accept(7.9);
+        Assertions.assertEquals(Arrays.asList(4, 1, 6, 2, 10, 5, 7, 7), accepted);
+    }
+
+    /**
+     * Tests composing a function before a {@code long} consumer.
+     */
+    @Test
+    public void composeLong() {
+        final List<Object> accepted = new ArrayList<>();
+        final LongConsumer1 consumer = accepted::add;
+        consumer.composeInt(value -> (long) value << 32).accept(1);
+        consumer.<String>composeObj(Long::parseLong).accept("123456789012");
+        Assertions.assertEquals(Arrays.asList(1L << 32, 123456789012L), accepted);
+    }
+
+    /**
+     * Tests composing a function before a {@code double} consumer.
+     */
+    @Test
+    public void composeDouble() {
+        final List<Object> accepted = new ArrayList<>();
+        final DoubleConsumer1 consumer = accepted::add;
+        consumer.composeInt(value -> value / 2.0).accept(3);
+        consumer.composeFloat(value -> value * 2.0).accept(1.25F);
+        consumer.composeLong(value -> value).accept(Long.MAX_VALUE);
+        Assertions.assertEquals(Arrays.asList(1.5, 2.5, (double) Long.MAX_VALUE), accepted);
+    }
+
+    /**
+     * Tests composing a function before the remaining primitive consumers.
+     */
+    @Test
+    public void composeOthers() {
+        final List<Object> accepted = new ArrayList<>();
+        ((BooleanConsumer1) accepted::add).composeInt(value -> value > 0).accept(1);
+        ((ByteConsumer1) accepted::add).composeInt(value -> (byte) value).accept(300);
+        ((CharConsumer1) accepted::add).composeInt(value -> (char) ('a' + value)).accept(2);
+        ((ShortConsumer1) accepted::add).composeInt(value -> (short) value).accept(70000);
+        ((FloatConsumer1) accepted::add).composeDouble(value -> (float) value).accept(0.5);
+        Assertions.assertEquals(Arrays.asList(true, (byte) 44, 'c', (short) 4464, 0.5F), accepted);
+    }
+
+    /**
+     * Tests that a composed consumer relays the exception of its function
+     * without performing the operation.
+     */
+    @Test
+    public void composeThrows() {
+        final List<Object> accepted = new ArrayList<>();
+        final Consumer1<String> consumer = ((IntConsumer1) accepted::add).composeObj(Integer::parseInt);
+        Assertions.assertThrows(NumberFormatException.class, () -> consumer.accept("one"));
+        Assertions.assertTrue(accepted.isEmpty());
+        Assertions.assertThrows(NullPointerException.class, () -> ((IntConsumer1) accepted::add).composeObj(null));
+    }
+}
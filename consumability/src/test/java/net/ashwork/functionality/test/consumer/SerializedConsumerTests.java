@@ -0,0 +1,145 @@
+/*
+ * Consumability (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.test.consumer;
+
+import net.ashwork.functionality.consumer.Consumer1;
+import net.ashwork.functionality.consumer.concurrent.SerializedConsumer1;
+import net.ashwork.functionality.consumer.concurrent.SerializedIntConsumer1;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A testing class that tests the serialized consumers.
+ */
+public final class SerializedConsumerTests {
+
+    private static final int PRODUCERS = 4;
+    private static final int INPUTS = 1_000;
+
+    /**
+     * Tests that inputs from concurrent producers are passed to the target one at
+     * a time, in order for each producer.
+     */
+    @Test
+    public void serialized() throws InterruptedException {
+        final ExecutorService executor = Executors.newFixedThreadPool(PRODUCERS);
+        try {
+            final AtomicInteger active = new AtomicInteger();
+            final CountDownLatch done = new CountDownLatch(PRODUCERS * INPUTS);
+            final List<Integer> received = new ArrayList<>();
+            final SerializedIntConsumer1 consumer = SerializedIntConsumer1.of(value -> {
+                Assertions.assertEquals(1, active.incrementAndGet(), "The target was called concurrently");
+                received.add(value);
+                active.decrementAndGet();
+                done.countDown();
+            }, executor, 8);
+
+            final Thread[] producers = new Thread[PRODUCERS];
+            for (int p = 0; p < PRODUCERS; p++) {
+                final int producer = p;
+                producers[p] = new Thread(() -> {
+                    for (int i = 0; i < INPUTS; i++)
+                        consumer.accept(producer * INPUTS + i);
+                });
+                producers[p].start();
+            }
+            for (final Thread producer : producers)
+                producer.join();
+            Assertions.assertTrue(done.await(30, TimeUnit.SECONDS));
+
+            // The latch orders the final drainer run before this read
+            Assertions.assertEquals(PRODUCERS * INPUTS, received.size());
+            final int[] last = new int[PRODUCERS];
+            Arrays.fill(last, -1);
+            for (final int value : received) {
+                final int producer = value / INPUTS;
+                Assertions.assertTrue(value % INPUTS > last[producer], "Inputs of a producer were reordered");
+                last[producer] = value % INPUTS;
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Tests that the drainer yields the executor after each batch.
+     */
+    @Test
+    public void batches() {
+        final Queue<Runnable> tasks = new ArrayDeque<>();
+        final List<String> received = new ArrayList<>();
+        final SerializedConsumer1<String> consumer = SerializedConsumer1.of(received::add, tasks::add, 2);
+        for (final String input : Arrays.asList("a", "b", "c", "d", "e"))
+            consumer.accept(input);
+        Assertions.assertEquals(1, tasks.size());
+        Assertions.assertTrue(received.isEmpty());
+
+        int runs = 0;
+        Runnable task;
+        while ((task = tasks.poll()) != null) {
+            task.run();
+            runs++;
+        }
+        Assertions.assertEquals(3, runs);
+        Assertions.assertEquals(Arrays.asList("a", "b", "c", "d", "e"), received);
+    }
+
+    /**
+     * Tests that a rejected drainer runs on the calling thread and that a failing
+     * input does not stop the inputs after it.
+     */
+    @Test
+    public void rejectedAndFailing() {
+        final Thread thread = Thread.currentThread();
+        final Thread.UncaughtExceptionHandler handler = thread.getUncaughtExceptionHandler();
+        final List<Throwable> failures = new ArrayList<>();
+        thread.setUncaughtExceptionHandler((t, e) -> failures.add(e));
+        try {
+            final List<String> received = new ArrayList<>();
+            final Consumer1<String> target = s -> {
+                if (s.isEmpty())
+                    throw new IllegalArgumentException("empty");
+                received.add(s);
+            };
+            final SerializedConsumer1<String> consumer = target.serialized(runnable -> {
+                throw new RejectedExecutionException();
+            });
+            consumer.accept("a");
+            consumer.accept("");
+            consumer.accept("b");
+            Assertions.assertEquals(Arrays.asList("a", "b"), received);
+            Assertions.assertEquals(1, failures.size());
+            Assertions.assertTrue(failures.get(0) instanceof IllegalArgumentException);
+        } finally {
+            thread.setUncaughtExceptionHandler(handler);
+        }
+    }
+
+    /**
+     * Tests that invalid arguments are rejected.
+     */
+    @Test
+    public void arguments() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> SerializedConsumer1.of(s -> {}, Runnable::run, 0));
+        Assertions.assertThrows(NullPointerException.class, () -> SerializedConsumer1.of(s -> {}, null));
+    }
+}
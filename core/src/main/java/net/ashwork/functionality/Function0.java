@@ -9,8 +9,11 @@
 
 package net.ashwork.functionality;
 
+import net.ashwork.functionality.metrics.InvocationMetrics;
+import net.ashwork.functionality.metrics.MetricsRegistry;
 import net.ashwork.functionality.partial.Variant;
 
+import java.util.Objects;
 import java.util.function.Supplier;
 
 /**
@@ -57,6 +60,35 @@ public interface Function0<R> extends FunctionN<R>, Variant<Supplier<R>> {
         return supplier::get;
     }
 
+    /**
+     * Returns a function which records its calls into the metrics registered under
+     * the given name: the number of calls, the number of those which threw, and
+     * the latencies of the calls sampled by the registry. The metrics are looked up
+     * once, when this method is called.
+     *
+     * @param name the name to record the metrics under
+     * @param registry the registry holding the metrics
+     * @return an instrumented function
+     * @throws NullPointerException if {@code name} or {@code registry} is null
+     *
+     * @see MetricsRegistry
+     */
+    default Function0<R> instrumented(final String name, final MetricsRegistry registry) {
+        final InvocationMetrics metrics = Objects.requireNonNull(registry, "The registry cannot be null.").metrics(Objects.requireNonNull(name, "The name cannot be null."));
+        return () -> {
+            final long start = metrics.start();
+            final R result;
+            try {
+                result = this.apply();
+            } catch (final Throwable t) {
+                metrics.failed(start);
+                throw t;
+            }
+            metrics.succeeded(start);
+            return result;
+        };
+    }
+
     /**
      * @see Supplier
      */
@@ -9,9 +9,17 @@
 
 package net.ashwork.functionality;
 
+import net.ashwork.functionality.concurrent.SingleFlightFunction1;
+import net.ashwork.functionality.metrics.InvocationMetrics;
+import net.ashwork.functionality.metrics.MetricsRegistry;
 import net.ashwork.functionality.partial.InputChainableInput;
 import net.ashwork.functionality.partial.Variant;
 
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 
 /**
@@ -62,6 +70,110 @@ public interface Function1<T1, R> extends FunctionN<R>, Variant<Function<T1, R>>
         return function::apply;
     }
 
+    /**
+     * Applies this function to the given argument on the given executor. If this
+     * function throws, the returned future is completed exceptionally with that
+     * exception itself rather than a {@link CompletionException}.
+     *
+     * @param t1 the function argument
+     * @param executor the executor to apply this function on
+     * @return a future completed with the function result
+     * @throws NullPointerException if {@code executor} is null
+     * @throws java.util.concurrent.RejectedExecutionException if the executor rejects the task
+     */
+    default CompletableFuture<R> applyAsync(final T1 t1, final Executor executor) {
+        final CompletableFuture<R> result = new CompletableFuture<>();
+        Objects.requireNonNull(executor, "The executor cannot be null.").execute(() -> {
+            try {
+                result.complete(this.apply(t1));
+            } catch (final Throwable t) {
+                result.completeExceptionally(t);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Returns a composed function that applies this function on the given executor,
+     * and then passes its result to the asynchronous {@code after} function. The
+     * returned future completes with the result of the stage returned by {@code after}.
+     * If either function or the stage fails, the returned future is completed
+     * exceptionally with the original exception rather than a
+     * {@link CompletionException}.
+     *
+     * @param after the asynchronous function to apply after this function is applied
+     * @param executor the executor to apply this function on
+     * @param <V> the type of the result of the {@code after} stage
+     * @return a composed asynchronous function
+     * @throws NullPointerException if {@code after} or {@code executor} is null
+     */
+    default <V> Function1<T1, CompletableFuture<V>> andThenAsync(final Function1<? super R, ? extends CompletionStage<V>> after, final Executor executor) {
+        Objects.requireNonNull(after, "The composed function cannot be null.");
+        Objects.requireNonNull(executor, "The executor cannot be null.");
+        return (final T1 t1) -> {
+            final CompletableFuture<V> result = new CompletableFuture<>();
+            this.applyAsync(t1, executor).whenComplete((r, t) -> {
+                if (t != null) {
+                    result.completeExceptionally(t);
+                    return;
+                }
+                try {
+                    after.apply(r).whenComplete((v, u) -> {
+                        if (u == null)
+                            result.complete(v);
+                        else
+                            result.completeExceptionally(u instanceof CompletionException && u.getCause() != null ? u.getCause() : u);
+                    });
+                } catch (final Throwable e) {
+                    result.completeExceptionally(e);
+                }
+            });
+            return result;
+        };
+    }
+
+    /**
+     * Returns a function which coalesces concurrent calls to this function with
+     * equal arguments into a single call, whose result or exception is shared by
+     * every caller. Nothing is retained once a call completes.
+     *
+     * @return a single-flight function calling this function
+     *
+     * @see SingleFlightFunction1
+     */
+    default SingleFlightFunction1<T1, R> singleFlight() {
+        return SingleFlightFunction1.of(this);
+    }
+
+    /**
+     * Returns a function which records its calls into the metrics registered under
+     * the given name: the number of calls, the number of those which threw, and
+     * the latencies of the calls sampled by the registry. The metrics are looked up
+     * once, when this method is called.
+     *
+     * @param name the name to record the metrics under
+     * @param registry the registry holding the metrics
+     * @return an instrumented function
+     * @throws NullPointerException if {@code name} or {@code registry} is null
+     *
+     * @see MetricsRegistry
+     */
+    default Function1<T1, R> instrumented(final String name, final MetricsRegistry registry) {
+        final InvocationMetrics metrics = Objects.requireNonNull(registry, "The registry cannot be null.").metrics(Objects.requireNonNull(name, "The name cannot be null."));
+        return (final T1 t1) -> {
+            final long start = metrics.start();
+            final R result;
+            try {
+                result = this.apply(t1);
+            } catch (final Throwable t) {
+                metrics.failed(start);
+                throw t;
+            }
+            metrics.succeeded(start);
+            return result;
+        };
+    }
+
     /**
      * @see Function
      */
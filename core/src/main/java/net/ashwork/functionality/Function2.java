@@ -9,8 +9,16 @@
 
 package net.ashwork.functionality;
 
+import net.ashwork.functionality.concurrent.ConcurrentArguments;
+import net.ashwork.functionality.metrics.InvocationMetrics;
+import net.ashwork.functionality.metrics.MetricsRegistry;
 import net.ashwork.functionality.partial.Variant;
 
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import java.util.function.BiFunction;
 
 /**
@@ -64,6 +72,120 @@ public interface Function2<T1, T2, R> extends FunctionN<R>, Variant<BiFunction<T
         return function::apply;
     }
 
+    /**
+     * Applies this function to arguments computed concurrently by the given
+     * suppliers. The first supplier runs on the calling thread while the second runs
+     * on the executor. If either supplier throws, the other is interrupted and the
+     * exception is rethrown once both have finished.
+     *
+     * @param t1 the supplier of the first function argument
+     * @param t2 the supplier of the second function argument
+     * @param executor the executor to run the second supplier on
+     * @return the function result
+     * @throws NullPointerException if any argument is null
+     * @throws java.util.concurrent.CancellationException if the calling thread is
+     *         interrupted while waiting for the suppliers
+     *
+     * @see ConcurrentArguments
+     */
+    @SuppressWarnings("unchecked")
+    default R applyConcurrently(final Function0<? extends T1> t1, final Function0<? extends T2> t2, final Executor executor) {
+        final Object[] args = ConcurrentArguments.evaluate(executor, t1, t2);
+        return this.apply((T1) args[0], (T2) args[1]);
+    }
+
+    /**
+     * Applies this function to the given arguments on the given executor. If this
+     * function throws, the returned future is completed exceptionally with that
+     * exception itself rather than a {@link CompletionException}.
+     *
+     * @param t1 the first function argument
+     * @param t2 the second function argument
+     * @param executor the executor to apply this function on
+     * @return a future completed with the function result
+     * @throws NullPointerException if {@code executor} is null
+     * @throws java.util.concurrent.RejectedExecutionException if the executor rejects the task
+     */
+    default CompletableFuture<R> applyAsync(final T1 t1, final T2 t2, final Executor executor) {
+        final CompletableFuture<R> result = new CompletableFuture<>();
+        Objects.requireNonNull(executor, "The executor cannot be null.").execute(() -> {
+            try {
+                result.complete(this.apply(t1, t2));
+            } catch (final Throwable t) {
+                result.completeExceptionally(t);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Returns a composed function that applies this function on the given executor,
+     * and then passes its result to the asynchronous {@code after} function. The
+     * returned future completes with the result of the stage returned by {@code after}.
+     * If either function or the stage fails, the returned future is completed
+     * exceptionally with the original exception rather than a
+     * {@link CompletionException}.
+     *
+     * @param after the asynchronous function to apply after this function is applied
+     * @param executor the executor to apply this function on
+     * @param <V> the type of the result of the {@code after} stage
+     * @return a composed asynchronous function
+     * @throws NullPointerException if {@code after} or {@code executor} is null
+     */
+    default <V> Function2<T1, T2, CompletableFuture<V>> andThenAsync(final Function1<? super R, ? extends CompletionStage<V>> after, final Executor executor) {
+        Objects.requireNonNull(after, "The composed function cannot be null.");
+        Objects.requireNonNull(executor, "The executor cannot be null.");
+        return (final T1 t1, final T2 t2) -> {
+            final CompletableFuture<V> result = new CompletableFuture<>();
+            this.applyAsync(t1, t2, executor).whenComplete((r, t) -> {
+                if (t != null) {
+                    result.completeExceptionally(t);
+                    return;
+                }
+                try {
+                    after.apply(r).whenComplete((v, u) -> {
+                        if (u == null)
+                            result.complete(v);
+                        else
+                            result.completeExceptionally(u instanceof CompletionException && u.getCause() != null ? u.getCause() : u);
+                    });
+                } catch (final Throwable e) {
+                    result.completeExceptionally(e);
+                }
+            });
+            return result;
+        };
+    }
+
+    /**
+     * Returns a function which records its calls into the metrics registered under
+     * the given name: the number of calls, the number of those which threw, and
+     * the latencies of the calls sampled by the registry. The metrics are looked up
+     * once, when this method is called.
+     *
+     * @param name the name to record the metrics under
+     * @param registry the registry holding the metrics
+     * @return an instrumented function
+     * @throws NullPointerException if {@code name} or {@code registry} is null
+     *
+     * @see MetricsRegistry
+     */
+    default Function2<T1, T2, R> instrumented(final String name, final MetricsRegistry registry) {
+        final InvocationMetrics metrics = Objects.requireNonNull(registry, "The registry cannot be null.").metrics(Objects.requireNonNull(name, "The name cannot be null."));
+        return (final T1 t1, final T2 t2) -> {
+            final long start = metrics.start();
+            final R result;
+            try {
+                result = this.apply(t1, t2);
+            } catch (final Throwable t) {
+                metrics.failed(start);
+                throw t;
+            }
+            metrics.succeeded(start);
+            return result;
+        };
+    }
+
     /**
      * @see BiFunction
      */
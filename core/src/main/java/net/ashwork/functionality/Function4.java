@@ -0,0 +1,62 @@
+/*
+ * Functionality
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality;
+
+/**
+ * Represents a function that accepts four arguments and produces a result.
+ * This is the four-arity specialization of {@link FunctionN}.
+ *
+ * <p>This is a functional interface whose functional method is {@link #apply(Object, Object, Object, Object)}.
+ *
+ * @param <T1> the type of the first argument to the function
+ * @param <T2> the type of the second argument to the function
+ * @param <T3> the type of the third argument to the function
+ * @param <T4> the type of the fourth argument to the function
+ * @param <R> the type of the result of the function
+ *
+ * @see FunctionN
+ * @since 3.0.0
+ */
+@FunctionalInterface
+public interface Function4<T1, T2, T3, T4, R> extends FunctionN<R> {
+
+    /**
+     * Applies this function to the given arguments.
+     *
+     * @param t1 the first function argument
+     * @param t2 the second function argument
+     * @param t3 the third function argument
+     * @param t4 the fourth function argument
+     * @return the function result
+     */
+    R apply(final T1 t1, final T2 t2, final T3 t3, final T4 t4);
+
+    @SuppressWarnings("unchecked")
+    @Override
+    default R applyAllUnchecked(final Object... args) {
+        return this.apply((T1) args[0], (T2) args[1], (T3) args[2], (T4) args[3]);
+    }
+
+    @Override
+    default int arity() {
+        return 4;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    default <V> Function4<T1, T2, T3, T4, V> andThen(final Function1<? super R, ? extends V> after) {
+        return (Function4<T1, T2, T3, T4, V>) FunctionN.super.andThen(after);
+    }
+
+    @Override
+    default <V> Function4<T1, T2, T3, T4, V> andThenUnchecked(final Function1<? super R, ? extends V> after) {
+        return (final T1 t1, final T2 t2, final T3 t3, final T4 t4) -> after.apply(this.apply(t1, t2, t3, t4));
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Functionality
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality;
+
+/**
+ * Represents a function that accepts seven arguments and produces a result.
+ * This is the seven-arity specialization of {@link FunctionN}.
+ *
+ * <p>This is a functional interface whose functional method is {@link #apply(Object, Object, Object, Object, Object, Object, Object)}.
+ *
+ * @param <T1> the type of the first argument to the function
+ * @param <T2> the type of the second argument to the function
+ * @param <T3> the type of the third argument to the function
+ * @param <T4> the type of the fourth argument to the function
+ * @param <T5> the type of the fifth argument to the function
+ * @param <T6> the type of the sixth argument to the function
+ * @param <T7> the type of the seventh argument to the function
+ * @param <R> the type of the result of the function
+ *
+ * @see FunctionN
+ * @since 3.0.0
+ */
+@FunctionalInterface
+public interface Function7<T1, T2, T3, T4, T5, T6, T7, R> extends FunctionN<R> {
+
+    /**
+     * Applies this function to the given arguments.
+     *
+     * @param t1 the first function argument
+     * @param t2 the second function argument
+     * @param t3 the third function argument
+     * @param t4 the fourth function argument
+     * @param t5 the fifth function argument
+     * @param t6 the sixth function argument
+     * @param t7 the seventh function argument
+     * @return the function result
+     */
+    R apply(final T1 t1, final T2 t2, final T3 t3, final T4 t4, final T5 t5, final T6 t6, final T7 t7);
+
+    @SuppressWarnings("unchecked")
+    @Override
+    default R applyAllUnchecked(final Object... args) {
+        return this.apply((T1) args[0], (T2) args[1], (T3) args[2], (T4) args[3], (T5) args[4], (T6) args[5], (T7) args[6]);
+    }
+
+    @Override
+    default int arity() {
+        return 7;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    default <V> Function7<T1, T2, T3, T4, T5, T6, T7, V> andThen(final Function1<? super R, ? extends V> after) {
+        return (Function7<T1, T2, T3, T4, T5, T6, T7, V>) FunctionN.super.andThen(after);
+    }
+
+    @Override
+    default <V> Function7<T1, T2, T3, T4, T5, T6, T7, V> andThenUnchecked(final Function1<? super R, ? extends V> after) {
+        return (final T1 t1, final T2 t2, final T3 t3, final T4 t4, final T5 t5, final T6 t6, final T7 t7) -> after.apply(this.apply(t1, t2, t3, t4, t5, t6, t7));
+    }
+}
@@ -9,9 +9,12 @@
 
 package net.ashwork.functionality;
 
+import net.ashwork.functionality.concurrent.ConcurrentArguments;
 import net.ashwork.functionality.partial.Arity;
 import net.ashwork.functionality.partial.ResultChainableResult;
 
+import java.util.concurrent.Executor;
+
 /**
  * Represents a function that accepts {@code n} arguments and produces a result.
  * All functions are derived from this {@code n}-arity specialization.
@@ -61,6 +64,29 @@ public interface FunctionN<R> extends ResultChainableResult<R>, Arity {
         return this.applyAllUnchecked(checkSize(this.arity(), args));
     }
 
+    /**
+     * Applies this function to arguments computed concurrently by the given
+     * suppliers. The first supplier runs on the calling thread while the others run
+     * on the executor. If any supplier throws, the others are interrupted and the
+     * exception is rethrown once all of them have finished.
+     *
+     * @param executor the executor to run all suppliers but the first on
+     * @param args the suppliers of the function arguments
+     * @return the function result
+     * @throws FunctionSizeException if this function has a defined arity which is
+     *                               not equal to the number of suppliers
+     * @throws NullPointerException if {@code executor} or any supplier is null
+     * @throws java.util.concurrent.CancellationException if the calling thread is
+     *         interrupted while waiting for the suppliers
+     *
+     * @see ConcurrentArguments
+     */
+    default R applyAllConcurrently(final Executor executor, final Function0<?>... args) {
+        if (this.arity() >= 0)
+            checkSize(this.arity(), args);
+        return this.applyAllUnchecked(ConcurrentArguments.evaluate(executor, args));
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     default <V> FunctionN<V> andThen(final Function1<? super R, ? extends V> after) {
@@ -0,0 +1,279 @@
+/*
+ * Functionality
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.concurrent;
+
+import net.ashwork.functionality.Function1;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Represents a function that looks up the value of a key, where the keys requested
+ * by concurrent callers are collected into batches and looked up together by a
+ * single call to a bulk function. A batch is dispatched once it holds the maximum
+ * number of keys, once its first key has waited for the maximum delay, or when the
+ * loader is flushed or closed.
+ *
+ * <p>Equal keys requested within the same batch are looked up once and share the
+ * same result. Keys missing from the map returned by the bulk function resolve to
+ * {@code null}. If the bulk function throws, every key in the batch fails with
+ * that exception.
+ *
+ * <p>A full batch is looked up on the thread which requested its last key, while
+ * a batch dispatched by its delay is looked up on the scheduler. If the scheduler
+ * rejects the delayed dispatch, the batch is looked up on the thread which
+ * requested its first key instead. The delayed dispatch of a batch is cancelled
+ * once the batch is dispatched by size or by a flush. Results can be
+ * awaited with {@link #apply(Object)} or received asynchronously with
+ * {@link #load(Object)}.
+ *
+ * @param <K> the type of the key to look up
+ * @param <V> the type of the value of a key
+ *
+ * @see Function1
+ * @since 3.0.0
+ */
+public final class BatchLoader<K, V> implements Function1<K, V>, AutoCloseable {
+
+    private final Function1<? super Collection<K>, ? extends Map<K, ? extends V>> bulk;
+    private final int maxBatchSize;
+    private final long maxDelayNanos;
+    private final ScheduledExecutorService scheduler;
+    private final boolean ownsScheduler;
+    private final Object lock = new Object();
+    private Map<K, CompletableFuture<V>> batch = new LinkedHashMap<>();
+    private ScheduledFuture<?> timer;
+    private boolean closed;
+
+    private BatchLoader(final Function1<? super Collection<K>, ? extends Map<K, ? extends V>> bulk, final int maxBatchSize, final Duration maxDelay, final ScheduledExecutorService scheduler) {
+        if (maxBatchSize <= 0)
+            throw new IllegalArgumentException("The maximum batch size must be positive: " + maxBatchSize);
+        Objects.requireNonNull(maxDelay, "The maximum batch delay cannot be null.");
+        if (maxDelay.isNegative() || maxDelay.isZero())
+            throw new IllegalArgumentException("The maximum batch delay must be positive: " + maxDelay);
+        this.bulk = Objects.requireNonNull(bulk, "The bulk function cannot be null.");
+        this.maxBatchSize = maxBatchSize;
+        this.maxDelayNanos = maxDelay.toNanos();
+        this.ownsScheduler = scheduler == null;
+        this.scheduler = this.ownsScheduler ? createScheduler() : scheduler;
+    }
+
+    private static ScheduledExecutorService createScheduler() {
+        final ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+            final Thread thread = new Thread(runnable, "Batch Loader Dispatch");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // A cancelled dispatch would otherwise keep its batch reachable until its delay elapses
+        scheduler.setRemoveOnCancelPolicy(true);
+        return scheduler;
+    }
+
+    /**
+     * Creates a batch loader which dispatches delayed batches on a daemon thread
+     * owned by the loader, which is stopped when the loader is closed.
+     *
+     * @param bulk the function looking up the values of a batch of keys
+     * @param maxBatchSize the maximum number of keys in a single batch
+     * @param maxDelay the maximum time a key waits before its batch is dispatched
+     * @param <K> the type of the key to look up
+     * @param <V> the type of the value of a key
+     * @return a new batch loader
+     * @throws IllegalArgumentException if {@code maxBatchSize} or {@code maxDelay} is not positive
+     * @throws NullPointerException if {@code bulk} or {@code maxDelay} is null
+     */
+    public static <K, V> BatchLoader<K, V> of(final Function1<? super Collection<K>, ? extends Map<K, ? extends V>> bulk, final int maxBatchSize, final Duration maxDelay) {
+        return new BatchLoader<>(bulk, maxBatchSize, maxDelay, null);
+    }
+
+    /**
+     * Creates a batch loader which dispatches delayed batches on the given scheduler,
+     * which is not shut down when the loader is closed. A delayed dispatch cancelled
+     * by an earlier dispatch is only removed from the queue of the scheduler if it
+     * removes cancelled tasks, such as a {@link ScheduledThreadPoolExecutor} with
+     * {@link ScheduledThreadPoolExecutor#setRemoveOnCancelPolicy(boolean)} set.
+     *
+     * @param bulk the function looking up the values of a batch of keys
+     * @param maxBatchSize the maximum number of keys in a single batch
+     * @param maxDelay the maximum time a key waits before its batch is dispatched
+     * @param scheduler the scheduler to dispatch delayed batches on
+     * @param <K> the type of the key to look up
+     * @param <V> the type of the value of a key
+     * @return a new batch loader
+     * @throws IllegalArgumentException if {@code maxBatchSize} or {@code maxDelay} is not positive
+     * @throws NullPointerException if any argument other than {@code maxBatchSize} is null
+     */
+    public static <K, V> BatchLoader<K, V> of(final Function1<? super Collection<K>, ? extends Map<K, ? extends V>> bulk, final int maxBatchSize, final Duration maxDelay, final ScheduledExecutorService scheduler) {
+        return new BatchLoader<>(bulk, maxBatchSize, maxDelay, Objects.requireNonNull(scheduler, "The scheduler cannot be null."));
+    }
+
+    /**
+     * Requests the value of a key, adding it to the current batch unless an equal
+     * key is already part of it.
+     *
+     * @param key the key to look up
+     * @return a future completed with the value of the key once its batch is looked up
+     * @throws IllegalStateException if the loader has been closed
+     */
+    public CompletableFuture<V> load(final K key) {
+        final Map<K, CompletableFuture<V>> full;
+        Map<K, CompletableFuture<V>> started = null;
+        final CompletableFuture<V> result;
+        synchronized (this.lock) {
+            if (this.closed)
+                throw new IllegalStateException("The batch loader has been closed.");
+            final CompletableFuture<V> existing = this.batch.get(key);
+            if (existing != null)
+                return existing;
+            result = new CompletableFuture<>();
+            this.batch.put(key, result);
+            if (this.batch.size() >= this.maxBatchSize) {
+                full = this.batch;
+                this.batch = new LinkedHashMap<>();
+                this.disarm();
+            } else {
+                full = null;
+                if (this.batch.size() == 1)
+                    started = this.batch;
+            }
+        }
+        if (full != null)
+            this.dispatch(full);
+        else if (started != null)
+            this.schedule(started);
+        return result;
+    }
+
+    private void schedule(final Map<K, CompletableFuture<V>> batch) {
+        final ScheduledFuture<?> timer;
+        try {
+            timer = this.scheduler.schedule(() -> this.dispatchIfCurrent(batch), this.maxDelayNanos, TimeUnit.NANOSECONDS);
+        } catch (final RejectedExecutionException e) {
+            // Dispatch now rather than leave the keys of the batch waiting forever
+            this.dispatchIfCurrent(batch);
+            return;
+        }
+        synchronized (this.lock) {
+            // The batch may have been dispatched before the timer was stored
+            if (this.batch == batch) {
+                this.timer = timer;
+                return;
+            }
+        }
+        timer.cancel(false);
+    }
+
+    /**
+     * Cancels the delayed dispatch of the current batch, if any. Only called while holding {@link #lock}.
+     */
+    private void disarm() {
+        if (this.timer != null) {
+            this.timer.cancel(false);
+            this.timer = null;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Waits, without being interrupted, for the batch holding the key to be
+     * looked up. If the bulk function threw, the same exception is thrown here.
+     *
+     * @throws IllegalStateException if the loader has been closed
+     */
+    @Override
+    public V apply(final K key) {
+        try {
+            return this.load(key).join();
+        } catch (final CompletionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException)
+                throw (RuntimeException) cause;
+            if (cause instanceof Error)
+                throw (Error) cause;
+            throw e;
+        }
+    }
+
+    /**
+     * Dispatches the current batch on the calling thread, if it holds any keys.
+     */
+    public void flush() {
+        final Map<K, CompletableFuture<V>> current;
+        synchronized (this.lock) {
+            if (this.batch.isEmpty())
+                return;
+            current = this.batch;
+            this.batch = new LinkedHashMap<>();
+            this.disarm();
+        }
+        this.dispatch(current);
+    }
+
+    private void dispatchIfCurrent(final Map<K, CompletableFuture<V>> expected) {
+        synchronized (this.lock) {
+            // The batch may have already been dispatched by size or by a flush
+            if (this.batch != expected)
+                return;
+            this.batch = new LinkedHashMap<>();
+            this.timer = null;
+        }
+        this.dispatch(expected);
+    }
+
+    private void dispatch(final Map<K, CompletableFuture<V>> batch) {
+        final Map<K, ? extends V> values;
+        try {
+            values = Objects.requireNonNull(this.bulk.apply(Collections.unmodifiableSet(batch.keySet())), "The bulk function returned null.");
+        } catch (final Throwable t) {
+            for (final CompletableFuture<V> result : batch.values())
+                result.completeExceptionally(t);
+            return;
+        }
+        for (final Map.Entry<K, CompletableFuture<V>> entry : batch.entrySet()) {
+            try {
+                entry.getValue().complete(values.get(entry.getKey()));
+            } catch (final Throwable t) {
+                entry.getValue().completeExceptionally(t);
+            }
+        }
+    }
+
+    /**
+     * Dispatches the current batch and stops the loader from accepting any more
+     * keys. If the loader created its own scheduler, it is shut down. Closing an
+     * already closed loader has no effect.
+     */
+    @Override
+    public void close() {
+        synchronized (this.lock) {
+            if (this.closed)
+                return;
+            this.closed = true;
+        }
+        try {
+            this.flush();
+        } finally {
+            if (this.ownsScheduler)
+                this.scheduler.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Functionality
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.concurrent;
+
+import net.ashwork.functionality.Function0;
+
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Evaluates the arguments of a function concurrently. Each argument is computed by
+ * a supplier; the first runs on the calling thread while the others run on an
+ * {@link Executor}, so evaluating all of them takes as long as the slowest one.
+ *
+ * <p>Evaluation is structured: if a supplier fails, the suppliers still running are
+ * interrupted, and no method returns or throws until every supplier has finished.
+ * No supplier keeps running after the call that started it.
+ *
+ * @see net.ashwork.functionality.Function2#applyConcurrently(Function0, Function0, Executor)
+ * @see net.ashwork.functionality.FunctionN#applyAllConcurrently(Executor, Function0[])
+ * @since 3.0.0
+ */
+public final class ConcurrentArguments {
+
+    private ConcurrentArguments() {}
+
+    /**
+     * Evaluates every supplier concurrently and returns their results in order.
+     * If a supplier throws, the others are interrupted and the first exception is
+     * rethrown once all suppliers have finished.
+     *
+     * @param executor the executor to run all suppliers but the first on
+     * @param suppliers the suppliers computing each argument
+     * @return the results of the suppliers, in the same order
+     * @throws NullPointerException if {@code executor} or any supplier is null
+     * @throws CancellationException if the calling thread is interrupted while
+     *                               waiting, in which case the suppliers are
+     *                               interrupted and the interrupt status is kept
+     */
+    public static Object[] evaluate(final Executor executor, final Function0<?>... suppliers) {
+        Objects.requireNonNull(executor, "The executor cannot be null.");
+        final Evaluation evaluation = new Evaluation(suppliers.length);
+        for (int i = 0; i < suppliers.length; i++)
+            evaluation.tasks[i] = new Task(evaluation, i, Objects.requireNonNull(suppliers[i], "A supplier cannot be null."));
+        if (suppliers.length == 0)
+            return evaluation.results;
+
+        for (int i = 1; i < suppliers.length; i++) {
+            try {
+                executor.execute(evaluation.tasks[i]);
+            } catch (final RejectedExecutionException e) {
+                evaluation.tasks[i].run();
+            }
+        }
+        // The first supplier runs on the calling thread while the others are executing
+        evaluation.tasks[0].run();
+
+        boolean interrupted = false;
+        while (true) {
+            try {
+                evaluation.done.await();
+                break;
+            } catch (final InterruptedException e) {
+                if (!interrupted) {
+                    interrupted = true;
+                    evaluation.fail(new CancellationException("Interrupted while evaluating arguments."));
+                }
+            }
+        }
+        if (interrupted)
+            Thread.currentThread().interrupt();
+
+        final Throwable t = evaluation.failure.get();
+        if (t instanceof RuntimeException)
+            throw (RuntimeException) t;
+        if (t instanceof Error)
+            throw (Error) t;
+        if (t != null)
+            throw new IllegalStateException("An argument failed to evaluate.", t);
+        return evaluation.results;
+    }
+
+    /**
+     * The shared state of a single evaluation.
+     */
+    private static final class Evaluation {
+
+        private final Object[] results;
+        private final Task[] tasks;
+        private final CountDownLatch done;
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        private Evaluation(final int size) {
+            this.results = new Object[size];
+            this.tasks = new Task[size];
+            this.done = new CountDownLatch(size);
+        }
+
+        /**
+         * Records the first failure and interrupts every task still running.
+         *
+         * @param t the failure
+         */
+        private void fail(final Throwable t) {
+            if (this.failure.compareAndSet(null, t))
+                for (final Task task : this.tasks)
+                    task.cancel();
+        }
+    }
+
+    /**
+     * Evaluates a single supplier, tracking the thread running it so that it
+     * can be interrupted without affecting the thread once it has moved on.
+     */
+    private static final class Task implements Runnable {
+
+        private final Evaluation evaluation;
+        private final int index;
+        private final Function0<?> supplier;
+        private Thread runner;
+        private boolean finished;
+        private boolean interrupted;
+
+        private Task(final Evaluation evaluation, final int index, final Function0<?> supplier) {
+            this.evaluation = evaluation;
+            this.index = index;
+            this.supplier = supplier;
+        }
+
+        @Override
+        public void run() {
+            try {
+                synchronized (this) {
+                    if (this.finished)
+                        return;
+                    this.runner = Thread.currentThread();
+                }
+                try {
+                    this.evaluation.results[this.index] = this.supplier.apply();
+                } catch (final Throwable t) {
+                    this.evaluation.fail(t);
+                } finally {
+                    synchronized (this) {
+                        this.finished = true;
+                        this.runner = null;
+                        // Do not leak the interrupt used for cancellation to the next task on this thread
+                        if (this.interrupted)
+                            Thread.interrupted();
+                    }
+                }
+            } finally {
+                this.evaluation.done.countDown();
+            }
+        }
+
+        /**
+         * Interrupts the supplier if it is running, or prevents it from starting.
+         */
+        private synchronized void cancel() {
+            if (this.finished)
+                return;
+            if (this.runner == null)
+                this.finished = true;
+            else if (this.runner != Thread.currentThread()) {
+                this.interrupted = true;
+                this.runner.interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Functionality
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.concurrent;
+
+import net.ashwork.functionality.Function1;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Represents a function that accepts one argument and produces a result, where
+ * concurrent calls with equal arguments share a single call to the underlying
+ * function. The first caller for an argument computes the result while any caller
+ * arriving before it finishes waits for it, and all of them receive the same result
+ * or the same exception.
+ *
+ * <p>Looking up an in-flight call does not lock. A call is forgotten as soon as it
+ * completes, so no results are cached and the function holds no state while idle.
+ * Arguments are compared using {@link Object#equals(Object)}, and may be null.
+ *
+ * <p>The underlying function must not call this function with the same argument,
+ * as the caller would wait on itself.
+ *
+ * @param <T1> the type of the input to the function
+ * @param <R> the type of the result of the function
+ *
+ * @see Function1
+ * @since 3.0.0
+ */
+public final class SingleFlightFunction1<T1, R> implements Function1<T1, R> {
+
+    private static final Object NULL_KEY = new Object();
+
+    private final Function1<? super T1, ? extends R> function;
+    private final ConcurrentMap<Object, CompletableFuture<R>> calls = new ConcurrentHashMap<>();
+
+    private SingleFlightFunction1(final Function1<? super T1, ? extends R> function) {
+        this.function = Objects.requireNonNull(function, "The function cannot be null.");
+    }
+
+    /**
+     * Creates a single-flight function which coalesces concurrent calls to the
+     * given function.
+     *
+     * @param function the function to coalesce calls to
+     * @param <T1> the type of the input to the function
+     * @param <R> the type of the result of the function
+     * @return a new single-flight function
+     * @throws NullPointerException if {@code function} is null
+     */
+    public static <T1, R> SingleFlightFunction1<T1, R> of(final Function1<? super T1, ? extends R> function) {
+        return new SingleFlightFunction1<>(function);
+    }
+
+    /**
+     * Returns the number of arguments whose calls are currently in flight.
+     *
+     * @return the number of in-flight calls
+     */
+    public int inFlight() {
+        return this.calls.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>If a call with an equal argument is already in flight, this waits for its
+     * result instead of calling the underlying function. Waiting is not interrupted.
+     */
+    @Override
+    public R apply(final T1 t1) {
+        final Object key = t1 == null ? NULL_KEY : t1;
+        CompletableFuture<R> call = this.calls.get(key);
+        if (call == null) {
+            final CompletableFuture<R> created = new CompletableFuture<>();
+            call = this.calls.putIfAbsent(key, created);
+            if (call == null)
+                return this.lead(key, t1, created);
+        }
+        try {
+            return call.join();
+        } catch (final CompletionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException)
+                throw (RuntimeException) cause;
+            if (cause instanceof Error)
+                throw (Error) cause;
+            throw e;
+        }
+    }
+
+    private R lead(final Object key, final T1 t1, final CompletableFuture<R> call) {
+        try {
+            final R result = this.function.apply(t1);
+            call.complete(result);
+            return result;
+        } catch (final Throwable t) {
+            call.completeExceptionally(t);
+            throw t;
+        } finally {
+            this.calls.remove(key, call);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+/*
+ * Functionality
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+/**
+ * This package holds {@code Functions} which can be safely shared and called between threads,
+ * such as those which coalesce concurrent calls with the same arguments or collect the
+ * arguments of concurrent calls into batches, along with helpers which evaluate the
+ * arguments of a single call concurrently.
+ */
+package net.ashwork.functionality.concurrent;
\ No newline at end of file
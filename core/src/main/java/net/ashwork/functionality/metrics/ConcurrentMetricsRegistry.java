@@ -0,0 +1,46 @@
+/*
+ * Functionality
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The in-memory {@link MetricsRegistry} returned by {@link MetricsRegistry#create()}.
+ *
+ * @since 3.0.0
+ */
+final class ConcurrentMetricsRegistry implements MetricsRegistry {
+
+    private final int sampleInterval;
+    private final ConcurrentMap<String, InvocationMetrics> metrics;
+
+    ConcurrentMetricsRegistry(final int sampleInterval) {
+        this.sampleInterval = sampleInterval;
+        this.metrics = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public InvocationMetrics metrics(final String name) {
+        Objects.requireNonNull(name, "The name cannot be null.");
+        return this.metrics.computeIfAbsent(name, key -> InvocationMetrics.of(key, this.sampleInterval));
+    }
+
+    @Override
+    public List<InvocationMetrics.Snapshot> snapshot() {
+        final List<InvocationMetrics.Snapshot> snapshots = new ArrayList<>(this.metrics.size());
+        for (final InvocationMetrics metrics : this.metrics.values())
+            snapshots.add(metrics.snapshot());
+        return snapshots;
+    }
+}
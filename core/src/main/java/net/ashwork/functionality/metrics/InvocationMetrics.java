@@ -0,0 +1,192 @@
+/*
+ * Functionality
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.metrics;
+
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Represents the metrics of calls to a single named function: the number of
+ * calls, the number of those which threw, and a {@link LatencyHistogram} of their
+ * latencies. Calls and failures are counted in striped {@link LongAdder}s, so
+ * threads calling the same function do not contend on a single counter.
+ *
+ * <p>Latencies may be sampled: with a sample interval of {@code n}, the latency of
+ * roughly one in every {@code n} calls is recorded, chosen at random, while every
+ * call is still counted. Unsampled calls skip reading the clock entirely.
+ *
+ * <p>An instrumented function calls {@link #start()} before each call, then
+ * {@link #succeeded(long)} or {@link #failed(long)} with the returned value after it.
+ *
+ * @see MetricsRegistry
+ * @since 3.0.0
+ */
+public final class InvocationMetrics {
+
+    private static final long UNSAMPLED = Long.MIN_VALUE;
+
+    private final String name;
+    private final int sampleMask;
+    private final LongAdder calls;
+    private final LongAdder failures;
+    private final LatencyHistogram latencies;
+
+    private InvocationMetrics(final String name, final int sampleInterval) {
+        this.name = name;
+        this.sampleMask = sampleInterval - 1;
+        this.calls = new LongAdder();
+        this.failures = new LongAdder();
+        this.latencies = new LatencyHistogram();
+    }
+
+    /**
+     * Creates metrics which record the latency of every call.
+     *
+     * @param name the name of the instrumented function
+     * @return new metrics
+     * @throws NullPointerException if {@code name} is null
+     */
+    public static InvocationMetrics of(final String name) {
+        return of(name, 1);
+    }
+
+    /**
+     * Creates metrics which record the latency of roughly one in every
+     * {@code sampleInterval} calls.
+     *
+     * @param name the name of the instrumented function
+     * @param sampleInterval the average number of calls per recorded latency, which must be a power of two
+     * @return new metrics
+     * @throws IllegalArgumentException if {@code sampleInterval} is not a positive power of two
+     * @throws NullPointerException if {@code name} is null
+     */
+    public static InvocationMetrics of(final String name, final int sampleInterval) {
+        Objects.requireNonNull(name, "The name cannot be null.");
+        return new InvocationMetrics(name, checkSampleInterval(sampleInterval));
+    }
+
+    static int checkSampleInterval(final int sampleInterval) {
+        if (sampleInterval <= 0 || Integer.bitCount(sampleInterval) != 1)
+            throw new IllegalArgumentException("The sample interval must be a positive power of two: " + sampleInterval);
+        return sampleInterval;
+    }
+
+    /**
+     * Returns the name of the instrumented function.
+     *
+     * @return the name
+     */
+    public String name() {
+        return this.name;
+    }
+
+    /**
+     * Marks the start of a call.
+     *
+     * @return the value to pass to {@link #succeeded(long)} or {@link #failed(long)}
+     *         once the call has finished
+     */
+    public long start() {
+        if (this.sampleMask != 0 && (ThreadLocalRandom.current().nextInt() & this.sampleMask) != 0)
+            return UNSAMPLED;
+        return System.nanoTime();
+    }
+
+    /**
+     * Records a call which returned.
+     *
+     * @param start the value returned by {@link #start()}
+     */
+    public void succeeded(final long start) {
+        this.calls.increment();
+        if (start != UNSAMPLED)
+            this.latencies.record(System.nanoTime() - start);
+    }
+
+    /**
+     * Records a call which threw.
+     *
+     * @param start the value returned by {@link #start()}
+     */
+    public void failed(final long start) {
+        this.failures.increment();
+        this.succeeded(start);
+    }
+
+    /**
+     * Takes a snapshot of the metrics recorded so far.
+     *
+     * @return a snapshot of these metrics
+     */
+    public Snapshot snapshot() {
+        return new Snapshot(this.name, this.calls.sum(), this.failures.sum(), this.latencies.snapshot());
+    }
+
+    /**
+     * An immutable copy of the values of an {@link InvocationMetrics}.
+     */
+    public static final class Snapshot {
+
+        private final String name;
+        private final long calls;
+        private final long failures;
+        private final LatencyHistogram.Snapshot latencies;
+
+        private Snapshot(final String name, final long calls, final long failures, final LatencyHistogram.Snapshot latencies) {
+            this.name = name;
+            this.calls = calls;
+            this.failures = failures;
+            this.latencies = latencies;
+        }
+
+        /**
+         * Returns the name of the instrumented function.
+         *
+         * @return the name
+         */
+        public String name() {
+            return this.name;
+        }
+
+        /**
+         * Returns the number of calls, including those which threw.
+         *
+         * @return the number of calls
+         */
+        public long calls() {
+            return this.calls;
+        }
+
+        /**
+         * Returns the number of calls which threw.
+         *
+         * @return the number of failed calls
+         */
+        public long failures() {
+            return this.failures;
+        }
+
+        /**
+         * Returns the sampled latencies of the calls.
+         *
+         * @return the latency histogram
+         */
+        public LatencyHistogram.Snapshot latencies() {
+            return this.latencies;
+        }
+
+        @Override
+        public String toString() {
+            return this.name + "[calls=" + this.calls + ", failures=" + this.failures
+                    + ", p50=" + this.latencies.valueAtPercentile(0.5) + "ns, p99=" + this.latencies.valueAtPercentile(0.99) + "ns]";
+        }
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Functionality
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Represents a lock-free histogram of latencies in nanoseconds. Latencies below
+ * {@value #SUB_BUCKETS} are counted exactly; above that, each power of two is split
+ * into {@value #SUB_BUCKETS} linear buckets, so every recorded latency is reported
+ * to within about six percent of its true value across the entire {@code long} range.
+ *
+ * <p>Recording increments a single counter and never allocates or locks, so a
+ * histogram may be shared by any number of threads. A {@link Snapshot} copies the
+ * counters, so values recorded while it is taken may or may not be included.
+ *
+ * @since 3.0.0
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;
+    private static final int BUCKETS = (63 - SUB_BITS + 1) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts;
+
+    /**
+     * Constructs an empty histogram.
+     */
+    public LatencyHistogram() {
+        this.counts = new AtomicLongArray(BUCKETS);
+    }
+
+    /**
+     * Records a latency. Negative latencies are recorded as zero.
+     *
+     * @param nanos the latency in nanoseconds
+     */
+    public void record(final long nanos) {
+        this.counts.getAndIncrement(indexOf(Math.max(0L, nanos)));
+    }
+
+    /**
+     * Takes a snapshot of the latencies recorded so far.
+     *
+     * @return a snapshot of this histogram
+     */
+    public Snapshot snapshot() {
+        final long[] counts = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++)
+            total += counts[i] = this.counts.get(i);
+        return new Snapshot(counts, total);
+    }
+
+    static int indexOf(final long nanos) {
+        if (nanos < SUB_BUCKETS)
+            return (int) nanos;
+        final int exponent = 63 - Long.numberOfLeadingZeros(nanos);
+        return (exponent - SUB_BITS + 1) * SUB_BUCKETS + (int) ((nanos >>> (exponent - SUB_BITS)) & (SUB_BUCKETS - 1));
+    }
+
+    static long lowerBoundOf(final int index) {
+        if (index < SUB_BUCKETS)
+            return index;
+        final int exponent = index / SUB_BUCKETS + SUB_BITS - 1;
+        return (long) (SUB_BUCKETS + index % SUB_BUCKETS) << (exponent - SUB_BITS);
+    }
+
+    /**
+     * An immutable copy of the counts of a {@link LatencyHistogram}.
+     */
+    public static final class Snapshot {
+
+        private final long[] counts;
+        private final long count;
+
+        private Snapshot(final long[] counts, final long count) {
+            this.counts = counts;
+            this.count = count;
+        }
+
+        /**
+         * Returns the number of latencies recorded.
+         *
+         * @return the number of latencies
+         */
+        public long count() {
+            return this.count;
+        }
+
+        /**
+         * Returns the latency at or below which the given percentile of the
+         * recorded latencies fall, rounded down to the start of its bucket.
+         *
+         * @param percentile the percentile to look up, such as {@code 0.99}
+         * @return the latency in nanoseconds, or zero if none were recorded
+         * @throws IllegalArgumentException if {@code percentile} is not between zero and one inclusive
+         */
+        public long valueAtPercentile(final double percentile) {
+            if (!(percentile >= 0 && percentile <= 1))
+                throw new IllegalArgumentException("The percentile must be between 0 and 1 inclusive: " + percentile);
+            if (this.count == 0)
+                return 0L;
+            final long rank = Math.max(1L, (long) Math.ceil(percentile * this.count));
+            long seen = 0;
+            for (int i = 0; i < this.counts.length; i++) {
+                seen += this.counts[i];
+                if (seen >= rank)
+                    return lowerBoundOf(i);
+            }
+            return lowerBoundOf(this.counts.length - 1);
+        }
+
+        /**
+         * Returns the largest latency recorded, rounded down to the start of its bucket.
+         *
+         * @return the largest latency in nanoseconds, or zero if none were recorded
+         */
+        public long max() {
+            for (int i = this.counts.length - 1; i >= 0; i--)
+                if (this.counts[i] != 0)
+                    return lowerBoundOf(i);
+            return 0L;
+        }
+
+        /**
+         * Returns the mean of the recorded latencies, taking each to be the start of its bucket.
+         *
+         * @return the mean latency in nanoseconds, or zero if none were recorded
+         */
+        public double mean() {
+            if (this.count == 0)
+                return 0;
+            double sum = 0;
+            for (int i = 0; i < this.counts.length; i++)
+                if (this.counts[i] != 0)
+                    sum += (double) this.counts[i] * lowerBoundOf(i);
+            return sum / this.count;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Functionality
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.metrics;
+
+import java.util.List;
+
+/**
+ * Represents where instrumented functions record their metrics. A registry hands
+ * out one {@link InvocationMetrics} per name, so every function instrumented under
+ * the same name records into the same metrics.
+ *
+ * <p>This is the extension point for exporting metrics: an implementation may
+ * create the metrics with its own sample interval and publish their snapshots to
+ * any monitoring system. {@link #create()} returns an in-memory implementation.
+ *
+ * @see InvocationMetrics
+ * @since 3.0.0
+ */
+public interface MetricsRegistry {
+
+    /**
+     * Returns the metrics for the given name, creating them if necessary. This is
+     * called once when a function is instrumented, not on every call.
+     *
+     * @param name the name of the instrumented function
+     * @return the metrics for the name
+     */
+    InvocationMetrics metrics(final String name);
+
+    /**
+     * Takes a snapshot of every metric in this registry.
+     *
+     * @return the snapshots of the metrics
+     */
+    List<InvocationMetrics.Snapshot> snapshot();
+
+    /**
+     * Creates an in-memory registry which records the latency of every call.
+     *
+     * @return a new registry
+     */
+    static MetricsRegistry create() {
+        return new ConcurrentMetricsRegistry(1);
+    }
+
+    /**
+     * Creates an in-memory registry which records the latency of roughly one in
+     * every {@code sampleInterval} calls.
+     *
+     * @param sampleInterval the average number of calls per recorded latency, which must be a power of two
+     * @return a new registry
+     * @throws IllegalArgumentException if {@code sampleInterval} is not a positive power of two
+     */
+    static MetricsRegistry create(final int sampleInterval) {
+        return new ConcurrentMetricsRegistry(InvocationMetrics.checkSampleInterval(sampleInterval));
+    }
+}
@@ -0,0 +1,21 @@
+/*
+ * Functionality
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+/**
+ * This package holds the metrics recorded by instrumented {@code Functions}, such as the number
+ * of calls, the number of failures, and a histogram of their latencies, along with the registry
+ * through which they are created and exported.
+ *
+ * <p>Functions, consumers, and predicates of up to two arguments can be instrumented,
+ * as can the single-argument {@code int}, {@code long}, and {@code double} functions and
+ * operators, in both their plain and throwing forms. The other arities and primitives
+ * can be instrumented by adapting them into one of these first.
+ */
+
+package net.ashwork.functionality.metrics;
\ No newline at end of file
@@ -0,0 +1,70 @@
+/*
+ * Functionality
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.primitive.booleans;
+
+import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.Function2;
+import net.ashwork.functionality.FunctionN;
+import net.ashwork.functionality.partial.UnboxedInput;
+
+/**
+ * Represents a function that accepts two {@code boolean}-valued arguments and produces a result.
+ * This is the two-arity specialization of {@link FunctionN}.
+ * This is the {@code boolean}-consuming primitive specialization of {@link Function2}.
+ *
+ * <p>This is a functional interface whose functional method is {@link #apply(boolean, boolean)}.
+ *
+ * @param <R> the type of the result of the function
+ *
+ * @see Function2
+ * @see FunctionN
+ * @since 3.0.0
+ */
+@FunctionalInterface
+public interface BooleanFunction2<R> extends FunctionN<R>, UnboxedInput<Function2<Boolean, Boolean, R>> {
+
+    /**
+     * Applies this function to the given arguments.
+     *
+     * @param value1 the first function argument
+     * @param value2 the second function argument
+     * @return the function result
+     */
+    R apply(final boolean value1, final boolean value2);
+
+    @Override
+    default R applyAllUnchecked(final Object... args) {
+        return this.apply((boolean) args[0], (boolean) args[1]);
+    }
+
+    @Override
+    default int arity() {
+        return 2;
+    }
+
+    /**
+     * @see Function2
+     */
+    @Override
+    default Function2<Boolean, Boolean, R> boxInput() {
+        return this::apply;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    default <V> BooleanFunction2<V> andThen(final Function1<? super R, ? extends V> after) {
+        return (BooleanFunction2<V>) FunctionN.super.andThen(after);
+    }
+
+    @Override
+    default <V> BooleanFunction2<V> andThenUnchecked(final Function1<? super R, ? extends V> after) {
+        return (final boolean value1, final boolean value2) -> after.apply(this.apply(value1, value2));
+    }
+}
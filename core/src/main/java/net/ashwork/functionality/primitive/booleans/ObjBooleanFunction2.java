@@ -0,0 +1,72 @@
+/*
+ * Functionality
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.primitive.booleans;
+
+import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.Function2;
+import net.ashwork.functionality.FunctionN;
+import net.ashwork.functionality.partial.UnboxedInput;
+
+/**
+ * Represents a function that accepts an object-valued argument and a {@code boolean}-valued argument and produces a result.
+ * This is the two-arity specialization of {@link FunctionN}.
+ * This is the {@code boolean}-consuming primitive specialization of {@link Function2}.
+ *
+ * <p>This is a functional interface whose functional method is {@link #apply(Object, boolean)}.
+ *
+ * @param <T1> the type of the first argument to the function
+ * @param <R> the type of the result of the function
+ *
+ * @see Function2
+ * @see FunctionN
+ * @since 3.0.0
+ */
+@FunctionalInterface
+public interface ObjBooleanFunction2<T1, R> extends FunctionN<R>, UnboxedInput<Function2<T1, Boolean, R>> {
+
+    /**
+     * Applies this function to the given arguments.
+     *
+     * @param t1 the first function argument
+     * @param value the second function argument
+     * @return the function result
+     */
+    R apply(final T1 t1, final boolean value);
+
+    @SuppressWarnings("unchecked")
+    @Override
+    default R applyAllUnchecked(final Object... args) {
+        return this.apply((T1) args[0], (boolean) args[1]);
+    }
+
+    @Override
+    default int arity() {
+        return 2;
+    }
+
+    /**
+     * @see Function2
+     */
+    @Override
+    default Function2<T1, Boolean, R> boxInput() {
+        return this::apply;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    default <V> ObjBooleanFunction2<T1, V> andThen(final Function1<? super R, ? extends V> after) {
+        return (ObjBooleanFunction2<T1, V>) FunctionN.super.andThen(after);
+    }
+
+    @Override
+    default <V> ObjBooleanFunction2<T1, V> andThenUnchecked(final Function1<? super R, ? extends V> after) {
+        return (final T1 t1, final boolean value) -> after.apply(this.apply(t1, value));
+    }
+}
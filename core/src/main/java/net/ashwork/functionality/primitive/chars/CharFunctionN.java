@@ -0,0 +1,104 @@
+/*
+ * Functionality
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.primitive.chars;
+
+import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.FunctionN;
+
+/**
+ * Represents a function that accepts {@code n} {@code char}-valued arguments and produces a result.
+ * This is the {@code char}-consuming primitive specialization for {@link FunctionN}.
+ * The arguments are passed within a {@code char} array such that they are never boxed.
+ *
+ * <p>This is a functional interface whose functional method is {@link #applyAll(char...)}.
+ *
+ * @param <R> the type of the result of the function
+ *
+ * @see FunctionN
+ * @since 3.0.0
+ */
+@FunctionalInterface
+public interface CharFunctionN<R> extends FunctionN<R> {
+
+    /**
+     * Applies this function to the given arguments. Makes no assumptions
+     * of the arguments passed in and whether a value will compute
+     * successfully.
+     *
+     * @param values the function arguments
+     * @return the function result
+     */
+    R applyAll(final char... values);
+
+    @Override
+    default R applyAllUnchecked(final Object... args) {
+        final char[] values = new char[args.length];
+        for (int i = 0; i < args.length; i++)
+            values[i] = (char) args[i];
+        return this.applyAll(values);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    default <V> CharFunctionN<V> andThen(final Function1<? super R, ? extends V> after) {
+        return (CharFunctionN<V>) FunctionN.super.andThen(after);
+    }
+
+    @Override
+    default <V> CharFunctionN<V> andThenUnchecked(final Function1<? super R, ? extends V> after) {
+        return (final char[] values) -> after.apply(this.applyAll(values));
+    }
+
+    /**
+     * An instance of {@link CharFunctionN} which properly defines the
+     * arity of that particular function.
+     *
+     * @param <R> the type of the result of the function
+     *
+     * @see CharFunctionN
+     */
+    class Instance<R> implements CharFunctionN<R> {
+
+        private final int arity;
+        private final Function1<char[], R> function;
+
+        /**
+         * Constructs an instance of the function.
+         *
+         * @param arity the number of arguments of the function
+         * @param function the function to be applied
+         */
+        public Instance(final int arity, final Function1<char[], R> function) {
+            this.arity = arity;
+            this.function = function;
+        }
+
+        @Override
+        public int arity() {
+            return this.arity;
+        }
+
+        @Override
+        public R applyAll(final char... values) {
+            return this.function.apply(values);
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public <V> Instance<V> andThen(final Function1<? super R, ? extends V> after) {
+            return (Instance<V>) CharFunctionN.super.andThen(after);
+        }
+
+        @Override
+        public <V> Instance<V> andThenUnchecked(final Function1<? super R, ? extends V> after) {
+            return new Instance<>(this.arity(), (final char[] values) -> after.apply(this.function.apply(values)));
+        }
+    }
+}
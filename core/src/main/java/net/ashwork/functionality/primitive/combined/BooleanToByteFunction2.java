@@ -0,0 +1,94 @@
+/*
+ * Functionality
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.primitive.combined;
+
+import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.Function2;
+import net.ashwork.functionality.partial.UnboxedAll;
+import net.ashwork.functionality.primitive.booleans.BooleanFunction2;
+import net.ashwork.functionality.primitive.bytes.ToByteFunction2;
+import net.ashwork.functionality.primitive.bytes.ToByteFunctionN;
+
+/**
+ * Represents a function that accepts two {@code boolean}-valued arguments and produces a {@code byte}-valued result.
+ * This is the two-arity specialization of {@link ToByteFunctionN}.
+ * This is the {@code boolean}-consuming primitive specialization of {@link ToByteFunction2}.
+ * This is the {@code byte}-producing primitive specialization of {@link BooleanFunction2}.
+ *
+ * <p>This is a functional interface whose functional method is {@link #applyAsByte(boolean, boolean)}.
+ *
+ * @see BooleanFunction2
+ * @see ToByteFunction2
+ * @see ToByteFunctionN
+ * @since 3.0.0
+ */
+@FunctionalInterface
+public interface BooleanToByteFunction2 extends ToByteFunctionN, UnboxedAll<Function2<Boolean, Boolean, Byte>, ToByteFunction2<Boolean, Boolean>, BooleanFunction2<Byte>> {
+
+    /**
+     * Applies this function to the given arguments.
+     *
+     * @param value1 the first function argument
+     * @param value2 the second function argument
+     * @return the function result
+     */
+    byte applyAsByte(final boolean value1, final boolean value2);
+
+    @Override
+    default byte applyAllAsByteUnchecked(final Object... args) {
+        return this.applyAsByte((boolean) args[0], (boolean) args[1]);
+    }
+
+    @Override
+    default int arity() {
+        return 2;
+    }
+
+    /**
+     * @see Function2
+     */
+    @Override
+    default Function2<Boolean, Boolean, Byte> box() {
+        return this::applyAsByte;
+    }
+
+    /**
+     * @see ToByteFunction2
+     */
+    @Override
+    default ToByteFunction2<Boolean, Boolean> boxInput() {
+        return this::applyAsByte;
+    }
+
+    /**
+     * @see BooleanFunction2
+     */
+    @Override
+    default BooleanFunction2<Byte> boxResult() {
+        return this::applyAsByte;
+    }
+
+    /**
+     * @see BooleanFunction2
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    default <V> BooleanFunction2<V> andThen(final Function1<? super Byte, ? extends V> after) {
+        return (BooleanFunction2<V>) ToByteFunctionN.super.andThen(after);
+    }
+
+    /**
+     * @see BooleanFunction2
+     */
+    @Override
+    default <V> BooleanFunction2<V> andThenUnchecked(final Function1<? super Byte, ? extends V> after) {
+        return (final boolean value1, final boolean value2) -> after.apply(this.applyAsByte(value1, value2));
+    }
+}
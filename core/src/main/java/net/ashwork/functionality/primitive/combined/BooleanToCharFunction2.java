@@ -0,0 +1,94 @@
+/*
+ * Functionality
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.primitive.combined;
+
+import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.Function2;
+import net.ashwork.functionality.partial.UnboxedAll;
+import net.ashwork.functionality.primitive.booleans.BooleanFunction2;
+import net.ashwork.functionality.primitive.chars.ToCharFunction2;
+import net.ashwork.functionality.primitive.chars.ToCharFunctionN;
+
+/**
+ * Represents a function that accepts two {@code boolean}-valued arguments and produces a {@code char}-valued result.
+ * This is the two-arity specialization of {@link ToCharFunctionN}.
+ * This is the {@code boolean}-consuming primitive specialization of {@link ToCharFunction2}.
+ * This is the {@code char}-producing primitive specialization of {@link BooleanFunction2}.
+ *
+ * <p>This is a functional interface whose functional method is {@link #applyAsChar(boolean, boolean)}.
+ *
+ * @see BooleanFunction2
+ * @see ToCharFunction2
+ * @see ToCharFunctionN
+ * @since 3.0.0
+ */
+@FunctionalInterface
+public interface BooleanToCharFunction2 extends ToCharFunctionN, UnboxedAll<Function2<Boolean, Boolean, Character>, ToCharFunction2<Boolean, Boolean>, BooleanFunction2<Character>> {
+
+    /**
+     * Applies this function to the given arguments.
+     *
+     * @param value1 the first function argument
+     * @param value2 the second function argument
+     * @return the function result
+     */
+    char applyAsChar(final boolean value1, final boolean value2);
+
+    @Override
+    default char applyAllAsCharUnchecked(final Object... args) {
+        return this.applyAsChar((boolean) args[0], (boolean) args[1]);
+    }
+
+    @Override
+    default int arity() {
+        return 2;
+    }
+
+    /**
+     * @see Function2
+     */
+    @Override
+    default Function2<Boolean, Boolean, Character> box() {
+        return this::applyAsChar;
+    }
+
+    /**
+     * @see ToCharFunction2
+     */
+    @Override
+    default ToCharFunction2<Boolean, Boolean> boxInput() {
+        return this::applyAsChar;
+    }
+
+    /**
+     * @see BooleanFunction2
+     */
+    @Override
+    default BooleanFunction2<Character> boxResult() {
+        return this::applyAsChar;
+    }
+
+    /**
+     * @see BooleanFunction2
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    default <V> BooleanFunction2<V> andThen(final Function1<? super Character, ? extends V> after) {
+        return (BooleanFunction2<V>) ToCharFunctionN.super.andThen(after);
+    }
+
+    /**
+     * @see BooleanFunction2
+     */
+    @Override
+    default <V> BooleanFunction2<V> andThenUnchecked(final Function1<? super Character, ? extends V> after) {
+        return (final boolean value1, final boolean value2) -> after.apply(this.applyAsChar(value1, value2));
+    }
+}
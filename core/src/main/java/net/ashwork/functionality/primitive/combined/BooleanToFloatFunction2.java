@@ -0,0 +1,94 @@
+/*
+ * Functionality
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.primitive.combined;
+
+import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.Function2;
+import net.ashwork.functionality.partial.UnboxedAll;
+import net.ashwork.functionality.primitive.booleans.BooleanFunction2;
+import net.ashwork.functionality.primitive.floats.ToFloatFunction2;
+import net.ashwork.functionality.primitive.floats.ToFloatFunctionN;
+
+/**
+ * Represents a function that accepts two {@code boolean}-valued arguments and produces a {@code float}-valued result.
+ * This is the two-arity specialization of {@link ToFloatFunctionN}.
+ * This is the {@code boolean}-consuming primitive specialization of {@link ToFloatFunction2}.
+ * This is the {@code float}-producing primitive specialization of {@link BooleanFunction2}.
+ *
+ * <p>This is a functional interface whose functional method is {@link #applyAsFloat(boolean, boolean)}.
+ *
+ * @see BooleanFunction2
+ * @see ToFloatFunction2
+ * @see ToFloatFunctionN
+ * @since 3.0.0
+ */
+@FunctionalInterface
+public interface BooleanToFloatFunction2 extends ToFloatFunctionN, UnboxedAll<Function2<Boolean, Boolean, Float>, ToFloatFunction2<Boolean, Boolean>, BooleanFunction2<Float>> {
+
+    /**
+     * Applies this function to the given arguments.
+     *
+     * @param value1 the first function argument
+     * @param value2 the second function argument
+     * @return the function result
+     */
+    float applyAsFloat(final boolean value1, final boolean value2);
+
+    @Override
+    default float applyAllAsFloatUnchecked(final Object... args) {
+        return this.applyAsFloat((boolean) args[0], (boolean) args[1]);
+    }
+
+    @Override
+    default int arity() {
+        return 2;
+    }
+
+    /**
+     * @see Function2
+     */
+    @Override
+    default Function2<Boolean, Boolean, Float> box() {
+        return this::applyAsFloat;
+    }
+
+    /**
+     * @see ToFloatFunction2
+     */
+    @Override
+    default ToFloatFunction2<Boolean, Boolean> boxInput() {
+        return this::applyAsFloat;
+    }
+
+    /**
+     * @see BooleanFunction2
+     */
+    @Override
+    default BooleanFunction2<Float> boxResult() {
+        return this::applyAsFloat;
+    }
+
+    /**
+     * @see BooleanFunction2
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    default <V> BooleanFunction2<V> andThen(final Function1<? super Float, ? extends V> after) {
+        return (BooleanFunction2<V>) ToFloatFunctionN.super.andThen(after);
+    }
+
+    /**
+     * @see BooleanFunction2
+     */
+    @Override
+    default <V> BooleanFunction2<V> andThenUnchecked(final Function1<? super Float, ? extends V> after) {
+        return (final boolean value1, final boolean value2) -> after.apply(this.applyAsFloat(value1, value2));
+    }
+}
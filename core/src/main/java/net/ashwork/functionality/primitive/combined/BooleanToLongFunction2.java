@@ -0,0 +1,94 @@
+/*
+ * Functionality
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.primitive.combined;
+
+import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.Function2;
+import net.ashwork.functionality.partial.UnboxedAll;
+import net.ashwork.functionality.primitive.booleans.BooleanFunction2;
+import net.ashwork.functionality.primitive.longs.ToLongFunction2;
+import net.ashwork.functionality.primitive.longs.ToLongFunctionN;
+
+/**
+ * Represents a function that accepts two {@code boolean}-valued arguments and produces a {@code long}-valued result.
+ * This is the two-arity specialization of {@link ToLongFunctionN}.
+ * This is the {@code boolean}-consuming primitive specialization of {@link ToLongFunction2}.
+ * This is the {@code long}-producing primitive specialization of {@link BooleanFunction2}.
+ *
+ * <p>This is a functional interface whose functional method is {@link #applyAsLong(boolean, boolean)}.
+ *
+ * @see BooleanFunction2
+ * @see ToLongFunction2
+ * @see ToLongFunctionN
+ * @since 3.0.0
+ */
+@FunctionalInterface
+public interface BooleanToLongFunction2 extends ToLongFunctionN, UnboxedAll<Function2<Boolean, Boolean, Long>, ToLongFunction2<Boolean, Boolean>, BooleanFunction2<Long>> {
+
+    /**
+     * Applies this function to the given arguments.
+     *
+     * @param value1 the first function argument
+     * @param value2 the second function argument
+     * @return the function result
+     */
+    long applyAsLong(final boolean value1, final boolean value2);
+
+    @Override
+    default long applyAllAsLongUnchecked(final Object... args) {
+        return this.applyAsLong((boolean) args[0], (boolean) args[1]);
+    }
+
+    @Override
+    default int arity() {
+        return 2;
+    }
+
+    /**
+     * @see Function2
+     */
+    @Override
+    default Function2<Boolean, Boolean, Long> box() {
+        return this::applyAsLong;
+    }
+
+    /**
+     * @see ToLongFunction2
+     */
+    @Override
+    default ToLongFunction2<Boolean, Boolean> boxInput() {
+        return this::applyAsLong;
+    }
+
+    /**
+     * @see BooleanFunction2
+     */
+    @Override
+    default BooleanFunction2<Long> boxResult() {
+        return this::applyAsLong;
+    }
+
+    /**
+     * @see BooleanFunction2
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    default <V> BooleanFunction2<V> andThen(final Function1<? super Long, ? extends V> after) {
+        return (BooleanFunction2<V>) ToLongFunctionN.super.andThen(after);
+    }
+
+    /**
+     * @see BooleanFunction2
+     */
+    @Override
+    default <V> BooleanFunction2<V> andThenUnchecked(final Function1<? super Long, ? extends V> after) {
+        return (final boolean value1, final boolean value2) -> after.apply(this.applyAsLong(value1, value2));
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Functionality
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.primitive.combined;
+
+import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.Function2;
+import net.ashwork.functionality.partial.UnboxedAll;
+import net.ashwork.functionality.primitive.booleans.BooleanFunction2;
+import net.ashwork.functionality.primitive.shorts.ToShortFunction2;
+import net.ashwork.functionality.primitive.shorts.ToShortFunctionN;
+
+/**
+ * Represents a function that accepts two {@code boolean}-valued arguments and produces a {@code short}-valued result.
+ * This is the two-arity specialization of {@link ToShortFunctionN}.
+ * This is the {@code boolean}-consuming primitive specialization of {@link ToShortFunction2}.
+ * This is the {@code short}-producing primitive specialization of {@link BooleanFunction2}.
+ *
+ * <p>This is a functional interface whose functional method is {@link #applyAsShort(boolean, boolean)}.
+ *
+ * @see BooleanFunction2
+ * @see ToShortFunction2
+ * @see ToShortFunctionN
+ * @since 3.0.0
+ */
+@FunctionalInterface
+public interface BooleanToShortFunction2 extends ToShortFunctionN, UnboxedAll<Function2<Boolean, Boolean, Short>, ToShortFunction2<Boolean, Boolean>, BooleanFunction2<Short>> {
+
+    /**
+     * Applies this function to the given arguments.
+     *
+     * @param value1 the first function argument
+     * @param value2 the second function argument
+     * @return the function result
+     */
+    short applyAsShort(final boolean value1, final boolean value2);
+
+    @Override
+    default short applyAllAsShortUnchecked(final Object... args) {
+        return this.applyAsShort((boolean) args[0], (boolean) args[1]);
+    }
+
+    @Override
+    default int arity() {
+        return 2;
+    }
+
+    /**
+     * @see Function2
+     */
+    @Override
+    default Function2<Boolean, Boolean, Short> box() {
+        return this::applyAsShort;
+    }
+
+    /**
+     * @see ToShortFunction2
+     */
+    @Override
+    default ToShortFunction2<Boolean, Boolean> boxInput() {
+        return this::applyAsShort;
+    }
+
+    /**
+     * @see BooleanFunction2
+     */
+    @Override
+    default BooleanFunction2<Short> boxResult() {
+        return this::applyAsShort;
+    }
+
+    /**
+     * @see BooleanFunction2
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    default <V> BooleanFunction2<V> andThen(final Function1<? super Short, ? extends V> after) {
+        return (BooleanFunction2<V>) ToShortFunctionN.super.andThen(after);
+    }
+
+    /**
+     * @see BooleanFunction2
+     */
+    @Override
+    default <V> BooleanFunction2<V> andThenUnchecked(final Function1<? super Short, ? extends V> after) {
+        return (final boolean value1, final boolean value2) -> after.apply(this.applyAsShort(value1, value2));
+    }
+}
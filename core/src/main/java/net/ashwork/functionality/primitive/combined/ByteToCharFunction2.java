@@ -0,0 +1,94 @@
+/*
+ * Functionality
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.primitive.combined;
+
+import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.Function2;
+import net.ashwork.functionality.partial.UnboxedAll;
+import net.ashwork.functionality.primitive.bytes.ByteFunction2;
+import net.ashwork.functionality.primitive.chars.ToCharFunction2;
+import net.ashwork.functionality.primitive.chars.ToCharFunctionN;
+
+/**
+ * Represents a function that accepts two {@code byte}-valued arguments and produces a {@code char}-valued result.
+ * This is the two-arity specialization of {@link ToCharFunctionN}.
+ * This is the {@code byte}-consuming primitive specialization of {@link ToCharFunction2}.
+ * This is the {@code char}-producing primitive specialization of {@link ByteFunction2}.
+ *
+ * <p>This is a functional interface whose functional method is {@link #applyAsChar(byte, byte)}.
+ *
+ * @see ByteFunction2
+ * @see ToCharFunction2
+ * @see ToCharFunctionN
+ * @since 3.0.0
+ */
+@FunctionalInterface
+public interface ByteToCharFunction2 extends ToCharFunctionN, UnboxedAll<Function2<Byte, Byte, Character>, ToCharFunction2<Byte, Byte>, ByteFunction2<Character>> {
+
+    /**
+     * Applies this function to the given arguments.
+     *
+     * @param value1 the first function argument
+     * @param value2 the second function argument
+     * @return the function result
+     */
+    char applyAsChar(final byte value1, final byte value2);
+
+    @Override
+    default char applyAllAsCharUnchecked(final Object... args) {
+        return this.applyAsChar((byte) args[0], (byte) args[1]);
+    }
+
+    @Override
+    default int arity() {
+        return 2;
+    }
+
+    /**
+     * @see Function2
+     */
+    @Override
+    default Function2<Byte, Byte, Character> box() {
+        return this::applyAsChar;
+    }
+
+    /**
+     * @see ToCharFunction2
+     */
+    @Override
+    default ToCharFunction2<Byte, Byte> boxInput() {
+        return this::applyAsChar;
+    }
+
+    /**
+     * @see ByteFunction2
+     */
+    @Override
+    default ByteFunction2<Character> boxResult() {
+        return this::applyAsChar;
+    }
+
+    /**
+     * @see ByteFunction2
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    default <V> ByteFunction2<V> andThen(final Function1<? super Character, ? extends V> after) {
+        return (ByteFunction2<V>) ToCharFunctionN.super.andThen(after);
+    }
+
+    /**
+     * @see ByteFunction2
+     */
+    @Override
+    default <V> ByteFunction2<V> andThenUnchecked(final Function1<? super Character, ? extends V> after) {
+        return (final byte value1, final byte value2) -> after.apply(this.applyAsChar(value1, value2));
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Functionality
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.primitive.combined;
+
+import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.Function2;
+import net.ashwork.functionality.partial.UnboxedAll;
+import net.ashwork.functionality.primitive.bytes.ByteFunction2;
+import net.ashwork.functionality.primitive.shorts.ToShortFunction2;
+import net.ashwork.functionality.primitive.shorts.ToShortFunctionN;
+
+/**
+ * Represents a function that accepts two {@code byte}-valued arguments and produces a {@code short}-valued result.
+ * This is the two-arity specialization of {@link ToShortFunctionN}.
+ * This is the {@code byte}-consuming primitive specialization of {@link ToShortFunction2}.
+ * This is the {@code short}-producing primitive specialization of {@link ByteFunction2}.
+ *
+ * <p>This is a functional interface whose functional method is {@link #applyAsShort(byte, byte)}.
+ *
+ * @see ByteFunction2
+ * @see ToShortFunction2
+ * @see ToShortFunctionN
+ * @since 3.0.0
+ */
+@FunctionalInterface
+public interface ByteToShortFunction2 extends ToShortFunctionN, UnboxedAll<Function2<Byte, Byte, Short>, ToShortFunction2<Byte, Byte>, ByteFunction2<Short>> {
+
+    /**
+     * Applies this function to the given arguments.
+     *
+     * @param value1 the first function argument
+     * @param value2 the second function argument
+     * @return the function result
+     */
+    short applyAsShort(final byte value1, final byte value2);
+
+    @Override
+    default short applyAllAsShortUnchecked(final Object... args) {
+        return this.applyAsShort((byte) args[0], (byte) args[1]);
+    }
+
+    @Override
+    default int arity() {
+        return 2;
+    }
+
+    /**
+     * @see Function2
+     */
+    @Override
+    default Function2<Byte, Byte, Short> box() {
+        return this::applyAsShort;
+    }
+
+    /**
+     * @see ToShortFunction2
+     */
+    @Override
+    default ToShortFunction2<Byte, Byte> boxInput() {
+        return this::applyAsShort;
+    }
+
+    /**
+     * @see ByteFunction2
+     */
+    @Override
+    default ByteFunction2<Short> boxResult() {
+        return this::applyAsShort;
+    }
+
+    /**
+     * @see ByteFunction2
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    default <V> ByteFunction2<V> andThen(final Function1<? super Short, ? extends V> after) {
+        return (ByteFunction2<V>) ToShortFunctionN.super.andThen(after);
+    }
+
+    /**
+     * @see ByteFunction2
+     */
+    @Override
+    default <V> ByteFunction2<V> andThenUnchecked(final Function1<? super Short, ? extends V> after) {
+        return (final byte value1, final byte value2) -> after.apply(this.applyAsShort(value1, value2));
+    }
+}
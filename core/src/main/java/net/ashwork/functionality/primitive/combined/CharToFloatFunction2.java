@@ -0,0 +1,94 @@
+/*
+ * Functionality
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.primitive.combined;
+
+import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.Function2;
+import net.ashwork.functionality.partial.UnboxedAll;
+import net.ashwork.functionality.primitive.chars.CharFunction2;
+import net.ashwork.functionality.primitive.floats.ToFloatFunction2;
+import net.ashwork.functionality.primitive.floats.ToFloatFunctionN;
+
+/**
+ * Represents a function that accepts two {@code char}-valued arguments and produces a {@code float}-valued result.
+ * This is the two-arity specialization of {@link ToFloatFunctionN}.
+ * This is the {@code char}-consuming primitive specialization of {@link ToFloatFunction2}.
+ * This is the {@code float}-producing primitive specialization of {@link CharFunction2}.
+ *
+ * <p>This is a functional interface whose functional method is {@link #applyAsFloat(char, char)}.
+ *
+ * @see CharFunction2
+ * @see ToFloatFunction2
+ * @see ToFloatFunctionN
+ * @since 3.0.0
+ */
+@FunctionalInterface
+public interface CharToFloatFunction2 extends ToFloatFunctionN, UnboxedAll<Function2<Character, Character, Float>, ToFloatFunction2<Character, Character>, CharFunction2<Float>> {
+
+    /**
+     * Applies this function to the given arguments.
+     *
+     * @param value1 the first function argument
+     * @param value2 the second function argument
+     * @return the function result
+     */
+    float applyAsFloat(final char value1, final char value2);
+
+    @Override
+    default float applyAllAsFloatUnchecked(final Object... args) {
+        return this.applyAsFloat((char) args[0], (char) args[1]);
+    }
+
+    @Override
+    default int arity() {
+        return 2;
+    }
+
+    /**
+     * @see Function2
+     */
+    @Override
+    default Function2<Character, Character, Float> box() {
+        return this::applyAsFloat;
+    }
+
+    /**
+     * @see ToFloatFunction2
+     */
+    @Override
+    default ToFloatFunction2<Character, Character> boxInput() {
+        return this::applyAsFloat;
+    }
+
+    /**
+     * @see CharFunction2
+     */
+    @Override
+    default CharFunction2<Float> boxResult() {
+        return this::applyAsFloat;
+    }
+
+    /**
+     * @see CharFunction2
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    default <V> CharFunction2<V> andThen(final Function1<? super Float, ? extends V> after) {
+        return (CharFunction2<V>) ToFloatFunctionN.super.andThen(after);
+    }
+
+    /**
+     * @see CharFunction2
+     */
+    @Override
+    default <V> CharFunction2<V> andThenUnchecked(final Function1<? super Float, ? extends V> after) {
+        return (final char value1, final char value2) -> after.apply(this.applyAsFloat(value1, value2));
+    }
+}
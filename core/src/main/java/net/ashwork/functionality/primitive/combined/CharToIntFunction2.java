@@ -0,0 +1,94 @@
+/*
+ * Functionality
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.primitive.combined;
+
+import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.Function2;
+import net.ashwork.functionality.partial.UnboxedAll;
+import net.ashwork.functionality.primitive.chars.CharFunction2;
+import net.ashwork.functionality.primitive.ints.ToIntFunction2;
+import net.ashwork.functionality.primitive.ints.ToIntFunctionN;
+
+/**
+ * Represents a function that accepts two {@code char}-valued arguments and produces an {@code int}-valued result.
+ * This is the two-arity specialization of {@link ToIntFunctionN}.
+ * This is the {@code char}-consuming primitive specialization of {@link ToIntFunction2}.
+ * This is the {@code int}-producing primitive specialization of {@link CharFunction2}.
+ *
+ * <p>This is a functional interface whose functional method is {@link #applyAsInt(char, char)}.
+ *
+ * @see CharFunction2
+ * @see ToIntFunction2
+ * @see ToIntFunctionN
+ * @since 3.0.0
+ */
+@FunctionalInterface
+public interface CharToIntFunction2 extends ToIntFunctionN, UnboxedAll<Function2<Character, Character, Integer>, ToIntFunction2<Character, Character>, CharFunction2<Integer>> {
+
+    /**
+     * Applies this function to the given arguments.
+     *
+     * @param value1 the first function argument
+     * @param value2 the second function argument
+     * @return the function result
+     */
+    int applyAsInt(final char value1, final char value2);
+
+    @Override
+    default int applyAllAsIntUnchecked(final Object... args) {
+        return this.applyAsInt((char) args[0], (char) args[1]);
+    }
+
+    @Override
+    default int arity() {
+        return 2;
+    }
+
+    /**
+     * @see Function2
+     */
+    @Override
+    default Function2<Character, Character, Integer> box() {
+        return this::applyAsInt;
+    }
+
+    /**
+     * @see ToIntFunction2
+     */
+    @Override
+    default ToIntFunction2<Character, Character> boxInput() {
+        return this::applyAsInt;
+    }
+
+    /**
+     * @see CharFunction2
+     */
+    @Override
+    default CharFunction2<Integer> boxResult() {
+        return this::applyAsInt;
+    }
+
+    /**
+     * @see CharFunction2
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    default <V> CharFunction2<V> andThen(final Function1<? super Integer, ? extends V> after) {
+        return (CharFunction2<V>) ToIntFunctionN.super.andThen(after);
+    }
+
+    /**
+     * @see CharFunction2
+     */
+    @Override
+    default <V> CharFunction2<V> andThenUnchecked(final Function1<? super Integer, ? extends V> after) {
+        return (final char value1, final char value2) -> after.apply(this.applyAsInt(value1, value2));
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Functionality
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.primitive.combined;
+
+import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.Function2;
+import net.ashwork.functionality.partial.UnboxedAll;
+import net.ashwork.functionality.primitive.bytes.ToByteFunction2;
+import net.ashwork.functionality.primitive.bytes.ToByteFunctionN;
+import net.ashwork.functionality.primitive.doubles.DoubleFunction2;
+
+/**
+ * Represents a function that accepts two {@code double}-valued arguments and produces a {@code byte}-valued result.
+ * This is the two-arity specialization of {@link ToByteFunctionN}.
+ * This is the {@code double}-consuming primitive specialization of {@link ToByteFunction2}.
+ * This is the {@code byte}-producing primitive specialization of {@link DoubleFunction2}.
+ *
+ * <p>This is a functional interface whose functional method is {@link #applyAsByte(double, double)}.
+ *
+ * @see DoubleFunction2
+ * @see ToByteFunction2
+ * @see ToByteFunctionN
+ * @since 3.0.0
+ */
+@FunctionalInterface
+public interface DoubleToByteFunction2 extends ToByteFunctionN, UnboxedAll<Function2<Double, Double, Byte>, ToByteFunction2<Double, Double>, DoubleFunction2<Byte>> {
+
+    /**
+     * Applies this function to the given arguments.
+     *
+     * @param value1 the first function argument
+     * @param value2 the second function argument
+     * @return the function result
+     */
+    byte applyAsByte(final double value1, final double value2);
+
+    @Override
+    default byte applyAllAsByteUnchecked(final Object... args) {
+        return this.applyAsByte((double) args[0], (double) args[1]);
+    }
+
+    @Override
+    default int arity() {
+        return 2;
+    }
+
+    /**
+     * @see Function2
+     */
+    @Override
+    default Function2<Double, Double, Byte> box() {
+        return this::applyAsByte;
+    }
+
+    /**
+     * @see ToByteFunction2
+     */
+    @Override
+    default ToByteFunction2<Double, Double> boxInput() {
+        return this::applyAsByte;
+    }
+
+    /**
+     * @see DoubleFunction2
+     */
+    @Override
+    default DoubleFunction2<Byte> boxResult() {
+        return this::applyAsByte;
+    }
+
+    /**
+     * @see DoubleFunction2
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    default <V> DoubleFunction2<V> andThen(final Function1<? super Byte, ? extends V> after) {
+        return (DoubleFunction2<V>) ToByteFunctionN.super.andThen(after);
+    }
+
+    /**
+     * @see DoubleFunction2
+     */
+    @Override
+    default <V> DoubleFunction2<V> andThenUnchecked(final Function1<? super Byte, ? extends V> after) {
+        return (final double value1, final double value2) -> after.apply(this.applyAsByte(value1, value2));
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Functionality
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.primitive.combined;
+
+import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.Function2;
+import net.ashwork.functionality.partial.UnboxedAll;
+import net.ashwork.functionality.primitive.chars.ToCharFunction2;
+import net.ashwork.functionality.primitive.chars.ToCharFunctionN;
+import net.ashwork.functionality.primitive.doubles.DoubleFunction2;
+
+/**
+ * Represents a function that accepts two {@code double}-valued arguments and produces a {@code char}-valued result.
+ * This is the two-arity specialization of {@link ToCharFunctionN}.
+ * This is the {@code double}-consuming primitive specialization of {@link ToCharFunction2}.
+ * This is the {@code char}-producing primitive specialization of {@link DoubleFunction2}.
+ *
+ * <p>This is a functional interface whose functional method is {@link #applyAsChar(double, double)}.
+ *
+ * @see DoubleFunction2
+ * @see ToCharFunction2
+ * @see ToCharFunctionN
+ * @since 3.0.0
+ */
+@FunctionalInterface
+public interface DoubleToCharFunction2 extends ToCharFunctionN, UnboxedAll<Function2<Double, Double, Character>, ToCharFunction2<Double, Double>, DoubleFunction2<Character>> {
+
+    /**
+     * Applies this function to the given arguments.
+     *
+     * @param value1 the first function argument
+     * @param value2 the second function argument
+     * @return the function result
+     */
+    char applyAsChar(final double value1, final double value2);
+
+    @Override
+    default char applyAllAsCharUnchecked(final Object... args) {
+        return this.applyAsChar((double) args[0], (double) args[1]);
+    }
+
+    @Override
+    default int arity() {
+        return 2;
+    }
+
+    /**
+     * @see Function2
+     */
+    @Override
+    default Function2<Double, Double, Character> box() {
+        return this::applyAsChar;
+    }
+
+    /**
+     * @see ToCharFunction2
+     */
+    @Override
+    default ToCharFunction2<Double, Double> boxInput() {
+        return this::applyAsChar;
+    }
+
+    /**
+     * @see DoubleFunction2
+     */
+    @Override
+    default DoubleFunction2<Character> boxResult() {
+        return this::applyAsChar;
+    }
+
+    /**
+     * @see DoubleFunction2
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    default <V> DoubleFunction2<V> andThen(final Function1<? super Character, ? extends V> after) {
+        return (DoubleFunction2<V>) ToCharFunctionN.super.andThen(after);
+    }
+
+    /**
+     * @see DoubleFunction2
+     */
+    @Override
+    default <V> DoubleFunction2<V> andThenUnchecked(final Function1<? super Character, ? extends V> after) {
+        return (final double value1, final double value2) -> after.apply(this.applyAsChar(value1, value2));
+    }
+}
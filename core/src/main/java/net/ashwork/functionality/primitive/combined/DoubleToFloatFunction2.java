@@ -0,0 +1,94 @@
+/*
+ * Functionality
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.primitive.combined;
+
+import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.Function2;
+import net.ashwork.functionality.partial.UnboxedAll;
+import net.ashwork.functionality.primitive.doubles.DoubleFunction2;
+import net.ashwork.functionality.primitive.floats.ToFloatFunction2;
+import net.ashwork.functionality.primitive.floats.ToFloatFunctionN;
+
+/**
+ * Represents a function that accepts two {@code double}-valued arguments and produces a {@code float}-valued result.
+ * This is the two-arity specialization of {@link ToFloatFunctionN}.
+ * This is the {@code double}-consuming primitive specialization of {@link ToFloatFunction2}.
+ * This is the {@code float}-producing primitive specialization of {@link DoubleFunction2}.
+ *
+ * <p>This is a functional interface whose functional method is {@link #applyAsFloat(double, double)}.
+ *
+ * @see DoubleFunction2
+ * @see ToFloatFunction2
+ * @see ToFloatFunctionN
+ * @since 3.0.0
+ */
+@FunctionalInterface
+public interface DoubleToFloatFunction2 extends ToFloatFunctionN, UnboxedAll<Function2<Double, Double, Float>, ToFloatFunction2<Double, Double>, DoubleFunction2<Float>> {
+
+    /**
+     * Applies this function to the given arguments.
+     *
+     * @param value1 the first function argument
+     * @param value2 the second function argument
+     * @return the function result
+     */
+    float applyAsFloat(final double value1, final double value2);
+
+    @Override
+    default float applyAllAsFloatUnchecked(final Object... args) {
+        return this.applyAsFloat((double) args[0], (double) args[1]);
+    }
+
+    @Override
+    default int arity() {
+        return 2;
+    }
+
+    /**
+     * @see Function2
+     */
+    @Override
+    default Function2<Double, Double, Float> box() {
+        return this::applyAsFloat;
+    }
+
+    /**
+     * @see ToFloatFunction2
+     */
+    @Override
+    default ToFloatFunction2<Double, Double> boxInput() {
+        return this::applyAsFloat;
+    }
+
+    /**
+     * @see DoubleFunction2
+     */
+    @Override
+    default DoubleFunction2<Float> boxResult() {
+        return this::applyAsFloat;
+    }
+
+    /**
+     * @see DoubleFunction2
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    default <V> DoubleFunction2<V> andThen(final Function1<? super Float, ? extends V> after) {
+        return (DoubleFunction2<V>) ToFloatFunctionN.super.andThen(after);
+    }
+
+    /**
+     * @see DoubleFunction2
+     */
+    @Override
+    default <V> DoubleFunction2<V> andThenUnchecked(final Function1<? super Float, ? extends V> after) {
+        return (final double value1, final double value2) -> after.apply(this.applyAsFloat(value1, value2));
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Functionality
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.primitive.combined;
+
+import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.Function2;
+import net.ashwork.functionality.partial.UnboxedAll;
+import net.ashwork.functionality.primitive.doubles.DoubleFunction2;
+import net.ashwork.functionality.primitive.longs.ToLongFunction2;
+import net.ashwork.functionality.primitive.longs.ToLongFunctionN;
+
+/**
+ * Represents a function that accepts two {@code double}-valued arguments and produces a {@code long}-valued result.
+ * This is the two-arity specialization of {@link ToLongFunctionN}.
+ * This is the {@code double}-consuming primitive specialization of {@link ToLongFunction2}.
+ * This is the {@code long}-producing primitive specialization of {@link DoubleFunction2}.
+ *
+ * <p>This is a functional interface whose functional method is {@link #applyAsLong(double, double)}.
+ *
+ * @see DoubleFunction2
+ * @see ToLongFunction2
+ * @see ToLongFunctionN
+ * @since 3.0.0
+ */
+@FunctionalInterface
+public interface DoubleToLongFunction2 extends ToLongFunctionN, UnboxedAll<Function2<Double, Double, Long>, ToLongFunction2<Double, Double>, DoubleFunction2<Long>> {
+
+    /**
+     * Applies this function to the given arguments.
+     *
+     * @param value1 the first function argument
+     * @param value2 the second function argument
+     * @return the function result
+     */
+    long applyAsLong(final double value1, final double value2);
+
+    @Override
+    default long applyAllAsLongUnchecked(final Object... args) {
+        return this.applyAsLong((double) args[0], (double) args[1]);
+    }
+
+    @Override
+    default int arity() {
+        return 2;
+    }
+
+    /**
+     * @see Function2
+     */
+    @Override
+    default Function2<Double, Double, Long> box() {
+        return this::applyAsLong;
+    }
+
+    /**
+     * @see ToLongFunction2
+     */
+    @Override
+    default ToLongFunction2<Double, Double> boxInput() {
+        return this::applyAsLong;
+    }
+
+    /**
+     * @see DoubleFunction2
+     */
+    @Override
+    default DoubleFunction2<Long> boxResult() {
+        return this::applyAsLong;
+    }
+
+    /**
+     * @see DoubleFunction2
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    default <V> DoubleFunction2<V> andThen(final Function1<? super Long, ? extends V> after) {
+        return (DoubleFunction2<V>) ToLongFunctionN.super.andThen(after);
+    }
+
+    /**
+     * @see DoubleFunction2
+     */
+    @Override
+    default <V> DoubleFunction2<V> andThenUnchecked(final Function1<? super Long, ? extends V> after) {
+        return (final double value1, final double value2) -> after.apply(this.applyAsLong(value1, value2));
+    }
+}
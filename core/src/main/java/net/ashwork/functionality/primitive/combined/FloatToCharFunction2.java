@@ -0,0 +1,94 @@
+/*
+ * Functionality
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.primitive.combined;
+
+import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.Function2;
+import net.ashwork.functionality.partial.UnboxedAll;
+import net.ashwork.functionality.primitive.chars.ToCharFunction2;
+import net.ashwork.functionality.primitive.chars.ToCharFunctionN;
+import net.ashwork.functionality.primitive.floats.FloatFunction2;
+
+/**
+ * Represents a function that accepts two {@code float}-valued arguments and produces a {@code char}-valued result.
+ * This is the two-arity specialization of {@link ToCharFunctionN}.
+ * This is the {@code float}-consuming primitive specialization of {@link ToCharFunction2}.
+ * This is the {@code char}-producing primitive specialization of {@link FloatFunction2}.
+ *
+ * <p>This is a functional interface whose functional method is {@link #applyAsChar(float, float)}.
+ *
+ * @see FloatFunction2
+ * @see ToCharFunction2
+ * @see ToCharFunctionN
+ * @since 3.0.0
+ */
+@FunctionalInterface
+public interface FloatToCharFunction2 extends ToCharFunctionN, UnboxedAll<Function2<Float, Float, Character>, ToCharFunction2<Float, Float>, FloatFunction2<Character>> {
+
+    /**
+     * Applies this function to the given arguments.
+     *
+     * @param value1 the first function argument
+     * @param value2 the second function argument
+     * @return the function result
+     */
+    char applyAsChar(final float value1, final float value2);
+
+    @Override
+    default char applyAllAsCharUnchecked(final Object... args) {
+        return this.applyAsChar((float) args[0], (float) args[1]);
+    }
+
+    @Override
+    default int arity() {
+        return 2;
+    }
+
+    /**
+     * @see Function2
+     */
+    @Override
+    default Function2<Float, Float, Character> box() {
+        return this::applyAsChar;
+    }
+
+    /**
+     * @see ToCharFunction2
+     */
+    @Override
+    default ToCharFunction2<Float, Float> boxInput() {
+        return this::applyAsChar;
+    }
+
+    /**
+     * @see FloatFunction2
+     */
+    @Override
+    default FloatFunction2<Character> boxResult() {
+        return this::applyAsChar;
+    }
+
+    /**
+     * @see FloatFunction2
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    default <V> FloatFunction2<V> andThen(final Function1<? super Character, ? extends V> after) {
+        return (FloatFunction2<V>) ToCharFunctionN.super.andThen(after);
+    }
+
+    /**
+     * @see FloatFunction2
+     */
+    @Override
+    default <V> FloatFunction2<V> andThenUnchecked(final Function1<? super Character, ? extends V> after) {
+        return (final float value1, final float value2) -> after.apply(this.applyAsChar(value1, value2));
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Functionality
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.primitive.combined;
+
+import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.Function2;
+import net.ashwork.functionality.partial.UnboxedAll;
+import net.ashwork.functionality.primitive.floats.FloatFunction2;
+import net.ashwork.functionality.primitive.shorts.ToShortFunction2;
+import net.ashwork.functionality.primitive.shorts.ToShortFunctionN;
+
+/**
+ * Represents a function that accepts two {@code float}-valued arguments and produces a {@code short}-valued result.
+ * This is the two-arity specialization of {@link ToShortFunctionN}.
+ * This is the {@code float}-consuming primitive specialization of {@link ToShortFunction2}.
+ * This is the {@code short}-producing primitive specialization of {@link FloatFunction2}.
+ *
+ * <p>This is a functional interface whose functional method is {@link #applyAsShort(float, float)}.
+ *
+ * @see FloatFunction2
+ * @see ToShortFunction2
+ * @see ToShortFunctionN
+ * @since 3.0.0
+ */
+@FunctionalInterface
+public interface FloatToShortFunction2 extends ToShortFunctionN, UnboxedAll<Function2<Float, Float, Short>, ToShortFunction2<Float, Float>, FloatFunction2<Short>> {
+
+    /**
+     * Applies this function to the given arguments.
+     *
+     * @param value1 the first function argument
+     * @param value2 the second function argument
+     * @return the function result
+     */
+    short applyAsShort(final float value1, final float value2);
+
+    @Override
+    default short applyAllAsShortUnchecked(final Object... args) {
+        return this.applyAsShort((float) args[0], (float) args[1]);
+    }
+
+    @Override
+    default int arity() {
+        return 2;
+    }
+
+    /**
+     * @see Function2
+     */
+    @Override
+    default Function2<Float, Float, Short> box() {
+        return this::applyAsShort;
+    }
+
+    /**
+     * @see ToShortFunction2
+     */
+    @Override
+    default ToShortFunction2<Float, Float> boxInput() {
+        return this::applyAsShort;
+    }
+
+    /**
+     * @see FloatFunction2
+     */
+    @Override
+    default FloatFunction2<Short> boxResult() {
+        return this::applyAsShort;
+    }
+
+    /**
+     * @see FloatFunction2
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    default <V> FloatFunction2<V> andThen(final Function1<? super Short, ? extends V> after) {
+        return (FloatFunction2<V>) ToShortFunctionN.super.andThen(after);
+    }
+
+    /**
+     * @see FloatFunction2
+     */
+    @Override
+    default <V> FloatFunction2<V> andThenUnchecked(final Function1<? super Short, ? extends V> after) {
+        return (final float value1, final float value2) -> after.apply(this.applyAsShort(value1, value2));
+    }
+}
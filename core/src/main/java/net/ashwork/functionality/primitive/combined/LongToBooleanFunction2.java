@@ -0,0 +1,94 @@
+/*
+ * Functionality
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.primitive.combined;
+
+import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.Function2;
+import net.ashwork.functionality.partial.UnboxedAll;
+import net.ashwork.functionality.primitive.booleans.ToBooleanFunction2;
+import net.ashwork.functionality.primitive.booleans.ToBooleanFunctionN;
+import net.ashwork.functionality.primitive.longs.LongFunction2;
+
+/**
+ * Represents a function that accepts two {@code long}-valued arguments and produces a {@code boolean}-valued result.
+ * This is the two-arity specialization of {@link ToBooleanFunctionN}.
+ * This is the {@code long}-consuming primitive specialization of {@link ToBooleanFunction2}.
+ * This is the {@code boolean}-producing primitive specialization of {@link LongFunction2}.
+ *
+ * <p>This is a functional interface whose functional method is {@link #applyAsBoolean(long, long)}.
+ *
+ * @see LongFunction2
+ * @see ToBooleanFunction2
+ * @see ToBooleanFunctionN
+ * @since 3.0.0
+ */
+@FunctionalInterface
+public interface LongToBooleanFunction2 extends ToBooleanFunctionN, UnboxedAll<Function2<Long, Long, Boolean>, ToBooleanFunction2<Long, Long>, LongFunction2<Boolean>> {
+
+    /**
+     * Applies this function to the given arguments.
+     *
+     * @param value1 the first function argument
+     * @param value2 the second function argument
+     * @return the function result
+     */
+    boolean applyAsBoolean(final long value1, final long value2);
+
+    @Override
+    default boolean applyAllAsBooleanUnchecked(final Object... args) {
+        return this.applyAsBoolean((long) args[0], (long) args[1]);
+    }
+
+    @Override
+    default int arity() {
+        return 2;
+    }
+
+    /**
+     * @see Function2
+     */
+    @Override
+    default Function2<Long, Long, Boolean> box() {
+        return this::applyAsBoolean;
+    }
+
+    /**
+     * @see ToBooleanFunction2
+     */
+    @Override
+    default ToBooleanFunction2<Long, Long> boxInput() {
+        return this::applyAsBoolean;
+    }
+
+    /**
+     * @see LongFunction2
+     */
+    @Override
+    default LongFunction2<Boolean> boxResult() {
+        return this::applyAsBoolean;
+    }
+
+    /**
+     * @see LongFunction2
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    default <V> LongFunction2<V> andThen(final Function1<? super Boolean, ? extends V> after) {
+        return (LongFunction2<V>) ToBooleanFunctionN.super.andThen(after);
+    }
+
+    /**
+     * @see LongFunction2
+     */
+    @Override
+    default <V> LongFunction2<V> andThenUnchecked(final Function1<? super Boolean, ? extends V> after) {
+        return (final long value1, final long value2) -> after.apply(this.applyAsBoolean(value1, value2));
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Functionality
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.primitive.combined;
+
+import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.Function2;
+import net.ashwork.functionality.partial.UnboxedAll;
+import net.ashwork.functionality.primitive.doubles.ToDoubleFunction2;
+import net.ashwork.functionality.primitive.doubles.ToDoubleFunctionN;
+import net.ashwork.functionality.primitive.shorts.ShortFunction2;
+
+/**
+ * Represents a function that accepts two {@code short}-valued arguments and produces a {@code double}-valued result.
+ * This is the two-arity specialization of {@link ToDoubleFunctionN}.
+ * This is the {@code short}-consuming primitive specialization of {@link ToDoubleFunction2}.
+ * This is the {@code double}-producing primitive specialization of {@link ShortFunction2}.
+ *
+ * <p>This is a functional interface whose functional method is {@link #applyAsDouble(short, short)}.
+ *
+ * @see ShortFunction2
+ * @see ToDoubleFunction2
+ * @see ToDoubleFunctionN
+ * @since 3.0.0
+ */
+@FunctionalInterface
+public interface ShortToDoubleFunction2 extends ToDoubleFunctionN, UnboxedAll<Function2<Short, Short, Double>, ToDoubleFunction2<Short, Short>, ShortFunction2<Double>> {
+
+    /**
+     * Applies this function to the given arguments.
+     *
+     * @param value1 the first function argument
+     * @param value2 the second function argument
+     * @return the function result
+     */
+    double applyAsDouble(final short value1, final short value2);
+
+    @Override
+    default double applyAllAsDoubleUnchecked(final Object... args) {
+        return this.applyAsDouble((short) args[0], (short) args[1]);
+    }
+
+    @Override
+    default int arity() {
+        return 2;
+    }
+
+    /**
+     * @see Function2
+     */
+    @Override
+    default Function2<Short, Short, Double> box() {
+        return this::applyAsDouble;
+    }
+
+    /**
+     * @see ToDoubleFunction2
+     */
+    @Override
+    default ToDoubleFunction2<Short, Short> boxInput() {
+        return this::applyAsDouble;
+    }
+
+    /**
+     * @see ShortFunction2
+     */
+    @Override
+    default ShortFunction2<Double> boxResult() {
+        return this::applyAsDouble;
+    }
+
+    /**
+     * @see ShortFunction2
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    default <V> ShortFunction2<V> andThen(final Function1<? super Double, ? extends V> after) {
+        return (ShortFunction2<V>) ToDoubleFunctionN.super.andThen(after);
+    }
+
+    /**
+     * @see ShortFunction2
+     */
+    @Override
+    default <V> ShortFunction2<V> andThenUnchecked(final Function1<? super Double, ? extends V> after) {
+        return (final short value1, final short value2) -> after.apply(this.applyAsDouble(value1, value2));
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Functionality
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.primitive.doubles;
+
+import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.Function2;
+import net.ashwork.functionality.FunctionN;
+import net.ashwork.functionality.partial.UnboxedInput;
+
+/**
+ * Represents a function that accepts two {@code double}-valued arguments and produces a result.
+ * This is the two-arity specialization of {@link FunctionN}.
+ * This is the {@code double}-consuming primitive specialization of {@link Function2}.
+ *
+ * <p>This is a functional interface whose functional method is {@link #apply(double, double)}.
+ *
+ * @param <R> the type of the result of the function
+ *
+ * @see Function2
+ * @see FunctionN
+ * @since 3.0.0
+ */
+@FunctionalInterface
+public interface DoubleFunction2<R> extends FunctionN<R>, UnboxedInput<Function2<Double, Double, R>> {
+
+    /**
+     * Applies this function to the given arguments.
+     *
+     * @param value1 the first function argument
+     * @param value2 the second function argument
+     * @return the function result
+     */
+    R apply(final double value1, final double value2);
+
+    @Override
+    default R applyAllUnchecked(final Object... args) {
+        return this.apply((double) args[0], (double) args[1]);
+    }
+
+    @Override
+    default int arity() {
+        return 2;
+    }
+
+    /**
+     * @see Function2
+     */
+    @Override
+    default Function2<Double, Double, R> boxInput() {
+        return this::apply;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    default <V> DoubleFunction2<V> andThen(final Function1<? super R, ? extends V> after) {
+        return (DoubleFunction2<V>) FunctionN.super.andThen(after);
+    }
+
+    @Override
+    default <V> DoubleFunction2<V> andThenUnchecked(final Function1<? super R, ? extends V> after) {
+        return (final double value1, final double value2) -> after.apply(this.apply(value1, value2));
+    }
+}
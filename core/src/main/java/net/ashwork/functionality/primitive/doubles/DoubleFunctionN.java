@@ -0,0 +1,104 @@
+/*
+ * Functionality
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.primitive.doubles;
+
+import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.FunctionN;
+
+/**
+ * Represents a function that accepts {@code n} {@code double}-valued arguments and produces a result.
+ * This is the {@code double}-consuming primitive specialization for {@link FunctionN}.
+ * The arguments are passed within a {@code double} array such that they are never boxed.
+ *
+ * <p>This is a functional interface whose functional method is {@link #applyAll(double...)}.
+ *
+ * @param <R> the type of the result of the function
+ *
+ * @see FunctionN
+ * @since 3.0.0
+ */
+@FunctionalInterface
+public interface DoubleFunctionN<R> extends FunctionN<R> {
+
+    /**
+     * Applies this function to the given arguments. Makes no assumptions
+     * of the arguments passed in and whether a value will compute
+     * successfully.
+     *
+     * @param values the function arguments
+     * @return the function result
+     */
+    R applyAll(final double... values);
+
+    @Override
+    default R applyAllUnchecked(final Object... args) {
+        final double[] values = new double[args.length];
+        for (int i = 0; i < args.length; i++)
+            values[i] = (double) args[i];
+        return this.applyAll(values);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    default <V> DoubleFunctionN<V> andThen(final Function1<? super R, ? extends V> after) {
+        return (DoubleFunctionN<V>) FunctionN.super.andThen(after);
+    }
+
+    @Override
+    default <V> DoubleFunctionN<V> andThenUnchecked(final Function1<? super R, ? extends V> after) {
+        return (final double[] values) -> after.apply(this.applyAll(values));
+    }
+
+    /**
+     * An instance of {@link DoubleFunctionN} which properly defines the
+     * arity of that particular function.
+     *
+     * @param <R> the type of the result of the function
+     *
+     * @see DoubleFunctionN
+     */
+    class Instance<R> implements DoubleFunctionN<R> {
+
+        private final int arity;
+        private final Function1<double[], R> function;
+
+        /**
+         * Constructs an instance of the function.
+         *
+         * @param arity the number of arguments of the function
+         * @param function the function to be applied
+         */
+        public Instance(final int arity, final Function1<double[], R> function) {
+            this.arity = arity;
+            this.function = function;
+        }
+
+        @Override
+        public int arity() {
+            return this.arity;
+        }
+
+        @Override
+        public R applyAll(final double... values) {
+            return this.function.apply(values);
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public <V> Instance<V> andThen(final Function1<? super R, ? extends V> after) {
+            return (Instance<V>) DoubleFunctionN.super.andThen(after);
+        }
+
+        @Override
+        public <V> Instance<V> andThenUnchecked(final Function1<? super R, ? extends V> after) {
+            return new Instance<>(this.arity(), (final double[] values) -> after.apply(this.function.apply(values)));
+        }
+    }
+}
@@ -10,10 +10,13 @@
 package net.ashwork.functionality.primitive.ints;
 
 import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.metrics.InvocationMetrics;
+import net.ashwork.functionality.metrics.MetricsRegistry;
 import net.ashwork.functionality.partial.InputChainableInput;
 import net.ashwork.functionality.partial.UnboxedResult;
 import net.ashwork.functionality.partial.Variant;
 
+import java.util.Objects;
 import java.util.function.ToIntFunction;
 
 /**
@@ -77,6 +80,35 @@ public interface ToIntFunction1<T1> extends ToIntFunctionN, InputChainableInput<
         return this::applyAsInt;
     }
 
+    /**
+     * Returns a function which records its calls into the metrics registered under
+     * the given name: the number of calls, the number of those which threw, and
+     * the latencies of the calls sampled by the registry. The metrics are looked up
+     * once, when this method is called.
+     *
+     * @param name the name to record the metrics under
+     * @param registry the registry holding the metrics
+     * @return an instrumented function
+     * @throws NullPointerException if {@code name} or {@code registry} is null
+     *
+     * @see MetricsRegistry
+     */
+    default ToIntFunction1<T1> instrumented(final String name, final MetricsRegistry registry) {
+        final InvocationMetrics metrics = Objects.requireNonNull(registry, "The registry cannot be null.").metrics(Objects.requireNonNull(name, "The name cannot be null."));
+        return (final T1 t1) -> {
+            final long start = metrics.start();
+            final int result;
+            try {
+                result = this.applyAsInt(t1);
+            } catch (final Throwable t) {
+                metrics.failed(start);
+                throw t;
+            }
+            metrics.succeeded(start);
+            return result;
+        };
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     default <V> ToIntFunction1<V> compose(final Function1<? super V, ? extends T1> before) {
@@ -0,0 +1,104 @@
+/*
+ * Functionality
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.primitive.longs;
+
+import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.FunctionN;
+
+/**
+ * Represents a function that accepts {@code n} {@code long}-valued arguments and produces a result.
+ * This is the {@code long}-consuming primitive specialization for {@link FunctionN}.
+ * The arguments are passed within a {@code long} array such that they are never boxed.
+ *
+ * <p>This is a functional interface whose functional method is {@link #applyAll(long...)}.
+ *
+ * @param <R> the type of the result of the function
+ *
+ * @see FunctionN
+ * @since 3.0.0
+ */
+@FunctionalInterface
+public interface LongFunctionN<R> extends FunctionN<R> {
+
+    /**
+     * Applies this function to the given arguments. Makes no assumptions
+     * of the arguments passed in and whether a value will compute
+     * successfully.
+     *
+     * @param values the function arguments
+     * @return the function result
+     */
+    R applyAll(final long... values);
+
+    @Override
+    default R applyAllUnchecked(final Object... args) {
+        final long[] values = new long[args.length];
+        for (int i = 0; i < args.length; i++)
+            values[i] = (long) args[i];
+        return this.applyAll(values);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    default <V> LongFunctionN<V> andThen(final Function1<? super R, ? extends V> after) {
+        return (LongFunctionN<V>) FunctionN.super.andThen(after);
+    }
+
+    @Override
+    default <V> LongFunctionN<V> andThenUnchecked(final Function1<? super R, ? extends V> after) {
+        return (final long[] values) -> after.apply(this.applyAll(values));
+    }
+
+    /**
+     * An instance of {@link LongFunctionN} which properly defines the
+     * arity of that particular function.
+     *
+     * @param <R> the type of the result of the function
+     *
+     * @see LongFunctionN
+     */
+    class Instance<R> implements LongFunctionN<R> {
+
+        private final int arity;
+        private final Function1<long[], R> function;
+
+        /**
+         * Constructs an instance of the function.
+         *
+         * @param arity the number of arguments of the function
+         * @param function the function to be applied
+         */
+        public Instance(final int arity, final Function1<long[], R> function) {
+            this.arity = arity;
+            this.function = function;
+        }
+
+        @Override
+        public int arity() {
+            return this.arity;
+        }
+
+        @Override
+        public R applyAll(final long... values) {
+            return this.function.apply(values);
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public <V> Instance<V> andThen(final Function1<? super R, ? extends V> after) {
+            return (Instance<V>) LongFunctionN.super.andThen(after);
+        }
+
+        @Override
+        public <V> Instance<V> andThenUnchecked(final Function1<? super R, ? extends V> after) {
+            return new Instance<>(this.arity(), (final long[] values) -> after.apply(this.function.apply(values)));
+        }
+    }
+}
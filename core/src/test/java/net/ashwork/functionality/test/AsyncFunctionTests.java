@@ -0,0 +1,81 @@
+/*
+ * Functionality
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.test;
+
+import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.Function2;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * A testing class that tests the asynchronous application of functions.
+ */
+public final class AsyncFunctionTests {
+
+    /**
+     * Tests applying a function on an executor.
+     */
+    @Test
+    public void applyAsync() throws InterruptedException {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final Function1<String, Integer> length = String::length;
+            Assertions.assertEquals(4, length.applyAsync("four", executor).join());
+
+            final Function2<Integer, Integer, Integer> divide = (a, b) -> a / b;
+            Assertions.assertEquals(3, divide.applyAsync(7, 2, executor).join());
+            final ExecutionException thrown = Assertions.assertThrows(ExecutionException.class, () -> divide.applyAsync(1, 0, executor).get());
+            Assertions.assertTrue(thrown.getCause() instanceof ArithmeticException);
+
+            Assertions.assertThrows(RejectedExecutionException.class, () -> length.applyAsync("", runnable -> {
+                throw new RejectedExecutionException();
+            }));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Tests chaining an asynchronous function after a function, and that
+     * failures of either are unwrapped.
+     */
+    @Test
+    public void andThenAsync() {
+        final Function1<String, Integer> length = String::length;
+        final Function1<String, CompletableFuture<String>> chained = length.andThenAsync(i -> CompletableFuture.supplyAsync(() -> "*" + i), Runnable::run);
+        Assertions.assertEquals("*3", chained.apply("abc").join());
+
+        final IllegalStateException failure = new IllegalStateException("failed");
+        final CompletableFuture<String> failedStage = length.andThenAsync(i -> CompletableFuture.<String>supplyAsync(() -> {
+            throw failure;
+        }), Runnable::run).apply("abc");
+        Assertions.assertSame(failure, causeOf(failedStage));
+
+        final CompletableFuture<String> failedFunction = length.<String>andThenAsync(i -> {
+            throw failure;
+        }, Runnable::run).apply("abc");
+        Assertions.assertSame(failure, causeOf(failedFunction));
+
+        final Function2<Integer, Integer, Integer> divide = (a, b) -> a / b;
+        Assertions.assertEquals(5, divide.andThenAsync(i -> CompletableFuture.completedFuture(i + 1), Runnable::run).apply(8, 2).join());
+        Assertions.assertTrue(causeOf(divide.andThenAsync(CompletableFuture::completedFuture, Runnable::run).apply(1, 0)) instanceof ArithmeticException);
+    }
+
+    private static Throwable causeOf(final CompletableFuture<?> future) {
+        final ExecutionException thrown = Assertions.assertThrows(ExecutionException.class, future::get);
+        return thrown.getCause();
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Functionality
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.test;
+
+import net.ashwork.functionality.concurrent.BatchLoader;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+
+/**
+ * A testing class that tests the batch loader.
+ */
+public final class BatchLoaderTests {
+
+    /**
+     * Tests that a full batch is looked up with a single bulk call and that
+     * equal keys share a result.
+     */
+    @Test
+    public void fullBatch() {
+        final List<List<Integer>> batches = new ArrayList<>();
+        try (BatchLoader<Integer, String> loader = BatchLoader.of(keys -> lookup(batches, keys), 3, Duration.ofHours(1))) {
+            final CompletableFuture<String> first = loader.load(1);
+            Assertions.assertSame(first, loader.load(1));
+            final CompletableFuture<String> second = loader.load(2);
+            Assertions.assertFalse(first.isDone());
+            final CompletableFuture<String> missing = loader.load(-1);
+            Assertions.assertEquals(Arrays.asList(Arrays.asList(1, 2, -1)), batches);
+            Assertions.assertEquals("1", first.join());
+            Assertions.assertEquals("2", second.join());
+            Assertions.assertNull(missing.join());
+        }
+    }
+
+    /**
+     * Tests that a partial batch is looked up once its first key has waited for the maximum delay.
+     */
+    @Test
+    public void delayedBatch() {
+        final List<List<Integer>> batches = new ArrayList<>();
+        try (BatchLoader<Integer, String> loader = BatchLoader.of(keys -> lookup(batches, keys), 10, Duration.ofMillis(10))) {
+            Assertions.assertEquals("5", loader.apply(5));
+            Assertions.assertEquals(1, batches.size());
+        }
+    }
+
+    /**
+     * Tests that a batch whose delayed dispatch is rejected is looked up
+     * immediately instead of being stranded.
+     */
+    @Test
+    public void rejectedDispatch() {
+        final ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1);
+        scheduler.shutdown();
+        final List<List<Integer>> batches = new ArrayList<>();
+        final BatchLoader<Integer, String> loader = BatchLoader.of(keys -> lookup(batches, keys), 10, Duration.ofHours(1), scheduler);
+        final CompletableFuture<String> result = loader.load(7);
+        Assertions.assertTrue(result.isDone());
+        Assertions.assertEquals("7", result.join());
+        Assertions.assertEquals("8", loader.apply(8));
+    }
+
+    /**
+     * Tests that a failing bulk function fails every key of its batch.
+     */
+    @Test
+    public void failure() {
+        final IllegalStateException failure = new IllegalStateException("failed");
+        final BatchLoader<Integer, String> loader = BatchLoader.of(keys -> {
+            throw failure;
+        }, 2, Duration.ofHours(1));
+        final CompletableFuture<String> first = loader.load(1);
+        Assertions.assertSame(failure, Assertions.assertThrows(IllegalStateException.class, () -> loader.apply(2)));
+        Assertions.assertTrue(first.isCompletedExceptionally());
+        loader.close();
+    }
+
+    /**
+     * Tests that closing dispatches the current batch and rejects later keys.
+     */
+    @Test
+    public void close() {
+        final List<List<Integer>> batches = new ArrayList<>();
+        final BatchLoader<Integer, String> loader = BatchLoader.of(keys -> lookup(batches, keys), 10, Duration.ofHours(1));
+        final CompletableFuture<String> result = loader.load(3);
+        loader.close();
+        Assertions.assertEquals("3", result.join());
+        Assertions.assertThrows(IllegalStateException.class, () -> loader.load(4));
+    }
+
+    /**
+     * Tests that a batch dispatched by size or by a flush cancels its delayed
+     * dispatch, so the scheduler does not keep the batch until its delay elapses.
+     */
+    @Test
+    public void earlyDispatchCancelsTimer() {
+        final ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1);
+        scheduler.setRemoveOnCancelPolicy(true);
+        try {
+            final List<List<Integer>> batches = new ArrayList<>();
+            final BatchLoader<Integer, String> loader = BatchLoader.of(keys -> lookup(batches, keys), 2, Duration.ofHours(1), scheduler);
+            loader.load(1);
+            Assertions.assertEquals(1, scheduler.getQueue().size());
+            loader.load(2);
+            Assertions.assertEquals(1, batches.size());
+            Assertions.assertEquals(0, scheduler.getQueue().size());
+
+            loader.load(3);
+            Assertions.assertEquals(1, scheduler.getQueue().size());
+            loader.flush();
+            Assertions.assertEquals(2, batches.size());
+            Assertions.assertEquals(0, scheduler.getQueue().size());
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    private static Map<Integer, String> lookup(final List<List<Integer>> batches, final Collection<Integer> keys) {
+        batches.add(new ArrayList<>(keys));
+        final Map<Integer, String> values = new HashMap<>();
+        for (final Integer key : keys)
+            if (key >= 0)
+                values.put(key, key.toString());
+        return values;
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * Functionality
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.test;
+
+import net.ashwork.functionality.Function0;
+import net.ashwork.functionality.Function2;
+import net.ashwork.functionality.FunctionN;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A testing class that tests the concurrent evaluation of function arguments.
+ */
+public final class ConcurrentArgumentsTests {
+
+    /**
+     * Tests that arguments are evaluated at the same time.
+     */
+    @Test
+    public void concurrent() {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final CountDownLatch both = new CountDownLatch(2);
+            final Function2<String, String, String> concat = String::concat;
+            Assertions.assertEquals("ab", concat.applyConcurrently(() -> awaitBoth(both, "a"), () -> awaitBoth(both, "b"), executor));
+
+            final FunctionN<String> join = args -> Arrays.toString(args);
+            Assertions.assertEquals("[1, 2, 3]", join.applyAllConcurrently(executor, () -> 1, () -> 2, () -> 3));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Tests that a failing argument interrupts the arguments still being evaluated
+     * and is relayed to the caller.
+     */
+    @Test
+    public void failure() throws InterruptedException {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final CountDownLatch started = new CountDownLatch(1);
+            final CountDownLatch interrupted = new CountDownLatch(1);
+            final Function0<String> slow = () -> {
+                started.countDown();
+                try {
+                    Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+                } catch (final InterruptedException e) {
+                    interrupted.countDown();
+                }
+                return "slow";
+            };
+            final Function0<String> failing = () -> {
+                try {
+                    started.await();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                throw new IllegalStateException("failed");
+            };
+            final Function2<String, String, String> concat = String::concat;
+            Assertions.assertThrows(IllegalStateException.class, () -> concat.applyConcurrently(failing, slow, executor));
+            Assertions.assertTrue(interrupted.await(10, TimeUnit.SECONDS));
+            Assertions.assertFalse(Thread.currentThread().isInterrupted());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Tests that rejected arguments are evaluated on the calling thread and that
+     * the number of arguments is checked.
+     */
+    @Test
+    public void rejectedAndSize() {
+        final Function2<Integer, Integer, Integer> add = Integer::sum;
+        Assertions.assertEquals(3, add.applyConcurrently(() -> 1, () -> 2, runnable -> {
+            throw new RejectedExecutionException();
+        }));
+        Assertions.assertThrows(FunctionN.FunctionSizeException.class, () -> add.applyAllConcurrently(Runnable::run, () -> 1));
+    }
+
+    /**
+     * Tests that interrupting the caller cancels the evaluation and keeps the interrupt status.
+     */
+    @Test
+    public void interrupt() throws InterruptedException {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final CountDownLatch never = new CountDownLatch(1);
+            final Function0<String> blocked = () -> {
+                try {
+                    never.await();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "blocked";
+            };
+            final Throwable[] thrown = new Throwable[1];
+            final boolean[] status = new boolean[1];
+            final Thread caller = new Thread(() -> {
+                try {
+                    ((Function2<String, String, String>) String::concat).applyConcurrently(() -> "a", blocked, executor);
+                } catch (final Throwable t) {
+                    thrown[0] = t;
+                    status[0] = Thread.currentThread().isInterrupted();
+                }
+            });
+            caller.start();
+            while (caller.getState() != Thread.State.WAITING)
+                Thread.yield();
+            caller.interrupt();
+            caller.join();
+            Assertions.assertTrue(thrown[0] instanceof CancellationException);
+            Assertions.assertTrue(status[0]);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static String awaitBoth(final CountDownLatch both, final String value) {
+        both.countDown();
+        try {
+            // Only returns once the other argument is being evaluated at the same time
+            if (!both.await(10, TimeUnit.SECONDS))
+                throw new IllegalStateException("The arguments were not evaluated concurrently.");
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return value;
+    }
+}
@@ -12,6 +12,12 @@ package net.ashwork.functionality.test;
 import net.ashwork.functionality.Function0;
 import net.ashwork.functionality.Function1;
 import net.ashwork.functionality.Function2;
+import net.ashwork.functionality.Function3;
+import net.ashwork.functionality.Function4;
+import net.ashwork.functionality.Function5;
+import net.ashwork.functionality.Function6;
+import net.ashwork.functionality.Function7;
+import net.ashwork.functionality.Function8;
 import net.ashwork.functionality.FunctionN;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -85,6 +91,60 @@ public final class FunctionTests {
         arityObjectCFT(2, a -> function);
     }
 
+    /**
+     * Tests the three-arity function.
+     */
+    @Test
+    public void three() {
+        Function3<Object, Object, Object, String> function = (o1, o2, o3) -> FUNCTION.apply(new Object[]{o1, o2, o3});
+        arityObjectCFT(3, a -> function);
+    }
+
+    /**
+     * Tests the four-arity function.
+     */
+    @Test
+    public void four() {
+        Function4<Object, Object, Object, Object, String> function = (o1, o2, o3, o4) -> FUNCTION.apply(new Object[]{o1, o2, o3, o4});
+        arityObjectCFT(4, a -> function);
+    }
+
+    /**
+     * Tests the five-arity function.
+     */
+    @Test
+    public void five() {
+        Function5<Object, Object, Object, Object, Object, String> function = (o1, o2, o3, o4, o5) -> FUNCTION.apply(new Object[]{o1, o2, o3, o4, o5});
+        arityObjectCFT(5, a -> function);
+    }
+
+    /**
+     * Tests the six-arity function.
+     */
+    @Test
+    public void six() {
+        Function6<Object, Object, Object, Object, Object, Object, String> function = (o1, o2, o3, o4, o5, o6) -> FUNCTION.apply(new Object[]{o1, o2, o3, o4, o5, o6});
+        arityObjectCFT(6, a -> function);
+    }
+
+    /**
+     * Tests the seven-arity function.
+     */
+    @Test
+    public void seven() {
+        Function7<Object, Object, Object, Object, Object, Object, Object, String> function = (o1, o2, o3, o4, o5, o6, o7) -> FUNCTION.apply(new Object[]{o1, o2, o3, o4, o5, o6, o7});
+        arityObjectCFT(7, a -> function);
+    }
+
+    /**
+     * Tests the eight-arity function.
+     */
+    @Test
+    public void eight() {
+        Function8<Object, Object, Object, Object, Object, Object, Object, Object, String> function = (o1, o2, o3, o4, o5, o6, o7, o8) -> FUNCTION.apply(new Object[]{o1, o2, o3, o4, o5, o6, o7, o8});
+        arityObjectCFT(8, a -> function);
+    }
+
     /**
      * Runs a common function test for a generic {@link Function1} implementation.
      *
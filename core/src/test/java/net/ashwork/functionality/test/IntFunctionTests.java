@@ -9,9 +9,13 @@
 
 package net.ashwork.functionality.test;
 
+import net.ashwork.functionality.FunctionN;
+import net.ashwork.functionality.primitive.combined.IntToLongFunction2;
 import net.ashwork.functionality.primitive.ints.*;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Random;
 import java.util.function.Function;
@@ -67,6 +71,45 @@ public final class IntFunctionTests {
         arityToIntCFT(2, a -> function);
     }
 
+    /**
+     * Tests the n-arity {@code int}-consuming function.
+     */
+    @Test
+    public void intN() {
+        IntFunctionN<String> function = values -> FunctionTests.FUNCTION.apply(Arrays.stream(values).boxed().toArray());
+        int[] values = FunctionTests.RANDOM.ints(FunctionTests.RANDOM.nextInt(10), 0, 100).toArray();
+        Object[] args = Arrays.stream(values).boxed().toArray();
+        Assertions.assertEquals(FunctionTests.FUNCTION.apply(args), function.applyAll(values));
+        Assertions.assertEquals(function.applyAll(values), function.applyAllUnchecked(args));
+        Assertions.assertEquals(function.applyAll(values).length(), function.andThen(String::length).applyAll(values));
+
+        IntFunctionN.Instance<String> instance = new IntFunctionN.Instance<>(values.length, function::applyAll);
+        Assertions.assertEquals(values.length, instance.arity());
+        Assertions.assertEquals(values.length, instance.andThen(String::length).arity());
+        Assertions.assertEquals(function.applyAll(values), instance.sizedApplyAllUnchecked(args));
+        Assertions.assertThrows(FunctionN.FunctionSizeException.class, () -> instance.sizedApplyAllUnchecked(Arrays.copyOf(args, args.length + 1)));
+    }
+
+    /**
+     * Tests the two-arity {@code int}-consuming functions.
+     */
+    @Test
+    public void intTwo() {
+        IntFunction2<String> function = (i1, i2) -> FunctionTests.FUNCTION.apply(new Object[]{i1, i2});
+        ObjIntFunction2<Object, String> objFunction = (o1, i2) -> FunctionTests.FUNCTION.apply(new Object[]{o1, i2});
+        IntToLongFunction2 longFunction = (i1, i2) -> (long) i1 * i2;
+        int value1 = FunctionTests.RANDOM.nextInt(), value2 = FunctionTests.RANDOM.nextInt();
+        Object[] args = {value1, value2};
+        Assertions.assertEquals(FunctionTests.FUNCTION.apply(args), function.applyAllUnchecked(args));
+        Assertions.assertEquals(function.apply(value1, value2), objFunction.apply(value1, value2));
+        Assertions.assertEquals(function.apply(value1, value2).length(), function.andThen(String::length).apply(value1, value2));
+        Assertions.assertEquals(function.apply(value1, value2), function.boxInput().apply(value1, value2));
+        Assertions.assertEquals(objFunction.apply(value1, value2), objFunction.applyAllUnchecked(args));
+        Assertions.assertEquals((long) value1 * value2, longFunction.applyAllAsLongUnchecked(args));
+        Assertions.assertEquals(String.valueOf((long) value1 * value2), longFunction.andThen(String::valueOf).apply(value1, value2));
+        Assertions.assertEquals(2, longFunction.boxResult().arity());
+    }
+
     /**
      * Runs a common function test for a generic {@link IntFunction1} implementation.
      *
@@ -0,0 +1,133 @@
+/*
+ * Functionality
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.test;
+
+import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.metrics.InvocationMetrics;
+import net.ashwork.functionality.metrics.LatencyHistogram;
+import net.ashwork.functionality.metrics.MetricsRegistry;
+import net.ashwork.functionality.primitive.ints.ToIntFunction1;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+/**
+ * A testing class that tests recording the metrics of instrumented functions.
+ */
+public final class MetricsTests {
+
+    /**
+     * Tests that small latencies are recorded exactly and larger ones are
+     * rounded down to the start of their bucket.
+     */
+    @Test
+    public void histogramBuckets() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        Assertions.assertEquals(0L, histogram.snapshot().valueAtPercentile(0.5));
+        Assertions.assertEquals(0L, histogram.snapshot().max());
+        Assertions.assertEquals(0, histogram.snapshot().mean());
+
+        for (long nanos = 1; nanos <= 10; nanos++)
+            histogram.record(nanos);
+        histogram.record(1000L);
+        histogram.record(-5L);
+        final LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        Assertions.assertEquals(12, snapshot.count());
+        Assertions.assertEquals(0L, snapshot.valueAtPercentile(0));
+        Assertions.assertEquals(5L, snapshot.valueAtPercentile(0.5));
+        Assertions.assertEquals(10L, snapshot.valueAtPercentile(0.9));
+        Assertions.assertEquals(992L, snapshot.valueAtPercentile(1));
+        Assertions.assertEquals(992L, snapshot.max());
+        Assertions.assertEquals((55 + 992) / 12.0, snapshot.mean());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> snapshot.valueAtPercentile(1.5));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> snapshot.valueAtPercentile(Double.NaN));
+    }
+
+    /**
+     * Tests that every recorded latency, up to the largest {@code long}, is
+     * reported to within its bucket width.
+     */
+    @Test
+    public void histogramPrecision() {
+        for (final long nanos : new long[]{15L, 16L, 17L, 31L, 32L, 123_456_789L, Long.MAX_VALUE}) {
+            final LatencyHistogram histogram = new LatencyHistogram();
+            histogram.record(nanos);
+            final long reported = histogram.snapshot().max();
+            Assertions.assertTrue(reported <= nanos);
+            Assertions.assertTrue(nanos - reported <= nanos / 16, () -> nanos + " reported as " + reported);
+        }
+    }
+
+    /**
+     * Tests that the registry returns the same metrics for the same name and
+     * exports a snapshot of each.
+     */
+    @Test
+    public void registry() {
+        final MetricsRegistry registry = MetricsRegistry.create();
+        final InvocationMetrics metrics = registry.metrics("a");
+        Assertions.assertSame(metrics, registry.metrics("a"));
+        Assertions.assertNotSame(metrics, registry.metrics("b"));
+        Assertions.assertThrows(NullPointerException.class, () -> registry.metrics(null));
+
+        metrics.succeeded(metrics.start());
+        metrics.failed(metrics.start());
+        final List<InvocationMetrics.Snapshot> snapshots = registry.snapshot();
+        Assertions.assertEquals(2, snapshots.size());
+        final InvocationMetrics.Snapshot snapshot = snapshots.stream().filter(s -> s.name().equals("a")).findFirst().get();
+        Assertions.assertEquals(2, snapshot.calls());
+        Assertions.assertEquals(1, snapshot.failures());
+        Assertions.assertEquals(2, snapshot.latencies().count());
+    }
+
+    /**
+     * Tests that a sampled registry counts every call but records the latencies
+     * of only some, and rejects intervals which are not powers of two.
+     */
+    @Test
+    public void sampledRegistry() {
+        final InvocationMetrics metrics = MetricsRegistry.create(1024).metrics("a");
+        for (int i = 0; i < 1024; i++)
+            metrics.succeeded(metrics.start());
+        final InvocationMetrics.Snapshot snapshot = metrics.snapshot();
+        Assertions.assertEquals(1024, snapshot.calls());
+        Assertions.assertTrue(snapshot.latencies().count() < 1024);
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> MetricsRegistry.create(0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> MetricsRegistry.create(3));
+    }
+
+    /**
+     * Tests that instrumented functions count their calls and failures under
+     * their name and pass the results through.
+     */
+    @Test
+    public void instrumentedFunctions() {
+        final MetricsRegistry registry = MetricsRegistry.create();
+        final Function1<String, Integer> length = ((Function1<String, Integer>) String::length).instrumented("length", registry);
+        final ToIntFunction1<String> parse = ((ToIntFunction1<String>) Integer::parseInt).instrumented("parse", registry);
+
+        Assertions.assertEquals(1, length.apply("a"));
+        Assertions.assertThrows(NullPointerException.class, () -> length.apply(null));
+        Assertions.assertEquals(2, parse.applyAsInt("2"));
+        Assertions.assertThrows(NumberFormatException.class, () -> parse.applyAsInt("b"));
+        Assertions.assertThrows(NumberFormatException.class, () -> parse.applyAsInt("c"));
+
+        final InvocationMetrics.Snapshot lengthMetrics = registry.metrics("length").snapshot();
+        Assertions.assertEquals(2, lengthMetrics.calls());
+        Assertions.assertEquals(1, lengthMetrics.failures());
+        final InvocationMetrics.Snapshot parseMetrics = registry.metrics("parse").snapshot();
+        Assertions.assertEquals(3, parseMetrics.calls());
+        Assertions.assertEquals(2, parseMetrics.failures());
+        Assertions.assertThrows(NullPointerException.class, () -> length.instrumented(null, registry));
+        Assertions.assertThrows(NullPointerException.class, () -> length.instrumented("length", null));
+    }
+}
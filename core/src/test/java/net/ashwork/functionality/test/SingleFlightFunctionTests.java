@@ -0,0 +1,140 @@
+/*
+ * Functionality
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.test;
+
+import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.concurrent.SingleFlightFunction1;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A testing class that tests the single-flight function.
+ */
+public final class SingleFlightFunctionTests {
+
+    private static final int FOLLOWERS = 4;
+
+    /**
+     * Tests that concurrent calls with an equal argument share a single call
+     * to the underlying function.
+     */
+    @Test
+    public void coalesce() throws InterruptedException {
+        final CountDownLatch entered = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger calls = new AtomicInteger();
+        final Function1<String, String> function = s -> {
+            calls.incrementAndGet();
+            entered.countDown();
+            try {
+                release.await();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return s + "!";
+        };
+        final SingleFlightFunction1<String, String> singleFlight = function.singleFlight();
+
+        final AtomicReferenceArray<String> results = new AtomicReferenceArray<>(FOLLOWERS + 1);
+        final Thread leader = new Thread(() -> results.set(0, singleFlight.apply("key")));
+        leader.start();
+        entered.await();
+        Assertions.assertEquals(1, singleFlight.inFlight());
+
+        final Thread[] followers = new Thread[FOLLOWERS];
+        for (int i = 0; i < FOLLOWERS; i++) {
+            final int index = i + 1;
+            followers[i] = new Thread(() -> results.set(index, singleFlight.apply("key")));
+            followers[i].start();
+        }
+        for (final Thread follower : followers)
+            while (follower.getState() != Thread.State.WAITING)
+                Thread.yield();
+        release.countDown();
+        leader.join();
+        for (final Thread follower : followers)
+            follower.join();
+
+        Assertions.assertEquals(1, calls.get());
+        for (int i = 0; i <= FOLLOWERS; i++)
+            Assertions.assertEquals("key!", results.get(i));
+        Assertions.assertEquals(0, singleFlight.inFlight());
+
+        // Completed calls are forgotten rather than cached
+        Assertions.assertEquals("key!", singleFlight.apply("key"));
+        Assertions.assertEquals(2, calls.get());
+    }
+
+    /**
+     * Tests that callers waiting on a failed call receive the same exception.
+     */
+    @Test
+    public void sharedFailure() throws InterruptedException {
+        final CountDownLatch entered = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final IllegalStateException failure = new IllegalStateException("failed");
+        final SingleFlightFunction1<Object, Object> singleFlight = SingleFlightFunction1.of(o -> {
+            entered.countDown();
+            try {
+                release.await();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            throw failure;
+        });
+
+        final AtomicReferenceArray<Throwable> thrown = new AtomicReferenceArray<>(2);
+        final Thread leader = new Thread(() -> {
+            try {
+                singleFlight.apply(null);
+            } catch (final Throwable t) {
+                thrown.set(0, t);
+            }
+        });
+        leader.start();
+        entered.await();
+        final Thread follower = new Thread(() -> {
+            try {
+                singleFlight.apply(null);
+            } catch (final Throwable t) {
+                thrown.set(1, t);
+            }
+        });
+        follower.start();
+        while (follower.getState() != Thread.State.WAITING)
+            Thread.yield();
+        release.countDown();
+        leader.join();
+        follower.join();
+
+        Assertions.assertSame(failure, thrown.get(0));
+        Assertions.assertSame(failure, thrown.get(1));
+        Assertions.assertEquals(0, singleFlight.inFlight());
+    }
+
+    /**
+     * Tests that calls with different arguments are not coalesced.
+     */
+    @Test
+    public void distinctArguments() {
+        final AtomicInteger calls = new AtomicInteger();
+        final SingleFlightFunction1<Integer, Integer> singleFlight = SingleFlightFunction1.of(i -> {
+            calls.incrementAndGet();
+            return i * 2;
+        });
+        Assertions.assertEquals(2, singleFlight.apply(1));
+        Assertions.assertEquals(4, singleFlight.apply(2));
+        Assertions.assertEquals(2, calls.get());
+    }
+}
@@ -0,0 +1,28 @@
+/*
+ * Operating (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.operator;
+
+import net.ashwork.functionality.Function3;
+
+/**
+ * Represents an operation that accepts three operands and produces a result of the same type as its operands.
+ * This is the three-arity specialization of {@link OperatorN}.
+ * This is a specialization of {@link Function3} where the operands and result are of the same type.
+ *
+ * <p>This is a functional interface whose functional method is {@link #apply(Object, Object, Object)}.
+ *
+ * @param <T> the type of the operands and result of the operator
+ *
+ * @see OperatorN
+ * @see Function3
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface Operator3<T> extends OperatorN<T>, Function3<T, T, T, T> {}
@@ -0,0 +1,288 @@
+/*
+ * Operating (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.operator.formula;
+
+import net.ashwork.functionality.FunctionN;
+import net.ashwork.functionality.operator.primitive.doubles.DoubleOperator1;
+import net.ashwork.functionality.operator.primitive.doubles.DoubleOperator2;
+import net.ashwork.functionality.operator.primitive.doubles.DoubleOperatorN;
+import net.ashwork.functionality.operator.primitive.ints.IntOperator1;
+import net.ashwork.functionality.operator.primitive.ints.IntOperator2;
+import net.ashwork.functionality.operator.primitive.ints.IntOperatorN;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Represents an arithmetic formula over a fixed list of named arguments, such as
+ * {@code a * 1.5 + max(b, 10)}. A formula can be compiled into primitive operators
+ * and functions which evaluate it without boxing their arguments.
+ *
+ * <p>Formulas support the binary operators {@code + - * / % ^}, unary negation,
+ * parentheses, the constants {@code pi} and {@code e}, and the functions
+ * {@code abs}, {@code sqrt}, {@code exp}, {@code log}, {@code floor}, {@code ceil},
+ * {@code min}, and {@code max}. The exponent operator {@code ^} is right associative
+ * and binds tighter than unary negation.
+ *
+ * <p>When compiled, constant subexpressions are folded and subexpressions which
+ * appear more than once are computed only once per evaluation.
+ *
+ * @since 1.0.0
+ */
+public final class Formula {
+
+    private final String expression;
+    private final List<String> variables;
+    private final Node root;
+    private final FormulaCompiler compiler;
+    private FormulaCompiler.DoubleProgram doubleProgram;
+    private FormulaCompiler.IntProgram intProgram;
+
+    private Formula(final String expression, final List<String> variables, final Node root) {
+        this.expression = expression;
+        this.variables = variables;
+        this.root = root;
+        this.compiler = new FormulaCompiler(root, variables.size());
+    }
+
+    /**
+     * Parses a formula whose arguments are the given variables, in order.
+     *
+     * @param expression the formula to parse
+     * @param variables the names of the arguments of the formula
+     * @return the parsed formula
+     * @throws FormulaException if the formula is malformed, references an unknown
+     *                          variable or function, or a variable is declared twice
+     * @throws NullPointerException if {@code expression} or any variable is null
+     */
+    public static Formula parse(final String expression, final String... variables) {
+        Objects.requireNonNull(expression, "The expression cannot be null.");
+        final List<String> names = Collections.unmodifiableList(Arrays.asList(variables.clone()));
+        for (final String name : names)
+            Objects.requireNonNull(name, "A variable name cannot be null.");
+        if (new HashSet<>(names).size() != names.size())
+            throw new FormulaException("Variables must have unique names: " + names);
+        return new Formula(expression, names, new FormulaParser(expression, names).parse());
+    }
+
+    /**
+     * Returns the formula as it was written.
+     *
+     * @return the formula as it was written
+     */
+    public String expression() {
+        return this.expression;
+    }
+
+    /**
+     * Returns the names of the arguments of the formula, in order.
+     *
+     * @return the names of the arguments of the formula
+     */
+    public List<String> variables() {
+        return this.variables;
+    }
+
+    /**
+     * Returns the number of arguments of the formula.
+     *
+     * @return the number of arguments of the formula
+     */
+    public int arity() {
+        return this.variables.size();
+    }
+
+    /**
+     * Returns whether the formula always evaluates to the same value
+     * after its constant subexpressions are folded.
+     *
+     * @return {@code true} if the formula is constant, otherwise {@code false}
+     */
+    public boolean isConstant() {
+        return this.doubleProgram().root instanceof FormulaCompiler.DoubleConstant;
+    }
+
+    /**
+     * Returns the number of distinct subexpressions which appear more than once
+     * in the formula and are therefore only computed once per evaluation.
+     *
+     * @return the number of shared subexpressions
+     */
+    public int sharedSubexpressions() {
+        return this.compiler.sharedSubexpressions();
+    }
+
+    /**
+     * Evaluates the formula with {@code double} arithmetic.
+     *
+     * @param values the arguments of the formula
+     * @return the result of the formula
+     * @throws FunctionN.FunctionSizeException if the number of arguments is not
+     *                                         equal to the arity of the formula
+     */
+    public double evaluate(final double... values) {
+        this.checkArity(values.length);
+        return this.doubleProgram().runAll(values);
+    }
+
+    /**
+     * Compiles this formula of one argument into an operator using {@code double} arithmetic.
+     *
+     * @return the compiled operator
+     * @throws FunctionN.FunctionSizeException if the formula does not have one argument
+     */
+    public DoubleOperator1 toDoubleOperator1() {
+        this.checkArity(1);
+        final FormulaCompiler.DoubleProgram program = this.doubleProgram();
+        if (program.root instanceof FormulaCompiler.DoubleConstant) {
+            final double constant = ((FormulaCompiler.DoubleConstant) program.root).value;
+            return (final double value) -> constant;
+        }
+        return program::run1;
+    }
+
+    /**
+     * Compiles this formula of two arguments into an operator using {@code double} arithmetic.
+     *
+     * @return the compiled operator
+     * @throws FunctionN.FunctionSizeException if the formula does not have two arguments
+     */
+    public DoubleOperator2 toDoubleOperator2() {
+        this.checkArity(2);
+        final FormulaCompiler.DoubleProgram program = this.doubleProgram();
+        if (program.root instanceof FormulaCompiler.DoubleConstant) {
+            final double constant = ((FormulaCompiler.DoubleConstant) program.root).value;
+            return (final double value1, final double value2) -> constant;
+        }
+        return program::run2;
+    }
+
+    /**
+     * Compiles this formula into an operator using {@code double} arithmetic
+     * whose arity is equal to the arity of the formula.
+     *
+     * @return the compiled operator
+     */
+    public DoubleOperatorN.Instance toDoubleOperatorN() {
+        final FormulaCompiler.DoubleProgram program = this.doubleProgram();
+        return new DoubleOperatorN.Instance(this.arity(), (final double[] values) -> {
+            this.checkArity(values.length);
+            return program.runAll(values);
+        });
+    }
+
+    /**
+     * Compiles this formula of one argument into an operator using {@code int} arithmetic.
+     * Division and remainder truncate as in Java, and {@code floor} and {@code ceil}
+     * return their operand.
+     *
+     * @return the compiled operator
+     * @throws FunctionN.FunctionSizeException if the formula does not have one argument
+     * @throws FormulaException if the formula contains a non-integral literal or
+     *                          a function which is not defined on integers
+     */
+    public IntOperator1 toIntOperator1() {
+        this.checkArity(1);
+        final FormulaCompiler.IntProgram program = this.intProgram();
+        if (program.root instanceof FormulaCompiler.IntConstant) {
+            final int constant = ((FormulaCompiler.IntConstant) program.root).value;
+            return (final int value) -> constant;
+        }
+        return program::run1;
+    }
+
+    /**
+     * Compiles this formula of two arguments into an operator using {@code int} arithmetic.
+     * Division and remainder truncate as in Java, and {@code floor} and {@code ceil}
+     * return their operand.
+     *
+     * @return the compiled operator
+     * @throws FunctionN.FunctionSizeException if the formula does not have two arguments
+     * @throws FormulaException if the formula contains a non-integral literal or
+     *                          a function which is not defined on integers
+     */
+    public IntOperator2 toIntOperator2() {
+        this.checkArity(2);
+        final FormulaCompiler.IntProgram program = this.intProgram();
+        if (program.root instanceof FormulaCompiler.IntConstant) {
+            final int constant = ((FormulaCompiler.IntConstant) program.root).value;
+            return (final int value1, final int value2) -> constant;
+        }
+        return program::run2;
+    }
+
+    /**
+     * Compiles this formula into an operator using {@code int} arithmetic
+     * whose arity is equal to the arity of the formula.
+     *
+     * @return the compiled operator
+     * @throws FormulaException if the formula contains a non-integral literal or
+     *                          a function which is not defined on integers
+     */
+    public IntOperatorN.Instance toIntOperatorN() {
+        final FormulaCompiler.IntProgram program = this.intProgram();
+        return new IntOperatorN.Instance(this.arity(), (final int[] values) -> {
+            this.checkArity(values.length);
+            return program.runAll(values);
+        });
+    }
+
+    private FormulaCompiler.DoubleProgram doubleProgram() {
+        // Racy initialization is safe as the program is immutable and recompiling produces an equal program
+        FormulaCompiler.DoubleProgram program = this.doubleProgram;
+        if (program == null)
+            this.doubleProgram = program = this.compiler.compileDouble();
+        return program;
+    }
+
+    private FormulaCompiler.IntProgram intProgram() {
+        // Compiling fails on every call for formulas without an integer definition, so only successes are cached
+        FormulaCompiler.IntProgram program = this.intProgram;
+        if (program == null)
+            this.intProgram = program = this.compiler.compileInt();
+        return program;
+    }
+
+    private void checkArity(final int arity) {
+        if (arity != this.arity())
+            throw new FunctionN.FunctionSizeException("Formula Arity " + this.arity() + " does not match the current argument size: " + arity);
+    }
+
+    /**
+     * Returns the parsed form of the formula, fully parenthesized.
+     *
+     * @return the parsed form of the formula
+     */
+    @Override
+    public String toString() {
+        return this.root.toString();
+    }
+
+    /**
+     * A {@link RuntimeException} that is thrown whenever a formula cannot be
+     * parsed or compiled.
+     *
+     * @see RuntimeException
+     */
+    public static class FormulaException extends RuntimeException {
+
+        /**
+         * Constructs an instance of the exception.
+         *
+         * @param message the error message shown by the exception
+         */
+        public FormulaException(final String message) {
+            super(message);
+        }
+    }
+}
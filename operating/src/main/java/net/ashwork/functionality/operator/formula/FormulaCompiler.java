@@ -0,0 +1,460 @@
+/*
+ * Operating (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.operator.formula;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compiles the graph of a formula into a tree of closures. Constant subexpressions
+ * are folded while compiling, and subexpressions referenced more than once are
+ * computed a single time per evaluation into a slot of the evaluation frame.
+ *
+ * <p>A frame holds the arguments of the formula in its first {@code arity}
+ * indices followed by the slots of the shared subexpressions. A new frame is
+ * allocated for each evaluation and never escapes it, so the JIT can usually
+ * remove the allocation once the evaluation is inlined. A formula without shared
+ * subexpressions evaluated from an array of arguments reads them in place.
+ *
+ * @since 1.0.0
+ */
+final class FormulaCompiler {
+
+    private final int arity;
+    private final Node root;
+    private final List<Node> shared;
+
+    /**
+     * Constructs a compiler for the given formula graph.
+     *
+     * @param root the root node of the formula
+     * @param arity the number of arguments of the formula
+     */
+    FormulaCompiler(final Node root, final int arity) {
+        this.arity = arity;
+        this.root = root;
+
+        final Map<Node, Integer> uses = new IdentityHashMap<>();
+        final List<Node> order = new ArrayList<>();
+        countUses(root, uses, order);
+        this.shared = new ArrayList<>();
+        for (final Node node : order)
+            if (node instanceof Node.Applied && uses.get(node) > 1)
+                this.shared.add(node);
+    }
+
+    /**
+     * Counts the number of references to each node, recording the nodes
+     * such that the operands of a node always come before the node itself.
+     */
+    private static void countUses(final Node node, final Map<Node, Integer> uses, final List<Node> order) {
+        if (uses.merge(node, 1, Integer::sum) == 1) {
+            for (final Node operand : node.operands())
+                countUses(operand, uses, order);
+            order.add(node);
+        }
+    }
+
+    /**
+     * Returns the number of subexpressions that are computed once and reused.
+     *
+     * @return the number of shared subexpressions
+     */
+    int sharedSubexpressions() {
+        return this.shared.size();
+    }
+
+    /**
+     * Compiles the formula using {@code double} arithmetic.
+     *
+     * @return the compiled program
+     */
+    DoubleProgram compileDouble() {
+        final Map<Node, DoubleCode> references = new IdentityHashMap<>();
+        final List<DoubleCode> preludes = new ArrayList<>();
+        final int[] slots = new int[this.shared.size()];
+        for (final Node node : this.shared) {
+            final DoubleCode code = this.compileDouble(node, references);
+            if (code instanceof DoubleConstant)
+                references.put(node, code);
+            else {
+                final int slot = this.arity + preludes.size();
+                slots[preludes.size()] = slot;
+                preludes.add(code);
+                references.put(node, (final double[] frame) -> frame[slot]);
+            }
+        }
+        return new DoubleProgram(this.arity + preludes.size(), slots, preludes.toArray(new DoubleCode[0]), this.doubleReference(this.root, references));
+    }
+
+    /**
+     * Compiles the formula using {@code int} arithmetic.
+     *
+     * @return the compiled program
+     * @throws Formula.FormulaException if the formula contains a non-integral
+     *                                  literal or an operation without an
+     *                                  integer definition
+     */
+    IntProgram compileInt() {
+        final Map<Node, IntCode> references = new IdentityHashMap<>();
+        final List<IntCode> preludes = new ArrayList<>();
+        final int[] slots = new int[this.shared.size()];
+        for (final Node node : this.shared) {
+            final IntCode code = this.compileInt(node, references);
+            if (code instanceof IntConstant)
+                references.put(node, code);
+            else {
+                final int slot = this.arity + preludes.size();
+                slots[preludes.size()] = slot;
+                preludes.add(code);
+                references.put(node, (final int[] frame) -> frame[slot]);
+            }
+        }
+        return new IntProgram(this.arity + preludes.size(), slots, preludes.toArray(new IntCode[0]), this.intReference(this.root, references));
+    }
+
+    private DoubleCode doubleReference(final Node node, final Map<Node, DoubleCode> references) {
+        final DoubleCode code = references.get(node);
+        return code != null ? code : this.compileDouble(node, references);
+    }
+
+    private DoubleCode compileDouble(final Node node, final Map<Node, DoubleCode> references) {
+        if (node instanceof Node.Constant)
+            return new DoubleConstant(((Node.Constant) node).value);
+        if (node instanceof Node.Variable) {
+            final int index = ((Node.Variable) node).index;
+            return (final double[] frame) -> frame[index];
+        }
+
+        final Node.Applied applied = (Node.Applied) node;
+        final DoubleCode first = this.doubleReference(applied.operands[0], references);
+        final DoubleCode second = applied.operands.length > 1 ? this.doubleReference(applied.operands[1], references) : null;
+        if (first instanceof DoubleConstant && (second == null || second instanceof DoubleConstant))
+            return new DoubleConstant(applied.operation.applyAsDouble(((DoubleConstant) first).value, second == null ? 0 : ((DoubleConstant) second).value));
+
+        // Move constants of commutative operations to the right so they can be specialized below
+        if (applied.operation.commutative() && first instanceof DoubleConstant)
+            return doubleOperation(applied.operation, second, first);
+        return doubleOperation(applied.operation, first, second);
+    }
+
+    private static DoubleCode doubleOperation(final Operation operation, final DoubleCode a, final DoubleCode b) {
+        if (b instanceof DoubleConstant) {
+            final double c = ((DoubleConstant) b).value;
+            switch (operation) {
+                case ADD:
+                    return (final double[] frame) -> a.run(frame) + c;
+                case SUBTRACT:
+                    // x - 0.0 is exactly x for every x, including -0.0 and NaN
+                    if (Double.doubleToLongBits(c) == 0L)
+                        return a;
+                    return (final double[] frame) -> a.run(frame) - c;
+                case MULTIPLY:
+                    if (c == 1.0)
+                        return a;
+                    return (final double[] frame) -> a.run(frame) * c;
+                case DIVIDE:
+                    if (c == 1.0)
+                        return a;
+                    return (final double[] frame) -> a.run(frame) / c;
+                default:
+                    break;
+            }
+        }
+
+        switch (operation) {
+            case NEGATE: return (final double[] frame) -> -a.run(frame);
+            case ADD: return (final double[] frame) -> a.run(frame) + b.run(frame);
+            case SUBTRACT: return (final double[] frame) -> a.run(frame) - b.run(frame);
+            case MULTIPLY: return (final double[] frame) -> a.run(frame) * b.run(frame);
+            case DIVIDE: return (final double[] frame) -> a.run(frame) / b.run(frame);
+            case REMAINDER: return (final double[] frame) -> a.run(frame) % b.run(frame);
+            case POWER: return (final double[] frame) -> Math.pow(a.run(frame), b.run(frame));
+            case ABS: return (final double[] frame) -> Math.abs(a.run(frame));
+            case SQRT: return (final double[] frame) -> Math.sqrt(a.run(frame));
+            case EXP: return (final double[] frame) -> Math.exp(a.run(frame));
+            case LOG: return (final double[] frame) -> Math.log(a.run(frame));
+            case FLOOR: return (final double[] frame) -> Math.floor(a.run(frame));
+            case CEIL: return (final double[] frame) -> Math.ceil(a.run(frame));
+            case MIN: return (final double[] frame) -> Math.min(a.run(frame), b.run(frame));
+            case MAX: return (final double[] frame) -> Math.max(a.run(frame), b.run(frame));
+            default: throw new IllegalStateException("Unknown operation: " + operation);
+        }
+    }
+
+    private IntCode intReference(final Node node, final Map<Node, IntCode> references) {
+        final IntCode code = references.get(node);
+        return code != null ? code : this.compileInt(node, references);
+    }
+
+    private IntCode compileInt(final Node node, final Map<Node, IntCode> references) {
+        if (node instanceof Node.Constant) {
+            final double value = ((Node.Constant) node).value;
+            if ((int) value != value)
+                throw new Formula.FormulaException("Literal " + value + " is not an integer.");
+            return new IntConstant((int) value);
+        }
+        if (node instanceof Node.Variable) {
+            final int index = ((Node.Variable) node).index;
+            return (final int[] frame) -> frame[index];
+        }
+
+        final Node.Applied applied = (Node.Applied) node;
+        if (!applied.operation.supportsInt())
+            throw new Formula.FormulaException("Operation '" + applied.operation.symbol() + "' is not supported on integers.");
+        final IntCode first = this.intReference(applied.operands[0], references);
+        final IntCode second = applied.operands.length > 1 ? this.intReference(applied.operands[1], references) : null;
+        if (first instanceof IntConstant && (second == null || second instanceof IntConstant)) {
+            try {
+                return new IntConstant(applied.operation.applyAsInt(((IntConstant) first).value, second == null ? 0 : ((IntConstant) second).value));
+            } catch (final ArithmeticException e) {
+                // Leave undefined results, such as a division by zero, to be thrown when evaluated
+            }
+        }
+
+        if (applied.operation.commutative() && first instanceof IntConstant)
+            return intOperation(applied.operation, second, first);
+        return intOperation(applied.operation, first, second);
+    }
+
+    private static IntCode intOperation(final Operation operation, final IntCode a, final IntCode b) {
+        if (b instanceof IntConstant) {
+            final int c = ((IntConstant) b).value;
+            if ((c == 0 && (operation == Operation.ADD || operation == Operation.SUBTRACT))
+                    || (c == 1 && (operation == Operation.MULTIPLY || operation == Operation.DIVIDE)))
+                return a;
+        }
+
+        switch (operation) {
+            case NEGATE: return (final int[] frame) -> -a.run(frame);
+            case ADD: return (final int[] frame) -> a.run(frame) + b.run(frame);
+            case SUBTRACT: return (final int[] frame) -> a.run(frame) - b.run(frame);
+            case MULTIPLY: return (final int[] frame) -> a.run(frame) * b.run(frame);
+            case DIVIDE: return (final int[] frame) -> a.run(frame) / b.run(frame);
+            case REMAINDER: return (final int[] frame) -> a.run(frame) % b.run(frame);
+            case POWER: return (final int[] frame) -> Operation.pow(a.run(frame), b.run(frame));
+            case ABS: return (final int[] frame) -> Math.abs(a.run(frame));
+            case FLOOR: case CEIL: return a;
+            case MIN: return (final int[] frame) -> Math.min(a.run(frame), b.run(frame));
+            case MAX: return (final int[] frame) -> Math.max(a.run(frame), b.run(frame));
+            default: throw new IllegalStateException("Unknown operation: " + operation);
+        }
+    }
+
+    /**
+     * Represents a compiled portion of a formula evaluated with {@code double} arithmetic.
+     */
+    @FunctionalInterface
+    interface DoubleCode {
+
+        /**
+         * Evaluates this code within the given frame.
+         *
+         * @param frame the arguments and shared subexpressions of the formula
+         * @return the result of the code
+         */
+        double run(final double[] frame);
+    }
+
+    /**
+     * Represents a compiled portion of a formula evaluated with {@code int} arithmetic.
+     */
+    @FunctionalInterface
+    interface IntCode {
+
+        /**
+         * Evaluates this code within the given frame.
+         *
+         * @param frame the arguments and shared subexpressions of the formula
+         * @return the result of the code
+         */
+        int run(final int[] frame);
+    }
+
+    /**
+     * A {@link DoubleCode} which always produces the same value.
+     */
+    static final class DoubleConstant implements DoubleCode {
+
+        final double value;
+
+        DoubleConstant(final double value) {
+            this.value = value;
+        }
+
+        @Override
+        public double run(final double[] frame) {
+            return this.value;
+        }
+    }
+
+    /**
+     * An {@link IntCode} which always produces the same value.
+     */
+    static final class IntConstant implements IntCode {
+
+        final int value;
+
+        IntConstant(final int value) {
+            this.value = value;
+        }
+
+        @Override
+        public int run(final int[] frame) {
+            return this.value;
+        }
+    }
+
+    /**
+     * A compiled formula evaluated with {@code double} arithmetic.
+     */
+    static final class DoubleProgram {
+
+        final int frameSize;
+        private final int[] slots;
+        private final DoubleCode[] preludes;
+        final DoubleCode root;
+
+        DoubleProgram(final int frameSize, final int[] slots, final DoubleCode[] preludes, final DoubleCode root) {
+            this.frameSize = frameSize;
+            this.slots = slots;
+            this.preludes = preludes;
+            this.root = root;
+        }
+
+        /**
+         * Evaluates the formula of one argument within a new frame.
+         *
+         * @param value the argument of the formula
+         * @return the result of the formula
+         */
+        double run1(final double value) {
+            final double[] frame = new double[this.frameSize];
+            frame[0] = value;
+            return this.run(frame);
+        }
+
+        /**
+         * Evaluates the formula of two arguments within a new frame.
+         *
+         * @param value1 the first argument of the formula
+         * @param value2 the second argument of the formula
+         * @return the result of the formula
+         */
+        double run2(final double value1, final double value2) {
+            final double[] frame = new double[this.frameSize];
+            frame[0] = value1;
+            frame[1] = value2;
+            return this.run(frame);
+        }
+
+        /**
+         * Evaluates the formula within a new frame, or within the arguments if it has no shared subexpressions.
+         *
+         * @param values the arguments of the formula
+         * @return the result of the formula
+         */
+        double runAll(final double[] values) {
+            // Without shared subexpressions, nothing is written to the frame
+            if (this.preludes.length == 0)
+                return this.root.run(values);
+            final double[] frame = new double[this.frameSize];
+            System.arraycopy(values, 0, frame, 0, values.length);
+            return this.run(frame);
+        }
+
+        /**
+         * Evaluates the formula within a frame whose leading indices hold the
+         * arguments of the formula.
+         *
+         * @param frame the evaluation frame
+         * @return the result of the formula
+         */
+        double run(final double[] frame) {
+            for (int i = 0; i < this.preludes.length; i++)
+                frame[this.slots[i]] = this.preludes[i].run(frame);
+            return this.root.run(frame);
+        }
+    }
+
+    /**
+     * A compiled formula evaluated with {@code int} arithmetic.
+     */
+    static final class IntProgram {
+
+        final int frameSize;
+        private final int[] slots;
+        private final IntCode[] preludes;
+        final IntCode root;
+
+        IntProgram(final int frameSize, final int[] slots, final IntCode[] preludes, final IntCode root) {
+            this.frameSize = frameSize;
+            this.slots = slots;
+            this.preludes = preludes;
+            this.root = root;
+        }
+
+        /**
+         * Evaluates the formula of one argument within a new frame.
+         *
+         * @param value the argument of the formula
+         * @return the result of the formula
+         */
+        int run1(final int value) {
+            final int[] frame = new int[this.frameSize];
+            frame[0] = value;
+            return this.run(frame);
+        }
+
+        /**
+         * Evaluates the formula of two arguments within a new frame.
+         *
+         * @param value1 the first argument of the formula
+         * @param value2 the second argument of the formula
+         * @return the result of the formula
+         */
+        int run2(final int value1, final int value2) {
+            final int[] frame = new int[this.frameSize];
+            frame[0] = value1;
+            frame[1] = value2;
+            return this.run(frame);
+        }
+
+        /**
+         * Evaluates the formula within a new frame, or within the arguments if it has no shared subexpressions.
+         *
+         * @param values the arguments of the formula
+         * @return the result of the formula
+         */
+        int runAll(final int[] values) {
+            // Without shared subexpressions, nothing is written to the frame
+            if (this.preludes.length == 0)
+                return this.root.run(values);
+            final int[] frame = new int[this.frameSize];
+            System.arraycopy(values, 0, frame, 0, values.length);
+            return this.run(frame);
+        }
+
+        /**
+         * Evaluates the formula within a frame whose leading indices hold the
+         * arguments of the formula.
+         *
+         * @param frame the evaluation frame
+         * @return the result of the formula
+         */
+        int run(final int[] frame) {
+            for (int i = 0; i < this.preludes.length; i++)
+                frame[this.slots[i]] = this.preludes[i].run(frame);
+            return this.root.run(frame);
+        }
+    }
+}
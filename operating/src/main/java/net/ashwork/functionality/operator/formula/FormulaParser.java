@@ -0,0 +1,234 @@
+/*
+ * Operating (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.operator.formula;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A recursive descent parser which reads a formula into a graph of interned
+ * {@link Node}s. The grammar, from lowest to highest precedence, is:
+ *
+ * <pre>{@code
+ * additive       := multiplicative (('+' | '-') multiplicative)*
+ * multiplicative := unary (('*' | '/' | '%') unary)*
+ * unary          := ('-' | '+') unary | power
+ * power          := primary ('^' unary)?
+ * primary        := number | name | name '(' additive (',' additive)* ')' | '(' additive ')'
+ * }</pre>
+ *
+ * @since 1.0.0
+ */
+final class FormulaParser {
+
+    private final String expression;
+    private final List<String> variables;
+    private final Map<Node, Node> interned = new HashMap<>();
+    private int position;
+
+    /**
+     * Constructs a parser for the given formula.
+     *
+     * @param expression the formula to parse
+     * @param variables the names of the arguments of the formula, in order
+     */
+    FormulaParser(final String expression, final List<String> variables) {
+        this.expression = expression;
+        this.variables = variables;
+    }
+
+    /**
+     * Parses the entire formula.
+     *
+     * @return the root node of the formula
+     * @throws Formula.FormulaException if the formula is malformed
+     */
+    Node parse() {
+        final Node root = this.additive();
+        this.skipWhitespace();
+        if (this.position < this.expression.length())
+            throw this.error("Unexpected character '" + this.expression.charAt(this.position) + "'");
+        return root;
+    }
+
+    private Node additive() {
+        Node node = this.multiplicative();
+        while (true) {
+            if (this.accept('+'))
+                node = this.apply(Operation.ADD, node, this.multiplicative());
+            else if (this.accept('-'))
+                node = this.apply(Operation.SUBTRACT, node, this.multiplicative());
+            else
+                return node;
+        }
+    }
+
+    private Node multiplicative() {
+        Node node = this.unary();
+        while (true) {
+            if (this.accept('*'))
+                node = this.apply(Operation.MULTIPLY, node, this.unary());
+            else if (this.accept('/'))
+                node = this.apply(Operation.DIVIDE, node, this.unary());
+            else if (this.accept('%'))
+                node = this.apply(Operation.REMAINDER, node, this.unary());
+            else
+                return node;
+        }
+    }
+
+    private Node unary() {
+        if (this.accept('-'))
+            return this.apply(Operation.NEGATE, this.unary());
+        if (this.accept('+'))
+            return this.unary();
+        return this.power();
+    }
+
+    private Node power() {
+        final Node base = this.primary();
+        return this.accept('^') ? this.apply(Operation.POWER, base, this.unary()) : base;
+    }
+
+    private Node primary() {
+        this.skipWhitespace();
+        if (this.position >= this.expression.length())
+            throw this.error("Unexpected end of formula");
+        final char c = this.expression.charAt(this.position);
+        if (this.accept('(')) {
+            final Node node = this.additive();
+            this.expect(')');
+            return node;
+        }
+        if (Character.isDigit(c) || c == '.')
+            return this.number();
+        if (Character.isLetter(c) || c == '_')
+            return this.name();
+        throw this.error("Unexpected character '" + c + "'");
+    }
+
+    private Node number() {
+        final int start = this.position;
+        while (this.position < this.expression.length() && (Character.isDigit(this.peek()) || this.peek() == '.'))
+            this.position++;
+        if (this.position < this.expression.length() && (this.peek() == 'e' || this.peek() == 'E')) {
+            final int mark = this.position++;
+            if (this.position < this.expression.length() && (this.peek() == '+' || this.peek() == '-'))
+                this.position++;
+            if (this.position < this.expression.length() && Character.isDigit(this.peek()))
+                while (this.position < this.expression.length() && Character.isDigit(this.peek()))
+                    this.position++;
+            else
+                this.position = mark;
+        }
+        try {
+            return this.intern(new Node.Constant(Double.parseDouble(this.expression.substring(start, this.position))));
+        } catch (final NumberFormatException e) {
+            throw this.error("Malformed number '" + this.expression.substring(start, this.position) + "'", start);
+        }
+    }
+
+    private Node name() {
+        final int start = this.position;
+        while (this.position < this.expression.length() && (Character.isLetterOrDigit(this.peek()) || this.peek() == '_'))
+            this.position++;
+        final String name = this.expression.substring(start, this.position);
+
+        final int index = this.variables.indexOf(name);
+        if (index >= 0)
+            return this.intern(new Node.Variable(index, name));
+
+        if (this.accept('(')) {
+            final Operation operation = Operation.function(name);
+            if (operation == null)
+                throw this.error("Unknown function '" + name + "'", start);
+            final List<Node> arguments = new ArrayList<>();
+            do {
+                arguments.add(this.additive());
+            } while (this.accept(','));
+            this.expect(')');
+            return this.call(operation, arguments, start);
+        }
+
+        switch (name) {
+            case "pi":
+                return this.intern(new Node.Constant(Math.PI));
+            case "e":
+                return this.intern(new Node.Constant(Math.E));
+            default:
+                throw this.error("Unknown variable '" + name + "'", start);
+        }
+    }
+
+    private Node call(final Operation operation, final List<Node> arguments, final int start) {
+        // Variadic min and max are folded into a chain of binary operations
+        if ((operation == Operation.MIN || operation == Operation.MAX) && arguments.size() > 2) {
+            Node node = arguments.get(0);
+            for (int i = 1; i < arguments.size(); i++)
+                node = this.apply(operation, node, arguments.get(i));
+            return node;
+        }
+        if (arguments.size() != operation.arity())
+            throw this.error("Function '" + operation.symbol() + "' expects " + operation.arity() + " argument(s) but received " + arguments.size(), start);
+        return this.apply(operation, arguments.toArray(new Node[0]));
+    }
+
+    private Node apply(final Operation operation, final Node... operands) {
+        // Order the operands of commutative operations so that 'a + b' and 'b + a' share a node
+        if (operation.commutative() && operands[0].id() > operands[1].id()) {
+            final Node first = operands[0];
+            operands[0] = operands[1];
+            operands[1] = first;
+        }
+        return this.intern(new Node.Applied(operation, operands));
+    }
+
+    private Node intern(final Node node) {
+        final Node existing = this.interned.get(node);
+        if (existing != null)
+            return existing;
+        node.id(this.interned.size());
+        this.interned.put(node, node);
+        return node;
+    }
+
+    private boolean accept(final char c) {
+        this.skipWhitespace();
+        if (this.position < this.expression.length() && this.peek() == c) {
+            this.position++;
+            return true;
+        }
+        return false;
+    }
+
+    private void expect(final char c) {
+        if (!this.accept(c))
+            throw this.error("Expected '" + c + "'");
+    }
+
+    private char peek() {
+        return this.expression.charAt(this.position);
+    }
+
+    private void skipWhitespace() {
+        while (this.position < this.expression.length() && Character.isWhitespace(this.peek()))
+            this.position++;
+    }
+
+    private Formula.FormulaException error(final String message) {
+        return this.error(message, this.position);
+    }
+
+    private Formula.FormulaException error(final String message, final int position) {
+        return new Formula.FormulaException(message + " at position " + position + " in: " + this.expression);
+    }
+}
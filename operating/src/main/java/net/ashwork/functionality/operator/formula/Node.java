@@ -0,0 +1,166 @@
+/*
+ * Operating (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.operator.formula;
+
+import java.util.Arrays;
+
+/**
+ * Represents a node within the parsed graph of a formula. Nodes are interned
+ * while parsing such that structurally equal subexpressions are represented
+ * by the same instance, which allows them to be computed once per evaluation.
+ *
+ * @since 1.0.0
+ */
+abstract class Node {
+
+    private int id = -1;
+
+    /**
+     * Returns the unique identifier assigned to this node when it was interned.
+     *
+     * @return the identifier of this node
+     */
+    final int id() {
+        return this.id;
+    }
+
+    /**
+     * Assigns the unique identifier of this node.
+     *
+     * @param id the identifier of this node
+     */
+    final void id(final int id) {
+        this.id = id;
+    }
+
+    /**
+     * Returns the operands of this node.
+     *
+     * @return the operands of this node
+     */
+    abstract Node[] operands();
+
+    /**
+     * Represents a literal value within a formula.
+     */
+    static final class Constant extends Node {
+
+        private static final Node[] NO_OPERANDS = new Node[0];
+
+        final double value;
+
+        Constant(final double value) {
+            this.value = value;
+        }
+
+        @Override
+        Node[] operands() {
+            return NO_OPERANDS;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            return o instanceof Constant && Double.doubleToLongBits(((Constant) o).value) == Double.doubleToLongBits(this.value);
+        }
+
+        @Override
+        public int hashCode() {
+            return Double.hashCode(this.value);
+        }
+
+        @Override
+        public String toString() {
+            return Double.toString(this.value);
+        }
+    }
+
+    /**
+     * Represents an argument of a formula.
+     */
+    static final class Variable extends Node {
+
+        final int index;
+        final String name;
+
+        Variable(final int index, final String name) {
+            this.index = index;
+            this.name = name;
+        }
+
+        @Override
+        Node[] operands() {
+            return Constant.NO_OPERANDS;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            return o instanceof Variable && ((Variable) o).index == this.index;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 + this.index;
+        }
+
+        @Override
+        public String toString() {
+            return this.name;
+        }
+    }
+
+    /**
+     * Represents an {@link Operation} applied to a number of interned operands.
+     * As operands are interned, two operations are equal if they apply the same
+     * operation to the same operand instances.
+     */
+    static final class Applied extends Node {
+
+        final Operation operation;
+        final Node[] operands;
+
+        Applied(final Operation operation, final Node... operands) {
+            this.operation = operation;
+            this.operands = operands;
+        }
+
+        @Override
+        Node[] operands() {
+            return this.operands;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (!(o instanceof Applied))
+                return false;
+            final Applied other = (Applied) o;
+            if (other.operation != this.operation || other.operands.length != this.operands.length)
+                return false;
+            for (int i = 0; i < this.operands.length; i++)
+                if (other.operands[i] != this.operands[i])
+                    return false;
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            int hash = this.operation.hashCode();
+            for (final Node operand : this.operands)
+                hash = 31 * hash + System.identityHashCode(operand);
+            return hash;
+        }
+
+        @Override
+        public String toString() {
+            return this.operation.isFunction() || this.operation.arity() == 1
+                    ? this.operation.symbol() + Arrays.toString(this.operands).replace('[', '(').replace(']', ')')
+                    : "(" + this.operands[0] + " " + this.operation.symbol() + " " + this.operands[1] + ")";
+        }
+    }
+}
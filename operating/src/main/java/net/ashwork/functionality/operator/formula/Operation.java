@@ -0,0 +1,185 @@
+/*
+ * Operating (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.operator.formula;
+
+/**
+ * Represents an operation which can be applied within a formula. Each operation
+ * defines its arity, whether its operands can be reordered, and how it is
+ * applied to {@code double}-valued and {@code int}-valued operands.
+ *
+ * @since 1.0.0
+ */
+enum Operation {
+    NEGATE("-", 1, false),
+    ADD("+", 2, true),
+    SUBTRACT("-", 2, false),
+    MULTIPLY("*", 2, true),
+    DIVIDE("/", 2, false),
+    REMAINDER("%", 2, false),
+    POWER("^", 2, false),
+    ABS("abs", 1, false),
+    SQRT("sqrt", 1, false),
+    EXP("exp", 1, false),
+    LOG("log", 1, false),
+    FLOOR("floor", 1, false),
+    CEIL("ceil", 1, false),
+    MIN("min", 2, true),
+    MAX("max", 2, true);
+
+    private final String symbol;
+    private final int arity;
+    private final boolean commutative;
+
+    Operation(final String symbol, final int arity, final boolean commutative) {
+        this.symbol = symbol;
+        this.arity = arity;
+        this.commutative = commutative;
+    }
+
+    /**
+     * Returns the symbol or name of the operation as written in a formula.
+     *
+     * @return the symbol or name of the operation
+     */
+    String symbol() {
+        return this.symbol;
+    }
+
+    /**
+     * Returns the number of operands of the operation.
+     *
+     * @return the number of operands of the operation
+     */
+    int arity() {
+        return this.arity;
+    }
+
+    /**
+     * Returns whether the operands of this operation can be swapped without
+     * changing its result.
+     *
+     * @return {@code true} if the operation is commutative, otherwise {@code false}
+     */
+    boolean commutative() {
+        return this.commutative;
+    }
+
+    /**
+     * Returns whether this operation is written as a function call.
+     *
+     * @return {@code true} if the operation is a function call, otherwise {@code false}
+     */
+    boolean isFunction() {
+        return Character.isLetter(this.symbol.charAt(0));
+    }
+
+    /**
+     * Returns the function operation with the given name.
+     *
+     * @param name the name of the function
+     * @return the function operation, or {@code null} if there is none
+     */
+    static Operation function(final String name) {
+        for (final Operation operation : values())
+            if (operation.isFunction() && operation.symbol.equals(name))
+                return operation;
+        return null;
+    }
+
+    /**
+     * Applies this operation to the given {@code double}-valued operands.
+     * Unary operations ignore their second operand.
+     *
+     * @param value1 the first operand
+     * @param value2 the second operand
+     * @return the operation result
+     */
+    double applyAsDouble(final double value1, final double value2) {
+        switch (this) {
+            case NEGATE: return -value1;
+            case ADD: return value1 + value2;
+            case SUBTRACT: return value1 - value2;
+            case MULTIPLY: return value1 * value2;
+            case DIVIDE: return value1 / value2;
+            case REMAINDER: return value1 % value2;
+            case POWER: return Math.pow(value1, value2);
+            case ABS: return Math.abs(value1);
+            case SQRT: return Math.sqrt(value1);
+            case EXP: return Math.exp(value1);
+            case LOG: return Math.log(value1);
+            case FLOOR: return Math.floor(value1);
+            case CEIL: return Math.ceil(value1);
+            case MIN: return Math.min(value1, value2);
+            case MAX: return Math.max(value1, value2);
+            default: throw new IllegalStateException("Unknown operation: " + this);
+        }
+    }
+
+    /**
+     * Returns whether this operation can be applied to {@code int}-valued operands.
+     *
+     * @return {@code true} if the operation supports integer arithmetic, otherwise {@code false}
+     */
+    boolean supportsInt() {
+        switch (this) {
+            case SQRT: case EXP: case LOG:
+                return false;
+            default:
+                return true;
+        }
+    }
+
+    /**
+     * Applies this operation to the given {@code int}-valued operands.
+     * Unary operations ignore their second operand.
+     *
+     * @param value1 the first operand
+     * @param value2 the second operand
+     * @return the operation result
+     * @throws ArithmeticException if the operation is undefined for the operands
+     */
+    int applyAsInt(final int value1, final int value2) {
+        switch (this) {
+            case NEGATE: return -value1;
+            case ADD: return value1 + value2;
+            case SUBTRACT: return value1 - value2;
+            case MULTIPLY: return value1 * value2;
+            case DIVIDE: return value1 / value2;
+            case REMAINDER: return value1 % value2;
+            case POWER: return pow(value1, value2);
+            case ABS: return Math.abs(value1);
+            case FLOOR: case CEIL: return value1;
+            case MIN: return Math.min(value1, value2);
+            case MAX: return Math.max(value1, value2);
+            default: throw new UnsupportedOperationException("Operation '" + this.symbol + "' is not supported on integers.");
+        }
+    }
+
+    /**
+     * Raises an integer to a non-negative integer power by repeated squaring.
+     *
+     * @param base the base
+     * @param exponent the exponent
+     * @return the base raised to the exponent
+     * @throws ArithmeticException if the exponent is negative
+     */
+    static int pow(int base, int exponent) {
+        if (exponent < 0)
+            throw new ArithmeticException("Negative integer exponent: " + exponent);
+        int result = 1;
+        while (exponent != 0) {
+            if ((exponent & 1) != 0)
+                result *= base;
+            base *= base;
+            exponent >>>= 1;
+        }
+        return result;
+    }
+}
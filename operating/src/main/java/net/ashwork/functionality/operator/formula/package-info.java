@@ -0,0 +1,14 @@
+/*
+ * Operating (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+/**
+ * Arithmetic formulas which can be parsed from text and compiled into primitive operators.
+ * A compiled formula never boxes its operands when called through its primitive functional method.
+ */
+package net.ashwork.functionality.operator.formula;
\ No newline at end of file
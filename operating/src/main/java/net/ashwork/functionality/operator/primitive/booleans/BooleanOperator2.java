@@ -10,11 +10,10 @@
 package net.ashwork.functionality.operator.primitive.booleans;
 
 import net.ashwork.functionality.Function1;
-import net.ashwork.functionality.Function2;
 import net.ashwork.functionality.operator.Operator2;
 import net.ashwork.functionality.operator.OperatorN;
-import net.ashwork.functionality.partial.Unboxed;
-import net.ashwork.functionality.partial.UnboxedInput;
+import net.ashwork.functionality.partial.UnboxedAll;
+import net.ashwork.functionality.primitive.booleans.BooleanFunction2;
 import net.ashwork.functionality.primitive.booleans.ToBooleanFunction2;
 import net.ashwork.functionality.primitive.booleans.ToBooleanFunctionN;
 
@@ -30,7 +29,7 @@ import net.ashwork.functionality.primitive.booleans.ToBooleanFunctionN;
  * @since 1.0.0
  */
 @FunctionalInterface
-public interface BooleanOperator2 extends OperatorN<Boolean>, ToBooleanFunctionN, Unboxed<Operator2<Boolean>>, UnboxedInput<ToBooleanFunction2<Boolean, Boolean>> {
+public interface BooleanOperator2 extends OperatorN<Boolean>, ToBooleanFunctionN, UnboxedAll<Operator2<Boolean>, ToBooleanFunction2<Boolean, Boolean>, BooleanFunction2<Boolean>> {
 
     /**
      * Applies this operator to the given operands.
@@ -68,19 +67,27 @@ public interface BooleanOperator2 extends OperatorN<Boolean>, ToBooleanFunctionN
     }
 
     /**
-     * @see Function2
+     * @see BooleanFunction2
+     */
+    @Override
+    default BooleanFunction2<Boolean> boxResult() {
+        return this::applyAsBoolean;
+    }
+
+    /**
+     * @see BooleanFunction2
      */
     @SuppressWarnings("unchecked")
     @Override
-    default <V> Function2<Boolean, Boolean, V> andThen(final Function1<? super Boolean, ? extends V> after) {
-        return (Function2<Boolean, Boolean, V>) ToBooleanFunctionN.super.andThen(after);
+    default <V> BooleanFunction2<V> andThen(final Function1<? super Boolean, ? extends V> after) {
+        return (BooleanFunction2<V>) ToBooleanFunctionN.super.andThen(after);
     }
 
     /**
-     * @see Function2
+     * @see BooleanFunction2
      */
     @Override
-    default <V> Function2<Boolean, Boolean, V> andThenUnchecked(final Function1<? super Boolean, ? extends V> after) {
-        return (final Boolean value1, final Boolean value2) -> after.apply(this.applyAsBoolean(value1, value2));
+    default <V> BooleanFunction2<V> andThenUnchecked(final Function1<? super Boolean, ? extends V> after) {
+        return (final boolean value1, final boolean value2) -> after.apply(this.applyAsBoolean(value1, value2));
     }
 }
@@ -0,0 +1,127 @@
+/*
+ * Operating (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.operator.primitive.booleans;
+
+import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.operator.OperatorN;
+import net.ashwork.functionality.primitive.booleans.BooleanFunctionN;
+import net.ashwork.functionality.primitive.booleans.ToBooleanFunction1;
+import net.ashwork.functionality.primitive.booleans.ToBooleanFunctionN;
+
+/**
+ * Represents an operation on {@code n} {@code boolean}-valued operands that produces a {@code boolean}-valued result.
+ * This is the {@code boolean} primitive specialization for {@link OperatorN}.
+ * The operands are passed within a {@code boolean} array such that they are never boxed.
+ *
+ * <p>This is a functional interface whose functional method is {@link #applyAllAsBoolean(boolean...)}.
+ *
+ * @see OperatorN
+ * @see BooleanFunctionN
+ * @see ToBooleanFunctionN
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface BooleanOperatorN extends OperatorN<Boolean>, ToBooleanFunctionN, BooleanFunctionN<Boolean> {
+
+    /**
+     * Applies this operator to the given operands. Makes no assumptions
+     * of the operands passed in and whether a value will compute
+     * successfully.
+     *
+     * @param values the operands
+     * @return the operator result
+     */
+    boolean applyAllAsBoolean(final boolean... values);
+
+    @Override
+    default Boolean applyAll(final boolean... values) {
+        return this.applyAllAsBoolean(values);
+    }
+
+    @Override
+    default boolean applyAllAsBooleanUnchecked(final Object... args) {
+        final boolean[] values = new boolean[args.length];
+        for (int i = 0; i < args.length; i++)
+            values[i] = (boolean) args[i];
+        return this.applyAllAsBoolean(values);
+    }
+
+    @Override
+    default Boolean applyAllUnchecked(final Object... args) {
+        return this.applyAllAsBooleanUnchecked(args);
+    }
+
+    /**
+     * @see BooleanFunctionN
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    default <V> BooleanFunctionN<V> andThen(final Function1<? super Boolean, ? extends V> after) {
+        return (BooleanFunctionN<V>) BooleanFunctionN.super.andThen(after);
+    }
+
+    /**
+     * @see BooleanFunctionN
+     */
+    @Override
+    default <V> BooleanFunctionN<V> andThenUnchecked(final Function1<? super Boolean, ? extends V> after) {
+        return (final boolean[] values) -> after.apply(this.applyAllAsBoolean(values));
+    }
+
+    /**
+     * An instance of {@link BooleanOperatorN} which properly defines the
+     * arity of that particular operator.
+     *
+     * @see BooleanOperatorN
+     */
+    class Instance implements BooleanOperatorN {
+
+        private final int arity;
+        private final ToBooleanFunction1<boolean[]> operator;
+
+        /**
+         * Constructs an instance of the operator.
+         *
+         * @param arity the number of operands of the operator
+         * @param operator the operator to be applied
+         */
+        public Instance(final int arity, final ToBooleanFunction1<boolean[]> operator) {
+            this.arity = arity;
+            this.operator = operator;
+        }
+
+        @Override
+        public int arity() {
+            return this.arity;
+        }
+
+        @Override
+        public boolean applyAllAsBoolean(final boolean... values) {
+            return this.operator.applyAsBoolean(values);
+        }
+
+        /**
+         * @see BooleanFunctionN.Instance
+         */
+        @SuppressWarnings("unchecked")
+        @Override
+        public <V> BooleanFunctionN.Instance<V> andThen(final Function1<? super Boolean, ? extends V> after) {
+            return (BooleanFunctionN.Instance<V>) BooleanOperatorN.super.andThen(after);
+        }
+
+        /**
+         * @see BooleanFunctionN.Instance
+         */
+        @Override
+        public <V> BooleanFunctionN.Instance<V> andThenUnchecked(final Function1<? super Boolean, ? extends V> after) {
+            return new BooleanFunctionN.Instance<>(this.arity(), (final boolean[] values) -> after.apply(this.operator.applyAsBoolean(values)));
+        }
+    }
+}
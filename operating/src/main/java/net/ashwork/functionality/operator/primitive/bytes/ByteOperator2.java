@@ -10,11 +10,10 @@
 package net.ashwork.functionality.operator.primitive.bytes;
 
 import net.ashwork.functionality.Function1;
-import net.ashwork.functionality.Function2;
 import net.ashwork.functionality.operator.Operator2;
 import net.ashwork.functionality.operator.OperatorN;
-import net.ashwork.functionality.partial.Unboxed;
-import net.ashwork.functionality.partial.UnboxedInput;
+import net.ashwork.functionality.partial.UnboxedAll;
+import net.ashwork.functionality.primitive.bytes.ByteFunction2;
 import net.ashwork.functionality.primitive.bytes.ToByteFunction2;
 import net.ashwork.functionality.primitive.bytes.ToByteFunctionN;
 
@@ -30,7 +29,7 @@ import net.ashwork.functionality.primitive.bytes.ToByteFunctionN;
  * @since 1.0.0
  */
 @FunctionalInterface
-public interface ByteOperator2 extends OperatorN<Byte>, ToByteFunctionN, Unboxed<Operator2<Byte>>, UnboxedInput<ToByteFunction2<Byte, Byte>> {
+public interface ByteOperator2 extends OperatorN<Byte>, ToByteFunctionN, UnboxedAll<Operator2<Byte>, ToByteFunction2<Byte, Byte>, ByteFunction2<Byte>> {
 
     /**
      * Applies this operator to the given operands.
@@ -68,19 +67,27 @@ public interface ByteOperator2 extends OperatorN<Byte>, ToByteFunctionN, Unboxed
     }
 
     /**
-     * @see Function2
+     * @see ByteFunction2
+     */
+    @Override
+    default ByteFunction2<Byte> boxResult() {
+        return this::applyAsByte;
+    }
+
+    /**
+     * @see ByteFunction2
      */
     @SuppressWarnings("unchecked")
     @Override
-    default <V> Function2<Byte, Byte, V> andThen(final Function1<? super Byte, ? extends V> after) {
-        return (Function2<Byte, Byte, V>) ToByteFunctionN.super.andThen(after);
+    default <V> ByteFunction2<V> andThen(final Function1<? super Byte, ? extends V> after) {
+        return (ByteFunction2<V>) ToByteFunctionN.super.andThen(after);
     }
 
     /**
-     * @see Function2
+     * @see ByteFunction2
      */
     @Override
-    default <V> Function2<Byte, Byte, V> andThenUnchecked(final Function1<? super Byte, ? extends V> after) {
-        return (final Byte value1, final Byte value2) -> after.apply(this.applyAsByte(value1, value2));
+    default <V> ByteFunction2<V> andThenUnchecked(final Function1<? super Byte, ? extends V> after) {
+        return (final byte value1, final byte value2) -> after.apply(this.applyAsByte(value1, value2));
     }
 }
@@ -0,0 +1,127 @@
+/*
+ * Operating (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.operator.primitive.bytes;
+
+import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.operator.OperatorN;
+import net.ashwork.functionality.primitive.bytes.ByteFunctionN;
+import net.ashwork.functionality.primitive.bytes.ToByteFunction1;
+import net.ashwork.functionality.primitive.bytes.ToByteFunctionN;
+
+/**
+ * Represents an operation on {@code n} {@code byte}-valued operands that produces a {@code byte}-valued result.
+ * This is the {@code byte} primitive specialization for {@link OperatorN}.
+ * The operands are passed within a {@code byte} array such that they are never boxed.
+ *
+ * <p>This is a functional interface whose functional method is {@link #applyAllAsByte(byte...)}.
+ *
+ * @see OperatorN
+ * @see ByteFunctionN
+ * @see ToByteFunctionN
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface ByteOperatorN extends OperatorN<Byte>, ToByteFunctionN, ByteFunctionN<Byte> {
+
+    /**
+     * Applies this operator to the given operands. Makes no assumptions
+     * of the operands passed in and whether a value will compute
+     * successfully.
+     *
+     * @param values the operands
+     * @return the operator result
+     */
+    byte applyAllAsByte(final byte... values);
+
+    @Override
+    default Byte applyAll(final byte... values) {
+        return this.applyAllAsByte(values);
+    }
+
+    @Override
+    default byte applyAllAsByteUnchecked(final Object... args) {
+        final byte[] values = new byte[args.length];
+        for (int i = 0; i < args.length; i++)
+            values[i] = (byte) args[i];
+        return this.applyAllAsByte(values);
+    }
+
+    @Override
+    default Byte applyAllUnchecked(final Object... args) {
+        return this.applyAllAsByteUnchecked(args);
+    }
+
+    /**
+     * @see ByteFunctionN
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    default <V> ByteFunctionN<V> andThen(final Function1<? super Byte, ? extends V> after) {
+        return (ByteFunctionN<V>) ByteFunctionN.super.andThen(after);
+    }
+
+    /**
+     * @see ByteFunctionN
+     */
+    @Override
+    default <V> ByteFunctionN<V> andThenUnchecked(final Function1<? super Byte, ? extends V> after) {
+        return (final byte[] values) -> after.apply(this.applyAllAsByte(values));
+    }
+
+    /**
+     * An instance of {@link ByteOperatorN} which properly defines the
+     * arity of that particular operator.
+     *
+     * @see ByteOperatorN
+     */
+    class Instance implements ByteOperatorN {
+
+        private final int arity;
+        private final ToByteFunction1<byte[]> operator;
+
+        /**
+         * Constructs an instance of the operator.
+         *
+         * @param arity the number of operands of the operator
+         * @param operator the operator to be applied
+         */
+        public Instance(final int arity, final ToByteFunction1<byte[]> operator) {
+            this.arity = arity;
+            this.operator = operator;
+        }
+
+        @Override
+        public int arity() {
+            return this.arity;
+        }
+
+        @Override
+        public byte applyAllAsByte(final byte... values) {
+            return this.operator.applyAsByte(values);
+        }
+
+        /**
+         * @see ByteFunctionN.Instance
+         */
+        @SuppressWarnings("unchecked")
+        @Override
+        public <V> ByteFunctionN.Instance<V> andThen(final Function1<? super Byte, ? extends V> after) {
+            return (ByteFunctionN.Instance<V>) ByteOperatorN.super.andThen(after);
+        }
+
+        /**
+         * @see ByteFunctionN.Instance
+         */
+        @Override
+        public <V> ByteFunctionN.Instance<V> andThenUnchecked(final Function1<? super Byte, ? extends V> after) {
+            return new ByteFunctionN.Instance<>(this.arity(), (final byte[] values) -> after.apply(this.operator.applyAsByte(values)));
+        }
+    }
+}
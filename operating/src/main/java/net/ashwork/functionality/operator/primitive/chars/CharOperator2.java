@@ -10,11 +10,10 @@
 package net.ashwork.functionality.operator.primitive.chars;
 
 import net.ashwork.functionality.Function1;
-import net.ashwork.functionality.Function2;
 import net.ashwork.functionality.operator.Operator2;
 import net.ashwork.functionality.operator.OperatorN;
-import net.ashwork.functionality.partial.Unboxed;
-import net.ashwork.functionality.partial.UnboxedInput;
+import net.ashwork.functionality.partial.UnboxedAll;
+import net.ashwork.functionality.primitive.chars.CharFunction2;
 import net.ashwork.functionality.primitive.chars.ToCharFunction2;
 import net.ashwork.functionality.primitive.chars.ToCharFunctionN;
 
@@ -30,7 +29,7 @@ import net.ashwork.functionality.primitive.chars.ToCharFunctionN;
  * @since 1.0.0
  */
 @FunctionalInterface
-public interface CharOperator2 extends OperatorN<Character>, ToCharFunctionN, Unboxed<Operator2<Character>>, UnboxedInput<ToCharFunction2<Character, Character>> {
+public interface CharOperator2 extends OperatorN<Character>, ToCharFunctionN, UnboxedAll<Operator2<Character>, ToCharFunction2<Character, Character>, CharFunction2<Character>> {
 
     /**
      * Applies this operator to the given operands.
@@ -68,19 +67,27 @@ public interface CharOperator2 extends OperatorN<Character>, ToCharFunctionN, Un
     }
 
     /**
-     * @see Function2
+     * @see CharFunction2
+     */
+    @Override
+    default CharFunction2<Character> boxResult() {
+        return this::applyAsChar;
+    }
+
+    /**
+     * @see CharFunction2
      */
     @SuppressWarnings("unchecked")
     @Override
-    default <V> Function2<Character, Character, V> andThen(final Function1<? super Character, ? extends V> after) {
-        return (Function2<Character, Character, V>) ToCharFunctionN.super.andThen(after);
+    default <V> CharFunction2<V> andThen(final Function1<? super Character, ? extends V> after) {
+        return (CharFunction2<V>) ToCharFunctionN.super.andThen(after);
     }
 
     /**
-     * @see Function2
+     * @see CharFunction2
      */
     @Override
-    default <V> Function2<Character, Character, V> andThenUnchecked(final Function1<? super Character, ? extends V> after) {
-        return (final Character value1, final Character value2) -> after.apply(this.applyAsChar(value1, value2));
+    default <V> CharFunction2<V> andThenUnchecked(final Function1<? super Character, ? extends V> after) {
+        return (final char value1, final char value2) -> after.apply(this.applyAsChar(value1, value2));
     }
 }
@@ -0,0 +1,127 @@
+/*
+ * Operating (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.operator.primitive.chars;
+
+import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.operator.OperatorN;
+import net.ashwork.functionality.primitive.chars.CharFunctionN;
+import net.ashwork.functionality.primitive.chars.ToCharFunction1;
+import net.ashwork.functionality.primitive.chars.ToCharFunctionN;
+
+/**
+ * Represents an operation on {@code n} {@code char}-valued operands that produces a {@code char}-valued result.
+ * This is the {@code char} primitive specialization for {@link OperatorN}.
+ * The operands are passed within a {@code char} array such that they are never boxed.
+ *
+ * <p>This is a functional interface whose functional method is {@link #applyAllAsChar(char...)}.
+ *
+ * @see OperatorN
+ * @see CharFunctionN
+ * @see ToCharFunctionN
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface CharOperatorN extends OperatorN<Character>, ToCharFunctionN, CharFunctionN<Character> {
+
+    /**
+     * Applies this operator to the given operands. Makes no assumptions
+     * of the operands passed in and whether a value will compute
+     * successfully.
+     *
+     * @param values the operands
+     * @return the operator result
+     */
+    char applyAllAsChar(final char... values);
+
+    @Override
+    default Character applyAll(final char... values) {
+        return this.applyAllAsChar(values);
+    }
+
+    @Override
+    default char applyAllAsCharUnchecked(final Object... args) {
+        final char[] values = new char[args.length];
+        for (int i = 0; i < args.length; i++)
+            values[i] = (char) args[i];
+        return this.applyAllAsChar(values);
+    }
+
+    @Override
+    default Character applyAllUnchecked(final Object... args) {
+        return this.applyAllAsCharUnchecked(args);
+    }
+
+    /**
+     * @see CharFunctionN
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    default <V> CharFunctionN<V> andThen(final Function1<? super Character, ? extends V> after) {
+        return (CharFunctionN<V>) CharFunctionN.super.andThen(after);
+    }
+
+    /**
+     * @see CharFunctionN
+     */
+    @Override
+    default <V> CharFunctionN<V> andThenUnchecked(final Function1<? super Character, ? extends V> after) {
+        return (final char[] values) -> after.apply(this.applyAllAsChar(values));
+    }
+
+    /**
+     * An instance of {@link CharOperatorN} which properly defines the
+     * arity of that particular operator.
+     *
+     * @see CharOperatorN
+     */
+    class Instance implements CharOperatorN {
+
+        private final int arity;
+        private final ToCharFunction1<char[]> operator;
+
+        /**
+         * Constructs an instance of the operator.
+         *
+         * @param arity the number of operands of the operator
+         * @param operator the operator to be applied
+         */
+        public Instance(final int arity, final ToCharFunction1<char[]> operator) {
+            this.arity = arity;
+            this.operator = operator;
+        }
+
+        @Override
+        public int arity() {
+            return this.arity;
+        }
+
+        @Override
+        public char applyAllAsChar(final char... values) {
+            return this.operator.applyAsChar(values);
+        }
+
+        /**
+         * @see CharFunctionN.Instance
+         */
+        @SuppressWarnings("unchecked")
+        @Override
+        public <V> CharFunctionN.Instance<V> andThen(final Function1<? super Character, ? extends V> after) {
+            return (CharFunctionN.Instance<V>) CharOperatorN.super.andThen(after);
+        }
+
+        /**
+         * @see CharFunctionN.Instance
+         */
+        @Override
+        public <V> CharFunctionN.Instance<V> andThenUnchecked(final Function1<? super Character, ? extends V> after) {
+            return new CharFunctionN.Instance<>(this.arity(), (final char[] values) -> after.apply(this.operator.applyAsChar(values)));
+        }
+    }
+}
@@ -10,12 +10,11 @@
 package net.ashwork.functionality.operator.primitive.doubles;
 
 import net.ashwork.functionality.Function1;
-import net.ashwork.functionality.Function2;
 import net.ashwork.functionality.operator.Operator2;
 import net.ashwork.functionality.operator.OperatorN;
-import net.ashwork.functionality.partial.Unboxed;
-import net.ashwork.functionality.partial.UnboxedInput;
+import net.ashwork.functionality.partial.UnboxedAll;
 import net.ashwork.functionality.partial.Variant;
+import net.ashwork.functionality.primitive.doubles.DoubleFunction2;
 import net.ashwork.functionality.primitive.doubles.ToDoubleFunction2;
 import net.ashwork.functionality.primitive.doubles.ToDoubleFunctionN;
 
@@ -33,7 +32,7 @@ import java.util.function.DoubleBinaryOperator;
  * @since 1.0.0
  */
 @FunctionalInterface
-public interface DoubleOperator2 extends OperatorN<Double>, ToDoubleFunctionN, Unboxed<Operator2<Double>>, UnboxedInput<ToDoubleFunction2<Double, Double>>, Variant<DoubleBinaryOperator> {
+public interface DoubleOperator2 extends OperatorN<Double>, ToDoubleFunctionN, UnboxedAll<Operator2<Double>, ToDoubleFunction2<Double, Double>, DoubleFunction2<Double>>, Variant<DoubleBinaryOperator> {
 
     /**
      * Applies this operator to the given operands.
@@ -91,19 +90,27 @@ public interface DoubleOperator2 extends OperatorN<Double>, ToDoubleFunctionN, U
     }
 
     /**
-     * @see Function2
+     * @see DoubleFunction2
+     */
+    @Override
+    default DoubleFunction2<Double> boxResult() {
+        return this::applyAsDouble;
+    }
+
+    /**
+     * @see DoubleFunction2
      */
     @SuppressWarnings("unchecked")
     @Override
-    default <V> Function2<Double, Double, V> andThen(final Function1<? super Double, ? extends V> after) {
-        return (Function2<Double, Double, V>) ToDoubleFunctionN.super.andThen(after);
+    default <V> DoubleFunction2<V> andThen(final Function1<? super Double, ? extends V> after) {
+        return (DoubleFunction2<V>) ToDoubleFunctionN.super.andThen(after);
     }
 
     /**
-     * @see Function2
+     * @see DoubleFunction2
      */
     @Override
-    default <V> Function2<Double, Double, V> andThenUnchecked(final Function1<? super Double, ? extends V> after) {
-        return (final Double value1, final Double value2) -> after.apply(this.applyAsDouble(value1, value2));
+    default <V> DoubleFunction2<V> andThenUnchecked(final Function1<? super Double, ? extends V> after) {
+        return (final double value1, final double value2) -> after.apply(this.applyAsDouble(value1, value2));
     }
 }
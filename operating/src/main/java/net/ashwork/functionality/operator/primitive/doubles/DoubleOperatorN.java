@@ -0,0 +1,127 @@
+/*
+ * Operating (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.operator.primitive.doubles;
+
+import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.operator.OperatorN;
+import net.ashwork.functionality.primitive.doubles.DoubleFunctionN;
+import net.ashwork.functionality.primitive.doubles.ToDoubleFunction1;
+import net.ashwork.functionality.primitive.doubles.ToDoubleFunctionN;
+
+/**
+ * Represents an operation on {@code n} {@code double}-valued operands that produces a {@code double}-valued result.
+ * This is the {@code double} primitive specialization for {@link OperatorN}.
+ * The operands are passed within a {@code double} array such that they are never boxed.
+ *
+ * <p>This is a functional interface whose functional method is {@link #applyAllAsDouble(double...)}.
+ *
+ * @see OperatorN
+ * @see DoubleFunctionN
+ * @see ToDoubleFunctionN
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface DoubleOperatorN extends OperatorN<Double>, ToDoubleFunctionN, DoubleFunctionN<Double> {
+
+    /**
+     * Applies this operator to the given operands. Makes no assumptions
+     * of the operands passed in and whether a value will compute
+     * successfully.
+     *
+     * @param values the operands
+     * @return the operator result
+     */
+    double applyAllAsDouble(final double... values);
+
+    @Override
+    default Double applyAll(final double... values) {
+        return this.applyAllAsDouble(values);
+    }
+
+    @Override
+    default double applyAllAsDoubleUnchecked(final Object... args) {
+        final double[] values = new double[args.length];
+        for (int i = 0; i < args.length; i++)
+            values[i] = (double) args[i];
+        return this.applyAllAsDouble(values);
+    }
+
+    @Override
+    default Double applyAllUnchecked(final Object... args) {
+        return this.applyAllAsDoubleUnchecked(args);
+    }
+
+    /**
+     * @see DoubleFunctionN
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    default <V> DoubleFunctionN<V> andThen(final Function1<? super Double, ? extends V> after) {
+        return (DoubleFunctionN<V>) DoubleFunctionN.super.andThen(after);
+    }
+
+    /**
+     * @see DoubleFunctionN
+     */
+    @Override
+    default <V> DoubleFunctionN<V> andThenUnchecked(final Function1<? super Double, ? extends V> after) {
+        return (final double[] values) -> after.apply(this.applyAllAsDouble(values));
+    }
+
+    /**
+     * An instance of {@link DoubleOperatorN} which properly defines the
+     * arity of that particular operator.
+     *
+     * @see DoubleOperatorN
+     */
+    class Instance implements DoubleOperatorN {
+
+        private final int arity;
+        private final ToDoubleFunction1<double[]> operator;
+
+        /**
+         * Constructs an instance of the operator.
+         *
+         * @param arity the number of operands of the operator
+         * @param operator the operator to be applied
+         */
+        public Instance(final int arity, final ToDoubleFunction1<double[]> operator) {
+            this.arity = arity;
+            this.operator = operator;
+        }
+
+        @Override
+        public int arity() {
+            return this.arity;
+        }
+
+        @Override
+        public double applyAllAsDouble(final double... values) {
+            return this.operator.applyAsDouble(values);
+        }
+
+        /**
+         * @see DoubleFunctionN.Instance
+         */
+        @SuppressWarnings("unchecked")
+        @Override
+        public <V> DoubleFunctionN.Instance<V> andThen(final Function1<? super Double, ? extends V> after) {
+            return (DoubleFunctionN.Instance<V>) DoubleOperatorN.super.andThen(after);
+        }
+
+        /**
+         * @see DoubleFunctionN.Instance
+         */
+        @Override
+        public <V> DoubleFunctionN.Instance<V> andThenUnchecked(final Function1<? super Double, ? extends V> after) {
+            return new DoubleFunctionN.Instance<>(this.arity(), (final double[] values) -> after.apply(this.operator.applyAsDouble(values)));
+        }
+    }
+}
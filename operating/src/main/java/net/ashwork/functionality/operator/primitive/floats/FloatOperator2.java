@@ -10,11 +10,10 @@
 package net.ashwork.functionality.operator.primitive.floats;
 
 import net.ashwork.functionality.Function1;
-import net.ashwork.functionality.Function2;
 import net.ashwork.functionality.operator.Operator2;
 import net.ashwork.functionality.operator.OperatorN;
-import net.ashwork.functionality.partial.Unboxed;
-import net.ashwork.functionality.partial.UnboxedInput;
+import net.ashwork.functionality.partial.UnboxedAll;
+import net.ashwork.functionality.primitive.floats.FloatFunction2;
 import net.ashwork.functionality.primitive.floats.ToFloatFunction2;
 import net.ashwork.functionality.primitive.floats.ToFloatFunctionN;
 
@@ -30,7 +29,7 @@ import net.ashwork.functionality.primitive.floats.ToFloatFunctionN;
  * @since 1.0.0
  */
 @FunctionalInterface
-public interface FloatOperator2 extends OperatorN<Float>, ToFloatFunctionN, Unboxed<Operator2<Float>>, UnboxedInput<ToFloatFunction2<Float, Float>> {
+public interface FloatOperator2 extends OperatorN<Float>, ToFloatFunctionN, UnboxedAll<Operator2<Float>, ToFloatFunction2<Float, Float>, FloatFunction2<Float>> {
 
     /**
      * Applies this operator to the given operands.
@@ -68,19 +67,27 @@ public interface FloatOperator2 extends OperatorN<Float>, ToFloatFunctionN, Unbo
     }
 
     /**
-     * @see Function2
+     * @see FloatFunction2
+     */
+    @Override
+    default FloatFunction2<Float> boxResult() {
+        return this::applyAsFloat;
+    }
+
+    /**
+     * @see FloatFunction2
      */
     @SuppressWarnings("unchecked")
     @Override
-    default <V> Function2<Float, Float, V> andThen(final Function1<? super Float, ? extends V> after) {
-        return (Function2<Float, Float, V>) ToFloatFunctionN.super.andThen(after);
+    default <V> FloatFunction2<V> andThen(final Function1<? super Float, ? extends V> after) {
+        return (FloatFunction2<V>) ToFloatFunctionN.super.andThen(after);
     }
 
     /**
-     * @see Function2
+     * @see FloatFunction2
      */
     @Override
-    default <V> Function2<Float, Float, V> andThenUnchecked(final Function1<? super Float, ? extends V> after) {
-        return (final Float value1, final Float value2) -> after.apply(this.applyAsFloat(value1, value2));
+    default <V> FloatFunction2<V> andThenUnchecked(final Function1<? super Float, ? extends V> after) {
+        return (final float value1, final float value2) -> after.apply(this.applyAsFloat(value1, value2));
     }
 }
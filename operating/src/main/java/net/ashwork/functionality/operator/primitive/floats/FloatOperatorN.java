@@ -0,0 +1,127 @@
+/*
+ * Operating (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.operator.primitive.floats;
+
+import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.operator.OperatorN;
+import net.ashwork.functionality.primitive.floats.FloatFunctionN;
+import net.ashwork.functionality.primitive.floats.ToFloatFunction1;
+import net.ashwork.functionality.primitive.floats.ToFloatFunctionN;
+
+/**
+ * Represents an operation on {@code n} {@code float}-valued operands that produces a {@code float}-valued result.
+ * This is the {@code float} primitive specialization for {@link OperatorN}.
+ * The operands are passed within a {@code float} array such that they are never boxed.
+ *
+ * <p>This is a functional interface whose functional method is {@link #applyAllAsFloat(float...)}.
+ *
+ * @see OperatorN
+ * @see FloatFunctionN
+ * @see ToFloatFunctionN
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface FloatOperatorN extends OperatorN<Float>, ToFloatFunctionN, FloatFunctionN<Float> {
+
+    /**
+     * Applies this operator to the given operands. Makes no assumptions
+     * of the operands passed in and whether a value will compute
+     * successfully.
+     *
+     * @param values the operands
+     * @return the operator result
+     */
+    float applyAllAsFloat(final float... values);
+
+    @Override
+    default Float applyAll(final float... values) {
+        return this.applyAllAsFloat(values);
+    }
+
+    @Override
+    default float applyAllAsFloatUnchecked(final Object... args) {
+        final float[] values = new float[args.length];
+        for (int i = 0; i < args.length; i++)
+            values[i] = (float) args[i];
+        return this.applyAllAsFloat(values);
+    }
+
+    @Override
+    default Float applyAllUnchecked(final Object... args) {
+        return this.applyAllAsFloatUnchecked(args);
+    }
+
+    /**
+     * @see FloatFunctionN
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    default <V> FloatFunctionN<V> andThen(final Function1<? super Float, ? extends V> after) {
+        return (FloatFunctionN<V>) FloatFunctionN.super.andThen(after);
+    }
+
+    /**
+     * @see FloatFunctionN
+     */
+    @Override
+    default <V> FloatFunctionN<V> andThenUnchecked(final Function1<? super Float, ? extends V> after) {
+        return (final float[] values) -> after.apply(this.applyAllAsFloat(values));
+    }
+
+    /**
+     * An instance of {@link FloatOperatorN} which properly defines the
+     * arity of that particular operator.
+     *
+     * @see FloatOperatorN
+     */
+    class Instance implements FloatOperatorN {
+
+        private final int arity;
+        private final ToFloatFunction1<float[]> operator;
+
+        /**
+         * Constructs an instance of the operator.
+         *
+         * @param arity the number of operands of the operator
+         * @param operator the operator to be applied
+         */
+        public Instance(final int arity, final ToFloatFunction1<float[]> operator) {
+            this.arity = arity;
+            this.operator = operator;
+        }
+
+        @Override
+        public int arity() {
+            return this.arity;
+        }
+
+        @Override
+        public float applyAllAsFloat(final float... values) {
+            return this.operator.applyAsFloat(values);
+        }
+
+        /**
+         * @see FloatFunctionN.Instance
+         */
+        @SuppressWarnings("unchecked")
+        @Override
+        public <V> FloatFunctionN.Instance<V> andThen(final Function1<? super Float, ? extends V> after) {
+            return (FloatFunctionN.Instance<V>) FloatOperatorN.super.andThen(after);
+        }
+
+        /**
+         * @see FloatFunctionN.Instance
+         */
+        @Override
+        public <V> FloatFunctionN.Instance<V> andThenUnchecked(final Function1<? super Float, ? extends V> after) {
+            return new FloatFunctionN.Instance<>(this.arity(), (final float[] values) -> after.apply(this.operator.applyAsFloat(values)));
+        }
+    }
+}
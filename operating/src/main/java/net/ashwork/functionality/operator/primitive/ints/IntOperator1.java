@@ -10,6 +10,8 @@
 package net.ashwork.functionality.operator.primitive.ints;
 
 import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.metrics.InvocationMetrics;
+import net.ashwork.functionality.metrics.MetricsRegistry;
 import net.ashwork.functionality.operator.Operator1;
 import net.ashwork.functionality.operator.OperatorN;
 import net.ashwork.functionality.partial.InputChainableInput;
@@ -19,6 +21,7 @@ import net.ashwork.functionality.primitive.ints.IntFunction1;
 import net.ashwork.functionality.primitive.ints.ToIntFunction1;
 import net.ashwork.functionality.primitive.ints.ToIntFunctionN;
 
+import java.util.Objects;
 import java.util.function.IntUnaryOperator;
 
 /**
@@ -99,6 +102,35 @@ public interface IntOperator1 extends OperatorN<Integer>, ToIntFunctionN, InputC
         return this::applyAsInt;
     }
 
+    /**
+     * Returns an operator which records its calls into the metrics registered under
+     * the given name: the number of calls, the number of those which threw, and
+     * the latencies of the calls sampled by the registry. The metrics are looked up
+     * once, when this method is called.
+     *
+     * @param name the name to record the metrics under
+     * @param registry the registry holding the metrics
+     * @return an instrumented operator
+     * @throws NullPointerException if {@code name} or {@code registry} is null
+     *
+     * @see MetricsRegistry
+     */
+    default IntOperator1 instrumented(final String name, final MetricsRegistry registry) {
+        final InvocationMetrics metrics = Objects.requireNonNull(registry, "The registry cannot be null.").metrics(Objects.requireNonNull(name, "The name cannot be null."));
+        return (final int value) -> {
+            final long start = metrics.start();
+            final int result;
+            try {
+                result = this.applyAsInt(value);
+            } catch (final Throwable t) {
+                metrics.failed(start);
+                throw t;
+            }
+            metrics.succeeded(start);
+            return result;
+        };
+    }
+
     /**
      * @see ToIntFunction1
      */
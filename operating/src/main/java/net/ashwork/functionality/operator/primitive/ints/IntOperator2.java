@@ -10,12 +10,11 @@
 package net.ashwork.functionality.operator.primitive.ints;
 
 import net.ashwork.functionality.Function1;
-import net.ashwork.functionality.Function2;
 import net.ashwork.functionality.operator.Operator2;
 import net.ashwork.functionality.operator.OperatorN;
-import net.ashwork.functionality.partial.Unboxed;
-import net.ashwork.functionality.partial.UnboxedInput;
+import net.ashwork.functionality.partial.UnboxedAll;
 import net.ashwork.functionality.partial.Variant;
+import net.ashwork.functionality.primitive.ints.IntFunction2;
 import net.ashwork.functionality.primitive.ints.ToIntFunction2;
 import net.ashwork.functionality.primitive.ints.ToIntFunctionN;
 
@@ -33,7 +32,7 @@ import java.util.function.IntBinaryOperator;
  * @since 1.0.0
  */
 @FunctionalInterface
-public interface IntOperator2 extends OperatorN<Integer>, ToIntFunctionN, Unboxed<Operator2<Integer>>, UnboxedInput<ToIntFunction2<Integer, Integer>>, Variant<IntBinaryOperator> {
+public interface IntOperator2 extends OperatorN<Integer>, ToIntFunctionN, UnboxedAll<Operator2<Integer>, ToIntFunction2<Integer, Integer>, IntFunction2<Integer>>, Variant<IntBinaryOperator> {
 
     /**
      * Applies this operator to the given operands.
@@ -91,19 +90,27 @@ public interface IntOperator2 extends OperatorN<Integer>, ToIntFunctionN, Unboxe
     }
 
     /**
-     * @see Function2
+     * @see IntFunction2
+     */
+    @Override
+    default IntFunction2<Integer> boxResult() {
+        return this::applyAsInt;
+    }
+
+    /**
+     * @see IntFunction2
      */
     @SuppressWarnings("unchecked")
     @Override
-    default <V> Function2<Integer, Integer, V> andThen(final Function1<? super Integer, ? extends V> after) {
-        return (Function2<Integer, Integer, V>) ToIntFunctionN.super.andThen(after);
+    default <V> IntFunction2<V> andThen(final Function1<? super Integer, ? extends V> after) {
+        return (IntFunction2<V>) ToIntFunctionN.super.andThen(after);
     }
 
     /**
-     * @see Function2
+     * @see IntFunction2
      */
     @Override
-    default <V> Function2<Integer, Integer, V> andThenUnchecked(final Function1<? super Integer, ? extends V> after) {
-        return (final Integer value1, final Integer value2) -> after.apply(this.applyAsInt(value1, value2));
+    default <V> IntFunction2<V> andThenUnchecked(final Function1<? super Integer, ? extends V> after) {
+        return (final int value1, final int value2) -> after.apply(this.applyAsInt(value1, value2));
     }
 }
@@ -0,0 +1,127 @@
+/*
+ * Operating (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.operator.primitive.ints;
+
+import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.operator.OperatorN;
+import net.ashwork.functionality.primitive.ints.IntFunctionN;
+import net.ashwork.functionality.primitive.ints.ToIntFunction1;
+import net.ashwork.functionality.primitive.ints.ToIntFunctionN;
+
+/**
+ * Represents an operation on {@code n} {@code int}-valued operands that produces a {@code int}-valued result.
+ * This is the {@code int} primitive specialization for {@link OperatorN}.
+ * The operands are passed within a {@code int} array such that they are never boxed.
+ *
+ * <p>This is a functional interface whose functional method is {@link #applyAllAsInt(int...)}.
+ *
+ * @see OperatorN
+ * @see IntFunctionN
+ * @see ToIntFunctionN
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface IntOperatorN extends OperatorN<Integer>, ToIntFunctionN, IntFunctionN<Integer> {
+
+    /**
+     * Applies this operator to the given operands. Makes no assumptions
+     * of the operands passed in and whether a value will compute
+     * successfully.
+     *
+     * @param values the operands
+     * @return the operator result
+     */
+    int applyAllAsInt(final int... values);
+
+    @Override
+    default Integer applyAll(final int... values) {
+        return this.applyAllAsInt(values);
+    }
+
+    @Override
+    default int applyAllAsIntUnchecked(final Object... args) {
+        final int[] values = new int[args.length];
+        for (int i = 0; i < args.length; i++)
+            values[i] = (int) args[i];
+        return this.applyAllAsInt(values);
+    }
+
+    @Override
+    default Integer applyAllUnchecked(final Object... args) {
+        return this.applyAllAsIntUnchecked(args);
+    }
+
+    /**
+     * @see IntFunctionN
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    default <V> IntFunctionN<V> andThen(final Function1<? super Integer, ? extends V> after) {
+        return (IntFunctionN<V>) IntFunctionN.super.andThen(after);
+    }
+
+    /**
+     * @see IntFunctionN
+     */
+    @Override
+    default <V> IntFunctionN<V> andThenUnchecked(final Function1<? super Integer, ? extends V> after) {
+        return (final int[] values) -> after.apply(this.applyAllAsInt(values));
+    }
+
+    /**
+     * An instance of {@link IntOperatorN} which properly defines the
+     * arity of that particular operator.
+     *
+     * @see IntOperatorN
+     */
+    class Instance implements IntOperatorN {
+
+        private final int arity;
+        private final ToIntFunction1<int[]> operator;
+
+        /**
+         * Constructs an instance of the operator.
+         *
+         * @param arity the number of operands of the operator
+         * @param operator the operator to be applied
+         */
+        public Instance(final int arity, final ToIntFunction1<int[]> operator) {
+            this.arity = arity;
+            this.operator = operator;
+        }
+
+        @Override
+        public int arity() {
+            return this.arity;
+        }
+
+        @Override
+        public int applyAllAsInt(final int... values) {
+            return this.operator.applyAsInt(values);
+        }
+
+        /**
+         * @see IntFunctionN.Instance
+         */
+        @SuppressWarnings("unchecked")
+        @Override
+        public <V> IntFunctionN.Instance<V> andThen(final Function1<? super Integer, ? extends V> after) {
+            return (IntFunctionN.Instance<V>) IntOperatorN.super.andThen(after);
+        }
+
+        /**
+         * @see IntFunctionN.Instance
+         */
+        @Override
+        public <V> IntFunctionN.Instance<V> andThenUnchecked(final Function1<? super Integer, ? extends V> after) {
+            return new IntFunctionN.Instance<>(this.arity(), (final int[] values) -> after.apply(this.operator.applyAsInt(values)));
+        }
+    }
+}
@@ -10,12 +10,11 @@
 package net.ashwork.functionality.operator.primitive.longs;
 
 import net.ashwork.functionality.Function1;
-import net.ashwork.functionality.Function2;
 import net.ashwork.functionality.operator.Operator2;
 import net.ashwork.functionality.operator.OperatorN;
-import net.ashwork.functionality.partial.Unboxed;
-import net.ashwork.functionality.partial.UnboxedInput;
+import net.ashwork.functionality.partial.UnboxedAll;
 import net.ashwork.functionality.partial.Variant;
+import net.ashwork.functionality.primitive.longs.LongFunction2;
 import net.ashwork.functionality.primitive.longs.ToLongFunction2;
 import net.ashwork.functionality.primitive.longs.ToLongFunctionN;
 
@@ -33,7 +32,7 @@ import java.util.function.LongBinaryOperator;
  * @since 1.0.0
  */
 @FunctionalInterface
-public interface LongOperator2 extends OperatorN<Long>, ToLongFunctionN, Unboxed<Operator2<Long>>, UnboxedInput<ToLongFunction2<Long, Long>>, Variant<LongBinaryOperator> {
+public interface LongOperator2 extends OperatorN<Long>, ToLongFunctionN, UnboxedAll<Operator2<Long>, ToLongFunction2<Long, Long>, LongFunction2<Long>>, Variant<LongBinaryOperator> {
 
     /**
      * Applies this operator to the given operands.
@@ -91,19 +90,27 @@ public interface LongOperator2 extends OperatorN<Long>, ToLongFunctionN, Unboxed
     }
 
     /**
-     * @see Function2
+     * @see LongFunction2
+     */
+    @Override
+    default LongFunction2<Long> boxResult() {
+        return this::applyAsLong;
+    }
+
+    /**
+     * @see LongFunction2
      */
     @SuppressWarnings("unchecked")
     @Override
-    default <V> Function2<Long, Long, V> andThen(final Function1<? super Long, ? extends V> after) {
-        return (Function2<Long, Long, V>) ToLongFunctionN.super.andThen(after);
+    default <V> LongFunction2<V> andThen(final Function1<? super Long, ? extends V> after) {
+        return (LongFunction2<V>) ToLongFunctionN.super.andThen(after);
     }
 
     /**
-     * @see Function2
+     * @see LongFunction2
      */
     @Override
-    default <V> Function2<Long, Long, V> andThenUnchecked(final Function1<? super Long, ? extends V> after) {
-        return (final Long value1, final Long value2) -> after.apply(this.applyAsLong(value1, value2));
+    default <V> LongFunction2<V> andThenUnchecked(final Function1<? super Long, ? extends V> after) {
+        return (final long value1, final long value2) -> after.apply(this.applyAsLong(value1, value2));
     }
 }
@@ -0,0 +1,127 @@
+/*
+ * Operating (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.operator.primitive.longs;
+
+import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.operator.OperatorN;
+import net.ashwork.functionality.primitive.longs.LongFunctionN;
+import net.ashwork.functionality.primitive.longs.ToLongFunction1;
+import net.ashwork.functionality.primitive.longs.ToLongFunctionN;
+
+/**
+ * Represents an operation on {@code n} {@code long}-valued operands that produces a {@code long}-valued result.
+ * This is the {@code long} primitive specialization for {@link OperatorN}.
+ * The operands are passed within a {@code long} array such that they are never boxed.
+ *
+ * <p>This is a functional interface whose functional method is {@link #applyAllAsLong(long...)}.
+ *
+ * @see OperatorN
+ * @see LongFunctionN
+ * @see ToLongFunctionN
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface LongOperatorN extends OperatorN<Long>, ToLongFunctionN, LongFunctionN<Long> {
+
+    /**
+     * Applies this operator to the given operands. Makes no assumptions
+     * of the operands passed in and whether a value will compute
+     * successfully.
+     *
+     * @param values the operands
+     * @return the operator result
+     */
+    long applyAllAsLong(final long... values);
+
+    @Override
+    default Long applyAll(final long... values) {
+        return this.applyAllAsLong(values);
+    }
+
+    @Override
+    default long applyAllAsLongUnchecked(final Object... args) {
+        final long[] values = new long[args.length];
+        for (int i = 0; i < args.length; i++)
+            values[i] = (long) args[i];
+        return this.applyAllAsLong(values);
+    }
+
+    @Override
+    default Long applyAllUnchecked(final Object... args) {
+        return this.applyAllAsLongUnchecked(args);
+    }
+
+    /**
+     * @see LongFunctionN
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    default <V> LongFunctionN<V> andThen(final Function1<? super Long, ? extends V> after) {
+        return (LongFunctionN<V>) LongFunctionN.super.andThen(after);
+    }
+
+    /**
+     * @see LongFunctionN
+     */
+    @Override
+    default <V> LongFunctionN<V> andThenUnchecked(final Function1<? super Long, ? extends V> after) {
+        return (final long[] values) -> after.apply(this.applyAllAsLong(values));
+    }
+
+    /**
+     * An instance of {@link LongOperatorN} which properly defines the
+     * arity of that particular operator.
+     *
+     * @see LongOperatorN
+     */
+    class Instance implements LongOperatorN {
+
+        private final int arity;
+        private final ToLongFunction1<long[]> operator;
+
+        /**
+         * Constructs an instance of the operator.
+         *
+         * @param arity the number of operands of the operator
+         * @param operator the operator to be applied
+         */
+        public Instance(final int arity, final ToLongFunction1<long[]> operator) {
+            this.arity = arity;
+            this.operator = operator;
+        }
+
+        @Override
+        public int arity() {
+            return this.arity;
+        }
+
+        @Override
+        public long applyAllAsLong(final long... values) {
+            return this.operator.applyAsLong(values);
+        }
+
+        /**
+         * @see LongFunctionN.Instance
+         */
+        @SuppressWarnings("unchecked")
+        @Override
+        public <V> LongFunctionN.Instance<V> andThen(final Function1<? super Long, ? extends V> after) {
+            return (LongFunctionN.Instance<V>) LongOperatorN.super.andThen(after);
+        }
+
+        /**
+         * @see LongFunctionN.Instance
+         */
+        @Override
+        public <V> LongFunctionN.Instance<V> andThenUnchecked(final Function1<? super Long, ? extends V> after) {
+            return new LongFunctionN.Instance<>(this.arity(), (final long[] values) -> after.apply(this.operator.applyAsLong(values)));
+        }
+    }
+}
@@ -10,11 +10,10 @@
 package net.ashwork.functionality.operator.primitive.shorts;
 
 import net.ashwork.functionality.Function1;
-import net.ashwork.functionality.Function2;
 import net.ashwork.functionality.operator.Operator2;
 import net.ashwork.functionality.operator.OperatorN;
-import net.ashwork.functionality.partial.Unboxed;
-import net.ashwork.functionality.partial.UnboxedInput;
+import net.ashwork.functionality.partial.UnboxedAll;
+import net.ashwork.functionality.primitive.shorts.ShortFunction2;
 import net.ashwork.functionality.primitive.shorts.ToShortFunction2;
 import net.ashwork.functionality.primitive.shorts.ToShortFunctionN;
 
@@ -30,7 +29,7 @@ import net.ashwork.functionality.primitive.shorts.ToShortFunctionN;
  * @since 1.0.0
  */
 @FunctionalInterface
-public interface ShortOperator2 extends OperatorN<Short>, ToShortFunctionN, Unboxed<Operator2<Short>>, UnboxedInput<ToShortFunction2<Short, Short>> {
+public interface ShortOperator2 extends OperatorN<Short>, ToShortFunctionN, UnboxedAll<Operator2<Short>, ToShortFunction2<Short, Short>, ShortFunction2<Short>> {
 
     /**
      * Applies this operator to the given operands.
@@ -68,19 +67,27 @@ public interface ShortOperator2 extends OperatorN<Short>, ToShortFunctionN, Unbo
     }
 
     /**
-     * @see Function2
+     * @see ShortFunction2
+     */
+    @Override
+    default ShortFunction2<Short> boxResult() {
+        return this::applyAsShort;
+    }
+
+    /**
+     * @see ShortFunction2
      */
     @SuppressWarnings("unchecked")
     @Override
-    default <V> Function2<Short, Short, V> andThen(final Function1<? super Short, ? extends V> after) {
-        return (Function2<Short, Short, V>) ToShortFunctionN.super.andThen(after);
+    default <V> ShortFunction2<V> andThen(final Function1<? super Short, ? extends V> after) {
+        return (ShortFunction2<V>) ToShortFunctionN.super.andThen(after);
     }
 
     /**
-     * @see Function2
+     * @see ShortFunction2
      */
     @Override
-    default <V> Function2<Short, Short, V> andThenUnchecked(final Function1<? super Short, ? extends V> after) {
-        return (final Short value1, final Short value2) -> after.apply(this.applyAsShort(value1, value2));
+    default <V> ShortFunction2<V> andThenUnchecked(final Function1<? super Short, ? extends V> after) {
+        return (final short value1, final short value2) -> after.apply(this.applyAsShort(value1, value2));
     }
 }
@@ -0,0 +1,127 @@
+/*
+ * Operating (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.operator.primitive.shorts;
+
+import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.operator.OperatorN;
+import net.ashwork.functionality.primitive.shorts.ShortFunctionN;
+import net.ashwork.functionality.primitive.shorts.ToShortFunction1;
+import net.ashwork.functionality.primitive.shorts.ToShortFunctionN;
+
+/**
+ * Represents an operation on {@code n} {@code short}-valued operands that produces a {@code short}-valued result.
+ * This is the {@code short} primitive specialization for {@link OperatorN}.
+ * The operands are passed within a {@code short} array such that they are never boxed.
+ *
+ * <p>This is a functional interface whose functional method is {@link #applyAllAsShort(short...)}.
+ *
+ * @see OperatorN
+ * @see ShortFunctionN
+ * @see ToShortFunctionN
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface ShortOperatorN extends OperatorN<Short>, ToShortFunctionN, ShortFunctionN<Short> {
+
+    /**
+     * Applies this operator to the given operands. Makes no assumptions
+     * of the operands passed in and whether a value will compute
+     * successfully.
+     *
+     * @param values the operands
+     * @return the operator result
+     */
+    short applyAllAsShort(final short... values);
+
+    @Override
+    default Short applyAll(final short... values) {
+        return this.applyAllAsShort(values);
+    }
+
+    @Override
+    default short applyAllAsShortUnchecked(final Object... args) {
+        final short[] values = new short[args.length];
+        for (int i = 0; i < args.length; i++)
+            values[i] = (short) args[i];
+        return this.applyAllAsShort(values);
+    }
+
+    @Override
+    default Short applyAllUnchecked(final Object... args) {
+        return this.applyAllAsShortUnchecked(args);
+    }
+
+    /**
+     * @see ShortFunctionN
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    default <V> ShortFunctionN<V> andThen(final Function1<? super Short, ? extends V> after) {
+        return (ShortFunctionN<V>) ShortFunctionN.super.andThen(after);
+    }
+
+    /**
+     * @see ShortFunctionN
+     */
+    @Override
+    default <V> ShortFunctionN<V> andThenUnchecked(final Function1<? super Short, ? extends V> after) {
+        return (final short[] values) -> after.apply(this.applyAllAsShort(values));
+    }
+
+    /**
+     * An instance of {@link ShortOperatorN} which properly defines the
+     * arity of that particular operator.
+     *
+     * @see ShortOperatorN
+     */
+    class Instance implements ShortOperatorN {
+
+        private final int arity;
+        private final ToShortFunction1<short[]> operator;
+
+        /**
+         * Constructs an instance of the operator.
+         *
+         * @param arity the number of operands of the operator
+         * @param operator the operator to be applied
+         */
+        public Instance(final int arity, final ToShortFunction1<short[]> operator) {
+            this.arity = arity;
+            this.operator = operator;
+        }
+
+        @Override
+        public int arity() {
+            return this.arity;
+        }
+
+        @Override
+        public short applyAllAsShort(final short... values) {
+            return this.operator.applyAsShort(values);
+        }
+
+        /**
+         * @see ShortFunctionN.Instance
+         */
+        @SuppressWarnings("unchecked")
+        @Override
+        public <V> ShortFunctionN.Instance<V> andThen(final Function1<? super Short, ? extends V> after) {
+            return (ShortFunctionN.Instance<V>) ShortOperatorN.super.andThen(after);
+        }
+
+        /**
+         * @see ShortFunctionN.Instance
+         */
+        @Override
+        public <V> ShortFunctionN.Instance<V> andThenUnchecked(final Function1<? super Short, ? extends V> after) {
+            return new ShortFunctionN.Instance<>(this.arity(), (final short[] values) -> after.apply(this.operator.applyAsShort(values)));
+        }
+    }
+}
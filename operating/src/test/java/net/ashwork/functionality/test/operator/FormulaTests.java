@@ -0,0 +1,101 @@
+/*
+ * Operating (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.test.operator;
+
+import net.ashwork.functionality.FunctionN;
+import net.ashwork.functionality.operator.formula.Formula;
+import net.ashwork.functionality.operator.primitive.doubles.DoubleOperator2;
+import net.ashwork.functionality.operator.primitive.doubles.DoubleOperatorN;
+import net.ashwork.functionality.operator.primitive.ints.IntOperator2;
+import net.ashwork.functionality.operator.primitive.ints.IntOperatorN;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * A testing class that tests the parsing and compiling of formulas.
+ */
+public final class FormulaTests {
+
+    /**
+     * Tests the precedence and associativity of the parsed operators.
+     */
+    @Test
+    public void parse() {
+        Assertions.assertEquals(7.0, Formula.parse("1 + 2 * 3").evaluate(), 0.0);
+        Assertions.assertEquals(9.0, Formula.parse("(1 + 2) * 3").evaluate(), 0.0);
+        Assertions.assertEquals(512.0, Formula.parse("2 ^ 3 ^ 2").evaluate(), 0.0);
+        Assertions.assertEquals(-4.0, Formula.parse("-2 ^ 2").evaluate(), 0.0);
+        Assertions.assertEquals(1.0, Formula.parse("10 % 3").evaluate(), 0.0);
+        Assertions.assertEquals(Math.PI * 2, Formula.parse("2 * pi").evaluate(), 0.0);
+        Assertions.assertEquals(25.0, Formula.parse("a * 1.5 + max(b, 10)", "a", "b").evaluate(10, 4), 0.0);
+        Assertions.assertEquals(3.0, Formula.parse("sqrt(abs(x))", "x").evaluate(-9), 0.0);
+    }
+
+    /**
+     * Tests that malformed formulas are rejected.
+     */
+    @Test
+    public void malformed() {
+        Assertions.assertThrows(Formula.FormulaException.class, () -> Formula.parse("1 +"));
+        Assertions.assertThrows(Formula.FormulaException.class, () -> Formula.parse("(1 + 2"));
+        Assertions.assertThrows(Formula.FormulaException.class, () -> Formula.parse("a + b", "a"));
+        Assertions.assertThrows(Formula.FormulaException.class, () -> Formula.parse("foo(1)"));
+        Assertions.assertThrows(Formula.FormulaException.class, () -> Formula.parse("a", "a", "a"));
+        Assertions.assertThrows(FunctionN.FunctionSizeException.class, () -> Formula.parse("a", "a").evaluate(1, 2));
+    }
+
+    /**
+     * Tests the folding of constants and sharing of repeated subexpressions.
+     */
+    @Test
+    public void compile() {
+        Assertions.assertTrue(Formula.parse("2 * (3 + 4)").isConstant());
+        Assertions.assertFalse(Formula.parse("x * (3 + 4)", "x").isConstant());
+        Assertions.assertEquals(14.0, Formula.parse("2 * (3 + 4)").toDoubleOperatorN().applyAllAsDouble(), 0.0);
+
+        final Formula shared = Formula.parse("(a + b) * (a + b) - (a + b)", "a", "b");
+        Assertions.assertEquals(1, shared.sharedSubexpressions());
+        final DoubleOperator2 operator = shared.toDoubleOperator2();
+        for (int i = 0; i < 100; i++)
+            Assertions.assertEquals((i + 1.0) * (i + 1.0) - (i + 1.0), operator.applyAsDouble(i, 1), 0.0);
+    }
+
+    /**
+     * Tests the operators compiled with {@code double} arithmetic.
+     */
+    @Test
+    public void doubles() {
+        final Formula formula = Formula.parse("x * y + z / 2", "x", "y", "z");
+        final DoubleOperatorN operator = formula.toDoubleOperatorN();
+        Assertions.assertEquals(3, operator.arity());
+        Assertions.assertEquals(8.5, operator.applyAllAsDouble(2, 3, 5), 0.0);
+        Assertions.assertThrows(FunctionN.FunctionSizeException.class, () -> operator.applyAllAsDouble(1, 2));
+        Assertions.assertEquals(6.0, Formula.parse("x + 1", "x").toDoubleOperator1().applyAsDouble(5), 0.0);
+        Assertions.assertThrows(FunctionN.FunctionSizeException.class, () -> formula.toDoubleOperator1());
+    }
+
+    /**
+     * Tests the operators compiled with {@code int} arithmetic.
+     */
+    @Test
+    public void ints() {
+        final IntOperator2 divide = Formula.parse("a / b + a % b", "a", "b").toIntOperator2();
+        Assertions.assertEquals(7 / 2 + 7 % 2, divide.applyAsInt(7, 2));
+        Assertions.assertEquals(-7 / 2 + -7 % 2, divide.applyAsInt(-7, 2));
+        Assertions.assertThrows(ArithmeticException.class, () -> divide.applyAsInt(1, 0));
+        Assertions.assertEquals(1024, Formula.parse("2 ^ x", "x").toIntOperator1().applyAsInt(10));
+
+        final IntOperatorN operator = Formula.parse("max(a, b) * c", "a", "b", "c").toIntOperatorN();
+        Assertions.assertEquals(15, operator.applyAllAsInt(1, 5, 3));
+
+        Assertions.assertThrows(Formula.FormulaException.class, () -> Formula.parse("x * 1.5", "x").toIntOperator1());
+        Assertions.assertThrows(Formula.FormulaException.class, () -> Formula.parse("sqrt(x)", "x").toIntOperator1());
+    }
+}
@@ -0,0 +1,14 @@
+/*
+ * Operating (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+/**
+ * A testing interface for verifying all portions of the implemented
+ * Operators works as intended.
+ */
+package net.ashwork.functionality.test.operator;
\ No newline at end of file
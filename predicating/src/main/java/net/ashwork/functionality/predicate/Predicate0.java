@@ -9,9 +9,13 @@
 
 package net.ashwork.functionality.predicate;
 
+import net.ashwork.functionality.metrics.InvocationMetrics;
+import net.ashwork.functionality.metrics.MetricsRegistry;
 import net.ashwork.functionality.predicate.abstracts.AbstractPredicate0;
 import net.ashwork.functionality.primitive.booleans.ToBooleanFunction0;
 
+import java.util.Objects;
+
 /**
  * Represents a predicate that accepts no arguments and produces a {@code boolean}-valued result.
  * This is the zero-arity specialization for {@link Predicate0}.
@@ -38,6 +42,35 @@ public interface Predicate0 extends AbstractPredicate0<Predicate0> {
         return function::applyAsBoolean;
     }
 
+    /**
+     * Returns a predicate which records its calls into the metrics registered under
+     * the given name: the number of calls, the number of those which threw, and
+     * the latencies of the calls sampled by the registry. The metrics are looked up
+     * once, when this method is called.
+     *
+     * @param name the name to record the metrics under
+     * @param registry the registry holding the metrics
+     * @return an instrumented predicate
+     * @throws NullPointerException if {@code name} or {@code registry} is null
+     *
+     * @see MetricsRegistry
+     */
+    default Predicate0 instrumented(final String name, final MetricsRegistry registry) {
+        final InvocationMetrics metrics = Objects.requireNonNull(registry, "The registry cannot be null.").metrics(Objects.requireNonNull(name, "The name cannot be null."));
+        return () -> {
+            final long start = metrics.start();
+            final boolean result;
+            try {
+                result = this.test();
+            } catch (final Throwable t) {
+                metrics.failed(start);
+                throw t;
+            }
+            metrics.succeeded(start);
+            return result;
+        };
+    }
+
     @Override
     default Predicate0 not() {
         return () -> !this.test();
@@ -9,9 +9,12 @@
 
 package net.ashwork.functionality.predicate;
 
+import net.ashwork.functionality.metrics.InvocationMetrics;
+import net.ashwork.functionality.metrics.MetricsRegistry;
 import net.ashwork.functionality.predicate.abstracts.AbstractPredicate2;
 import net.ashwork.functionality.primitive.booleans.ToBooleanFunction2;
 
+import java.util.Objects;
 import java.util.function.BiPredicate;
 
 /**
@@ -59,6 +62,35 @@ public interface Predicate2<T1, T2> extends AbstractPredicate2<T1, T2, Predicate
         return predicate::test;
     }
 
+    /**
+     * Returns a predicate which records its calls into the metrics registered under
+     * the given name: the number of calls, the number of those which threw, and
+     * the latencies of the calls sampled by the registry. The metrics are looked up
+     * once, when this method is called.
+     *
+     * @param name the name to record the metrics under
+     * @param registry the registry holding the metrics
+     * @return an instrumented predicate
+     * @throws NullPointerException if {@code name} or {@code registry} is null
+     *
+     * @see MetricsRegistry
+     */
+    default Predicate2<T1, T2> instrumented(final String name, final MetricsRegistry registry) {
+        final InvocationMetrics metrics = Objects.requireNonNull(registry, "The registry cannot be null.").metrics(Objects.requireNonNull(name, "The name cannot be null."));
+        return (final T1 t1, final T2 t2) -> {
+            final long start = metrics.start();
+            final boolean result;
+            try {
+                result = this.test(t1, t2);
+            } catch (final Throwable t) {
+                metrics.failed(start);
+                throw t;
+            }
+            metrics.succeeded(start);
+            return result;
+        };
+    }
+
     @Override
     default Predicate2<T1, T2> not() {
         return (final T1 t1, final T2 t2) -> !this.test(t1, t2);
@@ -0,0 +1,74 @@
+/*
+ * Predicating (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.predicate;
+
+import net.ashwork.functionality.predicate.abstracts.AbstractPredicate3;
+
+/**
+ * Represents a predicate that accepts three arguments and produces a {@code boolean}-valued result.
+ * This is the three-arity specialization for {@link PredicateN}.
+ *
+ * <p>This is a functional interface whose functional method is {@link #test(Object, Object, Object)}.
+ *
+ * @param <T1> the type of the first argument to the predicate
+ * @param <T2> the type of the second argument to the predicate
+ * @param <T3> the type of the third argument to the predicate
+ *
+ * @see PredicateN
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface Predicate3<T1, T2, T3> extends AbstractPredicate3<T1, T2, T3, Predicate3<T1, T2, T3>> {
+
+    @Override
+    default Predicate3<T1, T2, T3> not() {
+        return (final T1 t1, final T2 t2, final T3 t3) -> !this.test(t1, t2, t3);
+    }
+
+    @Override
+    default Predicate3<T1, T2, T3> and(final Predicate3<T1, T2, T3> other) {
+        return (final T1 t1, final T2 t2, final T3 t3) -> this.test(t1, t2, t3) && other.test(t1, t2, t3);
+    }
+
+    @Override
+    default Predicate3<T1, T2, T3> or(final Predicate3<T1, T2, T3> other) {
+        return (final T1 t1, final T2 t2, final T3 t3) -> this.test(t1, t2, t3) || other.test(t1, t2, t3);
+    }
+
+    @Override
+    default Predicate3<T1, T2, T3> xor(final Predicate3<T1, T2, T3> other) {
+        return (Predicate3<T1, T2, T3>) AbstractPredicate3.super.xor(other);
+    }
+
+    @Override
+    default Predicate3<T1, T2, T3> sub(final Predicate3<T1, T2, T3> other) {
+        return (Predicate3<T1, T2, T3>) AbstractPredicate3.super.sub(other);
+    }
+
+    @Override
+    default Predicate3<T1, T2, T3> nand(final Predicate3<T1, T2, T3> other) {
+        return (Predicate3<T1, T2, T3>) AbstractPredicate3.super.nand(other);
+    }
+
+    @Override
+    default Predicate3<T1, T2, T3> nor(final Predicate3<T1, T2, T3> other) {
+        return (Predicate3<T1, T2, T3>) AbstractPredicate3.super.nor(other);
+    }
+
+    @Override
+    default Predicate3<T1, T2, T3> xnor(final Predicate3<T1, T2, T3> other) {
+        return (Predicate3<T1, T2, T3>) AbstractPredicate3.super.xnor(other);
+    }
+
+    @Override
+    default Predicate3<T1, T2, T3> orNot(final Predicate3<T1, T2, T3> other) {
+        return (Predicate3<T1, T2, T3>) AbstractPredicate3.super.orNot(other);
+    }
+}
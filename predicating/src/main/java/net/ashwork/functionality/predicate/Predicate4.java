@@ -0,0 +1,75 @@
+/*
+ * Predicating (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.predicate;
+
+import net.ashwork.functionality.predicate.abstracts.AbstractPredicate4;
+
+/**
+ * Represents a predicate that accepts four arguments and produces a {@code boolean}-valued result.
+ * This is the four-arity specialization for {@link PredicateN}.
+ *
+ * <p>This is a functional interface whose functional method is {@link #test(Object, Object, Object, Object)}.
+ *
+ * @param <T1> the type of the first argument to the predicate
+ * @param <T2> the type of the second argument to the predicate
+ * @param <T3> the type of the third argument to the predicate
+ * @param <T4> the type of the fourth argument to the predicate
+ *
+ * @see PredicateN
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface Predicate4<T1, T2, T3, T4> extends AbstractPredicate4<T1, T2, T3, T4, Predicate4<T1, T2, T3, T4>> {
+
+    @Override
+    default Predicate4<T1, T2, T3, T4> not() {
+        return (final T1 t1, final T2 t2, final T3 t3, final T4 t4) -> !this.test(t1, t2, t3, t4);
+    }
+
+    @Override
+    default Predicate4<T1, T2, T3, T4> and(final Predicate4<T1, T2, T3, T4> other) {
+        return (final T1 t1, final T2 t2, final T3 t3, final T4 t4) -> this.test(t1, t2, t3, t4) && other.test(t1, t2, t3, t4);
+    }
+
+    @Override
+    default Predicate4<T1, T2, T3, T4> or(final Predicate4<T1, T2, T3, T4> other) {
+        return (final T1 t1, final T2 t2, final T3 t3, final T4 t4) -> this.test(t1, t2, t3, t4) || other.test(t1, t2, t3, t4);
+    }
+
+    @Override
+    default Predicate4<T1, T2, T3, T4> xor(final Predicate4<T1, T2, T3, T4> other) {
+        return (Predicate4<T1, T2, T3, T4>) AbstractPredicate4.super.xor(other);
+    }
+
+    @Override
+    default Predicate4<T1, T2, T3, T4> sub(final Predicate4<T1, T2, T3, T4> other) {
+        return (Predicate4<T1, T2, T3, T4>) AbstractPredicate4.super.sub(other);
+    }
+
+    @Override
+    default Predicate4<T1, T2, T3, T4> nand(final Predicate4<T1, T2, T3, T4> other) {
+        return (Predicate4<T1, T2, T3, T4>) AbstractPredicate4.super.nand(other);
+    }
+
+    @Override
+    default Predicate4<T1, T2, T3, T4> nor(final Predicate4<T1, T2, T3, T4> other) {
+        return (Predicate4<T1, T2, T3, T4>) AbstractPredicate4.super.nor(other);
+    }
+
+    @Override
+    default Predicate4<T1, T2, T3, T4> xnor(final Predicate4<T1, T2, T3, T4> other) {
+        return (Predicate4<T1, T2, T3, T4>) AbstractPredicate4.super.xnor(other);
+    }
+
+    @Override
+    default Predicate4<T1, T2, T3, T4> orNot(final Predicate4<T1, T2, T3, T4> other) {
+        return (Predicate4<T1, T2, T3, T4>) AbstractPredicate4.super.orNot(other);
+    }
+}
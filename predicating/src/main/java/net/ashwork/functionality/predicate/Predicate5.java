@@ -0,0 +1,76 @@
+/*
+ * Predicating (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.predicate;
+
+import net.ashwork.functionality.predicate.abstracts.AbstractPredicate5;
+
+/**
+ * Represents a predicate that accepts five arguments and produces a {@code boolean}-valued result.
+ * This is the five-arity specialization for {@link PredicateN}.
+ *
+ * <p>This is a functional interface whose functional method is {@link #test(Object, Object, Object, Object, Object)}.
+ *
+ * @param <T1> the type of the first argument to the predicate
+ * @param <T2> the type of the second argument to the predicate
+ * @param <T3> the type of the third argument to the predicate
+ * @param <T4> the type of the fourth argument to the predicate
+ * @param <T5> the type of the fifth argument to the predicate
+ *
+ * @see PredicateN
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface Predicate5<T1, T2, T3, T4, T5> extends AbstractPredicate5<T1, T2, T3, T4, T5, Predicate5<T1, T2, T3, T4, T5>> {
+
+    @Override
+    default Predicate5<T1, T2, T3, T4, T5> not() {
+        return (final T1 t1, final T2 t2, final T3 t3, final T4 t4, final T5 t5) -> !this.test(t1, t2, t3, t4, t5);
+    }
+
+    @Override
+    default Predicate5<T1, T2, T3, T4, T5> and(final Predicate5<T1, T2, T3, T4, T5> other) {
+        return (final T1 t1, final T2 t2, final T3 t3, final T4 t4, final T5 t5) -> this.test(t1, t2, t3, t4, t5) && other.test(t1, t2, t3, t4, t5);
+    }
+
+    @Override
+    default Predicate5<T1, T2, T3, T4, T5> or(final Predicate5<T1, T2, T3, T4, T5> other) {
+        return (final T1 t1, final T2 t2, final T3 t3, final T4 t4, final T5 t5) -> this.test(t1, t2, t3, t4, t5) || other.test(t1, t2, t3, t4, t5);
+    }
+
+    @Override
+    default Predicate5<T1, T2, T3, T4, T5> xor(final Predicate5<T1, T2, T3, T4, T5> other) {
+        return (Predicate5<T1, T2, T3, T4, T5>) AbstractPredicate5.super.xor(other);
+    }
+
+    @Override
+    default Predicate5<T1, T2, T3, T4, T5> sub(final Predicate5<T1, T2, T3, T4, T5> other) {
+        return (Predicate5<T1, T2, T3, T4, T5>) AbstractPredicate5.super.sub(other);
+    }
+
+    @Override
+    default Predicate5<T1, T2, T3, T4, T5> nand(final Predicate5<T1, T2, T3, T4, T5> other) {
+        return (Predicate5<T1, T2, T3, T4, T5>) AbstractPredicate5.super.nand(other);
+    }
+
+    @Override
+    default Predicate5<T1, T2, T3, T4, T5> nor(final Predicate5<T1, T2, T3, T4, T5> other) {
+        return (Predicate5<T1, T2, T3, T4, T5>) AbstractPredicate5.super.nor(other);
+    }
+
+    @Override
+    default Predicate5<T1, T2, T3, T4, T5> xnor(final Predicate5<T1, T2, T3, T4, T5> other) {
+        return (Predicate5<T1, T2, T3, T4, T5>) AbstractPredicate5.super.xnor(other);
+    }
+
+    @Override
+    default Predicate5<T1, T2, T3, T4, T5> orNot(final Predicate5<T1, T2, T3, T4, T5> other) {
+        return (Predicate5<T1, T2, T3, T4, T5>) AbstractPredicate5.super.orNot(other);
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Predicating (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.predicate;
+
+import net.ashwork.functionality.predicate.abstracts.AbstractPredicate6;
+
+/**
+ * Represents a predicate that accepts six arguments and produces a {@code boolean}-valued result.
+ * This is the six-arity specialization for {@link PredicateN}.
+ *
+ * <p>This is a functional interface whose functional method is {@link #test(Object, Object, Object, Object, Object, Object)}.
+ *
+ * @param <T1> the type of the first argument to the predicate
+ * @param <T2> the type of the second argument to the predicate
+ * @param <T3> the type of the third argument to the predicate
+ * @param <T4> the type of the fourth argument to the predicate
+ * @param <T5> the type of the fifth argument to the predicate
+ * @param <T6> the type of the sixth argument to the predicate
+ *
+ * @see PredicateN
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface Predicate6<T1, T2, T3, T4, T5, T6> extends AbstractPredicate6<T1, T2, T3, T4, T5, T6, Predicate6<T1, T2, T3, T4, T5, T6>> {
+
+    @Override
+    default Predicate6<T1, T2, T3, T4, T5, T6> not() {
+        return (final T1 t1, final T2 t2, final T3 t3, final T4 t4, final T5 t5, final T6 t6) -> !this.test(t1, t2, t3, t4, t5, t6);
+    }
+
+    @Override
+    default Predicate6<T1, T2, T3, T4, T5, T6> and(final Predicate6<T1, T2, T3, T4, T5, T6> other) {
+        return (final T1 t1, final T2 t2, final T3 t3, final T4 t4, final T5 t5, final T6 t6) -> this.test(t1, t2, t3, t4, t5, t6) && other.test(t1, t2, t3, t4, t5, t6);
+    }
+
+    @Override
+    default Predicate6<T1, T2, T3, T4, T5, T6> or(final Predicate6<T1, T2, T3, T4, T5, T6> other) {
+        return (final T1 t1, final T2 t2, final T3 t3, final T4 t4, final T5 t5, final T6 t6) -> this.test(t1, t2, t3, t4, t5, t6) || other.test(t1, t2, t3, t4, t5, t6);
+    }
+
+    @Override
+    default Predicate6<T1, T2, T3, T4, T5, T6> xor(final Predicate6<T1, T2, T3, T4, T5, T6> other) {
+        return (Predicate6<T1, T2, T3, T4, T5, T6>) AbstractPredicate6.super.xor(other);
+    }
+
+    @Override
+    default Predicate6<T1, T2, T3, T4, T5, T6> sub(final Predicate6<T1, T2, T3, T4, T5, T6> other) {
+        return (Predicate6<T1, T2, T3, T4, T5, T6>) AbstractPredicate6.super.sub(other);
+    }
+
+    @Override
+    default Predicate6<T1, T2, T3, T4, T5, T6> nand(final Predicate6<T1, T2, T3, T4, T5, T6> other) {
+        return (Predicate6<T1, T2, T3, T4, T5, T6>) AbstractPredicate6.super.nand(other);
+    }
+
+    @Override
+    default Predicate6<T1, T2, T3, T4, T5, T6> nor(final Predicate6<T1, T2, T3, T4, T5, T6> other) {
+        return (Predicate6<T1, T2, T3, T4, T5, T6>) AbstractPredicate6.super.nor(other);
+    }
+
+    @Override
+    default Predicate6<T1, T2, T3, T4, T5, T6> xnor(final Predicate6<T1, T2, T3, T4, T5, T6> other) {
+        return (Predicate6<T1, T2, T3, T4, T5, T6>) AbstractPredicate6.super.xnor(other);
+    }
+
+    @Override
+    default Predicate6<T1, T2, T3, T4, T5, T6> orNot(final Predicate6<T1, T2, T3, T4, T5, T6> other) {
+        return (Predicate6<T1, T2, T3, T4, T5, T6>) AbstractPredicate6.super.orNot(other);
+    }
+}
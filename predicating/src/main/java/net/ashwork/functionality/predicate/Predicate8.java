@@ -0,0 +1,79 @@
+/*
+ * Predicating (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.predicate;
+
+import net.ashwork.functionality.predicate.abstracts.AbstractPredicate8;
+
+/**
+ * Represents a predicate that accepts eight arguments and produces a {@code boolean}-valued result.
+ * This is the eight-arity specialization for {@link PredicateN}.
+ *
+ * <p>This is a functional interface whose functional method is {@link #test(Object, Object, Object, Object, Object, Object, Object, Object)}.
+ *
+ * @param <T1> the type of the first argument to the predicate
+ * @param <T2> the type of the second argument to the predicate
+ * @param <T3> the type of the third argument to the predicate
+ * @param <T4> the type of the fourth argument to the predicate
+ * @param <T5> the type of the fifth argument to the predicate
+ * @param <T6> the type of the sixth argument to the predicate
+ * @param <T7> the type of the seventh argument to the predicate
+ * @param <T8> the type of the eighth argument to the predicate
+ *
+ * @see PredicateN
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface Predicate8<T1, T2, T3, T4, T5, T6, T7, T8> extends AbstractPredicate8<T1, T2, T3, T4, T5, T6, T7, T8, Predicate8<T1, T2, T3, T4, T5, T6, T7, T8>> {
+
+    @Override
+    default Predicate8<T1, T2, T3, T4, T5, T6, T7, T8> not() {
+        return (final T1 t1, final T2 t2, final T3 t3, final T4 t4, final T5 t5, final T6 t6, final T7 t7, final T8 t8) -> !this.test(t1, t2, t3, t4, t5, t6, t7, t8);
+    }
+
+    @Override
+    default Predicate8<T1, T2, T3, T4, T5, T6, T7, T8> and(final Predicate8<T1, T2, T3, T4, T5, T6, T7, T8> other) {
+        return (final T1 t1, final T2 t2, final T3 t3, final T4 t4, final T5 t5, final T6 t6, final T7 t7, final T8 t8) -> this.test(t1, t2, t3, t4, t5, t6, t7, t8) && other.test(t1, t2, t3, t4, t5, t6, t7, t8);
+    }
+
+    @Override
+    default Predicate8<T1, T2, T3, T4, T5, T6, T7, T8> or(final Predicate8<T1, T2, T3, T4, T5, T6, T7, T8> other) {
+        return (final T1 t1, final T2 t2, final T3 t3, final T4 t4, final T5 t5, final T6 t6, final T7 t7, final T8 t8) -> this.test(t1, t2, t3, t4, t5, t6, t7, t8) || other.test(t1, t2, t3, t4, t5, t6, t7, t8);
+    }
+
+    @Override
+    default Predicate8<T1, T2, T3, T4, T5, T6, T7, T8> xor(final Predicate8<T1, T2, T3, T4, T5, T6, T7, T8> other) {
+        return (Predicate8<T1, T2, T3, T4, T5, T6, T7, T8>) AbstractPredicate8.super.xor(other);
+    }
+
+    @Override
+    default Predicate8<T1, T2, T3, T4, T5, T6, T7, T8> sub(final Predicate8<T1, T2, T3, T4, T5, T6, T7, T8> other) {
+        return (Predicate8<T1, T2, T3, T4, T5, T6, T7, T8>) AbstractPredicate8.super.sub(other);
+    }
+
+    @Override
+    default Predicate8<T1, T2, T3, T4, T5, T6, T7, T8> nand(final Predicate8<T1, T2, T3, T4, T5, T6, T7, T8> other) {
+        return (Predicate8<T1, T2, T3, T4, T5, T6, T7, T8>) AbstractPredicate8.super.nand(other);
+    }
+
+    @Override
+    default Predicate8<T1, T2, T3, T4, T5, T6, T7, T8> nor(final Predicate8<T1, T2, T3, T4, T5, T6, T7, T8> other) {
+        return (Predicate8<T1, T2, T3, T4, T5, T6, T7, T8>) AbstractPredicate8.super.nor(other);
+    }
+
+    @Override
+    default Predicate8<T1, T2, T3, T4, T5, T6, T7, T8> xnor(final Predicate8<T1, T2, T3, T4, T5, T6, T7, T8> other) {
+        return (Predicate8<T1, T2, T3, T4, T5, T6, T7, T8>) AbstractPredicate8.super.xnor(other);
+    }
+
+    @Override
+    default Predicate8<T1, T2, T3, T4, T5, T6, T7, T8> orNot(final Predicate8<T1, T2, T3, T4, T5, T6, T7, T8> other) {
+        return (Predicate8<T1, T2, T3, T4, T5, T6, T7, T8>) AbstractPredicate8.super.orNot(other);
+    }
+}
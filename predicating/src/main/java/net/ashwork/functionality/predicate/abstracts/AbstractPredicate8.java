@@ -0,0 +1,122 @@
+/*
+ * Predicating (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.predicate.abstracts;
+
+import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.Function8;
+import net.ashwork.functionality.util.InheritOnly;
+
+/**
+ * Represents a predicate that accepts eight arguments and produces a {@code boolean}-valued result.
+ * This is the eight-arity specialization for {@link AbstractPredicateN}.
+ *
+ * @apiNote
+ * This is an abstract predicate and should not be used directly. It should instead
+ * be called by one of its subtypes.
+ *
+ * @param <T1> the type of the first argument to the predicate
+ * @param <T2> the type of the second argument to the predicate
+ * @param <T3> the type of the third argument to the predicate
+ * @param <T4> the type of the fourth argument to the predicate
+ * @param <T5> the type of the fifth argument to the predicate
+ * @param <T6> the type of the sixth argument to the predicate
+ * @param <T7> the type of the seventh argument to the predicate
+ * @param <T8> the type of the eighth argument to the predicate
+ * @param <P> the type of this predicate
+ *
+ * @see AbstractPredicateN
+ * @since 1.0.0
+ */
+@InheritOnly
+public interface AbstractPredicate8<T1, T2, T3, T4, T5, T6, T7, T8, P extends AbstractPredicate8<T1, T2, T3, T4, T5, T6, T7, T8, P>> extends AbstractPredicateN<P> {
+
+    /**
+     * Evaluates this predicate on the given arguments.
+     *
+     * @param t1 the first input argument
+     * @param t2 the second input argument
+     * @param t3 the third input argument
+     * @param t4 the fourth input argument
+     * @param t5 the fifth input argument
+     * @param t6 the sixth input argument
+     * @param t7 the seventh input argument
+     * @param t8 the eighth input argument
+     * @return {@code true} if the input arguments match the predicate, otherwise
+     *         {@code false}
+     */
+    boolean test(final T1 t1, final T2 t2, final T3 t3, final T4 t4, final T5 t5, final T6 t6, final T7 t7, final T8 t8);
+
+    @SuppressWarnings("unchecked")
+    @Override
+    default boolean testAllUnchecked(final Object... args) {
+        return this.test((T1) args[0], (T2) args[1], (T3) args[2], (T4) args[3], (T5) args[4], (T6) args[5], (T7) args[6], (T8) args[7]);
+    }
+
+    @Override
+    default int arity() {
+        return 8;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    default <V> Function8<T1, T2, T3, T4, T5, T6, T7, T8, V> andThen(final Function1<? super Boolean, ? extends V> after) {
+        return (Function8<T1, T2, T3, T4, T5, T6, T7, T8, V>) AbstractPredicateN.super.andThen(after);
+    }
+
+    @Override
+    default <V> Function8<T1, T2, T3, T4, T5, T6, T7, T8, V> andThenUnchecked(final Function1<? super Boolean, ? extends V> after) {
+        return (final T1 t1, final T2 t2, final T3 t3, final T4 t4, final T5 t5, final T6 t6, final T7 t7, final T8 t8) -> after.apply(this.test(t1, t2, t3, t4, t5, t6, t7, t8));
+    }
+
+    @Override
+    default AbstractPredicate8<T1, T2, T3, T4, T5, T6, T7, T8, P> not() {
+        return (final T1 t1, final T2 t2, final T3 t3, final T4 t4, final T5 t5, final T6 t6, final T7 t7, final T8 t8) -> !this.test(t1, t2, t3, t4, t5, t6, t7, t8);
+    }
+
+    @Override
+    default AbstractPredicate8<T1, T2, T3, T4, T5, T6, T7, T8, P> and(final P other) {
+        return (final T1 t1, final T2 t2, final T3 t3, final T4 t4, final T5 t5, final T6 t6, final T7 t7, final T8 t8) -> this.test(t1, t2, t3, t4, t5, t6, t7, t8) && other.test(t1, t2, t3, t4, t5, t6, t7, t8);
+    }
+
+    @Override
+    default AbstractPredicate8<T1, T2, T3, T4, T5, T6, T7, T8, P> or(final P other) {
+        return (final T1 t1, final T2 t2, final T3 t3, final T4 t4, final T5 t5, final T6 t6, final T7 t7, final T8 t8) -> this.test(t1, t2, t3, t4, t5, t6, t7, t8) || other.test(t1, t2, t3, t4, t5, t6, t7, t8);
+    }
+
+    @Override
+    default AbstractPredicate8<T1, T2, T3, T4, T5, T6, T7, T8, P> xor(final P other) {
+        return (AbstractPredicate8<T1, T2, T3, T4, T5, T6, T7, T8, P>) AbstractPredicateN.super.xor(other);
+    }
+
+    @Override
+    default AbstractPredicate8<T1, T2, T3, T4, T5, T6, T7, T8, P> sub(final P other) {
+        return (AbstractPredicate8<T1, T2, T3, T4, T5, T6, T7, T8, P>) AbstractPredicateN.super.sub(other);
+    }
+
+    @Override
+    default AbstractPredicate8<T1, T2, T3, T4, T5, T6, T7, T8, P> nand(final P other) {
+        return (AbstractPredicate8<T1, T2, T3, T4, T5, T6, T7, T8, P>) AbstractPredicateN.super.nand(other);
+    }
+
+    @Override
+    default AbstractPredicate8<T1, T2, T3, T4, T5, T6, T7, T8, P> nor(final P other) {
+        return (AbstractPredicate8<T1, T2, T3, T4, T5, T6, T7, T8, P>) AbstractPredicateN.super.nor(other);
+    }
+
+    @Override
+    default AbstractPredicate8<T1, T2, T3, T4, T5, T6, T7, T8, P> xnor(final P other) {
+        return (AbstractPredicate8<T1, T2, T3, T4, T5, T6, T7, T8, P>) AbstractPredicateN.super.xnor(other);
+    }
+
+    @Override
+    default AbstractPredicate8<T1, T2, T3, T4, T5, T6, T7, T8, P> orNot(final P other) {
+        return (AbstractPredicate8<T1, T2, T3, T4, T5, T6, T7, T8, P>) AbstractPredicateN.super.orNot(other);
+    }
+}
@@ -16,7 +16,22 @@ import net.ashwork.functionality.partial.InputChainableInput;
 import net.ashwork.functionality.partial.UnboxedInput;
 import net.ashwork.functionality.predicate.abstracts.AbstractPredicate1;
 import net.ashwork.functionality.predicate.abstracts.AbstractPredicateN;
+import net.ashwork.functionality.predicate.abstracts.primitive.bytes.AbstractBytePredicate1;
+import net.ashwork.functionality.predicate.abstracts.primitive.chars.AbstractCharPredicate1;
+import net.ashwork.functionality.predicate.abstracts.primitive.doubles.AbstractDoublePredicate1;
+import net.ashwork.functionality.predicate.abstracts.primitive.floats.AbstractFloatPredicate1;
+import net.ashwork.functionality.predicate.abstracts.primitive.ints.AbstractIntPredicate1;
+import net.ashwork.functionality.predicate.abstracts.primitive.longs.AbstractLongPredicate1;
+import net.ashwork.functionality.predicate.abstracts.primitive.shorts.AbstractShortPredicate1;
 import net.ashwork.functionality.primitive.booleans.BooleanFunction1;
+import net.ashwork.functionality.primitive.booleans.ToBooleanFunction1;
+import net.ashwork.functionality.primitive.combined.ByteToBooleanFunction1;
+import net.ashwork.functionality.primitive.combined.CharToBooleanFunction1;
+import net.ashwork.functionality.primitive.combined.DoubleToBooleanFunction1;
+import net.ashwork.functionality.primitive.combined.FloatToBooleanFunction1;
+import net.ashwork.functionality.primitive.combined.IntToBooleanFunction1;
+import net.ashwork.functionality.primitive.combined.LongToBooleanFunction1;
+import net.ashwork.functionality.primitive.combined.ShortToBooleanFunction1;
 import net.ashwork.functionality.util.InheritOnly;
 
 /**
@@ -87,6 +102,143 @@ public interface AbstractBooleanPredicate1<P extends AbstractBooleanPredicate1<P
     @Override
     <V> AbstractPredicate1<V, ?> composeUnchecked(final Function1<? super V, ? extends Boolean> before);
 
+    /**
+     * Returns a composed predicate that applies the {@code before} function to its
+     * input, and then evaluates this predicate on the {@code boolean}-valued result
+     * without boxing it. If evaluation of either throws an exception, it is relayed
+     * to the caller of the composed predicate.
+     *
+     * @param before the function to apply before this predicate is evaluated
+     * @param <V> the type of the input to the {@code before} function, and to
+     *            the composed predicate
+     * @return a composed predicate that first applies the {@code before} function
+     *         and then evaluates this predicate
+     * @throws NullPointerException if {@code before} is null
+     *
+     * @see AbstractPredicate1
+     */
+    <V> AbstractPredicate1<V, ?> composeObj(final ToBooleanFunction1<? super V> before);
+
+    /**
+     * Returns a composed predicate that applies the {@code before} function to its
+     * {@code boolean}-valued input, and then evaluates this predicate on the {@code boolean}-valued
+     * result without boxing either. If evaluation of either throws an exception, it is
+     * relayed to the caller of the composed predicate.
+     *
+     * @param before the function to apply before this predicate is evaluated
+     * @return a composed predicate that first applies the {@code before} function
+     *         and then evaluates this predicate
+     * @throws NullPointerException if {@code before} is null
+     *
+     * @see AbstractBooleanPredicate1
+     */
+    AbstractBooleanPredicate1<?> composeBoolean(final BooleanOperator1 before);
+
+    /**
+     * Returns a composed predicate that applies the {@code before} function to its
+     * {@code byte}-valued input, and then evaluates this predicate on the {@code boolean}-valued
+     * result without boxing either. If evaluation of either throws an exception, it is
+     * relayed to the caller of the composed predicate.
+     *
+     * @param before the function to apply before this predicate is evaluated
+     * @return a composed predicate that first applies the {@code before} function
+     *         and then evaluates this predicate
+     * @throws NullPointerException if {@code before} is null
+     *
+     * @see AbstractBytePredicate1
+     */
+    AbstractBytePredicate1<?> composeByte(final ByteToBooleanFunction1 before);
+
+    /**
+     * Returns a composed predicate that applies the {@code before} function to its
+     * {@code char}-valued input, and then evaluates this predicate on the {@code boolean}-valued
+     * result without boxing either. If evaluation of either throws an exception, it is
+     * relayed to the caller of the composed predicate.
+     *
+     * @param before the function to apply before this predicate is evaluated
+     * @return a composed predicate that first applies the {@code before} function
+     *         and then evaluates this predicate
+     * @throws NullPointerException if {@code before} is null
+     *
+     * @see AbstractCharPredicate1
+     */
+    AbstractCharPredicate1<?> composeChar(final CharToBooleanFunction1 before);
+
+    /**
+     * Returns a composed predicate that applies the {@code before} function to its
+     * {@code short}-valued input, and then evaluates this predicate on the {@code boolean}-valued
+     * result without boxing either. If evaluation of either throws an exception, it is
+     * relayed to the caller of the composed predicate.
+     *
+     * @param before the function to apply before this predicate is evaluated
+     * @return a composed predicate that first applies the {@code before} function
+     *         and then evaluates this predicate
+     * @throws NullPointerException if {@code before} is null
+     *
+     * @see AbstractShortPredicate1
+     */
+    AbstractShortPredicate1<?> composeShort(final ShortToBooleanFunction1 before);
+
+    /**
+     * Returns a composed predicate that applies the {@code before} function to its
+     * {@code int}-valued input, and then evaluates this predicate on the {@code boolean}-valued
+     * result without boxing either. If evaluation of either throws an exception, it is
+     * relayed to the caller of the composed predicate.
+     *
+     * @param before the function to apply before this predicate is evaluated
+     * @return a composed predicate that first applies the {@code before} function
+     *         and then evaluates this predicate
+     * @throws NullPointerException if {@code before} is null
+     *
+     * @see AbstractIntPredicate1
+     */
+    AbstractIntPredicate1<?> composeInt(final IntToBooleanFunction1 before);
+
+    /**
+     * Returns a composed predicate that applies the {@code before} function to its
+     * {@code long}-valued input, and then evaluates this predicate on the {@code boolean}-valued
+     * result without boxing either. If evaluation of either throws an exception, it is
+     * relayed to the caller of the composed predicate.
+     *
+     * @param before the function to apply before this predicate is evaluated
+     * @return a composed predicate that first applies the {@code before} function
+     *         and then evaluates this predicate
+     * @throws NullPointerException if {@code before} is null
+     *
+     * @see AbstractLongPredicate1
+     */
+    AbstractLongPredicate1<?> composeLong(final LongToBooleanFunction1 before);
+
+    /**
+     * Returns a composed predicate that applies the {@code before} function to its
+     * {@code float}-valued input, and then evaluates this predicate on the {@code boolean}-valued
+     * result without boxing either. If evaluation of either throws an exception, it is
+     * relayed to the caller of the composed predicate.
+     *
+     * @param before the function to apply before this predicate is evaluated
+     * @return a composed predicate that first applies the {@code before} function
+     *         and then evaluates this predicate
+     * @throws NullPointerException if {@code before} is null
+     *
+     * @see AbstractFloatPredicate1
+     */
+    AbstractFloatPredicate1<?> composeFloat(final FloatToBooleanFunction1 before);
+
+    /**
+     * Returns a composed predicate that applies the {@code before} function to its
+     * {@code double}-valued input, and then evaluates this predicate on the {@code boolean}-valued
+     * result without boxing either. If evaluation of either throws an exception, it is
+     * relayed to the caller of the composed predicate.
+     *
+     * @param before the function to apply before this predicate is evaluated
+     * @return a composed predicate that first applies the {@code before} function
+     *         and then evaluates this predicate
+     * @throws NullPointerException if {@code before} is null
+     *
+     * @see AbstractDoublePredicate1
+     */
+    AbstractDoublePredicate1<?> composeDouble(final DoubleToBooleanFunction1 before);
+
     /**
      * @see BooleanFunction1
      */
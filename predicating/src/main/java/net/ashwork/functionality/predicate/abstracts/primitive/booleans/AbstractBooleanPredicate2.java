@@ -0,0 +1,130 @@
+/*
+ * Predicating (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.predicate.abstracts.primitive.booleans;
+
+import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.operator.primitive.booleans.BooleanOperator2;
+import net.ashwork.functionality.partial.FunctionVariant;
+import net.ashwork.functionality.partial.UnboxedInput;
+import net.ashwork.functionality.predicate.abstracts.AbstractPredicate2;
+import net.ashwork.functionality.predicate.abstracts.AbstractPredicateN;
+import net.ashwork.functionality.primitive.booleans.BooleanFunction2;
+import net.ashwork.functionality.util.InheritOnly;
+
+/**
+ * Represents a predicate that accepts two {@code boolean}-valued arguments and produces a {@code boolean}-valued result.
+ * This is the two-arity specialization for {@link AbstractPredicateN}.
+ * This is the predicate specialization for {@link BooleanOperator2}.
+ * This is the {@code boolean}-consuming primitive specialization of {@link AbstractPredicate2}.
+ *
+ * @apiNote
+ * This is an abstract predicate and should not be used directly. It should instead
+ * be called by one of its subtypes.
+ *
+ * @param <P> the type of this predicate
+ *
+ * @see AbstractPredicateN
+ * @see BooleanOperator2
+ * @see AbstractPredicate2
+ * @since 1.0.0
+ */
+@InheritOnly
+public interface AbstractBooleanPredicate2<P extends AbstractBooleanPredicate2<P>> extends AbstractPredicateN<P>, FunctionVariant<Boolean, BooleanOperator2>, UnboxedInput<AbstractPredicate2<Boolean, Boolean, ?>> {
+
+    /**
+     * Evaluates this predicate on the given arguments.
+     *
+     * @param value1 the first input argument
+     * @param value2 the second input argument
+     * @return {@code true} if the input arguments match the predicate, otherwise
+     *         {@code false}
+     */
+    boolean test(final boolean value1, final boolean value2);
+
+    @Override
+    default boolean testAllUnchecked(final Object... args) {
+        return this.test((boolean) args[0], (boolean) args[1]);
+    }
+
+    @Override
+    default int arity() {
+        return 2;
+    }
+
+    /**
+     * @see BooleanOperator2
+     */
+    @Override
+    default BooleanOperator2 toFunctionVariant() {
+        return this::test;
+    }
+
+    /**
+     * @see AbstractPredicate2
+     */
+    @Override
+    AbstractPredicate2<Boolean, Boolean, ?> boxInput();
+
+    /**
+     * @see BooleanFunction2
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    default <V> BooleanFunction2<V> andThen(final Function1<? super Boolean, ? extends V> after) {
+        return (BooleanFunction2<V>) AbstractPredicateN.super.andThen(after);
+    }
+
+    /**
+     * @see BooleanFunction2
+     */
+    @Override
+    default <V> BooleanFunction2<V> andThenUnchecked(final Function1<? super Boolean, ? extends V> after) {
+        return (final boolean value1, final boolean value2) -> after.apply(this.test(value1, value2));
+    }
+
+    @Override
+    AbstractBooleanPredicate2<P> not();
+
+    @Override
+    AbstractBooleanPredicate2<P> and(final P other);
+
+    @Override
+    AbstractBooleanPredicate2<P> or(final P other);
+
+    @Override
+    default AbstractBooleanPredicate2<P> xor(final P other) {
+        return (AbstractBooleanPredicate2<P>) AbstractPredicateN.super.xor(other);
+    }
+
+    @Override
+    default AbstractBooleanPredicate2<P> sub(final P other) {
+        return (AbstractBooleanPredicate2<P>) AbstractPredicateN.super.sub(other);
+    }
+
+    @Override
+    default AbstractBooleanPredicate2<P> nand(final P other) {
+        return (AbstractBooleanPredicate2<P>) AbstractPredicateN.super.nand(other);
+    }
+
+    @Override
+    default AbstractBooleanPredicate2<P> nor(final P other) {
+        return (AbstractBooleanPredicate2<P>) AbstractPredicateN.super.nor(other);
+    }
+
+    @Override
+    default AbstractBooleanPredicate2<P> xnor(final P other) {
+        return (AbstractBooleanPredicate2<P>) AbstractPredicateN.super.xnor(other);
+    }
+
+    @Override
+    default AbstractBooleanPredicate2<P> orNot(final P other) {
+        return (AbstractBooleanPredicate2<P>) AbstractPredicateN.super.orNot(other);
+    }
+}
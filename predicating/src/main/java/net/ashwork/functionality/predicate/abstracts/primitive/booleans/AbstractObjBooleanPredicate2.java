@@ -0,0 +1,120 @@
+/*
+ * Predicating (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.predicate.abstracts.primitive.booleans;
+
+import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.partial.UnboxedInput;
+import net.ashwork.functionality.predicate.abstracts.AbstractPredicate2;
+import net.ashwork.functionality.predicate.abstracts.AbstractPredicateN;
+import net.ashwork.functionality.primitive.booleans.ObjBooleanFunction2;
+import net.ashwork.functionality.util.InheritOnly;
+
+/**
+ * Represents a predicate that accepts an object-valued argument and a {@code boolean}-valued argument and produces a {@code boolean}-valued result.
+ * This is the two-arity specialization for {@link AbstractPredicateN}.
+ * This is the {@code boolean}-consuming primitive specialization of {@link AbstractPredicate2}.
+ *
+ * @apiNote
+ * This is an abstract predicate and should not be used directly. It should instead
+ * be called by one of its subtypes.
+ *
+ * @param <T1> the type of the first argument to the predicate
+ * @param <P> the type of this predicate
+ *
+ * @see AbstractPredicateN
+ * @see AbstractPredicate2
+ * @since 1.0.0
+ */
+@InheritOnly
+public interface AbstractObjBooleanPredicate2<T1, P extends AbstractObjBooleanPredicate2<T1, P>> extends AbstractPredicateN<P>, UnboxedInput<AbstractPredicate2<T1, Boolean, ?>> {
+
+    /**
+     * Evaluates this predicate on the given arguments.
+     *
+     * @param t1 the first input argument
+     * @param value the second input argument
+     * @return {@code true} if the input arguments match the predicate, otherwise
+     *         {@code false}
+     */
+    boolean test(final T1 t1, final boolean value);
+
+    @SuppressWarnings("unchecked")
+    @Override
+    default boolean testAllUnchecked(final Object... args) {
+        return this.test((T1) args[0], (boolean) args[1]);
+    }
+
+    @Override
+    default int arity() {
+        return 2;
+    }
+
+    /**
+     * @see AbstractPredicate2
+     */
+    @Override
+    AbstractPredicate2<T1, Boolean, ?> boxInput();
+
+    /**
+     * @see ObjBooleanFunction2
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    default <V> ObjBooleanFunction2<T1, V> andThen(final Function1<? super Boolean, ? extends V> after) {
+        return (ObjBooleanFunction2<T1, V>) AbstractPredicateN.super.andThen(after);
+    }
+
+    /**
+     * @see ObjBooleanFunction2
+     */
+    @Override
+    default <V> ObjBooleanFunction2<T1, V> andThenUnchecked(final Function1<? super Boolean, ? extends V> after) {
+        return (final T1 t1, final boolean value) -> after.apply(this.test(t1, value));
+    }
+
+    @Override
+    AbstractObjBooleanPredicate2<T1, P> not();
+
+    @Override
+    AbstractObjBooleanPredicate2<T1, P> and(final P other);
+
+    @Override
+    AbstractObjBooleanPredicate2<T1, P> or(final P other);
+
+    @Override
+    default AbstractObjBooleanPredicate2<T1, P> xor(final P other) {
+        return (AbstractObjBooleanPredicate2<T1, P>) AbstractPredicateN.super.xor(other);
+    }
+
+    @Override
+    default AbstractObjBooleanPredicate2<T1, P> sub(final P other) {
+        return (AbstractObjBooleanPredicate2<T1, P>) AbstractPredicateN.super.sub(other);
+    }
+
+    @Override
+    default AbstractObjBooleanPredicate2<T1, P> nand(final P other) {
+        return (AbstractObjBooleanPredicate2<T1, P>) AbstractPredicateN.super.nand(other);
+    }
+
+    @Override
+    default AbstractObjBooleanPredicate2<T1, P> nor(final P other) {
+        return (AbstractObjBooleanPredicate2<T1, P>) AbstractPredicateN.super.nor(other);
+    }
+
+    @Override
+    default AbstractObjBooleanPredicate2<T1, P> xnor(final P other) {
+        return (AbstractObjBooleanPredicate2<T1, P>) AbstractPredicateN.super.xnor(other);
+    }
+
+    @Override
+    default AbstractObjBooleanPredicate2<T1, P> orNot(final P other) {
+        return (AbstractObjBooleanPredicate2<T1, P>) AbstractPredicateN.super.orNot(other);
+    }
+}
@@ -10,13 +10,29 @@
 package net.ashwork.functionality.predicate.abstracts.primitive.bytes;
 
 import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.operator.primitive.bytes.ByteOperator1;
 import net.ashwork.functionality.partial.FunctionVariant;
 import net.ashwork.functionality.partial.InputChainableInput;
 import net.ashwork.functionality.partial.UnboxedInput;
 import net.ashwork.functionality.predicate.abstracts.AbstractPredicate1;
 import net.ashwork.functionality.predicate.abstracts.AbstractPredicateN;
+import net.ashwork.functionality.predicate.abstracts.primitive.booleans.AbstractBooleanPredicate1;
+import net.ashwork.functionality.predicate.abstracts.primitive.chars.AbstractCharPredicate1;
+import net.ashwork.functionality.predicate.abstracts.primitive.doubles.AbstractDoublePredicate1;
+import net.ashwork.functionality.predicate.abstracts.primitive.floats.AbstractFloatPredicate1;
+import net.ashwork.functionality.predicate.abstracts.primitive.ints.AbstractIntPredicate1;
+import net.ashwork.functionality.predicate.abstracts.primitive.longs.AbstractLongPredicate1;
+import net.ashwork.functionality.predicate.abstracts.primitive.shorts.AbstractShortPredicate1;
 import net.ashwork.functionality.primitive.bytes.ByteFunction1;
+import net.ashwork.functionality.primitive.bytes.ToByteFunction1;
+import net.ashwork.functionality.primitive.combined.BooleanToByteFunction1;
 import net.ashwork.functionality.primitive.combined.ByteToBooleanFunction1;
+import net.ashwork.functionality.primitive.combined.CharToByteFunction1;
+import net.ashwork.functionality.primitive.combined.DoubleToByteFunction1;
+import net.ashwork.functionality.primitive.combined.FloatToByteFunction1;
+import net.ashwork.functionality.primitive.combined.IntToByteFunction1;
+import net.ashwork.functionality.primitive.combined.LongToByteFunction1;
+import net.ashwork.functionality.primitive.combined.ShortToByteFunction1;
 import net.ashwork.functionality.util.InheritOnly;
 
 /**
@@ -87,6 +103,143 @@ public interface AbstractBytePredicate1<P extends AbstractBytePredicate1<P>> ext
     @Override
     <V> AbstractPredicate1<V, ?> composeUnchecked(final Function1<? super V, ? extends Byte> before);
 
+    /**
+     * Returns a composed predicate that applies the {@code before} function to its
+     * input, and then evaluates this predicate on the {@code byte}-valued result
+     * without boxing it. If evaluation of either throws an exception, it is relayed
+     * to the caller of the composed predicate.
+     *
+     * @param before the function to apply before this predicate is evaluated
+     * @param <V> the type of the input to the {@code before} function, and to
+     *            the composed predicate
+     * @return a composed predicate that first applies the {@code before} function
+     *         and then evaluates this predicate
+     * @throws NullPointerException if {@code before} is null
+     *
+     * @see AbstractPredicate1
+     */
+    <V> AbstractPredicate1<V, ?> composeObj(final ToByteFunction1<? super V> before);
+
+    /**
+     * Returns a composed predicate that applies the {@code before} function to its
+     * {@code boolean}-valued input, and then evaluates this predicate on the {@code byte}-valued
+     * result without boxing either. If evaluation of either throws an exception, it is
+     * relayed to the caller of the composed predicate.
+     *
+     * @param before the function to apply before this predicate is evaluated
+     * @return a composed predicate that first applies the {@code before} function
+     *         and then evaluates this predicate
+     * @throws NullPointerException if {@code before} is null
+     *
+     * @see AbstractBooleanPredicate1
+     */
+    AbstractBooleanPredicate1<?> composeBoolean(final BooleanToByteFunction1 before);
+
+    /**
+     * Returns a composed predicate that applies the {@code before} function to its
+     * {@code byte}-valued input, and then evaluates this predicate on the {@code byte}-valued
+     * result without boxing either. If evaluation of either throws an exception, it is
+     * relayed to the caller of the composed predicate.
+     *
+     * @param before the function to apply before this predicate is evaluated
+     * @return a composed predicate that first applies the {@code before} function
+     *         and then evaluates this predicate
+     * @throws NullPointerException if {@code before} is null
+     *
+     * @see AbstractBytePredicate1
+     */
+    AbstractBytePredicate1<?> composeByte(final ByteOperator1 before);
+
+    /**
+     * Returns a composed predicate that applies the {@code before} function to its
+     * {@code char}-valued input, and then evaluates this predicate on the {@code byte}-valued
+     * result without boxing either. If evaluation of either throws an exception, it is
+     * relayed to the caller of the composed predicate.
+     *
+     * @param before the function to apply before this predicate is evaluated
+     * @return a composed predicate that first applies the {@code before} function
+     *         and then evaluates this predicate
+     * @throws NullPointerException if {@code before} is null
+     *
+     * @see AbstractCharPredicate1
+     */
+    AbstractCharPredicate1<?> composeChar(final CharToByteFunction1 before);
+
+    /**
+     * Returns a composed predicate that applies the {@code before} function to its
+     * {@code short}-valued input, and then evaluates this predicate on the {@code byte}-valued
+     * result without boxing either. If evaluation of either throws an exception, it is
+     * relayed to the caller of the composed predicate.
+     *
+     * @param before the function to apply before this predicate is evaluated
+     * @return a composed predicate that first applies the {@code before} function
+     *         and then evaluates this predicate
+     * @throws NullPointerException if {@code before} is null
+     *
+     * @see AbstractShortPredicate1
+     */
+    AbstractShortPredicate1<?> composeShort(final ShortToByteFunction1 before);
+
+    /**
+     * Returns a composed predicate that applies the {@code before} function to its
+     * {@code int}-valued input, and then evaluates this predicate on the {@code byte}-valued
+     * result without boxing either. If evaluation of either throws an exception, it is
+     * relayed to the caller of the composed predicate.
+     *
+     * @param before the function to apply before this predicate is evaluated
+     * @return a composed predicate that first applies the {@code before} function
+     *         and then evaluates this predicate
+     * @throws NullPointerException if {@code before} is null
+     *
+     * @see AbstractIntPredicate1
+     */
+    AbstractIntPredicate1<?> composeInt(final IntToByteFunction1 before);
+
+    /**
+     * Returns a composed predicate that applies the {@code before} function to its
+     * {@code long}-valued input, and then evaluates this predicate on the {@code byte}-valued
+     * result without boxing either. If evaluation of either throws an exception, it is
+     * relayed to the caller of the composed predicate.
+     *
+     * @param before the function to apply before this predicate is evaluated
+     * @return a composed predicate that first applies the {@code before} function
+     *         and then evaluates this predicate
+     * @throws NullPointerException if {@code before} is null
+     *
+     * @see AbstractLongPredicate1
+     */
+    AbstractLongPredicate1<?> composeLong(final LongToByteFunction1 before);
+
+    /**
+     * Returns a composed predicate that applies the {@code before} function to its
+     * {@code float}-valued input, and then evaluates this predicate on the {@code byte}-valued
+     * result without boxing either. If evaluation of either throws an exception, it is
+     * relayed to the caller of the composed predicate.
+     *
+     * @param before the function to apply before this predicate is evaluated
+     * @return a composed predicate that first applies the {@code before} function
+     *         and then evaluates this predicate
+     * @throws NullPointerException if {@code before} is null
+     *
+     * @see AbstractFloatPredicate1
+     */
+    AbstractFloatPredicate1<?> composeFloat(final FloatToByteFunction1 before);
+
+    /**
+     * Returns a composed predicate that applies the {@code before} function to its
+     * {@code double}-valued input, and then evaluates this predicate on the {@code byte}-valued
+     * result without boxing either. If evaluation of either throws an exception, it is
+     * relayed to the caller of the composed predicate.
+     *
+     * @param before the function to apply before this predicate is evaluated
+     * @return a composed predicate that first applies the {@code before} function
+     *         and then evaluates this predicate
+     * @throws NullPointerException if {@code before} is null
+     *
+     * @see AbstractDoublePredicate1
+     */
+    AbstractDoublePredicate1<?> composeDouble(final DoubleToByteFunction1 before);
+
     /**
      * @see ByteFunction1
      */
@@ -0,0 +1,130 @@
+/*
+ * Predicating (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.predicate.abstracts.primitive.bytes;
+
+import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.partial.FunctionVariant;
+import net.ashwork.functionality.partial.UnboxedInput;
+import net.ashwork.functionality.predicate.abstracts.AbstractPredicate2;
+import net.ashwork.functionality.predicate.abstracts.AbstractPredicateN;
+import net.ashwork.functionality.primitive.bytes.ByteFunction2;
+import net.ashwork.functionality.primitive.combined.ByteToBooleanFunction2;
+import net.ashwork.functionality.util.InheritOnly;
+
+/**
+ * Represents a predicate that accepts two {@code byte}-valued arguments and produces a {@code boolean}-valued result.
+ * This is the two-arity specialization for {@link AbstractPredicateN}.
+ * This is the predicate specialization for {@link ByteToBooleanFunction2}.
+ * This is the {@code byte}-consuming primitive specialization of {@link AbstractPredicate2}.
+ *
+ * @apiNote
+ * This is an abstract predicate and should not be used directly. It should instead
+ * be called by one of its subtypes.
+ *
+ * @param <P> the type of this predicate
+ *
+ * @see AbstractPredicateN
+ * @see ByteToBooleanFunction2
+ * @see AbstractPredicate2
+ * @since 1.0.0
+ */
+@InheritOnly
+public interface AbstractBytePredicate2<P extends AbstractBytePredicate2<P>> extends AbstractPredicateN<P>, FunctionVariant<Boolean, ByteToBooleanFunction2>, UnboxedInput<AbstractPredicate2<Byte, Byte, ?>> {
+
+    /**
+     * Evaluates this predicate on the given arguments.
+     *
+     * @param value1 the first input argument
+     * @param value2 the second input argument
+     * @return {@code true} if the input arguments match the predicate, otherwise
+     *         {@code false}
+     */
+    boolean test(final byte value1, final byte value2);
+
+    @Override
+    default boolean testAllUnchecked(final Object... args) {
+        return this.test((byte) args[0], (byte) args[1]);
+    }
+
+    @Override
+    default int arity() {
+        return 2;
+    }
+
+    /**
+     * @see ByteToBooleanFunction2
+     */
+    @Override
+    default ByteToBooleanFunction2 toFunctionVariant() {
+        return this::test;
+    }
+
+    /**
+     * @see AbstractPredicate2
+     */
+    @Override
+    AbstractPredicate2<Byte, Byte, ?> boxInput();
+
+    /**
+     * @see ByteFunction2
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    default <V> ByteFunction2<V> andThen(final Function1<? super Boolean, ? extends V> after) {
+        return (ByteFunction2<V>) AbstractPredicateN.super.andThen(after);
+    }
+
+    /**
+     * @see ByteFunction2
+     */
+    @Override
+    default <V> ByteFunction2<V> andThenUnchecked(final Function1<? super Boolean, ? extends V> after) {
+        return (final byte value1, final byte value2) -> after.apply(this.test(value1, value2));
+    }
+
+    @Override
+    AbstractBytePredicate2<P> not();
+
+    @Override
+    AbstractBytePredicate2<P> and(final P other);
+
+    @Override
+    AbstractBytePredicate2<P> or(final P other);
+
+    @Override
+    default AbstractBytePredicate2<P> xor(final P other) {
+        return (AbstractBytePredicate2<P>) AbstractPredicateN.super.xor(other);
+    }
+
+    @Override
+    default AbstractBytePredicate2<P> sub(final P other) {
+        return (AbstractBytePredicate2<P>) AbstractPredicateN.super.sub(other);
+    }
+
+    @Override
+    default AbstractBytePredicate2<P> nand(final P other) {
+        return (AbstractBytePredicate2<P>) AbstractPredicateN.super.nand(other);
+    }
+
+    @Override
+    default AbstractBytePredicate2<P> nor(final P other) {
+        return (AbstractBytePredicate2<P>) AbstractPredicateN.super.nor(other);
+    }
+
+    @Override
+    default AbstractBytePredicate2<P> xnor(final P other) {
+        return (AbstractBytePredicate2<P>) AbstractPredicateN.super.xnor(other);
+    }
+
+    @Override
+    default AbstractBytePredicate2<P> orNot(final P other) {
+        return (AbstractBytePredicate2<P>) AbstractPredicateN.super.orNot(other);
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Predicating (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.predicate.abstracts.primitive.bytes;
+
+import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.predicate.abstracts.AbstractPredicateN;
+import net.ashwork.functionality.primitive.bytes.ByteFunctionN;
+import net.ashwork.functionality.util.InheritOnly;
+
+/**
+ * Represents a predicate that accepts {@code n} {@code byte}-valued arguments and produces a {@code boolean}-valued result.
+ * This is the {@code byte}-consuming primitive specialization of {@link AbstractPredicateN}.
+ * The arguments are passed within a {@code byte} array such that they are never boxed.
+ *
+ * @apiNote
+ * This is an abstract predicate and should not be used directly. It should instead
+ * be called by one of its subtypes.
+ *
+ * @param <P> the type of this predicate
+ *
+ * @see AbstractPredicateN
+ * @since 1.0.0
+ */
+@InheritOnly
+public interface AbstractBytePredicateN<P extends AbstractBytePredicateN<P>> extends AbstractPredicateN<P> {
+
+    /**
+     * Evaluates this predicate on the given arguments. Makes no assumptions
+     * of the arguments passed in and whether a value will compute
+     * successfully.
+     *
+     * @param values the input arguments
+     * @return {@code true} if the input arguments match the predicate, otherwise
+     *         {@code false}
+     */
+    boolean testAll(final byte... values);
+
+    @Override
+    default boolean testAllUnchecked(final Object... args) {
+        final byte[] values = new byte[args.length];
+        for (int i = 0; i < args.length; i++)
+            values[i] = (byte) args[i];
+        return this.testAll(values);
+    }
+
+    /**
+     * @see ByteFunctionN
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    default <V> ByteFunctionN<V> andThen(final Function1<? super Boolean, ? extends V> after) {
+        return (ByteFunctionN<V>) AbstractPredicateN.super.andThen(after);
+    }
+
+    /**
+     * @see ByteFunctionN
+     */
+    @Override
+    default <V> ByteFunctionN<V> andThenUnchecked(final Function1<? super Boolean, ? extends V> after) {
+        return (final byte[] values) -> after.apply(this.testAll(values));
+    }
+
+    @Override
+    AbstractBytePredicateN<P> not();
+
+    @Override
+    AbstractBytePredicateN<P> and(final P other);
+
+    @Override
+    AbstractBytePredicateN<P> or(final P other);
+
+    @Override
+    default AbstractBytePredicateN<P> xor(final P other) {
+        return (AbstractBytePredicateN<P>) AbstractPredicateN.super.xor(other);
+    }
+
+    @Override
+    default AbstractBytePredicateN<P> sub(final P other) {
+        return (AbstractBytePredicateN<P>) AbstractPredicateN.super.sub(other);
+    }
+
+    @Override
+    default AbstractBytePredicateN<P> nand(final P other) {
+        return (AbstractBytePredicateN<P>) AbstractPredicateN.super.nand(other);
+    }
+
+    @Override
+    default AbstractBytePredicateN<P> nor(final P other) {
+        return (AbstractBytePredicateN<P>) AbstractPredicateN.super.nor(other);
+    }
+
+    @Override
+    default AbstractBytePredicateN<P> xnor(final P other) {
+        return (AbstractBytePredicateN<P>) AbstractPredicateN.super.xnor(other);
+    }
+
+    @Override
+    default AbstractBytePredicateN<P> orNot(final P other) {
+        return (AbstractBytePredicateN<P>) AbstractPredicateN.super.orNot(other);
+    }
+}
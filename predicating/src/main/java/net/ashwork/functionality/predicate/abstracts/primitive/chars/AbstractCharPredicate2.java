@@ -0,0 +1,130 @@
+/*
+ * Predicating (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.predicate.abstracts.primitive.chars;
+
+import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.partial.FunctionVariant;
+import net.ashwork.functionality.partial.UnboxedInput;
+import net.ashwork.functionality.predicate.abstracts.AbstractPredicate2;
+import net.ashwork.functionality.predicate.abstracts.AbstractPredicateN;
+import net.ashwork.functionality.primitive.chars.CharFunction2;
+import net.ashwork.functionality.primitive.combined.CharToBooleanFunction2;
+import net.ashwork.functionality.util.InheritOnly;
+
+/**
+ * Represents a predicate that accepts two {@code char}-valued arguments and produces a {@code boolean}-valued result.
+ * This is the two-arity specialization for {@link AbstractPredicateN}.
+ * This is the predicate specialization for {@link CharToBooleanFunction2}.
+ * This is the {@code char}-consuming primitive specialization of {@link AbstractPredicate2}.
+ *
+ * @apiNote
+ * This is an abstract predicate and should not be used directly. It should instead
+ * be called by one of its subtypes.
+ *
+ * @param <P> the type of this predicate
+ *
+ * @see AbstractPredicateN
+ * @see CharToBooleanFunction2
+ * @see AbstractPredicate2
+ * @since 1.0.0
+ */
+@InheritOnly
+public interface AbstractCharPredicate2<P extends AbstractCharPredicate2<P>> extends AbstractPredicateN<P>, FunctionVariant<Boolean, CharToBooleanFunction2>, UnboxedInput<AbstractPredicate2<Character, Character, ?>> {
+
+    /**
+     * Evaluates this predicate on the given arguments.
+     *
+     * @param value1 the first input argument
+     * @param value2 the second input argument
+     * @return {@code true} if the input arguments match the predicate, otherwise
+     *         {@code false}
+     */
+    boolean test(final char value1, final char value2);
+
+    @Override
+    default boolean testAllUnchecked(final Object... args) {
+        return this.test((char) args[0], (char) args[1]);
+    }
+
+    @Override
+    default int arity() {
+        return 2;
+    }
+
+    /**
+     * @see CharToBooleanFunction2
+     */
+    @Override
+    default CharToBooleanFunction2 toFunctionVariant() {
+        return this::test;
+    }
+
+    /**
+     * @see AbstractPredicate2
+     */
+    @Override
+    AbstractPredicate2<Character, Character, ?> boxInput();
+
+    /**
+     * @see CharFunction2
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    default <V> CharFunction2<V> andThen(final Function1<? super Boolean, ? extends V> after) {
+        return (CharFunction2<V>) AbstractPredicateN.super.andThen(after);
+    }
+
+    /**
+     * @see CharFunction2
+     */
+    @Override
+    default <V> CharFunction2<V> andThenUnchecked(final Function1<? super Boolean, ? extends V> after) {
+        return (final char value1, final char value2) -> after.apply(this.test(value1, value2));
+    }
+
+    @Override
+    AbstractCharPredicate2<P> not();
+
+    @Override
+    AbstractCharPredicate2<P> and(final P other);
+
+    @Override
+    AbstractCharPredicate2<P> or(final P other);
+
+    @Override
+    default AbstractCharPredicate2<P> xor(final P other) {
+        return (AbstractCharPredicate2<P>) AbstractPredicateN.super.xor(other);
+    }
+
+    @Override
+    default AbstractCharPredicate2<P> sub(final P other) {
+        return (AbstractCharPredicate2<P>) AbstractPredicateN.super.sub(other);
+    }
+
+    @Override
+    default AbstractCharPredicate2<P> nand(final P other) {
+        return (AbstractCharPredicate2<P>) AbstractPredicateN.super.nand(other);
+    }
+
+    @Override
+    default AbstractCharPredicate2<P> nor(final P other) {
+        return (AbstractCharPredicate2<P>) AbstractPredicateN.super.nor(other);
+    }
+
+    @Override
+    default AbstractCharPredicate2<P> xnor(final P other) {
+        return (AbstractCharPredicate2<P>) AbstractPredicateN.super.xnor(other);
+    }
+
+    @Override
+    default AbstractCharPredicate2<P> orNot(final P other) {
+        return (AbstractCharPredicate2<P>) AbstractPredicateN.super.orNot(other);
+    }
+}
@@ -10,14 +10,30 @@
 package net.ashwork.functionality.predicate.abstracts.primitive.doubles;
 
 import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.operator.primitive.doubles.DoubleOperator1;
 import net.ashwork.functionality.partial.FunctionVariant;
 import net.ashwork.functionality.partial.InputChainableInput;
 import net.ashwork.functionality.partial.UnboxedInput;
 import net.ashwork.functionality.partial.Variant;
 import net.ashwork.functionality.predicate.abstracts.AbstractPredicate1;
 import net.ashwork.functionality.predicate.abstracts.AbstractPredicateN;
+import net.ashwork.functionality.predicate.abstracts.primitive.booleans.AbstractBooleanPredicate1;
+import net.ashwork.functionality.predicate.abstracts.primitive.bytes.AbstractBytePredicate1;
+import net.ashwork.functionality.predicate.abstracts.primitive.chars.AbstractCharPredicate1;
+import net.ashwork.functionality.predicate.abstracts.primitive.floats.AbstractFloatPredicate1;
+import net.ashwork.functionality.predicate.abstracts.primitive.ints.AbstractIntPredicate1;
+import net.ashwork.functionality.predicate.abstracts.primitive.longs.AbstractLongPredicate1;
+import net.ashwork.functionality.predicate.abstracts.primitive.shorts.AbstractShortPredicate1;
+import net.ashwork.functionality.primitive.combined.BooleanToDoubleFunction1;
+import net.ashwork.functionality.primitive.combined.ByteToDoubleFunction1;
+import net.ashwork.functionality.primitive.combined.CharToDoubleFunction1;
 import net.ashwork.functionality.primitive.combined.DoubleToBooleanFunction1;
+import net.ashwork.functionality.primitive.combined.FloatToDoubleFunction1;
+import net.ashwork.functionality.primitive.combined.IntToDoubleFunction1;
+import net.ashwork.functionality.primitive.combined.LongToDoubleFunction1;
+import net.ashwork.functionality.primitive.combined.ShortToDoubleFunction1;
 import net.ashwork.functionality.primitive.doubles.DoubleFunction1;
+import net.ashwork.functionality.primitive.doubles.ToDoubleFunction1;
 import net.ashwork.functionality.util.InheritOnly;
 
 import java.util.function.DoublePredicate;
@@ -98,6 +114,143 @@ public interface AbstractDoublePredicate1<P extends AbstractDoublePredicate1<P>>
     @Override
     <V> AbstractPredicate1<V, ?> composeUnchecked(final Function1<? super V, ? extends Double> before);
 
+    /**
+     * Returns a composed predicate that applies the {@code before} function to its
+     * input, and then evaluates this predicate on the {@code double}-valued result
+     * without boxing it. If evaluation of either throws an exception, it is relayed
+     * to the caller of the composed predicate.
+     *
+     * @param before the function to apply before this predicate is evaluated
+     * @param <V> the type of the input to the {@code before} function, and to
+     *            the composed predicate
+     * @return a composed predicate that first applies the {@code before} function
+     *         and then evaluates this predicate
+     * @throws NullPointerException if {@code before} is null
+     *
+     * @see AbstractPredicate1
+     */
+    <V> AbstractPredicate1<V, ?> composeObj(final ToDoubleFunction1<? super V> before);
+
+    /**
+     * Returns a composed predicate that applies the {@code before} function to its
+     * {@code boolean}-valued input, and then evaluates this predicate on the {@code double}-valued
+     * result without boxing either. If evaluation of either throws an exception, it is
+     * relayed to the caller of the composed predicate.
+     *
+     * @param before the function to apply before this predicate is evaluated
+     * @return a composed predicate that first applies the {@code before} function
+     *         and then evaluates this predicate
+     * @throws NullPointerException if {@code before} is null
+     *
+     * @see AbstractBooleanPredicate1
+     */
+    AbstractBooleanPredicate1<?> composeBoolean(final BooleanToDoubleFunction1 before);
+
+    /**
+     * Returns a composed predicate that applies the {@code before} function to its
+     * {@code byte}-valued input, and then evaluates this predicate on the {@code double}-valued
+     * result without boxing either. If evaluation of either throws an exception, it is
+     * relayed to the caller of the composed predicate.
+     *
+     * @param before the function to apply before this predicate is evaluated
+     * @return a composed predicate that first applies the {@code before} function
+     *         and then evaluates this predicate
+     * @throws NullPointerException if {@code before} is null
+     *
+     * @see AbstractBytePredicate1
+     */
+    AbstractBytePredicate1<?> composeByte(final ByteToDoubleFunction1 before);
+
+    /**
+     * Returns a composed predicate that applies the {@code before} function to its
+     * {@code char}-valued input, and then evaluates this predicate on the {@code double}-valued
+     * result without boxing either. If evaluation of either throws an exception, it is
+     * relayed to the caller of the composed predicate.
+     *
+     * @param before the function to apply before this predicate is evaluated
+     * @return a composed predicate that first applies the {@code before} function
+     *         and then evaluates this predicate
+     * @throws NullPointerException if {@code before} is null
+     *
+     * @see AbstractCharPredicate1
+     */
+    AbstractCharPredicate1<?> composeChar(final CharToDoubleFunction1 before);
+
+    /**
+     * Returns a composed predicate that applies the {@code before} function to its
+     * {@code short}-valued input, and then evaluates this predicate on the {@code double}-valued
+     * result without boxing either. If evaluation of either throws an exception, it is
+     * relayed to the caller of the composed predicate.
+     *
+     * @param before the function to apply before this predicate is evaluated
+     * @return a composed predicate that first applies the {@code before} function
+     *         and then evaluates this predicate
+     * @throws NullPointerException if {@code before} is null
+     *
+     * @see AbstractShortPredicate1
+     */
+    AbstractShortPredicate1<?> composeShort(final ShortToDoubleFunction1 before);
+
+    /**
+     * Returns a composed predicate that applies the {@code before} function to its
+     * {@code int}-valued input, and then evaluates this predicate on the {@code double}-valued
+     * result without boxing either. If evaluation of either throws an exception, it is
+     * relayed to the caller of the composed predicate.
+     *
+     * @param before the function to apply before this predicate is evaluated
+     * @return a composed predicate that first applies the {@code before} function
+     *         and then evaluates this predicate
+     * @throws NullPointerException if {@code before} is null
+     *
+     * @see AbstractIntPredicate1
+     */
+    AbstractIntPredicate1<?> composeInt(final IntToDoubleFunction1 before);
+
+    /**
+     * Returns a composed predicate that applies the {@code before} function to its
+     * {@code long}-valued input, and then evaluates this predicate on the {@code double}-valued
+     * result without boxing either. If evaluation of either throws an exception, it is
+     * relayed to the caller of the composed predicate.
+     *
+     * @param before the function to apply before this predicate is evaluated
+     * @return a composed predicate that first applies the {@code before} function
+     *         and then evaluates this predicate
+     * @throws NullPointerException if {@code before} is null
+     *
+     * @see AbstractLongPredicate1
+     */
+    AbstractLongPredicate1<?> composeLong(final LongToDoubleFunction1 before);
+
+    /**
+     * Returns a composed predicate that applies the {@code before} function to its
+     * {@code float}-valued input, and then evaluates this predicate on the {@code double}-valued
+     * result without boxing either. If evaluation of either throws an exception, it is
+     * relayed to the caller of the composed predicate.
+     *
+     * @param before the function to apply before this predicate is evaluated
+     * @return a composed predicate that first applies the {@code before} function
+     *         and then evaluates this predicate
+     * @throws NullPointerException if {@code before} is null
+     *
+     * @see AbstractFloatPredicate1
+     */
+    AbstractFloatPredicate1<?> composeFloat(final FloatToDoubleFunction1 before);
+
+    /**
+     * Returns a composed predicate that applies the {@code before} function to its
+     * {@code double}-valued input, and then evaluates this predicate on the {@code double}-valued
+     * result without boxing either. If evaluation of either throws an exception, it is
+     * relayed to the caller of the composed predicate.
+     *
+     * @param before the function to apply before this predicate is evaluated
+     * @return a composed predicate that first applies the {@code before} function
+     *         and then evaluates this predicate
+     * @throws NullPointerException if {@code before} is null
+     *
+     * @see AbstractDoublePredicate1
+     */
+    AbstractDoublePredicate1<?> composeDouble(final DoubleOperator1 before);
+
     /**
      * @see DoubleFunction1
      */
@@ -0,0 +1,130 @@
+/*
+ * Predicating (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.predicate.abstracts.primitive.doubles;
+
+import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.partial.FunctionVariant;
+import net.ashwork.functionality.partial.UnboxedInput;
+import net.ashwork.functionality.predicate.abstracts.AbstractPredicate2;
+import net.ashwork.functionality.predicate.abstracts.AbstractPredicateN;
+import net.ashwork.functionality.primitive.combined.DoubleToBooleanFunction2;
+import net.ashwork.functionality.primitive.doubles.DoubleFunction2;
+import net.ashwork.functionality.util.InheritOnly;
+
+/**
+ * Represents a predicate that accepts two {@code double}-valued arguments and produces a {@code boolean}-valued result.
+ * This is the two-arity specialization for {@link AbstractPredicateN}.
+ * This is the predicate specialization for {@link DoubleToBooleanFunction2}.
+ * This is the {@code double}-consuming primitive specialization of {@link AbstractPredicate2}.
+ *
+ * @apiNote
+ * This is an abstract predicate and should not be used directly. It should instead
+ * be called by one of its subtypes.
+ *
+ * @param <P> the type of this predicate
+ *
+ * @see AbstractPredicateN
+ * @see DoubleToBooleanFunction2
+ * @see AbstractPredicate2
+ * @since 1.0.0
+ */
+@InheritOnly
+public interface AbstractDoublePredicate2<P extends AbstractDoublePredicate2<P>> extends AbstractPredicateN<P>, FunctionVariant<Boolean, DoubleToBooleanFunction2>, UnboxedInput<AbstractPredicate2<Double, Double, ?>> {
+
+    /**
+     * Evaluates this predicate on the given arguments.
+     *
+     * @param value1 the first input argument
+     * @param value2 the second input argument
+     * @return {@code true} if the input arguments match the predicate, otherwise
+     *         {@code false}
+     */
+    boolean test(final double value1, final double value2);
+
+    @Override
+    default boolean testAllUnchecked(final Object... args) {
+        return this.test((double) args[0], (double) args[1]);
+    }
+
+    @Override
+    default int arity() {
+        return 2;
+    }
+
+    /**
+     * @see DoubleToBooleanFunction2
+     */
+    @Override
+    default DoubleToBooleanFunction2 toFunctionVariant() {
+        return this::test;
+    }
+
+    /**
+     * @see AbstractPredicate2
+     */
+    @Override
+    AbstractPredicate2<Double, Double, ?> boxInput();
+
+    /**
+     * @see DoubleFunction2
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    default <V> DoubleFunction2<V> andThen(final Function1<? super Boolean, ? extends V> after) {
+        return (DoubleFunction2<V>) AbstractPredicateN.super.andThen(after);
+    }
+
+    /**
+     * @see DoubleFunction2
+     */
+    @Override
+    default <V> DoubleFunction2<V> andThenUnchecked(final Function1<? super Boolean, ? extends V> after) {
+        return (final double value1, final double value2) -> after.apply(this.test(value1, value2));
+    }
+
+    @Override
+    AbstractDoublePredicate2<P> not();
+
+    @Override
+    AbstractDoublePredicate2<P> and(final P other);
+
+    @Override
+    AbstractDoublePredicate2<P> or(final P other);
+
+    @Override
+    default AbstractDoublePredicate2<P> xor(final P other) {
+        return (AbstractDoublePredicate2<P>) AbstractPredicateN.super.xor(other);
+    }
+
+    @Override
+    default AbstractDoublePredicate2<P> sub(final P other) {
+        return (AbstractDoublePredicate2<P>) AbstractPredicateN.super.sub(other);
+    }
+
+    @Override
+    default AbstractDoublePredicate2<P> nand(final P other) {
+        return (AbstractDoublePredicate2<P>) AbstractPredicateN.super.nand(other);
+    }
+
+    @Override
+    default AbstractDoublePredicate2<P> nor(final P other) {
+        return (AbstractDoublePredicate2<P>) AbstractPredicateN.super.nor(other);
+    }
+
+    @Override
+    default AbstractDoublePredicate2<P> xnor(final P other) {
+        return (AbstractDoublePredicate2<P>) AbstractPredicateN.super.xnor(other);
+    }
+
+    @Override
+    default AbstractDoublePredicate2<P> orNot(final P other) {
+        return (AbstractDoublePredicate2<P>) AbstractPredicateN.super.orNot(other);
+    }
+}
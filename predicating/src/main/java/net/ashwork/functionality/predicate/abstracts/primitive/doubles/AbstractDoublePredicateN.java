@@ -0,0 +1,108 @@
+/*
+ * Predicating (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.predicate.abstracts.primitive.doubles;
+
+import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.predicate.abstracts.AbstractPredicateN;
+import net.ashwork.functionality.primitive.doubles.DoubleFunctionN;
+import net.ashwork.functionality.util.InheritOnly;
+
+/**
+ * Represents a predicate that accepts {@code n} {@code double}-valued arguments and produces a {@code boolean}-valued result.
+ * This is the {@code double}-consuming primitive specialization of {@link AbstractPredicateN}.
+ * The arguments are passed within a {@code double} array such that they are never boxed.
+ *
+ * @apiNote
+ * This is an abstract predicate and should not be used directly. It should instead
+ * be called by one of its subtypes.
+ *
+ * @param <P> the type of this predicate
+ *
+ * @see AbstractPredicateN
+ * @since 1.0.0
+ */
+@InheritOnly
+public interface AbstractDoublePredicateN<P extends AbstractDoublePredicateN<P>> extends AbstractPredicateN<P> {
+
+    /**
+     * Evaluates this predicate on the given arguments. Makes no assumptions
+     * of the arguments passed in and whether a value will compute
+     * successfully.
+     *
+     * @param values the input arguments
+     * @return {@code true} if the input arguments match the predicate, otherwise
+     *         {@code false}
+     */
+    boolean testAll(final double... values);
+
+    @Override
+    default boolean testAllUnchecked(final Object... args) {
+        final double[] values = new double[args.length];
+        for (int i = 0; i < args.length; i++)
+            values[i] = (double) args[i];
+        return this.testAll(values);
+    }
+
+    /**
+     * @see DoubleFunctionN
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    default <V> DoubleFunctionN<V> andThen(final Function1<? super Boolean, ? extends V> after) {
+        return (DoubleFunctionN<V>) AbstractPredicateN.super.andThen(after);
+    }
+
+    /**
+     * @see DoubleFunctionN
+     */
+    @Override
+    default <V> DoubleFunctionN<V> andThenUnchecked(final Function1<? super Boolean, ? extends V> after) {
+        return (final double[] values) -> after.apply(this.testAll(values));
+    }
+
+    @Override
+    AbstractDoublePredicateN<P> not();
+
+    @Override
+    AbstractDoublePredicateN<P> and(final P other);
+
+    @Override
+    AbstractDoublePredicateN<P> or(final P other);
+
+    @Override
+    default AbstractDoublePredicateN<P> xor(final P other) {
+        return (AbstractDoublePredicateN<P>) AbstractPredicateN.super.xor(other);
+    }
+
+    @Override
+    default AbstractDoublePredicateN<P> sub(final P other) {
+        return (AbstractDoublePredicateN<P>) AbstractPredicateN.super.sub(other);
+    }
+
+    @Override
+    default AbstractDoublePredicateN<P> nand(final P other) {
+        return (AbstractDoublePredicateN<P>) AbstractPredicateN.super.nand(other);
+    }
+
+    @Override
+    default AbstractDoublePredicateN<P> nor(final P other) {
+        return (AbstractDoublePredicateN<P>) AbstractPredicateN.super.nor(other);
+    }
+
+    @Override
+    default AbstractDoublePredicateN<P> xnor(final P other) {
+        return (AbstractDoublePredicateN<P>) AbstractPredicateN.super.xnor(other);
+    }
+
+    @Override
+    default AbstractDoublePredicateN<P> orNot(final P other) {
+        return (AbstractDoublePredicateN<P>) AbstractPredicateN.super.orNot(other);
+    }
+}
@@ -10,13 +10,29 @@
 package net.ashwork.functionality.predicate.abstracts.primitive.floats;
 
 import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.operator.primitive.floats.FloatOperator1;
 import net.ashwork.functionality.partial.FunctionVariant;
 import net.ashwork.functionality.partial.InputChainableInput;
 import net.ashwork.functionality.partial.UnboxedInput;
 import net.ashwork.functionality.predicate.abstracts.AbstractPredicate1;
 import net.ashwork.functionality.predicate.abstracts.AbstractPredicateN;
+import net.ashwork.functionality.predicate.abstracts.primitive.booleans.AbstractBooleanPredicate1;
+import net.ashwork.functionality.predicate.abstracts.primitive.bytes.AbstractBytePredicate1;
+import net.ashwork.functionality.predicate.abstracts.primitive.chars.AbstractCharPredicate1;
+import net.ashwork.functionality.predicate.abstracts.primitive.doubles.AbstractDoublePredicate1;
+import net.ashwork.functionality.predicate.abstracts.primitive.ints.AbstractIntPredicate1;
+import net.ashwork.functionality.predicate.abstracts.primitive.longs.AbstractLongPredicate1;
+import net.ashwork.functionality.predicate.abstracts.primitive.shorts.AbstractShortPredicate1;
+import net.ashwork.functionality.primitive.combined.BooleanToFloatFunction1;
+import net.ashwork.functionality.primitive.combined.ByteToFloatFunction1;
+import net.ashwork.functionality.primitive.combined.CharToFloatFunction1;
+import net.ashwork.functionality.primitive.combined.DoubleToFloatFunction1;
 import net.ashwork.functionality.primitive.combined.FloatToBooleanFunction1;
+import net.ashwork.functionality.primitive.combined.IntToFloatFunction1;
+import net.ashwork.functionality.primitive.combined.LongToFloatFunction1;
+import net.ashwork.functionality.primitive.combined.ShortToFloatFunction1;
 import net.ashwork.functionality.primitive.floats.FloatFunction1;
+import net.ashwork.functionality.primitive.floats.ToFloatFunction1;
 import net.ashwork.functionality.util.InheritOnly;
 
 /**
@@ -87,6 +103,143 @@ public interface AbstractFloatPredicate1<P extends AbstractFloatPredicate1<P>> e
     @Override
     <V> AbstractPredicate1<V, ?> composeUnchecked(final Function1<? super V, ? extends Float> before);
 
+    /**
+     * Returns a composed predicate that applies the {@code before} function to its
+     * input, and then evaluates this predicate on the {@code float}-valued result
+     * without boxing it. If evaluation of either throws an exception, it is relayed
+     * to the caller of the composed predicate.
+     *
+     * @param before the function to apply before this predicate is evaluated
+     * @param <V> the type of the input to the {@code before} function, and to
+     *            the composed predicate
+     * @return a composed predicate that first applies the {@code before} function
+     *         and then evaluates this predicate
+     * @throws NullPointerException if {@code before} is null
+     *
+     * @see AbstractPredicate1
+     */
+    <V> AbstractPredicate1<V, ?> composeObj(final ToFloatFunction1<? super V> before);
+
+    /**
+     * Returns a composed predicate that applies the {@code before} function to its
+     * {@code boolean}-valued input, and then evaluates this predicate on the {@code float}-valued
+     * result without boxing either. If evaluation of either throws an exception, it is
+     * relayed to the caller of the composed predicate.
+     *
+     * @param before the function to apply before this predicate is evaluated
+     * @return a composed predicate that first applies the {@code before} function
+     *         and then evaluates this predicate
+     * @throws NullPointerException if {@code before} is null
+     *
+     * @see AbstractBooleanPredicate1
+     */
+    AbstractBooleanPredicate1<?> composeBoolean(final BooleanToFloatFunction1 before);
+
+    /**
+     * Returns a composed predicate that applies the {@code before} function to its
+     * {@code byte}-valued input, and then evaluates this predicate on the {@code float}-valued
+     * result without boxing either. If evaluation of either throws an exception, it is
+     * relayed to the caller of the composed predicate.
+     *
+     * @param before the function to apply before this predicate is evaluated
+     * @return a composed predicate that first applies the {@code before} function
+     *         and then evaluates this predicate
+     * @throws NullPointerException if {@code before} is null
+     *
+     * @see AbstractBytePredicate1
+     */
+    AbstractBytePredicate1<?> composeByte(final ByteToFloatFunction1 before);
+
+    /**
+     * Returns a composed predicate that applies the {@code before} function to its
+     * {@code char}-valued input, and then evaluates this predicate on the {@code float}-valued
+     * result without boxing either. If evaluation of either throws an exception, it is
+     * relayed to the caller of the composed predicate.
+     *
+     * @param before the function to apply before this predicate is evaluated
+     * @return a composed predicate that first applies the {@code before} function
+     *         and then evaluates this predicate
+     * @throws NullPointerException if {@code before} is null
+     *
+     * @see AbstractCharPredicate1
+     */
+    AbstractCharPredicate1<?> composeChar(final CharToFloatFunction1 before);
+
+    /**
+     * Returns a composed predicate that applies the {@code before} function to its
+     * {@code short}-valued input, and then evaluates this predicate on the {@code float}-valued
+     * result without boxing either. If evaluation of either throws an exception, it is
+     * relayed to the caller of the composed predicate.
+     *
+     * @param before the function to apply before this predicate is evaluated
+     * @return a composed predicate that first applies the {@code before} function
+     *         and then evaluates this predicate
+     * @throws NullPointerException if {@code before} is null
+     *
+     * @see AbstractShortPredicate1
+     */
+    AbstractShortPredicate1<?> composeShort(final ShortToFloatFunction1 before);
+
+    /**
+     * Returns a composed predicate that applies the {@code before} function to its
+     * {@code int}-valued input, and then evaluates this predicate on the {@code float}-valued
+     * result without boxing either. If evaluation of either throws an exception, it is
+     * relayed to the caller of the composed predicate.
+     *
+     * @param before the function to apply before this predicate is evaluated
+     * @return a composed predicate that first applies the {@code before} function
+     *         and then evaluates this predicate
+     * @throws NullPointerException if {@code before} is null
+     *
+     * @see AbstractIntPredicate1
+     */
+    AbstractIntPredicate1<?> composeInt(final IntToFloatFunction1 before);
+
+    /**
+     * Returns a composed predicate that applies the {@code before} function to its
+     * {@code long}-valued input, and then evaluates this predicate on the {@code float}-valued
+     * result without boxing either. If evaluation of either throws an exception, it is
+     * relayed to the caller of the composed predicate.
+     *
+     * @param before the function to apply before this predicate is evaluated
+     * @return a composed predicate that first applies the {@code before} function
+     *         and then evaluates this predicate
+     * @throws NullPointerException if {@code before} is null
+     *
+     * @see AbstractLongPredicate1
+     */
+    AbstractLongPredicate1<?> composeLong(final LongToFloatFunction1 before);
+
+    /**
+     * Returns a composed predicate that applies the {@code before} function to its
+     * {@code float}-valued input, and then evaluates this predicate on the {@code float}-valued
+     * result without boxing either. If evaluation of either throws an exception, it is
+     * relayed to the caller of the composed predicate.
+     *
+     * @param before the function to apply before this predicate is evaluated
+     * @return a composed predicate that first applies the {@code before} function
+     *         and then evaluates this predicate
+     * @throws NullPointerException if {@code before} is null
+     *
+     * @see AbstractFloatPredicate1
+     */
+    AbstractFloatPredicate1<?> composeFloat(final FloatOperator1 before);
+
+    /**
+     * Returns a composed predicate that applies the {@code before} function to its
+     * {@code double}-valued input, and then evaluates this predicate on the {@code float}-valued
+     * result without boxing either. If evaluation of either throws an exception, it is
+     * relayed to the caller of the composed predicate.
+     *
+     * @param before the function to apply before this predicate is evaluated
+     * @return a composed predicate that first applies the {@code before} function
+     *         and then evaluates this predicate
+     * @throws NullPointerException if {@code before} is null
+     *
+     * @see AbstractDoublePredicate1
+     */
+    AbstractDoublePredicate1<?> composeDouble(final DoubleToFloatFunction1 before);
+
     /**
      * @see FloatFunction1
      */
@@ -0,0 +1,130 @@
+/*
+ * Predicating (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.predicate.abstracts.primitive.ints;
+
+import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.partial.FunctionVariant;
+import net.ashwork.functionality.partial.UnboxedInput;
+import net.ashwork.functionality.predicate.abstracts.AbstractPredicate2;
+import net.ashwork.functionality.predicate.abstracts.AbstractPredicateN;
+import net.ashwork.functionality.primitive.combined.IntToBooleanFunction2;
+import net.ashwork.functionality.primitive.ints.IntFunction2;
+import net.ashwork.functionality.util.InheritOnly;
+
+/**
+ * Represents a predicate that accepts two {@code int}-valued arguments and produces a {@code boolean}-valued result.
+ * This is the two-arity specialization for {@link AbstractPredicateN}.
+ * This is the predicate specialization for {@link IntToBooleanFunction2}.
+ * This is the {@code int}-consuming primitive specialization of {@link AbstractPredicate2}.
+ *
+ * @apiNote
+ * This is an abstract predicate and should not be used directly. It should instead
+ * be called by one of its subtypes.
+ *
+ * @param <P> the type of this predicate
+ *
+ * @see AbstractPredicateN
+ * @see IntToBooleanFunction2
+ * @see AbstractPredicate2
+ * @since 1.0.0
+ */
+@InheritOnly
+public interface AbstractIntPredicate2<P extends AbstractIntPredicate2<P>> extends AbstractPredicateN<P>, FunctionVariant<Boolean, IntToBooleanFunction2>, UnboxedInput<AbstractPredicate2<Integer, Integer, ?>> {
+
+    /**
+     * Evaluates this predicate on the given arguments.
+     *
+     * @param value1 the first input argument
+     * @param value2 the second input argument
+     * @return {@code true} if the input arguments match the predicate, otherwise
+     *         {@code false}
+     */
+    boolean test(final int value1, final int value2);
+
+    @Override
+    default boolean testAllUnchecked(final Object... args) {
+        return this.test((int) args[0], (int) args[1]);
+    }
+
+    @Override
+    default int arity() {
+        return 2;
+    }
+
+    /**
+     * @see IntToBooleanFunction2
+     */
+    @Override
+    default IntToBooleanFunction2 toFunctionVariant() {
+        return this::test;
+    }
+
+    /**
+     * @see AbstractPredicate2
+     */
+    @Override
+    AbstractPredicate2<Integer, Integer, ?> boxInput();
+
+    /**
+     * @see IntFunction2
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    default <V> IntFunction2<V> andThen(final Function1<? super Boolean, ? extends V> after) {
+        return (IntFunction2<V>) AbstractPredicateN.super.andThen(after);
+    }
+
+    /**
+     * @see IntFunction2
+     */
+    @Override
+    default <V> IntFunction2<V> andThenUnchecked(final Function1<? super Boolean, ? extends V> after) {
+        return (final int value1, final int value2) -> after.apply(this.test(value1, value2));
+    }
+
+    @Override
+    AbstractIntPredicate2<P> not();
+
+    @Override
+    AbstractIntPredicate2<P> and(final P other);
+
+    @Override
+    AbstractIntPredicate2<P> or(final P other);
+
+    @Override
+    default AbstractIntPredicate2<P> xor(final P other) {
+        return (AbstractIntPredicate2<P>) AbstractPredicateN.super.xor(other);
+    }
+
+    @Override
+    default AbstractIntPredicate2<P> sub(final P other) {
+        return (AbstractIntPredicate2<P>) AbstractPredicateN.super.sub(other);
+    }
+
+    @Override
+    default AbstractIntPredicate2<P> nand(final P other) {
+        return (AbstractIntPredicate2<P>) AbstractPredicateN.super.nand(other);
+    }
+
+    @Override
+    default AbstractIntPredicate2<P> nor(final P other) {
+        return (AbstractIntPredicate2<P>) AbstractPredicateN.super.nor(other);
+    }
+
+    @Override
+    default AbstractIntPredicate2<P> xnor(final P other) {
+        return (AbstractIntPredicate2<P>) AbstractPredicateN.super.xnor(other);
+    }
+
+    @Override
+    default AbstractIntPredicate2<P> orNot(final P other) {
+        return (AbstractIntPredicate2<P>) AbstractPredicateN.super.orNot(other);
+    }
+}
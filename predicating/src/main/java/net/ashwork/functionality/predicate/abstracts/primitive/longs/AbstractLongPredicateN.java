@@ -0,0 +1,108 @@
+/*
+ * Predicating (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.predicate.abstracts.primitive.longs;
+
+import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.predicate.abstracts.AbstractPredicateN;
+import net.ashwork.functionality.primitive.longs.LongFunctionN;
+import net.ashwork.functionality.util.InheritOnly;
+
+/**
+ * Represents a predicate that accepts {@code n} {@code long}-valued arguments and produces a {@code boolean}-valued result.
+ * This is the {@code long}-consuming primitive specialization of {@link AbstractPredicateN}.
+ * The arguments are passed within a {@code long} array such that they are never boxed.
+ *
+ * @apiNote
+ * This is an abstract predicate and should not be used directly. It should instead
+ * be called by one of its subtypes.
+ *
+ * @param <P> the type of this predicate
+ *
+ * @see AbstractPredicateN
+ * @since 1.0.0
+ */
+@InheritOnly
+public interface AbstractLongPredicateN<P extends AbstractLongPredicateN<P>> extends AbstractPredicateN<P> {
+
+    /**
+     * Evaluates this predicate on the given arguments. Makes no assumptions
+     * of the arguments passed in and whether a value will compute
+     * successfully.
+     *
+     * @param values the input arguments
+     * @return {@code true} if the input arguments match the predicate, otherwise
+     *         {@code false}
+     */
+    boolean testAll(final long... values);
+
+    @Override
+    default boolean testAllUnchecked(final Object... args) {
+        final long[] values = new long[args.length];
+        for (int i = 0; i < args.length; i++)
+            values[i] = (long) args[i];
+        return this.testAll(values);
+    }
+
+    /**
+     * @see LongFunctionN
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    default <V> LongFunctionN<V> andThen(final Function1<? super Boolean, ? extends V> after) {
+        return (LongFunctionN<V>) AbstractPredicateN.super.andThen(after);
+    }
+
+    /**
+     * @see LongFunctionN
+     */
+    @Override
+    default <V> LongFunctionN<V> andThenUnchecked(final Function1<? super Boolean, ? extends V> after) {
+        return (final long[] values) -> after.apply(this.testAll(values));
+    }
+
+    @Override
+    AbstractLongPredicateN<P> not();
+
+    @Override
+    AbstractLongPredicateN<P> and(final P other);
+
+    @Override
+    AbstractLongPredicateN<P> or(final P other);
+
+    @Override
+    default AbstractLongPredicateN<P> xor(final P other) {
+        return (AbstractLongPredicateN<P>) AbstractPredicateN.super.xor(other);
+    }
+
+    @Override
+    default AbstractLongPredicateN<P> sub(final P other) {
+        return (AbstractLongPredicateN<P>) AbstractPredicateN.super.sub(other);
+    }
+
+    @Override
+    default AbstractLongPredicateN<P> nand(final P other) {
+        return (AbstractLongPredicateN<P>) AbstractPredicateN.super.nand(other);
+    }
+
+    @Override
+    default AbstractLongPredicateN<P> nor(final P other) {
+        return (AbstractLongPredicateN<P>) AbstractPredicateN.super.nor(other);
+    }
+
+    @Override
+    default AbstractLongPredicateN<P> xnor(final P other) {
+        return (AbstractLongPredicateN<P>) AbstractPredicateN.super.xnor(other);
+    }
+
+    @Override
+    default AbstractLongPredicateN<P> orNot(final P other) {
+        return (AbstractLongPredicateN<P>) AbstractPredicateN.super.orNot(other);
+    }
+}
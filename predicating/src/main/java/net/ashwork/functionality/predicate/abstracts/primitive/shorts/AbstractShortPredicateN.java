@@ -0,0 +1,108 @@
+/*
+ * Predicating (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.predicate.abstracts.primitive.shorts;
+
+import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.predicate.abstracts.AbstractPredicateN;
+import net.ashwork.functionality.primitive.shorts.ShortFunctionN;
+import net.ashwork.functionality.util.InheritOnly;
+
+/**
+ * Represents a predicate that accepts {@code n} {@code short}-valued arguments and produces a {@code boolean}-valued result.
+ * This is the {@code short}-consuming primitive specialization of {@link AbstractPredicateN}.
+ * The arguments are passed within a {@code short} array such that they are never boxed.
+ *
+ * @apiNote
+ * This is an abstract predicate and should not be used directly. It should instead
+ * be called by one of its subtypes.
+ *
+ * @param <P> the type of this predicate
+ *
+ * @see AbstractPredicateN
+ * @since 1.0.0
+ */
+@InheritOnly
+public interface AbstractShortPredicateN<P extends AbstractShortPredicateN<P>> extends AbstractPredicateN<P> {
+
+    /**
+     * Evaluates this predicate on the given arguments. Makes no assumptions
+     * of the arguments passed in and whether a value will compute
+     * successfully.
+     *
+     * @param values the input arguments
+     * @return {@code true} if the input arguments match the predicate, otherwise
+     *         {@code false}
+     */
+    boolean testAll(final short... values);
+
+    @Override
+    default boolean testAllUnchecked(final Object... args) {
+        final short[] values = new short[args.length];
+        for (int i = 0; i < args.length; i++)
+            values[i] = (short) args[i];
+        return this.testAll(values);
+    }
+
+    /**
+     * @see ShortFunctionN
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    default <V> ShortFunctionN<V> andThen(final Function1<? super Boolean, ? extends V> after) {
+        return (ShortFunctionN<V>) AbstractPredicateN.super.andThen(after);
+    }
+
+    /**
+     * @see ShortFunctionN
+     */
+    @Override
+    default <V> ShortFunctionN<V> andThenUnchecked(final Function1<? super Boolean, ? extends V> after) {
+        return (final short[] values) -> after.apply(this.testAll(values));
+    }
+
+    @Override
+    AbstractShortPredicateN<P> not();
+
+    @Override
+    AbstractShortPredicateN<P> and(final P other);
+
+    @Override
+    AbstractShortPredicateN<P> or(final P other);
+
+    @Override
+    default AbstractShortPredicateN<P> xor(final P other) {
+        return (AbstractShortPredicateN<P>) AbstractPredicateN.super.xor(other);
+    }
+
+    @Override
+    default AbstractShortPredicateN<P> sub(final P other) {
+        return (AbstractShortPredicateN<P>) AbstractPredicateN.super.sub(other);
+    }
+
+    @Override
+    default AbstractShortPredicateN<P> nand(final P other) {
+        return (AbstractShortPredicateN<P>) AbstractPredicateN.super.nand(other);
+    }
+
+    @Override
+    default AbstractShortPredicateN<P> nor(final P other) {
+        return (AbstractShortPredicateN<P>) AbstractPredicateN.super.nor(other);
+    }
+
+    @Override
+    default AbstractShortPredicateN<P> xnor(final P other) {
+        return (AbstractShortPredicateN<P>) AbstractPredicateN.super.xnor(other);
+    }
+
+    @Override
+    default AbstractShortPredicateN<P> orNot(final P other) {
+        return (AbstractShortPredicateN<P>) AbstractPredicateN.super.orNot(other);
+    }
+}
@@ -14,6 +14,23 @@ import net.ashwork.functionality.operator.primitive.booleans.BooleanOperator1;
 import net.ashwork.functionality.predicate.Predicate1;
 import net.ashwork.functionality.predicate.PredicateN;
 import net.ashwork.functionality.predicate.abstracts.primitive.booleans.AbstractBooleanPredicate1;
+import net.ashwork.functionality.predicate.primitive.bytes.BytePredicate1;
+import net.ashwork.functionality.predicate.primitive.chars.CharPredicate1;
+import net.ashwork.functionality.predicate.primitive.doubles.DoublePredicate1;
+import net.ashwork.functionality.predicate.primitive.floats.FloatPredicate1;
+import net.ashwork.functionality.predicate.primitive.ints.IntPredicate1;
+import net.ashwork.functionality.predicate.primitive.longs.LongPredicate1;
+import net.ashwork.functionality.predicate.primitive.shorts.ShortPredicate1;
+import net.ashwork.functionality.primitive.booleans.ToBooleanFunction1;
+import net.ashwork.functionality.primitive.combined.ByteToBooleanFunction1;
+import net.ashwork.functionality.primitive.combined.CharToBooleanFunction1;
+import net.ashwork.functionality.primitive.combined.DoubleToBooleanFunction1;
+import net.ashwork.functionality.primitive.combined.FloatToBooleanFunction1;
+import net.ashwork.functionality.primitive.combined.IntToBooleanFunction1;
+import net.ashwork.functionality.primitive.combined.LongToBooleanFunction1;
+import net.ashwork.functionality.primitive.combined.ShortToBooleanFunction1;
+
+import java.util.Objects;
 
 /**
  * Represents a predicate that accepts a {@code boolean}-valued argument and produces a {@code boolean}-valued result.
@@ -68,6 +85,87 @@ public interface BooleanPredicate1 extends AbstractBooleanPredicate1<BooleanPred
         return (final V v) -> this.test(before.apply(v));
     }
 
+    /**
+     * @see Predicate1
+     */
+    @Override
+    default <V> Predicate1<V> composeObj(final ToBooleanFunction1<? super V> before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final V v) -> this.test(before.applyAsBoolean(v));
+    }
+
+    /**
+     * @see BooleanPredicate1
+     */
+    @Override
+    default BooleanPredicate1 composeBoolean(final BooleanOperator1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final boolean value) -> this.test(before.applyAsBoolean(value));
+    }
+
+    /**
+     * @see BytePredicate1
+     */
+    @Override
+    default BytePredicate1 composeByte(final ByteToBooleanFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final byte value) -> this.test(before.applyAsBoolean(value));
+    }
+
+    /**
+     * @see CharPredicate1
+     */
+    @Override
+    default CharPredicate1 composeChar(final CharToBooleanFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final char value) -> this.test(before.applyAsBoolean(value));
+    }
+
+    /**
+     * @see ShortPredicate1
+     */
+    @Override
+    default ShortPredicate1 composeShort(final ShortToBooleanFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final short value) -> this.test(before.applyAsBoolean(value));
+    }
+
+    /**
+     * @see IntPredicate1
+     */
+    @Override
+    default IntPredicate1 composeInt(final IntToBooleanFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final int value) -> this.test(before.applyAsBoolean(value));
+    }
+
+    /**
+     * @see LongPredicate1
+     */
+    @Override
+    default LongPredicate1 composeLong(final LongToBooleanFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final long value) -> this.test(before.applyAsBoolean(value));
+    }
+
+    /**
+     * @see FloatPredicate1
+     */
+    @Override
+    default FloatPredicate1 composeFloat(final FloatToBooleanFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final float value) -> this.test(before.applyAsBoolean(value));
+    }
+
+    /**
+     * @see DoublePredicate1
+     */
+    @Override
+    default DoublePredicate1 composeDouble(final DoubleToBooleanFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final double value) -> this.test(before.applyAsBoolean(value));
+    }
+
     @Override
     default BooleanPredicate1 not() {
         return (final boolean value) -> !this.test(value);
@@ -0,0 +1,97 @@
+/*
+ * Predicating (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.predicate.primitive.booleans;
+
+import net.ashwork.functionality.operator.primitive.booleans.BooleanOperator2;
+import net.ashwork.functionality.predicate.Predicate2;
+import net.ashwork.functionality.predicate.PredicateN;
+import net.ashwork.functionality.predicate.abstracts.primitive.booleans.AbstractBooleanPredicate2;
+
+/**
+ * Represents a predicate that accepts two {@code boolean}-valued arguments and produces a {@code boolean}-valued result.
+ * This is the two-arity specialization for {@link PredicateN}.
+ * This is the predicate specialization for {@link BooleanOperator2}.
+ * This is the {@code boolean}-consuming primitive specialization of {@link Predicate2}.
+ *
+ * <p>This is a functional interface whose functional method is {@link #test(boolean, boolean)}.
+ *
+ * @see PredicateN
+ * @see BooleanOperator2
+ * @see Predicate2
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface BooleanPredicate2 extends AbstractBooleanPredicate2<BooleanPredicate2> {
+
+    /**
+     * Creates an instance of this object from its {@link BooleanOperator2} function variant.
+     *
+     * @param function the function variant of this object
+     * @return an instance of this object
+     *
+     * @see BooleanOperator2
+     */
+    static BooleanPredicate2 fromFunctionVariant(final BooleanOperator2 function) {
+        return function::applyAsBoolean;
+    }
+
+    /**
+     * @see Predicate2
+     */
+    @Override
+    default Predicate2<Boolean, Boolean> boxInput() {
+        return this::test;
+    }
+
+    @Override
+    default BooleanPredicate2 not() {
+        return (final boolean value1, final boolean value2) -> !this.test(value1, value2);
+    }
+
+    @Override
+    default BooleanPredicate2 and(final BooleanPredicate2 other) {
+        return (final boolean value1, final boolean value2) -> this.test(value1, value2) && other.test(value1, value2);
+    }
+
+    @Override
+    default BooleanPredicate2 or(final BooleanPredicate2 other) {
+        return (final boolean value1, final boolean value2) -> this.test(value1, value2) || other.test(value1, value2);
+    }
+
+    @Override
+    default BooleanPredicate2 xor(final BooleanPredicate2 other) {
+        return (BooleanPredicate2) AbstractBooleanPredicate2.super.xor(other);
+    }
+
+    @Override
+    default BooleanPredicate2 sub(final BooleanPredicate2 other) {
+        return (BooleanPredicate2) AbstractBooleanPredicate2.super.sub(other);
+    }
+
+    @Override
+    default BooleanPredicate2 nand(final BooleanPredicate2 other) {
+        return (BooleanPredicate2) AbstractBooleanPredicate2.super.nand(other);
+    }
+
+    @Override
+    default BooleanPredicate2 nor(final BooleanPredicate2 other) {
+        return (BooleanPredicate2) AbstractBooleanPredicate2.super.nor(other);
+    }
+
+    @Override
+    default BooleanPredicate2 xnor(final BooleanPredicate2 other) {
+        return (BooleanPredicate2) AbstractBooleanPredicate2.super.xnor(other);
+    }
+
+    @Override
+    default BooleanPredicate2 orNot(final BooleanPredicate2 other) {
+        return (BooleanPredicate2) AbstractBooleanPredicate2.super.orNot(other);
+    }
+}
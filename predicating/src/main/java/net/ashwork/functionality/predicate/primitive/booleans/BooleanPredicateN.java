@@ -0,0 +1,170 @@
+/*
+ * Predicating (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.predicate.primitive.booleans;
+
+import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.predicate.Predicate1;
+import net.ashwork.functionality.predicate.PredicateN;
+import net.ashwork.functionality.predicate.abstracts.primitive.booleans.AbstractBooleanPredicateN;
+import net.ashwork.functionality.primitive.booleans.BooleanFunctionN;
+
+/**
+ * Represents a predicate that accepts {@code n} {@code boolean}-valued arguments and produces a {@code boolean}-valued result.
+ * This is the {@code boolean}-consuming primitive specialization of {@link PredicateN}.
+ * The arguments are passed within a {@code boolean} array such that they are never boxed.
+ *
+ * <p>This is a functional interface whose functional method is {@link #testAll(boolean...)}.
+ *
+ * @see PredicateN
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface BooleanPredicateN extends AbstractBooleanPredicateN<BooleanPredicateN> {
+
+    @Override
+    default BooleanPredicateN not() {
+        return (final boolean[] values) -> !this.testAll(values);
+    }
+
+    @Override
+    default BooleanPredicateN and(final BooleanPredicateN other) {
+        return (final boolean[] values) -> this.testAll(values) && other.testAll(values);
+    }
+
+    @Override
+    default BooleanPredicateN or(final BooleanPredicateN other) {
+        return (final boolean[] values) -> this.testAll(values) || other.testAll(values);
+    }
+
+    @Override
+    default BooleanPredicateN xor(final BooleanPredicateN other) {
+        return (BooleanPredicateN) AbstractBooleanPredicateN.super.xor(other);
+    }
+
+    @Override
+    default BooleanPredicateN sub(final BooleanPredicateN other) {
+        return (BooleanPredicateN) AbstractBooleanPredicateN.super.sub(other);
+    }
+
+    @Override
+    default BooleanPredicateN nand(final BooleanPredicateN other) {
+        return (BooleanPredicateN) AbstractBooleanPredicateN.super.nand(other);
+    }
+
+    @Override
+    default BooleanPredicateN nor(final BooleanPredicateN other) {
+        return (BooleanPredicateN) AbstractBooleanPredicateN.super.nor(other);
+    }
+
+    @Override
+    default BooleanPredicateN xnor(final BooleanPredicateN other) {
+        return (BooleanPredicateN) AbstractBooleanPredicateN.super.xnor(other);
+    }
+
+    @Override
+    default BooleanPredicateN orNot(final BooleanPredicateN other) {
+        return (BooleanPredicateN) AbstractBooleanPredicateN.super.orNot(other);
+    }
+
+    /**
+     * An instance of {@link AbstractBooleanPredicateN} which properly defines the
+     * arity of that particular predicate.
+     *
+     * @see AbstractBooleanPredicateN
+     */
+    class Instance implements AbstractBooleanPredicateN<Instance> {
+
+        private final int arity;
+        private final Predicate1<boolean[]> predicate;
+
+        /**
+         * Constructs an instance of the predicate.
+         *
+         * @param arity     the number of arguments of the predicate
+         * @param predicate the predicate to be applied
+         */
+        public Instance(final int arity, final Predicate1<boolean[]> predicate) {
+            this.arity = arity;
+            this.predicate = predicate;
+        }
+
+        @Override
+        public int arity() {
+            return this.arity;
+        }
+
+        @Override
+        public boolean testAll(final boolean... values) {
+            return this.predicate.test(values);
+        }
+
+        /**
+         * @see BooleanFunctionN.Instance
+         */
+        @SuppressWarnings("unchecked")
+        @Override
+        public <V> BooleanFunctionN.Instance<V> andThen(final Function1<? super Boolean, ? extends V> after) {
+            return (BooleanFunctionN.Instance<V>) AbstractBooleanPredicateN.super.andThen(after);
+        }
+
+        /**
+         * @see BooleanFunctionN.Instance
+         */
+        @Override
+        public <V> BooleanFunctionN.Instance<V> andThenUnchecked(final Function1<? super Boolean, ? extends V> after) {
+            return new BooleanFunctionN.Instance<>(this.arity(), (final boolean[] values) -> after.apply(this.testAll(values)));
+        }
+
+        @Override
+        public BooleanPredicateN.Instance not() {
+            return new BooleanPredicateN.Instance(this.arity(), (final boolean[] values) -> !this.testAll(values));
+        }
+
+        @Override
+        public BooleanPredicateN.Instance and(final BooleanPredicateN.Instance other) {
+            return new BooleanPredicateN.Instance(this.arity(), (final boolean[] values) -> this.testAll(values) && other.testAll(values));
+        }
+
+        @Override
+        public BooleanPredicateN.Instance or(final BooleanPredicateN.Instance other) {
+            return new BooleanPredicateN.Instance(this.arity(), (final boolean[] values) -> this.testAll(values) || other.testAll(values));
+        }
+
+        @Override
+        public BooleanPredicateN.Instance xor(final BooleanPredicateN.Instance other) {
+            return (BooleanPredicateN.Instance) AbstractBooleanPredicateN.super.xor(other);
+        }
+
+        @Override
+        public BooleanPredicateN.Instance sub(final BooleanPredicateN.Instance other) {
+            return (BooleanPredicateN.Instance) AbstractBooleanPredicateN.super.sub(other);
+        }
+
+        @Override
+        public BooleanPredicateN.Instance nand(final BooleanPredicateN.Instance other) {
+            return (BooleanPredicateN.Instance) AbstractBooleanPredicateN.super.nand(other);
+        }
+
+        @Override
+        public BooleanPredicateN.Instance nor(final BooleanPredicateN.Instance other) {
+            return (BooleanPredicateN.Instance) AbstractBooleanPredicateN.super.nor(other);
+        }
+
+        @Override
+        public BooleanPredicateN.Instance xnor(final BooleanPredicateN.Instance other) {
+            return (BooleanPredicateN.Instance) AbstractBooleanPredicateN.super.xnor(other);
+        }
+
+        @Override
+        public BooleanPredicateN.Instance orNot(final BooleanPredicateN.Instance other) {
+            return (BooleanPredicateN.Instance) AbstractBooleanPredicateN.super.orNot(other);
+        }
+    }
+}
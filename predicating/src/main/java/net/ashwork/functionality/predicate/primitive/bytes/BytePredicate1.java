@@ -10,10 +10,28 @@
 package net.ashwork.functionality.predicate.primitive.bytes;
 
 import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.operator.primitive.bytes.ByteOperator1;
 import net.ashwork.functionality.predicate.Predicate1;
 import net.ashwork.functionality.predicate.PredicateN;
 import net.ashwork.functionality.predicate.abstracts.primitive.bytes.AbstractBytePredicate1;
+import net.ashwork.functionality.predicate.primitive.booleans.BooleanPredicate1;
+import net.ashwork.functionality.predicate.primitive.chars.CharPredicate1;
+import net.ashwork.functionality.predicate.primitive.doubles.DoublePredicate1;
+import net.ashwork.functionality.predicate.primitive.floats.FloatPredicate1;
+import net.ashwork.functionality.predicate.primitive.ints.IntPredicate1;
+import net.ashwork.functionality.predicate.primitive.longs.LongPredicate1;
+import net.ashwork.functionality.predicate.primitive.shorts.ShortPredicate1;
+import net.ashwork.functionality.primitive.bytes.ToByteFunction1;
+import net.ashwork.functionality.primitive.combined.BooleanToByteFunction1;
 import net.ashwork.functionality.primitive.combined.ByteToBooleanFunction1;
+import net.ashwork.functionality.primitive.combined.CharToByteFunction1;
+import net.ashwork.functionality.primitive.combined.DoubleToByteFunction1;
+import net.ashwork.functionality.primitive.combined.FloatToByteFunction1;
+import net.ashwork.functionality.primitive.combined.IntToByteFunction1;
+import net.ashwork.functionality.primitive.combined.LongToByteFunction1;
+import net.ashwork.functionality.primitive.combined.ShortToByteFunction1;
+
+import java.util.Objects;
 
 /**
  * Represents a predicate that accepts a {@code byte}-valued argument and produces a {@code boolean}-valued result.
@@ -68,6 +86,87 @@ public interface BytePredicate1 extends AbstractBytePredicate1<BytePredicate1> {
         return (final V v) -> this.test(before.apply(v));
     }
 
+    /**
+     * @see Predicate1
+     */
+    @Override
+    default <V> Predicate1<V> composeObj(final ToByteFunction1<? super V> before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final V v) -> this.test(before.applyAsByte(v));
+    }
+
+    /**
+     * @see BooleanPredicate1
+     */
+    @Override
+    default BooleanPredicate1 composeBoolean(final BooleanToByteFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final boolean value) -> this.test(before.applyAsByte(value));
+    }
+
+    /**
+     * @see BytePredicate1
+     */
+    @Override
+    default BytePredicate1 composeByte(final ByteOperator1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final byte value) -> this.test(before.applyAsByte(value));
+    }
+
+    /**
+     * @see CharPredicate1
+     */
+    @Override
+    default CharPredicate1 composeChar(final CharToByteFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final char value) -> this.test(before.applyAsByte(value));
+    }
+
+    /**
+     * @see ShortPredicate1
+     */
+    @Override
+    default ShortPredicate1 composeShort(final ShortToByteFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final short value) -> this.test(before.applyAsByte(value));
+    }
+
+    /**
+     * @see IntPredicate1
+     */
+    @Override
+    default IntPredicate1 composeInt(final IntToByteFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final int value) -> this.test(before.applyAsByte(value));
+    }
+
+    /**
+     * @see LongPredicate1
+     */
+    @Override
+    default LongPredicate1 composeLong(final LongToByteFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final long value) -> this.test(before.applyAsByte(value));
+    }
+
+    /**
+     * @see FloatPredicate1
+     */
+    @Override
+    default FloatPredicate1 composeFloat(final FloatToByteFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final float value) -> this.test(before.applyAsByte(value));
+    }
+
+    /**
+     * @see DoublePredicate1
+     */
+    @Override
+    default DoublePredicate1 composeDouble(final DoubleToByteFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final double value) -> this.test(before.applyAsByte(value));
+    }
+
     @Override
     default BytePredicate1 not() {
         return (final byte value) -> !this.test(value);
@@ -0,0 +1,97 @@
+/*
+ * Predicating (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.predicate.primitive.bytes;
+
+import net.ashwork.functionality.predicate.Predicate2;
+import net.ashwork.functionality.predicate.PredicateN;
+import net.ashwork.functionality.predicate.abstracts.primitive.bytes.AbstractBytePredicate2;
+import net.ashwork.functionality.primitive.combined.ByteToBooleanFunction2;
+
+/**
+ * Represents a predicate that accepts two {@code byte}-valued arguments and produces a {@code boolean}-valued result.
+ * This is the two-arity specialization for {@link PredicateN}.
+ * This is the predicate specialization for {@link ByteToBooleanFunction2}.
+ * This is the {@code byte}-consuming primitive specialization of {@link Predicate2}.
+ *
+ * <p>This is a functional interface whose functional method is {@link #test(byte, byte)}.
+ *
+ * @see PredicateN
+ * @see ByteToBooleanFunction2
+ * @see Predicate2
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface BytePredicate2 extends AbstractBytePredicate2<BytePredicate2> {
+
+    /**
+     * Creates an instance of this object from its {@link ByteToBooleanFunction2} function variant.
+     *
+     * @param function the function variant of this object
+     * @return an instance of this object
+     *
+     * @see ByteToBooleanFunction2
+     */
+    static BytePredicate2 fromFunctionVariant(final ByteToBooleanFunction2 function) {
+        return function::applyAsBoolean;
+    }
+
+    /**
+     * @see Predicate2
+     */
+    @Override
+    default Predicate2<Byte, Byte> boxInput() {
+        return this::test;
+    }
+
+    @Override
+    default BytePredicate2 not() {
+        return (final byte value1, final byte value2) -> !this.test(value1, value2);
+    }
+
+    @Override
+    default BytePredicate2 and(final BytePredicate2 other) {
+        return (final byte value1, final byte value2) -> this.test(value1, value2) && other.test(value1, value2);
+    }
+
+    @Override
+    default BytePredicate2 or(final BytePredicate2 other) {
+        return (final byte value1, final byte value2) -> this.test(value1, value2) || other.test(value1, value2);
+    }
+
+    @Override
+    default BytePredicate2 xor(final BytePredicate2 other) {
+        return (BytePredicate2) AbstractBytePredicate2.super.xor(other);
+    }
+
+    @Override
+    default BytePredicate2 sub(final BytePredicate2 other) {
+        return (BytePredicate2) AbstractBytePredicate2.super.sub(other);
+    }
+
+    @Override
+    default BytePredicate2 nand(final BytePredicate2 other) {
+        return (BytePredicate2) AbstractBytePredicate2.super.nand(other);
+    }
+
+    @Override
+    default BytePredicate2 nor(final BytePredicate2 other) {
+        return (BytePredicate2) AbstractBytePredicate2.super.nor(other);
+    }
+
+    @Override
+    default BytePredicate2 xnor(final BytePredicate2 other) {
+        return (BytePredicate2) AbstractBytePredicate2.super.xnor(other);
+    }
+
+    @Override
+    default BytePredicate2 orNot(final BytePredicate2 other) {
+        return (BytePredicate2) AbstractBytePredicate2.super.orNot(other);
+    }
+}
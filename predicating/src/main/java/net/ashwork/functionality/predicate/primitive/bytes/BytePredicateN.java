@@ -0,0 +1,170 @@
+/*
+ * Predicating (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.predicate.primitive.bytes;
+
+import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.predicate.Predicate1;
+import net.ashwork.functionality.predicate.PredicateN;
+import net.ashwork.functionality.predicate.abstracts.primitive.bytes.AbstractBytePredicateN;
+import net.ashwork.functionality.primitive.bytes.ByteFunctionN;
+
+/**
+ * Represents a predicate that accepts {@code n} {@code byte}-valued arguments and produces a {@code boolean}-valued result.
+ * This is the {@code byte}-consuming primitive specialization of {@link PredicateN}.
+ * The arguments are passed within a {@code byte} array such that they are never boxed.
+ *
+ * <p>This is a functional interface whose functional method is {@link #testAll(byte...)}.
+ *
+ * @see PredicateN
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface BytePredicateN extends AbstractBytePredicateN<BytePredicateN> {
+
+    @Override
+    default BytePredicateN not() {
+        return (final byte[] values) -> !this.testAll(values);
+    }
+
+    @Override
+    default BytePredicateN and(final BytePredicateN other) {
+        return (final byte[] values) -> this.testAll(values) && other.testAll(values);
+    }
+
+    @Override
+    default BytePredicateN or(final BytePredicateN other) {
+        return (final byte[] values) -> this.testAll(values) || other.testAll(values);
+    }
+
+    @Override
+    default BytePredicateN xor(final BytePredicateN other) {
+        return (BytePredicateN) AbstractBytePredicateN.super.xor(other);
+    }
+
+    @Override
+    default BytePredicateN sub(final BytePredicateN other) {
+        return (BytePredicateN) AbstractBytePredicateN.super.sub(other);
+    }
+
+    @Override
+    default BytePredicateN nand(final BytePredicateN other) {
+        return (BytePredicateN) AbstractBytePredicateN.super.nand(other);
+    }
+
+    @Override
+    default BytePredicateN nor(final BytePredicateN other) {
+        return (BytePredicateN) AbstractBytePredicateN.super.nor(other);
+    }
+
+    @Override
+    default BytePredicateN xnor(final BytePredicateN other) {
+        return (BytePredicateN) AbstractBytePredicateN.super.xnor(other);
+    }
+
+    @Override
+    default BytePredicateN orNot(final BytePredicateN other) {
+        return (BytePredicateN) AbstractBytePredicateN.super.orNot(other);
+    }
+
+    /**
+     * An instance of {@link AbstractBytePredicateN} which properly defines the
+     * arity of that particular predicate.
+     *
+     * @see AbstractBytePredicateN
+     */
+    class Instance implements AbstractBytePredicateN<Instance> {
+
+        private final int arity;
+        private final Predicate1<byte[]> predicate;
+
+        /**
+         * Constructs an instance of the predicate.
+         *
+         * @param arity     the number of arguments of the predicate
+         * @param predicate the predicate to be applied
+         */
+        public Instance(final int arity, final Predicate1<byte[]> predicate) {
+            this.arity = arity;
+            this.predicate = predicate;
+        }
+
+        @Override
+        public int arity() {
+            return this.arity;
+        }
+
+        @Override
+        public boolean testAll(final byte... values) {
+            return this.predicate.test(values);
+        }
+
+        /**
+         * @see ByteFunctionN.Instance
+         */
+        @SuppressWarnings("unchecked")
+        @Override
+        public <V> ByteFunctionN.Instance<V> andThen(final Function1<? super Boolean, ? extends V> after) {
+            return (ByteFunctionN.Instance<V>) AbstractBytePredicateN.super.andThen(after);
+        }
+
+        /**
+         * @see ByteFunctionN.Instance
+         */
+        @Override
+        public <V> ByteFunctionN.Instance<V> andThenUnchecked(final Function1<? super Boolean, ? extends V> after) {
+            return new ByteFunctionN.Instance<>(this.arity(), (final byte[] values) -> after.apply(this.testAll(values)));
+        }
+
+        @Override
+        public BytePredicateN.Instance not() {
+            return new BytePredicateN.Instance(this.arity(), (final byte[] values) -> !this.testAll(values));
+        }
+
+        @Override
+        public BytePredicateN.Instance and(final BytePredicateN.Instance other) {
+            return new BytePredicateN.Instance(this.arity(), (final byte[] values) -> this.testAll(values) && other.testAll(values));
+        }
+
+        @Override
+        public BytePredicateN.Instance or(final BytePredicateN.Instance other) {
+            return new BytePredicateN.Instance(this.arity(), (final byte[] values) -> this.testAll(values) || other.testAll(values));
+        }
+
+        @Override
+        public BytePredicateN.Instance xor(final BytePredicateN.Instance other) {
+            return (BytePredicateN.Instance) AbstractBytePredicateN.super.xor(other);
+        }
+
+        @Override
+        public BytePredicateN.Instance sub(final BytePredicateN.Instance other) {
+            return (BytePredicateN.Instance) AbstractBytePredicateN.super.sub(other);
+        }
+
+        @Override
+        public BytePredicateN.Instance nand(final BytePredicateN.Instance other) {
+            return (BytePredicateN.Instance) AbstractBytePredicateN.super.nand(other);
+        }
+
+        @Override
+        public BytePredicateN.Instance nor(final BytePredicateN.Instance other) {
+            return (BytePredicateN.Instance) AbstractBytePredicateN.super.nor(other);
+        }
+
+        @Override
+        public BytePredicateN.Instance xnor(final BytePredicateN.Instance other) {
+            return (BytePredicateN.Instance) AbstractBytePredicateN.super.xnor(other);
+        }
+
+        @Override
+        public BytePredicateN.Instance orNot(final BytePredicateN.Instance other) {
+            return (BytePredicateN.Instance) AbstractBytePredicateN.super.orNot(other);
+        }
+    }
+}
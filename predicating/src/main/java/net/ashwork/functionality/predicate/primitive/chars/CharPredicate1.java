@@ -10,10 +10,28 @@
 package net.ashwork.functionality.predicate.primitive.chars;
 
 import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.operator.primitive.chars.CharOperator1;
 import net.ashwork.functionality.predicate.Predicate1;
 import net.ashwork.functionality.predicate.PredicateN;
 import net.ashwork.functionality.predicate.abstracts.primitive.chars.AbstractCharPredicate1;
+import net.ashwork.functionality.predicate.primitive.booleans.BooleanPredicate1;
+import net.ashwork.functionality.predicate.primitive.bytes.BytePredicate1;
+import net.ashwork.functionality.predicate.primitive.doubles.DoublePredicate1;
+import net.ashwork.functionality.predicate.primitive.floats.FloatPredicate1;
+import net.ashwork.functionality.predicate.primitive.ints.IntPredicate1;
+import net.ashwork.functionality.predicate.primitive.longs.LongPredicate1;
+import net.ashwork.functionality.predicate.primitive.shorts.ShortPredicate1;
+import net.ashwork.functionality.primitive.chars.ToCharFunction1;
+import net.ashwork.functionality.primitive.combined.BooleanToCharFunction1;
+import net.ashwork.functionality.primitive.combined.ByteToCharFunction1;
 import net.ashwork.functionality.primitive.combined.CharToBooleanFunction1;
+import net.ashwork.functionality.primitive.combined.DoubleToCharFunction1;
+import net.ashwork.functionality.primitive.combined.FloatToCharFunction1;
+import net.ashwork.functionality.primitive.combined.IntToCharFunction1;
+import net.ashwork.functionality.primitive.combined.LongToCharFunction1;
+import net.ashwork.functionality.primitive.combined.ShortToCharFunction1;
+
+import java.util.Objects;
 
 /**
  * Represents a predicate that accepts a {@code char}-valued argument and produces a {@code boolean}-valued result.
@@ -68,6 +86,87 @@ public interface CharPredicate1 extends AbstractCharPredicate1<CharPredicate1> {
         return (final V v) -> this.test(before.apply(v));
     }
 
+    /**
+     * @see Predicate1
+     */
+    @Override
+    default <V> Predicate1<V> composeObj(final ToCharFunction1<? super V> before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final V v) -> this.test(before.applyAsChar(v));
+    }
+
+    /**
+     * @see BooleanPredicate1
+     */
+    @Override
+    default BooleanPredicate1 composeBoolean(final BooleanToCharFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final boolean value) -> this.test(before.applyAsChar(value));
+    }
+
+    /**
+     * @see BytePredicate1
+     */
+    @Override
+    default BytePredicate1 composeByte(final ByteToCharFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final byte value) -> this.test(before.applyAsChar(value));
+    }
+
+    /**
+     * @see CharPredicate1
+     */
+    @Override
+    default CharPredicate1 composeChar(final CharOperator1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final char value) -> this.test(before.applyAsChar(value));
+    }
+
+    /**
+     * @see ShortPredicate1
+     */
+    @Override
+    default ShortPredicate1 composeShort(final ShortToCharFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final short value) -> this.test(before.applyAsChar(value));
+    }
+
+    /**
+     * @see IntPredicate1
+     */
+    @Override
+    default IntPredicate1 composeInt(final IntToCharFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final int value) -> this.test(before.applyAsChar(value));
+    }
+
+    /**
+     * @see LongPredicate1
+     */
+    @Override
+    default LongPredicate1 composeLong(final LongToCharFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final long value) -> this.test(before.applyAsChar(value));
+    }
+
+    /**
+     * @see FloatPredicate1
+     */
+    @Override
+    default FloatPredicate1 composeFloat(final FloatToCharFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final float value) -> this.test(before.applyAsChar(value));
+    }
+
+    /**
+     * @see DoublePredicate1
+     */
+    @Override
+    default DoublePredicate1 composeDouble(final DoubleToCharFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final double value) -> this.test(before.applyAsChar(value));
+    }
+
     @Override
     default CharPredicate1 not() {
         return (final char value) -> !this.test(value);
@@ -0,0 +1,97 @@
+/*
+ * Predicating (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.predicate.primitive.chars;
+
+import net.ashwork.functionality.predicate.Predicate2;
+import net.ashwork.functionality.predicate.PredicateN;
+import net.ashwork.functionality.predicate.abstracts.primitive.chars.AbstractCharPredicate2;
+import net.ashwork.functionality.primitive.combined.CharToBooleanFunction2;
+
+/**
+ * Represents a predicate that accepts two {@code char}-valued arguments and produces a {@code boolean}-valued result.
+ * This is the two-arity specialization for {@link PredicateN}.
+ * This is the predicate specialization for {@link CharToBooleanFunction2}.
+ * This is the {@code char}-consuming primitive specialization of {@link Predicate2}.
+ *
+ * <p>This is a functional interface whose functional method is {@link #test(char, char)}.
+ *
+ * @see PredicateN
+ * @see CharToBooleanFunction2
+ * @see Predicate2
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface CharPredicate2 extends AbstractCharPredicate2<CharPredicate2> {
+
+    /**
+     * Creates an instance of this object from its {@link CharToBooleanFunction2} function variant.
+     *
+     * @param function the function variant of this object
+     * @return an instance of this object
+     *
+     * @see CharToBooleanFunction2
+     */
+    static CharPredicate2 fromFunctionVariant(final CharToBooleanFunction2 function) {
+        return function::applyAsBoolean;
+    }
+
+    /**
+     * @see Predicate2
+     */
+    @Override
+    default Predicate2<Character, Character> boxInput() {
+        return this::test;
+    }
+
+    @Override
+    default CharPredicate2 not() {
+        return (final char value1, final char value2) -> !this.test(value1, value2);
+    }
+
+    @Override
+    default CharPredicate2 and(final CharPredicate2 other) {
+        return (final char value1, final char value2) -> this.test(value1, value2) && other.test(value1, value2);
+    }
+
+    @Override
+    default CharPredicate2 or(final CharPredicate2 other) {
+        return (final char value1, final char value2) -> this.test(value1, value2) || other.test(value1, value2);
+    }
+
+    @Override
+    default CharPredicate2 xor(final CharPredicate2 other) {
+        return (CharPredicate2) AbstractCharPredicate2.super.xor(other);
+    }
+
+    @Override
+    default CharPredicate2 sub(final CharPredicate2 other) {
+        return (CharPredicate2) AbstractCharPredicate2.super.sub(other);
+    }
+
+    @Override
+    default CharPredicate2 nand(final CharPredicate2 other) {
+        return (CharPredicate2) AbstractCharPredicate2.super.nand(other);
+    }
+
+    @Override
+    default CharPredicate2 nor(final CharPredicate2 other) {
+        return (CharPredicate2) AbstractCharPredicate2.super.nor(other);
+    }
+
+    @Override
+    default CharPredicate2 xnor(final CharPredicate2 other) {
+        return (CharPredicate2) AbstractCharPredicate2.super.xnor(other);
+    }
+
+    @Override
+    default CharPredicate2 orNot(final CharPredicate2 other) {
+        return (CharPredicate2) AbstractCharPredicate2.super.orNot(other);
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Predicating (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.predicate.primitive.chars;
+
+import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.predicate.Predicate1;
+import net.ashwork.functionality.predicate.PredicateN;
+import net.ashwork.functionality.predicate.abstracts.primitive.chars.AbstractCharPredicateN;
+import net.ashwork.functionality.primitive.chars.CharFunctionN;
+
+/**
+ * Represents a predicate that accepts {@code n} {@code char}-valued arguments and produces a {@code boolean}-valued result.
+ * This is the {@code char}-consuming primitive specialization of {@link PredicateN}.
+ * The arguments are passed within a {@code char} array such that they are never boxed.
+ *
+ * <p>This is a functional interface whose functional method is {@link #testAll(char...)}.
+ *
+ * @see PredicateN
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface CharPredicateN extends AbstractCharPredicateN<CharPredicateN> {
+
+    @Override
+    default CharPredicateN not() {
+        return (final char[] values) -> !this.testAll(values);
+    }
+
+    @Override
+    default CharPredicateN and(final CharPredicateN other) {
+        return (final char[] values) -> this.testAll(values) && other.testAll(values);
+    }
+
+    @Override
+    default CharPredicateN or(final CharPredicateN other) {
+        return (final char[] values) -> this.testAll(values) || other.testAll(values);
+    }
+
+    @Override
+    default CharPredicateN xor(final CharPredicateN other) {
+        return (CharPredicateN) AbstractCharPredicateN.super.xor(other);
+    }
+
+    @Override
+    default CharPredicateN sub(final CharPredicateN other) {
+        return (CharPredicateN) AbstractCharPredicateN.super.sub(other);
+    }
+
+    @Override
+    default CharPredicateN nand(final CharPredicateN other) {
+        return (CharPredicateN) AbstractCharPredicateN.super.nand(other);
+    }
+
+    @Override
+    default CharPredicateN nor(final CharPredicateN other) {
+        return (CharPredicateN) AbstractCharPredicateN.super.nor(other);
+    }
+
+    @Override
+    default CharPredicateN xnor(final CharPredicateN other) {
+        return (CharPredicateN) AbstractCharPredicateN.super.xnor(other);
+    }
+
+    @Override
+    default CharPredicateN orNot(final CharPredicateN other) {
+        return (CharPredicateN) AbstractCharPredicateN.super.orNot(other);
+    }
+
+    /**
+     * An instance of {@link AbstractCharPredicateN} which properly defines the
+     * arity of that particular predicate.
+     *
+     * @see AbstractCharPredicateN
+     */
+    class Instance implements AbstractCharPredicateN<Instance> {
+
+        private final int arity;
+        private final Predicate1<char[]> predicate;
+
+        /**
+         * Constructs an instance of the predicate.
+         *
+         * @param arity     the number of arguments of the predicate
+         * @param predicate the predicate to be applied
+         */
+        public Instance(final int arity, final Predicate1<char[]> predicate) {
+            this.arity = arity;
+            this.predicate = predicate;
+        }
+
+        @Override
+        public int arity() {
+            return this.arity;
+        }
+
+        @Override
+        public boolean testAll(final char... values) {
+            return this.predicate.test(values);
+        }
+
+        /**
+         * @see CharFunctionN.Instance
+         */
+        @SuppressWarnings("unchecked")
+        @Override
+        public <V> CharFunctionN.Instance<V> andThen(final Function1<? super Boolean, ? extends V> after) {
+            return (CharFunctionN.Instance<V>) AbstractCharPredicateN.super.andThen(after);
+        }
+
+        /**
+         * @see CharFunctionN.Instance
+         */
+        @Override
+        public <V> CharFunctionN.Instance<V> andThenUnchecked(final Function1<? super Boolean, ? extends V> after) {
+            return new CharFunctionN.Instance<>(this.arity(), (final char[] values) -> after.apply(this.testAll(values)));
+        }
+
+        @Override
+        public CharPredicateN.Instance not() {
+            return new CharPredicateN.Instance(this.arity(), (final char[] values) -> !this.testAll(values));
+        }
+
+        @Override
+        public CharPredicateN.Instance and(final CharPredicateN.Instance other) {
+            return new CharPredicateN.Instance(this.arity(), (final char[] values) -> this.testAll(values) && other.testAll(values));
+        }
+
+        @Override
+        public CharPredicateN.Instance or(final CharPredicateN.Instance other) {
+            return new CharPredicateN.Instance(this.arity(), (final char[] values) -> this.testAll(values) || other.testAll(values));
+        }
+
+        @Override
+        public CharPredicateN.Instance xor(final CharPredicateN.Instance other) {
+            return (CharPredicateN.Instance) AbstractCharPredicateN.super.xor(other);
+        }
+
+        @Override
+        public CharPredicateN.Instance sub(final CharPredicateN.Instance other) {
+            return (CharPredicateN.Instance) AbstractCharPredicateN.super.sub(other);
+        }
+
+        @Override
+        public CharPredicateN.Instance nand(final CharPredicateN.Instance other) {
+            return (CharPredicateN.Instance) AbstractCharPredicateN.super.nand(other);
+        }
+
+        @Override
+        public CharPredicateN.Instance nor(final CharPredicateN.Instance other) {
+            return (CharPredicateN.Instance) AbstractCharPredicateN.super.nor(other);
+        }
+
+        @Override
+        public CharPredicateN.Instance xnor(final CharPredicateN.Instance other) {
+            return (CharPredicateN.Instance) AbstractCharPredicateN.super.xnor(other);
+        }
+
+        @Override
+        public CharPredicateN.Instance orNot(final CharPredicateN.Instance other) {
+            return (CharPredicateN.Instance) AbstractCharPredicateN.super.orNot(other);
+        }
+    }
+}
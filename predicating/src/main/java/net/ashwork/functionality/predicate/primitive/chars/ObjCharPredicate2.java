@@ -0,0 +1,84 @@
+/*
+ * Predicating (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.predicate.primitive.chars;
+
+import net.ashwork.functionality.predicate.Predicate2;
+import net.ashwork.functionality.predicate.PredicateN;
+import net.ashwork.functionality.predicate.abstracts.primitive.chars.AbstractObjCharPredicate2;
+
+/**
+ * Represents a predicate that accepts an object-valued argument and a {@code char}-valued argument and produces a {@code boolean}-valued result.
+ * This is the two-arity specialization for {@link PredicateN}.
+ * This is the {@code char}-consuming primitive specialization of {@link Predicate2}.
+ *
+ * <p>This is a functional interface whose functional method is {@link #test(Object, char)}.
+ *
+ * @param <T1> the type of the first argument to the predicate
+ *
+ * @see PredicateN
+ * @see Predicate2
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface ObjCharPredicate2<T1> extends AbstractObjCharPredicate2<T1, ObjCharPredicate2<T1>> {
+
+    /**
+     * @see Predicate2
+     */
+    @Override
+    default Predicate2<T1, Character> boxInput() {
+        return this::test;
+    }
+
+    @Override
+    default ObjCharPredicate2<T1> not() {
+        return (final T1 t1, final char value) -> !this.test(t1, value);
+    }
+
+    @Override
+    default ObjCharPredicate2<T1> and(final ObjCharPredicate2<T1> other) {
+        return (final T1 t1, final char value) -> this.test(t1, value) && other.test(t1, value);
+    }
+
+    @Override
+    default ObjCharPredicate2<T1> or(final ObjCharPredicate2<T1> other) {
+        return (final T1 t1, final char value) -> this.test(t1, value) || other.test(t1, value);
+    }
+
+    @Override
+    default ObjCharPredicate2<T1> xor(final ObjCharPredicate2<T1> other) {
+        return (ObjCharPredicate2<T1>) AbstractObjCharPredicate2.super.xor(other);
+    }
+
+    @Override
+    default ObjCharPredicate2<T1> sub(final ObjCharPredicate2<T1> other) {
+        return (ObjCharPredicate2<T1>) AbstractObjCharPredicate2.super.sub(other);
+    }
+
+    @Override
+    default ObjCharPredicate2<T1> nand(final ObjCharPredicate2<T1> other) {
+        return (ObjCharPredicate2<T1>) AbstractObjCharPredicate2.super.nand(other);
+    }
+
+    @Override
+    default ObjCharPredicate2<T1> nor(final ObjCharPredicate2<T1> other) {
+        return (ObjCharPredicate2<T1>) AbstractObjCharPredicate2.super.nor(other);
+    }
+
+    @Override
+    default ObjCharPredicate2<T1> xnor(final ObjCharPredicate2<T1> other) {
+        return (ObjCharPredicate2<T1>) AbstractObjCharPredicate2.super.xnor(other);
+    }
+
+    @Override
+    default ObjCharPredicate2<T1> orNot(final ObjCharPredicate2<T1> other) {
+        return (ObjCharPredicate2<T1>) AbstractObjCharPredicate2.super.orNot(other);
+    }
+}
@@ -10,11 +10,28 @@
 package net.ashwork.functionality.predicate.primitive.doubles;
 
 import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.operator.primitive.doubles.DoubleOperator1;
 import net.ashwork.functionality.predicate.Predicate1;
 import net.ashwork.functionality.predicate.PredicateN;
 import net.ashwork.functionality.predicate.abstracts.primitive.doubles.AbstractDoublePredicate1;
+import net.ashwork.functionality.predicate.primitive.booleans.BooleanPredicate1;
+import net.ashwork.functionality.predicate.primitive.bytes.BytePredicate1;
+import net.ashwork.functionality.predicate.primitive.chars.CharPredicate1;
+import net.ashwork.functionality.predicate.primitive.floats.FloatPredicate1;
+import net.ashwork.functionality.predicate.primitive.ints.IntPredicate1;
+import net.ashwork.functionality.predicate.primitive.longs.LongPredicate1;
+import net.ashwork.functionality.predicate.primitive.shorts.ShortPredicate1;
+import net.ashwork.functionality.primitive.combined.BooleanToDoubleFunction1;
+import net.ashwork.functionality.primitive.combined.ByteToDoubleFunction1;
+import net.ashwork.functionality.primitive.combined.CharToDoubleFunction1;
 import net.ashwork.functionality.primitive.combined.DoubleToBooleanFunction1;
+import net.ashwork.functionality.primitive.combined.FloatToDoubleFunction1;
+import net.ashwork.functionality.primitive.combined.IntToDoubleFunction1;
+import net.ashwork.functionality.primitive.combined.LongToDoubleFunction1;
+import net.ashwork.functionality.primitive.combined.ShortToDoubleFunction1;
+import net.ashwork.functionality.primitive.doubles.ToDoubleFunction1;
 
+import java.util.Objects;
 import java.util.function.DoublePredicate;
 
 /**
@@ -53,7 +70,7 @@ public interface DoublePredicate1 extends AbstractDoublePredicate1<DoublePredica
      *
      * @see DoublePredicate
      */
-    static Predicate1<Double> fromVariant(final DoublePredicate predicate) {
+    static DoublePredicate1 fromVariant(final DoublePredicate predicate) {
         return predicate::test;
     }
 
@@ -82,6 +99,87 @@ public interface DoublePredicate1 extends AbstractDoublePredicate1<DoublePredica
         return (final V v) -> this.test(before.apply(v));
     }
 
+    /**
+     * @see Predicate1
+     */
+    @Override
+    default <V> Predicate1<V> composeObj(final ToDoubleFunction1<? super V> before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final V v) -> this.test(before.applyAsDouble(v));
+    }
+
+    /**
+     * @see BooleanPredicate1
+     */
+    @Override
+    default BooleanPredicate1 composeBoolean(final BooleanToDoubleFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final boolean value) -> this.test(before.applyAsDouble(value));
+    }
+
+    /**
+     * @see BytePredicate1
+     */
+    @Override
+    default BytePredicate1 composeByte(final ByteToDoubleFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final byte value) -> this.test(before.applyAsDouble(value));
+    }
+
+    /**
+     * @see CharPredicate1
+     */
+    @Override
+    default CharPredicate1 composeChar(final CharToDoubleFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final char value) -> this.test(before.applyAsDouble(value));
+    }
+
+    /**
+     * @see ShortPredicate1
+     */
+    @Override
+    default ShortPredicate1 composeShort(final ShortToDoubleFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final short value) -> this.test(before.applyAsDouble(value));
+    }
+
+    /**
+     * @see IntPredicate1
+     */
+    @Override
+    default IntPredicate1 composeInt(final IntToDoubleFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final int value) -> this.test(before.applyAsDouble(value));
+    }
+
+    /**
+     * @see LongPredicate1
+     */
+    @Override
+    default LongPredicate1 composeLong(final LongToDoubleFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final long value) -> this.test(before.applyAsDouble(value));
+    }
+
+    /**
+     * @see FloatPredicate1
+     */
+    @Override
+    default FloatPredicate1 composeFloat(final FloatToDoubleFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final float value) -> this.test(before.applyAsDouble(value));
+    }
+
+    /**
+     * @see DoublePredicate1
+     */
+    @Override
+    default DoublePredicate1 composeDouble(final DoubleOperator1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final double value) -> this.test(before.applyAsDouble(value));
+    }
+
     @Override
     default DoublePredicate1 not() {
         return (final double value) -> !this.test(value);
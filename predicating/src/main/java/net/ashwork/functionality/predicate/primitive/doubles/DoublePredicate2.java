@@ -0,0 +1,97 @@
+/*
+ * Predicating (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.predicate.primitive.doubles;
+
+import net.ashwork.functionality.predicate.Predicate2;
+import net.ashwork.functionality.predicate.PredicateN;
+import net.ashwork.functionality.predicate.abstracts.primitive.doubles.AbstractDoublePredicate2;
+import net.ashwork.functionality.primitive.combined.DoubleToBooleanFunction2;
+
+/**
+ * Represents a predicate that accepts two {@code double}-valued arguments and produces a {@code boolean}-valued result.
+ * This is the two-arity specialization for {@link PredicateN}.
+ * This is the predicate specialization for {@link DoubleToBooleanFunction2}.
+ * This is the {@code double}-consuming primitive specialization of {@link Predicate2}.
+ *
+ * <p>This is a functional interface whose functional method is {@link #test(double, double)}.
+ *
+ * @see PredicateN
+ * @see DoubleToBooleanFunction2
+ * @see Predicate2
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface DoublePredicate2 extends AbstractDoublePredicate2<DoublePredicate2> {
+
+    /**
+     * Creates an instance of this object from its {@link DoubleToBooleanFunction2} function variant.
+     *
+     * @param function the function variant of this object
+     * @return an instance of this object
+     *
+     * @see DoubleToBooleanFunction2
+     */
+    static DoublePredicate2 fromFunctionVariant(final DoubleToBooleanFunction2 function) {
+        return function::applyAsBoolean;
+    }
+
+    /**
+     * @see Predicate2
+     */
+    @Override
+    default Predicate2<Double, Double> boxInput() {
+        return this::test;
+    }
+
+    @Override
+    default DoublePredicate2 not() {
+        return (final double value1, final double value2) -> !this.test(value1, value2);
+    }
+
+    @Override
+    default DoublePredicate2 and(final DoublePredicate2 other) {
+        return (final double value1, final double value2) -> this.test(value1, value2) && other.test(value1, value2);
+    }
+
+    @Override
+    default DoublePredicate2 or(final DoublePredicate2 other) {
+        return (final double value1, final double value2) -> this.test(value1, value2) || other.test(value1, value2);
+    }
+
+    @Override
+    default DoublePredicate2 xor(final DoublePredicate2 other) {
+        return (DoublePredicate2) AbstractDoublePredicate2.super.xor(other);
+    }
+
+    @Override
+    default DoublePredicate2 sub(final DoublePredicate2 other) {
+        return (DoublePredicate2) AbstractDoublePredicate2.super.sub(other);
+    }
+
+    @Override
+    default DoublePredicate2 nand(final DoublePredicate2 other) {
+        return (DoublePredicate2) AbstractDoublePredicate2.super.nand(other);
+    }
+
+    @Override
+    default DoublePredicate2 nor(final DoublePredicate2 other) {
+        return (DoublePredicate2) AbstractDoublePredicate2.super.nor(other);
+    }
+
+    @Override
+    default DoublePredicate2 xnor(final DoublePredicate2 other) {
+        return (DoublePredicate2) AbstractDoublePredicate2.super.xnor(other);
+    }
+
+    @Override
+    default DoublePredicate2 orNot(final DoublePredicate2 other) {
+        return (DoublePredicate2) AbstractDoublePredicate2.super.orNot(other);
+    }
+}
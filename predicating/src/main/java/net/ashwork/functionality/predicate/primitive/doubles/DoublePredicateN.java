@@ -0,0 +1,170 @@
+/*
+ * Predicating (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.predicate.primitive.doubles;
+
+import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.predicate.Predicate1;
+import net.ashwork.functionality.predicate.PredicateN;
+import net.ashwork.functionality.predicate.abstracts.primitive.doubles.AbstractDoublePredicateN;
+import net.ashwork.functionality.primitive.doubles.DoubleFunctionN;
+
+/**
+ * Represents a predicate that accepts {@code n} {@code double}-valued arguments and produces a {@code boolean}-valued result.
+ * This is the {@code double}-consuming primitive specialization of {@link PredicateN}.
+ * The arguments are passed within a {@code double} array such that they are never boxed.
+ *
+ * <p>This is a functional interface whose functional method is {@link #testAll(double...)}.
+ *
+ * @see PredicateN
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface DoublePredicateN extends AbstractDoublePredicateN<DoublePredicateN> {
+
+    @Override
+    default DoublePredicateN not() {
+        return (final double[] values) -> !this.testAll(values);
+    }
+
+    @Override
+    default DoublePredicateN and(final DoublePredicateN other) {
+        return (final double[] values) -> this.testAll(values) && other.testAll(values);
+    }
+
+    @Override
+    default DoublePredicateN or(final DoublePredicateN other) {
+        return (final double[] values) -> this.testAll(values) || other.testAll(values);
+    }
+
+    @Override
+    default DoublePredicateN xor(final DoublePredicateN other) {
+        return (DoublePredicateN) AbstractDoublePredicateN.super.xor(other);
+    }
+
+    @Override
+    default DoublePredicateN sub(final DoublePredicateN other) {
+        return (DoublePredicateN) AbstractDoublePredicateN.super.sub(other);
+    }
+
+    @Override
+    default DoublePredicateN nand(final DoublePredicateN other) {
+        return (DoublePredicateN) AbstractDoublePredicateN.super.nand(other);
+    }
+
+    @Override
+    default DoublePredicateN nor(final DoublePredicateN other) {
+        return (DoublePredicateN) AbstractDoublePredicateN.super.nor(other);
+    }
+
+    @Override
+    default DoublePredicateN xnor(final DoublePredicateN other) {
+        return (DoublePredicateN) AbstractDoublePredicateN.super.xnor(other);
+    }
+
+    @Override
+    default DoublePredicateN orNot(final DoublePredicateN other) {
+        return (DoublePredicateN) AbstractDoublePredicateN.super.orNot(other);
+    }
+
+    /**
+     * An instance of {@link AbstractDoublePredicateN} which properly defines the
+     * arity of that particular predicate.
+     *
+     * @see AbstractDoublePredicateN
+     */
+    class Instance implements AbstractDoublePredicateN<Instance> {
+
+        private final int arity;
+        private final Predicate1<double[]> predicate;
+
+        /**
+         * Constructs an instance of the predicate.
+         *
+         * @param arity     the number of arguments of the predicate
+         * @param predicate the predicate to be applied
+         */
+        public Instance(final int arity, final Predicate1<double[]> predicate) {
+            this.arity = arity;
+            this.predicate = predicate;
+        }
+
+        @Override
+        public int arity() {
+            return this.arity;
+        }
+
+        @Override
+        public boolean testAll(final double... values) {
+            return this.predicate.test(values);
+        }
+
+        /**
+         * @see DoubleFunctionN.Instance
+         */
+        @SuppressWarnings("unchecked")
+        @Override
+        public <V> DoubleFunctionN.Instance<V> andThen(final Function1<? super Boolean, ? extends V> after) {
+            return (DoubleFunctionN.Instance<V>) AbstractDoublePredicateN.super.andThen(after);
+        }
+
+        /**
+         * @see DoubleFunctionN.Instance
+         */
+        @Override
+        public <V> DoubleFunctionN.Instance<V> andThenUnchecked(final Function1<? super Boolean, ? extends V> after) {
+            return new DoubleFunctionN.Instance<>(this.arity(), (final double[] values) -> after.apply(this.testAll(values)));
+        }
+
+        @Override
+        public DoublePredicateN.Instance not() {
+            return new DoublePredicateN.Instance(this.arity(), (final double[] values) -> !this.testAll(values));
+        }
+
+        @Override
+        public DoublePredicateN.Instance and(final DoublePredicateN.Instance other) {
+            return new DoublePredicateN.Instance(this.arity(), (final double[] values) -> this.testAll(values) && other.testAll(values));
+        }
+
+        @Override
+        public DoublePredicateN.Instance or(final DoublePredicateN.Instance other) {
+            return new DoublePredicateN.Instance(this.arity(), (final double[] values) -> this.testAll(values) || other.testAll(values));
+        }
+
+        @Override
+        public DoublePredicateN.Instance xor(final DoublePredicateN.Instance other) {
+            return (DoublePredicateN.Instance) AbstractDoublePredicateN.super.xor(other);
+        }
+
+        @Override
+        public DoublePredicateN.Instance sub(final DoublePredicateN.Instance other) {
+            return (DoublePredicateN.Instance) AbstractDoublePredicateN.super.sub(other);
+        }
+
+        @Override
+        public DoublePredicateN.Instance nand(final DoublePredicateN.Instance other) {
+            return (DoublePredicateN.Instance) AbstractDoublePredicateN.super.nand(other);
+        }
+
+        @Override
+        public DoublePredicateN.Instance nor(final DoublePredicateN.Instance other) {
+            return (DoublePredicateN.Instance) AbstractDoublePredicateN.super.nor(other);
+        }
+
+        @Override
+        public DoublePredicateN.Instance xnor(final DoublePredicateN.Instance other) {
+            return (DoublePredicateN.Instance) AbstractDoublePredicateN.super.xnor(other);
+        }
+
+        @Override
+        public DoublePredicateN.Instance orNot(final DoublePredicateN.Instance other) {
+            return (DoublePredicateN.Instance) AbstractDoublePredicateN.super.orNot(other);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Predicating (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.predicate.primitive.doubles;
+
+import net.ashwork.functionality.predicate.Predicate2;
+import net.ashwork.functionality.predicate.PredicateN;
+import net.ashwork.functionality.predicate.abstracts.primitive.doubles.AbstractObjDoublePredicate2;
+
+/**
+ * Represents a predicate that accepts an object-valued argument and a {@code double}-valued argument and produces a {@code boolean}-valued result.
+ * This is the two-arity specialization for {@link PredicateN}.
+ * This is the {@code double}-consuming primitive specialization of {@link Predicate2}.
+ *
+ * <p>This is a functional interface whose functional method is {@link #test(Object, double)}.
+ *
+ * @param <T1> the type of the first argument to the predicate
+ *
+ * @see PredicateN
+ * @see Predicate2
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface ObjDoublePredicate2<T1> extends AbstractObjDoublePredicate2<T1, ObjDoublePredicate2<T1>> {
+
+    /**
+     * @see Predicate2
+     */
+    @Override
+    default Predicate2<T1, Double> boxInput() {
+        return this::test;
+    }
+
+    @Override
+    default ObjDoublePredicate2<T1> not() {
+        return (final T1 t1, final double value) -> !this.test(t1, value);
+    }
+
+    @Override
+    default ObjDoublePredicate2<T1> and(final ObjDoublePredicate2<T1> other) {
+        return (final T1 t1, final double value) -> this.test(t1, value) && other.test(t1, value);
+    }
+
+    @Override
+    default ObjDoublePredicate2<T1> or(final ObjDoublePredicate2<T1> other) {
+        return (final T1 t1, final double value) -> this.test(t1, value) || other.test(t1, value);
+    }
+
+    @Override
+    default ObjDoublePredicate2<T1> xor(final ObjDoublePredicate2<T1> other) {
+        return (ObjDoublePredicate2<T1>) AbstractObjDoublePredicate2.super.xor(other);
+    }
+
+    @Override
+    default ObjDoublePredicate2<T1> sub(final ObjDoublePredicate2<T1> other) {
+        return (ObjDoublePredicate2<T1>) AbstractObjDoublePredicate2.super.sub(other);
+    }
+
+    @Override
+    default ObjDoublePredicate2<T1> nand(final ObjDoublePredicate2<T1> other) {
+        return (ObjDoublePredicate2<T1>) AbstractObjDoublePredicate2.super.nand(other);
+    }
+
+    @Override
+    default ObjDoublePredicate2<T1> nor(final ObjDoublePredicate2<T1> other) {
+        return (ObjDoublePredicate2<T1>) AbstractObjDoublePredicate2.super.nor(other);
+    }
+
+    @Override
+    default ObjDoublePredicate2<T1> xnor(final ObjDoublePredicate2<T1> other) {
+        return (ObjDoublePredicate2<T1>) AbstractObjDoublePredicate2.super.xnor(other);
+    }
+
+    @Override
+    default ObjDoublePredicate2<T1> orNot(final ObjDoublePredicate2<T1> other) {
+        return (ObjDoublePredicate2<T1>) AbstractObjDoublePredicate2.super.orNot(other);
+    }
+}
@@ -10,10 +10,28 @@
 package net.ashwork.functionality.predicate.primitive.floats;
 
 import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.operator.primitive.floats.FloatOperator1;
 import net.ashwork.functionality.predicate.Predicate1;
 import net.ashwork.functionality.predicate.PredicateN;
 import net.ashwork.functionality.predicate.abstracts.primitive.floats.AbstractFloatPredicate1;
+import net.ashwork.functionality.predicate.primitive.booleans.BooleanPredicate1;
+import net.ashwork.functionality.predicate.primitive.bytes.BytePredicate1;
+import net.ashwork.functionality.predicate.primitive.chars.CharPredicate1;
+import net.ashwork.functionality.predicate.primitive.doubles.DoublePredicate1;
+import net.ashwork.functionality.predicate.primitive.ints.IntPredicate1;
+import net.ashwork.functionality.predicate.primitive.longs.LongPredicate1;
+import net.ashwork.functionality.predicate.primitive.shorts.ShortPredicate1;
+import net.ashwork.functionality.primitive.combined.BooleanToFloatFunction1;
+import net.ashwork.functionality.primitive.combined.ByteToFloatFunction1;
+import net.ashwork.functionality.primitive.combined.CharToFloatFunction1;
+import net.ashwork.functionality.primitive.combined.DoubleToFloatFunction1;
 import net.ashwork.functionality.primitive.combined.FloatToBooleanFunction1;
+import net.ashwork.functionality.primitive.combined.IntToFloatFunction1;
+import net.ashwork.functionality.primitive.combined.LongToFloatFunction1;
+import net.ashwork.functionality.primitive.combined.ShortToFloatFunction1;
+import net.ashwork.functionality.primitive.floats.ToFloatFunction1;
+
+import java.util.Objects;
 
 /**
  * Represents a predicate that accepts a {@code float}-valued argument and produces a {@code boolean}-valued result.
@@ -68,6 +86,87 @@ public interface FloatPredicate1 extends AbstractFloatPredicate1<FloatPredicate1
         return (final V v) -> this.test(before.apply(v));
     }
 
+    /**
+     * @see Predicate1
+     */
+    @Override
+    default <V> Predicate1<V> composeObj(final ToFloatFunction1<? super V> before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final V v) -> this.test(before.applyAsFloat(v));
+    }
+
+    /**
+     * @see BooleanPredicate1
+     */
+    @Override
+    default BooleanPredicate1 composeBoolean(final BooleanToFloatFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final boolean value) -> this.test(before.applyAsFloat(value));
+    }
+
+    /**
+     * @see BytePredicate1
+     */
+    @Override
+    default BytePredicate1 composeByte(final ByteToFloatFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final byte value) -> this.test(before.applyAsFloat(value));
+    }
+
+    /**
+     * @see CharPredicate1
+     */
+    @Override
+    default CharPredicate1 composeChar(final CharToFloatFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final char value) -> this.test(before.applyAsFloat(value));
+    }
+
+    /**
+     * @see ShortPredicate1
+     */
+    @Override
+    default ShortPredicate1 composeShort(final ShortToFloatFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final short value) -> this.test(before.applyAsFloat(value));
+    }
+
+    /**
+     * @see IntPredicate1
+     */
+    @Override
+    default IntPredicate1 composeInt(final IntToFloatFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final int value) -> this.test(before.applyAsFloat(value));
+    }
+
+    /**
+     * @see LongPredicate1
+     */
+    @Override
+    default LongPredicate1 composeLong(final LongToFloatFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final long value) -> this.test(before.applyAsFloat(value));
+    }
+
+    /**
+     * @see FloatPredicate1
+     */
+    @Override
+    default FloatPredicate1 composeFloat(final FloatOperator1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final float value) -> this.test(before.applyAsFloat(value));
+    }
+
+    /**
+     * @see DoublePredicate1
+     */
+    @Override
+    default DoublePredicate1 composeDouble(final DoubleToFloatFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final double value) -> this.test(before.applyAsFloat(value));
+    }
+
     @Override
     default FloatPredicate1 not() {
         return (final float value) -> !this.test(value);
@@ -0,0 +1,97 @@
+/*
+ * Predicating (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.predicate.primitive.floats;
+
+import net.ashwork.functionality.predicate.Predicate2;
+import net.ashwork.functionality.predicate.PredicateN;
+import net.ashwork.functionality.predicate.abstracts.primitive.floats.AbstractFloatPredicate2;
+import net.ashwork.functionality.primitive.combined.FloatToBooleanFunction2;
+
+/**
+ * Represents a predicate that accepts two {@code float}-valued arguments and produces a {@code boolean}-valued result.
+ * This is the two-arity specialization for {@link PredicateN}.
+ * This is the predicate specialization for {@link FloatToBooleanFunction2}.
+ * This is the {@code float}-consuming primitive specialization of {@link Predicate2}.
+ *
+ * <p>This is a functional interface whose functional method is {@link #test(float, float)}.
+ *
+ * @see PredicateN
+ * @see FloatToBooleanFunction2
+ * @see Predicate2
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface FloatPredicate2 extends AbstractFloatPredicate2<FloatPredicate2> {
+
+    /**
+     * Creates an instance of this object from its {@link FloatToBooleanFunction2} function variant.
+     *
+     * @param function the function variant of this object
+     * @return an instance of this object
+     *
+     * @see FloatToBooleanFunction2
+     */
+    static FloatPredicate2 fromFunctionVariant(final FloatToBooleanFunction2 function) {
+        return function::applyAsBoolean;
+    }
+
+    /**
+     * @see Predicate2
+     */
+    @Override
+    default Predicate2<Float, Float> boxInput() {
+        return this::test;
+    }
+
+    @Override
+    default FloatPredicate2 not() {
+        return (final float value1, final float value2) -> !this.test(value1, value2);
+    }
+
+    @Override
+    default FloatPredicate2 and(final FloatPredicate2 other) {
+        return (final float value1, final float value2) -> this.test(value1, value2) && other.test(value1, value2);
+    }
+
+    @Override
+    default FloatPredicate2 or(final FloatPredicate2 other) {
+        return (final float value1, final float value2) -> this.test(value1, value2) || other.test(value1, value2);
+    }
+
+    @Override
+    default FloatPredicate2 xor(final FloatPredicate2 other) {
+        return (FloatPredicate2) AbstractFloatPredicate2.super.xor(other);
+    }
+
+    @Override
+    default FloatPredicate2 sub(final FloatPredicate2 other) {
+        return (FloatPredicate2) AbstractFloatPredicate2.super.sub(other);
+    }
+
+    @Override
+    default FloatPredicate2 nand(final FloatPredicate2 other) {
+        return (FloatPredicate2) AbstractFloatPredicate2.super.nand(other);
+    }
+
+    @Override
+    default FloatPredicate2 nor(final FloatPredicate2 other) {
+        return (FloatPredicate2) AbstractFloatPredicate2.super.nor(other);
+    }
+
+    @Override
+    default FloatPredicate2 xnor(final FloatPredicate2 other) {
+        return (FloatPredicate2) AbstractFloatPredicate2.super.xnor(other);
+    }
+
+    @Override
+    default FloatPredicate2 orNot(final FloatPredicate2 other) {
+        return (FloatPredicate2) AbstractFloatPredicate2.super.orNot(other);
+    }
+}
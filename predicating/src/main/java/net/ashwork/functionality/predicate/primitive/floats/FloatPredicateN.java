@@ -0,0 +1,170 @@
+/*
+ * Predicating (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.predicate.primitive.floats;
+
+import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.predicate.Predicate1;
+import net.ashwork.functionality.predicate.PredicateN;
+import net.ashwork.functionality.predicate.abstracts.primitive.floats.AbstractFloatPredicateN;
+import net.ashwork.functionality.primitive.floats.FloatFunctionN;
+
+/**
+ * Represents a predicate that accepts {@code n} {@code float}-valued arguments and produces a {@code boolean}-valued result.
+ * This is the {@code float}-consuming primitive specialization of {@link PredicateN}.
+ * The arguments are passed within a {@code float} array such that they are never boxed.
+ *
+ * <p>This is a functional interface whose functional method is {@link #testAll(float...)}.
+ *
+ * @see PredicateN
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface FloatPredicateN extends AbstractFloatPredicateN<FloatPredicateN> {
+
+    @Override
+    default FloatPredicateN not() {
+        return (final float[] values) -> !this.testAll(values);
+    }
+
+    @Override
+    default FloatPredicateN and(final FloatPredicateN other) {
+        return (final float[] values) -> this.testAll(values) && other.testAll(values);
+    }
+
+    @Override
+    default FloatPredicateN or(final FloatPredicateN other) {
+        return (final float[] values) -> this.testAll(values) || other.testAll(values);
+    }
+
+    @Override
+    default FloatPredicateN xor(final FloatPredicateN other) {
+        return (FloatPredicateN) AbstractFloatPredicateN.super.xor(other);
+    }
+
+    @Override
+    default FloatPredicateN sub(final FloatPredicateN other) {
+        return (FloatPredicateN) AbstractFloatPredicateN.super.sub(other);
+    }
+
+    @Override
+    default FloatPredicateN nand(final FloatPredicateN other) {
+        return (FloatPredicateN) AbstractFloatPredicateN.super.nand(other);
+    }
+
+    @Override
+    default FloatPredicateN nor(final FloatPredicateN other) {
+        return (FloatPredicateN) AbstractFloatPredicateN.super.nor(other);
+    }
+
+    @Override
+    default FloatPredicateN xnor(final FloatPredicateN other) {
+        return (FloatPredicateN) AbstractFloatPredicateN.super.xnor(other);
+    }
+
+    @Override
+    default FloatPredicateN orNot(final FloatPredicateN other) {
+        return (FloatPredicateN) AbstractFloatPredicateN.super.orNot(other);
+    }
+
+    /**
+     * An instance of {@link AbstractFloatPredicateN} which properly defines the
+     * arity of that particular predicate.
+     *
+     * @see AbstractFloatPredicateN
+     */
+    class Instance implements AbstractFloatPredicateN<Instance> {
+
+        private final int arity;
+        private final Predicate1<float[]> predicate;
+
+        /**
+         * Constructs an instance of the predicate.
+         *
+         * @param arity     the number of arguments of the predicate
+         * @param predicate the predicate to be applied
+         */
+        public Instance(final int arity, final Predicate1<float[]> predicate) {
+            this.arity = arity;
+            this.predicate = predicate;
+        }
+
+        @Override
+        public int arity() {
+            return this.arity;
+        }
+
+        @Override
+        public boolean testAll(final float... values) {
+            return this.predicate.test(values);
+        }
+
+        /**
+         * @see FloatFunctionN.Instance
+         */
+        @SuppressWarnings("unchecked")
+        @Override
+        public <V> FloatFunctionN.Instance<V> andThen(final Function1<? super Boolean, ? extends V> after) {
+            return (FloatFunctionN.Instance<V>) AbstractFloatPredicateN.super.andThen(after);
+        }
+
+        /**
+         * @see FloatFunctionN.Instance
+         */
+        @Override
+        public <V> FloatFunctionN.Instance<V> andThenUnchecked(final Function1<? super Boolean, ? extends V> after) {
+            return new FloatFunctionN.Instance<>(this.arity(), (final float[] values) -> after.apply(this.testAll(values)));
+        }
+
+        @Override
+        public FloatPredicateN.Instance not() {
+            return new FloatPredicateN.Instance(this.arity(), (final float[] values) -> !this.testAll(values));
+        }
+
+        @Override
+        public FloatPredicateN.Instance and(final FloatPredicateN.Instance other) {
+            return new FloatPredicateN.Instance(this.arity(), (final float[] values) -> this.testAll(values) && other.testAll(values));
+        }
+
+        @Override
+        public FloatPredicateN.Instance or(final FloatPredicateN.Instance other) {
+            return new FloatPredicateN.Instance(this.arity(), (final float[] values) -> this.testAll(values) || other.testAll(values));
+        }
+
+        @Override
+        public FloatPredicateN.Instance xor(final FloatPredicateN.Instance other) {
+            return (FloatPredicateN.Instance) AbstractFloatPredicateN.super.xor(other);
+        }
+
+        @Override
+        public FloatPredicateN.Instance sub(final FloatPredicateN.Instance other) {
+            return (FloatPredicateN.Instance) AbstractFloatPredicateN.super.sub(other);
+        }
+
+        @Override
+        public FloatPredicateN.Instance nand(final FloatPredicateN.Instance other) {
+            return (FloatPredicateN.Instance) AbstractFloatPredicateN.super.nand(other);
+        }
+
+        @Override
+        public FloatPredicateN.Instance nor(final FloatPredicateN.Instance other) {
+            return (FloatPredicateN.Instance) AbstractFloatPredicateN.super.nor(other);
+        }
+
+        @Override
+        public FloatPredicateN.Instance xnor(final FloatPredicateN.Instance other) {
+            return (FloatPredicateN.Instance) AbstractFloatPredicateN.super.xnor(other);
+        }
+
+        @Override
+        public FloatPredicateN.Instance orNot(final FloatPredicateN.Instance other) {
+            return (FloatPredicateN.Instance) AbstractFloatPredicateN.super.orNot(other);
+        }
+    }
+}
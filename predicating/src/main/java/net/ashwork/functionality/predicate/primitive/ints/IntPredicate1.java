@@ -10,11 +10,28 @@
 package net.ashwork.functionality.predicate.primitive.ints;
 
 import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.operator.primitive.ints.IntOperator1;
 import net.ashwork.functionality.predicate.Predicate1;
 import net.ashwork.functionality.predicate.PredicateN;
 import net.ashwork.functionality.predicate.abstracts.primitive.ints.AbstractIntPredicate1;
+import net.ashwork.functionality.predicate.primitive.booleans.BooleanPredicate1;
+import net.ashwork.functionality.predicate.primitive.bytes.BytePredicate1;
+import net.ashwork.functionality.predicate.primitive.chars.CharPredicate1;
+import net.ashwork.functionality.predicate.primitive.doubles.DoublePredicate1;
+import net.ashwork.functionality.predicate.primitive.floats.FloatPredicate1;
+import net.ashwork.functionality.predicate.primitive.longs.LongPredicate1;
+import net.ashwork.functionality.predicate.primitive.shorts.ShortPredicate1;
+import net.ashwork.functionality.primitive.combined.BooleanToIntFunction1;
+import net.ashwork.functionality.primitive.combined.ByteToIntFunction1;
+import net.ashwork.functionality.primitive.combined.CharToIntFunction1;
+import net.ashwork.functionality.primitive.combined.DoubleToIntFunction1;
+import net.ashwork.functionality.primitive.combined.FloatToIntFunction1;
 import net.ashwork.functionality.primitive.combined.IntToBooleanFunction1;
+import net.ashwork.functionality.primitive.combined.LongToIntFunction1;
+import net.ashwork.functionality.primitive.combined.ShortToIntFunction1;
+import net.ashwork.functionality.primitive.ints.ToIntFunction1;
 
+import java.util.Objects;
 import java.util.function.IntPredicate;
 
 /**
@@ -53,7 +70,7 @@ public interface IntPredicate1 extends AbstractIntPredicate1<IntPredicate1> {
      *
      * @see IntPredicate
      */
-    static Predicate1<Integer> fromVariant(final IntPredicate predicate) {
+    static IntPredicate1 fromVariant(final IntPredicate predicate) {
         return predicate::test;
     }
 
@@ -82,6 +99,87 @@ public interface IntPredicate1 extends AbstractIntPredicate1<IntPredicate1> {
         return (final V v) -> this.test(before.apply(v));
     }
 
+    /**
+     * @see Predicate1
+     */
+    @Override
+    default <V> Predicate1<V> composeObj(final ToIntFunction1<? super V> before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final V v) -> this.test(before.applyAsInt(v));
+    }
+
+    /**
+     * @see BooleanPredicate1
+     */
+    @Override
+    default BooleanPredicate1 composeBoolean(final BooleanToIntFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final boolean value) -> this.test(before.applyAsInt(value));
+    }
+
+    /**
+     * @see BytePredicate1
+     */
+    @Override
+    default BytePredicate1 composeByte(final ByteToIntFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final byte value) -> this.test(before.applyAsInt(value));
+    }
+
+    /**
+     * @see CharPredicate1
+     */
+    @Override
+    default CharPredicate1 composeChar(final CharToIntFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final char value) -> this.test(before.applyAsInt(value));
+    }
+
+    /**
+     * @see ShortPredicate1
+     */
+    @Override
+    default ShortPredicate1 composeShort(final ShortToIntFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final short value) -> this.test(before.applyAsInt(value));
+    }
+
+    /**
+     * @see IntPredicate1
+     */
+    @Override
+    default IntPredicate1 composeInt(final IntOperator1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final int value) -> this.test(before.applyAsInt(value));
+    }
+
+    /**
+     * @see LongPredicate1
+     */
+    @Override
+    default LongPredicate1 composeLong(final LongToIntFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final long value) -> this.test(before.applyAsInt(value));
+    }
+
+    /**
+     * @see FloatPredicate1
+     */
+    @Override
+    default FloatPredicate1 composeFloat(final FloatToIntFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final float value) -> this.test(before.applyAsInt(value));
+    }
+
+    /**
+     * @see DoublePredicate1
+     */
+    @Override
+    default DoublePredicate1 composeDouble(final DoubleToIntFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final double value) -> this.test(before.applyAsInt(value));
+    }
+
     @Override
     default IntPredicate1 not() {
         return (final int value) -> !this.test(value);
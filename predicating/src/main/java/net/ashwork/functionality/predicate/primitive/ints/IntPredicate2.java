@@ -0,0 +1,97 @@
+/*
+ * Predicating (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.predicate.primitive.ints;
+
+import net.ashwork.functionality.predicate.Predicate2;
+import net.ashwork.functionality.predicate.PredicateN;
+import net.ashwork.functionality.predicate.abstracts.primitive.ints.AbstractIntPredicate2;
+import net.ashwork.functionality.primitive.combined.IntToBooleanFunction2;
+
+/**
+ * Represents a predicate that accepts two {@code int}-valued arguments and produces a {@code boolean}-valued result.
+ * This is the two-arity specialization for {@link PredicateN}.
+ * This is the predicate specialization for {@link IntToBooleanFunction2}.
+ * This is the {@code int}-consuming primitive specialization of {@link Predicate2}.
+ *
+ * <p>This is a functional interface whose functional method is {@link #test(int, int)}.
+ *
+ * @see PredicateN
+ * @see IntToBooleanFunction2
+ * @see Predicate2
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface IntPredicate2 extends AbstractIntPredicate2<IntPredicate2> {
+
+    /**
+     * Creates an instance of this object from its {@link IntToBooleanFunction2} function variant.
+     *
+     * @param function the function variant of this object
+     * @return an instance of this object
+     *
+     * @see IntToBooleanFunction2
+     */
+    static IntPredicate2 fromFunctionVariant(final IntToBooleanFunction2 function) {
+        return function::applyAsBoolean;
+    }
+
+    /**
+     * @see Predicate2
+     */
+    @Override
+    default Predicate2<Integer, Integer> boxInput() {
+        return this::test;
+    }
+
+    @Override
+    default IntPredicate2 not() {
+        return (final int value1, final int value2) -> !this.test(value1, value2);
+    }
+
+    @Override
+    default IntPredicate2 and(final IntPredicate2 other) {
+        return (final int value1, final int value2) -> this.test(value1, value2) && other.test(value1, value2);
+    }
+
+    @Override
+    default IntPredicate2 or(final IntPredicate2 other) {
+        return (final int value1, final int value2) -> this.test(value1, value2) || other.test(value1, value2);
+    }
+
+    @Override
+    default IntPredicate2 xor(final IntPredicate2 other) {
+        return (IntPredicate2) AbstractIntPredicate2.super.xor(other);
+    }
+
+    @Override
+    default IntPredicate2 sub(final IntPredicate2 other) {
+        return (IntPredicate2) AbstractIntPredicate2.super.sub(other);
+    }
+
+    @Override
+    default IntPredicate2 nand(final IntPredicate2 other) {
+        return (IntPredicate2) AbstractIntPredicate2.super.nand(other);
+    }
+
+    @Override
+    default IntPredicate2 nor(final IntPredicate2 other) {
+        return (IntPredicate2) AbstractIntPredicate2.super.nor(other);
+    }
+
+    @Override
+    default IntPredicate2 xnor(final IntPredicate2 other) {
+        return (IntPredicate2) AbstractIntPredicate2.super.xnor(other);
+    }
+
+    @Override
+    default IntPredicate2 orNot(final IntPredicate2 other) {
+        return (IntPredicate2) AbstractIntPredicate2.super.orNot(other);
+    }
+}
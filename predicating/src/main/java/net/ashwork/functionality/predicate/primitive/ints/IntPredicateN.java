@@ -0,0 +1,170 @@
+/*
+ * Predicating (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.predicate.primitive.ints;
+
+import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.predicate.Predicate1;
+import net.ashwork.functionality.predicate.PredicateN;
+import net.ashwork.functionality.predicate.abstracts.primitive.ints.AbstractIntPredicateN;
+import net.ashwork.functionality.primitive.ints.IntFunctionN;
+
+/**
+ * Represents a predicate that accepts {@code n} {@code int}-valued arguments and produces a {@code boolean}-valued result.
+ * This is the {@code int}-consuming primitive specialization of {@link PredicateN}.
+ * The arguments are passed within a {@code int} array such that they are never boxed.
+ *
+ * <p>This is a functional interface whose functional method is {@link #testAll(int...)}.
+ *
+ * @see PredicateN
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface IntPredicateN extends AbstractIntPredicateN<IntPredicateN> {
+
+    @Override
+    default IntPredicateN not() {
+        return (final int[] values) -> !this.testAll(values);
+    }
+
+    @Override
+    default IntPredicateN and(final IntPredicateN other) {
+        return (final int[] values) -> this.testAll(values) && other.testAll(values);
+    }
+
+    @Override
+    default IntPredicateN or(final IntPredicateN other) {
+        return (final int[] values) -> this.testAll(values) || other.testAll(values);
+    }
+
+    @Override
+    default IntPredicateN xor(final IntPredicateN other) {
+        return (IntPredicateN) AbstractIntPredicateN.super.xor(other);
+    }
+
+    @Override
+    default IntPredicateN sub(final IntPredicateN other) {
+        return (IntPredicateN) AbstractIntPredicateN.super.sub(other);
+    }
+
+    @Override
+    default IntPredicateN nand(final IntPredicateN other) {
+        return (IntPredicateN) AbstractIntPredicateN.super.nand(other);
+    }
+
+    @Override
+    default IntPredicateN nor(final IntPredicateN other) {
+        return (IntPredicateN) AbstractIntPredicateN.super.nor(other);
+    }
+
+    @Override
+    default IntPredicateN xnor(final IntPredicateN other) {
+        return (IntPredicateN) AbstractIntPredicateN.super.xnor(other);
+    }
+
+    @Override
+    default IntPredicateN orNot(final IntPredicateN other) {
+        return (IntPredicateN) AbstractIntPredicateN.super.orNot(other);
+    }
+
+    /**
+     * An instance of {@link AbstractIntPredicateN} which properly defines the
+     * arity of that particular predicate.
+     *
+     * @see AbstractIntPredicateN
+     */
+    class Instance implements AbstractIntPredicateN<Instance> {
+
+        private final int arity;
+        private final Predicate1<int[]> predicate;
+
+        /**
+         * Constructs an instance of the predicate.
+         *
+         * @param arity     the number of arguments of the predicate
+         * @param predicate the predicate to be applied
+         */
+        public Instance(final int arity, final Predicate1<int[]> predicate) {
+            this.arity = arity;
+            this.predicate = predicate;
+        }
+
+        @Override
+        public int arity() {
+            return this.arity;
+        }
+
+        @Override
+        public boolean testAll(final int... values) {
+            return this.predicate.test(values);
+        }
+
+        /**
+         * @see IntFunctionN.Instance
+         */
+        @SuppressWarnings("unchecked")
+        @Override
+        public <V> IntFunctionN.Instance<V> andThen(final Function1<? super Boolean, ? extends V> after) {
+            return (IntFunctionN.Instance<V>) AbstractIntPredicateN.super.andThen(after);
+        }
+
+        /**
+         * @see IntFunctionN.Instance
+         */
+        @Override
+        public <V> IntFunctionN.Instance<V> andThenUnchecked(final Function1<? super Boolean, ? extends V> after) {
+            return new IntFunctionN.Instance<>(this.arity(), (final int[] values) -> after.apply(this.testAll(values)));
+        }
+
+        @Override
+        public IntPredicateN.Instance not() {
+            return new IntPredicateN.Instance(this.arity(), (final int[] values) -> !this.testAll(values));
+        }
+
+        @Override
+        public IntPredicateN.Instance and(final IntPredicateN.Instance other) {
+            return new IntPredicateN.Instance(this.arity(), (final int[] values) -> this.testAll(values) && other.testAll(values));
+        }
+
+        @Override
+        public IntPredicateN.Instance or(final IntPredicateN.Instance other) {
+            return new IntPredicateN.Instance(this.arity(), (final int[] values) -> this.testAll(values) || other.testAll(values));
+        }
+
+        @Override
+        public IntPredicateN.Instance xor(final IntPredicateN.Instance other) {
+            return (IntPredicateN.Instance) AbstractIntPredicateN.super.xor(other);
+        }
+
+        @Override
+        public IntPredicateN.Instance sub(final IntPredicateN.Instance other) {
+            return (IntPredicateN.Instance) AbstractIntPredicateN.super.sub(other);
+        }
+
+        @Override
+        public IntPredicateN.Instance nand(final IntPredicateN.Instance other) {
+            return (IntPredicateN.Instance) AbstractIntPredicateN.super.nand(other);
+        }
+
+        @Override
+        public IntPredicateN.Instance nor(final IntPredicateN.Instance other) {
+            return (IntPredicateN.Instance) AbstractIntPredicateN.super.nor(other);
+        }
+
+        @Override
+        public IntPredicateN.Instance xnor(final IntPredicateN.Instance other) {
+            return (IntPredicateN.Instance) AbstractIntPredicateN.super.xnor(other);
+        }
+
+        @Override
+        public IntPredicateN.Instance orNot(final IntPredicateN.Instance other) {
+            return (IntPredicateN.Instance) AbstractIntPredicateN.super.orNot(other);
+        }
+    }
+}
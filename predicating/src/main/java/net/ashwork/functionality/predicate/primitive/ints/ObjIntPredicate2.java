@@ -0,0 +1,84 @@
+/*
+ * Predicating (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.predicate.primitive.ints;
+
+import net.ashwork.functionality.predicate.Predicate2;
+import net.ashwork.functionality.predicate.PredicateN;
+import net.ashwork.functionality.predicate.abstracts.primitive.ints.AbstractObjIntPredicate2;
+
+/**
+ * Represents a predicate that accepts an object-valued argument and an {@code int}-valued argument and produces a {@code boolean}-valued result.
+ * This is the two-arity specialization for {@link PredicateN}.
+ * This is the {@code int}-consuming primitive specialization of {@link Predicate2}.
+ *
+ * <p>This is a functional interface whose functional method is {@link #test(Object, int)}.
+ *
+ * @param <T1> the type of the first argument to the predicate
+ *
+ * @see PredicateN
+ * @see Predicate2
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface ObjIntPredicate2<T1> extends AbstractObjIntPredicate2<T1, ObjIntPredicate2<T1>> {
+
+    /**
+     * @see Predicate2
+     */
+    @Override
+    default Predicate2<T1, Integer> boxInput() {
+        return this::test;
+    }
+
+    @Override
+    default ObjIntPredicate2<T1> not() {
+        return (final T1 t1, final int value) -> !this.test(t1, value);
+    }
+
+    @Override
+    default ObjIntPredicate2<T1> and(final ObjIntPredicate2<T1> other) {
+        return (final T1 t1, final int value) -> this.test(t1, value) && other.test(t1, value);
+    }
+
+    @Override
+    default ObjIntPredicate2<T1> or(final ObjIntPredicate2<T1> other) {
+        return (final T1 t1, final int value) -> this.test(t1, value) || other.test(t1, value);
+    }
+
+    @Override
+    default ObjIntPredicate2<T1> xor(final ObjIntPredicate2<T1> other) {
+        return (ObjIntPredicate2<T1>) AbstractObjIntPredicate2.super.xor(other);
+    }
+
+    @Override
+    default ObjIntPredicate2<T1> sub(final ObjIntPredicate2<T1> other) {
+        return (ObjIntPredicate2<T1>) AbstractObjIntPredicate2.super.sub(other);
+    }
+
+    @Override
+    default ObjIntPredicate2<T1> nand(final ObjIntPredicate2<T1> other) {
+        return (ObjIntPredicate2<T1>) AbstractObjIntPredicate2.super.nand(other);
+    }
+
+    @Override
+    default ObjIntPredicate2<T1> nor(final ObjIntPredicate2<T1> other) {
+        return (ObjIntPredicate2<T1>) AbstractObjIntPredicate2.super.nor(other);
+    }
+
+    @Override
+    default ObjIntPredicate2<T1> xnor(final ObjIntPredicate2<T1> other) {
+        return (ObjIntPredicate2<T1>) AbstractObjIntPredicate2.super.xnor(other);
+    }
+
+    @Override
+    default ObjIntPredicate2<T1> orNot(final ObjIntPredicate2<T1> other) {
+        return (ObjIntPredicate2<T1>) AbstractObjIntPredicate2.super.orNot(other);
+    }
+}
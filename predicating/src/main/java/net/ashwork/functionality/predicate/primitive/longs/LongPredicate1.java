@@ -10,11 +10,28 @@
 package net.ashwork.functionality.predicate.primitive.longs;
 
 import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.operator.primitive.longs.LongOperator1;
 import net.ashwork.functionality.predicate.Predicate1;
 import net.ashwork.functionality.predicate.PredicateN;
 import net.ashwork.functionality.predicate.abstracts.primitive.longs.AbstractLongPredicate1;
+import net.ashwork.functionality.predicate.primitive.booleans.BooleanPredicate1;
+import net.ashwork.functionality.predicate.primitive.bytes.BytePredicate1;
+import net.ashwork.functionality.predicate.primitive.chars.CharPredicate1;
+import net.ashwork.functionality.predicate.primitive.doubles.DoublePredicate1;
+import net.ashwork.functionality.predicate.primitive.floats.FloatPredicate1;
+import net.ashwork.functionality.predicate.primitive.ints.IntPredicate1;
+import net.ashwork.functionality.predicate.primitive.shorts.ShortPredicate1;
+import net.ashwork.functionality.primitive.combined.BooleanToLongFunction1;
+import net.ashwork.functionality.primitive.combined.ByteToLongFunction1;
+import net.ashwork.functionality.primitive.combined.CharToLongFunction1;
+import net.ashwork.functionality.primitive.combined.DoubleToLongFunction1;
+import net.ashwork.functionality.primitive.combined.FloatToLongFunction1;
+import net.ashwork.functionality.primitive.combined.IntToLongFunction1;
 import net.ashwork.functionality.primitive.combined.LongToBooleanFunction1;
+import net.ashwork.functionality.primitive.combined.ShortToLongFunction1;
+import net.ashwork.functionality.primitive.longs.ToLongFunction1;
 
+import java.util.Objects;
 import java.util.function.LongPredicate;
 
 /**
@@ -53,7 +70,7 @@ public interface LongPredicate1 extends AbstractLongPredicate1<LongPredicate1> {
      *
      * @see LongPredicate
      */
-    static Predicate1<Long> fromVariant(final LongPredicate predicate) {
+    static LongPredicate1 fromVariant(final LongPredicate predicate) {
         return predicate::test;
     }
 
@@ -82,6 +99,87 @@ public interface LongPredicate1 extends AbstractLongPredicate1<LongPredicate1> {
         return (final V v) -> this.test(before.apply(v));
     }
 
+    /**
+     * @see Predicate1
+     */
+    @Override
+    default <V> Predicate1<V> composeObj(final ToLongFunction1<? super V> before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final V v) -> this.test(before.applyAsLong(v));
+    }
+
+    /**
+     * @see BooleanPredicate1
+     */
+    @Override
+    default BooleanPredicate1 composeBoolean(final BooleanToLongFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final boolean value) -> this.test(before.applyAsLong(value));
+    }
+
+    /**
+     * @see BytePredicate1
+     */
+    @Override
+    default BytePredicate1 composeByte(final ByteToLongFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final byte value) -> this.test(before.applyAsLong(value));
+    }
+
+    /**
+     * @see CharPredicate1
+     */
+    @Override
+    default CharPredicate1 composeChar(final CharToLongFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final char value) -> this.test(before.applyAsLong(value));
+    }
+
+    /**
+     * @see ShortPredicate1
+     */
+    @Override
+    default ShortPredicate1 composeShort(final ShortToLongFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final short value) -> this.test(before.applyAsLong(value));
+    }
+
+    /**
+     * @see IntPredicate1
+     */
+    @Override
+    default IntPredicate1 composeInt(final IntToLongFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final int value) -> this.test(before.applyAsLong(value));
+    }
+
+    /**
+     * @see LongPredicate1
+     */
+    @Override
+    default LongPredicate1 composeLong(final LongOperator1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final long value) -> this.test(before.applyAsLong(value));
+    }
+
+    /**
+     * @see FloatPredicate1
+     */
+    @Override
+    default FloatPredicate1 composeFloat(final FloatToLongFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final float value) -> this.test(before.applyAsLong(value));
+    }
+
+    /**
+     * @see DoublePredicate1
+     */
+    @Override
+    default DoublePredicate1 composeDouble(final DoubleToLongFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final double value) -> this.test(before.applyAsLong(value));
+    }
+
     @Override
     default LongPredicate1 not() {
         return (final long value) -> !this.test(value);
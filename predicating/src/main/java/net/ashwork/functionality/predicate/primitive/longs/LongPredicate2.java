@@ -0,0 +1,97 @@
+/*
+ * Predicating (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.predicate.primitive.longs;
+
+import net.ashwork.functionality.predicate.Predicate2;
+import net.ashwork.functionality.predicate.PredicateN;
+import net.ashwork.functionality.predicate.abstracts.primitive.longs.AbstractLongPredicate2;
+import net.ashwork.functionality.primitive.combined.LongToBooleanFunction2;
+
+/**
+ * Represents a predicate that accepts two {@code long}-valued arguments and produces a {@code boolean}-valued result.
+ * This is the two-arity specialization for {@link PredicateN}.
+ * This is the predicate specialization for {@link LongToBooleanFunction2}.
+ * This is the {@code long}-consuming primitive specialization of {@link Predicate2}.
+ *
+ * <p>This is a functional interface whose functional method is {@link #test(long, long)}.
+ *
+ * @see PredicateN
+ * @see LongToBooleanFunction2
+ * @see Predicate2
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface LongPredicate2 extends AbstractLongPredicate2<LongPredicate2> {
+
+    /**
+     * Creates an instance of this object from its {@link LongToBooleanFunction2} function variant.
+     *
+     * @param function the function variant of this object
+     * @return an instance of this object
+     *
+     * @see LongToBooleanFunction2
+     */
+    static LongPredicate2 fromFunctionVariant(final LongToBooleanFunction2 function) {
+        return function::applyAsBoolean;
+    }
+
+    /**
+     * @see Predicate2
+     */
+    @Override
+    default Predicate2<Long, Long> boxInput() {
+        return this::test;
+    }
+
+    @Override
+    default LongPredicate2 not() {
+        return (final long value1, final long value2) -> !this.test(value1, value2);
+    }
+
+    @Override
+    default LongPredicate2 and(final LongPredicate2 other) {
+        return (final long value1, final long value2) -> this.test(value1, value2) && other.test(value1, value2);
+    }
+
+    @Override
+    default LongPredicate2 or(final LongPredicate2 other) {
+        return (final long value1, final long value2) -> this.test(value1, value2) || other.test(value1, value2);
+    }
+
+    @Override
+    default LongPredicate2 xor(final LongPredicate2 other) {
+        return (LongPredicate2) AbstractLongPredicate2.super.xor(other);
+    }
+
+    @Override
+    default LongPredicate2 sub(final LongPredicate2 other) {
+        return (LongPredicate2) AbstractLongPredicate2.super.sub(other);
+    }
+
+    @Override
+    default LongPredicate2 nand(final LongPredicate2 other) {
+        return (LongPredicate2) AbstractLongPredicate2.super.nand(other);
+    }
+
+    @Override
+    default LongPredicate2 nor(final LongPredicate2 other) {
+        return (LongPredicate2) AbstractLongPredicate2.super.nor(other);
+    }
+
+    @Override
+    default LongPredicate2 xnor(final LongPredicate2 other) {
+        return (LongPredicate2) AbstractLongPredicate2.super.xnor(other);
+    }
+
+    @Override
+    default LongPredicate2 orNot(final LongPredicate2 other) {
+        return (LongPredicate2) AbstractLongPredicate2.super.orNot(other);
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Predicating (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.predicate.primitive.longs;
+
+import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.predicate.Predicate1;
+import net.ashwork.functionality.predicate.PredicateN;
+import net.ashwork.functionality.predicate.abstracts.primitive.longs.AbstractLongPredicateN;
+import net.ashwork.functionality.primitive.longs.LongFunctionN;
+
+/**
+ * Represents a predicate that accepts {@code n} {@code long}-valued arguments and produces a {@code boolean}-valued result.
+ * This is the {@code long}-consuming primitive specialization of {@link PredicateN}.
+ * The arguments are passed within a {@code long} array such that they are never boxed.
+ *
+ * <p>This is a functional interface whose functional method is {@link #testAll(long...)}.
+ *
+ * @see PredicateN
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface LongPredicateN extends AbstractLongPredicateN<LongPredicateN> {
+
+    @Override
+    default LongPredicateN not() {
+        return (final long[] values) -> !this.testAll(values);
+    }
+
+    @Override
+    default LongPredicateN and(final LongPredicateN other) {
+        return (final long[] values) -> this.testAll(values) && other.testAll(values);
+    }
+
+    @Override
+    default LongPredicateN or(final LongPredicateN other) {
+        return (final long[] values) -> this.testAll(values) || other.testAll(values);
+    }
+
+    @Override
+    default LongPredicateN xor(final LongPredicateN other) {
+        return (LongPredicateN) AbstractLongPredicateN.super.xor(other);
+    }
+
+    @Override
+    default LongPredicateN sub(final LongPredicateN other) {
+        return (LongPredicateN) AbstractLongPredicateN.super.sub(other);
+    }
+
+    @Override
+    default LongPredicateN nand(final LongPredicateN other) {
+        return (LongPredicateN) AbstractLongPredicateN.super.nand(other);
+    }
+
+    @Override
+    default LongPredicateN nor(final LongPredicateN other) {
+        return (LongPredicateN) AbstractLongPredicateN.super.nor(other);
+    }
+
+    @Override
+    default LongPredicateN xnor(final LongPredicateN other) {
+        return (LongPredicateN) AbstractLongPredicateN.super.xnor(other);
+    }
+
+    @Override
+    default LongPredicateN orNot(final LongPredicateN other) {
+        return (LongPredicateN) AbstractLongPredicateN.super.orNot(other);
+    }
+
+    /**
+     * An instance of {@link AbstractLongPredicateN} which properly defines the
+     * arity of that particular predicate.
+     *
+     * @see AbstractLongPredicateN
+     */
+    class Instance implements AbstractLongPredicateN<Instance> {
+
+        private final int arity;
+        private final Predicate1<long[]> predicate;
+
+        /**
+         * Constructs an instance of the predicate.
+         *
+         * @param arity     the number of arguments of the predicate
+         * @param predicate the predicate to be applied
+         */
+        public Instance(final int arity, final Predicate1<long[]> predicate) {
+            this.arity = arity;
+            this.predicate = predicate;
+        }
+
+        @Override
+        public int arity() {
+            return this.arity;
+        }
+
+        @Override
+        public boolean testAll(final long... values) {
+            return this.predicate.test(values);
+        }
+
+        /**
+         * @see LongFunctionN.Instance
+         */
+        @SuppressWarnings("unchecked")
+        @Override
+        public <V> LongFunctionN.Instance<V> andThen(final Function1<? super Boolean, ? extends V> after) {
+            return (LongFunctionN.Instance<V>) AbstractLongPredicateN.super.andThen(after);
+        }
+
+        /**
+         * @see LongFunctionN.Instance
+         */
+        @Override
+        public <V> LongFunctionN.Instance<V> andThenUnchecked(final Function1<? super Boolean, ? extends V> after) {
+            return new LongFunctionN.Instance<>(this.arity(), (final long[] values) -> after.apply(this.testAll(values)));
+        }
+
+        @Override
+        public LongPredicateN.Instance not() {
+            return new LongPredicateN.Instance(this.arity(), (final long[] values) -> !this.testAll(values));
+        }
+
+        @Override
+        public LongPredicateN.Instance and(final LongPredicateN.Instance other) {
+            return new LongPredicateN.Instance(this.arity(), (final long[] values) -> this.testAll(values) && other.testAll(values));
+        }
+
+        @Override
+        public LongPredicateN.Instance or(final LongPredicateN.Instance other) {
+            return new LongPredicateN.Instance(this.arity(), (final long[] values) -> this.testAll(values) || other.testAll(values));
+        }
+
+        @Override
+        public LongPredicateN.Instance xor(final LongPredicateN.Instance other) {
+            return (LongPredicateN.Instance) AbstractLongPredicateN.super.xor(other);
+        }
+
+        @Override
+        public LongPredicateN.Instance sub(final LongPredicateN.Instance other) {
+            return (LongPredicateN.Instance) AbstractLongPredicateN.super.sub(other);
+        }
+
+        @Override
+        public LongPredicateN.Instance nand(final LongPredicateN.Instance other) {
+            return (LongPredicateN.Instance) AbstractLongPredicateN.super.nand(other);
+        }
+
+        @Override
+        public LongPredicateN.Instance nor(final LongPredicateN.Instance other) {
+            return (LongPredicateN.Instance) AbstractLongPredicateN.super.nor(other);
+        }
+
+        @Override
+        public LongPredicateN.Instance xnor(final LongPredicateN.Instance other) {
+            return (LongPredicateN.Instance) AbstractLongPredicateN.super.xnor(other);
+        }
+
+        @Override
+        public LongPredicateN.Instance orNot(final LongPredicateN.Instance other) {
+            return (LongPredicateN.Instance) AbstractLongPredicateN.super.orNot(other);
+        }
+    }
+}
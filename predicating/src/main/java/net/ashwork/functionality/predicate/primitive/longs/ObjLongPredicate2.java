@@ -0,0 +1,84 @@
+/*
+ * Predicating (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.predicate.primitive.longs;
+
+import net.ashwork.functionality.predicate.Predicate2;
+import net.ashwork.functionality.predicate.PredicateN;
+import net.ashwork.functionality.predicate.abstracts.primitive.longs.AbstractObjLongPredicate2;
+
+/**
+ * Represents a predicate that accepts an object-valued argument and a {@code long}-valued argument and produces a {@code boolean}-valued result.
+ * This is the two-arity specialization for {@link PredicateN}.
+ * This is the {@code long}-consuming primitive specialization of {@link Predicate2}.
+ *
+ * <p>This is a functional interface whose functional method is {@link #test(Object, long)}.
+ *
+ * @param <T1> the type of the first argument to the predicate
+ *
+ * @see PredicateN
+ * @see Predicate2
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface ObjLongPredicate2<T1> extends AbstractObjLongPredicate2<T1, ObjLongPredicate2<T1>> {
+
+    /**
+     * @see Predicate2
+     */
+    @Override
+    default Predicate2<T1, Long> boxInput() {
+        return this::test;
+    }
+
+    @Override
+    default ObjLongPredicate2<T1> not() {
+        return (final T1 t1, final long value) -> !this.test(t1, value);
+    }
+
+    @Override
+    default ObjLongPredicate2<T1> and(final ObjLongPredicate2<T1> other) {
+        return (final T1 t1, final long value) -> this.test(t1, value) && other.test(t1, value);
+    }
+
+    @Override
+    default ObjLongPredicate2<T1> or(final ObjLongPredicate2<T1> other) {
+        return (final T1 t1, final long value) -> this.test(t1, value) || other.test(t1, value);
+    }
+
+    @Override
+    default ObjLongPredicate2<T1> xor(final ObjLongPredicate2<T1> other) {
+        return (ObjLongPredicate2<T1>) AbstractObjLongPredicate2.super.xor(other);
+    }
+
+    @Override
+    default ObjLongPredicate2<T1> sub(final ObjLongPredicate2<T1> other) {
+        return (ObjLongPredicate2<T1>) AbstractObjLongPredicate2.super.sub(other);
+    }
+
+    @Override
+    default ObjLongPredicate2<T1> nand(final ObjLongPredicate2<T1> other) {
+        return (ObjLongPredicate2<T1>) AbstractObjLongPredicate2.super.nand(other);
+    }
+
+    @Override
+    default ObjLongPredicate2<T1> nor(final ObjLongPredicate2<T1> other) {
+        return (ObjLongPredicate2<T1>) AbstractObjLongPredicate2.super.nor(other);
+    }
+
+    @Override
+    default ObjLongPredicate2<T1> xnor(final ObjLongPredicate2<T1> other) {
+        return (ObjLongPredicate2<T1>) AbstractObjLongPredicate2.super.xnor(other);
+    }
+
+    @Override
+    default ObjLongPredicate2<T1> orNot(final ObjLongPredicate2<T1> other) {
+        return (ObjLongPredicate2<T1>) AbstractObjLongPredicate2.super.orNot(other);
+    }
+}
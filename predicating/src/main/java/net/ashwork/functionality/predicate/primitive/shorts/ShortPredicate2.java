@@ -0,0 +1,97 @@
+/*
+ * Predicating (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.predicate.primitive.shorts;
+
+import net.ashwork.functionality.predicate.Predicate2;
+import net.ashwork.functionality.predicate.PredicateN;
+import net.ashwork.functionality.predicate.abstracts.primitive.shorts.AbstractShortPredicate2;
+import net.ashwork.functionality.primitive.combined.ShortToBooleanFunction2;
+
+/**
+ * Represents a predicate that accepts two {@code short}-valued arguments and produces a {@code boolean}-valued result.
+ * This is the two-arity specialization for {@link PredicateN}.
+ * This is the predicate specialization for {@link ShortToBooleanFunction2}.
+ * This is the {@code short}-consuming primitive specialization of {@link Predicate2}.
+ *
+ * <p>This is a functional interface whose functional method is {@link #test(short, short)}.
+ *
+ * @see PredicateN
+ * @see ShortToBooleanFunction2
+ * @see Predicate2
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface ShortPredicate2 extends AbstractShortPredicate2<ShortPredicate2> {
+
+    /**
+     * Creates an instance of this object from its {@link ShortToBooleanFunction2} function variant.
+     *
+     * @param function the function variant of this object
+     * @return an instance of this object
+     *
+     * @see ShortToBooleanFunction2
+     */
+    static ShortPredicate2 fromFunctionVariant(final ShortToBooleanFunction2 function) {
+        return function::applyAsBoolean;
+    }
+
+    /**
+     * @see Predicate2
+     */
+    @Override
+    default Predicate2<Short, Short> boxInput() {
+        return this::test;
+    }
+
+    @Override
+    default ShortPredicate2 not() {
+        return (final short value1, final short value2) -> !this.test(value1, value2);
+    }
+
+    @Override
+    default ShortPredicate2 and(final ShortPredicate2 other) {
+        return (final short value1, final short value2) -> this.test(value1, value2) && other.test(value1, value2);
+    }
+
+    @Override
+    default ShortPredicate2 or(final ShortPredicate2 other) {
+        return (final short value1, final short value2) -> this.test(value1, value2) || other.test(value1, value2);
+    }
+
+    @Override
+    default ShortPredicate2 xor(final ShortPredicate2 other) {
+        return (ShortPredicate2) AbstractShortPredicate2.super.xor(other);
+    }
+
+    @Override
+    default ShortPredicate2 sub(final ShortPredicate2 other) {
+        return (ShortPredicate2) AbstractShortPredicate2.super.sub(other);
+    }
+
+    @Override
+    default ShortPredicate2 nand(final ShortPredicate2 other) {
+        return (ShortPredicate2) AbstractShortPredicate2.super.nand(other);
+    }
+
+    @Override
+    default ShortPredicate2 nor(final ShortPredicate2 other) {
+        return (ShortPredicate2) AbstractShortPredicate2.super.nor(other);
+    }
+
+    @Override
+    default ShortPredicate2 xnor(final ShortPredicate2 other) {
+        return (ShortPredicate2) AbstractShortPredicate2.super.xnor(other);
+    }
+
+    @Override
+    default ShortPredicate2 orNot(final ShortPredicate2 other) {
+        return (ShortPredicate2) AbstractShortPredicate2.super.orNot(other);
+    }
+}
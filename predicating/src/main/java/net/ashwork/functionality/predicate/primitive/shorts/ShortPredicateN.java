@@ -0,0 +1,170 @@
+/*
+ * Predicating (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.predicate.primitive.shorts;
+
+import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.predicate.Predicate1;
+import net.ashwork.functionality.predicate.PredicateN;
+import net.ashwork.functionality.predicate.abstracts.primitive.shorts.AbstractShortPredicateN;
+import net.ashwork.functionality.primitive.shorts.ShortFunctionN;
+
+/**
+ * Represents a predicate that accepts {@code n} {@code short}-valued arguments and produces a {@code boolean}-valued result.
+ * This is the {@code short}-consuming primitive specialization of {@link PredicateN}.
+ * The arguments are passed within a {@code short} array such that they are never boxed.
+ *
+ * <p>This is a functional interface whose functional method is {@link #testAll(short...)}.
+ *
+ * @see PredicateN
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface ShortPredicateN extends AbstractShortPredicateN<ShortPredicateN> {
+
+    @Override
+    default ShortPredicateN not() {
+        return (final short[] values) -> !this.testAll(values);
+    }
+
+    @Override
+    default ShortPredicateN and(final ShortPredicateN other) {
+        return (final short[] values) -> this.testAll(values) && other.testAll(values);
+    }
+
+    @Override
+    default ShortPredicateN or(final ShortPredicateN other) {
+        return (final short[] values) -> this.testAll(values) || other.testAll(values);
+    }
+
+    @Override
+    default ShortPredicateN xor(final ShortPredicateN other) {
+        return (ShortPredicateN) AbstractShortPredicateN.super.xor(other);
+    }
+
+    @Override
+    default ShortPredicateN sub(final ShortPredicateN other) {
+        return (ShortPredicateN) AbstractShortPredicateN.super.sub(other);
+    }
+
+    @Override
+    default ShortPredicateN nand(final ShortPredicateN other) {
+        return (ShortPredicateN) AbstractShortPredicateN.super.nand(other);
+    }
+
+    @Override
+    default ShortPredicateN nor(final ShortPredicateN other) {
+        return (ShortPredicateN) AbstractShortPredicateN.super.nor(other);
+    }
+
+    @Override
+    default ShortPredicateN xnor(final ShortPredicateN other) {
+        return (ShortPredicateN) AbstractShortPredicateN.super.xnor(other);
+    }
+
+    @Override
+    default ShortPredicateN orNot(final ShortPredicateN other) {
+        return (ShortPredicateN) AbstractShortPredicateN.super.orNot(other);
+    }
+
+    /**
+     * An instance of {@link AbstractShortPredicateN} which properly defines the
+     * arity of that particular predicate.
+     *
+     * @see AbstractShortPredicateN
+     */
+    class Instance implements AbstractShortPredicateN<Instance> {
+
+        private final int arity;
+        private final Predicate1<short[]> predicate;
+
+        /**
+         * Constructs an instance of the predicate.
+         *
+         * @param arity     the number of arguments of the predicate
+         * @param predicate the predicate to be applied
+         */
+        public Instance(final int arity, final Predicate1<short[]> predicate) {
+            this.arity = arity;
+            this.predicate = predicate;
+        }
+
+        @Override
+        public int arity() {
+            return this.arity;
+        }
+
+        @Override
+        public boolean testAll(final short... values) {
+            return this.predicate.test(values);
+        }
+
+        /**
+         * @see ShortFunctionN.Instance
+         */
+        @SuppressWarnings("unchecked")
+        @Override
+        public <V> ShortFunctionN.Instance<V> andThen(final Function1<? super Boolean, ? extends V> after) {
+            return (ShortFunctionN.Instance<V>) AbstractShortPredicateN.super.andThen(after);
+        }
+
+        /**
+         * @see ShortFunctionN.Instance
+         */
+        @Override
+        public <V> ShortFunctionN.Instance<V> andThenUnchecked(final Function1<? super Boolean, ? extends V> after) {
+            return new ShortFunctionN.Instance<>(this.arity(), (final short[] values) -> after.apply(this.testAll(values)));
+        }
+
+        @Override
+        public ShortPredicateN.Instance not() {
+            return new ShortPredicateN.Instance(this.arity(), (final short[] values) -> !this.testAll(values));
+        }
+
+        @Override
+        public ShortPredicateN.Instance and(final ShortPredicateN.Instance other) {
+            return new ShortPredicateN.Instance(this.arity(), (final short[] values) -> this.testAll(values) && other.testAll(values));
+        }
+
+        @Override
+        public ShortPredicateN.Instance or(final ShortPredicateN.Instance other) {
+            return new ShortPredicateN.Instance(this.arity(), (final short[] values) -> this.testAll(values) || other.testAll(values));
+        }
+
+        @Override
+        public ShortPredicateN.Instance xor(final ShortPredicateN.Instance other) {
+            return (ShortPredicateN.Instance) AbstractShortPredicateN.super.xor(other);
+        }
+
+        @Override
+        public ShortPredicateN.Instance sub(final ShortPredicateN.Instance other) {
+            return (ShortPredicateN.Instance) AbstractShortPredicateN.super.sub(other);
+        }
+
+        @Override
+        public ShortPredicateN.Instance nand(final ShortPredicateN.Instance other) {
+            return (ShortPredicateN.Instance) AbstractShortPredicateN.super.nand(other);
+        }
+
+        @Override
+        public ShortPredicateN.Instance nor(final ShortPredicateN.Instance other) {
+            return (ShortPredicateN.Instance) AbstractShortPredicateN.super.nor(other);
+        }
+
+        @Override
+        public ShortPredicateN.Instance xnor(final ShortPredicateN.Instance other) {
+            return (ShortPredicateN.Instance) AbstractShortPredicateN.super.xnor(other);
+        }
+
+        @Override
+        public ShortPredicateN.Instance orNot(final ShortPredicateN.Instance other) {
+            return (ShortPredicateN.Instance) AbstractShortPredicateN.super.orNot(other);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Predicating (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.test.predicate;
+
+import net.ashwork.functionality.predicate.abstracts.AbstractPredicate1;
+import net.ashwork.functionality.predicate.abstracts.primitive.booleans.AbstractBooleanPredicate1;
+import net.ashwork.functionality.predicate.abstracts.primitive.doubles.AbstractDoublePredicate1;
+import net.ashwork.functionality.predicate.abstracts.primitive.ints.AbstractIntPredicate1;
+import net.ashwork.functionality.predicate.abstracts.primitive.longs.AbstractLongPredicate1;
+import net.ashwork.functionality.predicate.primitive.booleans.BooleanPredicate1;
+import net.ashwork.functionality.predicate.primitive.bytes.BytePredicate1;
+import net.ashwork.functionality.predicate.primitive.chars.CharPredicate1;
+import net.ashwork.functionality.predicate.primitive.doubles.DoublePredicate1;
+import net.ashwork.functionality.predicate.primitive.floats.FloatPredicate1;
+import net.ashwork.functionality.predicate.primitive.ints.IntPredicate1;
+import net.ashwork.functionality.predicate.primitive.longs.LongPredicate1;
+import net.ashwork.functionality.predicate.primitive.shorts.ShortPredicate1;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * A testing class that tests all primitive-based predicates.
+ */
+public final class PrimitivePredicateTests {
+
+    /**
+     * Tests composing a function before an {@code int} predicate.
+     */
+    @Test
+    public void composeInt() {
+        final IntPredicate1 even = value -> value % 2 == 0;
+        Assertions.assertTrue(even.<String>composeObj(String::length).test("four"));
+        Assertions.assertFalse(even.composeBoolean(value -> value ? 1 : 0).test(true));
+        Assertions.assertTrue(even.composeByte(value -> value * 3).test((byte) 2));
+        Assertions.assertTrue(even.composeChar(value -> value - 'a').test('c'));
+        Assertions.assertFalse(even.composeShort(value -> value).test((short) 7));
+        Assertions.assertTrue(even.composeInt(value -> value + 1).test(3));
+        Assertions.assertTrue(even.composeLong(value -> (int) (value >>> 32)).test(4L << 32));
+        Assertions.assertFalse(even.composeFloat(Math::round).test(2.6F));
+        Assertions.assertTrue(even.composeDouble(value -> (int) value).test(8.9));
+    }
+
+    /**
+     * Tests composing through the abstract predicate declarations, which must
+     * resolve to the unboxed implementations.
+     */
+    @Test
+    public void composeAbstract() {
+        final AbstractIntPredicate1<?> positive = (IntPredicate1) value -> value > 0;
+        final AbstractPredicate1<String, ?> nonEmpty = positive.composeObj(String::length);
+        Assertions.assertTrue(nonEmpty.test("a"));
+        Assertions.assertFalse(nonEmpty.test(""));
+
+        final AbstractLongPredicate1<?> longs = positive.composeLong(Long::signum);
+        Assertions.assertTrue(longs instanceof LongPredicate1);
+        Assertions.assertTrue(((LongPredicate1) longs).test(Long.MAX_VALUE));
+
+        final AbstractDoublePredicate1<?> doubles = positive.composeDouble(value -> (int) Math.signum(value));
+        Assertions.assertTrue(doubles instanceof DoublePredicate1);
+        Assertions.assertFalse(((DoublePredicate1) doubles).test(-0.5));
+
+        final AbstractBooleanPredicate1<?> booleans = positive.composeBoolean(value -> value ? 1 : -1);
+        Assertions.assertTrue(booleans instanceof BooleanPredicate1);
+        Assertions.assertTrue(((BooleanPredicate1) booleans).test(true));
+    }
+
+    /**
+     * Tests composing a function before the remaining primitive predicates.
+     */
+    @Test
+    public void composeOthers() {
+        Assertions.assertTrue(((BooleanPredicate1) value -> value).composeInt(value -> value > 0).test(1));
+        Assertions.assertTrue(((BytePredicate1) value -> value == 44).composeInt(value -> (byte) value).test(300));
+        Assertions.assertTrue(((CharPredicate1) Character::isUpperCase).composeInt(value -> (char) ('A' + value)).test(2));
+        Assertions.assertTrue(((ShortPredicate1) value -> value < 0).composeInt(value -> (short) value).test(40000));
+        Assertions.assertTrue(((FloatPredicate1) Float::isInfinite).composeDouble(value -> (float) value).test(1e300));
+        Assertions.assertTrue(((DoublePredicate1) Double::isNaN).composeFloat(value -> value).test(Float.NaN));
+        Assertions.assertTrue(((LongPredicate1) value -> value == 1L << 40).composeInt(value -> 1L << value).test(40));
+    }
+
+    /**
+     * Tests that a composed predicate relays the exception of its function.
+     */
+    @Test
+    public void composeThrows() {
+        final IntPredicate1 even = value -> value % 2 == 0;
+        Assertions.assertThrows(NumberFormatException.class, () -> even.<String>composeObj(Integer::parseInt).test("one"));
+        Assertions.assertThrows(NullPointerException.class, () -> even.composeInt(null));
+    }
+}
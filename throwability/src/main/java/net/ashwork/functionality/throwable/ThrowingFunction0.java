@@ -12,9 +12,19 @@ package net.ashwork.functionality.throwable;
 import net.ashwork.functionality.Function0;
 import net.ashwork.functionality.Function1;
 import net.ashwork.functionality.FunctionN;
+import net.ashwork.functionality.metrics.InvocationMetrics;
+import net.ashwork.functionality.metrics.MetricsRegistry;
 import net.ashwork.functionality.throwable.abstracts.AbstractThrowingFunction0;
+import net.ashwork.functionality.throwable.concurrent.CircuitBreaker;
+import net.ashwork.functionality.throwable.concurrent.Deadline;
+import net.ashwork.functionality.throwable.concurrent.HedgeDelay;
+import net.ashwork.functionality.throwable.concurrent.Hedging;
+import net.ashwork.functionality.throwable.result.Result;
 
+import java.time.Duration;
+import java.util.Objects;
 import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
 
 /**
  * Represents a function that accepts no arguments and produces a result or throws a throwable.
@@ -58,11 +68,183 @@ public interface ThrowingFunction0<R> extends AbstractThrowingFunction0<R, Abstr
         return callable::call;
     }
 
+    /**
+     * Returns a function which calls this function with hedging: if an attempt has not
+     * completed after {@code delay}, a duplicate attempt is launched on the executor,
+     * up to {@code maxAttempts} attempts. The first attempt to succeed wins and the
+     * others are cancelled. This function must be idempotent.
+     *
+     * @param delay the time to wait for an attempt before launching another
+     * @param maxAttempts the maximum number of attempts per call
+     * @param executor the executor to run attempts on
+     * @return a hedged function calling this function
+     * @throws IllegalArgumentException if {@code delay} is negative or {@code maxAttempts} is not positive
+     * @throws NullPointerException if {@code delay} or {@code executor} is null
+     *
+     * @see Hedging
+     */
+    default ThrowingFunction0<R> hedged(final Duration delay, final int maxAttempts, final Executor executor) {
+        return this.hedged(HedgeDelay.fixed(delay), maxAttempts, executor);
+    }
+
+    /**
+     * Returns a function which calls this function with hedging: if an attempt has not
+     * completed after the current {@code delay}, a duplicate attempt is launched on the
+     * executor, up to {@code maxAttempts} attempts. The first attempt to succeed wins
+     * and the others are cancelled. This function must be idempotent.
+     *
+     * @param delay the delay before launching another attempt, which may adapt to observed latencies
+     * @param maxAttempts the maximum number of attempts per call
+     * @param executor the executor to run attempts on
+     * @return a hedged function calling this function
+     * @throws IllegalArgumentException if {@code maxAttempts} is not positive
+     * @throws NullPointerException if {@code delay} or {@code executor} is null
+     *
+     * @see Hedging
+     * @see HedgeDelay#percentile(double, Duration)
+     */
+    default ThrowingFunction0<R> hedged(final HedgeDelay delay, final int maxAttempts, final Executor executor) {
+        Hedging.validate(delay, maxAttempts, executor);
+        return () -> Hedging.call(this, delay, maxAttempts, executor);
+    }
+
     @Override
     default Function0<R> swallow() {
         return this.handle(t -> null);
     }
 
+    /**
+     * Applies this function and returns its outcome as a result instead of throwing.
+     *
+     * @return a new result holding the value returned or the throwable thrown
+     *
+     * @see Result
+     */
+    default Result<R> tryApply() {
+        try {
+            return Result.success(this.apply());
+        } catch (final Throwable t) {
+            return Result.failure(t);
+        }
+    }
+
+    /**
+     * Applies this function and writes its outcome into the given result instead of
+     * throwing, so that a single result can be reused without allocating.
+     *
+     * @param into the result to overwrite with the outcome
+     * @return {@code into}
+     * @throws NullPointerException if {@code into} is null
+     *
+     * @see Result
+     */
+    default Result<R> tryApply(final Result<R> into) {
+        Objects.requireNonNull(into, "The result cannot be null.");
+        try {
+            return into.succeed(this.apply());
+        } catch (final Throwable t) {
+            return into.fail(t);
+        }
+    }
+
+    /**
+     * Returns a function which checks the {@linkplain Deadline#current() current deadline}
+     * before running this function. If the deadline has expired, this function is skipped
+     * and a {@link Deadline.DeadlineExceededException} is thrown instead, which can be
+     * turned into a fallback by {@link #handle(Handler)} or {@link #swallow()}.
+     *
+     * <p>Stages chained onto the returned function with {@code andThen} also
+     * check the deadline before they run, so an expired deadline skips the rest
+     * of the pipeline.
+     *
+     * @return a function which is skipped once the current deadline has expired
+     *
+     * @see Deadline
+     */
+    default ThrowingFunction0<R> withinDeadline() {
+        final ThrowingFunction0<R> function = this;
+        // Stages chained onto the result are wrapped as well, so they keep checking the deadline
+        return new ThrowingFunction0<R>() {
+
+            @Override
+            public R apply() throws Throwable {
+                Deadline.check();
+                return function.apply();
+            }
+
+            @Override
+            public ThrowingFunction0<R> withinDeadline() {
+                return this;
+            }
+
+            @Override
+            public <V> ThrowingFunction0<V> andThenUnchecked(final Function1<? super R, ? extends V> after) {
+                return function.<V>andThenUnchecked((final R r) -> {
+                    Deadline.check();
+                    return after.apply(r);
+                }).withinDeadline();
+            }
+        };
+    }
+
+    /**
+     * Returns a function which is guarded by the given circuit breaker. Every throwable
+     * thrown by this function is recorded as a failure. While the breaker is open, this
+     * function is not called and a {@link CircuitBreaker.CallNotPermittedException} is
+     * thrown instead, which can be turned into a fallback by {@link #handle(Handler)}
+     * or {@link #swallow()}.
+     *
+     * @param breaker the circuit breaker guarding this function
+     * @return a function guarded by the circuit breaker
+     * @throws NullPointerException if {@code breaker} is null
+     *
+     * @see CircuitBreaker
+     */
+    default ThrowingFunction0<R> circuitBreaker(final CircuitBreaker breaker) {
+        Objects.requireNonNull(breaker, "The circuit breaker cannot be null.");
+        return () -> {
+            final long permit = breaker.acquire();
+            final R result;
+            try {
+                result = this.apply();
+            } catch (final Throwable t) {
+                breaker.onFailure(permit);
+                throw t;
+            }
+            breaker.onSuccess(permit);
+            return result;
+        };
+    }
+
+    /**
+     * Returns a function which records its calls into the metrics registered under
+     * the given name: the number of calls, the number of those which threw, and
+     * the latencies of the calls sampled by the registry. The metrics are looked up
+     * once, when this method is called.
+     *
+     * @param name the name to record the metrics under
+     * @param registry the registry holding the metrics
+     * @return an instrumented function
+     * @throws NullPointerException if {@code name} or {@code registry} is null
+     *
+     * @see MetricsRegistry
+     */
+    default ThrowingFunction0<R> instrumented(final String name, final MetricsRegistry registry) {
+        final InvocationMetrics metrics = Objects.requireNonNull(registry, "The registry cannot be null.").metrics(Objects.requireNonNull(name, "The name cannot be null."));
+        return () -> {
+            final long start = metrics.start();
+            final R result;
+            try {
+                result = this.apply();
+            } catch (final Throwable t) {
+                metrics.failed(start);
+                throw t;
+            }
+            metrics.succeeded(start);
+            return result;
+        };
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     default <V> ThrowingFunction0<V> andThen(final Function1<? super R, ? extends V> after) {
@@ -11,7 +11,26 @@ package net.ashwork.functionality.throwable;
 
 import net.ashwork.functionality.Function1;
 import net.ashwork.functionality.FunctionN;
+import net.ashwork.functionality.metrics.InvocationMetrics;
+import net.ashwork.functionality.metrics.MetricsRegistry;
 import net.ashwork.functionality.throwable.abstracts.AbstractThrowingFunction1;
+import net.ashwork.functionality.throwable.concurrent.Bulkhead;
+import net.ashwork.functionality.throwable.concurrent.CircuitBreaker;
+import net.ashwork.functionality.throwable.concurrent.ConcurrentMapping;
+import net.ashwork.functionality.throwable.concurrent.Deadline;
+import net.ashwork.functionality.throwable.concurrent.HedgeDelay;
+import net.ashwork.functionality.throwable.concurrent.Hedging;
+import net.ashwork.functionality.throwable.concurrent.SingleFlightThrowingFunction1;
+import net.ashwork.functionality.throwable.result.ErrorReport;
+import net.ashwork.functionality.throwable.result.Result;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * Represents a function that accepts one argument and produces a result or throws a throwable.
@@ -44,11 +63,339 @@ public interface ThrowingFunction1<T1, R> extends AbstractThrowingFunction1<T1,
         return function::apply;
     }
 
+    /**
+     * Applies this function to the given argument on the given executor. If this
+     * function throws, the returned future is completed exceptionally with that
+     * throwable itself rather than a {@link java.util.concurrent.CompletionException}.
+     *
+     * @param t1 the function argument
+     * @param executor the executor to apply this function on
+     * @return a future completed with the function result
+     * @throws NullPointerException if {@code executor} is null
+     * @throws java.util.concurrent.RejectedExecutionException if the executor rejects the task
+     */
+    default CompletableFuture<R> applyAsync(final T1 t1, final Executor executor) {
+        final CompletableFuture<R> result = new CompletableFuture<>();
+        Objects.requireNonNull(executor, "The executor cannot be null.").execute(() -> {
+            try {
+                result.complete(this.apply(t1));
+            } catch (final Throwable t) {
+                result.completeExceptionally(t);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Lifts this function into a non-throwing function which applies this function
+     * on the given executor. A throwable thrown by this function completes the
+     * returned future exceptionally with the throwable itself.
+     *
+     * @param executor the executor to apply this function on
+     * @return a function returning a future of the result of this function
+     * @throws NullPointerException if {@code executor} is null
+     */
+    default Function1<T1, CompletableFuture<R>> async(final Executor executor) {
+        Objects.requireNonNull(executor, "The executor cannot be null.");
+        return (final T1 t1) -> this.applyAsync(t1, executor);
+    }
+
+    /**
+     * Lifts this function into a non-throwing function which applies this function
+     * on the given executor. A throwable thrown by this function is passed to the
+     * {@code handler}, whose result completes the returned future, in the same way
+     * as {@link #handle(AbstractThrowingFunction1.Handler)}.
+     *
+     * @param executor the executor to apply this function on
+     * @param handler the handler to call if this function throws
+     * @return a function returning a future of the handled result of this function
+     * @throws NullPointerException if {@code executor} or {@code handler} is null
+     */
+    default Function1<T1, CompletableFuture<R>> async(final Executor executor, final AbstractThrowingFunction1.Handler<T1, R> handler) {
+        Objects.requireNonNull(executor, "The executor cannot be null.");
+        final Function1<T1, R> handled = this.handle(Objects.requireNonNull(handler, "The handler cannot be null."));
+        return (final T1 t1) -> handled.applyAsync(t1, executor);
+    }
+
+    /**
+     * Applies this function to every input concurrently, with at most
+     * {@code maxConcurrency} calls running at the same time, and returns the results
+     * in input order. If a call throws, the {@code handler} is called with the
+     * throwable and the input, and its result is used instead. On Java 21 and later,
+     * each call runs on its own virtual thread.
+     *
+     * @param inputs the inputs to apply this function to
+     * @param maxConcurrency the maximum number of calls running at the same time
+     * @param handler the handler to call if this function throws
+     * @return an unmodifiable list of the results, in the iteration order of {@code inputs}
+     * @throws IllegalArgumentException if {@code maxConcurrency} is not positive
+     * @throws NullPointerException if {@code inputs} or {@code handler} is null
+     * @throws java.util.concurrent.CancellationException if the calling thread is interrupted while waiting
+     *
+     * @see ConcurrentMapping
+     */
+    default List<R> mapConcurrent(final Collection<? extends T1> inputs, final int maxConcurrency, final AbstractThrowingFunction1.Handler<T1, R> handler) {
+        return ConcurrentMapping.map(this, inputs, maxConcurrency, handler);
+    }
+
+    /**
+     * Returns a function which calls this function with hedging: if an attempt has not
+     * completed after {@code delay}, a duplicate attempt is launched on the executor,
+     * up to {@code maxAttempts} attempts. The first attempt to succeed wins and the
+     * others are cancelled. This function must be idempotent.
+     *
+     * @param delay the time to wait for an attempt before launching another
+     * @param maxAttempts the maximum number of attempts per call
+     * @param executor the executor to run attempts on
+     * @return a hedged function calling this function
+     * @throws IllegalArgumentException if {@code delay} is negative or {@code maxAttempts} is not positive
+     * @throws NullPointerException if {@code delay} or {@code executor} is null
+     *
+     * @see Hedging
+     */
+    default ThrowingFunction1<T1, R> hedged(final Duration delay, final int maxAttempts, final Executor executor) {
+        return this.hedged(HedgeDelay.fixed(delay), maxAttempts, executor);
+    }
+
+    /**
+     * Returns a function which calls this function with hedging: if an attempt has not
+     * completed after the current {@code delay}, a duplicate attempt is launched on the
+     * executor, up to {@code maxAttempts} attempts. The first attempt to succeed wins
+     * and the others are cancelled. This function must be idempotent.
+     *
+     * @param delay the delay before launching another attempt, which may adapt to observed latencies
+     * @param maxAttempts the maximum number of attempts per call
+     * @param executor the executor to run attempts on
+     * @return a hedged function calling this function
+     * @throws IllegalArgumentException if {@code maxAttempts} is not positive
+     * @throws NullPointerException if {@code delay} or {@code executor} is null
+     *
+     * @see Hedging
+     * @see HedgeDelay#percentile(double, Duration)
+     */
+    default ThrowingFunction1<T1, R> hedged(final HedgeDelay delay, final int maxAttempts, final Executor executor) {
+        Hedging.validate(delay, maxAttempts, executor);
+        return (final T1 t1) -> Hedging.call(() -> this.apply(t1), delay, maxAttempts, executor);
+    }
+
+    /**
+     * Returns a function which coalesces concurrent calls to this function with
+     * equal arguments into a single call, whose result or throwable is shared by
+     * every caller. Nothing is retained once a call completes.
+     *
+     * @return a single-flight function calling this function
+     *
+     * @see SingleFlightThrowingFunction1
+     */
+    default SingleFlightThrowingFunction1<T1, R> singleFlight() {
+        return SingleFlightThrowingFunction1.of(this);
+    }
+
     @Override
     default Function1<T1, R> swallow() {
         return this.handle((t, t1) -> null);
     }
 
+    /**
+     * Applies this function and returns its outcome as a result instead of throwing.
+     *
+     * @param t1 the function argument
+     * @return a new result holding the value returned or the throwable thrown
+     *
+     * @see Result
+     */
+    default Result<R> tryApply(final T1 t1) {
+        try {
+            return Result.success(this.apply(t1));
+        } catch (final Throwable t) {
+            return Result.failure(t);
+        }
+    }
+
+    /**
+     * Applies this function and writes its outcome into the given result instead of
+     * throwing, so that a single result can be reused without allocating.
+     *
+     * @param t1 the function argument
+     * @param into the result to overwrite with the outcome
+     * @return {@code into}
+     * @throws NullPointerException if {@code into} is null
+     *
+     * @see Result
+     */
+    default Result<R> tryApply(final T1 t1, final Result<R> into) {
+        Objects.requireNonNull(into, "The result cannot be null.");
+        try {
+            return into.succeed(this.apply(t1));
+        } catch (final Throwable t) {
+            return into.fail(t);
+        }
+    }
+
+    /**
+     * Applies this function to each input in order, recording every throwable thrown
+     * into the given report instead of stopping. The results of the inputs which did
+     * not fail are returned in order; the report holds the indices of those which did.
+     * If the report becomes full, the remaining inputs are skipped.
+     *
+     * @param inputs the inputs to apply this function to
+     * @param errors the report to record failures into
+     * @return the results of the inputs which did not fail
+     * @throws NullPointerException if {@code inputs} or {@code errors} is null
+     *
+     * @see ErrorReport
+     */
+    default List<R> mapHandled(final List<? extends T1> inputs, final ErrorReport errors) {
+        Objects.requireNonNull(inputs, "The inputs cannot be null.");
+        Objects.requireNonNull(errors, "The error report cannot be null.");
+        final List<R> results = new ArrayList<>(inputs.size());
+        if (errors.isFull())
+            return results;
+        int index = 0;
+        for (final T1 t1 : inputs) {
+            try {
+                results.add(this.apply(t1));
+            } catch (final Throwable t) {
+                if (!errors.record(index, t))
+                    break;
+            }
+            index++;
+        }
+        return results;
+    }
+
+    /**
+     * Returns a function which checks the {@linkplain Deadline#current() current deadline}
+     * before running this function. If the deadline has expired, this function is skipped
+     * and a {@link Deadline.DeadlineExceededException} is thrown instead, which can be
+     * turned into a fallback by {@link #handle(Handler)} or {@link #swallow()}.
+     *
+     * <p>Stages chained onto the returned function with {@code andThen} or
+     * {@code compose} also check the deadline before they run, so an expired
+     * deadline skips the rest of the pipeline.
+     *
+     * @return a function which is skipped once the current deadline has expired
+     *
+     * @see Deadline
+     */
+    default ThrowingFunction1<T1, R> withinDeadline() {
+        final ThrowingFunction1<T1, R> function = this;
+        // Stages chained onto the result are wrapped as well, so they keep checking the deadline
+        return new ThrowingFunction1<T1, R>() {
+
+            @Override
+            public R apply(final T1 t1) throws Throwable {
+                Deadline.check();
+                return function.apply(t1);
+            }
+
+            @Override
+            public ThrowingFunction1<T1, R> withinDeadline() {
+                return this;
+            }
+
+            @Override
+            public <V> ThrowingFunction1<V, R> composeUnchecked(final Function1<? super V, ? extends T1> before) {
+                final ThrowingFunction1<V, R> composed = (final V v) -> this.apply(before.apply(v));
+                return composed.withinDeadline();
+            }
+
+            @Override
+            public <V> ThrowingFunction1<T1, V> andThenUnchecked(final Function1<? super R, ? extends V> after) {
+                return function.<V>andThenUnchecked((final R r) -> {
+                    Deadline.check();
+                    return after.apply(r);
+                }).withinDeadline();
+            }
+        };
+    }
+
+    /**
+     * Returns a function which is guarded by the given circuit breaker. Every throwable
+     * thrown by this function is recorded as a failure. While the breaker is open, this
+     * function is not called and a {@link CircuitBreaker.CallNotPermittedException} is
+     * thrown instead, which can be turned into a fallback by {@link #handle(Handler)}
+     * or {@link #swallow()}.
+     *
+     * @param breaker the circuit breaker guarding this function
+     * @return a function guarded by the circuit breaker
+     * @throws NullPointerException if {@code breaker} is null
+     *
+     * @see CircuitBreaker
+     */
+    default ThrowingFunction1<T1, R> circuitBreaker(final CircuitBreaker breaker) {
+        Objects.requireNonNull(breaker, "The circuit breaker cannot be null.");
+        return (final T1 t1) -> {
+            final long permit = breaker.acquire();
+            final R result;
+            try {
+                result = this.apply(t1);
+            } catch (final Throwable t) {
+                breaker.onFailure(permit);
+                throw t;
+            }
+            breaker.onSuccess(permit);
+            return result;
+        };
+    }
+
+    /**
+     * Returns a function whose calls in flight are capped by the given bulkhead.
+     * While the bulkhead is full, this function is not called and a
+     * {@link Bulkhead.BulkheadFullException} is thrown instead, which can be turned
+     * into a fallback by {@link #handle(Handler)} or {@link #swallow()}.
+     *
+     * @param bulkhead the bulkhead capping the calls to this function
+     * @return a function capped by the bulkhead
+     * @throws NullPointerException if {@code bulkhead} is null
+     *
+     * @see Bulkhead
+     */
+    default ThrowingFunction1<T1, R> bulkhead(final Bulkhead bulkhead) {
+        Objects.requireNonNull(bulkhead, "The bulkhead cannot be null.");
+        return (final T1 t1) -> {
+            final long permit = bulkhead.acquire();
+            final R result;
+            try {
+                result = this.apply(t1);
+            } catch (final Throwable t) {
+                bulkhead.release(permit, t);
+                throw t;
+            }
+            bulkhead.release(permit, null);
+            return result;
+        };
+    }
+
+    /**
+     * Returns a function which records its calls into the metrics registered under
+     * the given name: the number of calls, the number of those which threw, and
+     * the latencies of the calls sampled by the registry. The metrics are looked up
+     * once, when this method is called.
+     *
+     * @param name the name to record the metrics under
+     * @param registry the registry holding the metrics
+     * @return an instrumented function
+     * @throws NullPointerException if {@code name} or {@code registry} is null
+     *
+     * @see MetricsRegistry
+     */
+    default ThrowingFunction1<T1, R> instrumented(final String name, final MetricsRegistry registry) {
+        final InvocationMetrics metrics = Objects.requireNonNull(registry, "The registry cannot be null.").metrics(Objects.requireNonNull(name, "The name cannot be null."));
+        return (final T1 t1) -> {
+            final long start = metrics.start();
+            final R result;
+            try {
+                result = this.apply(t1);
+            } catch (final Throwable t) {
+                metrics.failed(start);
+                throw t;
+            }
+            metrics.succeeded(start);
+            return result;
+        };
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     default <V> ThrowingFunction1<V, R> compose(final Function1<? super V, ? extends T1> before) {
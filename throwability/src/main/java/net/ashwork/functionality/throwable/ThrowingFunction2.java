@@ -12,7 +12,17 @@ package net.ashwork.functionality.throwable;
 import net.ashwork.functionality.Function1;
 import net.ashwork.functionality.Function2;
 import net.ashwork.functionality.FunctionN;
+import net.ashwork.functionality.metrics.InvocationMetrics;
+import net.ashwork.functionality.metrics.MetricsRegistry;
 import net.ashwork.functionality.throwable.abstracts.AbstractThrowingFunction2;
+import net.ashwork.functionality.throwable.concurrent.Bulkhead;
+import net.ashwork.functionality.throwable.concurrent.CircuitBreaker;
+import net.ashwork.functionality.throwable.concurrent.Deadline;
+import net.ashwork.functionality.throwable.result.Result;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * Represents a function that accepts two arguments and produces a result or throws a throwable.
@@ -47,11 +57,230 @@ public interface ThrowingFunction2<T1, T2, R> extends AbstractThrowingFunction2<
         return function::apply;
     }
 
+    /**
+     * Applies this function to the given arguments on the given executor. If this
+     * function throws, the returned future is completed exceptionally with that
+     * throwable itself rather than a {@link java.util.concurrent.CompletionException}.
+     *
+     * @param t1 the first function argument
+     * @param t2 the second function argument
+     * @param executor the executor to apply this function on
+     * @return a future completed with the function result
+     * @throws NullPointerException if {@code executor} is null
+     * @throws java.util.concurrent.RejectedExecutionException if the executor rejects the task
+     */
+    default CompletableFuture<R> applyAsync(final T1 t1, final T2 t2, final Executor executor) {
+        final CompletableFuture<R> result = new CompletableFuture<>();
+        Objects.requireNonNull(executor, "The executor cannot be null.").execute(() -> {
+            try {
+                result.complete(this.apply(t1, t2));
+            } catch (final Throwable t) {
+                result.completeExceptionally(t);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Lifts this function into a non-throwing function which applies this function
+     * on the given executor. A throwable thrown by this function completes the
+     * returned future exceptionally with the throwable itself.
+     *
+     * @param executor the executor to apply this function on
+     * @return a function returning a future of the result of this function
+     * @throws NullPointerException if {@code executor} is null
+     */
+    default Function2<T1, T2, CompletableFuture<R>> async(final Executor executor) {
+        Objects.requireNonNull(executor, "The executor cannot be null.");
+        return (final T1 t1, final T2 t2) -> this.applyAsync(t1, t2, executor);
+    }
+
+    /**
+     * Lifts this function into a non-throwing function which applies this function
+     * on the given executor. A throwable thrown by this function is passed to the
+     * {@code handler}, whose result completes the returned future, in the same way
+     * as {@link #handle(AbstractThrowingFunction2.Handler)}.
+     *
+     * @param executor the executor to apply this function on
+     * @param handler the handler to call if this function throws
+     * @return a function returning a future of the handled result of this function
+     * @throws NullPointerException if {@code executor} or {@code handler} is null
+     */
+    default Function2<T1, T2, CompletableFuture<R>> async(final Executor executor, final AbstractThrowingFunction2.Handler<T1, T2, R> handler) {
+        Objects.requireNonNull(executor, "The executor cannot be null.");
+        final Function2<T1, T2, R> handled = this.handle(Objects.requireNonNull(handler, "The handler cannot be null."));
+        return (final T1 t1, final T2 t2) -> handled.applyAsync(t1, t2, executor);
+    }
+
     @Override
     default Function2<T1, T2, R> swallow() {
         return this.handle((t, t1, t2) -> null);
     }
 
+    /**
+     * Applies this function and returns its outcome as a result instead of throwing.
+     *
+     * @param t1 the first function argument
+     * @param t2 the second function argument
+     * @return a new result holding the value returned or the throwable thrown
+     *
+     * @see Result
+     */
+    default Result<R> tryApply(final T1 t1, final T2 t2) {
+        try {
+            return Result.success(this.apply(t1, t2));
+        } catch (final Throwable t) {
+            return Result.failure(t);
+        }
+    }
+
+    /**
+     * Applies this function and writes its outcome into the given result instead of
+     * throwing, so that a single result can be reused without allocating.
+     *
+     * @param t1 the first function argument
+     * @param t2 the second function argument
+     * @param into the result to overwrite with the outcome
+     * @return {@code into}
+     * @throws NullPointerException if {@code into} is null
+     *
+     * @see Result
+     */
+    default Result<R> tryApply(final T1 t1, final T2 t2, final Result<R> into) {
+        Objects.requireNonNull(into, "The result cannot be null.");
+        try {
+            return into.succeed(this.apply(t1, t2));
+        } catch (final Throwable t) {
+            return into.fail(t);
+        }
+    }
+
+    /**
+     * Returns a function which checks the {@linkplain Deadline#current() current deadline}
+     * before running this function. If the deadline has expired, this function is skipped
+     * and a {@link Deadline.DeadlineExceededException} is thrown instead, which can be
+     * turned into a fallback by {@link #handle(Handler)} or {@link #swallow()}.
+     *
+     * <p>Stages chained onto the returned function with {@code andThen} also
+     * check the deadline before they run, so an expired deadline skips the rest
+     * of the pipeline.
+     *
+     * @return a function which is skipped once the current deadline has expired
+     *
+     * @see Deadline
+     */
+    default ThrowingFunction2<T1, T2, R> withinDeadline() {
+        final ThrowingFunction2<T1, T2, R> function = this;
+        // Stages chained onto the result are wrapped as well, so they keep checking the deadline
+        return new ThrowingFunction2<T1, T2, R>() {
+
+            @Override
+            public R apply(final T1 t1, final T2 t2) throws Throwable {
+                Deadline.check();
+                return function.apply(t1, t2);
+            }
+
+            @Override
+            public ThrowingFunction2<T1, T2, R> withinDeadline() {
+                return this;
+            }
+
+            @Override
+            public <V> ThrowingFunction2<T1, T2, V> andThenUnchecked(final Function1<? super R, ? extends V> after) {
+                return function.<V>andThenUnchecked((final R r) -> {
+                    Deadline.check();
+                    return after.apply(r);
+                }).withinDeadline();
+            }
+        };
+    }
+
+    /**
+     * Returns a function which is guarded by the given circuit breaker. Every throwable
+     * thrown by this function is recorded as a failure. While the breaker is open, this
+     * function is not called and a {@link CircuitBreaker.CallNotPermittedException} is
+     * thrown instead, which can be turned into a fallback by {@link #handle(Handler)}
+     * or {@link #swallow()}.
+     *
+     * @param breaker the circuit breaker guarding this function
+     * @return a function guarded by the circuit breaker
+     * @throws NullPointerException if {@code breaker} is null
+     *
+     * @see CircuitBreaker
+     */
+    default ThrowingFunction2<T1, T2, R> circuitBreaker(final CircuitBreaker breaker) {
+        Objects.requireNonNull(breaker, "The circuit breaker cannot be null.");
+        return (final T1 t1, final T2 t2) -> {
+            final long permit = breaker.acquire();
+            final R result;
+            try {
+                result = this.apply(t1, t2);
+            } catch (final Throwable t) {
+                breaker.onFailure(permit);
+                throw t;
+            }
+            breaker.onSuccess(permit);
+            return result;
+        };
+    }
+
+    /**
+     * Returns a function whose calls in flight are capped by the given bulkhead.
+     * While the bulkhead is full, this function is not called and a
+     * {@link Bulkhead.BulkheadFullException} is thrown instead, which can be turned
+     * into a fallback by {@link #handle(Handler)} or {@link #swallow()}.
+     *
+     * @param bulkhead the bulkhead capping the calls to this function
+     * @return a function capped by the bulkhead
+     * @throws NullPointerException if {@code bulkhead} is null
+     *
+     * @see Bulkhead
+     */
+    default ThrowingFunction2<T1, T2, R> bulkhead(final Bulkhead bulkhead) {
+        Objects.requireNonNull(bulkhead, "The bulkhead cannot be null.");
+        return (final T1 t1, final T2 t2) -> {
+            final long permit = bulkhead.acquire();
+            final R result;
+            try {
+                result = this.apply(t1, t2);
+            } catch (final Throwable t) {
+                bulkhead.release(permit, t);
+                throw t;
+            }
+            bulkhead.release(permit, null);
+            return result;
+        };
+    }
+
+    /**
+     * Returns a function which records its calls into the metrics registered under
+     * the given name: the number of calls, the number of those which threw, and
+     * the latencies of the calls sampled by the registry. The metrics are looked up
+     * once, when this method is called.
+     *
+     * @param name the name to record the metrics under
+     * @param registry the registry holding the metrics
+     * @return an instrumented function
+     * @throws NullPointerException if {@code name} or {@code registry} is null
+     *
+     * @see MetricsRegistry
+     */
+    default ThrowingFunction2<T1, T2, R> instrumented(final String name, final MetricsRegistry registry) {
+        final InvocationMetrics metrics = Objects.requireNonNull(registry, "The registry cannot be null.").metrics(Objects.requireNonNull(name, "The name cannot be null."));
+        return (final T1 t1, final T2 t2) -> {
+            final long start = metrics.start();
+            final R result;
+            try {
+                result = this.apply(t1, t2);
+            } catch (final Throwable t) {
+                metrics.failed(start);
+                throw t;
+            }
+            metrics.succeeded(start);
+            return result;
+        };
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     default <V> ThrowingFunction2<T1, T2, V> andThen(final Function1<? super R, ? extends V> after) {
@@ -0,0 +1,69 @@
+/*
+ * Throwability (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.throwable;
+
+import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.Function4;
+import net.ashwork.functionality.FunctionN;
+import net.ashwork.functionality.throwable.abstracts.AbstractThrowingFunction4;
+
+/**
+ * Represents a function that accepts four arguments and produces a result or throws a throwable.
+ * This is the four-arity specialization of {@link FunctionN}.
+ * This is the throwing variation of {@link Function4}.
+ *
+ * <p>This is a functional interface whose functional method is {@link #apply(Object, Object, Object, Object)}.
+ *
+ * @param <T1> the type of the first argument to the function
+ * @param <T2> the type of the second argument to the function
+ * @param <T3> the type of the third argument to the function
+ * @param <T4> the type of the fourth argument to the function
+ * @param <R> the type of the result of the function
+ *
+ * @see FunctionN
+ * @see Function4
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface ThrowingFunction4<T1, T2, T3, T4, R> extends AbstractThrowingFunction4<T1, T2, T3, T4, R, AbstractThrowingFunction4.Handler<T1, T2, T3, T4, R>> {
+
+    /**
+     * Creates a throwing instance from a non-throwable type.
+     *
+     * @param function the non-throwing type
+     * @param <T1> the type of the first argument to the function
+     * @param <T2> the type of the second argument to the function
+     * @param <T3> the type of the third argument to the function
+     * @param <T4> the type of the fourth argument to the function
+     * @param <R> the type of the result of the function
+     * @return a throwing instance of the original type
+     *
+     * @see Function4
+     */
+    static <T1, T2, T3, T4, R> ThrowingFunction4<T1, T2, T3, T4, R> from(final Function4<T1, T2, T3, T4, R> function) {
+        return function::apply;
+    }
+
+    @Override
+    default Function4<T1, T2, T3, T4, R> swallow() {
+        return this.handle((t, t1, t2, t3, t4) -> null);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    default <V> ThrowingFunction4<T1, T2, T3, T4, V> andThen(final Function1<? super R, ? extends V> after) {
+        return (ThrowingFunction4<T1, T2, T3, T4, V>) AbstractThrowingFunction4.super.andThen(after);
+    }
+
+    @Override
+    default <V> ThrowingFunction4<T1, T2, T3, T4, V> andThenUnchecked(final Function1<? super R, ? extends V> after) {
+        return (final T1 t1, final T2 t2, final T3 t3, final T4 t4) -> after.apply(this.apply(t1, t2, t3, t4));
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Throwability (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.throwable;
+
+import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.Function6;
+import net.ashwork.functionality.FunctionN;
+import net.ashwork.functionality.throwable.abstracts.AbstractThrowingFunction6;
+
+/**
+ * Represents a function that accepts six arguments and produces a result or throws a throwable.
+ * This is the six-arity specialization of {@link FunctionN}.
+ * This is the throwing variation of {@link Function6}.
+ *
+ * <p>This is a functional interface whose functional method is {@link #apply(Object, Object, Object, Object, Object, Object)}.
+ *
+ * @param <T1> the type of the first argument to the function
+ * @param <T2> the type of the second argument to the function
+ * @param <T3> the type of the third argument to the function
+ * @param <T4> the type of the fourth argument to the function
+ * @param <T5> the type of the fifth argument to the function
+ * @param <T6> the type of the sixth argument to the function
+ * @param <R> the type of the result of the function
+ *
+ * @see FunctionN
+ * @see Function6
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface ThrowingFunction6<T1, T2, T3, T4, T5, T6, R> extends AbstractThrowingFunction6<T1, T2, T3, T4, T5, T6, R, AbstractThrowingFunction6.Handler<T1, T2, T3, T4, T5, T6, R>> {
+
+    /**
+     * Creates a throwing instance from a non-throwable type.
+     *
+     * @param function the non-throwing type
+     * @param <T1> the type of the first argument to the function
+     * @param <T2> the type of the second argument to the function
+     * @param <T3> the type of the third argument to the function
+     * @param <T4> the type of the fourth argument to the function
+     * @param <T5> the type of the fifth argument to the function
+     * @param <T6> the type of the sixth argument to the function
+     * @param <R> the type of the result of the function
+     * @return a throwing instance of the original type
+     *
+     * @see Function6
+     */
+    static <T1, T2, T3, T4, T5, T6, R> ThrowingFunction6<T1, T2, T3, T4, T5, T6, R> from(final Function6<T1, T2, T3, T4, T5, T6, R> function) {
+        return function::apply;
+    }
+
+    @Override
+    default Function6<T1, T2, T3, T4, T5, T6, R> swallow() {
+        return this.handle((t, t1, t2, t3, t4, t5, t6) -> null);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    default <V> ThrowingFunction6<T1, T2, T3, T4, T5, T6, V> andThen(final Function1<? super R, ? extends V> after) {
+        return (ThrowingFunction6<T1, T2, T3, T4, T5, T6, V>) AbstractThrowingFunction6.super.andThen(after);
+    }
+
+    @Override
+    default <V> ThrowingFunction6<T1, T2, T3, T4, T5, T6, V> andThenUnchecked(final Function1<? super R, ? extends V> after) {
+        return (final T1 t1, final T2 t2, final T3 t3, final T4 t4, final T5 t5, final T6 t6) -> after.apply(this.apply(t1, t2, t3, t4, t5, t6));
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Throwability (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.throwable;
+
+import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.Function8;
+import net.ashwork.functionality.FunctionN;
+import net.ashwork.functionality.throwable.abstracts.AbstractThrowingFunction8;
+
+/**
+ * Represents a function that accepts eight arguments and produces a result or throws a throwable.
+ * This is the eight-arity specialization of {@link FunctionN}.
+ * This is the throwing variation of {@link Function8}.
+ *
+ * <p>This is a functional interface whose functional method is {@link #apply(Object, Object, Object, Object, Object, Object, Object, Object)}.
+ *
+ * @param <T1> the type of the first argument to the function
+ * @param <T2> the type of the second argument to the function
+ * @param <T3> the type of the third argument to the function
+ * @param <T4> the type of the fourth argument to the function
+ * @param <T5> the type of the fifth argument to the function
+ * @param <T6> the type of the sixth argument to the function
+ * @param <T7> the type of the seventh argument to the function
+ * @param <T8> the type of the eighth argument to the function
+ * @param <R> the type of the result of the function
+ *
+ * @see FunctionN
+ * @see Function8
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface ThrowingFunction8<T1, T2, T3, T4, T5, T6, T7, T8, R> extends AbstractThrowingFunction8<T1, T2, T3, T4, T5, T6, T7, T8, R, AbstractThrowingFunction8.Handler<T1, T2, T3, T4, T5, T6, T7, T8, R>> {
+
+    /**
+     * Creates a throwing instance from a non-throwable type.
+     *
+     * @param function the non-throwing type
+     * @param <T1> the type of the first argument to the function
+     * @param <T2> the type of the second argument to the function
+     * @param <T3> the type of the third argument to the function
+     * @param <T4> the type of the fourth argument to the function
+     * @param <T5> the type of the fifth argument to the function
+     * @param <T6> the type of the sixth argument to the function
+     * @param <T7> the type of the seventh argument to the function
+     * @param <T8> the type of the eighth argument to the function
+     * @param <R> the type of the result of the function
+     * @return a throwing instance of the original type
+     *
+     * @see Function8
+     */
+    static <T1, T2, T3, T4, T5, T6, T7, T8, R> ThrowingFunction8<T1, T2, T3, T4, T5, T6, T7, T8, R> from(final Function8<T1, T2, T3, T4, T5, T6, T7, T8, R> function) {
+        return function::apply;
+    }
+
+    @Override
+    default Function8<T1, T2, T3, T4, T5, T6, T7, T8, R> swallow() {
+        return this.handle((t, t1, t2, t3, t4, t5, t6, t7, t8) -> null);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    default <V> ThrowingFunction8<T1, T2, T3, T4, T5, T6, T7, T8, V> andThen(final Function1<? super R, ? extends V> after) {
+        return (ThrowingFunction8<T1, T2, T3, T4, T5, T6, T7, T8, V>) AbstractThrowingFunction8.super.andThen(after);
+    }
+
+    @Override
+    default <V> ThrowingFunction8<T1, T2, T3, T4, T5, T6, T7, T8, V> andThenUnchecked(final Function1<? super R, ? extends V> after) {
+        return (final T1 t1, final T2 t2, final T3 t3, final T4 t4, final T5 t5, final T6 t6, final T7 t7, final T8 t8) -> after.apply(this.apply(t1, t2, t3, t4, t5, t6, t7, t8));
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Throwability (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.throwable.abstracts;
+
+import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.Function7;
+import net.ashwork.functionality.util.InheritOnly;
+
+/**
+ * Represents a function that accepts seven arguments and produces a result or throws a throwable.
+ * This is the seven-arity specialization of {@link AbstractThrowingFunctionN}.
+ * This is the throwing variation of {@link Function7}.
+ *
+ * @apiNote
+ * This is an abstract function and should not be used directly. It should instead
+ * be called by one of its subtypes.
+ *
+ * @param <T1> the type of the first argument to the function
+ * @param <T2> the type of the second argument to the function
+ * @param <T3> the type of the third argument to the function
+ * @param <T4> the type of the fourth argument to the function
+ * @param <T5> the type of the fifth argument to the function
+ * @param <T6> the type of the sixth argument to the function
+ * @param <T7> the type of the seventh argument to the function
+ * @param <R> the type of the result of the function
+ * @param <H> the type of the handler to safely call the function
+ *
+ * @see AbstractThrowingFunctionN
+ * @see Function7
+ * @since 1.0.0
+ */
+@InheritOnly
+public interface AbstractThrowingFunction7<T1, T2, T3, T4, T5, T6, T7, R, H extends AbstractThrowingFunction7.Handler<T1, T2, T3, T4, T5, T6, T7, R>> extends AbstractThrowingFunctionN<R, H> {
+
+    /**
+     * Applies this function to the given arguments or throws a throwable.
+     *
+     * @param t1 the first function argument
+     * @param t2 the second function argument
+     * @param t3 the third function argument
+     * @param t4 the fourth function argument
+     * @param t5 the fifth function argument
+     * @param t6 the sixth function argument
+     * @param t7 the seventh function argument
+     * @return the function result
+     * @throws Throwable if the function cannot be computed
+     */
+    R apply(final T1 t1, final T2 t2, final T3 t3, final T4 t4, final T5 t5, final T6 t6, final T7 t7) throws Throwable;
+
+    @SuppressWarnings("unchecked")
+    @Override
+    default R applyAllUnchecked(final Object... args) throws Throwable {
+        return this.apply((T1) args[0], (T2) args[1], (T3) args[2], (T4) args[3], (T5) args[4], (T6) args[5], (T7) args[6]);
+    }
+
+    @Override
+    default int arity() {
+        return 7;
+    }
+
+    /**
+     * @see Function7
+     */
+    @Override
+    default Function7<T1, T2, T3, T4, T5, T6, T7, R> handle(final H handler) {
+        return (final T1 t1, final T2 t2, final T3 t3, final T4 t4, final T5 t5, final T6 t6, final T7 t7) -> {
+            try {
+                return this.apply(t1, t2, t3, t4, t5, t6, t7);
+            } catch (final Throwable t) {
+                return handler.onThrown(t, t1, t2, t3, t4, t5, t6, t7);
+            }
+        };
+    }
+
+    /**
+     * @see Function7
+     */
+    @Override
+    Function7<T1, T2, T3, T4, T5, T6, T7, R> swallow();
+
+    @SuppressWarnings("unchecked")
+    @Override
+    default <V> AbstractThrowingFunction7<T1, T2, T3, T4, T5, T6, T7, V, ?> andThen(final Function1<? super R, ? extends V> after) {
+        return (AbstractThrowingFunction7<T1, T2, T3, T4, T5, T6, T7, V, ?>) AbstractThrowingFunctionN.super.andThen(after);
+    }
+
+    @Override
+    <V> AbstractThrowingFunction7<T1, T2, T3, T4, T5, T6, T7, V, ?> andThenUnchecked(final Function1<? super R, ? extends V> after);
+
+    /**
+     * Represents a handler that takes in the outer throwable's parameters and
+     * the throwable and returns a result safely.
+     *
+     * @param <T1> the type of the first argument to the function
+     * @param <T2> the type of the second argument to the function
+     * @param <T3> the type of the third argument to the function
+     * @param <T4> the type of the fourth argument to the function
+     * @param <T5> the type of the fifth argument to the function
+     * @param <T6> the type of the sixth argument to the function
+     * @param <T7> the type of the seventh argument to the function
+     * @param <R> the type of the result of the function
+     */
+    @FunctionalInterface
+    interface Handler<T1, T2, T3, T4, T5, T6, T7, R> extends AbstractThrowingFunctionN.Handler<R> {
+
+        /**
+         * Handles a throwable thrown by the outer throwable and returns safely.
+         * This should never throw an exception.
+         *
+         * @param t the thrown throwable
+         * @param t1 the first function argument
+         * @param t2 the second function argument
+         * @param t3 the third function argument
+         * @param t4 the fourth function argument
+         * @param t5 the fifth function argument
+         * @param t6 the sixth function argument
+         * @param t7 the seventh function argument
+         * @return the handled result
+         */
+        R onThrown(final Throwable t, final T1 t1, final T2 t2, final T3 t3, final T4 t4, final T5 t5, final T6 t6, final T7 t7);
+
+        @SuppressWarnings("unchecked")
+        @Override
+        default R onThrownUnchecked(final Throwable t, final Object... args) {
+            return this.onThrown(t, (T1) args[0], (T2) args[1], (T3) args[2], (T4) args[3], (T5) args[4], (T6) args[5], (T7) args[6]);
+        }
+    }
+}
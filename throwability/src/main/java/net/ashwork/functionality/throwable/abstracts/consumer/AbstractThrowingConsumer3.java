@@ -0,0 +1,128 @@
+/*
+ * Throwability (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.throwable.abstracts.consumer;
+
+import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.consumer.abstracts.AbstractConsumer3;
+import net.ashwork.functionality.throwable.abstracts.AbstractThrowingFunction3;
+import net.ashwork.functionality.util.InheritOnly;
+
+/**
+ * Represents an operation that accepts three arguments and returns no result or throws a throwable.
+ * This is the three-arity specialization of {@link AbstractThrowingConsumerN}.
+ * This is the non-producing specialization of {@link AbstractThrowingFunction3}.
+ * This is the throwing variation of {@link AbstractConsumer3}.
+ *
+ * @apiNote
+ * This is an abstract consumer and should not be used directly. It should instead
+ * be called by one of its subtypes.
+ *
+ * @param <T1> the type of the first argument to the operation
+ * @param <T2> the type of the second argument to the operation
+ * @param <T3> the type of the third argument to the operation
+ * @param <H> the type of the handler to safely call the consumer
+ * @param <C> the type of this consumer
+ *
+ * @see AbstractThrowingConsumerN
+ * @see AbstractThrowingFunction3
+ * @see AbstractConsumer3
+ * @since 1.0.0
+ */
+@InheritOnly
+public interface AbstractThrowingConsumer3<T1, T2, T3, H extends AbstractThrowingConsumer3.Handler<T1, T2, T3>, C extends AbstractThrowingConsumer3<T1, T2, T3, H, C>> extends AbstractThrowingConsumerN<H, C> {
+
+    /**
+     * Performs this operation on the given arguments or throws a throwable.
+     *
+     * @param t1 the first input argument
+     * @param t2 the second input argument
+     * @param t3 the third input argument
+     * @throws Throwable if the operation cannot be performed
+     */
+    void accept(final T1 t1, final T2 t2, final T3 t3) throws Throwable;
+
+    @SuppressWarnings("unchecked")
+    @Override
+    default void acceptAllUnchecked(final Object... args) throws Throwable {
+        this.accept((T1) args[0], (T2) args[1], (T3) args[2]);
+    }
+
+    @Override
+    default int arity() {
+        return 3;
+    }
+
+    /**
+     * @see AbstractConsumer3
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    default AbstractConsumer3<T1, T2, T3, ?> handle(final H handler) {
+        return (AbstractConsumer3<T1, T2, T3, ?>) AbstractThrowingConsumerN.super.handle(handler);
+    }
+
+    /**
+     * @see AbstractConsumer3
+     */
+    @Override
+    AbstractConsumer3<T1, T2, T3, ?> swallow();
+
+    @Override
+    default AbstractThrowingConsumer3<T1, T2, T3, H, C> andThen(final C after) {
+        return (AbstractThrowingConsumer3<T1, T2, T3, H, C>) AbstractThrowingConsumerN.super.andThen(after);
+    }
+
+    @Override
+    AbstractThrowingConsumer3<T1, T2, T3, H, C> andThenUnchecked(final C after);
+
+    /**
+     * @see AbstractThrowingFunction3
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    default <V> AbstractThrowingFunction3<T1, T2, T3, V, ?> andThen(final Function1<? super Void, ? extends V> after) {
+        return (AbstractThrowingFunction3<T1, T2, T3, V, ?>) AbstractThrowingConsumerN.super.andThen(after);
+    }
+
+    /**
+     * @see AbstractThrowingFunction3
+     */
+    @Override
+    <V> AbstractThrowingFunction3<T1, T2, T3, V, ?> andThenUnchecked(final Function1<? super Void, ? extends V> after);
+
+    /**
+     * Represents a handler that takes in the outer throwable's parameters and
+     * the throwable and operates safely.
+     *
+     * @param <T1> the type of the first argument to the operation
+     * @param <T2> the type of the second argument to the operation
+     * @param <T3> the type of the third argument to the operation
+     */
+    @FunctionalInterface
+    interface Handler<T1, T2, T3> extends AbstractThrowingConsumerN.Handler {
+
+        /**
+         * Handles a throwable thrown by the outer throwable and operates safely.
+         * This should never throw an exception.
+         *
+         * @param t the thrown throwable
+         * @param t1 the first input argument
+         * @param t2 the second input argument
+         * @param t3 the third input argument
+         */
+        void acceptThrown(final Throwable t, final T1 t1, final T2 t2, final T3 t3);
+
+        @SuppressWarnings("unchecked")
+        @Override
+        default void acceptThrownUnchecked(final Throwable t, final Object... args) {
+            this.acceptThrown(t, (T1) args[0], (T2) args[1], (T3) args[2]);
+        }
+    }
+}
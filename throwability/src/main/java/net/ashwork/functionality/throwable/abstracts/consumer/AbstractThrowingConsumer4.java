@@ -0,0 +1,132 @@
+/*
+ * Throwability (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.throwable.abstracts.consumer;
+
+import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.consumer.abstracts.AbstractConsumer4;
+import net.ashwork.functionality.throwable.abstracts.AbstractThrowingFunction4;
+import net.ashwork.functionality.util.InheritOnly;
+
+/**
+ * Represents an operation that accepts four arguments and returns no result or throws a throwable.
+ * This is the four-arity specialization of {@link AbstractThrowingConsumerN}.
+ * This is the non-producing specialization of {@link AbstractThrowingFunction4}.
+ * This is the throwing variation of {@link AbstractConsumer4}.
+ *
+ * @apiNote
+ * This is an abstract consumer and should not be used directly. It should instead
+ * be called by one of its subtypes.
+ *
+ * @param <T1> the type of the first argument to the operation
+ * @param <T2> the type of the second argument to the operation
+ * @param <T3> the type of the third argument to the operation
+ * @param <T4> the type of the fourth argument to the operation
+ * @param <H> the type of the handler to safely call the consumer
+ * @param <C> the type of this consumer
+ *
+ * @see AbstractThrowingConsumerN
+ * @see AbstractThrowingFunction4
+ * @see AbstractConsumer4
+ * @since 1.0.0
+ */
+@InheritOnly
+public interface AbstractThrowingConsumer4<T1, T2, T3, T4, H extends AbstractThrowingConsumer4.Handler<T1, T2, T3, T4>, C extends AbstractThrowingConsumer4<T1, T2, T3, T4, H, C>> extends AbstractThrowingConsumerN<H, C> {
+
+    /**
+     * Performs this operation on the given arguments or throws a throwable.
+     *
+     * @param t1 the first input argument
+     * @param t2 the second input argument
+     * @param t3 the third input argument
+     * @param t4 the fourth input argument
+     * @throws Throwable if the operation cannot be performed
+     */
+    void accept(final T1 t1, final T2 t2, final T3 t3, final T4 t4) throws Throwable;
+
+    @SuppressWarnings("unchecked")
+    @Override
+    default void acceptAllUnchecked(final Object... args) throws Throwable {
+        this.accept((T1) args[0], (T2) args[1], (T3) args[2], (T4) args[3]);
+    }
+
+    @Override
+    default int arity() {
+        return 4;
+    }
+
+    /**
+     * @see AbstractConsumer4
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    default AbstractConsumer4<T1, T2, T3, T4, ?> handle(final H handler) {
+        return (AbstractConsumer4<T1, T2, T3, T4, ?>) AbstractThrowingConsumerN.super.handle(handler);
+    }
+
+    /**
+     * @see AbstractConsumer4
+     */
+    @Override
+    AbstractConsumer4<T1, T2, T3, T4, ?> swallow();
+
+    @Override
+    default AbstractThrowingConsumer4<T1, T2, T3, T4, H, C> andThen(final C after) {
+        return (AbstractThrowingConsumer4<T1, T2, T3, T4, H, C>) AbstractThrowingConsumerN.super.andThen(after);
+    }
+
+    @Override
+    AbstractThrowingConsumer4<T1, T2, T3, T4, H, C> andThenUnchecked(final C after);
+
+    /**
+     * @see AbstractThrowingFunction4
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    default <V> AbstractThrowingFunction4<T1, T2, T3, T4, V, ?> andThen(final Function1<? super Void, ? extends V> after) {
+        return (AbstractThrowingFunction4<T1, T2, T3, T4, V, ?>) AbstractThrowingConsumerN.super.andThen(after);
+    }
+
+    /**
+     * @see AbstractThrowingFunction4
+     */
+    @Override
+    <V> AbstractThrowingFunction4<T1, T2, T3, T4, V, ?> andThenUnchecked(final Function1<? super Void, ? extends V> after);
+
+    /**
+     * Represents a handler that takes in the outer throwable's parameters and
+     * the throwable and operates safely.
+     *
+     * @param <T1> the type of the first argument to the operation
+     * @param <T2> the type of the second argument to the operation
+     * @param <T3> the type of the third argument to the operation
+     * @param <T4> the type of the fourth argument to the operation
+     */
+    @FunctionalInterface
+    interface Handler<T1, T2, T3, T4> extends AbstractThrowingConsumerN.Handler {
+
+        /**
+         * Handles a throwable thrown by the outer throwable and operates safely.
+         * This should never throw an exception.
+         *
+         * @param t the thrown throwable
+         * @param t1 the first input argument
+         * @param t2 the second input argument
+         * @param t3 the third input argument
+         * @param t4 the fourth input argument
+         */
+        void acceptThrown(final Throwable t, final T1 t1, final T2 t2, final T3 t3, final T4 t4);
+
+        @SuppressWarnings("unchecked")
+        @Override
+        default void acceptThrownUnchecked(final Throwable t, final Object... args) {
+            this.acceptThrown(t, (T1) args[0], (T2) args[1], (T3) args[2], (T4) args[3]);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Throwability (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.throwable.abstracts.consumer;
+
+import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.consumer.abstracts.AbstractConsumer5;
+import net.ashwork.functionality.throwable.abstracts.AbstractThrowingFunction5;
+import net.ashwork.functionality.util.InheritOnly;
+
+/**
+ * Represents an operation that accepts five arguments and returns no result or throws a throwable.
+ * This is the five-arity specialization of {@link AbstractThrowingConsumerN}.
+ * This is the non-producing specialization of {@link AbstractThrowingFunction5}.
+ * This is the throwing variation of {@link AbstractConsumer5}.
+ *
+ * @apiNote
+ * This is an abstract consumer and should not be used directly. It should instead
+ * be called by one of its subtypes.
+ *
+ * @param <T1> the type of the first argument to the operation
+ * @param <T2> the type of the second argument to the operation
+ * @param <T3> the type of the third argument to the operation
+ * @param <T4> the type of the fourth argument to the operation
+ * @param <T5> the type of the fifth argument to the operation
+ * @param <H> the type of the handler to safely call the consumer
+ * @param <C> the type of this consumer
+ *
+ * @see AbstractThrowingConsumerN
+ * @see AbstractThrowingFunction5
+ * @see AbstractConsumer5
+ * @since 1.0.0
+ */
+@InheritOnly
+public interface AbstractThrowingConsumer5<T1, T2, T3, T4, T5, H extends AbstractThrowingConsumer5.Handler<T1, T2, T3, T4, T5>, C extends AbstractThrowingConsumer5<T1, T2, T3, T4, T5, H, C>> extends AbstractThrowingConsumerN<H, C> {
+
+    /**
+     * Performs this operation on the given arguments or throws a throwable.
+     *
+     * @param t1 the first input argument
+     * @param t2 the second input argument
+     * @param t3 the third input argument
+     * @param t4 the fourth input argument
+     * @param t5 the fifth input argument
+     * @throws Throwable if the operation cannot be performed
+     */
+    void accept(final T1 t1, final T2 t2, final T3 t3, final T4 t4, final T5 t5) throws Throwable;
+
+    @SuppressWarnings("unchecked")
+    @Override
+    default void acceptAllUnchecked(final Object... args) throws Throwable {
+        this.accept((T1) args[0], (T2) args[1], (T3) args[2], (T4) args[3], (T5) args[4]);
+    }
+
+    @Override
+    default int arity() {
+        return 5;
+    }
+
+    /**
+     * @see AbstractConsumer5
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    default AbstractConsumer5<T1, T2, T3, T4, T5, ?> handle(final H handler) {
+        return (AbstractConsumer5<T1, T2, T3, T4, T5, ?>) AbstractThrowingConsumerN.super.handle(handler);
+    }
+
+    /**
+     * @see AbstractConsumer5
+     */
+    @Override
+    AbstractConsumer5<T1, T2, T3, T4, T5, ?> swallow();
+
+    @Override
+    default AbstractThrowingConsumer5<T1, T2, T3, T4, T5, H, C> andThen(final C after) {
+        return (AbstractThrowingConsumer5<T1, T2, T3, T4, T5, H, C>) AbstractThrowingConsumerN.super.andThen(after);
+    }
+
+    @Override
+    AbstractThrowingConsumer5<T1, T2, T3, T4, T5, H, C> andThenUnchecked(final C after);
+
+    /**
+     * @see AbstractThrowingFunction5
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    default <V> AbstractThrowingFunction5<T1, T2, T3, T4, T5, V, ?> andThen(final Function1<? super Void, ? extends V> after) {
+        return (AbstractThrowingFunction5<T1, T2, T3, T4, T5, V, ?>) AbstractThrowingConsumerN.super.andThen(after);
+    }
+
+    /**
+     * @see AbstractThrowingFunction5
+     */
+    @Override
+    <V> AbstractThrowingFunction5<T1, T2, T3, T4, T5, V, ?> andThenUnchecked(final Function1<? super Void, ? extends V> after);
+
+    /**
+     * Represents a handler that takes in the outer throwable's parameters and
+     * the throwable and operates safely.
+     *
+     * @param <T1> the type of the first argument to the operation
+     * @param <T2> the type of the second argument to the operation
+     * @param <T3> the type of the third argument to the operation
+     * @param <T4> the type of the fourth argument to the operation
+     * @param <T5> the type of the fifth argument to the operation
+     */
+    @FunctionalInterface
+    interface Handler<T1, T2, T3, T4, T5> extends AbstractThrowingConsumerN.Handler {
+
+        /**
+         * Handles a throwable thrown by the outer throwable and operates safely.
+         * This should never throw an exception.
+         *
+         * @param t the thrown throwable
+         * @param t1 the first input argument
+         * @param t2 the second input argument
+         * @param t3 the third input argument
+         * @param t4 the fourth input argument
+         * @param t5 the fifth input argument
+         */
+        void acceptThrown(final Throwable t, final T1 t1, final T2 t2, final T3 t3, final T4 t4, final T5 t5);
+
+        @SuppressWarnings("unchecked")
+        @Override
+        default void acceptThrownUnchecked(final Throwable t, final Object... args) {
+            this.acceptThrown(t, (T1) args[0], (T2) args[1], (T3) args[2], (T4) args[3], (T5) args[4]);
+        }
+    }
+}
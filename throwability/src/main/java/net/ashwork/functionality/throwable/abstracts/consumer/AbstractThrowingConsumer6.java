@@ -0,0 +1,140 @@
+/*
+ * Throwability (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.throwable.abstracts.consumer;
+
+import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.consumer.abstracts.AbstractConsumer6;
+import net.ashwork.functionality.throwable.abstracts.AbstractThrowingFunction6;
+import net.ashwork.functionality.util.InheritOnly;
+
+/**
+ * Represents an operation that accepts six arguments and returns no result or throws a throwable.
+ * This is the six-arity specialization of {@link AbstractThrowingConsumerN}.
+ * This is the non-producing specialization of {@link AbstractThrowingFunction6}.
+ * This is the throwing variation of {@link AbstractConsumer6}.
+ *
+ * @apiNote
+ * This is an abstract consumer and should not be used directly. It should instead
+ * be called by one of its subtypes.
+ *
+ * @param <T1> the type of the first argument to the operation
+ * @param <T2> the type of the second argument to the operation
+ * @param <T3> the type of the third argument to the operation
+ * @param <T4> the type of the fourth argument to the operation
+ * @param <T5> the type of the fifth argument to the operation
+ * @param <T6> the type of the sixth argument to the operation
+ * @param <H> the type of the handler to safely call the consumer
+ * @param <C> the type of this consumer
+ *
+ * @see AbstractThrowingConsumerN
+ * @see AbstractThrowingFunction6
+ * @see AbstractConsumer6
+ * @since 1.0.0
+ */
+@InheritOnly
+public interface AbstractThrowingConsumer6<T1, T2, T3, T4, T5, T6, H extends AbstractThrowingConsumer6.Handler<T1, T2, T3, T4, T5, T6>, C extends AbstractThrowingConsumer6<T1, T2, T3, T4, T5, T6, H, C>> extends AbstractThrowingConsumerN<H, C> {
+
+    /**
+     * Performs this operation on the given arguments or throws a throwable.
+     *
+     * @param t1 the first input argument
+     * @param t2 the second input argument
+     * @param t3 the third input argument
+     * @param t4 the fourth input argument
+     * @param t5 the fifth input argument
+     * @param t6 the sixth input argument
+     * @throws Throwable if the operation cannot be performed
+     */
+    void accept(final T1 t1, final T2 t2, final T3 t3, final T4 t4, final T5 t5, final T6 t6) throws Throwable;
+
+    @SuppressWarnings("unchecked")
+    @Override
+    default void acceptAllUnchecked(final Object... args) throws Throwable {
+        this.accept((T1) args[0], (T2) args[1], (T3) args[2], (T4) args[3], (T5) args[4], (T6) args[5]);
+    }
+
+    @Override
+    default int arity() {
+        return 6;
+    }
+
+    /**
+     * @see AbstractConsumer6
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    default AbstractConsumer6<T1, T2, T3, T4, T5, T6, ?> handle(final H handler) {
+        return (AbstractConsumer6<T1, T2, T3, T4, T5, T6, ?>) AbstractThrowingConsumerN.super.handle(handler);
+    }
+
+    /**
+     * @see AbstractConsumer6
+     */
+    @Override
+    AbstractConsumer6<T1, T2, T3, T4, T5, T6, ?> swallow();
+
+    @Override
+    default AbstractThrowingConsumer6<T1, T2, T3, T4, T5, T6, H, C> andThen(final C after) {
+        return (AbstractThrowingConsumer6<T1, T2, T3, T4, T5, T6, H, C>) AbstractThrowingConsumerN.super.andThen(after);
+    }
+
+    @Override
+    AbstractThrowingConsumer6<T1, T2, T3, T4, T5, T6, H, C> andThenUnchecked(final C after);
+
+    /**
+     * @see AbstractThrowingFunction6
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    default <V> AbstractThrowingFunction6<T1, T2, T3, T4, T5, T6, V, ?> andThen(final Function1<? super Void, ? extends V> after) {
+        return (AbstractThrowingFunction6<T1, T2, T3, T4, T5, T6, V, ?>) AbstractThrowingConsumerN.super.andThen(after);
+    }
+
+    /**
+     * @see AbstractThrowingFunction6
+     */
+    @Override
+    <V> AbstractThrowingFunction6<T1, T2, T3, T4, T5, T6, V, ?> andThenUnchecked(final Function1<? super Void, ? extends V> after);
+
+    /**
+     * Represents a handler that takes in the outer throwable's parameters and
+     * the throwable and operates safely.
+     *
+     * @param <T1> the type of the first argument to the operation
+     * @param <T2> the type of the second argument to the operation
+     * @param <T3> the type of the third argument to the operation
+     * @param <T4> the type of the fourth argument to the operation
+     * @param <T5> the type of the fifth argument to the operation
+     * @param <T6> the type of the sixth argument to the operation
+     */
+    @FunctionalInterface
+    interface Handler<T1, T2, T3, T4, T5, T6> extends AbstractThrowingConsumerN.Handler {
+
+        /**
+         * Handles a throwable thrown by the outer throwable and operates safely.
+         * This should never throw an exception.
+         *
+         * @param t the thrown throwable
+         * @param t1 the first input argument
+         * @param t2 the second input argument
+         * @param t3 the third input argument
+         * @param t4 the fourth input argument
+         * @param t5 the fifth input argument
+         * @param t6 the sixth input argument
+         */
+        void acceptThrown(final Throwable t, final T1 t1, final T2 t2, final T3 t3, final T4 t4, final T5 t5, final T6 t6);
+
+        @SuppressWarnings("unchecked")
+        @Override
+        default void acceptThrownUnchecked(final Throwable t, final Object... args) {
+            this.acceptThrown(t, (T1) args[0], (T2) args[1], (T3) args[2], (T4) args[3], (T5) args[4], (T6) args[5]);
+        }
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Throwability (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.throwable.abstracts.consumer;
+
+import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.consumer.abstracts.AbstractConsumer8;
+import net.ashwork.functionality.throwable.abstracts.AbstractThrowingFunction8;
+import net.ashwork.functionality.util.InheritOnly;
+
+/**
+ * Represents an operation that accepts eight arguments and returns no result or throws a throwable.
+ * This is the eight-arity specialization of {@link AbstractThrowingConsumerN}.
+ * This is the non-producing specialization of {@link AbstractThrowingFunction8}.
+ * This is the throwing variation of {@link AbstractConsumer8}.
+ *
+ * @apiNote
+ * This is an abstract consumer and should not be used directly. It should instead
+ * be called by one of its subtypes.
+ *
+ * @param <T1> the type of the first argument to the operation
+ * @param <T2> the type of the second argument to the operation
+ * @param <T3> the type of the third argument to the operation
+ * @param <T4> the type of the fourth argument to the operation
+ * @param <T5> the type of the fifth argument to the operation
+ * @param <T6> the type of the sixth argument to the operation
+ * @param <T7> the type of the seventh argument to the operation
+ * @param <T8> the type of the eighth argument to the operation
+ * @param <H> the type of the handler to safely call the consumer
+ * @param <C> the type of this consumer
+ *
+ * @see AbstractThrowingConsumerN
+ * @see AbstractThrowingFunction8
+ * @see AbstractConsumer8
+ * @since 1.0.0
+ */
+@InheritOnly
+public interface AbstractThrowingConsumer8<T1, T2, T3, T4, T5, T6, T7, T8, H extends AbstractThrowingConsumer8.Handler<T1, T2, T3, T4, T5, T6, T7, T8>, C extends AbstractThrowingConsumer8<T1, T2, T3, T4, T5, T6, T7, T8, H, C>> extends AbstractThrowingConsumerN<H, C> {
+
+    /**
+     * Performs this operation on the given arguments or throws a throwable.
+     *
+     * @param t1 the first input argument
+     * @param t2 the second input argument
+     * @param t3 the third input argument
+     * @param t4 the fourth input argument
+     * @param t5 the fifth input argument
+     * @param t6 the sixth input argument
+     * @param t7 the seventh input argument
+     * @param t8 the eighth input argument
+     * @throws Throwable if the operation cannot be performed
+     */
+    void accept(final T1 t1, final T2 t2, final T3 t3, final T4 t4, final T5 t5, final T6 t6, final T7 t7, final T8 t8) throws Throwable;
+
+    @SuppressWarnings("unchecked")
+    @Override
+    default void acceptAllUnchecked(final Object... args) throws Throwable {
+        this.accept((T1) args[0], (T2) args[1], (T3) args[2], (T4) args[3], (T5) args[4], (T6) args[5], (T7) args[6], (T8) args[7]);
+    }
+
+    @Override
+    default int arity() {
+        return 8;
+    }
+
+    /**
+     * @see AbstractConsumer8
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    default AbstractConsumer8<T1, T2, T3, T4, T5, T6, T7, T8, ?> handle(final H handler) {
+        return (AbstractConsumer8<T1, T2, T3, T4, T5, T6, T7, T8, ?>) AbstractThrowingConsumerN.super.handle(handler);
+    }
+
+    /**
+     * @see AbstractConsumer8
+     */
+    @Override
+    AbstractConsumer8<T1, T2, T3, T4, T5, T6, T7, T8, ?> swallow();
+
+    @Override
+    default AbstractThrowingConsumer8<T1, T2, T3, T4, T5, T6, T7, T8, H, C> andThen(final C after) {
+        return (AbstractThrowingConsumer8<T1, T2, T3, T4, T5, T6, T7, T8, H, C>) AbstractThrowingConsumerN.super.andThen(after);
+    }
+
+    @Override
+    AbstractThrowingConsumer8<T1, T2, T3, T4, T5, T6, T7, T8, H, C> andThenUnchecked(final C after);
+
+    /**
+     * @see AbstractThrowingFunction8
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    default <V> AbstractThrowingFunction8<T1, T2, T3, T4, T5, T6, T7, T8, V, ?> andThen(final Function1<? super Void, ? extends V> after) {
+        return (AbstractThrowingFunction8<T1, T2, T3, T4, T5, T6, T7, T8, V, ?>) AbstractThrowingConsumerN.super.andThen(after);
+    }
+
+    /**
+     * @see AbstractThrowingFunction8
+     */
+    @Override
+    <V> AbstractThrowingFunction8<T1, T2, T3, T4, T5, T6, T7, T8, V, ?> andThenUnchecked(final Function1<? super Void, ? extends V> after);
+
+    /**
+     * Represents a handler that takes in the outer throwable's parameters and
+     * the throwable and operates safely.
+     *
+     * @param <T1> the type of the first argument to the operation
+     * @param <T2> the type of the second argument to the operation
+     * @param <T3> the type of the third argument to the operation
+     * @param <T4> the type of the fourth argument to the operation
+     * @param <T5> the type of the fifth argument to the operation
+     * @param <T6> the type of the sixth argument to the operation
+     * @param <T7> the type of the seventh argument to the operation
+     * @param <T8> the type of the eighth argument to the operation
+     */
+    @FunctionalInterface
+    interface Handler<T1, T2, T3, T4, T5, T6, T7, T8> extends AbstractThrowingConsumerN.Handler {
+
+        /**
+         * Handles a throwable thrown by the outer throwable and operates safely.
+         * This should never throw an exception.
+         *
+         * @param t the thrown throwable
+         * @param t1 the first input argument
+         * @param t2 the second input argument
+         * @param t3 the third input argument
+         * @param t4 the fourth input argument
+         * @param t5 the fifth input argument
+         * @param t6 the sixth input argument
+         * @param t7 the seventh input argument
+         * @param t8 the eighth input argument
+         */
+        void acceptThrown(final Throwable t, final T1 t1, final T2 t2, final T3 t3, final T4 t4, final T5 t5, final T6 t6, final T7 t7, final T8 t8);
+
+        @SuppressWarnings("unchecked")
+        @Override
+        default void acceptThrownUnchecked(final Throwable t, final Object... args) {
+            this.acceptThrown(t, (T1) args[0], (T2) args[1], (T3) args[2], (T4) args[3], (T5) args[4], (T6) args[5], (T7) args[6], (T8) args[7]);
+        }
+    }
+}
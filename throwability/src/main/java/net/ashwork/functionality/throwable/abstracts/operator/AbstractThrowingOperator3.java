@@ -0,0 +1,56 @@
+/*
+ * Throwability (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.throwable.abstracts.operator;
+
+import net.ashwork.functionality.operator.Operator3;
+import net.ashwork.functionality.throwable.abstracts.AbstractThrowingFunction3;
+import net.ashwork.functionality.util.InheritOnly;
+
+/**
+ * Represents an operation that accepts three operands and produces a result of the same type as its operands.
+ * This is the three-arity specialization of {@link AbstractThrowingOperatorN}.
+ * This is a specialization of {@link AbstractThrowingFunction3} where the operands and result are of the same type.
+ * This is the throwing variation of {@link Operator3}.
+ *
+ * @apiNote
+ * This is an abstract operator and should not be used directly. It should instead
+ * be called by one of its subtypes.
+ *
+ * @param <T> the type of the operands and result of the operator
+ * @param <H> the type of the handler to safely call the operator
+ *
+ * @see AbstractThrowingOperatorN
+ * @see AbstractThrowingFunction3
+ * @see Operator3
+ * @since 1.0.0
+ */
+@InheritOnly
+public interface AbstractThrowingOperator3<T, H extends AbstractThrowingFunction3.Handler<T, T, T, T>> extends AbstractThrowingOperatorN<T, H>, AbstractThrowingFunction3<T, T, T, T, H> {
+
+    /**
+     * @see Operator3
+     */
+    @Override
+    default Operator3<T> handle(final H handler) {
+        return (final T t1, final T t2, final T t3) -> {
+            try {
+                return this.apply(t1, t2, t3);
+            } catch (final Throwable t) {
+                return handler.onThrown(t, t1, t2, t3);
+            }
+        };
+    }
+
+    /**
+     * @see Operator3
+     */
+    @Override
+    Operator3<T> swallow();
+}
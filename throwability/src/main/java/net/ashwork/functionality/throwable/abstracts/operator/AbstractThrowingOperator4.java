@@ -0,0 +1,56 @@
+/*
+ * Throwability (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.throwable.abstracts.operator;
+
+import net.ashwork.functionality.operator.Operator4;
+import net.ashwork.functionality.throwable.abstracts.AbstractThrowingFunction4;
+import net.ashwork.functionality.util.InheritOnly;
+
+/**
+ * Represents an operation that accepts four operands and produces a result of the same type as its operands.
+ * This is the four-arity specialization of {@link AbstractThrowingOperatorN}.
+ * This is a specialization of {@link AbstractThrowingFunction4} where the operands and result are of the same type.
+ * This is the throwing variation of {@link Operator4}.
+ *
+ * @apiNote
+ * This is an abstract operator and should not be used directly. It should instead
+ * be called by one of its subtypes.
+ *
+ * @param <T> the type of the operands and result of the operator
+ * @param <H> the type of the handler to safely call the operator
+ *
+ * @see AbstractThrowingOperatorN
+ * @see AbstractThrowingFunction4
+ * @see Operator4
+ * @since 1.0.0
+ */
+@InheritOnly
+public interface AbstractThrowingOperator4<T, H extends AbstractThrowingFunction4.Handler<T, T, T, T, T>> extends AbstractThrowingOperatorN<T, H>, AbstractThrowingFunction4<T, T, T, T, T, H> {
+
+    /**
+     * @see Operator4
+     */
+    @Override
+    default Operator4<T> handle(final H handler) {
+        return (final T t1, final T t2, final T t3, final T t4) -> {
+            try {
+                return this.apply(t1, t2, t3, t4);
+            } catch (final Throwable t) {
+                return handler.onThrown(t, t1, t2, t3, t4);
+            }
+        };
+    }
+
+    /**
+     * @see Operator4
+     */
+    @Override
+    Operator4<T> swallow();
+}
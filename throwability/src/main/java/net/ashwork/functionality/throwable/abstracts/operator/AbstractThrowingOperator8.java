@@ -0,0 +1,56 @@
+/*
+ * Throwability (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.throwable.abstracts.operator;
+
+import net.ashwork.functionality.operator.Operator8;
+import net.ashwork.functionality.throwable.abstracts.AbstractThrowingFunction8;
+import net.ashwork.functionality.util.InheritOnly;
+
+/**
+ * Represents an operation that accepts eight operands and produces a result of the same type as its operands.
+ * This is the eight-arity specialization of {@link AbstractThrowingOperatorN}.
+ * This is a specialization of {@link AbstractThrowingFunction8} where the operands and result are of the same type.
+ * This is the throwing variation of {@link Operator8}.
+ *
+ * @apiNote
+ * This is an abstract operator and should not be used directly. It should instead
+ * be called by one of its subtypes.
+ *
+ * @param <T> the type of the operands and result of the operator
+ * @param <H> the type of the handler to safely call the operator
+ *
+ * @see AbstractThrowingOperatorN
+ * @see AbstractThrowingFunction8
+ * @see Operator8
+ * @since 1.0.0
+ */
+@InheritOnly
+public interface AbstractThrowingOperator8<T, H extends AbstractThrowingFunction8.Handler<T, T, T, T, T, T, T, T, T>> extends AbstractThrowingOperatorN<T, H>, AbstractThrowingFunction8<T, T, T, T, T, T, T, T, T, H> {
+
+    /**
+     * @see Operator8
+     */
+    @Override
+    default Operator8<T> handle(final H handler) {
+        return (final T t1, final T t2, final T t3, final T t4, final T t5, final T t6, final T t7, final T t8) -> {
+            try {
+                return this.apply(t1, t2, t3, t4, t5, t6, t7, t8);
+            } catch (final Throwable t) {
+                return handler.onThrown(t, t1, t2, t3, t4, t5, t6, t7, t8);
+            }
+        };
+    }
+
+    /**
+     * @see Operator8
+     */
+    @Override
+    Operator8<T> swallow();
+}
@@ -0,0 +1,173 @@
+/*
+ * Throwability (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.throwable.abstracts.predicate;
+
+import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.predicate.abstracts.AbstractPredicate7;
+import net.ashwork.functionality.throwable.abstracts.AbstractThrowingFunction7;
+import net.ashwork.functionality.util.InheritOnly;
+
+/**
+ * Represents a predicate that accepts seven arguments and produces a {@code boolean}-valued result or throws a throwable.
+ * This is the seven-arity specialization for {@link AbstractThrowingPredicateN}.
+ * This is the throwing variation of {@link AbstractPredicate7}.
+ *
+ * @apiNote
+ * This is an abstract predicate and should not be used directly. It should instead
+ * be called by one of its subtypes.
+ *
+ * @param <T1> the type of the first argument to the predicate
+ * @param <T2> the type of the second argument to the predicate
+ * @param <T3> the type of the third argument to the predicate
+ * @param <T4> the type of the fourth argument to the predicate
+ * @param <T5> the type of the fifth argument to the predicate
+ * @param <T6> the type of the sixth argument to the predicate
+ * @param <T7> the type of the seventh argument to the predicate
+ * @param <H> the type of the handler to safely call the predicate
+ * @param <P> the type of this predicate
+ *
+ * @see AbstractThrowingPredicateN
+ * @see AbstractPredicate7
+ * @since 1.0.0
+ */
+@InheritOnly
+public interface AbstractThrowingPredicate7<T1, T2, T3, T4, T5, T6, T7, H extends AbstractThrowingPredicate7.Handler<T1, T2, T3, T4, T5, T6, T7>, P extends AbstractThrowingPredicate7<T1, T2, T3, T4, T5, T6, T7, H, P>> extends AbstractThrowingPredicateN<H, P> {
+
+    /**
+     * Evaluates this predicate on the given arguments or throws a throwable.
+     *
+     * @param t1 the first input argument
+     * @param t2 the second input argument
+     * @param t3 the third input argument
+     * @param t4 the fourth input argument
+     * @param t5 the fifth input argument
+     * @param t6 the sixth input argument
+     * @param t7 the seventh input argument
+     * @return {@code true} if the input arguments match the predicate, otherwise
+     *         {@code false}
+     * @throws Throwable if the predicate cannot be evaluated
+     */
+    boolean test(final T1 t1, final T2 t2, final T3 t3, final T4 t4, final T5 t5, final T6 t6, final T7 t7) throws Throwable;
+
+    @SuppressWarnings("unchecked")
+    @Override
+    default boolean testAllUnchecked(final Object... args) throws Throwable {
+        return this.test((T1) args[0], (T2) args[1], (T3) args[2], (T4) args[3], (T5) args[4], (T6) args[5], (T7) args[6]);
+    }
+
+    @Override
+    default int arity() {
+        return 7;
+    }
+
+    /**
+     * @see AbstractPredicate7
+     */
+    @Override
+    AbstractPredicate7<T1, T2, T3, T4, T5, T6, T7, ?> handle(final H handler);
+
+    /**
+     * @see AbstractPredicate7
+     */
+    @Override
+    AbstractPredicate7<T1, T2, T3, T4, T5, T6, T7, ?> swallow();
+
+    /**
+     * @see AbstractThrowingFunction7
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    default <V> AbstractThrowingFunction7<T1, T2, T3, T4, T5, T6, T7, V, ?> andThen(final Function1<? super Boolean, ? extends V> after) {
+        return (AbstractThrowingFunction7<T1, T2, T3, T4, T5, T6, T7, V, ?>) AbstractThrowingPredicateN.super.andThen(after);
+    }
+
+    /**
+     * @see AbstractThrowingFunction7
+     */
+    @Override
+    <V> AbstractThrowingFunction7<T1, T2, T3, T4, T5, T6, T7, V, ?> andThenUnchecked(final Function1<? super Boolean, ? extends V> after);
+
+    @Override
+    AbstractThrowingPredicate7<T1, T2, T3, T4, T5, T6, T7, H, P> not();
+
+    @Override
+    AbstractThrowingPredicate7<T1, T2, T3, T4, T5, T6, T7, H, P> and(final P other);
+
+    @Override
+    AbstractThrowingPredicate7<T1, T2, T3, T4, T5, T6, T7, H, P> or(final P other);
+
+    @Override
+    default AbstractThrowingPredicate7<T1, T2, T3, T4, T5, T6, T7, H, P> xor(final P other) {
+        return (AbstractThrowingPredicate7<T1, T2, T3, T4, T5, T6, T7, H, P>) AbstractThrowingPredicateN.super.xor(other);
+    }
+
+    @Override
+    default AbstractThrowingPredicate7<T1, T2, T3, T4, T5, T6, T7, H, P> sub(final P other) {
+        return (AbstractThrowingPredicate7<T1, T2, T3, T4, T5, T6, T7, H, P>) AbstractThrowingPredicateN.super.sub(other);
+    }
+
+    @Override
+    default AbstractThrowingPredicate7<T1, T2, T3, T4, T5, T6, T7, H, P> nand(final P other) {
+        return (AbstractThrowingPredicate7<T1, T2, T3, T4, T5, T6, T7, H, P>) AbstractThrowingPredicateN.super.nand(other);
+    }
+
+    @Override
+    default AbstractThrowingPredicate7<T1, T2, T3, T4, T5, T6, T7, H, P> nor(final P other) {
+        return (AbstractThrowingPredicate7<T1, T2, T3, T4, T5, T6, T7, H, P>) AbstractThrowingPredicateN.super.nor(other);
+    }
+
+    @Override
+    default AbstractThrowingPredicate7<T1, T2, T3, T4, T5, T6, T7, H, P> xnor(final P other) {
+        return (AbstractThrowingPredicate7<T1, T2, T3, T4, T5, T6, T7, H, P>) AbstractThrowingPredicateN.super.xnor(other);
+    }
+
+    @Override
+    default AbstractThrowingPredicate7<T1, T2, T3, T4, T5, T6, T7, H, P> orNot(final P other) {
+        return (AbstractThrowingPredicate7<T1, T2, T3, T4, T5, T6, T7, H, P>) AbstractThrowingPredicateN.super.orNot(other);
+    }
+
+    /**
+     * Represents a handler that takes in the outer throwable's parameters and
+     * the throwable and returns a result safely.
+     *
+     * @param <T1> the type of the first argument to the predicate
+     * @param <T2> the type of the second argument to the predicate
+     * @param <T3> the type of the third argument to the predicate
+     * @param <T4> the type of the fourth argument to the predicate
+     * @param <T5> the type of the fifth argument to the predicate
+     * @param <T6> the type of the sixth argument to the predicate
+     * @param <T7> the type of the seventh argument to the predicate
+     */
+    @FunctionalInterface
+    interface Handler<T1, T2, T3, T4, T5, T6, T7> extends AbstractThrowingPredicateN.Handler {
+
+        /**
+         * Handles a throwable thrown by the outer throwable and returns safely.
+         * This should never throw an exception.
+         *
+         * @param t the thrown throwable
+         * @param t1 the first input argument
+         * @param t2 the second input argument
+         * @param t3 the third input argument
+         * @param t4 the fourth input argument
+         * @param t5 the fifth input argument
+         * @param t6 the sixth input argument
+         * @param t7 the seventh input argument
+         * @return the handled result
+         */
+        boolean testThrown(final Throwable t, final T1 t1, final T2 t2, final T3 t3, final T4 t4, final T5 t5, final T6 t6, final T7 t7);
+
+        @SuppressWarnings("unchecked")
+        @Override
+        default boolean testThrownUnchecked(final Throwable t, final Object... args) {
+            return this.testThrown(t, (T1) args[0], (T2) args[1], (T3) args[2], (T4) args[3], (T5) args[4], (T6) args[5], (T7) args[6]);
+        }
+    }
+}
@@ -10,12 +10,28 @@
 package net.ashwork.functionality.throwable.abstracts.predicate.primitive.chars;
 
 import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.operator.primitive.chars.CharOperator1;
 import net.ashwork.functionality.partial.FunctionVariant;
 import net.ashwork.functionality.partial.InputChainableInput;
 import net.ashwork.functionality.partial.UnboxedInput;
 import net.ashwork.functionality.predicate.abstracts.primitive.chars.AbstractCharPredicate1;
+import net.ashwork.functionality.primitive.chars.ToCharFunction1;
+import net.ashwork.functionality.primitive.combined.BooleanToCharFunction1;
+import net.ashwork.functionality.primitive.combined.ByteToCharFunction1;
+import net.ashwork.functionality.primitive.combined.DoubleToCharFunction1;
+import net.ashwork.functionality.primitive.combined.FloatToCharFunction1;
+import net.ashwork.functionality.primitive.combined.IntToCharFunction1;
+import net.ashwork.functionality.primitive.combined.LongToCharFunction1;
+import net.ashwork.functionality.primitive.combined.ShortToCharFunction1;
 import net.ashwork.functionality.throwable.abstracts.predicate.AbstractThrowingPredicate1;
 import net.ashwork.functionality.throwable.abstracts.predicate.AbstractThrowingPredicateN;
+import net.ashwork.functionality.throwable.abstracts.predicate.primitive.booleans.AbstractThrowingBooleanPredicate1;
+import net.ashwork.functionality.throwable.abstracts.predicate.primitive.bytes.AbstractThrowingBytePredicate1;
+import net.ashwork.functionality.throwable.abstracts.predicate.primitive.doubles.AbstractThrowingDoublePredicate1;
+import net.ashwork.functionality.throwable.abstracts.predicate.primitive.floats.AbstractThrowingFloatPredicate1;
+import net.ashwork.functionality.throwable.abstracts.predicate.primitive.ints.AbstractThrowingIntPredicate1;
+import net.ashwork.functionality.throwable.abstracts.predicate.primitive.longs.AbstractThrowingLongPredicate1;
+import net.ashwork.functionality.throwable.abstracts.predicate.primitive.shorts.AbstractThrowingShortPredicate1;
 import net.ashwork.functionality.throwable.abstracts.primitive.chars.AbstractThrowingCharFunction1;
 import net.ashwork.functionality.throwable.abstracts.primitive.combined.AbstractThrowingCharToBooleanFunction1;
 import net.ashwork.functionality.util.InheritOnly;
@@ -102,6 +118,143 @@ public interface AbstractThrowingCharPredicate1<H extends AbstractThrowingCharPr
     @Override
     <V> AbstractThrowingPredicate1<V, ?, ?> composeUnchecked(final Function1<? super V, ? extends Character> before);
 
+    /**
+     * Returns a composed predicate that applies the {@code before} function to its
+     * input, and then evaluates this predicate on the {@code char}-valued result
+     * without boxing it. If evaluation of either throws an exception, it is relayed
+     * to the caller of the composed predicate.
+     *
+     * @param before the function to apply before this predicate is evaluated
+     * @param <V> the type of the input to the {@code before} function, and to
+     *            the composed predicate
+     * @return a composed predicate that first applies the {@code before} function
+     *         and then evaluates this predicate
+     * @throws NullPointerException if {@code before} is null
+     *
+     * @see AbstractThrowingPredicate1
+     */
+    <V> AbstractThrowingPredicate1<V, ?, ?> composeObj(final ToCharFunction1<? super V> before);
+
+    /**
+     * Returns a composed predicate that applies the {@code before} function to its
+     * {@code boolean}-valued input, and then evaluates this predicate on the {@code char}-valued
+     * result without boxing either. If evaluation of either throws an exception, it is
+     * relayed to the caller of the composed predicate.
+     *
+     * @param before the function to apply before this predicate is evaluated
+     * @return a composed predicate that first applies the {@code before} function
+     *         and then evaluates this predicate
+     * @throws NullPointerException if {@code before} is null
+     *
+     * @see AbstractThrowingBooleanPredicate1
+     */
+    AbstractThrowingBooleanPredicate1<?, ?> composeBoolean(final BooleanToCharFunction1 before);
+
+    /**
+     * Returns a composed predicate that applies the {@code before} function to its
+     * {@code byte}-valued input, and then evaluates this predicate on the {@code char}-valued
+     * result without boxing either. If evaluation of either throws an exception, it is
+     * relayed to the caller of the composed predicate.
+     *
+     * @param before the function to apply before this predicate is evaluated
+     * @return a composed predicate that first applies the {@code before} function
+     *         and then evaluates this predicate
+     * @throws NullPointerException if {@code before} is null
+     *
+     * @see AbstractThrowingBytePredicate1
+     */
+    AbstractThrowingBytePredicate1<?, ?> composeByte(final ByteToCharFunction1 before);
+
+    /**
+     * Returns a composed predicate that applies the {@code before} function to its
+     * {@code char}-valued input, and then evaluates this predicate on the {@code char}-valued
+     * result without boxing either. If evaluation of either throws an exception, it is
+     * relayed to the caller of the composed predicate.
+     *
+     * @param before the function to apply before this predicate is evaluated
+     * @return a composed predicate that first applies the {@code before} function
+     *         and then evaluates this predicate
+     * @throws NullPointerException if {@code before} is null
+     *
+     * @see AbstractThrowingCharPredicate1
+     */
+    AbstractThrowingCharPredicate1<?, ?> composeChar(final CharOperator1 before);
+
+    /**
+     * Returns a composed predicate that applies the {@code before} function to its
+     * {@code short}-valued input, and then evaluates this predicate on the {@code char}-valued
+     * result without boxing either. If evaluation of either throws an exception, it is
+     * relayed to the caller of the composed predicate.
+     *
+     * @param before the function to apply before this predicate is evaluated
+     * @return a composed predicate that first applies the {@code before} function
+     *         and then evaluates this predicate
+     * @throws NullPointerException if {@code before} is null
+     *
+     * @see AbstractThrowingShortPredicate1
+     */
+    AbstractThrowingShortPredicate1<?, ?> composeShort(final ShortToCharFunction1 before);
+
+    /**
+     * Returns a composed predicate that applies the {@code before} function to its
+     * {@code int}-valued input, and then evaluates this predicate on the {@code char}-valued
+     * result without boxing either. If evaluation of either throws an exception, it is
+     * relayed to the caller of the composed predicate.
+     *
+     * @param before the function to apply before this predicate is evaluated
+     * @return a composed predicate that first applies the {@code before} function
+     *         and then evaluates this predicate
+     * @throws NullPointerException if {@code before} is null
+     *
+     * @see AbstractThrowingIntPredicate1
+     */
+    AbstractThrowingIntPredicate1<?, ?> composeInt(final IntToCharFunction1 before);
+
+    /**
+     * Returns a composed predicate that applies the {@code before} function to its
+     * {@code long}-valued input, and then evaluates this predicate on the {@code char}-valued
+     * result without boxing either. If evaluation of either throws an exception, it is
+     * relayed to the caller of the composed predicate.
+     *
+     * @param before the function to apply before this predicate is evaluated
+     * @return a composed predicate that first applies the {@code before} function
+     *         and then evaluates this predicate
+     * @throws NullPointerException if {@code before} is null
+     *
+     * @see AbstractThrowingLongPredicate1
+     */
+    AbstractThrowingLongPredicate1<?, ?> composeLong(final LongToCharFunction1 before);
+
+    /**
+     * Returns a composed predicate that applies the {@code before} function to its
+     * {@code float}-valued input, and then evaluates this predicate on the {@code char}-valued
+     * result without boxing either. If evaluation of either throws an exception, it is
+     * relayed to the caller of the composed predicate.
+     *
+     * @param before the function to apply before this predicate is evaluated
+     * @return a composed predicate that first applies the {@code before} function
+     *         and then evaluates this predicate
+     * @throws NullPointerException if {@code before} is null
+     *
+     * @see AbstractThrowingFloatPredicate1
+     */
+    AbstractThrowingFloatPredicate1<?, ?> composeFloat(final FloatToCharFunction1 before);
+
+    /**
+     * Returns a composed predicate that applies the {@code before} function to its
+     * {@code double}-valued input, and then evaluates this predicate on the {@code char}-valued
+     * result without boxing either. If evaluation of either throws an exception, it is
+     * relayed to the caller of the composed predicate.
+     *
+     * @param before the function to apply before this predicate is evaluated
+     * @return a composed predicate that first applies the {@code before} function
+     *         and then evaluates this predicate
+     * @throws NullPointerException if {@code before} is null
+     *
+     * @see AbstractThrowingDoublePredicate1
+     */
+    AbstractThrowingDoublePredicate1<?, ?> composeDouble(final DoubleToCharFunction1 before);
+
     /**
      * @see AbstractThrowingCharFunction1
      */
@@ -10,14 +10,30 @@
 package net.ashwork.functionality.throwable.abstracts.predicate.primitive.doubles;
 
 import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.operator.primitive.doubles.DoubleOperator1;
 import net.ashwork.functionality.partial.FunctionVariant;
 import net.ashwork.functionality.partial.InputChainableInput;
 import net.ashwork.functionality.partial.UnboxedInput;
 import net.ashwork.functionality.predicate.abstracts.primitive.doubles.AbstractDoublePredicate1;
+import net.ashwork.functionality.primitive.combined.BooleanToDoubleFunction1;
+import net.ashwork.functionality.primitive.combined.ByteToDoubleFunction1;
+import net.ashwork.functionality.primitive.combined.CharToDoubleFunction1;
+import net.ashwork.functionality.primitive.combined.FloatToDoubleFunction1;
+import net.ashwork.functionality.primitive.combined.IntToDoubleFunction1;
+import net.ashwork.functionality.primitive.combined.LongToDoubleFunction1;
+import net.ashwork.functionality.primitive.combined.ShortToDoubleFunction1;
+import net.ashwork.functionality.primitive.doubles.ToDoubleFunction1;
 import net.ashwork.functionality.throwable.abstracts.predicate.AbstractThrowingPredicate1;
 import net.ashwork.functionality.throwable.abstracts.predicate.AbstractThrowingPredicateN;
-import net.ashwork.functionality.throwable.abstracts.primitive.doubles.AbstractThrowingDoubleFunction1;
+import net.ashwork.functionality.throwable.abstracts.predicate.primitive.booleans.AbstractThrowingBooleanPredicate1;
+import net.ashwork.functionality.throwable.abstracts.predicate.primitive.bytes.AbstractThrowingBytePredicate1;
+import net.ashwork.functionality.throwable.abstracts.predicate.primitive.chars.AbstractThrowingCharPredicate1;
+import net.ashwork.functionality.throwable.abstracts.predicate.primitive.floats.AbstractThrowingFloatPredicate1;
+import net.ashwork.functionality.throwable.abstracts.predicate.primitive.ints.AbstractThrowingIntPredicate1;
+import net.ashwork.functionality.throwable.abstracts.predicate.primitive.longs.AbstractThrowingLongPredicate1;
+import net.ashwork.functionality.throwable.abstracts.predicate.primitive.shorts.AbstractThrowingShortPredicate1;
 import net.ashwork.functionality.throwable.abstracts.primitive.combined.AbstractThrowingDoubleToBooleanFunction1;
+import net.ashwork.functionality.throwable.abstracts.primitive.doubles.AbstractThrowingDoubleFunction1;
 import net.ashwork.functionality.util.InheritOnly;
 
 /**
@@ -102,6 +118,143 @@ public interface AbstractThrowingDoublePredicate1<H extends AbstractThrowingDoub
     @Override
     <V> AbstractThrowingPredicate1<V, ?, ?> composeUnchecked(final Function1<? super V, ? extends Double> before);
 
+    /**
+     * Returns a composed predicate that applies the {@code before} function to its
+     * input, and then evaluates this predicate on the {@code double}-valued result
+     * without boxing it. If evaluation of either throws an exception, it is relayed
+     * to the caller of the composed predicate.
+     *
+     * @param before the function to apply before this predicate is evaluated
+     * @param <V> the type of the input to the {@code before} function, and to
+     *            the composed predicate
+     * @return a composed predicate that first applies the {@code before} function
+     *         and then evaluates this predicate
+     * @throws NullPointerException if {@code before} is null
+     *
+     * @see AbstractThrowingPredicate1
+     */
+    <V> AbstractThrowingPredicate1<V, ?, ?> composeObj(final ToDoubleFunction1<? super V> before);
+
+    /**
+     * Returns a composed predicate that applies the {@code before} function to its
+     * {@code boolean}-valued input, and then evaluates this predicate on the {@code double}-valued
+     * result without boxing either. If evaluation of either throws an exception, it is
+     * relayed to the caller of the composed predicate.
+     *
+     * @param before the function to apply before this predicate is evaluated
+     * @return a composed predicate that first applies the {@code before} function
+     *         and then evaluates this predicate
+     * @throws NullPointerException if {@code before} is null
+     *
+     * @see AbstractThrowingBooleanPredicate1
+     */
+    AbstractThrowingBooleanPredicate1<?, ?> composeBoolean(final BooleanToDoubleFunction1 before);
+
+    /**
+     * Returns a composed predicate that applies the {@code before} function to its
+     * {@code byte}-valued input, and then evaluates this predicate on the {@code double}-valued
+     * result without boxing either. If evaluation of either throws an exception, it is
+     * relayed to the caller of the composed predicate.
+     *
+     * @param before the function to apply before this predicate is evaluated
+     * @return a composed predicate that first applies the {@code before} function
+     *         and then evaluates this predicate
+     * @throws NullPointerException if {@code before} is null
+     *
+     * @see AbstractThrowingBytePredicate1
+     */
+    AbstractThrowingBytePredicate1<?, ?> composeByte(final ByteToDoubleFunction1 before);
+
+    /**
+     * Returns a composed predicate that applies the {@code before} function to its
+     * {@code char}-valued input, and then evaluates this predicate on the {@code double}-valued
+     * result without boxing either. If evaluation of either throws an exception, it is
+     * relayed to the caller of the composed predicate.
+     *
+     * @param before the function to apply before this predicate is evaluated
+     * @return a composed predicate that first applies the {@code before} function
+     *         and then evaluates this predicate
+     * @throws NullPointerException if {@code before} is null
+     *
+     * @see AbstractThrowingCharPredicate1
+     */
+    AbstractThrowingCharPredicate1<?, ?> composeChar(final CharToDoubleFunction1 before);
+
+    /**
+     * Returns a composed predicate that applies the {@code before} function to its
+     * {@code short}-valued input, and then evaluates this predicate on the {@code double}-valued
+     * result without boxing either. If evaluation of either throws an exception, it is
+     * relayed to the caller of the composed predicate.
+     *
+     * @param before the function to apply before this predicate is evaluated
+     * @return a composed predicate that first applies the {@code before} function
+     *         and then evaluates this predicate
+     * @throws NullPointerException if {@code before} is null
+     *
+     * @see AbstractThrowingShortPredicate1
+     */
+    AbstractThrowingShortPredicate1<?, ?> composeShort(final ShortToDoubleFunction1 before);
+
+    /**
+     * Returns a composed predicate that applies the {@code before} function to its
+     * {@code int}-valued input, and then evaluates this predicate on the {@code double}-valued
+     * result without boxing either. If evaluation of either throws an exception, it is
+     * relayed to the caller of the composed predicate.
+     *
+     * @param before the function to apply before this predicate is evaluated
+     * @return a composed predicate that first applies the {@code before} function
+     *         and then evaluates this predicate
+     * @throws NullPointerException if {@code before} is null
+     *
+     * @see AbstractThrowingIntPredicate1
+     */
+    AbstractThrowingIntPredicate1<?, ?> composeInt(final IntToDoubleFunction1 before);
+
+    /**
+     * Returns a composed predicate that applies the {@code before} function to its
+     * {@code long}-valued input, and then evaluates this predicate on the {@code double}-valued
+     * result without boxing either. If evaluation of either throws an exception, it is
+     * relayed to the caller of the composed predicate.
+     *
+     * @param before the function to apply before this predicate is evaluated
+     * @return a composed predicate that first applies the {@code before} function
+     *         and then evaluates this predicate
+     * @throws NullPointerException if {@code before} is null
+     *
+     * @see AbstractThrowingLongPredicate1
+     */
+    AbstractThrowingLongPredicate1<?, ?> composeLong(final LongToDoubleFunction1 before);
+
+    /**
+     * Returns a composed predicate that applies the {@code before} function to its
+     * {@code float}-valued input, and then evaluates this predicate on the {@code double}-valued
+     * result without boxing either. If evaluation of either throws an exception, it is
+     * relayed to the caller of the composed predicate.
+     *
+     * @param before the function to apply before this predicate is evaluated
+     * @return a composed predicate that first applies the {@code before} function
+     *         and then evaluates this predicate
+     * @throws NullPointerException if {@code before} is null
+     *
+     * @see AbstractThrowingFloatPredicate1
+     */
+    AbstractThrowingFloatPredicate1<?, ?> composeFloat(final FloatToDoubleFunction1 before);
+
+    /**
+     * Returns a composed predicate that applies the {@code before} function to its
+     * {@code double}-valued input, and then evaluates this predicate on the {@code double}-valued
+     * result without boxing either. If evaluation of either throws an exception, it is
+     * relayed to the caller of the composed predicate.
+     *
+     * @param before the function to apply before this predicate is evaluated
+     * @return a composed predicate that first applies the {@code before} function
+     *         and then evaluates this predicate
+     * @throws NullPointerException if {@code before} is null
+     *
+     * @see AbstractThrowingDoublePredicate1
+     */
+    AbstractThrowingDoublePredicate1<?, ?> composeDouble(final DoubleOperator1 before);
+
     /**
      * @see AbstractThrowingDoubleFunction1
      */
@@ -0,0 +1,246 @@
+/*
+ * Throwability (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.throwable.concurrent;
+
+import net.ashwork.functionality.predicate.Predicate1;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Represents a cap on the number of calls to a dependency which may be in flight
+ * at once. A call made while the cap is reached is rejected with a
+ * {@link BulkheadFullException} without calling the dependency, rather than
+ * adding to its load.
+ *
+ * <p>The limit is either fixed, or adapted to the latency of the dependency using
+ * additive increase and multiplicative decrease: a call which completes within
+ * the latency threshold and was admitted while the bulkhead was more than half
+ * full raises the limit by one, while a call which exceeds the threshold, or throws
+ * a throwable taken as a sign of overload, multiplies the limit by {@value #BACKOFF_RATIO}.
+ * The limit is multiplied at most once for the calls admitted before it was last
+ * multiplied, so a burst of slow calls cuts it once rather than once per call. The
+ * limit therefore settles near the concurrency the dependency can serve before its
+ * latency starts to climb.
+ *
+ * <p>A bulkhead is shared by every stage wrapped with {@code bulkhead} which calls
+ * the same dependency. It never locks or waits. Since a rejection is thrown like
+ * any other failure, the existing {@code handle} and {@code swallow} methods turn
+ * it into a fallback.
+ *
+ * @see net.ashwork.functionality.throwable.ThrowingFunction1#bulkhead(Bulkhead)
+ * @since 1.0.0
+ */
+public final class Bulkhead {
+
+    private static final double BACKOFF_RATIO = 0.9;
+    private static final long BUSY = 1L;
+
+    private final AtomicInteger inFlight;
+    private final AtomicInteger limit;
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final Predicate1<? super Throwable> overload;
+    private final AtomicLong lastDecreaseNanos;
+
+    private Bulkhead(final int initialLimit, final int minLimit, final int maxLimit, final long latencyThresholdNanos,
+                     final Predicate1<? super Throwable> overload) {
+        this.inFlight = new AtomicInteger();
+        this.limit = new AtomicInteger(initialLimit);
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyThresholdNanos = latencyThresholdNanos;
+        this.overload = overload;
+        // Set before any permit, whose admission time may have its lowest bit cleared, so the first overloaded call may cut the limit
+        this.lastDecreaseNanos = new AtomicLong((System.nanoTime() & ~BUSY) - 1);
+    }
+
+    /**
+     * Creates a bulkhead whose limit never changes.
+     *
+     * @param maxConcurrentCalls the maximum number of calls in flight at once
+     * @return a new bulkhead
+     * @throws IllegalArgumentException if {@code maxConcurrentCalls} is not positive
+     */
+    public static Bulkhead fixed(final int maxConcurrentCalls) {
+        if (maxConcurrentCalls <= 0)
+            throw new IllegalArgumentException("The maximum number of concurrent calls must be positive: " + maxConcurrentCalls);
+        return new Bulkhead(maxConcurrentCalls, maxConcurrentCalls, maxConcurrentCalls, -1L, t -> false);
+    }
+
+    /**
+     * Creates a bulkhead whose limit adapts to the latency of the calls it permits,
+     * staying between one and {@code maxLimit}. Only slow calls are taken as a sign
+     * of overload; a call which throws never raises the limit, but does not cut it
+     * unless it was slow.
+     *
+     * @param initialLimit the limit to start with
+     * @param maxLimit the largest the limit may grow to
+     * @param latencyThreshold the latency above which a call is taken as a sign of overload
+     * @return a new adaptive bulkhead
+     * @throws IllegalArgumentException if {@code initialLimit} is not between one and {@code maxLimit},
+     *                                  or {@code latencyThreshold} is not positive
+     * @throws NullPointerException if {@code latencyThreshold} is null
+     */
+    public static Bulkhead adaptive(final int initialLimit, final int maxLimit, final Duration latencyThreshold) {
+        return adaptive(initialLimit, maxLimit, latencyThreshold, t -> false);
+    }
+
+    /**
+     * Creates a bulkhead whose limit adapts to the latency of the calls it permits,
+     * staying between one and {@code maxLimit}. Calls which throw a throwable matching
+     * {@code overload}, such as a timeout or a rejection by the dependency, are taken
+     * as a sign of overload in the same way as slow calls.
+     *
+     * @param initialLimit the limit to start with
+     * @param maxLimit the largest the limit may grow to
+     * @param latencyThreshold the latency above which a call is taken as a sign of overload
+     * @param overload tests whether a thrown throwable is a sign of overload
+     * @return a new adaptive bulkhead
+     * @throws IllegalArgumentException if {@code initialLimit} is not between one and {@code maxLimit},
+     *                                  or {@code latencyThreshold} is not positive
+     * @throws NullPointerException if {@code latencyThreshold} or {@code overload} is null
+     */
+    public static Bulkhead adaptive(final int initialLimit, final int maxLimit, final Duration latencyThreshold,
+                                    final Predicate1<? super Throwable> overload) {
+        if (initialLimit <= 0 || initialLimit > maxLimit)
+            throw new IllegalArgumentException("The initial limit must be between 1 and the maximum limit: " + initialLimit);
+        Objects.requireNonNull(latencyThreshold, "The latency threshold cannot be null.");
+        if (latencyThreshold.isNegative() || latencyThreshold.isZero())
+            throw new IllegalArgumentException("The latency threshold must be positive: " + latencyThreshold);
+        Objects.requireNonNull(overload, "The overload predicate cannot be null.");
+        return new Bulkhead(initialLimit, 1, maxLimit, latencyThreshold.toNanos(), overload);
+    }
+
+    /**
+     * Returns the number of calls currently in flight.
+     *
+     * @return the number of calls in flight
+     */
+    public int inFlight() {
+        return this.inFlight.get();
+    }
+
+    /**
+     * Returns the current maximum number of calls in flight at once.
+     *
+     * @return the current limit
+     */
+    public int limit() {
+        return this.limit.get();
+    }
+
+    /**
+     * Returns whether the limit of this bulkhead adapts to latency.
+     *
+     * @return {@code true} if the limit is adaptive, otherwise {@code false}
+     */
+    public boolean isAdaptive() {
+        return this.latencyThresholdNanos >= 0;
+    }
+
+    /**
+     * Asks for permission to call the dependency. Every call which is permitted
+     * must be followed by {@link #release(long, Throwable)} with the returned permit.
+     *
+     * @return the permit to release the call with
+     * @throws BulkheadFullException if the limit of calls in flight is reached
+     */
+    public long acquire() {
+        int current, limit;
+        do {
+            current = this.inFlight.get();
+            limit = this.limit.get();
+            if (current >= limit)
+                throw new BulkheadFullException(this);
+        } while (!this.inFlight.compareAndSet(current, current + 1));
+        // The permit is the time of admission, with its lowest bit marking whether the bulkhead was more than half full
+        final long busy = (current + 1) * 2 > limit ? BUSY : 0L;
+        return (System.nanoTime() & ~BUSY) | busy;
+    }
+
+    /**
+     * Records that a permitted call has finished, adapting the limit if this
+     * bulkhead is adaptive. The limit only grows if the call returned and the
+     * bulkhead was more than half full when it was admitted, so a bulkhead called
+     * one at a time does not drift upwards. The limit is only cut by a call admitted
+     * after the last cut, since the calls admitted before it already caused it.
+     *
+     * @param permit the permit returned by {@link #acquire()}
+     * @param thrown the throwable thrown by the call, or {@code null} if it returned
+     */
+    public void release(final long permit, final Throwable thrown) {
+        this.inFlight.decrementAndGet();
+        if (this.latencyThresholdNanos < 0)
+            return;
+        final long admitted = permit & ~BUSY, now = System.nanoTime();
+        if (now - admitted > this.latencyThresholdNanos || (thrown != null && this.overload.test(thrown)))
+            this.decrease(admitted, now);
+        else if (thrown == null && (permit & BUSY) != 0)
+            this.increase();
+    }
+
+    private void increase() {
+        int current;
+        do {
+            current = this.limit.get();
+            if (current >= this.maxLimit)
+                return;
+        } while (!this.limit.compareAndSet(current, current + 1));
+    }
+
+    private void decrease(final long admitted, final long now) {
+        long last;
+        do {
+            last = this.lastDecreaseNanos.get();
+            if (admitted - last <= 0)
+                return;
+        } while (!this.lastDecreaseNanos.compareAndSet(last, now));
+        int current, updated;
+        do {
+            current = this.limit.get();
+            updated = Math.max(this.minLimit, (int) (current * BACKOFF_RATIO));
+        } while (updated != current && !this.limit.compareAndSet(current, updated));
+    }
+
+    /**
+     * A {@link RuntimeException} that is thrown whenever a call is rejected because
+     * its {@link Bulkhead} has reached its limit. It carries no stack trace, as it is
+     * expected and only used to fail fast.
+     *
+     * @see RuntimeException
+     */
+    public static class BulkheadFullException extends RuntimeException {
+
+        private final transient Bulkhead bulkhead;
+
+        /**
+         * Constructs an instance of the exception.
+         *
+         * @param bulkhead the bulkhead which rejected the call
+         */
+        public BulkheadFullException(final Bulkhead bulkhead) {
+            super("The bulkhead has reached its limit of " + bulkhead.limit() + " concurrent calls.", null, false, false);
+            this.bulkhead = bulkhead;
+        }
+
+        /**
+         * Returns the bulkhead which rejected the call.
+         *
+         * @return the rejecting bulkhead
+         */
+        public Bulkhead bulkhead() {
+            return this.bulkhead;
+        }
+    }
+}
@@ -0,0 +1,288 @@
+/*
+ * Throwability (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.throwable.concurrent;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Represents a guard around a dependency which stops calling it once too many
+ * recent calls have failed. The outcomes of the most recent calls are kept in a
+ * sliding window; once the rate of failures within it reaches the threshold, the
+ * breaker opens and rejects every call with a {@link CallNotPermittedException}
+ * without calling the dependency. After the open duration has passed, a single
+ * trial call is let through: if it succeeds the breaker closes again, otherwise
+ * it stays open for another open duration. Outcomes of calls which were admitted
+ * before the trial are ignored, so only the trial decides.
+ *
+ * <p>A breaker is shared by every stage wrapped with {@code circuitBreaker} which
+ * calls the same dependency. It never locks, so callers do not queue behind one
+ * another while the dependency is unavailable. Since a rejection is thrown like any
+ * other failure, the existing {@code handle} and {@code swallow} methods turn it
+ * into a fallback.
+ *
+ * @see net.ashwork.functionality.throwable.ThrowingFunction1#circuitBreaker(CircuitBreaker)
+ * @since 1.0.0
+ */
+public final class CircuitBreaker {
+
+    private static final int EMPTY = 0, SUCCESS = 1, FAILURE = 2;
+
+    private final double failureRateThreshold;
+    private final int windowSize;
+    private final int minimumCalls;
+    private final long openNanos;
+    private final AtomicReference<Phase> phase;
+
+    private CircuitBreaker(final double failureRateThreshold, final int windowSize, final int minimumCalls, final long openNanos) {
+        this.failureRateThreshold = failureRateThreshold;
+        this.windowSize = windowSize;
+        this.minimumCalls = minimumCalls;
+        this.openNanos = openNanos;
+        this.phase = new AtomicReference<>(new Phase(State.CLOSED, 0L, 0L, new Window(windowSize)));
+    }
+
+    /**
+     * Creates a circuit breaker which opens once the failure rate of the last
+     * {@code windowSize} calls reaches the threshold. The breaker does not open
+     * until the window has been filled.
+     *
+     * @param failureRateThreshold the rate of failures which opens the breaker, such as {@code 0.5}
+     * @param windowSize the number of most recent calls to compute the failure rate from
+     * @param openDuration the time the breaker stays open before letting a trial call through
+     * @return a new circuit breaker
+     * @throws IllegalArgumentException if {@code failureRateThreshold} is not between zero exclusive
+     *                                  and one inclusive, or {@code windowSize} or {@code openDuration}
+     *                                  is not positive
+     * @throws NullPointerException if {@code openDuration} is null
+     */
+    public static CircuitBreaker of(final double failureRateThreshold, final int windowSize, final Duration openDuration) {
+        return of(failureRateThreshold, windowSize, windowSize, openDuration);
+    }
+
+    /**
+     * Creates a circuit breaker which opens once the failure rate of the last
+     * {@code windowSize} calls reaches the threshold, provided at least
+     * {@code minimumCalls} calls have been recorded.
+     *
+     * @param failureRateThreshold the rate of failures which opens the breaker, such as {@code 0.5}
+     * @param windowSize the number of most recent calls to compute the failure rate from
+     * @param minimumCalls the number of calls which must be recorded before the breaker can open
+     * @param openDuration the time the breaker stays open before letting a trial call through
+     * @return a new circuit breaker
+     * @throws IllegalArgumentException if {@code failureRateThreshold} is not between zero exclusive
+     *                                  and one inclusive, {@code windowSize} or {@code openDuration}
+     *                                  is not positive, or {@code minimumCalls} is not between one
+     *                                  and {@code windowSize}
+     * @throws NullPointerException if {@code openDuration} is null
+     */
+    public static CircuitBreaker of(final double failureRateThreshold, final int windowSize, final int minimumCalls, final Duration openDuration) {
+        if (!(failureRateThreshold > 0 && failureRateThreshold <= 1))
+            throw new IllegalArgumentException("The failure rate threshold must be between 0 exclusive and 1 inclusive: " + failureRateThreshold);
+        if (windowSize <= 0)
+            throw new IllegalArgumentException("The window size must be positive: " + windowSize);
+        if (minimumCalls <= 0 || minimumCalls > windowSize)
+            throw new IllegalArgumentException("The minimum number of calls must be between 1 and the window size: " + minimumCalls);
+        Objects.requireNonNull(openDuration, "The open duration cannot be null.");
+        if (openDuration.isNegative() || openDuration.isZero())
+            throw new IllegalArgumentException("The open duration must be positive: " + openDuration);
+        return new CircuitBreaker(failureRateThreshold, windowSize, minimumCalls, openDuration.toNanos());
+    }
+
+    /**
+     * Returns the current state of this breaker.
+     *
+     * @return the current state
+     */
+    public State state() {
+        return this.phase.get().state;
+    }
+
+    /**
+     * Returns the rate of failures within the current window.
+     *
+     * @return the failure rate between zero and one, or zero if no calls have been recorded
+     */
+    public double failureRate() {
+        final Window window = this.phase.get().window;
+        final int calls = window.calls.get();
+        return calls <= 0 ? 0 : Math.min(1, Math.max(0, window.failures.get()) / (double) calls);
+    }
+
+    /**
+     * Asks for permission to call the dependency. Every call which is permitted
+     * must be followed by {@link #onSuccess(long)} or {@link #onFailure(long)} with
+     * the returned permit.
+     *
+     * <p>The permit identifies the phase of the breaker the call was admitted in.
+     * Only outcomes of calls admitted in the current phase are recorded, so a call
+     * which started while the breaker was closed cannot decide a later trial, and a
+     * trial which outlived the open duration cannot decide the trial after it.
+     *
+     * @return the permit to record the outcome of the call with
+     * @throws CallNotPermittedException if the breaker is open
+     */
+    public long acquire() {
+        while (true) {
+            final Phase current = this.phase.get();
+            if (current.state == State.CLOSED)
+                return current.generation;
+            // Once the open duration has passed, the first caller to claim it makes the trial call
+            final long now = System.nanoTime();
+            if (now - current.sinceNanos < this.openNanos)
+                throw new CallNotPermittedException(this);
+            final Phase trial = new Phase(State.HALF_OPEN, current.generation + 1, now, current.window);
+            if (this.phase.compareAndSet(current, trial))
+                return trial.generation;
+        }
+    }
+
+    /**
+     * Records that a permitted call succeeded. A success of the trial call closes
+     * the breaker with an empty window.
+     *
+     * @param permit the permit returned by {@link #acquire()} for the call
+     */
+    public void onSuccess(final long permit) {
+        final Phase current = this.phase.get();
+        if (current.generation != permit)
+            return;
+        if (current.state == State.CLOSED)
+            current.window.record(SUCCESS);
+        else if (current.state == State.HALF_OPEN)
+            this.phase.compareAndSet(current, new Phase(State.CLOSED, permit + 1, 0L, new Window(this.windowSize)));
+    }
+
+    /**
+     * Records that a permitted call failed. A failure of the trial call, or one
+     * which brings the failure rate up to the threshold, opens the breaker.
+     *
+     * @param permit the permit returned by {@link #acquire()} for the call
+     */
+    public void onFailure(final long permit) {
+        final Phase current = this.phase.get();
+        if (current.generation != permit)
+            return;
+        if (current.state == State.CLOSED) {
+            final Window window = current.window;
+            window.record(FAILURE);
+            final int calls = window.calls.get();
+            if (calls >= this.minimumCalls && window.failures.get() >= this.failureRateThreshold * calls)
+                this.open(current);
+        } else if (current.state == State.HALF_OPEN)
+            this.open(current);
+    }
+
+    private void open(final Phase from) {
+        this.phase.compareAndSet(from, new Phase(State.OPEN, from.generation + 1, System.nanoTime(), from.window));
+    }
+
+    /**
+     * The states of a {@link CircuitBreaker}.
+     */
+    public enum State {
+        /**
+         * Calls are permitted and their outcomes are recorded.
+         */
+        CLOSED,
+        /**
+         * Calls are rejected until the open duration has passed.
+         */
+        OPEN,
+        /**
+         * A trial call is in progress; any other call is rejected. If the trial call
+         * has not finished within the open duration, another is let through.
+         */
+        HALF_OPEN
+    }
+
+    /**
+     * A state of the breaker together with the generation which identifies it,
+     * the time it was entered, and the window of outcomes it records into. Every
+     * transition replaces the phase with one of the next generation.
+     */
+    private static final class Phase {
+
+        private final State state;
+        private final long generation;
+        private final long sinceNanos;
+        private final Window window;
+
+        Phase(final State state, final long generation, final long sinceNanos, final Window window) {
+            this.state = state;
+            this.generation = generation;
+            this.sinceNanos = sinceNanos;
+            this.window = window;
+        }
+    }
+
+    /**
+     * The outcomes of the most recent calls. Each outcome overwrites the oldest
+     * slot, adjusting the running counts by the outcome it replaces.
+     */
+    private static final class Window {
+
+        private final AtomicIntegerArray outcomes;
+        private final AtomicLong position;
+        private final AtomicInteger calls;
+        private final AtomicInteger failures;
+
+        Window(final int size) {
+            this.outcomes = new AtomicIntegerArray(size);
+            this.position = new AtomicLong();
+            this.calls = new AtomicInteger();
+            this.failures = new AtomicInteger();
+        }
+
+        void record(final int outcome) {
+            final int slot = (int) (this.position.getAndIncrement() % this.outcomes.length());
+            final int previous = this.outcomes.getAndSet(slot, outcome);
+            if (previous == EMPTY)
+                this.calls.incrementAndGet();
+            if (previous != outcome && (previous == FAILURE || outcome == FAILURE))
+                this.failures.addAndGet(outcome == FAILURE ? 1 : -1);
+        }
+    }
+
+    /**
+     * A {@link RuntimeException} that is thrown whenever a call is rejected because
+     * its {@link CircuitBreaker} is open. It carries no stack trace, as it is
+     * expected and only used to fail fast.
+     *
+     * @see RuntimeException
+     */
+    public static class CallNotPermittedException extends RuntimeException {
+
+        private final transient CircuitBreaker breaker;
+
+        /**
+         * Constructs an instance of the exception.
+         *
+         * @param breaker the breaker which rejected the call
+         */
+        public CallNotPermittedException(final CircuitBreaker breaker) {
+            super("The circuit breaker is " + breaker.state() + ".", null, false, false);
+            this.breaker = breaker;
+        }
+
+        /**
+         * Returns the breaker which rejected the call.
+         *
+         * @return the rejecting breaker
+         */
+        public CircuitBreaker breaker() {
+            return this.breaker;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Throwability (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.throwable.concurrent;
+
+import net.ashwork.functionality.throwable.ThrowingFunction1;
+import net.ashwork.functionality.throwable.abstracts.AbstractThrowingFunction1;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Applies throwing functions to many inputs at once. Calls run concurrently, up to
+ * a maximum number at the same time, and their results are returned in the order
+ * of the inputs.
+ *
+ * <p>On Java 21 and later, each call runs on its own virtual thread, so blocking
+ * calls such as file or database access do not tie up platform threads. On earlier
+ * versions, calls run on a shared pool of daemon platform threads.
+ *
+ * <p>No call outlives the mapping: if the calling thread is interrupted, the calls
+ * which have not started are skipped, and the running calls are interrupted and
+ * waited for before the mapping throws.
+ *
+ * @see ThrowingFunction1#mapConcurrent(Collection, int, AbstractThrowingFunction1.Handler)
+ * @since 1.0.0
+ */
+public final class ConcurrentMapping {
+
+    private ConcurrentMapping() {}
+
+    /**
+     * Returns whether calls run on virtual threads on the current runtime.
+     *
+     * @return {@code true} if calls run on virtual threads, otherwise {@code false}
+     */
+    public static boolean usesVirtualThreads() {
+        return TaskExecutors.isVirtual();
+    }
+
+    /**
+     * Applies the function to every input concurrently, with at most {@code maxConcurrency}
+     * calls running at the same time, and waits for all of them to complete. If a call
+     * throws, the {@code handler} is called with the throwable and the input, and its
+     * result is used in place of the function result.
+     *
+     * @param function the function to apply
+     * @param inputs the inputs to apply the function to
+     * @param maxConcurrency the maximum number of calls running at the same time
+     * @param handler the handler to call if the function throws
+     * @param <T1> the type of the input to the function
+     * @param <R> the type of the result of the function
+     * @return an unmodifiable list of the results, in the iteration order of {@code inputs}
+     * @throws IllegalArgumentException if {@code maxConcurrency} is not positive
+     * @throws NullPointerException if {@code function}, {@code inputs}, or {@code handler} is null
+     * @throws CancellationException if the calling thread is interrupted while waiting,
+     *                               in which case the remaining calls are interrupted and
+     *                               waited for, the handler is not called for them, and
+     *                               the interrupt status is kept
+     */
+    @SuppressWarnings("unchecked")
+    public static <T1, R> List<R> map(final ThrowingFunction1<? super T1, ? extends R> function, final Collection<? extends T1> inputs,
+                                      final int maxConcurrency, final AbstractThrowingFunction1.Handler<T1, R> handler) {
+        if (maxConcurrency <= 0)
+            throw new IllegalArgumentException("The maximum concurrency must be positive: " + maxConcurrency);
+        Objects.requireNonNull(function, "The function cannot be null.");
+        Objects.requireNonNull(handler, "The handler cannot be null.");
+        final Object[] values = Objects.requireNonNull(inputs, "The inputs cannot be null.").toArray();
+        if (values.length == 0)
+            return Collections.emptyList();
+
+        final Object[] results = new Object[values.length];
+        final Semaphore permits = new Semaphore(maxConcurrency);
+        final CountDownLatch done = new CountDownLatch(values.length);
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        // A call is claimed by either its task when it starts or the mapping when it is cancelled, never both
+        final AtomicIntegerArray claimed = new AtomicIntegerArray(values.length);
+        final AtomicBoolean cancelled = new AtomicBoolean();
+        final ExecutorService executor = TaskExecutors.executor();
+        final Future<?>[] calls = new Future<?>[values.length];
+        int submitted = 0;
+        try {
+            for (int i = 0; i < values.length; i++) {
+                permits.acquire();
+                final int index = i;
+                calls[i] = executor.submit(() -> {
+                    if (!claimed.compareAndSet(index, 0, 1))
+                        return;
+                    final T1 t1 = (T1) values[index];
+                    try {
+                        try {
+                            results[index] = function.apply(t1);
+                        } catch (final Throwable t) {
+                            if (!cancelled.get())
+                                results[index] = handler.onThrown(t, t1);
+                        }
+                    } catch (final Throwable t) {
+                        // The handler itself failed
+                        if (!failure.compareAndSet(null, t))
+                            failure.get().addSuppressed(t);
+                    } finally {
+                        permits.release();
+                        done.countDown();
+                    }
+                });
+                submitted++;
+            }
+            done.await();
+        } catch (final InterruptedException e) {
+            cancelled.set(true);
+            // The executor is shared, so only the calls of this mapping are interrupted
+            for (int i = 0; i < values.length; i++) {
+                if (i >= submitted || claimed.compareAndSet(i, 0, 1))
+                    done.countDown();
+                if (calls[i] != null)
+                    calls[i].cancel(true);
+            }
+            // Wait for the calls which already started, so none outlive the mapping
+            while (true) {
+                try {
+                    done.await();
+                    break;
+                } catch (final InterruptedException ignored) {
+                    // The interrupt status is restored below
+                }
+            }
+            Thread.currentThread().interrupt();
+            final CancellationException thrown = new CancellationException("Interrupted while waiting for concurrent calls.");
+            thrown.initCause(e);
+            throw thrown;
+        }
+
+        final Throwable t = failure.get();
+        if (t instanceof RuntimeException)
+            throw (RuntimeException) t;
+        if (t instanceof Error)
+            throw (Error) t;
+        if (t != null)
+            throw new IllegalStateException("A handler failed to handle a throwable.", t);
+        return Collections.unmodifiableList(Arrays.asList((R[]) results));
+    }
+}
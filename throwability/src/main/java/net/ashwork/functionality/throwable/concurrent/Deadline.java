@@ -0,0 +1,174 @@
+/*
+ * Throwability (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.throwable.concurrent;
+
+import net.ashwork.functionality.throwable.ThrowingFunction0;
+import net.ashwork.functionality.throwable.consumer.ThrowingConsumer0;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Represents a point in time by which a unit of work must complete. A deadline is
+ * bound to the current thread for the duration of {@link #call(ThrowingFunction0)}
+ * or {@link #run(ThrowingConsumer0)}, and checked by any stage wrapped with
+ * {@code withinDeadline}. Once it has expired, those stages throw a
+ * {@link DeadlineExceededException} instead of doing their work, which the
+ * existing {@code handle} and {@code swallow} methods turn into a fast result.
+ * Stages chained onto a wrapped stage check the deadline as well.
+ *
+ * <p>Deadlines nest: binding a deadline while another is bound uses whichever
+ * expires first. A deadline is bound to a single thread; work handed to another
+ * thread must bind it again.
+ *
+ * @see net.ashwork.functionality.throwable.ThrowingFunction1#withinDeadline()
+ * @since 1.0.0
+ */
+public final class Deadline {
+
+    private static final ThreadLocal<Deadline> CURRENT = new ThreadLocal<>();
+    private static final long MAX_OFFSET = Long.MAX_VALUE >> 1;
+
+    private final long expiresAtNanos;
+
+    private Deadline(final long expiresAtNanos) {
+        this.expiresAtNanos = expiresAtNanos;
+    }
+
+    /**
+     * Creates a deadline which expires after the given timeout from now. Timeouts
+     * too large to represent in nanoseconds create a deadline which effectively
+     * never expires.
+     *
+     * @param timeout the time until the deadline expires
+     * @return a new deadline
+     * @throws NullPointerException if {@code timeout} is null
+     */
+    public static Deadline after(final Duration timeout) {
+        Objects.requireNonNull(timeout, "The timeout cannot be null.");
+        final long now = System.nanoTime();
+        long nanos;
+        try {
+            nanos = timeout.toNanos();
+        } catch (final ArithmeticException e) {
+            nanos = timeout.isNegative() ? Long.MIN_VALUE : Long.MAX_VALUE;
+        }
+        // Clamped so the expiry stays within half the range of now, where comparing by subtraction is valid
+        return new Deadline(now + Math.max(-MAX_OFFSET, Math.min(MAX_OFFSET, nanos)));
+    }
+
+    /**
+     * Returns the deadline bound to the current thread.
+     *
+     * @return the current deadline, or {@code null} if none is bound
+     */
+    public static Deadline current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Throws if the deadline bound to the current thread has expired. Does
+     * nothing if no deadline is bound.
+     *
+     * @throws DeadlineExceededException if the current deadline has expired
+     */
+    public static void check() {
+        final Deadline deadline = CURRENT.get();
+        if (deadline != null && deadline.isExpired())
+            throw new DeadlineExceededException(deadline);
+    }
+
+    /**
+     * Returns whether this deadline has expired.
+     *
+     * @return {@code true} if this deadline has expired, otherwise {@code false}
+     */
+    public boolean isExpired() {
+        return this.remainingNanos() <= 0;
+    }
+
+    /**
+     * Returns the time left until this deadline expires.
+     *
+     * @return the remaining time in nanoseconds, which is negative once expired
+     */
+    public long remainingNanos() {
+        return this.expiresAtNanos - System.nanoTime();
+    }
+
+    /**
+     * Calls the function with this deadline bound to the current thread, restoring
+     * the previously bound deadline afterwards. If a deadline which expires earlier
+     * is already bound, it stays in effect.
+     *
+     * @param body the function to call
+     * @param <R> the type of the result of the function
+     * @return the result of the function
+     * @throws Throwable the throwable thrown by the function
+     */
+    public <R> R call(final ThrowingFunction0<? extends R> body) throws Throwable {
+        final Deadline previous = CURRENT.get();
+        CURRENT.set(previous != null && previous.expiresAtNanos - this.expiresAtNanos < 0 ? previous : this);
+        try {
+            return body.apply();
+        } finally {
+            if (previous == null)
+                CURRENT.remove();
+            else
+                CURRENT.set(previous);
+        }
+    }
+
+    /**
+     * Performs the operation with this deadline bound to the current thread,
+     * restoring the previously bound deadline afterwards. If a deadline which
+     * expires earlier is already bound, it stays in effect.
+     *
+     * @param body the operation to perform
+     * @throws Throwable the throwable thrown by the operation
+     */
+    public void run(final ThrowingConsumer0 body) throws Throwable {
+        this.call(() -> {
+            body.accept();
+            return null;
+        });
+    }
+
+    /**
+     * A {@link RuntimeException} that is thrown whenever a stage is skipped because
+     * the deadline bound to the current thread has expired. It carries no stack
+     * trace, as it is expected and only used to short-circuit the remaining stages.
+     *
+     * @see RuntimeException
+     */
+    public static class DeadlineExceededException extends RuntimeException {
+
+        private final transient Deadline deadline;
+
+        /**
+         * Constructs an instance of the exception.
+         *
+         * @param deadline the deadline which expired
+         */
+        public DeadlineExceededException(final Deadline deadline) {
+            super("The deadline expired " + -deadline.remainingNanos() + "ns ago.", null, false, false);
+            this.deadline = deadline;
+        }
+
+        /**
+         * Returns the deadline which expired.
+         *
+         * @return the expired deadline
+         */
+        public Deadline deadline() {
+            return this.deadline;
+        }
+    }
+}
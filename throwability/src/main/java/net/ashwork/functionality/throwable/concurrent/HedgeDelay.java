@@ -0,0 +1,114 @@
+/*
+ * Throwability (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.throwable.concurrent;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Represents how long a hedged call waits for an attempt before launching another.
+ * The delay is either fixed, or derived from a percentile of the latencies of
+ * recent successful calls, so that only the slowest calls are hedged.
+ *
+ * <p>The latency of a hedged call is measured from the launch of its first attempt
+ * to its first successful response. An attempt cancelled because a hedge won is
+ * therefore still counted with the time it had run, rather than being left out,
+ * which would drag the percentile down and hedge ever more calls.
+ *
+ * @see Hedging
+ * @since 1.0.0
+ */
+public final class HedgeDelay {
+
+    private static final int SAMPLES = 256;
+    private static final int RECOMPUTE_INTERVAL = 64;
+
+    private final double percentile;
+    private final AtomicLongArray samples;
+    private final AtomicLong recorded;
+    private volatile long delayNanos;
+
+    private HedgeDelay(final long delayNanos, final double percentile) {
+        this.delayNanos = delayNanos;
+        this.percentile = percentile;
+        this.samples = percentile > 0 ? new AtomicLongArray(SAMPLES) : null;
+        this.recorded = percentile > 0 ? new AtomicLong() : null;
+    }
+
+    /**
+     * Creates a delay which never changes.
+     *
+     * @param delay the time to wait before launching another attempt
+     * @return a fixed delay
+     * @throws IllegalArgumentException if {@code delay} is negative
+     * @throws NullPointerException if {@code delay} is null
+     */
+    public static HedgeDelay fixed(final Duration delay) {
+        return new HedgeDelay(requireNonNegative(delay), 0);
+    }
+
+    /**
+     * Creates a delay which follows the given percentile of the latencies of the
+     * last {@value SAMPLES} successful calls. The percentile is recomputed every
+     * {@value RECOMPUTE_INTERVAL} calls; until then, the initial delay is used.
+     *
+     * @param percentile the percentile of latencies to wait for, such as {@code 0.95}
+     * @param initialDelay the delay to use before enough latencies have been observed
+     * @return an adaptive delay
+     * @throws IllegalArgumentException if {@code percentile} is not between zero and one
+     *                                  exclusive, or {@code initialDelay} is negative
+     * @throws NullPointerException if {@code initialDelay} is null
+     */
+    public static HedgeDelay percentile(final double percentile, final Duration initialDelay) {
+        if (!(percentile > 0 && percentile < 1))
+            throw new IllegalArgumentException("The percentile must be between 0 and 1 exclusive: " + percentile);
+        return new HedgeDelay(requireNonNegative(initialDelay), percentile);
+    }
+
+    private static long requireNonNegative(final Duration delay) {
+        Objects.requireNonNull(delay, "The hedge delay cannot be null.");
+        if (delay.isNegative())
+            throw new IllegalArgumentException("The hedge delay cannot be negative: " + delay);
+        return delay.toNanos();
+    }
+
+    /**
+     * Returns the current delay before launching another attempt.
+     *
+     * @return the delay in nanoseconds
+     */
+    public long delayNanos() {
+        return this.delayNanos;
+    }
+
+    /**
+     * Records the latency of a successful call, from the launch of its first attempt.
+     * Has no effect on a fixed delay.
+     *
+     * @param nanos the latency of the call in nanoseconds
+     */
+    void record(final long nanos) {
+        if (this.samples == null)
+            return;
+        final long index = this.recorded.getAndIncrement();
+        this.samples.set((int) (index % SAMPLES), nanos);
+        if (index % RECOMPUTE_INTERVAL == RECOMPUTE_INTERVAL - 1) {
+            final int size = (int) Math.min(index + 1, SAMPLES);
+            final long[] sorted = new long[size];
+            for (int i = 0; i < size; i++)
+                sorted[i] = this.samples.get(i);
+            Arrays.sort(sorted);
+            this.delayNanos = sorted[Math.max(0, (int) Math.ceil(this.percentile * size) - 1)];
+        }
+    }
+}
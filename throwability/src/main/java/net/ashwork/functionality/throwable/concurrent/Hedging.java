@@ -0,0 +1,158 @@
+/*
+ * Throwability (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.throwable.concurrent;
+
+import net.ashwork.functionality.throwable.ThrowingFunction0;
+
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Calls idempotent throwing functions with hedging: if an attempt has not completed
+ * after a delay, a duplicate attempt is launched, up to a maximum number of attempts.
+ * The first attempt to succeed wins and the others are cancelled by interruption.
+ * This trades a small amount of extra load for a shorter tail latency.
+ *
+ * <p>If an attempt fails while others are still running, the call keeps waiting for
+ * them. If every running attempt has failed, the next attempt is launched without
+ * waiting for the delay. Once all attempts have failed, the first throwable is
+ * thrown with the others added as suppressed.
+ *
+ * @see net.ashwork.functionality.throwable.ThrowingFunction0#hedged(java.time.Duration, int, Executor)
+ * @see net.ashwork.functionality.throwable.ThrowingFunction1#hedged(java.time.Duration, int, Executor)
+ * @since 1.0.0
+ */
+public final class Hedging {
+
+    private Hedging() {}
+
+    /**
+     * Checks the arguments shared by all hedged calls.
+     *
+     * @param delay the delay before launching another attempt
+     * @param maxAttempts the maximum number of attempts
+     * @param executor the executor to run attempts on
+     * @throws IllegalArgumentException if {@code maxAttempts} is not positive
+     * @throws NullPointerException if {@code delay} or {@code executor} is null
+     */
+    public static void validate(final HedgeDelay delay, final int maxAttempts, final Executor executor) {
+        if (maxAttempts <= 0)
+            throw new IllegalArgumentException("The maximum number of attempts must be positive: " + maxAttempts);
+        Objects.requireNonNull(delay, "The hedge delay cannot be null.");
+        Objects.requireNonNull(executor, "The executor cannot be null.");
+    }
+
+    /**
+     * Calls the function with hedging and waits for the first successful attempt.
+     * Every attempt runs on the executor. If the executor rejects the first attempt,
+     * it runs on the calling thread without hedging; later rejected attempts are skipped.
+     *
+     * @param attempt the idempotent function to call
+     * @param delay the delay before launching another attempt
+     * @param maxAttempts the maximum number of attempts
+     * @param executor the executor to run attempts on
+     * @param <R> the type of the result of the function
+     * @return the result of the first successful attempt
+     * @throws InterruptedException if the calling thread is interrupted while waiting,
+     *                              in which case all attempts are cancelled
+     * @throws Throwable the first throwable thrown by an attempt if all attempts fail
+     */
+    public static <R> R call(final ThrowingFunction0<? extends R> attempt, final HedgeDelay delay, final int maxAttempts, final Executor executor) throws Throwable {
+        final BlockingQueue<Outcome> outcomes = new LinkedBlockingQueue<>();
+        final FutureTask<?>[] attempts = new FutureTask<?>[maxAttempts];
+        int launched = 0, running = 0;
+        long start = 0L;
+        Throwable failure = null;
+        try {
+            while (true) {
+                if (running == 0) {
+                    // Launch the first attempt, or the next one once every running attempt has failed
+                    if (launched == maxAttempts)
+                        break;
+                    if (launched == 0)
+                        start = System.nanoTime();
+                    attempts[launched] = launch(attempt, outcomes);
+                    if (submit(executor, attempts[launched++]))
+                        running++;
+                    else if (launched == 1)
+                        // Without an executor for the first attempt, there is nothing to hedge against
+                        return attempt.apply();
+                    else
+                        continue;
+                }
+                final Outcome outcome = launched < maxAttempts
+                        ? outcomes.poll(delay.delayNanos(), TimeUnit.NANOSECONDS)
+                        : outcomes.take();
+                if (outcome == null) {
+                    // The running attempts are slower than the delay, so hedge with another
+                    attempts[launched] = launch(attempt, outcomes);
+                    if (submit(executor, attempts[launched++]))
+                        running++;
+                    continue;
+                }
+                running--;
+                if (outcome.failure == null) {
+                    // Measured from the first attempt, so a slow attempt cut short by a hedge still counts towards the tail
+                    delay.record(System.nanoTime() - start);
+                    @SuppressWarnings("unchecked")
+                    final R result = (R) outcome.result;
+                    return result;
+                }
+                if (failure == null)
+                    failure = outcome.failure;
+                else if (failure != outcome.failure)
+                    failure.addSuppressed(outcome.failure);
+            }
+        } finally {
+            for (final FutureTask<?> task : attempts)
+                if (task != null)
+                    task.cancel(true);
+        }
+        throw failure;
+    }
+
+    private static boolean submit(final Executor executor, final FutureTask<?> task) {
+        try {
+            executor.execute(task);
+            return true;
+        } catch (final RejectedExecutionException e) {
+            return false;
+        }
+    }
+
+    private static <R> FutureTask<?> launch(final ThrowingFunction0<? extends R> attempt, final BlockingQueue<Outcome> outcomes) {
+        return new FutureTask<>(() -> {
+            try {
+                outcomes.add(new Outcome(attempt.apply(), null));
+            } catch (final Throwable t) {
+                outcomes.add(new Outcome(null, t));
+            }
+        }, null);
+    }
+
+    /**
+     * The result or throwable of a single attempt.
+     */
+    private static final class Outcome {
+
+        private final Object result;
+        private final Throwable failure;
+
+        private Outcome(final Object result, final Throwable failure) {
+            this.result = result;
+            this.failure = failure;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Throwability (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.throwable.concurrent;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Holds the executor which runs concurrent calls. This implementation runs calls
+ * on a shared, lazily created pool of daemon platform threads, which grows with
+ * the number of calls running at the same time and releases idle threads.
+ *
+ * <p>On Java 21 and later, the multi-release layer replaces this class with one
+ * which runs each call on its own virtual thread.
+ *
+ * @since 1.0.0
+ */
+final class TaskExecutors {
+
+    private TaskExecutors() {}
+
+    /**
+     * Returns whether the created executors run calls on virtual threads.
+     *
+     * @return {@code true} if calls run on virtual threads, otherwise {@code false}
+     */
+    static boolean isVirtual() {
+        return false;
+    }
+
+    /**
+     * Returns the shared executor. The number of calls running at the same time
+     * is bounded by the caller. The executor must not be shut down.
+     *
+     * @return the shared executor
+     */
+    static ExecutorService executor() {
+        return Shared.EXECUTOR;
+    }
+
+    /**
+     * Creates the shared executor on first use.
+     */
+    private static final class Shared {
+
+        private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+            final Thread thread = new Thread(runnable, "Concurrent Call");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
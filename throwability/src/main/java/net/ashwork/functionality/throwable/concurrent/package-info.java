@@ -0,0 +1,17 @@
+/*
+ * Throwability (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+/**
+ * This package holds throwing {@code Functions} which can be safely shared and called between threads,
+ * such as those which coalesce concurrent calls with the same arguments, along with
+ * deadlines which skip the remaining stages of a call once they have expired,
+ * circuit breakers which stop calling a failing dependency, and bulkheads which cap
+ * the calls in flight to an overloaded one.
+ */
+package net.ashwork.functionality.throwable.concurrent;
\ No newline at end of file
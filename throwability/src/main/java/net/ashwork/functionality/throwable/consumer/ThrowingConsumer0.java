@@ -11,8 +11,14 @@ package net.ashwork.functionality.throwable.consumer;
 
 import net.ashwork.functionality.Function1;
 import net.ashwork.functionality.consumer.Consumer0;
+import net.ashwork.functionality.metrics.InvocationMetrics;
+import net.ashwork.functionality.metrics.MetricsRegistry;
 import net.ashwork.functionality.throwable.ThrowingFunction0;
 import net.ashwork.functionality.throwable.abstracts.consumer.AbstractThrowingConsumer0;
+import net.ashwork.functionality.throwable.concurrent.CircuitBreaker;
+import net.ashwork.functionality.throwable.concurrent.Deadline;
+
+import java.util.Objects;
 
 /**
  * Represents an operation that accepts no arguments and returns no result or throws a throwable.
@@ -64,6 +70,105 @@ public interface ThrowingConsumer0 extends AbstractThrowingConsumer0<AbstractThr
         return this.handle(t -> {});
     }
 
+    /**
+     * Returns an operation which checks the {@linkplain Deadline#current() current deadline}
+     * before running this operation. If the deadline has expired, this operation is skipped
+     * and a {@link Deadline.DeadlineExceededException} is thrown instead, which can be
+     * turned into a fallback by {@link #handle(Handler)} or {@link #swallow()}.
+     *
+     * <p>Stages chained onto the returned operation with {@code andThen} also
+     * check the deadline before they run, so an expired deadline skips the rest
+     * of the pipeline.
+     *
+     * @return an operation which is skipped once the current deadline has expired
+     *
+     * @see Deadline
+     */
+    default ThrowingConsumer0 withinDeadline() {
+        final ThrowingConsumer0 consumer = this;
+        // Stages chained onto the result are wrapped as well, so they keep checking the deadline
+        return new ThrowingConsumer0() {
+
+            @Override
+            public void accept() throws Throwable {
+                Deadline.check();
+                consumer.accept();
+            }
+
+            @Override
+            public ThrowingConsumer0 withinDeadline() {
+                return this;
+            }
+
+            @Override
+            public ThrowingConsumer0 andThenUnchecked(final ThrowingConsumer0 after) {
+                return consumer.andThenUnchecked(after.withinDeadline()).withinDeadline();
+            }
+
+            @Override
+            public <V> ThrowingFunction0<V> andThenUnchecked(final Function1<? super Void, ? extends V> after) {
+                return consumer.<V>andThenUnchecked((final Void v) -> {
+                    Deadline.check();
+                    return after.apply(v);
+                }).withinDeadline();
+            }
+        };
+    }
+
+    /**
+     * Returns an operation which is guarded by the given circuit breaker. Every throwable
+     * thrown by this operation is recorded as a failure. While the breaker is open, this
+     * operation is not called and a {@link CircuitBreaker.CallNotPermittedException} is
+     * thrown instead, which can be turned into a fallback by {@link #handle(Handler)}
+     * or {@link #swallow()}.
+     *
+     * @param breaker the circuit breaker guarding this operation
+     * @return an operation guarded by the circuit breaker
+     * @throws NullPointerException if {@code breaker} is null
+     *
+     * @see CircuitBreaker
+     */
+    default ThrowingConsumer0 circuitBreaker(final CircuitBreaker breaker) {
+        Objects.requireNonNull(breaker, "The circuit breaker cannot be null.");
+        return () -> {
+            final long permit = breaker.acquire();
+            try {
+                this.accept();
+            } catch (final Throwable t) {
+                breaker.onFailure(permit);
+                throw t;
+            }
+            breaker.onSuccess(permit);
+        };
+    }
+
+    /**
+     * Returns an operation which records its calls into the metrics registered under
+     * the given name: the number of calls, the number of those which threw, and
+     * the latencies of the calls sampled by the registry. The metrics are looked up
+     * once, when this method is called.
+     *
+     * @param name the name to record the metrics under
+     * @param registry the registry holding the metrics
+     * @return an instrumented operation
+     * @throws NullPointerException if {@code name} or {@code registry} is null
+     *
+     * @see MetricsRegistry
+     */
+    default ThrowingConsumer0 instrumented(final String name, final MetricsRegistry registry) {
+        final InvocationMetrics metrics = Objects.requireNonNull(registry, "The registry cannot be null.").metrics(Objects.requireNonNull(name, "The name cannot be null."));
+        return () -> {
+            final long start = metrics.start();
+            try {
+                this.accept();
+            } catch (final Throwable t) {
+                metrics.failed(start);
+                throw t;
+            }
+            metrics.succeeded(start);
+        };
+    }
+
     @Override
     default ThrowingConsumer0 andThen(final ThrowingConsumer0 after) {
         return (ThrowingConsumer0) AbstractThrowingConsumer0.super.andThen(after);
@@ -11,8 +11,16 @@ package net.ashwork.functionality.throwable.consumer;
 
 import net.ashwork.functionality.Function1;
 import net.ashwork.functionality.consumer.Consumer1;
+import net.ashwork.functionality.metrics.InvocationMetrics;
+import net.ashwork.functionality.metrics.MetricsRegistry;
 import net.ashwork.functionality.throwable.ThrowingFunction1;
 import net.ashwork.functionality.throwable.abstracts.consumer.AbstractThrowingConsumer1;
+import net.ashwork.functionality.throwable.concurrent.Bulkhead;
+import net.ashwork.functionality.throwable.concurrent.CircuitBreaker;
+import net.ashwork.functionality.throwable.concurrent.Deadline;
+import net.ashwork.functionality.throwable.result.ErrorReport;
+
+import java.util.Objects;
 
 /**
  * Represents an operation that accepts one argument and returns no result or throws a throwable.
@@ -67,6 +75,161 @@ public interface ThrowingConsumer1<T1> extends AbstractThrowingConsumer1<T1, Abs
         return this.handle((t, t1) -> {});
     }
 
+    /**
+     * Performs this operation on each input in iteration order, recording every
+     * throwable thrown into the given report instead of stopping. If the report
+     * becomes full, the remaining inputs are skipped.
+     *
+     * @param inputs the inputs to perform this operation on
+     * @param errors the report to record failures into
+     * @return {@code errors}
+     * @throws NullPointerException if {@code inputs} or {@code errors} is null
+     *
+     * @see ErrorReport
+     */
+    default ErrorReport forEachHandled(final Iterable<? extends T1> inputs, final ErrorReport errors) {
+        Objects.requireNonNull(inputs, "The inputs cannot be null.");
+        Objects.requireNonNull(errors, "The error report cannot be null.");
+        if (errors.isFull())
+            return errors;
+        int index = 0;
+        for (final T1 t1 : inputs) {
+            try {
+                this.accept(t1);
+            } catch (final Throwable t) {
+                if (!errors.record(index, t))
+                    break;
+            }
+            index++;
+        }
+        return errors;
+    }
+
+    /**
+     * Returns an operation which checks the {@linkplain Deadline#current() current deadline}
+     * before running this operation. If the deadline has expired, this operation is skipped
+     * and a {@link Deadline.DeadlineExceededException} is thrown instead, which can be
+     * turned into a fallback by {@link #handle(Handler)} or {@link #swallow()}.
+     *
+     * <p>Stages chained onto the returned operation with {@code andThen} also
+     * check the deadline before they run, so an expired deadline skips the rest
+     * of the pipeline.
+     *
+     * @return an operation which is skipped once the current deadline has expired
+     *
+     * @see Deadline
+     */
+    default ThrowingConsumer1<T1> withinDeadline() {
+        final ThrowingConsumer1<T1> consumer = this;
+        // Stages chained onto the result are wrapped as well, so they keep checking the deadline
+        return new ThrowingConsumer1<T1>() {
+
+            @Override
+            public void accept(final T1 t1) throws Throwable {
+                Deadline.check();
+                consumer.accept(t1);
+            }
+
+            @Override
+            public ThrowingConsumer1<T1> withinDeadline() {
+                return this;
+            }
+
+            @Override
+            public ThrowingConsumer1<T1> andThenUnchecked(final ThrowingConsumer1<T1> after) {
+                return consumer.andThenUnchecked(after.withinDeadline()).withinDeadline();
+            }
+
+            @Override
+            public <V> ThrowingFunction1<T1, V> andThenUnchecked(final Function1<? super Void, ? extends V> after) {
+                return consumer.<V>andThenUnchecked((final Void v) -> {
+                    Deadline.check();
+                    return after.apply(v);
+                }).withinDeadline();
+            }
+        };
+    }
+
+    /**
+     * Returns an operation which is guarded by the given circuit breaker. Every throwable
+     * thrown by this operation is recorded as a failure. While the breaker is open, this
+     * operation is not called and a {@link CircuitBreaker.CallNotPermittedException} is
+     * thrown instead, which can be turned into a fallback by {@link #handle(Handler)}
+     * or {@link #swallow()}.
+     *
+     * @param breaker the circuit breaker guarding this operation
+     * @return an operation guarded by the circuit breaker
+     * @throws NullPointerException if {@code breaker} is null
+     *
+     * @see CircuitBreaker
+     */
+    default ThrowingConsumer1<T1> circuitBreaker(final CircuitBreaker breaker) {
+        Objects.requireNonNull(breaker, "The circuit breaker cannot be null.");
+        return (final T1 t1) -> {
+            final long permit = breaker.acquire();
+            try {
+                this.accept(t1);
+            } catch (final Throwable t) {
+                breaker.onFailure(permit);
+                throw t;
+            }
+            breaker.onSuccess(permit);
+        };
+    }
+
+    /**
+     * Returns an operation whose calls in flight are capped by the given bulkhead.
+     * While the bulkhead is full, this operation is not called and a
+     * {@link Bulkhead.BulkheadFullException} is thrown instead, which can be turned
+     * into a fallback by {@link #handle(Handler)} or {@link #swallow()}.
+     *
+     * @param bulkhead the bulkhead capping the calls to this operation
+     * @return an operation capped by the bulkhead
+     * @throws NullPointerException if {@code bulkhead} is null
+     *
+     * @see Bulkhead
+     */
+    default ThrowingConsumer1<T1> bulkhead(final Bulkhead bulkhead) {
+        Objects.requireNonNull(bulkhead, "The bulkhead cannot be null.");
+        return (final T1 t1) -> {
+            final long permit = bulkhead.acquire();
+            try {
+                this.accept(t1);
+            } catch (final Throwable t) {
+                bulkhead.release(permit, t);
+                throw t;
+            }
+            bulkhead.release(permit, null);
+        };
+    }
+
+    /**
+     * Returns an operation which records its calls into the metrics registered under
+     * the given name: the number of calls, the number of those which threw, and
+     * the latencies of the calls sampled by the registry. The metrics are looked up
+     * once, when this method is called.
+     *
+     * @param name the name to record the metrics under
+     * @param registry the registry holding the metrics
+     * @return an instrumented operation
+     * @throws NullPointerException if {@code name} or {@code registry} is null
+     *
+     * @see MetricsRegistry
+     */
+    default ThrowingConsumer1<T1> instrumented(final String name, final MetricsRegistry registry) {
+        final InvocationMetrics metrics = Objects.requireNonNull(registry, "The registry cannot be null.").metrics(Objects.requireNonNull(name, "The name cannot be null."));
+        return (final T1 t1) -> {
+            final long start = metrics.start();
+            try {
+                this.accept(t1);
+            } catch (final Throwable t) {
+                metrics.failed(start);
+                throw t;
+            }
+            metrics.succeeded(start);
+        };
+    }
+
     @Override
     default ThrowingConsumer1<T1> andThen(final ThrowingConsumer1<T1> after) {
         return (ThrowingConsumer1<T1>) AbstractThrowingConsumer1.super.andThen(after);
@@ -11,8 +11,14 @@ package net.ashwork.functionality.throwable.consumer;
 
 import net.ashwork.functionality.Function1;
 import net.ashwork.functionality.consumer.Consumer2;
+import net.ashwork.functionality.metrics.InvocationMetrics;
+import net.ashwork.functionality.metrics.MetricsRegistry;
 import net.ashwork.functionality.throwable.ThrowingFunction2;
 import net.ashwork.functionality.throwable.abstracts.consumer.AbstractThrowingConsumer2;
+import net.ashwork.functionality.throwable.concurrent.CircuitBreaker;
+import net.ashwork.functionality.throwable.concurrent.Deadline;
+
+import java.util.Objects;
 
 /**
  * Represents an operation that accepts two arguments and returns no result or throws a throwable.
@@ -69,6 +75,105 @@ public interface ThrowingConsumer2<T1, T2> extends AbstractThrowingConsumer2<T1,
         return this.handle((t, t1, t2) -> {});
     }
 
+    /**
+     * Returns an operation which checks the {@linkplain Deadline#current() current deadline}
+     * before running this operation. If the deadline has expired, this operation is skipped
+     * and a {@link Deadline.DeadlineExceededException} is thrown instead, which can be
+     * turned into a fallback by {@link #handle(Handler)} or {@link #swallow()}.
+     *
+     * <p>Stages chained onto the returned operation with {@code andThen} also
+     * check the deadline before they run, so an expired deadline skips the rest
+     * of the pipeline.
+     *
+     * @return an operation which is skipped once the current deadline has expired
+     *
+     * @see Deadline
+     */
+    default ThrowingConsumer2<T1, T2> withinDeadline() {
+        final ThrowingConsumer2<T1, T2> consumer = this;
+        // Stages chained onto the result are wrapped as well, so they keep checking the deadline
+        return new ThrowingConsumer2<T1, T2>() {
+
+            @Override
+            public void accept(final T1 t1, final T2 t2) throws Throwable {
+                Deadline.check();
+                consumer.accept(t1, t2);
+            }
+
+            @Override
+            public ThrowingConsumer2<T1, T2> withinDeadline() {
+                return this;
+            }
+
+            @Override
+            public ThrowingConsumer2<T1, T2> andThenUnchecked(final ThrowingConsumer2<T1, T2> after) {
+                return consumer.andThenUnchecked(after.withinDeadline()).withinDeadline();
+            }
+
+            @Override
+            public <V> ThrowingFunction2<T1, T2, V> andThenUnchecked(final Function1<? super Void, ? extends V> after) {
+                return consumer.<V>andThenUnchecked((final Void v) -> {
+                    Deadline.check();
+                    return after.apply(v);
+                }).withinDeadline();
+            }
+        };
+    }
+
+    /**
+     * Returns an operation which is guarded by the given circuit breaker. Every throwable
+     * thrown by this operation is recorded as a failure. While the breaker is open, this
+     * operation is not called and a {@link CircuitBreaker.CallNotPermittedException} is
+     * thrown instead, which can be turned into a fallback by {@link #handle(Handler)}
+     * or {@link #swallow()}.
+     *
+     * @param breaker the circuit breaker guarding this operation
+     * @return an operation guarded by the circuit breaker
+     * @throws NullPointerException if {@code breaker} is null
+     *
+     * @see CircuitBreaker
+     */
+    default ThrowingConsumer2<T1, T2> circuitBreaker(final CircuitBreaker breaker) {
+        Objects.requireNonNull(breaker, "The circuit breaker cannot be null.");
+        return (final T1 t1, final T2 t2) -> {
+            final long permit = breaker.acquire();
+            try {
+                this.accept(t1, t2);
+            } catch (final Throwable t) {
+                breaker.onFailure(permit);
+                throw t;
+            }
+            breaker.onSuccess(permit);
+        };
+    }
+
+    /**
+     * Returns an operation which records its calls into the metrics registered under
+     * the given name: the number of calls, the number of those which threw, and
+     * the latencies of the calls sampled by the registry. The metrics are looked up
+     * once, when this method is called.
+     *
+     * @param name the name to record the metrics under
+     * @param registry the registry holding the metrics
+     * @return an instrumented operation
+     * @throws NullPointerException if {@code name} or {@code registry} is null
+     *
+     * @see MetricsRegistry
+     */
+    default ThrowingConsumer2<T1, T2> instrumented(final String name, final MetricsRegistry registry) {
+        final InvocationMetrics metrics = Objects.requireNonNull(registry, "The registry cannot be null.").metrics(Objects.requireNonNull(name, "The name cannot be null."));
+        return (final T1 t1, final T2 t2) -> {
+            final long start = metrics.start();
+            try {
+                this.accept(t1, t2);
+            } catch (final Throwable t) {
+                metrics.failed(start);
+                throw t;
+            }
+            metrics.succeeded(start);
+        };
+    }
+
     @Override
     default ThrowingConsumer2<T1, T2> andThen(final ThrowingConsumer2<T1, T2> after) {
         return (ThrowingConsumer2<T1, T2>) AbstractThrowingConsumer2.super.andThen(after);
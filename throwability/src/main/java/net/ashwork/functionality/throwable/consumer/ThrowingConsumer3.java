@@ -0,0 +1,106 @@
+/*
+ * Throwability (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.throwable.consumer;
+
+import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.consumer.Consumer3;
+import net.ashwork.functionality.throwable.ThrowingFunction3;
+import net.ashwork.functionality.throwable.abstracts.consumer.AbstractThrowingConsumer3;
+
+/**
+ * Represents an operation that accepts three arguments and returns no result or throws a throwable.
+ * This is the three-arity specialization of {@link ThrowingConsumerN}.
+ * This is the non-producing specialization of {@link ThrowingFunction3}.
+ * This is the throwing variation of {@link Consumer3}.
+ *
+ * <p>This is a functional interface whose functional method is {@link #accept(Object, Object, Object)}.
+ *
+ * @param <T1> the type of the first argument to the operation
+ * @param <T2> the type of the second argument to the operation
+ * @param <T3> the type of the third argument to the operation
+ *
+ * @see ThrowingConsumerN
+ * @see ThrowingFunction3
+ * @see Consumer3
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface ThrowingConsumer3<T1, T2, T3> extends AbstractThrowingConsumer3<T1, T2, T3, AbstractThrowingConsumer3.Handler<T1, T2, T3>, ThrowingConsumer3<T1, T2, T3>> {
+
+    /**
+     * Creates a throwing instance from a non-throwable type.
+     *
+     * @param consumer the non-throwing type
+     * @param <T1> the type of the first argument to the operation
+     * @param <T2> the type of the second argument to the operation
+     * @param <T3> the type of the third argument to the operation
+     * @return a throwing instance of the original type
+     *
+     * @see Consumer3
+     */
+    static <T1, T2, T3> ThrowingConsumer3<T1, T2, T3> from(final Consumer3<T1, T2, T3> consumer) {
+        return consumer::accept;
+    }
+
+    /**
+     * @see Consumer3
+     */
+    @Override
+    default Consumer3<T1, T2, T3> handle(final Handler<T1, T2, T3> handler) {
+        return (final T1 t1, final T2 t2, final T3 t3) -> {
+            try {
+                this.accept(t1, t2, t3);
+            } catch (final Throwable t) {
+                handler.acceptThrown(t, t1, t2, t3);
+            }
+        };
+    }
+
+    /**
+     * @see Consumer3
+     */
+    @Override
+    default Consumer3<T1, T2, T3> swallow() {
+        return this.handle((t, t1, t2, t3) -> {});
+    }
+
+    @Override
+    default ThrowingConsumer3<T1, T2, T3> andThen(final ThrowingConsumer3<T1, T2, T3> after) {
+        return (ThrowingConsumer3<T1, T2, T3>) AbstractThrowingConsumer3.super.andThen(after);
+    }
+
+    @Override
+    default ThrowingConsumer3<T1, T2, T3> andThenUnchecked(final ThrowingConsumer3<T1, T2, T3> after) {
+        return (final T1 t1, final T2 t2, final T3 t3) -> {
+            this.accept(t1, t2, t3);
+            after.accept(t1, t2, t3);
+        };
+    }
+
+    /**
+     * @see ThrowingFunction3
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    default <V> ThrowingFunction3<T1, T2, T3, V> andThen(final Function1<? super Void, ? extends V> after) {
+        return (ThrowingFunction3<T1, T2, T3, V>) AbstractThrowingConsumer3.super.andThen(after);
+    }
+
+    /**
+     * @see ThrowingFunction3
+     */
+    @Override
+    default <V> ThrowingFunction3<T1, T2, T3, V> andThenUnchecked(final Function1<? super Void, ? extends V> after) {
+        return (final T1 t1, final T2 t2, final T3 t3) -> {
+            this.accept(t1, t2, t3);
+            return after.apply(null);
+        };
+    }
+}
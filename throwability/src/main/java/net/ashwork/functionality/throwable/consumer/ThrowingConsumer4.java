@@ -0,0 +1,108 @@
+/*
+ * Throwability (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.throwable.consumer;
+
+import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.consumer.Consumer4;
+import net.ashwork.functionality.throwable.ThrowingFunction4;
+import net.ashwork.functionality.throwable.abstracts.consumer.AbstractThrowingConsumer4;
+
+/**
+ * Represents an operation that accepts four arguments and returns no result or throws a throwable.
+ * This is the four-arity specialization of {@link ThrowingConsumerN}.
+ * This is the non-producing specialization of {@link ThrowingFunction4}.
+ * This is the throwing variation of {@link Consumer4}.
+ *
+ * <p>This is a functional interface whose functional method is {@link #accept(Object, Object, Object, Object)}.
+ *
+ * @param <T1> the type of the first argument to the operation
+ * @param <T2> the type of the second argument to the operation
+ * @param <T3> the type of the third argument to the operation
+ * @param <T4> the type of the fourth argument to the operation
+ *
+ * @see ThrowingConsumerN
+ * @see ThrowingFunction4
+ * @see Consumer4
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface ThrowingConsumer4<T1, T2, T3, T4> extends AbstractThrowingConsumer4<T1, T2, T3, T4, AbstractThrowingConsumer4.Handler<T1, T2, T3, T4>, ThrowingConsumer4<T1, T2, T3, T4>> {
+
+    /**
+     * Creates a throwing instance from a non-throwable type.
+     *
+     * @param consumer the non-throwing type
+     * @param <T1> the type of the first argument to the operation
+     * @param <T2> the type of the second argument to the operation
+     * @param <T3> the type of the third argument to the operation
+     * @param <T4> the type of the fourth argument to the operation
+     * @return a throwing instance of the original type
+     *
+     * @see Consumer4
+     */
+    static <T1, T2, T3, T4> ThrowingConsumer4<T1, T2, T3, T4> from(final Consumer4<T1, T2, T3, T4> consumer) {
+        return consumer::accept;
+    }
+
+    /**
+     * @see Consumer4
+     */
+    @Override
+    default Consumer4<T1, T2, T3, T4> handle(final Handler<T1, T2, T3, T4> handler) {
+        return (final T1 t1, final T2 t2, final T3 t3, final T4 t4) -> {
+            try {
+                this.accept(t1, t2, t3, t4);
+            } catch (final Throwable t) {
+                handler.acceptThrown(t, t1, t2, t3, t4);
+            }
+        };
+    }
+
+    /**
+     * @see Consumer4
+     */
+    @Override
+    default Consumer4<T1, T2, T3, T4> swallow() {
+        return this.handle((t, t1, t2, t3, t4) -> {});
+    }
+
+    @Override
+    default ThrowingConsumer4<T1, T2, T3, T4> andThen(final ThrowingConsumer4<T1, T2, T3, T4> after) {
+        return (ThrowingConsumer4<T1, T2, T3, T4>) AbstractThrowingConsumer4.super.andThen(after);
+    }
+
+    @Override
+    default ThrowingConsumer4<T1, T2, T3, T4> andThenUnchecked(final ThrowingConsumer4<T1, T2, T3, T4> after) {
+        return (final T1 t1, final T2 t2, final T3 t3, final T4 t4) -> {
+            this.accept(t1, t2, t3, t4);
+            after.accept(t1, t2, t3, t4);
+        };
+    }
+
+    /**
+     * @see ThrowingFunction4
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    default <V> ThrowingFunction4<T1, T2, T3, T4, V> andThen(final Function1<? super Void, ? extends V> after) {
+        return (ThrowingFunction4<T1, T2, T3, T4, V>) AbstractThrowingConsumer4.super.andThen(after);
+    }
+
+    /**
+     * @see ThrowingFunction4
+     */
+    @Override
+    default <V> ThrowingFunction4<T1, T2, T3, T4, V> andThenUnchecked(final Function1<? super Void, ? extends V> after) {
+        return (final T1 t1, final T2 t2, final T3 t3, final T4 t4) -> {
+            this.accept(t1, t2, t3, t4);
+            return after.apply(null);
+        };
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Throwability (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.throwable.consumer;
+
+import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.consumer.Consumer5;
+import net.ashwork.functionality.throwable.ThrowingFunction5;
+import net.ashwork.functionality.throwable.abstracts.consumer.AbstractThrowingConsumer5;
+
+/**
+ * Represents an operation that accepts five arguments and returns no result or throws a throwable.
+ * This is the five-arity specialization of {@link ThrowingConsumerN}.
+ * This is the non-producing specialization of {@link ThrowingFunction5}.
+ * This is the throwing variation of {@link Consumer5}.
+ *
+ * <p>This is a functional interface whose functional method is {@link #accept(Object, Object, Object, Object, Object)}.
+ *
+ * @param <T1> the type of the first argument to the operation
+ * @param <T2> the type of the second argument to the operation
+ * @param <T3> the type of the third argument to the operation
+ * @param <T4> the type of the fourth argument to the operation
+ * @param <T5> the type of the fifth argument to the operation
+ *
+ * @see ThrowingConsumerN
+ * @see ThrowingFunction5
+ * @see Consumer5
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface ThrowingConsumer5<T1, T2, T3, T4, T5> extends AbstractThrowingConsumer5<T1, T2, T3, T4, T5, AbstractThrowingConsumer5.Handler<T1, T2, T3, T4, T5>, ThrowingConsumer5<T1, T2, T3, T4, T5>> {
+
+    /**
+     * Creates a throwing instance from a non-throwable type.
+     *
+     * @param consumer the non-throwing type
+     * @param <T1> the type of the first argument to the operation
+     * @param <T2> the type of the second argument to the operation
+     * @param <T3> the type of the third argument to the operation
+     * @param <T4> the type of the fourth argument to the operation
+     * @param <T5> the type of the fifth argument to the operation
+     * @return a throwing instance of the original type
+     *
+     * @see Consumer5
+     */
+    static <T1, T2, T3, T4, T5> ThrowingConsumer5<T1, T2, T3, T4, T5> from(final Consumer5<T1, T2, T3, T4, T5> consumer) {
+        return consumer::accept;
+    }
+
+    /**
+     * @see Consumer5
+     */
+    @Override
+    default Consumer5<T1, T2, T3, T4, T5> handle(final Handler<T1, T2, T3, T4, T5> handler) {
+        return (final T1 t1, final T2 t2, final T3 t3, final T4 t4, final T5 t5) -> {
+            try {
+                this.accept(t1, t2, t3, t4, t5);
+            } catch (final Throwable t) {
+                handler.acceptThrown(t, t1, t2, t3, t4, t5);
+            }
+        };
+    }
+
+    /**
+     * @see Consumer5
+     */
+    @Override
+    default Consumer5<T1, T2, T3, T4, T5> swallow() {
+        return this.handle((t, t1, t2, t3, t4, t5) -> {});
+    }
+
+    @Override
+    default ThrowingConsumer5<T1, T2, T3, T4, T5> andThen(final ThrowingConsumer5<T1, T2, T3, T4, T5> after) {
+        return (ThrowingConsumer5<T1, T2, T3, T4, T5>) AbstractThrowingConsumer5.super.andThen(after);
+    }
+
+    @Override
+    default ThrowingConsumer5<T1, T2, T3, T4, T5> andThenUnchecked(final ThrowingConsumer5<T1, T2, T3, T4, T5> after) {
+        return (final T1 t1, final T2 t2, final T3 t3, final T4 t4, final T5 t5) -> {
+            this.accept(t1, t2, t3, t4, t5);
+            after.accept(t1, t2, t3, t4, t5);
+        };
+    }
+
+    /**
+     * @see ThrowingFunction5
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    default <V> ThrowingFunction5<T1, T2, T3, T4, T5, V> andThen(final Function1<? super Void, ? extends V> after) {
+        return (ThrowingFunction5<T1, T2, T3, T4, T5, V>) AbstractThrowingConsumer5.super.andThen(after);
+    }
+
+    /**
+     * @see ThrowingFunction5
+     */
+    @Override
+    default <V> ThrowingFunction5<T1, T2, T3, T4, T5, V> andThenUnchecked(final Function1<? super Void, ? extends V> after) {
+        return (final T1 t1, final T2 t2, final T3 t3, final T4 t4, final T5 t5) -> {
+            this.accept(t1, t2, t3, t4, t5);
+            return after.apply(null);
+        };
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Throwability (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.throwable.consumer;
+
+import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.consumer.Consumer6;
+import net.ashwork.functionality.throwable.ThrowingFunction6;
+import net.ashwork.functionality.throwable.abstracts.consumer.AbstractThrowingConsumer6;
+
+/**
+ * Represents an operation that accepts six arguments and returns no result or throws a throwable.
+ * This is the six-arity specialization of {@link ThrowingConsumerN}.
+ * This is the non-producing specialization of {@link ThrowingFunction6}.
+ * This is the throwing variation of {@link Consumer6}.
+ *
+ * <p>This is a functional interface whose functional method is {@link #accept(Object, Object, Object, Object, Object, Object)}.
+ *
+ * @param <T1> the type of the first argument to the operation
+ * @param <T2> the type of the second argument to the operation
+ * @param <T3> the type of the third argument to the operation
+ * @param <T4> the type of the fourth argument to the operation
+ * @param <T5> the type of the fifth argument to the operation
+ * @param <T6> the type of the sixth argument to the operation
+ *
+ * @see ThrowingConsumerN
+ * @see ThrowingFunction6
+ * @see Consumer6
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface ThrowingConsumer6<T1, T2, T3, T4, T5, T6> extends AbstractThrowingConsumer6<T1, T2, T3, T4, T5, T6, AbstractThrowingConsumer6.Handler<T1, T2, T3, T4, T5, T6>, ThrowingConsumer6<T1, T2, T3, T4, T5, T6>> {
+
+    /**
+     * Creates a throwing instance from a non-throwable type.
+     *
+     * @param consumer the non-throwing type
+     * @param <T1> the type of the first argument to the operation
+     * @param <T2> the type of the second argument to the operation
+     * @param <T3> the type of the third argument to the operation
+     * @param <T4> the type of the fourth argument to the operation
+     * @param <T5> the type of the fifth argument to the operation
+     * @param <T6> the type of the sixth argument to the operation
+     * @return a throwing instance of the original type
+     *
+     * @see Consumer6
+     */
+    static <T1, T2, T3, T4, T5, T6> ThrowingConsumer6<T1, T2, T3, T4, T5, T6> from(final Consumer6<T1, T2, T3, T4, T5, T6> consumer) {
+        return consumer::accept;
+    }
+
+    /**
+     * @see Consumer6
+     */
+    @Override
+    default Consumer6<T1, T2, T3, T4, T5, T6> handle(final Handler<T1, T2, T3, T4, T5, T6> handler) {
+        return (final T1 t1, final T2 t2, final T3 t3, final T4 t4, final T5 t5, final T6 t6) -> {
+            try {
+                this.accept(t1, t2, t3, t4, t5, t6);
+            } catch (final Throwable t) {
+                handler.acceptThrown(t, t1, t2, t3, t4, t5, t6);
+            }
+        };
+    }
+
+    /**
+     * @see Consumer6
+     */
+    @Override
+    default Consumer6<T1, T2, T3, T4, T5, T6> swallow() {
+        return this.handle((t, t1, t2, t3, t4, t5, t6) -> {});
+    }
+
+    @Override
+    default ThrowingConsumer6<T1, T2, T3, T4, T5, T6> andThen(final ThrowingConsumer6<T1, T2, T3, T4, T5, T6> after) {
+        return (ThrowingConsumer6<T1, T2, T3, T4, T5, T6>) AbstractThrowingConsumer6.super.andThen(after);
+    }
+
+    @Override
+    default ThrowingConsumer6<T1, T2, T3, T4, T5, T6> andThenUnchecked(final ThrowingConsumer6<T1, T2, T3, T4, T5, T6> after) {
+        return (final T1 t1, final T2 t2, final T3 t3, final T4 t4, final T5 t5, final T6 t6) -> {
+            this.accept(t1, t2, t3, t4, t5, t6);
+            after.accept(t1, t2, t3, t4, t5, t6);
+        };
+    }
+
+    /**
+     * @see ThrowingFunction6
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    default <V> ThrowingFunction6<T1, T2, T3, T4, T5, T6, V> andThen(final Function1<? super Void, ? extends V> after) {
+        return (ThrowingFunction6<T1, T2, T3, T4, T5, T6, V>) AbstractThrowingConsumer6.super.andThen(after);
+    }
+
+    /**
+     * @see ThrowingFunction6
+     */
+    @Override
+    default <V> ThrowingFunction6<T1, T2, T3, T4, T5, T6, V> andThenUnchecked(final Function1<? super Void, ? extends V> after) {
+        return (final T1 t1, final T2 t2, final T3 t3, final T4 t4, final T5 t5, final T6 t6) -> {
+            this.accept(t1, t2, t3, t4, t5, t6);
+            return after.apply(null);
+        };
+    }
+}
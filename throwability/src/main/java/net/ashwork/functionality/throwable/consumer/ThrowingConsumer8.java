@@ -0,0 +1,116 @@
+/*
+ * Throwability (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.throwable.consumer;
+
+import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.consumer.Consumer8;
+import net.ashwork.functionality.throwable.ThrowingFunction8;
+import net.ashwork.functionality.throwable.abstracts.consumer.AbstractThrowingConsumer8;
+
+/**
+ * Represents an operation that accepts eight arguments and returns no result or throws a throwable.
+ * This is the eight-arity specialization of {@link ThrowingConsumerN}.
+ * This is the non-producing specialization of {@link ThrowingFunction8}.
+ * This is the throwing variation of {@link Consumer8}.
+ *
+ * <p>This is a functional interface whose functional method is {@link #accept(Object, Object, Object, Object, Object, Object, Object, Object)}.
+ *
+ * @param <T1> the type of the first argument to the operation
+ * @param <T2> the type of the second argument to the operation
+ * @param <T3> the type of the third argument to the operation
+ * @param <T4> the type of the fourth argument to the operation
+ * @param <T5> the type of the fifth argument to the operation
+ * @param <T6> the type of the sixth argument to the operation
+ * @param <T7> the type of the seventh argument to the operation
+ * @param <T8> the type of the eighth argument to the operation
+ *
+ * @see ThrowingConsumerN
+ * @see ThrowingFunction8
+ * @see Consumer8
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface ThrowingConsumer8<T1, T2, T3, T4, T5, T6, T7, T8> extends AbstractThrowingConsumer8<T1, T2, T3, T4, T5, T6, T7, T8, AbstractThrowingConsumer8.Handler<T1, T2, T3, T4, T5, T6, T7, T8>, ThrowingConsumer8<T1, T2, T3, T4, T5, T6, T7, T8>> {
+
+    /**
+     * Creates a throwing instance from a non-throwable type.
+     *
+     * @param consumer the non-throwing type
+     * @param <T1> the type of the first argument to the operation
+     * @param <T2> the type of the second argument to the operation
+     * @param <T3> the type of the third argument to the operation
+     * @param <T4> the type of the fourth argument to the operation
+     * @param <T5> the type of the fifth argument to the operation
+     * @param <T6> the type of the sixth argument to the operation
+     * @param <T7> the type of the seventh argument to the operation
+     * @param <T8> the type of the eighth argument to the operation
+     * @return a throwing instance of the original type
+     *
+     * @see Consumer8
+     */
+    static <T1, T2, T3, T4, T5, T6, T7, T8> ThrowingConsumer8<T1, T2, T3, T4, T5, T6, T7, T8> from(final Consumer8<T1, T2, T3, T4, T5, T6, T7, T8> consumer) {
+        return consumer::accept;
+    }
+
+    /**
+     * @see Consumer8
+     */
+    @Override
+    default Consumer8<T1, T2, T3, T4, T5, T6, T7, T8> handle(final Handler<T1, T2, T3, T4, T5, T6, T7, T8> handler) {
+        return (final T1 t1, final T2 t2, final T3 t3, final T4 t4, final T5 t5, final T6 t6, final T7 t7, final T8 t8) -> {
+            try {
+                this.accept(t1, t2, t3, t4, t5, t6, t7, t8);
+            } catch (final Throwable t) {
+                handler.acceptThrown(t, t1, t2, t3, t4, t5, t6, t7, t8);
+            }
+        };
+    }
+
+    /**
+     * @see Consumer8
+     */
+    @Override
+    default Consumer8<T1, T2, T3, T4, T5, T6, T7, T8> swallow() {
+        return this.handle((t, t1, t2, t3, t4, t5, t6, t7, t8) -> {});
+    }
+
+    @Override
+    default ThrowingConsumer8<T1, T2, T3, T4, T5, T6, T7, T8> andThen(final ThrowingConsumer8<T1, T2, T3, T4, T5, T6, T7, T8> after) {
+        return (ThrowingConsumer8<T1, T2, T3, T4, T5, T6, T7, T8>) AbstractThrowingConsumer8.super.andThen(after);
+    }
+
+    @Override
+    default ThrowingConsumer8<T1, T2, T3, T4, T5, T6, T7, T8> andThenUnchecked(final ThrowingConsumer8<T1, T2, T3, T4, T5, T6, T7, T8> after) {
+        return (final T1 t1, final T2 t2, final T3 t3, final T4 t4, final T5 t5, final T6 t6, final T7 t7, final T8 t8) -> {
+            this.accept(t1, t2, t3, t4, t5, t6, t7, t8);
+            after.accept(t1, t2, t3, t4, t5, t6, t7, t8);
+        };
+    }
+
+    /**
+     * @see ThrowingFunction8
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    default <V> ThrowingFunction8<T1, T2, T3, T4, T5, T6, T7, T8, V> andThen(final Function1<? super Void, ? extends V> after) {
+        return (ThrowingFunction8<T1, T2, T3, T4, T5, T6, T7, T8, V>) AbstractThrowingConsumer8.super.andThen(after);
+    }
+
+    /**
+     * @see ThrowingFunction8
+     */
+    @Override
+    default <V> ThrowingFunction8<T1, T2, T3, T4, T5, T6, T7, T8, V> andThenUnchecked(final Function1<? super Void, ? extends V> after) {
+        return (final T1 t1, final T2 t2, final T3 t3, final T4 t4, final T5 t5, final T6 t6, final T7 t7, final T8 t8) -> {
+            this.accept(t1, t2, t3, t4, t5, t6, t7, t8);
+            return after.apply(null);
+        };
+    }
+}
@@ -13,10 +13,13 @@ import net.ashwork.functionality.Function1;
 import net.ashwork.functionality.consumer.primitive.doubles.DoubleConsumer1;
 import net.ashwork.functionality.throwable.ThrowingFunction1;
 import net.ashwork.functionality.throwable.abstracts.consumer.primitive.doubles.AbstractThrowingDoubleConsumer1;
+import net.ashwork.functionality.throwable.concurrent.CircuitBreaker;
 import net.ashwork.functionality.throwable.consumer.ThrowingConsumer1;
 import net.ashwork.functionality.throwable.consumer.ThrowingConsumerN;
 import net.ashwork.functionality.throwable.primitive.doubles.ThrowingDoubleFunction1;
 
+import java.util.Objects;
+
 /**
  * Represents an operation that accepts a {@code double}-valued argument and returns no result or throws a throwable.
  * This is the one-arity specialization of {@link ThrowingConsumerN}.
@@ -77,6 +80,33 @@ public interface ThrowingDoubleConsumer1 extends AbstractThrowingDoubleConsumer1
         return this.handle((t, value) -> {});
     }
 
+    /**
+     * Returns an operation which is guarded by the given circuit breaker. Every throwable
+     * thrown by this operation is recorded as a failure. While the breaker is open, this
+     * operation is not called and a {@link CircuitBreaker.CallNotPermittedException} is
+     * thrown instead, which can be turned into a fallback by {@link #handle(Handler)}
+     * or {@link #swallow()}.
+     *
+     * @param breaker the circuit breaker guarding this operation
+     * @return an operation guarded by the circuit breaker
+     * @throws NullPointerException if {@code breaker} is null
+     *
+     * @see CircuitBreaker
+     */
+    default ThrowingDoubleConsumer1 circuitBreaker(final CircuitBreaker breaker) {
+        Objects.requireNonNull(breaker, "The circuit breaker cannot be null.");
+        return (final double value) -> {
+            final long permit = breaker.acquire();
+            try {
+                this.accept(value);
+            } catch (final Throwable t) {
+                breaker.onFailure(permit);
+                throw t;
+            }
+            breaker.onSuccess(permit);
+        };
+    }
+
     @Override
     default ThrowingDoubleConsumer1 andThen(final ThrowingDoubleConsumer1 after) {
         return (ThrowingDoubleConsumer1) AbstractThrowingDoubleConsumer1.super.andThen(after);
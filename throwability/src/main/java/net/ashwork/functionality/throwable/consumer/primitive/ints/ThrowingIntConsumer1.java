@@ -13,9 +13,13 @@ import net.ashwork.functionality.Function1;
 import net.ashwork.functionality.consumer.primitive.ints.IntConsumer1;
 import net.ashwork.functionality.throwable.ThrowingFunction1;
 import net.ashwork.functionality.throwable.abstracts.consumer.primitive.ints.AbstractThrowingIntConsumer1;
+import net.ashwork.functionality.throwable.concurrent.CircuitBreaker;
 import net.ashwork.functionality.throwable.consumer.ThrowingConsumer1;
 import net.ashwork.functionality.throwable.consumer.ThrowingConsumerN;
 import net.ashwork.functionality.throwable.primitive.ints.ThrowingIntFunction1;
+import net.ashwork.functionality.throwable.result.ErrorReport;
+
+import java.util.Objects;
 
 /**
  * Represents an operation that accepts a {@code int}-valued argument and returns no result or throws a throwable.
@@ -77,6 +81,61 @@ public interface ThrowingIntConsumer1 extends AbstractThrowingIntConsumer1<Abstr
         return this.handle((t, value) -> {});
     }
 
+    /**
+     * Performs this operation on each value in order, recording every throwable
+     * thrown into the given report instead of stopping. If the report becomes
+     * full, the remaining values are skipped.
+     *
+     * @param values the values to perform this operation on
+     * @param errors the report to record failures into
+     * @return {@code errors}
+     * @throws NullPointerException if {@code values} or {@code errors} is null
+     *
+     * @see ErrorReport
+     */
+    default ErrorReport forEachHandled(final int[] values, final ErrorReport errors) {
+        Objects.requireNonNull(values, "The inputs cannot be null.");
+        Objects.requireNonNull(errors, "The error report cannot be null.");
+        if (errors.isFull())
+            return errors;
+        for (int i = 0; i < values.length; i++) {
+            try {
+                this.accept(values[i]);
+            } catch (final Throwable t) {
+                if (!errors.record(i, t))
+                    break;
+            }
+        }
+        return errors;
+    }
+
+    /**
+     * Returns an operation which is guarded by the given circuit breaker. Every throwable
+     * thrown by this operation is recorded as a failure. While the breaker is open, this
+     * operation is not called and a {@link CircuitBreaker.CallNotPermittedException} is
+     * thrown instead, which can be turned into a fallback by {@link #handle(Handler)}
+     * or {@link #swallow()}.
+     *
+     * @param breaker the circuit breaker guarding this operation
+     * @return an operation guarded by the circuit breaker
+     * @throws NullPointerException if {@code breaker} is null
+     *
+     * @see CircuitBreaker
+     */
+    default ThrowingIntConsumer1 circuitBreaker(final CircuitBreaker breaker) {
+        Objects.requireNonNull(breaker, "The circuit breaker cannot be null.");
+        return (final int value) -> {
+            final long permit = breaker.acquire();
+            try {
+                this.accept(value);
+            } catch (final Throwable t) {
+                breaker.onFailure(permit);
+                throw t;
+            }
+            breaker.onSuccess(permit);
+        };
+    }
+
     @Override
     default ThrowingIntConsumer1 andThen(final ThrowingIntConsumer1 after) {
         return (ThrowingIntConsumer1) AbstractThrowingIntConsumer1.super.andThen(after);
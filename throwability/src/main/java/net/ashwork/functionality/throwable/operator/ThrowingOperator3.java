@@ -0,0 +1,73 @@
+/*
+ * Throwability (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.throwable.operator;
+
+import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.operator.Operator3;
+import net.ashwork.functionality.throwable.ThrowingFunction3;
+import net.ashwork.functionality.throwable.abstracts.AbstractThrowingFunction3;
+import net.ashwork.functionality.throwable.abstracts.operator.AbstractThrowingOperator3;
+
+/**
+ * Represents an operation that accepts three operands and produces a result of the same type as its operands.
+ * This is the three-arity specialization of {@link ThrowingOperatorN}.
+ * This is a specialization of {@link ThrowingFunction3} where the operands and result are of the same type.
+ * This is the throwing variation of {@link Operator3}.
+ *
+ * <p>This is a functional interface whose functional method is {@link #apply(Object, Object, Object)}.
+ *
+ * @param <T> the type of the operands and result of the operator
+ *
+ * @see ThrowingOperatorN
+ * @see ThrowingFunction3
+ * @see Operator3
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface ThrowingOperator3<T> extends AbstractThrowingOperator3<T, AbstractThrowingFunction3.Handler<T, T, T, T>> {
+
+    /**
+     * Creates a throwing instance from a non-throwable type.
+     *
+     * @param operator the non-throwing type
+     * @param <T> the type of the operands and result of the operator
+     * @return a throwing instance of the original type
+     *
+     * @see Operator3
+     */
+    static <T> ThrowingOperator3<T> from(final Operator3<T> operator) {
+        return operator::apply;
+    }
+
+    /**
+     * @see Operator3
+     */
+    @Override
+    default Operator3<T> swallow() {
+        return this.handle((t, t1, t2, t3) -> null);
+    }
+
+    /**
+     * @see ThrowingFunction3
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    default <V> ThrowingFunction3<T, T, T, V> andThen(final Function1<? super T, ? extends V> after) {
+        return (ThrowingFunction3<T, T, T, V>) AbstractThrowingOperator3.super.andThen(after);
+    }
+
+    /**
+     * @see ThrowingFunction3
+     */
+    @Override
+    default <V> ThrowingFunction3<T, T, T, V> andThenUnchecked(final Function1<? super T, ? extends V> after) {
+        return (final T t1, final T t2, final T t3) -> after.apply(this.apply(t1, t2, t3));
+    }
+}
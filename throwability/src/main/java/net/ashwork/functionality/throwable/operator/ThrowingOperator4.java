@@ -0,0 +1,73 @@
+/*
+ * Throwability (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.throwable.operator;
+
+import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.operator.Operator4;
+import net.ashwork.functionality.throwable.ThrowingFunction4;
+import net.ashwork.functionality.throwable.abstracts.AbstractThrowingFunction4;
+import net.ashwork.functionality.throwable.abstracts.operator.AbstractThrowingOperator4;
+
+/**
+ * Represents an operation that accepts four operands and produces a result of the same type as its operands.
+ * This is the four-arity specialization of {@link ThrowingOperatorN}.
+ * This is a specialization of {@link ThrowingFunction4} where the operands and result are of the same type.
+ * This is the throwing variation of {@link Operator4}.
+ *
+ * <p>This is a functional interface whose functional method is {@link #apply(Object, Object, Object, Object)}.
+ *
+ * @param <T> the type of the operands and result of the operator
+ *
+ * @see ThrowingOperatorN
+ * @see ThrowingFunction4
+ * @see Operator4
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface ThrowingOperator4<T> extends AbstractThrowingOperator4<T, AbstractThrowingFunction4.Handler<T, T, T, T, T>> {
+
+    /**
+     * Creates a throwing instance from a non-throwable type.
+     *
+     * @param operator the non-throwing type
+     * @param <T> the type of the operands and result of the operator
+     * @return a throwing instance of the original type
+     *
+     * @see Operator4
+     */
+    static <T> ThrowingOperator4<T> from(final Operator4<T> operator) {
+        return operator::apply;
+    }
+
+    /**
+     * @see Operator4
+     */
+    @Override
+    default Operator4<T> swallow() {
+        return this.handle((t, t1, t2, t3, t4) -> null);
+    }
+
+    /**
+     * @see ThrowingFunction4
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    default <V> ThrowingFunction4<T, T, T, T, V> andThen(final Function1<? super T, ? extends V> after) {
+        return (ThrowingFunction4<T, T, T, T, V>) AbstractThrowingOperator4.super.andThen(after);
+    }
+
+    /**
+     * @see ThrowingFunction4
+     */
+    @Override
+    default <V> ThrowingFunction4<T, T, T, T, V> andThenUnchecked(final Function1<? super T, ? extends V> after) {
+        return (final T t1, final T t2, final T t3, final T t4) -> after.apply(this.apply(t1, t2, t3, t4));
+    }
+}
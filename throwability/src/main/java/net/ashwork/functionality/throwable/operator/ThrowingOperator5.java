@@ -0,0 +1,73 @@
+/*
+ * Throwability (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.throwable.operator;
+
+import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.operator.Operator5;
+import net.ashwork.functionality.throwable.ThrowingFunction5;
+import net.ashwork.functionality.throwable.abstracts.AbstractThrowingFunction5;
+import net.ashwork.functionality.throwable.abstracts.operator.AbstractThrowingOperator5;
+
+/**
+ * Represents an operation that accepts five operands and produces a result of the same type as its operands.
+ * This is the five-arity specialization of {@link ThrowingOperatorN}.
+ * This is a specialization of {@link ThrowingFunction5} where the operands and result are of the same type.
+ * This is the throwing variation of {@link Operator5}.
+ *
+ * <p>This is a functional interface whose functional method is {@link #apply(Object, Object, Object, Object, Object)}.
+ *
+ * @param <T> the type of the operands and result of the operator
+ *
+ * @see ThrowingOperatorN
+ * @see ThrowingFunction5
+ * @see Operator5
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface ThrowingOperator5<T> extends AbstractThrowingOperator5<T, AbstractThrowingFunction5.Handler<T, T, T, T, T, T>> {
+
+    /**
+     * Creates a throwing instance from a non-throwable type.
+     *
+     * @param operator the non-throwing type
+     * @param <T> the type of the operands and result of the operator
+     * @return a throwing instance of the original type
+     *
+     * @see Operator5
+     */
+    static <T> ThrowingOperator5<T> from(final Operator5<T> operator) {
+        return operator::apply;
+    }
+
+    /**
+     * @see Operator5
+     */
+    @Override
+    default Operator5<T> swallow() {
+        return this.handle((t, t1, t2, t3, t4, t5) -> null);
+    }
+
+    /**
+     * @see ThrowingFunction5
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    default <V> ThrowingFunction5<T, T, T, T, T, V> andThen(final Function1<? super T, ? extends V> after) {
+        return (ThrowingFunction5<T, T, T, T, T, V>) AbstractThrowingOperator5.super.andThen(after);
+    }
+
+    /**
+     * @see ThrowingFunction5
+     */
+    @Override
+    default <V> ThrowingFunction5<T, T, T, T, T, V> andThenUnchecked(final Function1<? super T, ? extends V> after) {
+        return (final T t1, final T t2, final T t3, final T t4, final T t5) -> after.apply(this.apply(t1, t2, t3, t4, t5));
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Throwability (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.throwable.operator;
+
+import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.operator.Operator7;
+import net.ashwork.functionality.throwable.ThrowingFunction7;
+import net.ashwork.functionality.throwable.abstracts.AbstractThrowingFunction7;
+import net.ashwork.functionality.throwable.abstracts.operator.AbstractThrowingOperator7;
+
+/**
+ * Represents an operation that accepts seven operands and produces a result of the same type as its operands.
+ * This is the seven-arity specialization of {@link ThrowingOperatorN}.
+ * This is a specialization of {@link ThrowingFunction7} where the operands and result are of the same type.
+ * This is the throwing variation of {@link Operator7}.
+ *
+ * <p>This is a functional interface whose functional method is {@link #apply(Object, Object, Object, Object, Object, Object, Object)}.
+ *
+ * @param <T> the type of the operands and result of the operator
+ *
+ * @see ThrowingOperatorN
+ * @see ThrowingFunction7
+ * @see Operator7
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface ThrowingOperator7<T> extends AbstractThrowingOperator7<T, AbstractThrowingFunction7.Handler<T, T, T, T, T, T, T, T>> {
+
+    /**
+     * Creates a throwing instance from a non-throwable type.
+     *
+     * @param operator the non-throwing type
+     * @param <T> the type of the operands and result of the operator
+     * @return a throwing instance of the original type
+     *
+     * @see Operator7
+     */
+    static <T> ThrowingOperator7<T> from(final Operator7<T> operator) {
+        return operator::apply;
+    }
+
+    /**
+     * @see Operator7
+     */
+    @Override
+    default Operator7<T> swallow() {
+        return this.handle((t, t1, t2, t3, t4, t5, t6, t7) -> null);
+    }
+
+    /**
+     * @see ThrowingFunction7
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    default <V> ThrowingFunction7<T, T, T, T, T, T, T, V> andThen(final Function1<? super T, ? extends V> after) {
+        return (ThrowingFunction7<T, T, T, T, T, T, T, V>) AbstractThrowingOperator7.super.andThen(after);
+    }
+
+    /**
+     * @see ThrowingFunction7
+     */
+    @Override
+    default <V> ThrowingFunction7<T, T, T, T, T, T, T, V> andThenUnchecked(final Function1<? super T, ? extends V> after) {
+        return (final T t1, final T t2, final T t3, final T t4, final T t5, final T t6, final T t7) -> after.apply(this.apply(t1, t2, t3, t4, t5, t6, t7));
+    }
+}
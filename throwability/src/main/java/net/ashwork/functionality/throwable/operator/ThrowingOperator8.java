@@ -0,0 +1,73 @@
+/*
+ * Throwability (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.throwable.operator;
+
+import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.operator.Operator8;
+import net.ashwork.functionality.throwable.ThrowingFunction8;
+import net.ashwork.functionality.throwable.abstracts.AbstractThrowingFunction8;
+import net.ashwork.functionality.throwable.abstracts.operator.AbstractThrowingOperator8;
+
+/**
+ * Represents an operation that accepts eight operands and produces a result of the same type as its operands.
+ * This is the eight-arity specialization of {@link ThrowingOperatorN}.
+ * This is a specialization of {@link ThrowingFunction8} where the operands and result are of the same type.
+ * This is the throwing variation of {@link Operator8}.
+ *
+ * <p>This is a functional interface whose functional method is {@link #apply(Object, Object, Object, Object, Object, Object, Object, Object)}.
+ *
+ * @param <T> the type of the operands and result of the operator
+ *
+ * @see ThrowingOperatorN
+ * @see ThrowingFunction8
+ * @see Operator8
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface ThrowingOperator8<T> extends AbstractThrowingOperator8<T, AbstractThrowingFunction8.Handler<T, T, T, T, T, T, T, T, T>> {
+
+    /**
+     * Creates a throwing instance from a non-throwable type.
+     *
+     * @param operator the non-throwing type
+     * @param <T> the type of the operands and result of the operator
+     * @return a throwing instance of the original type
+     *
+     * @see Operator8
+     */
+    static <T> ThrowingOperator8<T> from(final Operator8<T> operator) {
+        return operator::apply;
+    }
+
+    /**
+     * @see Operator8
+     */
+    @Override
+    default Operator8<T> swallow() {
+        return this.handle((t, t1, t2, t3, t4, t5, t6, t7, t8) -> null);
+    }
+
+    /**
+     * @see ThrowingFunction8
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    default <V> ThrowingFunction8<T, T, T, T, T, T, T, T, V> andThen(final Function1<? super T, ? extends V> after) {
+        return (ThrowingFunction8<T, T, T, T, T, T, T, T, V>) AbstractThrowingOperator8.super.andThen(after);
+    }
+
+    /**
+     * @see ThrowingFunction8
+     */
+    @Override
+    default <V> ThrowingFunction8<T, T, T, T, T, T, T, T, V> andThenUnchecked(final Function1<? super T, ? extends V> after) {
+        return (final T t1, final T t2, final T t3, final T t4, final T t5, final T t6, final T t7, final T t8) -> after.apply(this.apply(t1, t2, t3, t4, t5, t6, t7, t8));
+    }
+}
@@ -10,6 +10,8 @@
 package net.ashwork.functionality.throwable.operator.primitive.doubles;
 
 import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.metrics.InvocationMetrics;
+import net.ashwork.functionality.metrics.MetricsRegistry;
 import net.ashwork.functionality.operator.primitive.doubles.DoubleOperator1;
 import net.ashwork.functionality.throwable.abstracts.operator.primitive.doubles.AbstractThrowingDoubleOperator1;
 import net.ashwork.functionality.throwable.operator.ThrowingOperator1;
@@ -17,6 +19,8 @@ import net.ashwork.functionality.throwable.operator.ThrowingOperatorN;
 import net.ashwork.functionality.throwable.primitive.doubles.ThrowingDoubleFunction1;
 import net.ashwork.functionality.throwable.primitive.doubles.ThrowingToDoubleFunction1;
 
+import java.util.Objects;
+
 /**
  * Represents an operation that accepts a {@code double}-valued operand and produces a result of the same type as its operand or throws a throwable.
  * This is the one-arity specialization of {@link ThrowingOperatorN}.
@@ -79,6 +83,35 @@ public interface ThrowingDoubleOperator1 extends AbstractThrowingDoubleOperator1
         return this.handle((t, value) -> 0.0d);
     }
 
+    /**
+     * Returns an operator which records its calls into the metrics registered under
+     * the given name: the number of calls, the number of those which threw, and
+     * the latencies of the calls sampled by the registry. The metrics are looked up
+     * once, when this method is called.
+     *
+     * @param name the name to record the metrics under
+     * @param registry the registry holding the metrics
+     * @return an instrumented operator
+     * @throws NullPointerException if {@code name} or {@code registry} is null
+     *
+     * @see MetricsRegistry
+     */
+    default ThrowingDoubleOperator1 instrumented(final String name, final MetricsRegistry registry) {
+        final InvocationMetrics metrics = Objects.requireNonNull(registry, "The registry cannot be null.").metrics(Objects.requireNonNull(name, "The name cannot be null."));
+        return (final double value) -> {
+            final long start = metrics.start();
+            final double result;
+            try {
+                result = this.applyAsDouble(value);
+            } catch (final Throwable t) {
+                metrics.failed(start);
+                throw t;
+            }
+            metrics.succeeded(start);
+            return result;
+        };
+    }
+
     /**
      * @see ThrowingToDoubleFunction1
      */
@@ -10,12 +10,17 @@
 package net.ashwork.functionality.throwable.operator.primitive.ints;
 
 import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.metrics.InvocationMetrics;
+import net.ashwork.functionality.metrics.MetricsRegistry;
 import net.ashwork.functionality.operator.primitive.ints.IntOperator1;
 import net.ashwork.functionality.throwable.abstracts.operator.primitive.ints.AbstractThrowingIntOperator1;
 import net.ashwork.functionality.throwable.operator.ThrowingOperator1;
 import net.ashwork.functionality.throwable.operator.ThrowingOperatorN;
 import net.ashwork.functionality.throwable.primitive.ints.ThrowingIntFunction1;
 import net.ashwork.functionality.throwable.primitive.ints.ThrowingToIntFunction1;
+import net.ashwork.functionality.throwable.result.IntResult;
+
+import java.util.Objects;
 
 /**
  * Represents an operation that accepts an {@code int}-valued operand and produces a result of the same type as its operand or throws a throwable.
@@ -79,6 +84,71 @@ public interface ThrowingIntOperator1 extends AbstractThrowingIntOperator1<Abstr
         return this.handle((t, value) -> 0);
     }
 
+    /**
+     * Applies this operator and returns its outcome as a result instead of throwing.
+     *
+     * @param value the operand
+     * @return a new result holding the value returned or the throwable thrown
+     *
+     * @see IntResult
+     */
+    default IntResult tryApplyAsInt(final int value) {
+        try {
+            return IntResult.success(this.applyAsInt(value));
+        } catch (final Throwable t) {
+            return IntResult.failure(t);
+        }
+    }
+
+    /**
+     * Applies this operator and writes its outcome into the given result instead of
+     * throwing, so that a single result can be reused without allocating.
+     *
+     * @param value the operand
+     * @param into the result to overwrite with the outcome
+     * @return {@code into}
+     * @throws NullPointerException if {@code into} is null
+     *
+     * @see IntResult
+     */
+    default IntResult tryApplyAsInt(final int value, final IntResult into) {
+        Objects.requireNonNull(into, "The result cannot be null.");
+        try {
+            return into.succeed(this.applyAsInt(value));
+        } catch (final Throwable t) {
+            return into.fail(t);
+        }
+    }
+
+    /**
+     * Returns an operator which records its calls into the metrics registered under
+     * the given name: the number of calls, the number of those which threw, and
+     * the latencies of the calls sampled by the registry. The metrics are looked up
+     * once, when this method is called.
+     *
+     * @param name the name to record the metrics under
+     * @param registry the registry holding the metrics
+     * @return an instrumented operator
+     * @throws NullPointerException if {@code name} or {@code registry} is null
+     *
+     * @see MetricsRegistry
+     */
+    default ThrowingIntOperator1 instrumented(final String name, final MetricsRegistry registry) {
+        final InvocationMetrics metrics = Objects.requireNonNull(registry, "The registry cannot be null.").metrics(Objects.requireNonNull(name, "The name cannot be null."));
+        return (final int value) -> {
+            final long start = metrics.start();
+            final int result;
+            try {
+                result = this.applyAsInt(value);
+            } catch (final Throwable t) {
+                metrics.failed(start);
+                throw t;
+            }
+            metrics.succeeded(start);
+            return result;
+        };
+    }
+
     /**
      * @see ThrowingToIntFunction1
      */
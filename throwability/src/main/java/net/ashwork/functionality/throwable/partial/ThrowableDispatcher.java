@@ -0,0 +1,230 @@
+/*
+ * Throwability (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.throwable.partial;
+
+import net.ashwork.functionality.throwable.abstracts.AbstractThrowingFunction1;
+import net.ashwork.functionality.throwable.abstracts.consumer.AbstractThrowingConsumer1;
+import net.ashwork.functionality.throwable.abstracts.predicate.AbstractThrowingPredicate1;
+import net.ashwork.functionality.throwable.abstracts.primitive.doubles.AbstractThrowingToDoubleFunction1;
+import net.ashwork.functionality.throwable.abstracts.primitive.ints.AbstractThrowingToIntFunction1;
+import net.ashwork.functionality.throwable.abstracts.primitive.longs.AbstractThrowingToLongFunction1;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Represents a selection of handlers keyed by the class of the throwable they
+ * handle. A throwable is dispatched to the handler registered for its nearest
+ * class in its superclass chain, or to the fallback handler if none is registered.
+ * The handler for each concrete throwable class is resolved once and cached in a
+ * {@link ClassValue}, so dispatching does not walk the registrations again.
+ *
+ * <p>A dispatcher is generic over the type of its handlers, so it can select
+ * the handler of any throwing object. The handler families of single argument
+ * functions, consumers, and predicates can be adapted into a single handler to
+ * pass to {@link ThrowableHandler#handle(Object)}, such as with
+ * {@link #toLongFunction1Handler(ThrowableDispatcher)}. Any other family is adapted
+ * with a lambda, such as {@code (t, t1, t2) -> dispatcher.handlerFor(t).onThrown(t, t1, t2)}.
+ *
+ * <p>Dispatchers are created by a {@link Builder} and are immutable once built,
+ * so a dispatcher can be safely shared between threads and handlers.
+ *
+ * @param <H> the type of the handlers
+ *
+ * @see ThrowableHandler
+ * @since 1.0.0
+ */
+public final class ThrowableDispatcher<H> {
+
+    private final Map<Class<? extends Throwable>, H> handlers;
+    private final H fallback;
+    private final ClassValue<H> resolved;
+
+    private ThrowableDispatcher(final Map<Class<? extends Throwable>, H> handlers, final H fallback) {
+        this.handlers = handlers;
+        this.fallback = fallback;
+        this.resolved = new ClassValue<H>() {
+            @Override
+            protected H computeValue(final Class<?> type) {
+                return ThrowableDispatcher.this.resolve(type);
+            }
+        };
+    }
+
+    /**
+     * Creates a builder of a dispatcher which passes every throwable without
+     * a registered handler to the fallback handler.
+     *
+     * @param fallback the handler for throwables without a registered handler
+     * @param <H> the type of the handlers
+     * @return a new builder
+     * @throws NullPointerException if {@code fallback} is null
+     */
+    public static <H> Builder<H> builder(final H fallback) {
+        return new Builder<>(Objects.requireNonNull(fallback, "The fallback handler cannot be null."));
+    }
+
+    /**
+     * Returns the handler for the given throwable.
+     *
+     * @param t the throwable to handle
+     * @return the handler registered for the nearest class of the throwable,
+     *         or the fallback handler if there is none
+     * @throws NullPointerException if {@code t} is null
+     */
+    public H handlerFor(final Throwable t) {
+        return this.resolved.get(t.getClass());
+    }
+
+    /**
+     * Returns the handler for throwables of the given class.
+     *
+     * @param type the class of the throwables to handle
+     * @return the handler registered for the nearest class in the superclass chain,
+     *         or the fallback handler if there is none
+     * @throws NullPointerException if {@code type} is null
+     */
+    public H handlerFor(final Class<? extends Throwable> type) {
+        return this.resolved.get(type);
+    }
+
+    private H resolve(final Class<?> type) {
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            final H handler = this.handlers.get(current);
+            if (handler != null)
+                return handler;
+        }
+        return this.fallback;
+    }
+
+    /**
+     * Adapts a dispatcher of function handlers into a single handler.
+     *
+     * @param dispatcher the dispatcher selecting the handler
+     * @param <T1> the type of the input to the function
+     * @param <R> the type of the result of the function
+     * @return a handler which passes every throwable to the handler selected for it
+     * @throws NullPointerException if {@code dispatcher} is null
+     */
+    public static <T1, R> AbstractThrowingFunction1.Handler<T1, R> toFunction1Handler(final ThrowableDispatcher<? extends AbstractThrowingFunction1.Handler<T1, R>> dispatcher) {
+        Objects.requireNonNull(dispatcher, "The dispatcher cannot be null.");
+        return (t, t1) -> dispatcher.handlerFor(t).onThrown(t, t1);
+    }
+
+    /**
+     * Adapts a dispatcher of operation handlers into a single handler.
+     *
+     * @param dispatcher the dispatcher selecting the handler
+     * @param <T1> the type of the input to the operation
+     * @return a handler which passes every throwable to the handler selected for it
+     * @throws NullPointerException if {@code dispatcher} is null
+     */
+    public static <T1> AbstractThrowingConsumer1.Handler<T1> toConsumer1Handler(final ThrowableDispatcher<? extends AbstractThrowingConsumer1.Handler<T1>> dispatcher) {
+        Objects.requireNonNull(dispatcher, "The dispatcher cannot be null.");
+        return (t, t1) -> dispatcher.handlerFor(t).acceptThrown(t, t1);
+    }
+
+    /**
+     * Adapts a dispatcher of predicate handlers into a single handler.
+     *
+     * @param dispatcher the dispatcher selecting the handler
+     * @param <T1> the type of the input to the predicate
+     * @return a handler which passes every throwable to the handler selected for it
+     * @throws NullPointerException if {@code dispatcher} is null
+     */
+    public static <T1> AbstractThrowingPredicate1.Handler<T1> toPredicate1Handler(final ThrowableDispatcher<? extends AbstractThrowingPredicate1.Handler<T1>> dispatcher) {
+        Objects.requireNonNull(dispatcher, "The dispatcher cannot be null.");
+        return (t, t1) -> dispatcher.handlerFor(t).testThrown(t, t1);
+    }
+
+    /**
+     * Adapts a dispatcher of {@code int}-producing function handlers into a single handler.
+     *
+     * @param dispatcher the dispatcher selecting the handler
+     * @param <T1> the type of the input to the function
+     * @return a handler which passes every throwable to the handler selected for it
+     * @throws NullPointerException if {@code dispatcher} is null
+     */
+    public static <T1> AbstractThrowingToIntFunction1.Handler<T1> toIntFunction1Handler(final ThrowableDispatcher<? extends AbstractThrowingToIntFunction1.Handler<T1>> dispatcher) {
+        Objects.requireNonNull(dispatcher, "The dispatcher cannot be null.");
+        return (t, t1) -> dispatcher.handlerFor(t).onThrownAsInt(t, t1);
+    }
+
+    /**
+     * Adapts a dispatcher of {@code long}-producing function handlers into a single handler.
+     *
+     * @param dispatcher the dispatcher selecting the handler
+     * @param <T1> the type of the input to the function
+     * @return a handler which passes every throwable to the handler selected for it
+     * @throws NullPointerException if {@code dispatcher} is null
+     */
+    public static <T1> AbstractThrowingToLongFunction1.Handler<T1> toLongFunction1Handler(final ThrowableDispatcher<? extends AbstractThrowingToLongFunction1.Handler<T1>> dispatcher) {
+        Objects.requireNonNull(dispatcher, "The dispatcher cannot be null.");
+        return (t, t1) -> dispatcher.handlerFor(t).onThrownAsLong(t, t1);
+    }
+
+    /**
+     * Adapts a dispatcher of {@code double}-producing function handlers into a single handler.
+     *
+     * @param dispatcher the dispatcher selecting the handler
+     * @param <T1> the type of the input to the function
+     * @return a handler which passes every throwable to the handler selected for it
+     * @throws NullPointerException if {@code dispatcher} is null
+     */
+    public static <T1> AbstractThrowingToDoubleFunction1.Handler<T1> toDoubleFunction1Handler(final ThrowableDispatcher<? extends AbstractThrowingToDoubleFunction1.Handler<T1>> dispatcher) {
+        Objects.requireNonNull(dispatcher, "The dispatcher cannot be null.");
+        return (t, t1) -> dispatcher.handlerFor(t).onThrownAsDouble(t, t1);
+    }
+
+    /**
+     * A builder which registers the handlers of a {@link ThrowableDispatcher}.
+     * The registrations are copied when the dispatcher is built, so a builder
+     * can continue to be used afterwards without affecting it.
+     *
+     * @param <H> the type of the handlers
+     */
+    public static final class Builder<H> {
+
+        private final Map<Class<? extends Throwable>, H> handlers;
+        private final H fallback;
+
+        private Builder(final H fallback) {
+            this.handlers = new LinkedHashMap<>();
+            this.fallback = fallback;
+        }
+
+        /**
+         * Passes throwables of the given class, or any of its subclasses without a
+         * nearer registration, to the handler. A handler already registered for the
+         * class is replaced.
+         *
+         * @param type the class of the throwables to handle
+         * @param handler the handler for the throwables
+         * @return this builder
+         * @throws NullPointerException if {@code type} or {@code handler} is null
+         */
+        public Builder<H> on(final Class<? extends Throwable> type, final H handler) {
+            Objects.requireNonNull(type, "The throwable class cannot be null.");
+            Objects.requireNonNull(handler, "The handler cannot be null.");
+            this.handlers.put(type, handler);
+            return this;
+        }
+
+        /**
+         * Builds a dispatcher with the handlers registered so far.
+         *
+         * @return a new dispatcher
+         */
+        public ThrowableDispatcher<H> build() {
+            return new ThrowableDispatcher<>(new LinkedHashMap<>(this.handlers), this.fallback);
+        }
+    }
+}
@@ -10,11 +10,15 @@
 package net.ashwork.functionality.throwable.predicate;
 
 import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.metrics.InvocationMetrics;
+import net.ashwork.functionality.metrics.MetricsRegistry;
 import net.ashwork.functionality.predicate.Predicate0;
 import net.ashwork.functionality.throwable.ThrowingFunction0;
 import net.ashwork.functionality.throwable.abstracts.predicate.AbstractThrowingPredicate0;
 import net.ashwork.functionality.throwable.primitive.booleans.ThrowingToBooleanFunction0;
 
+import java.util.Objects;
+
 /**
  * Represents a predicate that accepts no arguments and produces a {@code boolean}-valued result or throws a throwable.
  * This is the zero-arity specialization for {@link ThrowingPredicateN}.
@@ -85,6 +89,35 @@ public interface ThrowingPredicate0 extends AbstractThrowingPredicate0<AbstractT
         return this.handle(t -> false);
     }
 
+    /**
+     * Returns a predicate which records its calls into the metrics registered under
+     * the given name: the number of calls, the number of those which threw, and
+     * the latencies of the calls sampled by the registry. The metrics are looked up
+     * once, when this method is called.
+     *
+     * @param name the name to record the metrics under
+     * @param registry the registry holding the metrics
+     * @return an instrumented predicate
+     * @throws NullPointerException if {@code name} or {@code registry} is null
+     *
+     * @see MetricsRegistry
+     */
+    default ThrowingPredicate0 instrumented(final String name, final MetricsRegistry registry) {
+        final InvocationMetrics metrics = Objects.requireNonNull(registry, "The registry cannot be null.").metrics(Objects.requireNonNull(name, "The name cannot be null."));
+        return () -> {
+            final long start = metrics.start();
+            final boolean result;
+            try {
+                result = this.test();
+            } catch (final Throwable t) {
+                metrics.failed(start);
+                throw t;
+            }
+            metrics.succeeded(start);
+            return result;
+        };
+    }
+
     /**
      * @see ThrowingFunction0
      */
@@ -10,11 +10,16 @@
 package net.ashwork.functionality.throwable.predicate;
 
 import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.metrics.InvocationMetrics;
+import net.ashwork.functionality.metrics.MetricsRegistry;
 import net.ashwork.functionality.predicate.Predicate1;
 import net.ashwork.functionality.throwable.ThrowingFunction1;
 import net.ashwork.functionality.throwable.abstracts.predicate.AbstractThrowingPredicate1;
+import net.ashwork.functionality.throwable.concurrent.CircuitBreaker;
 import net.ashwork.functionality.throwable.primitive.booleans.ThrowingToBooleanFunction1;
 
+import java.util.Objects;
+
 /**
  * Represents a predicate that accepts one argument and produces a {@code boolean}-valued result or throws a throwable.
  * This is the one-arity specialization for {@link ThrowingPredicateN}.
@@ -89,6 +94,64 @@ public interface ThrowingPredicate1<T1> extends AbstractThrowingPredicate1<T1, A
         return this.handle((t, t1) -> false);
     }
 
+    /**
+     * Returns a predicate which is guarded by the given circuit breaker. Every throwable
+     * thrown by this predicate is recorded as a failure. While the breaker is open, this
+     * predicate is not called and a {@link CircuitBreaker.CallNotPermittedException} is
+     * thrown instead, which can be turned into a fallback by {@link #handle(Handler)}
+     * or {@link #swallow()}.
+     *
+     * @param breaker the circuit breaker guarding this predicate
+     * @return a predicate guarded by the circuit breaker
+     * @throws NullPointerException if {@code breaker} is null
+     *
+     * @see CircuitBreaker
+     */
+    default ThrowingPredicate1<T1> circuitBreaker(final CircuitBreaker breaker) {
+        Objects.requireNonNull(breaker, "The circuit breaker cannot be null.");
+        return (final T1 t1) -> {
+            final long permit = breaker.acquire();
+            final boolean result;
+            try {
+                result = this.test(t1);
+            } catch (final Throwable t) {
+                breaker.onFailure(permit);
+                throw t;
+            }
+            breaker.onSuccess(permit);
+            return result;
+        };
+    }
+
+    /**
+     * Returns a predicate which records its calls into the metrics registered under
+     * the given name: the number of calls, the number of those which threw, and
+     * the latencies of the calls sampled by the registry. The metrics are looked up
+     * once, when this method is called.
+     *
+     * @param name the name to record the metrics under
+     * @param registry the registry holding the metrics
+     * @return an instrumented predicate
+     * @throws NullPointerException if {@code name} or {@code registry} is null
+     *
+     * @see MetricsRegistry
+     */
+    default ThrowingPredicate1<T1> instrumented(final String name, final MetricsRegistry registry) {
+        final InvocationMetrics metrics = Objects.requireNonNull(registry, "The registry cannot be null.").metrics(Objects.requireNonNull(name, "The name cannot be null."));
+        return (final T1 t1) -> {
+            final long start = metrics.start();
+            final boolean result;
+            try {
+                result = this.test(t1);
+            } catch (final Throwable t) {
+                metrics.failed(start);
+                throw t;
+            }
+            metrics.succeeded(start);
+            return result;
+        };
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     default <V> ThrowingPredicate1<V> compose(final Function1<? super V, ? extends T1> before) {
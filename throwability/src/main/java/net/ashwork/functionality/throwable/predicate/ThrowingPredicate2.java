@@ -10,11 +10,15 @@
 package net.ashwork.functionality.throwable.predicate;
 
 import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.metrics.InvocationMetrics;
+import net.ashwork.functionality.metrics.MetricsRegistry;
 import net.ashwork.functionality.predicate.Predicate2;
 import net.ashwork.functionality.throwable.ThrowingFunction2;
 import net.ashwork.functionality.throwable.abstracts.predicate.AbstractThrowingPredicate2;
 import net.ashwork.functionality.throwable.primitive.booleans.ThrowingToBooleanFunction2;
 
+import java.util.Objects;
+
 /**
  * Represents a predicate that accepts two arguments and produces a {@code boolean}-valued result or throws a throwable.
  * This is the one-arity specialization for {@link ThrowingPredicateN}.
@@ -92,6 +96,35 @@ public interface ThrowingPredicate2<T1, T2> extends AbstractThrowingPredicate2<T
         return this.handle((t, t1, t2) -> false);
     }
 
+    /**
+     * Returns a predicate which records its calls into the metrics registered under
+     * the given name: the number of calls, the number of those which threw, and
+     * the latencies of the calls sampled by the registry. The metrics are looked up
+     * once, when this method is called.
+     *
+     * @param name the name to record the metrics under
+     * @param registry the registry holding the metrics
+     * @return an instrumented predicate
+     * @throws NullPointerException if {@code name} or {@code registry} is null
+     *
+     * @see MetricsRegistry
+     */
+    default ThrowingPredicate2<T1, T2> instrumented(final String name, final MetricsRegistry registry) {
+        final InvocationMetrics metrics = Objects.requireNonNull(registry, "The registry cannot be null.").metrics(Objects.requireNonNull(name, "The name cannot be null."));
+        return (final T1 t1, final T2 t2) -> {
+            final long start = metrics.start();
+            final boolean result;
+            try {
+                result = this.test(t1, t2);
+            } catch (final Throwable t) {
+                metrics.failed(start);
+                throw t;
+            }
+            metrics.succeeded(start);
+            return result;
+        };
+    }
+
     /**
      * @see ThrowingFunction2
      */
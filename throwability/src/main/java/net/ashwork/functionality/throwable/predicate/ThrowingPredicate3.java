@@ -0,0 +1,133 @@
+/*
+ * Throwability (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.throwable.predicate;
+
+import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.predicate.Predicate3;
+import net.ashwork.functionality.throwable.ThrowingFunction3;
+import net.ashwork.functionality.throwable.abstracts.predicate.AbstractThrowingPredicate3;
+
+/**
+ * Represents a predicate that accepts three arguments and produces a {@code boolean}-valued result or throws a throwable.
+ * This is the three-arity specialization for {@link ThrowingPredicateN}.
+ * This is the throwing variation of {@link Predicate3}.
+ *
+ * <p>This is a functional interface whose functional method is {@link #test(Object, Object, Object)}.
+ *
+ * @param <T1> the type of the first argument to the predicate
+ * @param <T2> the type of the second argument to the predicate
+ * @param <T3> the type of the third argument to the predicate
+ *
+ * @see ThrowingPredicateN
+ * @see Predicate3
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface ThrowingPredicate3<T1, T2, T3> extends AbstractThrowingPredicate3<T1, T2, T3, AbstractThrowingPredicate3.Handler<T1, T2, T3>, ThrowingPredicate3<T1, T2, T3>> {
+
+    /**
+     * Creates a throwing instance from a non-throwable type.
+     *
+     * @param predicate the non-throwing type
+     * @param <T1> the type of the first argument to the predicate
+     * @param <T2> the type of the second argument to the predicate
+     * @param <T3> the type of the third argument to the predicate
+     * @return a throwing instance of the original type
+     *
+     * @see Predicate3
+     */
+    static <T1, T2, T3> ThrowingPredicate3<T1, T2, T3> from(final Predicate3<T1, T2, T3> predicate) {
+        return predicate::test;
+    }
+
+    /**
+     * @see Predicate3
+     */
+    @Override
+    default Predicate3<T1, T2, T3> handle(final Handler<T1, T2, T3> handler) {
+        return (final T1 t1, final T2 t2, final T3 t3) -> {
+            try {
+                return this.test(t1, t2, t3);
+            } catch (final Throwable t) {
+                return handler.testThrown(t, t1, t2, t3);
+            }
+        };
+    }
+
+    /**
+     * @see Predicate3
+     */
+    @Override
+    default Predicate3<T1, T2, T3> swallow() {
+        return this.handle((t, t1, t2, t3) -> false);
+    }
+
+    /**
+     * @see ThrowingFunction3
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    default <V> ThrowingFunction3<T1, T2, T3, V> andThen(final Function1<? super Boolean, ? extends V> after) {
+        return (ThrowingFunction3<T1, T2, T3, V>) AbstractThrowingPredicate3.super.andThen(after);
+    }
+
+    /**
+     * @see ThrowingFunction3
+     */
+    @Override
+    default <V> ThrowingFunction3<T1, T2, T3, V> andThenUnchecked(final Function1<? super Boolean, ? extends V> after) {
+        return (final T1 t1, final T2 t2, final T3 t3) -> after.apply(this.test(t1, t2, t3));
+    }
+
+    @Override
+    default ThrowingPredicate3<T1, T2, T3> not() {
+        return (final T1 t1, final T2 t2, final T3 t3) -> !this.test(t1, t2, t3);
+    }
+
+    @Override
+    default ThrowingPredicate3<T1, T2, T3> and(final ThrowingPredicate3<T1, T2, T3> other) {
+        return (final T1 t1, final T2 t2, final T3 t3) -> this.test(t1, t2, t3) && other.test(t1, t2, t3);
+    }
+
+    @Override
+    default ThrowingPredicate3<T1, T2, T3> or(final ThrowingPredicate3<T1, T2, T3> other) {
+        return (final T1 t1, final T2 t2, final T3 t3) -> this.test(t1, t2, t3) || other.test(t1, t2, t3);
+    }
+
+    @Override
+    default ThrowingPredicate3<T1, T2, T3> xor(final ThrowingPredicate3<T1, T2, T3> other) {
+        return (ThrowingPredicate3<T1, T2, T3>) AbstractThrowingPredicate3.super.xor(other);
+    }
+
+    @Override
+    default ThrowingPredicate3<T1, T2, T3> sub(final ThrowingPredicate3<T1, T2, T3> other) {
+        return (ThrowingPredicate3<T1, T2, T3>) AbstractThrowingPredicate3.super.sub(other);
+    }
+
+    @Override
+    default ThrowingPredicate3<T1, T2, T3> nand(final ThrowingPredicate3<T1, T2, T3> other) {
+        return (ThrowingPredicate3<T1, T2, T3>) AbstractThrowingPredicate3.super.nand(other);
+    }
+
+    @Override
+    default ThrowingPredicate3<T1, T2, T3> nor(final ThrowingPredicate3<T1, T2, T3> other) {
+        return (ThrowingPredicate3<T1, T2, T3>) AbstractThrowingPredicate3.super.nor(other);
+    }
+
+    @Override
+    default ThrowingPredicate3<T1, T2, T3> xnor(final ThrowingPredicate3<T1, T2, T3> other) {
+        return (ThrowingPredicate3<T1, T2, T3>) AbstractThrowingPredicate3.super.xnor(other);
+    }
+
+    @Override
+    default ThrowingPredicate3<T1, T2, T3> orNot(final ThrowingPredicate3<T1, T2, T3> other) {
+        return (ThrowingPredicate3<T1, T2, T3>) AbstractThrowingPredicate3.super.orNot(other);
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Throwability (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.throwable.predicate;
+
+import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.predicate.Predicate4;
+import net.ashwork.functionality.throwable.ThrowingFunction4;
+import net.ashwork.functionality.throwable.abstracts.predicate.AbstractThrowingPredicate4;
+
+/**
+ * Represents a predicate that accepts four arguments and produces a {@code boolean}-valued result or throws a throwable.
+ * This is the four-arity specialization for {@link ThrowingPredicateN}.
+ * This is the throwing variation of {@link Predicate4}.
+ *
+ * <p>This is a functional interface whose functional method is {@link #test(Object, Object, Object, Object)}.
+ *
+ * @param <T1> the type of the first argument to the predicate
+ * @param <T2> the type of the second argument to the predicate
+ * @param <T3> the type of the third argument to the predicate
+ * @param <T4> the type of the fourth argument to the predicate
+ *
+ * @see ThrowingPredicateN
+ * @see Predicate4
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface ThrowingPredicate4<T1, T2, T3, T4> extends AbstractThrowingPredicate4<T1, T2, T3, T4, AbstractThrowingPredicate4.Handler<T1, T2, T3, T4>, ThrowingPredicate4<T1, T2, T3, T4>> {
+
+    /**
+     * Creates a throwing instance from a non-throwable type.
+     *
+     * @param predicate the non-throwing type
+     * @param <T1> the type of the first argument to the predicate
+     * @param <T2> the type of the second argument to the predicate
+     * @param <T3> the type of the third argument to the predicate
+     * @param <T4> the type of the fourth argument to the predicate
+     * @return a throwing instance of the original type
+     *
+     * @see Predicate4
+     */
+    static <T1, T2, T3, T4> ThrowingPredicate4<T1, T2, T3, T4> from(final Predicate4<T1, T2, T3, T4> predicate) {
+        return predicate::test;
+    }
+
+    /**
+     * @see Predicate4
+     */
+    @Override
+    default Predicate4<T1, T2, T3, T4> handle(final Handler<T1, T2, T3, T4> handler) {
+        return (final T1 t1, final T2 t2, final T3 t3, final T4 t4) -> {
+            try {
+                return this.test(t1, t2, t3, t4);
+            } catch (final Throwable t) {
+                return handler.testThrown(t, t1, t2, t3, t4);
+            }
+        };
+    }
+
+    /**
+     * @see Predicate4
+     */
+    @Override
+    default Predicate4<T1, T2, T3, T4> swallow() {
+        return this.handle((t, t1, t2, t3, t4) -> false);
+    }
+
+    /**
+     * @see ThrowingFunction4
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    default <V> ThrowingFunction4<T1, T2, T3, T4, V> andThen(final Function1<? super Boolean, ? extends V> after) {
+        return (ThrowingFunction4<T1, T2, T3, T4, V>) AbstractThrowingPredicate4.super.andThen(after);
+    }
+
+    /**
+     * @see ThrowingFunction4
+     */
+    @Override
+    default <V> ThrowingFunction4<T1, T2, T3, T4, V> andThenUnchecked(final Function1<? super Boolean, ? extends V> after) {
+        return (final T1 t1, final T2 t2, final T3 t3, final T4 t4) -> after.apply(this.test(t1, t2, t3, t4));
+    }
+
+    @Override
+    default ThrowingPredicate4<T1, T2, T3, T4> not() {
+        return (final T1 t1, final T2 t2, final T3 t3, final T4 t4) -> !this.test(t1, t2, t3, t4);
+    }
+
+    @Override
+    default ThrowingPredicate4<T1, T2, T3, T4> and(final ThrowingPredicate4<T1, T2, T3, T4> other) {
+        return (final T1 t1, final T2 t2, final T3 t3, final T4 t4) -> this.test(t1, t2, t3, t4) && other.test(t1, t2, t3, t4);
+    }
+
+    @Override
+    default ThrowingPredicate4<T1, T2, T3, T4> or(final ThrowingPredicate4<T1, T2, T3, T4> other) {
+        return (final T1 t1, final T2 t2, final T3 t3, final T4 t4) -> this.test(t1, t2, t3, t4) || other.test(t1, t2, t3, t4);
+    }
+
+    @Override
+    default ThrowingPredicate4<T1, T2, T3, T4> xor(final ThrowingPredicate4<T1, T2, T3, T4> other) {
+        return (ThrowingPredicate4<T1, T2, T3, T4>) AbstractThrowingPredicate4.super.xor(other);
+    }
+
+    @Override
+    default ThrowingPredicate4<T1, T2, T3, T4> sub(final ThrowingPredicate4<T1, T2, T3, T4> other) {
+        return (ThrowingPredicate4<T1, T2, T3, T4>) AbstractThrowingPredicate4.super.sub(other);
+    }
+
+    @Override
+    default ThrowingPredicate4<T1, T2, T3, T4> nand(final ThrowingPredicate4<T1, T2, T3, T4> other) {
+        return (ThrowingPredicate4<T1, T2, T3, T4>) AbstractThrowingPredicate4.super.nand(other);
+    }
+
+    @Override
+    default ThrowingPredicate4<T1, T2, T3, T4> nor(final ThrowingPredicate4<T1, T2, T3, T4> other) {
+        return (ThrowingPredicate4<T1, T2, T3, T4>) AbstractThrowingPredicate4.super.nor(other);
+    }
+
+    @Override
+    default ThrowingPredicate4<T1, T2, T3, T4> xnor(final ThrowingPredicate4<T1, T2, T3, T4> other) {
+        return (ThrowingPredicate4<T1, T2, T3, T4>) AbstractThrowingPredicate4.super.xnor(other);
+    }
+
+    @Override
+    default ThrowingPredicate4<T1, T2, T3, T4> orNot(final ThrowingPredicate4<T1, T2, T3, T4> other) {
+        return (ThrowingPredicate4<T1, T2, T3, T4>) AbstractThrowingPredicate4.super.orNot(other);
+    }
+}
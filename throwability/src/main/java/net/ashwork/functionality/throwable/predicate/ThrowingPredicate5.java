@@ -0,0 +1,137 @@
+/*
+ * Throwability (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.throwable.predicate;
+
+import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.predicate.Predicate5;
+import net.ashwork.functionality.throwable.ThrowingFunction5;
+import net.ashwork.functionality.throwable.abstracts.predicate.AbstractThrowingPredicate5;
+
+/**
+ * Represents a predicate that accepts five arguments and produces a {@code boolean}-valued result or throws a throwable.
+ * This is the five-arity specialization for {@link ThrowingPredicateN}.
+ * This is the throwing variation of {@link Predicate5}.
+ *
+ * <p>This is a functional interface whose functional method is {@link #test(Object, Object, Object, Object, Object)}.
+ *
+ * @param <T1> the type of the first argument to the predicate
+ * @param <T2> the type of the second argument to the predicate
+ * @param <T3> the type of the third argument to the predicate
+ * @param <T4> the type of the fourth argument to the predicate
+ * @param <T5> the type of the fifth argument to the predicate
+ *
+ * @see ThrowingPredicateN
+ * @see Predicate5
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface ThrowingPredicate5<T1, T2, T3, T4, T5> extends AbstractThrowingPredicate5<T1, T2, T3, T4, T5, AbstractThrowingPredicate5.Handler<T1, T2, T3, T4, T5>, ThrowingPredicate5<T1, T2, T3, T4, T5>> {
+
+    /**
+     * Creates a throwing instance from a non-throwable type.
+     *
+     * @param predicate the non-throwing type
+     * @param <T1> the type of the first argument to the predicate
+     * @param <T2> the type of the second argument to the predicate
+     * @param <T3> the type of the third argument to the predicate
+     * @param <T4> the type of the fourth argument to the predicate
+     * @param <T5> the type of the fifth argument to the predicate
+     * @return a throwing instance of the original type
+     *
+     * @see Predicate5
+     */
+    static <T1, T2, T3, T4, T5> ThrowingPredicate5<T1, T2, T3, T4, T5> from(final Predicate5<T1, T2, T3, T4, T5> predicate) {
+        return predicate::test;
+    }
+
+    /**
+     * @see Predicate5
+     */
+    @Override
+    default Predicate5<T1, T2, T3, T4, T5> handle(final Handler<T1, T2, T3, T4, T5> handler) {
+        return (final T1 t1, final T2 t2, final T3 t3, final T4 t4, final T5 t5) -> {
+            try {
+                return this.test(t1, t2, t3, t4, t5);
+            } catch (final Throwable t) {
+                return handler.testThrown(t, t1, t2, t3, t4, t5);
+            }
+        };
+    }
+
+    /**
+     * @see Predicate5
+     */
+    @Override
+    default Predicate5<T1, T2, T3, T4, T5> swallow() {
+        return this.handle((t, t1, t2, t3, t4, t5) -> false);
+    }
+
+    /**
+     * @see ThrowingFunction5
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    default <V> ThrowingFunction5<T1, T2, T3, T4, T5, V> andThen(final Function1<? super Boolean, ? extends V> after) {
+        return (ThrowingFunction5<T1, T2, T3, T4, T5, V>) AbstractThrowingPredicate5.super.andThen(after);
+    }
+
+    /**
+     * @see ThrowingFunction5
+     */
+    @Override
+    default <V> ThrowingFunction5<T1, T2, T3, T4, T5, V> andThenUnchecked(final Function1<? super Boolean, ? extends V> after) {
+        return (final T1 t1, final T2 t2, final T3 t3, final T4 t4, final T5 t5) -> after.apply(this.test(t1, t2, t3, t4, t5));
+    }
+
+    @Override
+    default ThrowingPredicate5<T1, T2, T3, T4, T5> not() {
+        return (final T1 t1, final T2 t2, final T3 t3, final T4 t4, final T5 t5) -> !this.test(t1, t2, t3, t4, t5);
+    }
+
+    @Override
+    default ThrowingPredicate5<T1, T2, T3, T4, T5> and(final ThrowingPredicate5<T1, T2, T3, T4, T5> other) {
+        return (final T1 t1, final T2 t2, final T3 t3, final T4 t4, final T5 t5) -> this.test(t1, t2, t3, t4, t5) && other.test(t1, t2, t3, t4, t5);
+    }
+
+    @Override
+    default ThrowingPredicate5<T1, T2, T3, T4, T5> or(final ThrowingPredicate5<T1, T2, T3, T4, T5> other) {
+        return (final T1 t1, final T2 t2, final T3 t3, final T4 t4, final T5 t5) -> this.test(t1, t2, t3, t4, t5) || other.test(t1, t2, t3, t4, t5);
+    }
+
+    @Override
+    default ThrowingPredicate5<T1, T2, T3, T4, T5> xor(final ThrowingPredicate5<T1, T2, T3, T4, T5> other) {
+        return (ThrowingPredicate5<T1, T2, T3, T4, T5>) AbstractThrowingPredicate5.super.xor(other);
+    }
+
+    @Override
+    default ThrowingPredicate5<T1, T2, T3, T4, T5> sub(final ThrowingPredicate5<T1, T2, T3, T4, T5> other) {
+        return (ThrowingPredicate5<T1, T2, T3, T4, T5>) AbstractThrowingPredicate5.super.sub(other);
+    }
+
+    @Override
+    default ThrowingPredicate5<T1, T2, T3, T4, T5> nand(final ThrowingPredicate5<T1, T2, T3, T4, T5> other) {
+        return (ThrowingPredicate5<T1, T2, T3, T4, T5>) AbstractThrowingPredicate5.super.nand(other);
+    }
+
+    @Override
+    default ThrowingPredicate5<T1, T2, T3, T4, T5> nor(final ThrowingPredicate5<T1, T2, T3, T4, T5> other) {
+        return (ThrowingPredicate5<T1, T2, T3, T4, T5>) AbstractThrowingPredicate5.super.nor(other);
+    }
+
+    @Override
+    default ThrowingPredicate5<T1, T2, T3, T4, T5> xnor(final ThrowingPredicate5<T1, T2, T3, T4, T5> other) {
+        return (ThrowingPredicate5<T1, T2, T3, T4, T5>) AbstractThrowingPredicate5.super.xnor(other);
+    }
+
+    @Override
+    default ThrowingPredicate5<T1, T2, T3, T4, T5> orNot(final ThrowingPredicate5<T1, T2, T3, T4, T5> other) {
+        return (ThrowingPredicate5<T1, T2, T3, T4, T5>) AbstractThrowingPredicate5.super.orNot(other);
+    }
+}
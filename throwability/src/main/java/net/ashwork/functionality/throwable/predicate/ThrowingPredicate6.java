@@ -0,0 +1,139 @@
+/*
+ * Throwability (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.throwable.predicate;
+
+import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.predicate.Predicate6;
+import net.ashwork.functionality.throwable.ThrowingFunction6;
+import net.ashwork.functionality.throwable.abstracts.predicate.AbstractThrowingPredicate6;
+
+/**
+ * Represents a predicate that accepts six arguments and produces a {@code boolean}-valued result or throws a throwable.
+ * This is the six-arity specialization for {@link ThrowingPredicateN}.
+ * This is the throwing variation of {@link Predicate6}.
+ *
+ * <p>This is a functional interface whose functional method is {@link #test(Object, Object, Object, Object, Object, Object)}.
+ *
+ * @param <T1> the type of the first argument to the predicate
+ * @param <T2> the type of the second argument to the predicate
+ * @param <T3> the type of the third argument to the predicate
+ * @param <T4> the type of the fourth argument to the predicate
+ * @param <T5> the type of the fifth argument to the predicate
+ * @param <T6> the type of the sixth argument to the predicate
+ *
+ * @see ThrowingPredicateN
+ * @see Predicate6
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface ThrowingPredicate6<T1, T2, T3, T4, T5, T6> extends AbstractThrowingPredicate6<T1, T2, T3, T4, T5, T6, AbstractThrowingPredicate6.Handler<T1, T2, T3, T4, T5, T6>, ThrowingPredicate6<T1, T2, T3, T4, T5, T6>> {
+
+    /**
+     * Creates a throwing instance from a non-throwable type.
+     *
+     * @param predicate the non-throwing type
+     * @param <T1> the type of the first argument to the predicate
+     * @param <T2> the type of the second argument to the predicate
+     * @param <T3> the type of the third argument to the predicate
+     * @param <T4> the type of the fourth argument to the predicate
+     * @param <T5> the type of the fifth argument to the predicate
+     * @param <T6> the type of the sixth argument to the predicate
+     * @return a throwing instance of the original type
+     *
+     * @see Predicate6
+     */
+    static <T1, T2, T3, T4, T5, T6> ThrowingPredicate6<T1, T2, T3, T4, T5, T6> from(final Predicate6<T1, T2, T3, T4, T5, T6> predicate) {
+        return predicate::test;
+    }
+
+    /**
+     * @see Predicate6
+     */
+    @Override
+    default Predicate6<T1, T2, T3, T4, T5, T6> handle(final Handler<T1, T2, T3, T4, T5, T6> handler) {
+        return (final T1 t1, final T2 t2, final T3 t3, final T4 t4, final T5 t5, final T6 t6) -> {
+            try {
+                return this.test(t1, t2, t3, t4, t5, t6);
+            } catch (final Throwable t) {
+                return handler.testThrown(t, t1, t2, t3, t4, t5, t6);
+            }
+        };
+    }
+
+    /**
+     * @see Predicate6
+     */
+    @Override
+    default Predicate6<T1, T2, T3, T4, T5, T6> swallow() {
+        return this.handle((t, t1, t2, t3, t4, t5, t6) -> false);
+    }
+
+    /**
+     * @see ThrowingFunction6
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    default <V> ThrowingFunction6<T1, T2, T3, T4, T5, T6, V> andThen(final Function1<? super Boolean, ? extends V> after) {
+        return (ThrowingFunction6<T1, T2, T3, T4, T5, T6, V>) AbstractThrowingPredicate6.super.andThen(after);
+    }
+
+    /**
+     * @see ThrowingFunction6
+     */
+    @Override
+    default <V> ThrowingFunction6<T1, T2, T3, T4, T5, T6, V> andThenUnchecked(final Function1<? super Boolean, ? extends V> after) {
+        return (final T1 t1, final T2 t2, final T3 t3, final T4 t4, final T5 t5, final T6 t6) -> after.apply(this.test(t1, t2, t3, t4, t5, t6));
+    }
+
+    @Override
+    default ThrowingPredicate6<T1, T2, T3, T4, T5, T6> not() {
+        return (final T1 t1, final T2 t2, final T3 t3, final T4 t4, final T5 t5, final T6 t6) -> !this.test(t1, t2, t3, t4, t5, t6);
+    }
+
+    @Override
+    default ThrowingPredicate6<T1, T2, T3, T4, T5, T6> and(final ThrowingPredicate6<T1, T2, T3, T4, T5, T6> other) {
+        return (final T1 t1, final T2 t2, final T3 t3, final T4 t4, final T5 t5, final T6 t6) -> this.test(t1, t2, t3, t4, t5, t6) && other.test(t1, t2, t3, t4, t5, t6);
+    }
+
+    @Override
+    default ThrowingPredicate6<T1, T2, T3, T4, T5, T6> or(final ThrowingPredicate6<T1, T2, T3, T4, T5, T6> other) {
+        return (final T1 t1, final T2 t2, final T3 t3, final T4 t4, final T5 t5, final T6 t6) -> this.test(t1, t2, t3, t4, t5, t6) || other.test(t1, t2, t3, t4, t5, t6);
+    }
+
+    @Override
+    default ThrowingPredicate6<T1, T2, T3, T4, T5, T6> xor(final ThrowingPredicate6<T1, T2, T3, T4, T5, T6> other) {
+        return (ThrowingPredicate6<T1, T2, T3, T4, T5, T6>) AbstractThrowingPredicate6.super.xor(other);
+    }
+
+    @Override
+    default ThrowingPredicate6<T1, T2, T3, T4, T5, T6> sub(final ThrowingPredicate6<T1, T2, T3, T4, T5, T6> other) {
+        return (ThrowingPredicate6<T1, T2, T3, T4, T5, T6>) AbstractThrowingPredicate6.super.sub(other);
+    }
+
+    @Override
+    default ThrowingPredicate6<T1, T2, T3, T4, T5, T6> nand(final ThrowingPredicate6<T1, T2, T3, T4, T5, T6> other) {
+        return (ThrowingPredicate6<T1, T2, T3, T4, T5, T6>) AbstractThrowingPredicate6.super.nand(other);
+    }
+
+    @Override
+    default ThrowingPredicate6<T1, T2, T3, T4, T5, T6> nor(final ThrowingPredicate6<T1, T2, T3, T4, T5, T6> other) {
+        return (ThrowingPredicate6<T1, T2, T3, T4, T5, T6>) AbstractThrowingPredicate6.super.nor(other);
+    }
+
+    @Override
+    default ThrowingPredicate6<T1, T2, T3, T4, T5, T6> xnor(final ThrowingPredicate6<T1, T2, T3, T4, T5, T6> other) {
+        return (ThrowingPredicate6<T1, T2, T3, T4, T5, T6>) AbstractThrowingPredicate6.super.xnor(other);
+    }
+
+    @Override
+    default ThrowingPredicate6<T1, T2, T3, T4, T5, T6> orNot(final ThrowingPredicate6<T1, T2, T3, T4, T5, T6> other) {
+        return (ThrowingPredicate6<T1, T2, T3, T4, T5, T6>) AbstractThrowingPredicate6.super.orNot(other);
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Throwability (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.throwable.predicate;
+
+import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.predicate.Predicate7;
+import net.ashwork.functionality.throwable.ThrowingFunction7;
+import net.ashwork.functionality.throwable.abstracts.predicate.AbstractThrowingPredicate7;
+
+/**
+ * Represents a predicate that accepts seven arguments and produces a {@code boolean}-valued result or throws a throwable.
+ * This is the seven-arity specialization for {@link ThrowingPredicateN}.
+ * This is the throwing variation of {@link Predicate7}.
+ *
+ * <p>This is a functional interface whose functional method is {@link #test(Object, Object, Object, Object, Object, Object, Object)}.
+ *
+ * @param <T1> the type of the first argument to the predicate
+ * @param <T2> the type of the second argument to the predicate
+ * @param <T3> the type of the third argument to the predicate
+ * @param <T4> the type of the fourth argument to the predicate
+ * @param <T5> the type of the fifth argument to the predicate
+ * @param <T6> the type of the sixth argument to the predicate
+ * @param <T7> the type of the seventh argument to the predicate
+ *
+ * @see ThrowingPredicateN
+ * @see Predicate7
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface ThrowingPredicate7<T1, T2, T3, T4, T5, T6, T7> extends AbstractThrowingPredicate7<T1, T2, T3, T4, T5, T6, T7, AbstractThrowingPredicate7.Handler<T1, T2, T3, T4, T5, T6, T7>, ThrowingPredicate7<T1, T2, T3, T4, T5, T6, T7>> {
+
+    /**
+     * Creates a throwing instance from a non-throwable type.
+     *
+     * @param predicate the non-throwing type
+     * @param <T1> the type of the first argument to the predicate
+     * @param <T2> the type of the second argument to the predicate
+     * @param <T3> the type of the third argument to the predicate
+     * @param <T4> the type of the fourth argument to the predicate
+     * @param <T5> the type of the fifth argument to the predicate
+     * @param <T6> the type of the sixth argument to the predicate
+     * @param <T7> the type of the seventh argument to the predicate
+     * @return a throwing instance of the original type
+     *
+     * @see Predicate7
+     */
+    static <T1, T2, T3, T4, T5, T6, T7> ThrowingPredicate7<T1, T2, T3, T4, T5, T6, T7> from(final Predicate7<T1, T2, T3, T4, T5, T6, T7> predicate) {
+        return predicate::test;
+    }
+
+    /**
+     * @see Predicate7
+     */
+    @Override
+    default Predicate7<T1, T2, T3, T4, T5, T6, T7> handle(final Handler<T1, T2, T3, T4, T5, T6, T7> handler) {
+        return (final T1 t1, final T2 t2, final T3 t3, final T4 t4, final T5 t5, final T6 t6, final T7 t7) -> {
+            try {
+                return this.test(t1, t2, t3, t4, t5, t6, t7);
+            } catch (final Throwable t) {
+                return handler.testThrown(t, t1, t2, t3, t4, t5, t6, t7);
+            }
+        };
+    }
+
+    /**
+     * @see Predicate7
+     */
+    @Override
+    default Predicate7<T1, T2, T3, T4, T5, T6, T7> swallow() {
+        return this.handle((t, t1, t2, t3, t4, t5, t6, t7) -> false);
+    }
+
+    /**
+     * @see ThrowingFunction7
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    default <V> ThrowingFunction7<T1, T2, T3, T4, T5, T6, T7, V> andThen(final Function1<? super Boolean, ? extends V> after) {
+        return (ThrowingFunction7<T1, T2, T3, T4, T5, T6, T7, V>) AbstractThrowingPredicate7.super.andThen(after);
+    }
+
+    /**
+     * @see ThrowingFunction7
+     */
+    @Override
+    default <V> ThrowingFunction7<T1, T2, T3, T4, T5, T6, T7, V> andThenUnchecked(final Function1<? super Boolean, ? extends V> after) {
+        return (final T1 t1, final T2 t2, final T3 t3, final T4 t4, final T5 t5, final T6 t6, final T7 t7) -> after.apply(this.test(t1, t2, t3, t4, t5, t6, t7));
+    }
+
+    @Override
+    default ThrowingPredicate7<T1, T2, T3, T4, T5, T6, T7> not() {
+        return (final T1 t1, final T2 t2, final T3 t3, final T4 t4, final T5 t5, final T6 t6, final T7 t7) -> !this.test(t1, t2, t3, t4, t5, t6, t7);
+    }
+
+    @Override
+    default ThrowingPredicate7<T1, T2, T3, T4, T5, T6, T7> and(final ThrowingPredicate7<T1, T2, T3, T4, T5, T6, T7> other) {
+        return (final T1 t1, final T2 t2, final T3 t3, final T4 t4, final T5 t5, final T6 t6, final T7 t7) -> this.test(t1, t2, t3, t4, t5, t6, t7) && other.test(t1, t2, t3, t4, t5, t6, t7);
+    }
+
+    @Override
+    default ThrowingPredicate7<T1, T2, T3, T4, T5, T6, T7> or(final ThrowingPredicate7<T1, T2, T3, T4, T5, T6, T7> other) {
+        return (final T1 t1, final T2 t2, final T3 t3, final T4 t4, final T5 t5, final T6 t6, final T7 t7) -> this.test(t1, t2, t3, t4, t5, t6, t7) || other.test(t1, t2, t3, t4, t5, t6, t7);
+    }
+
+    @Override
+    default ThrowingPredicate7<T1, T2, T3, T4, T5, T6, T7> xor(final ThrowingPredicate7<T1, T2, T3, T4, T5, T6, T7> other) {
+        return (ThrowingPredicate7<T1, T2, T3, T4, T5, T6, T7>) AbstractThrowingPredicate7.super.xor(other);
+    }
+
+    @Override
+    default ThrowingPredicate7<T1, T2, T3, T4, T5, T6, T7> sub(final ThrowingPredicate7<T1, T2, T3, T4, T5, T6, T7> other) {
+        return (ThrowingPredicate7<T1, T2, T3, T4, T5, T6, T7>) AbstractThrowingPredicate7.super.sub(other);
+    }
+
+    @Override
+    default ThrowingPredicate7<T1, T2, T3, T4, T5, T6, T7> nand(final ThrowingPredicate7<T1, T2, T3, T4, T5, T6, T7> other) {
+        return (ThrowingPredicate7<T1, T2, T3, T4, T5, T6, T7>) AbstractThrowingPredicate7.super.nand(other);
+    }
+
+    @Override
+    default ThrowingPredicate7<T1, T2, T3, T4, T5, T6, T7> nor(final ThrowingPredicate7<T1, T2, T3, T4, T5, T6, T7> other) {
+        return (ThrowingPredicate7<T1, T2, T3, T4, T5, T6, T7>) AbstractThrowingPredicate7.super.nor(other);
+    }
+
+    @Override
+    default ThrowingPredicate7<T1, T2, T3, T4, T5, T6, T7> xnor(final ThrowingPredicate7<T1, T2, T3, T4, T5, T6, T7> other) {
+        return (ThrowingPredicate7<T1, T2, T3, T4, T5, T6, T7>) AbstractThrowingPredicate7.super.xnor(other);
+    }
+
+    @Override
+    default ThrowingPredicate7<T1, T2, T3, T4, T5, T6, T7> orNot(final ThrowingPredicate7<T1, T2, T3, T4, T5, T6, T7> other) {
+        return (ThrowingPredicate7<T1, T2, T3, T4, T5, T6, T7>) AbstractThrowingPredicate7.super.orNot(other);
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Throwability (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.throwable.predicate;
+
+import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.predicate.Predicate8;
+import net.ashwork.functionality.throwable.ThrowingFunction8;
+import net.ashwork.functionality.throwable.abstracts.predicate.AbstractThrowingPredicate8;
+
+/**
+ * Represents a predicate that accepts eight arguments and produces a {@code boolean}-valued result or throws a throwable.
+ * This is the eight-arity specialization for {@link ThrowingPredicateN}.
+ * This is the throwing variation of {@link Predicate8}.
+ *
+ * <p>This is a functional interface whose functional method is {@link #test(Object, Object, Object, Object, Object, Object, Object, Object)}.
+ *
+ * @param <T1> the type of the first argument to the predicate
+ * @param <T2> the type of the second argument to the predicate
+ * @param <T3> the type of the third argument to the predicate
+ * @param <T4> the type of the fourth argument to the predicate
+ * @param <T5> the type of the fifth argument to the predicate
+ * @param <T6> the type of the sixth argument to the predicate
+ * @param <T7> the type of the seventh argument to the predicate
+ * @param <T8> the type of the eighth argument to the predicate
+ *
+ * @see ThrowingPredicateN
+ * @see Predicate8
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface ThrowingPredicate8<T1, T2, T3, T4, T5, T6, T7, T8> extends AbstractThrowingPredicate8<T1, T2, T3, T4, T5, T6, T7, T8, AbstractThrowingPredicate8.Handler<T1, T2, T3, T4, T5, T6, T7, T8>, ThrowingPredicate8<T1, T2, T3, T4, T5, T6, T7, T8>> {
+
+    /**
+     * Creates a throwing instance from a non-throwable type.
+     *
+     * @param predicate the non-throwing type
+     * @param <T1> the type of the first argument to the predicate
+     * @param <T2> the type of the second argument to the predicate
+     * @param <T3> the type of the third argument to the predicate
+     * @param <T4> the type of the fourth argument to the predicate
+     * @param <T5> the type of the fifth argument to the predicate
+     * @param <T6> the type of the sixth argument to the predicate
+     * @param <T7> the type of the seventh argument to the predicate
+     * @param <T8> the type of the eighth argument to the predicate
+     * @return a throwing instance of the original type
+     *
+     * @see Predicate8
+     */
+    static <T1, T2, T3, T4, T5, T6, T7, T8> ThrowingPredicate8<T1, T2, T3, T4, T5, T6, T7, T8> from(final Predicate8<T1, T2, T3, T4, T5, T6, T7, T8> predicate) {
+        return predicate::test;
+    }
+
+    /**
+     * @see Predicate8
+     */
+    @Override
+    default Predicate8<T1, T2, T3, T4, T5, T6, T7, T8> handle(final Handler<T1, T2, T3, T4, T5, T6, T7, T8> handler) {
+        return (final T1 t1, final T2 t2, final T3 t3, final T4 t4, final T5 t5, final T6 t6, final T7 t7, final T8 t8) -> {
+            try {
+                return this.test(t1, t2, t3, t4, t5, t6, t7, t8);
+            } catch (final Throwable t) {
+                return handler.testThrown(t, t1, t2, t3, t4, t5, t6, t7, t8);
+            }
+        };
+    }
+
+    /**
+     * @see Predicate8
+     */
+    @Override
+    default Predicate8<T1, T2, T3, T4, T5, T6, T7, T8> swallow() {
+        return this.handle((t, t1, t2, t3, t4, t5, t6, t7, t8) -> false);
+    }
+
+    /**
+     * @see ThrowingFunction8
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    default <V> ThrowingFunction8<T1, T2, T3, T4, T5, T6, T7, T8, V> andThen(final Function1<? super Boolean, ? extends V> after) {
+        return (ThrowingFunction8<T1, T2, T3, T4, T5, T6, T7, T8, V>) AbstractThrowingPredicate8.super.andThen(after);
+    }
+
+    /**
+     * @see ThrowingFunction8
+     */
+    @Override
+    default <V> ThrowingFunction8<T1, T2, T3, T4, T5, T6, T7, T8, V> andThenUnchecked(final Function1<? super Boolean, ? extends V> after) {
+        return (final T1 t1, final T2 t2, final T3 t3, final T4 t4, final T5 t5, final T6 t6, final T7 t7, final T8 t8) -> after.apply(this.test(t1, t2, t3, t4, t5, t6, t7, t8));
+    }
+
+    @Override
+    default ThrowingPredicate8<T1, T2, T3, T4, T5, T6, T7, T8> not() {
+        return (final T1 t1, final T2 t2, final T3 t3, final T4 t4, final T5 t5, final T6 t6, final T7 t7, final T8 t8) -> !this.test(t1, t2, t3, t4, t5, t6, t7, t8);
+    }
+
+    @Override
+    default ThrowingPredicate8<T1, T2, T3, T4, T5, T6, T7, T8> and(final ThrowingPredicate8<T1, T2, T3, T4, T5, T6, T7, T8> other) {
+        return (final T1 t1, final T2 t2, final T3 t3, final T4 t4, final T5 t5, final T6 t6, final T7 t7, final T8 t8) -> this.test(t1, t2, t3, t4, t5, t6, t7, t8) && other.test(t1, t2, t3, t4, t5, t6, t7, t8);
+    }
+
+    @Override
+    default ThrowingPredicate8<T1, T2, T3, T4, T5, T6, T7, T8> or(final ThrowingPredicate8<T1, T2, T3, T4, T5, T6, T7, T8> other) {
+        return (final T1 t1, final T2 t2, final T3 t3, final T4 t4, final T5 t5, final T6 t6, final T7 t7, final T8 t8) -> this.test(t1, t2, t3, t4, t5, t6, t7, t8) || other.test(t1, t2, t3, t4, t5, t6, t7, t8);
+    }
+
+    @Override
+    default ThrowingPredicate8<T1, T2, T3, T4, T5, T6, T7, T8> xor(final ThrowingPredicate8<T1, T2, T3, T4, T5, T6, T7, T8> other) {
+        return (ThrowingPredicate8<T1, T2, T3, T4, T5, T6, T7, T8>) AbstractThrowingPredicate8.super.xor(other);
+    }
+
+    @Override
+    default ThrowingPredicate8<T1, T2, T3, T4, T5, T6, T7, T8> sub(final ThrowingPredicate8<T1, T2, T3, T4, T5, T6, T7, T8> other) {
+        return (ThrowingPredicate8<T1, T2, T3, T4, T5, T6, T7, T8>) AbstractThrowingPredicate8.super.sub(other);
+    }
+
+    @Override
+    default ThrowingPredicate8<T1, T2, T3, T4, T5, T6, T7, T8> nand(final ThrowingPredicate8<T1, T2, T3, T4, T5, T6, T7, T8> other) {
+        return (ThrowingPredicate8<T1, T2, T3, T4, T5, T6, T7, T8>) AbstractThrowingPredicate8.super.nand(other);
+    }
+
+    @Override
+    default ThrowingPredicate8<T1, T2, T3, T4, T5, T6, T7, T8> nor(final ThrowingPredicate8<T1, T2, T3, T4, T5, T6, T7, T8> other) {
+        return (ThrowingPredicate8<T1, T2, T3, T4, T5, T6, T7, T8>) AbstractThrowingPredicate8.super.nor(other);
+    }
+
+    @Override
+    default ThrowingPredicate8<T1, T2, T3, T4, T5, T6, T7, T8> xnor(final ThrowingPredicate8<T1, T2, T3, T4, T5, T6, T7, T8> other) {
+        return (ThrowingPredicate8<T1, T2, T3, T4, T5, T6, T7, T8>) AbstractThrowingPredicate8.super.xnor(other);
+    }
+
+    @Override
+    default ThrowingPredicate8<T1, T2, T3, T4, T5, T6, T7, T8> orNot(final ThrowingPredicate8<T1, T2, T3, T4, T5, T6, T7, T8> other) {
+        return (ThrowingPredicate8<T1, T2, T3, T4, T5, T6, T7, T8>) AbstractThrowingPredicate8.super.orNot(other);
+    }
+}
@@ -10,13 +10,31 @@
 package net.ashwork.functionality.throwable.predicate.primitive.booleans;
 
 import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.operator.primitive.booleans.BooleanOperator1;
 import net.ashwork.functionality.predicate.primitive.booleans.BooleanPredicate1;
+import net.ashwork.functionality.primitive.booleans.ToBooleanFunction1;
+import net.ashwork.functionality.primitive.combined.ByteToBooleanFunction1;
+import net.ashwork.functionality.primitive.combined.CharToBooleanFunction1;
+import net.ashwork.functionality.primitive.combined.DoubleToBooleanFunction1;
+import net.ashwork.functionality.primitive.combined.FloatToBooleanFunction1;
+import net.ashwork.functionality.primitive.combined.IntToBooleanFunction1;
+import net.ashwork.functionality.primitive.combined.LongToBooleanFunction1;
+import net.ashwork.functionality.primitive.combined.ShortToBooleanFunction1;
 import net.ashwork.functionality.throwable.abstracts.predicate.primitive.booleans.AbstractThrowingBooleanPredicate1;
 import net.ashwork.functionality.throwable.operator.primitive.booleans.ThrowingBooleanOperator1;
 import net.ashwork.functionality.throwable.predicate.ThrowingPredicate1;
 import net.ashwork.functionality.throwable.predicate.ThrowingPredicateN;
+import net.ashwork.functionality.throwable.predicate.primitive.bytes.ThrowingBytePredicate1;
+import net.ashwork.functionality.throwable.predicate.primitive.chars.ThrowingCharPredicate1;
+import net.ashwork.functionality.throwable.predicate.primitive.doubles.ThrowingDoublePredicate1;
+import net.ashwork.functionality.throwable.predicate.primitive.floats.ThrowingFloatPredicate1;
+import net.ashwork.functionality.throwable.predicate.primitive.ints.ThrowingIntPredicate1;
+import net.ashwork.functionality.throwable.predicate.primitive.longs.ThrowingLongPredicate1;
+import net.ashwork.functionality.throwable.predicate.primitive.shorts.ThrowingShortPredicate1;
 import net.ashwork.functionality.throwable.primitive.booleans.ThrowingBooleanFunction1;
 
+import java.util.Objects;
+
 /**
  * Represents a predicate that accepts a {@code boolean}-valued argument and produces a {@code boolean}-valued result or throws a throwable.
  * This is the one-arity specialization for {@link ThrowingPredicateN}.
@@ -114,6 +132,87 @@ public interface ThrowingBooleanPredicate1 extends AbstractThrowingBooleanPredic
         return (final V v) -> this.test(before.apply(v));
     }
 
+    /**
+     * @see ThrowingPredicate1
+     */
+    @Override
+    default <V> ThrowingPredicate1<V> composeObj(final ToBooleanFunction1<? super V> before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final V v) -> this.test(before.applyAsBoolean(v));
+    }
+
+    /**
+     * @see ThrowingBooleanPredicate1
+     */
+    @Override
+    default ThrowingBooleanPredicate1 composeBoolean(final BooleanOperator1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final boolean value) -> this.test(before.applyAsBoolean(value));
+    }
+
+    /**
+     * @see ThrowingBytePredicate1
+     */
+    @Override
+    default ThrowingBytePredicate1 composeByte(final ByteToBooleanFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final byte value) -> this.test(before.applyAsBoolean(value));
+    }
+
+    /**
+     * @see ThrowingCharPredicate1
+     */
+    @Override
+    default ThrowingCharPredicate1 composeChar(final CharToBooleanFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final char value) -> this.test(before.applyAsBoolean(value));
+    }
+
+    /**
+     * @see ThrowingShortPredicate1
+     */
+    @Override
+    default ThrowingShortPredicate1 composeShort(final ShortToBooleanFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final short value) -> this.test(before.applyAsBoolean(value));
+    }
+
+    /**
+     * @see ThrowingIntPredicate1
+     */
+    @Override
+    default ThrowingIntPredicate1 composeInt(final IntToBooleanFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final int value) -> this.test(before.applyAsBoolean(value));
+    }
+
+    /**
+     * @see ThrowingLongPredicate1
+     */
+    @Override
+    default ThrowingLongPredicate1 composeLong(final LongToBooleanFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final long value) -> this.test(before.applyAsBoolean(value));
+    }
+
+    /**
+     * @see ThrowingFloatPredicate1
+     */
+    @Override
+    default ThrowingFloatPredicate1 composeFloat(final FloatToBooleanFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final float value) -> this.test(before.applyAsBoolean(value));
+    }
+
+    /**
+     * @see ThrowingDoublePredicate1
+     */
+    @Override
+    default ThrowingDoublePredicate1 composeDouble(final DoubleToBooleanFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final double value) -> this.test(before.applyAsBoolean(value));
+    }
+
     /**
      * @see ThrowingBooleanFunction1
      */
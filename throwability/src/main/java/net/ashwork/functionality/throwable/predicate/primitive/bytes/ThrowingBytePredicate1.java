@@ -10,13 +10,31 @@
 package net.ashwork.functionality.throwable.predicate.primitive.bytes;
 
 import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.operator.primitive.bytes.ByteOperator1;
 import net.ashwork.functionality.predicate.primitive.bytes.BytePredicate1;
+import net.ashwork.functionality.primitive.bytes.ToByteFunction1;
+import net.ashwork.functionality.primitive.combined.BooleanToByteFunction1;
+import net.ashwork.functionality.primitive.combined.CharToByteFunction1;
+import net.ashwork.functionality.primitive.combined.DoubleToByteFunction1;
+import net.ashwork.functionality.primitive.combined.FloatToByteFunction1;
+import net.ashwork.functionality.primitive.combined.IntToByteFunction1;
+import net.ashwork.functionality.primitive.combined.LongToByteFunction1;
+import net.ashwork.functionality.primitive.combined.ShortToByteFunction1;
 import net.ashwork.functionality.throwable.abstracts.predicate.primitive.bytes.AbstractThrowingBytePredicate1;
 import net.ashwork.functionality.throwable.predicate.ThrowingPredicate1;
 import net.ashwork.functionality.throwable.predicate.ThrowingPredicateN;
+import net.ashwork.functionality.throwable.predicate.primitive.booleans.ThrowingBooleanPredicate1;
+import net.ashwork.functionality.throwable.predicate.primitive.chars.ThrowingCharPredicate1;
+import net.ashwork.functionality.throwable.predicate.primitive.doubles.ThrowingDoublePredicate1;
+import net.ashwork.functionality.throwable.predicate.primitive.floats.ThrowingFloatPredicate1;
+import net.ashwork.functionality.throwable.predicate.primitive.ints.ThrowingIntPredicate1;
+import net.ashwork.functionality.throwable.predicate.primitive.longs.ThrowingLongPredicate1;
+import net.ashwork.functionality.throwable.predicate.primitive.shorts.ThrowingShortPredicate1;
 import net.ashwork.functionality.throwable.primitive.bytes.ThrowingByteFunction1;
 import net.ashwork.functionality.throwable.primitive.combined.ThrowingByteToBooleanFunction1;
 
+import java.util.Objects;
+
 /**
  * Represents a predicate that accepts a {@code byte}-valued argument and produces a {@code boolean}-valued result or throws a throwable.
  * This is the one-arity specialization for {@link ThrowingPredicateN}.
@@ -114,6 +132,87 @@ public interface ThrowingBytePredicate1 extends AbstractThrowingBytePredicate1<A
         return (final V v) -> this.test(before.apply(v));
     }
 
+    /**
+     * @see ThrowingPredicate1
+     */
+    @Override
+    default <V> ThrowingPredicate1<V> composeObj(final ToByteFunction1<? super V> before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final V v) -> this.test(before.applyAsByte(v));
+    }
+
+    /**
+     * @see ThrowingBooleanPredicate1
+     */
+    @Override
+    default ThrowingBooleanPredicate1 composeBoolean(final BooleanToByteFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final boolean value) -> this.test(before.applyAsByte(value));
+    }
+
+    /**
+     * @see ThrowingBytePredicate1
+     */
+    @Override
+    default ThrowingBytePredicate1 composeByte(final ByteOperator1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final byte value) -> this.test(before.applyAsByte(value));
+    }
+
+    /**
+     * @see ThrowingCharPredicate1
+     */
+    @Override
+    default ThrowingCharPredicate1 composeChar(final CharToByteFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final char value) -> this.test(before.applyAsByte(value));
+    }
+
+    /**
+     * @see ThrowingShortPredicate1
+     */
+    @Override
+    default ThrowingShortPredicate1 composeShort(final ShortToByteFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final short value) -> this.test(before.applyAsByte(value));
+    }
+
+    /**
+     * @see ThrowingIntPredicate1
+     */
+    @Override
+    default ThrowingIntPredicate1 composeInt(final IntToByteFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final int value) -> this.test(before.applyAsByte(value));
+    }
+
+    /**
+     * @see ThrowingLongPredicate1
+     */
+    @Override
+    default ThrowingLongPredicate1 composeLong(final LongToByteFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final long value) -> this.test(before.applyAsByte(value));
+    }
+
+    /**
+     * @see ThrowingFloatPredicate1
+     */
+    @Override
+    default ThrowingFloatPredicate1 composeFloat(final FloatToByteFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final float value) -> this.test(before.applyAsByte(value));
+    }
+
+    /**
+     * @see ThrowingDoublePredicate1
+     */
+    @Override
+    default ThrowingDoublePredicate1 composeDouble(final DoubleToByteFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final double value) -> this.test(before.applyAsByte(value));
+    }
+
     /**
      * @see ThrowingByteFunction1
      */
@@ -10,13 +10,31 @@
 package net.ashwork.functionality.throwable.predicate.primitive.chars;
 
 import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.operator.primitive.chars.CharOperator1;
 import net.ashwork.functionality.predicate.primitive.chars.CharPredicate1;
+import net.ashwork.functionality.primitive.chars.ToCharFunction1;
+import net.ashwork.functionality.primitive.combined.BooleanToCharFunction1;
+import net.ashwork.functionality.primitive.combined.ByteToCharFunction1;
+import net.ashwork.functionality.primitive.combined.DoubleToCharFunction1;
+import net.ashwork.functionality.primitive.combined.FloatToCharFunction1;
+import net.ashwork.functionality.primitive.combined.IntToCharFunction1;
+import net.ashwork.functionality.primitive.combined.LongToCharFunction1;
+import net.ashwork.functionality.primitive.combined.ShortToCharFunction1;
 import net.ashwork.functionality.throwable.abstracts.predicate.primitive.chars.AbstractThrowingCharPredicate1;
 import net.ashwork.functionality.throwable.predicate.ThrowingPredicate1;
 import net.ashwork.functionality.throwable.predicate.ThrowingPredicateN;
+import net.ashwork.functionality.throwable.predicate.primitive.booleans.ThrowingBooleanPredicate1;
+import net.ashwork.functionality.throwable.predicate.primitive.bytes.ThrowingBytePredicate1;
+import net.ashwork.functionality.throwable.predicate.primitive.doubles.ThrowingDoublePredicate1;
+import net.ashwork.functionality.throwable.predicate.primitive.floats.ThrowingFloatPredicate1;
+import net.ashwork.functionality.throwable.predicate.primitive.ints.ThrowingIntPredicate1;
+import net.ashwork.functionality.throwable.predicate.primitive.longs.ThrowingLongPredicate1;
+import net.ashwork.functionality.throwable.predicate.primitive.shorts.ThrowingShortPredicate1;
 import net.ashwork.functionality.throwable.primitive.chars.ThrowingCharFunction1;
 import net.ashwork.functionality.throwable.primitive.combined.ThrowingCharToBooleanFunction1;
 
+import java.util.Objects;
+
 /**
  * Represents a predicate that accepts a {@code char}-valued argument and produces a {@code boolean}-valued result or throws a throwable.
  * This is the one-arity specialization for {@link ThrowingPredicateN}.
@@ -114,6 +132,87 @@ public interface ThrowingCharPredicate1 extends AbstractThrowingCharPredicate1<A
         return (final V v) -> this.test(before.apply(v));
     }
 
+    /**
+     * @see ThrowingPredicate1
+     */
+    @Override
+    default <V> ThrowingPredicate1<V> composeObj(final ToCharFunction1<? super V> before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final V v) -> this.test(before.applyAsChar(v));
+    }
+
+    /**
+     * @see ThrowingBooleanPredicate1
+     */
+    @Override
+    default ThrowingBooleanPredicate1 composeBoolean(final BooleanToCharFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final boolean value) -> this.test(before.applyAsChar(value));
+    }
+
+    /**
+     * @see ThrowingBytePredicate1
+     */
+    @Override
+    default ThrowingBytePredicate1 composeByte(final ByteToCharFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final byte value) -> this.test(before.applyAsChar(value));
+    }
+
+    /**
+     * @see ThrowingCharPredicate1
+     */
+    @Override
+    default ThrowingCharPredicate1 composeChar(final CharOperator1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final char value) -> this.test(before.applyAsChar(value));
+    }
+
+    /**
+     * @see ThrowingShortPredicate1
+     */
+    @Override
+    default ThrowingShortPredicate1 composeShort(final ShortToCharFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final short value) -> this.test(before.applyAsChar(value));
+    }
+
+    /**
+     * @see ThrowingIntPredicate1
+     */
+    @Override
+    default ThrowingIntPredicate1 composeInt(final IntToCharFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final int value) -> this.test(before.applyAsChar(value));
+    }
+
+    /**
+     * @see ThrowingLongPredicate1
+     */
+    @Override
+    default ThrowingLongPredicate1 composeLong(final LongToCharFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final long value) -> this.test(before.applyAsChar(value));
+    }
+
+    /**
+     * @see ThrowingFloatPredicate1
+     */
+    @Override
+    default ThrowingFloatPredicate1 composeFloat(final FloatToCharFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final float value) -> this.test(before.applyAsChar(value));
+    }
+
+    /**
+     * @see ThrowingDoublePredicate1
+     */
+    @Override
+    default ThrowingDoublePredicate1 composeDouble(final DoubleToCharFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final double value) -> this.test(before.applyAsChar(value));
+    }
+
     /**
      * @see ThrowingCharFunction1
      */
@@ -10,12 +10,30 @@
 package net.ashwork.functionality.throwable.predicate.primitive.floats;
 
 import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.operator.primitive.floats.FloatOperator1;
 import net.ashwork.functionality.predicate.primitive.floats.FloatPredicate1;
+import net.ashwork.functionality.primitive.combined.BooleanToFloatFunction1;
+import net.ashwork.functionality.primitive.combined.ByteToFloatFunction1;
+import net.ashwork.functionality.primitive.combined.CharToFloatFunction1;
+import net.ashwork.functionality.primitive.combined.DoubleToFloatFunction1;
+import net.ashwork.functionality.primitive.combined.IntToFloatFunction1;
+import net.ashwork.functionality.primitive.combined.LongToFloatFunction1;
+import net.ashwork.functionality.primitive.combined.ShortToFloatFunction1;
+import net.ashwork.functionality.primitive.floats.ToFloatFunction1;
 import net.ashwork.functionality.throwable.abstracts.predicate.primitive.floats.AbstractThrowingFloatPredicate1;
 import net.ashwork.functionality.throwable.predicate.ThrowingPredicate1;
 import net.ashwork.functionality.throwable.predicate.ThrowingPredicateN;
-import net.ashwork.functionality.throwable.primitive.floats.ThrowingFloatFunction1;
+import net.ashwork.functionality.throwable.predicate.primitive.booleans.ThrowingBooleanPredicate1;
+import net.ashwork.functionality.throwable.predicate.primitive.bytes.ThrowingBytePredicate1;
+import net.ashwork.functionality.throwable.predicate.primitive.chars.ThrowingCharPredicate1;
+import net.ashwork.functionality.throwable.predicate.primitive.doubles.ThrowingDoublePredicate1;
+import net.ashwork.functionality.throwable.predicate.primitive.ints.ThrowingIntPredicate1;
+import net.ashwork.functionality.throwable.predicate.primitive.longs.ThrowingLongPredicate1;
+import net.ashwork.functionality.throwable.predicate.primitive.shorts.ThrowingShortPredicate1;
 import net.ashwork.functionality.throwable.primitive.combined.ThrowingFloatToBooleanFunction1;
+import net.ashwork.functionality.throwable.primitive.floats.ThrowingFloatFunction1;
+
+import java.util.Objects;
 
 /**
  * Represents a predicate that accepts a {@code float}-valued argument and produces a {@code boolean}-valued result or throws a throwable.
@@ -114,6 +132,87 @@ public interface ThrowingFloatPredicate1 extends AbstractThrowingFloatPredicate1
         return (final V v) -> this.test(before.apply(v));
     }
 
+    /**
+     * @see ThrowingPredicate1
+     */
+    @Override
+    default <V> ThrowingPredicate1<V> composeObj(final ToFloatFunction1<? super V> before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final V v) -> this.test(before.applyAsFloat(v));
+    }
+
+    /**
+     * @see ThrowingBooleanPredicate1
+     */
+    @Override
+    default ThrowingBooleanPredicate1 composeBoolean(final BooleanToFloatFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final boolean value) -> this.test(before.applyAsFloat(value));
+    }
+
+    /**
+     * @see ThrowingBytePredicate1
+     */
+    @Override
+    default ThrowingBytePredicate1 composeByte(final ByteToFloatFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final byte value) -> this.test(before.applyAsFloat(value));
+    }
+
+    /**
+     * @see ThrowingCharPredicate1
+     */
+    @Override
+    default ThrowingCharPredicate1 composeChar(final CharToFloatFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final char value) -> this.test(before.applyAsFloat(value));
+    }
+
+    /**
+     * @see ThrowingShortPredicate1
+     */
+    @Override
+    default ThrowingShortPredicate1 composeShort(final ShortToFloatFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final short value) -> this.test(before.applyAsFloat(value));
+    }
+
+    /**
+     * @see ThrowingIntPredicate1
+     */
+    @Override
+    default ThrowingIntPredicate1 composeInt(final IntToFloatFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final int value) -> this.test(before.applyAsFloat(value));
+    }
+
+    /**
+     * @see ThrowingLongPredicate1
+     */
+    @Override
+    default ThrowingLongPredicate1 composeLong(final LongToFloatFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final long value) -> this.test(before.applyAsFloat(value));
+    }
+
+    /**
+     * @see ThrowingFloatPredicate1
+     */
+    @Override
+    default ThrowingFloatPredicate1 composeFloat(final FloatOperator1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final float value) -> this.test(before.applyAsFloat(value));
+    }
+
+    /**
+     * @see ThrowingDoublePredicate1
+     */
+    @Override
+    default ThrowingDoublePredicate1 composeDouble(final DoubleToFloatFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final double value) -> this.test(before.applyAsFloat(value));
+    }
+
     /**
      * @see ThrowingFloatFunction1
      */
@@ -10,12 +10,31 @@
 package net.ashwork.functionality.throwable.predicate.primitive.ints;
 
 import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.operator.primitive.ints.IntOperator1;
 import net.ashwork.functionality.predicate.primitive.ints.IntPredicate1;
+import net.ashwork.functionality.primitive.combined.BooleanToIntFunction1;
+import net.ashwork.functionality.primitive.combined.ByteToIntFunction1;
+import net.ashwork.functionality.primitive.combined.CharToIntFunction1;
+import net.ashwork.functionality.primitive.combined.DoubleToIntFunction1;
+import net.ashwork.functionality.primitive.combined.FloatToIntFunction1;
+import net.ashwork.functionality.primitive.combined.LongToIntFunction1;
+import net.ashwork.functionality.primitive.combined.ShortToIntFunction1;
+import net.ashwork.functionality.primitive.ints.ToIntFunction1;
 import net.ashwork.functionality.throwable.abstracts.predicate.primitive.ints.AbstractThrowingIntPredicate1;
+import net.ashwork.functionality.throwable.concurrent.CircuitBreaker;
 import net.ashwork.functionality.throwable.predicate.ThrowingPredicate1;
 import net.ashwork.functionality.throwable.predicate.ThrowingPredicateN;
-import net.ashwork.functionality.throwable.primitive.ints.ThrowingIntFunction1;
+import net.ashwork.functionality.throwable.predicate.primitive.booleans.ThrowingBooleanPredicate1;
+import net.ashwork.functionality.throwable.predicate.primitive.bytes.ThrowingBytePredicate1;
+import net.ashwork.functionality.throwable.predicate.primitive.chars.ThrowingCharPredicate1;
+import net.ashwork.functionality.throwable.predicate.primitive.doubles.ThrowingDoublePredicate1;
+import net.ashwork.functionality.throwable.predicate.primitive.floats.ThrowingFloatPredicate1;
+import net.ashwork.functionality.throwable.predicate.primitive.longs.ThrowingLongPredicate1;
+import net.ashwork.functionality.throwable.predicate.primitive.shorts.ThrowingShortPredicate1;
 import net.ashwork.functionality.throwable.primitive.combined.ThrowingIntToBooleanFunction1;
+import net.ashwork.functionality.throwable.primitive.ints.ThrowingIntFunction1;
+
+import java.util.Objects;
 
 /**
  * Represents a predicate that accepts an {@code int}-valued argument and produces a {@code boolean}-valued result or throws a throwable.
@@ -97,6 +116,35 @@ public interface ThrowingIntPredicate1 extends AbstractThrowingIntPredicate1<Abs
         return this.handle((t, value) -> false);
     }
 
+    /**
+     * Returns a predicate which is guarded by the given circuit breaker. Every throwable
+     * thrown by this predicate is recorded as a failure. While the breaker is open, this
+     * predicate is not called and a {@link CircuitBreaker.CallNotPermittedException} is
+     * thrown instead, which can be turned into a fallback by {@link #handle(Handler)}
+     * or {@link #swallow()}.
+     *
+     * @param breaker the circuit breaker guarding this predicate
+     * @return a predicate guarded by the circuit breaker
+     * @throws NullPointerException if {@code breaker} is null
+     *
+     * @see CircuitBreaker
+     */
+    default ThrowingIntPredicate1 circuitBreaker(final CircuitBreaker breaker) {
+        Objects.requireNonNull(breaker, "The circuit breaker cannot be null.");
+        return (final int value) -> {
+            final long permit = breaker.acquire();
+            final boolean result;
+            try {
+                result = this.test(value);
+            } catch (final Throwable t) {
+                breaker.onFailure(permit);
+                throw t;
+            }
+            breaker.onSuccess(permit);
+            return result;
+        };
+    }
+
     /**
      * @see ThrowingPredicate1
      */
@@ -114,6 +162,87 @@ public interface ThrowingIntPredicate1 extends AbstractThrowingIntPredicate1<Abs
         return (final V v) -> this.test(before.apply(v));
     }
 
+    /**
+     * @see ThrowingPredicate1
+     */
+    @Override
+    default <V> ThrowingPredicate1<V> composeObj(final ToIntFunction1<? super V> before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final V v) -> this.test(before.applyAsInt(v));
+    }
+
+    /**
+     * @see ThrowingBooleanPredicate1
+     */
+    @Override
+    default ThrowingBooleanPredicate1 composeBoolean(final BooleanToIntFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final boolean value) -> this.test(before.applyAsInt(value));
+    }
+
+    /**
+     * @see ThrowingBytePredicate1
+     */
+    @Override
+    default ThrowingBytePredicate1 composeByte(final ByteToIntFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final byte value) -> this.test(before.applyAsInt(value));
+    }
+
+    /**
+     * @see ThrowingCharPredicate1
+     */
+    @Override
+    default ThrowingCharPredicate1 composeChar(final CharToIntFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final char value) -> this.test(before.applyAsInt(value));
+    }
+
+    /**
+     * @see ThrowingShortPredicate1
+     */
+    @Override
+    default ThrowingShortPredicate1 composeShort(final ShortToIntFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final short value) -> this.test(before.applyAsInt(value));
+    }
+
+    /**
+     * @see ThrowingIntPredicate1
+     */
+    @Override
+    default ThrowingIntPredicate1 composeInt(final IntOperator1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final int value) -> this.test(before.applyAsInt(value));
+    }
+
+    /**
+     * @see ThrowingLongPredicate1
+     */
+    @Override
+    default ThrowingLongPredicate1 composeLong(final LongToIntFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final long value) -> this.test(before.applyAsInt(value));
+    }
+
+    /**
+     * @see ThrowingFloatPredicate1
+     */
+    @Override
+    default ThrowingFloatPredicate1 composeFloat(final FloatToIntFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final float value) -> this.test(before.applyAsInt(value));
+    }
+
+    /**
+     * @see ThrowingDoublePredicate1
+     */
+    @Override
+    default ThrowingDoublePredicate1 composeDouble(final DoubleToIntFunction1 before) {
+        Objects.requireNonNull(before, "The composed function cannot be null.");
+        return (final double value) -> this.test(before.applyAsInt(value));
+    }
+
     /**
      * @see ThrowingIntFunction1
      */
@@ -10,9 +10,14 @@
 package net.ashwork.functionality.throwable.primitive.doubles;
 
 import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.metrics.InvocationMetrics;
+import net.ashwork.functionality.metrics.MetricsRegistry;
 import net.ashwork.functionality.primitive.doubles.ToDoubleFunction1;
 import net.ashwork.functionality.throwable.ThrowingFunction1;
 import net.ashwork.functionality.throwable.abstracts.primitive.doubles.AbstractThrowingToDoubleFunction1;
+import net.ashwork.functionality.throwable.concurrent.CircuitBreaker;
+
+import java.util.Objects;
 
 /**
  * Represents a function that accepts one argument and produces a {@code double}-valued result or throws a throwable.
@@ -57,6 +62,64 @@ public interface ThrowingToDoubleFunction1<T1> extends AbstractThrowingToDoubleF
         return this.handle((t, t1) -> 0.0d);
     }
 
+    /**
+     * Returns a function which is guarded by the given circuit breaker. Every throwable
+     * thrown by this function is recorded as a failure. While the breaker is open, this
+     * function is not called and a {@link CircuitBreaker.CallNotPermittedException} is
+     * thrown instead, which can be turned into a fallback by {@link #handle(Handler)}
+     * or {@link #swallow()}.
+     *
+     * @param breaker the circuit breaker guarding this function
+     * @return a function guarded by the circuit breaker
+     * @throws NullPointerException if {@code breaker} is null
+     *
+     * @see CircuitBreaker
+     */
+    default ThrowingToDoubleFunction1<T1> circuitBreaker(final CircuitBreaker breaker) {
+        Objects.requireNonNull(breaker, "The circuit breaker cannot be null.");
+        return (final T1 t1) -> {
+            final long permit = breaker.acquire();
+            final double result;
+            try {
+                result = this.applyAsDouble(t1);
+            } catch (final Throwable t) {
+                breaker.onFailure(permit);
+                throw t;
+            }
+            breaker.onSuccess(permit);
+            return result;
+        };
+    }
+
+    /**
+     * Returns a function which records its calls into the metrics registered under
+     * the given name: the number of calls, the number of those which threw, and
+     * the latencies of the calls sampled by the registry. The metrics are looked up
+     * once, when this method is called.
+     *
+     * @param name the name to record the metrics under
+     * @param registry the registry holding the metrics
+     * @return an instrumented function
+     * @throws NullPointerException if {@code name} or {@code registry} is null
+     *
+     * @see MetricsRegistry
+     */
+    default ThrowingToDoubleFunction1<T1> instrumented(final String name, final MetricsRegistry registry) {
+        final InvocationMetrics metrics = Objects.requireNonNull(registry, "The registry cannot be null.").metrics(Objects.requireNonNull(name, "The name cannot be null."));
+        return (final T1 t1) -> {
+            final long start = metrics.start();
+            final double result;
+            try {
+                result = this.applyAsDouble(t1);
+            } catch (final Throwable t) {
+                metrics.failed(start);
+                throw t;
+            }
+            metrics.succeeded(start);
+            return result;
+        };
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     default <V> ThrowingToDoubleFunction1<V> compose(final Function1<? super V, ? extends T1> before) {
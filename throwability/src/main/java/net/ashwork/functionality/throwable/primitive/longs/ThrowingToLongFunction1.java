@@ -10,9 +10,18 @@
 package net.ashwork.functionality.throwable.primitive.longs;
 
 import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.metrics.InvocationMetrics;
+import net.ashwork.functionality.metrics.MetricsRegistry;
 import net.ashwork.functionality.primitive.longs.ToLongFunction1;
 import net.ashwork.functionality.throwable.ThrowingFunction1;
 import net.ashwork.functionality.throwable.abstracts.primitive.longs.AbstractThrowingToLongFunction1;
+import net.ashwork.functionality.throwable.concurrent.CircuitBreaker;
+import net.ashwork.functionality.throwable.result.ErrorReport;
+import net.ashwork.functionality.throwable.result.LongResult;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
 
 /**
  * Represents a function that accepts one argument and produces a {@code long}-valued result or throws a throwable.
@@ -57,6 +66,133 @@ public interface ThrowingToLongFunction1<T1> extends AbstractThrowingToLongFunct
         return this.handle((t, t1) -> 0L);
     }
 
+    /**
+     * Applies this function and returns its outcome as a result instead of throwing.
+     *
+     * @param t1 the function argument
+     * @return a new result holding the value returned or the throwable thrown
+     *
+     * @see LongResult
+     */
+    default LongResult tryApplyAsLong(final T1 t1) {
+        try {
+            return LongResult.success(this.applyAsLong(t1));
+        } catch (final Throwable t) {
+            return LongResult.failure(t);
+        }
+    }
+
+    /**
+     * Applies this function and writes its outcome into the given result instead of
+     * throwing, so that a single result can be reused without allocating.
+     *
+     * @param t1 the function argument
+     * @param into the result to overwrite with the outcome
+     * @return {@code into}
+     * @throws NullPointerException if {@code into} is null
+     *
+     * @see LongResult
+     */
+    default LongResult tryApplyAsLong(final T1 t1, final LongResult into) {
+        Objects.requireNonNull(into, "The result cannot be null.");
+        try {
+            return into.succeed(this.applyAsLong(t1));
+        } catch (final Throwable t) {
+            return into.fail(t);
+        }
+    }
+
+    /**
+     * Applies this function to each input in order, recording every throwable thrown
+     * into the given report instead of stopping. The results of the inputs which did
+     * not fail are returned in order; the report holds the indices of those which did.
+     * If the report becomes full, the remaining inputs are skipped.
+     *
+     * @param inputs the inputs to apply this function to
+     * @param errors the report to record failures into
+     * @return the results of the inputs which did not fail
+     * @throws NullPointerException if {@code inputs} or {@code errors} is null
+     *
+     * @see ErrorReport
+     */
+    default long[] mapHandled(final List<? extends T1> inputs, final ErrorReport errors) {
+        Objects.requireNonNull(inputs, "The inputs cannot be null.");
+        Objects.requireNonNull(errors, "The error report cannot be null.");
+        final long[] results = new long[inputs.size()];
+        if (errors.isFull())
+            return new long[0];
+        int index = 0, size = 0;
+        for (final T1 t1 : inputs) {
+            try {
+                results[size] = this.applyAsLong(t1);
+                size++;
+            } catch (final Throwable t) {
+                if (!errors.record(index, t))
+                    break;
+            }
+            index++;
+        }
+        return size == results.length ? results : Arrays.copyOf(results, size);
+    }
+
+    /**
+     * Returns a function which is guarded by the given circuit breaker. Every throwable
+     * thrown by this function is recorded as a failure. While the breaker is open, this
+     * function is not called and a {@link CircuitBreaker.CallNotPermittedException} is
+     * thrown instead, which can be turned into a fallback by {@link #handle(Handler)}
+     * or {@link #swallow()}.
+     *
+     * @param breaker the circuit breaker guarding this function
+     * @return a function guarded by the circuit breaker
+     * @throws NullPointerException if {@code breaker} is null
+     *
+     * @see CircuitBreaker
+     */
+    default ThrowingToLongFunction1<T1> circuitBreaker(final CircuitBreaker breaker) {
+        Objects.requireNonNull(breaker, "The circuit breaker cannot be null.");
+        return (final T1 t1) -> {
+            final long permit = breaker.acquire();
+            final long result;
+            try {
+                result = this.applyAsLong(t1);
+            } catch (final Throwable t) {
+                breaker.onFailure(permit);
+                throw t;
+            }
+            breaker.onSuccess(permit);
+            return result;
+        };
+    }
+
+    /**
+     * Returns a function which records its calls into the metrics registered under
+     * the given name: the number of calls, the number of those which threw, and
+     * the latencies of the calls sampled by the registry. The metrics are looked up
+     * once, when this method is called.
+     *
+     * @param name the name to record the metrics under
+     * @param registry the registry holding the metrics
+     * @return an instrumented function
+     * @throws NullPointerException if {@code name} or {@code registry} is null
+     *
+     * @see MetricsRegistry
+     */
+    default ThrowingToLongFunction1<T1> instrumented(final String name, final MetricsRegistry registry) {
+        final InvocationMetrics metrics = Objects.requireNonNull(registry, "The registry cannot be null.").metrics(Objects.requireNonNull(name, "The name cannot be null."));
+        return (final T1 t1) -> {
+            final long start = metrics.start();
+            final long result;
+            try {
+                result = this.applyAsLong(t1);
+            } catch (final Throwable t) {
+                metrics.failed(start);
+                throw t;
+            }
+            metrics.succeeded(start);
+            return result;
+        };
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     default <V> ThrowingToLongFunction1<V> compose(final Function1<? super V, ? extends T1> before) {
@@ -0,0 +1,169 @@
+/*
+ * Throwability (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.throwable.result;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Represents the failures collected while applying a throwing object to many
+ * inputs, such as through {@code forEachHandled} or {@code mapHandled}. Each
+ * failure is stored as the index of its input alongside the throwable thrown,
+ * in two growable arrays rather than one object per failure.
+ *
+ * <p>A report may stop the iteration once it holds a maximum number of failures.
+ * A report can be reused for another iteration after it is {@linkplain #clear() cleared}.
+ * A report is not thread safe.
+ *
+ * @since 1.0.0
+ */
+public final class ErrorReport {
+
+    private static final int[] NO_INDICES = new int[0];
+    private static final Throwable[] NO_THROWABLES = new Throwable[0];
+
+    private final int maxFailures;
+    private int[] indices;
+    private Throwable[] thrown;
+    private int size;
+
+    private ErrorReport(final int maxFailures) {
+        this.maxFailures = maxFailures;
+        this.indices = NO_INDICES;
+        this.thrown = NO_THROWABLES;
+    }
+
+    /**
+     * Creates a report which collects every failure without stopping the iteration.
+     *
+     * @return a new error report
+     */
+    public static ErrorReport create() {
+        return new ErrorReport(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Creates a report which stops the iteration once it holds the given number of failures.
+     *
+     * @param maxFailures the number of failures after which the iteration stops
+     * @return a new error report
+     * @throws IllegalArgumentException if {@code maxFailures} is not positive
+     */
+    public static ErrorReport stoppingAfter(final int maxFailures) {
+        if (maxFailures <= 0)
+            throw new IllegalArgumentException("The maximum number of failures must be positive: " + maxFailures);
+        return new ErrorReport(maxFailures);
+    }
+
+    /**
+     * Records a failure.
+     *
+     * @param index the index of the input which failed
+     * @param t the throwable thrown for the input
+     * @return {@code true} if the iteration may continue, or {@code false} if the
+     *         report now holds its maximum number of failures
+     * @throws NullPointerException if {@code t} is null
+     */
+    public boolean record(final int index, final Throwable t) {
+        Objects.requireNonNull(t, "The throwable cannot be null.");
+        if (this.size == this.indices.length) {
+            final int capacity = Math.max(4, this.size + (this.size >> 1));
+            this.indices = Arrays.copyOf(this.indices, capacity);
+            this.thrown = Arrays.copyOf(this.thrown, capacity);
+        }
+        this.indices[this.size] = index;
+        this.thrown[this.size++] = t;
+        return this.size < this.maxFailures;
+    }
+
+    /**
+     * Returns whether this report holds its maximum number of failures, in which
+     * case no more inputs are processed.
+     *
+     * @return {@code true} if the iteration should stop, otherwise {@code false}
+     */
+    public boolean isFull() {
+        return this.size >= this.maxFailures;
+    }
+
+    /**
+     * Returns the number of failures this report holds.
+     *
+     * @return the number of failures
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns whether this report holds no failures.
+     *
+     * @return {@code true} if no input failed, otherwise {@code false}
+     */
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Returns the index of the input of a failure.
+     *
+     * @param failure the position of the failure within this report
+     * @return the index of the input which failed
+     * @throws IndexOutOfBoundsException if {@code failure} is not less than {@link #size()}
+     */
+    public int index(final int failure) {
+        return this.indices[this.checkFailure(failure)];
+    }
+
+    /**
+     * Returns the throwable of a failure.
+     *
+     * @param failure the position of the failure within this report
+     * @return the throwable thrown for the input
+     * @throws IndexOutOfBoundsException if {@code failure} is not less than {@link #size()}
+     */
+    public Throwable thrown(final int failure) {
+        return this.thrown[this.checkFailure(failure)];
+    }
+
+    /**
+     * Returns the indices of the inputs which failed, in the order they failed.
+     *
+     * @return a copy of the failed indices
+     */
+    public int[] indices() {
+        return Arrays.copyOf(this.indices, this.size);
+    }
+
+    /**
+     * Removes every failure from this report so it can be reused.
+     */
+    public void clear() {
+        Arrays.fill(this.thrown, 0, this.size, null);
+        this.size = 0;
+    }
+
+    private int checkFailure(final int failure) {
+        if (failure < 0 || failure >= this.size)
+            throw new IndexOutOfBoundsException("Failure: " + failure + ", Size: " + this.size);
+        return failure;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder("ErrorReport[");
+        for (int i = 0; i < this.size; i++) {
+            if (i > 0)
+                builder.append(", ");
+            builder.append(this.indices[i]).append('=').append(this.thrown[i]);
+        }
+        return builder.append(']').toString();
+    }
+}
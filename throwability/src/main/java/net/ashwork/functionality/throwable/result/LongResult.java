@@ -0,0 +1,228 @@
+/*
+ * Throwability (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.throwable.result;
+
+import net.ashwork.functionality.primitive.longs.ToLongFunction1;
+import net.ashwork.functionality.throwable.operator.primitive.longs.ThrowingLongOperator1;
+import net.ashwork.functionality.throwable.primitive.longs.ThrowingLongFunction1;
+
+import java.util.Objects;
+
+/**
+ * Represents the outcome of a throwing call producing {@code long}-valued results:
+ * either the value it returned, or the throwable it threw. This is the
+ * {@code long}-producing primitive specialization of {@link Result}, which holds
+ * its value without boxing.
+ *
+ * <p>A result is a mutable carrier: {@link #succeed(long)} and {@link #fail(Throwable)}
+ * overwrite its outcome, so a single result can be passed to {@code tryApplyAsLong} on
+ * every iteration of a loop without allocating. A result is not thread safe.
+ *
+ * @see Result
+ * @see IntResult
+ * @since 1.0.0
+ */
+public final class LongResult {
+
+    private long value;
+    private Throwable thrown;
+
+    private LongResult(final long value, final Throwable thrown) {
+        this.value = value;
+        this.thrown = thrown;
+    }
+
+    /**
+     * Creates a successful result.
+     *
+     * @param value the value of the result
+     * @return a new successful result
+     */
+    public static LongResult success(final long value) {
+        return new LongResult(value, null);
+    }
+
+    /**
+     * Creates a failed result.
+     *
+     * @param thrown the throwable of the result
+     * @return a new failed result
+     * @throws NullPointerException if {@code thrown} is null
+     */
+    public static LongResult failure(final Throwable thrown) {
+        return new LongResult(0L, Objects.requireNonNull(thrown, "The throwable cannot be null."));
+    }
+
+    /**
+     * Overwrites this result with a value.
+     *
+     * @param value the value of the result
+     * @return this result
+     */
+    public LongResult succeed(final long value) {
+        this.value = value;
+        this.thrown = null;
+        return this;
+    }
+
+    /**
+     * Overwrites this result with a throwable.
+     *
+     * @param thrown the throwable of the result
+     * @return this result
+     * @throws NullPointerException if {@code thrown} is null
+     */
+    public LongResult fail(final Throwable thrown) {
+        this.value = 0L;
+        this.thrown = Objects.requireNonNull(thrown, "The throwable cannot be null.");
+        return this;
+    }
+
+    /**
+     * Returns whether this result holds a value.
+     *
+     * @return {@code true} if the call returned, otherwise {@code false}
+     */
+    public boolean isSuccess() {
+        return this.thrown == null;
+    }
+
+    /**
+     * Returns whether this result holds a throwable.
+     *
+     * @return {@code true} if the call threw, otherwise {@code false}
+     */
+    public boolean isFailure() {
+        return this.thrown != null;
+    }
+
+    /**
+     * Returns the value of this result.
+     *
+     * @return the value, or {@code 0L} if the call threw
+     */
+    public long value() {
+        return this.value;
+    }
+
+    /**
+     * Returns the throwable of this result.
+     *
+     * @return the throwable, or {@code null} if the call returned
+     */
+    public Throwable thrown() {
+        return this.thrown;
+    }
+
+    /**
+     * Returns the value of this result, or throws its throwable.
+     *
+     * @return the value
+     * @throws Throwable the throwable of this result, if the call threw
+     */
+    public long getOrThrow() throws Throwable {
+        if (this.thrown != null)
+            throw this.thrown;
+        return this.value;
+    }
+
+    /**
+     * Returns the value of this result, or the given value if the call threw.
+     *
+     * @param other the value to return if the call threw
+     * @return the value, or {@code other}
+     */
+    public long orElse(final long other) {
+        return this.thrown == null ? this.value : other;
+    }
+
+    /**
+     * Returns the value of this result, or the value computed from its throwable.
+     *
+     * @param fallback the function computing a value from the throwable
+     * @return the value, or the result of {@code fallback}
+     * @throws NullPointerException if {@code fallback} is null
+     */
+    public long orElseGet(final ToLongFunction1<? super Throwable> fallback) {
+        Objects.requireNonNull(fallback, "The fallback function cannot be null.");
+        return this.thrown == null ? this.value : fallback.applyAsLong(this.thrown);
+    }
+
+    /**
+     * Returns a new result holding the value of this result mapped by the given
+     * operator. If this result holds a throwable, the operator is not applied and
+     * the new result holds the same throwable; if the operator throws, the new
+     * result holds what it threw.
+     *
+     * @param mapper the operator to apply to the value
+     * @return a new mapped result
+     * @throws NullPointerException if {@code mapper} is null
+     */
+    public LongResult map(final ThrowingLongOperator1 mapper) {
+        Objects.requireNonNull(mapper, "The mapping function cannot be null.");
+        if (this.thrown != null)
+            return new LongResult(0L, this.thrown);
+        try {
+            return new LongResult(mapper.applyAsLong(this.value), null);
+        } catch (final Throwable t) {
+            return new LongResult(0L, t);
+        }
+    }
+
+    /**
+     * Returns a new result holding the value of this result mapped by the given
+     * function. If this result holds a throwable, the function is not applied and
+     * the new result holds the same throwable; if the function throws, the new
+     * result holds what it threw.
+     *
+     * @param mapper the function to apply to the value
+     * @param <V> the type of the mapped value
+     * @return a new mapped result
+     * @throws NullPointerException if {@code mapper} is null
+     */
+    public <V> Result<V> mapToObj(final ThrowingLongFunction1<? extends V> mapper) {
+        Objects.requireNonNull(mapper, "The mapping function cannot be null.");
+        if (this.thrown != null)
+            return Result.failure(this.thrown);
+        try {
+            return Result.success(mapper.apply(this.value));
+        } catch (final Throwable t) {
+            return Result.failure(t);
+        }
+    }
+
+    /**
+     * Returns the result of applying the given function to the value of this result.
+     * If this result holds a throwable, the function is not applied and a new result
+     * holding the same throwable is returned; if the function throws, a new result
+     * holding what it threw is returned.
+     *
+     * @param mapper the function to apply to the value
+     * @return the mapped result
+     * @throws NullPointerException if {@code mapper} is null or returns null
+     */
+    public LongResult flatMap(final ThrowingLongFunction1<? extends LongResult> mapper) {
+        Objects.requireNonNull(mapper, "The mapping function cannot be null.");
+        if (this.thrown != null)
+            return new LongResult(0L, this.thrown);
+        final LongResult mapped;
+        try {
+            mapped = mapper.apply(this.value);
+        } catch (final Throwable t) {
+            return new LongResult(0L, t);
+        }
+        return Objects.requireNonNull(mapped, "The mapped result cannot be null.");
+    }
+
+    @Override
+    public String toString() {
+        return this.thrown == null ? "Success[" + this.value + "]" : "Failure[" + this.thrown + "]";
+    }
+}
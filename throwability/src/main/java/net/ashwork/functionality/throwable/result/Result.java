@@ -0,0 +1,211 @@
+/*
+ * Throwability (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.throwable.result;
+
+import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.throwable.ThrowingFunction1;
+
+import java.util.Objects;
+
+/**
+ * Represents the outcome of a throwing call: either the value it returned, or the
+ * throwable it threw. A result lets the caller inspect a failure without a
+ * {@code try}/{@code catch} block or a handler, and without losing the throwable
+ * as {@code swallow} does.
+ *
+ * <p>A result is a mutable carrier: {@link #succeed(Object)} and {@link #fail(Throwable)}
+ * overwrite its outcome, so a single result can be passed to {@code tryApply} on every
+ * iteration of a loop without allocating. A result is not thread safe.
+ *
+ * @param <R> the type of the value
+ *
+ * @see IntResult
+ * @see LongResult
+ * @since 1.0.0
+ */
+public final class Result<R> {
+
+    private R value;
+    private Throwable thrown;
+
+    private Result(final R value, final Throwable thrown) {
+        this.value = value;
+        this.thrown = thrown;
+    }
+
+    /**
+     * Creates a successful result.
+     *
+     * @param value the value of the result
+     * @param <R> the type of the value
+     * @return a new successful result
+     */
+    public static <R> Result<R> success(final R value) {
+        return new Result<>(value, null);
+    }
+
+    /**
+     * Creates a failed result.
+     *
+     * @param thrown the throwable of the result
+     * @param <R> the type of the value
+     * @return a new failed result
+     * @throws NullPointerException if {@code thrown} is null
+     */
+    public static <R> Result<R> failure(final Throwable thrown) {
+        return new Result<>(null, Objects.requireNonNull(thrown, "The throwable cannot be null."));
+    }
+
+    /**
+     * Overwrites this result with a value.
+     *
+     * @param value the value of the result
+     * @return this result
+     */
+    public Result<R> succeed(final R value) {
+        this.value = value;
+        this.thrown = null;
+        return this;
+    }
+
+    /**
+     * Overwrites this result with a throwable.
+     *
+     * @param thrown the throwable of the result
+     * @return this result
+     * @throws NullPointerException if {@code thrown} is null
+     */
+    public Result<R> fail(final Throwable thrown) {
+        this.value = null;
+        this.thrown = Objects.requireNonNull(thrown, "The throwable cannot be null.");
+        return this;
+    }
+
+    /**
+     * Returns whether this result holds a value.
+     *
+     * @return {@code true} if the call returned, otherwise {@code false}
+     */
+    public boolean isSuccess() {
+        return this.thrown == null;
+    }
+
+    /**
+     * Returns whether this result holds a throwable.
+     *
+     * @return {@code true} if the call threw, otherwise {@code false}
+     */
+    public boolean isFailure() {
+        return this.thrown != null;
+    }
+
+    /**
+     * Returns the value of this result.
+     *
+     * @return the value, or {@code null} if the call threw
+     */
+    public R value() {
+        return this.value;
+    }
+
+    /**
+     * Returns the throwable of this result.
+     *
+     * @return the throwable, or {@code null} if the call returned
+     */
+    public Throwable thrown() {
+        return this.thrown;
+    }
+
+    /**
+     * Returns the value of this result, or throws its throwable.
+     *
+     * @return the value
+     * @throws Throwable the throwable of this result, if the call threw
+     */
+    public R getOrThrow() throws Throwable {
+        if (this.thrown != null)
+            throw this.thrown;
+        return this.value;
+    }
+
+    /**
+     * Returns the value of this result, or the given value if the call threw.
+     *
+     * @param other the value to return if the call threw
+     * @return the value, or {@code other}
+     */
+    public R orElse(final R other) {
+        return this.thrown == null ? this.value : other;
+    }
+
+    /**
+     * Returns the value of this result, or the value computed from its throwable.
+     *
+     * @param fallback the function computing a value from the throwable
+     * @return the value, or the result of {@code fallback}
+     * @throws NullPointerException if {@code fallback} is null
+     */
+    public R orElseGet(final Function1<? super Throwable, ? extends R> fallback) {
+        Objects.requireNonNull(fallback, "The fallback function cannot be null.");
+        return this.thrown == null ? this.value : fallback.apply(this.thrown);
+    }
+
+    /**
+     * Returns a new result holding the value of this result mapped by the given
+     * function. If this result holds a throwable, the function is not applied and
+     * the new result holds the same throwable; if the function throws, the new
+     * result holds what it threw.
+     *
+     * @param mapper the function to apply to the value
+     * @param <V> the type of the mapped value
+     * @return a new mapped result
+     * @throws NullPointerException if {@code mapper} is null
+     */
+    public <V> Result<V> map(final ThrowingFunction1<? super R, ? extends V> mapper) {
+        Objects.requireNonNull(mapper, "The mapping function cannot be null.");
+        if (this.thrown != null)
+            return new Result<>(null, this.thrown);
+        try {
+            return new Result<>(mapper.apply(this.value), null);
+        } catch (final Throwable t) {
+            return new Result<>(null, t);
+        }
+    }
+
+    /**
+     * Returns the result of applying the given function to the value of this result.
+     * If this result holds a throwable, the function is not applied and a new result
+     * holding the same throwable is returned; if the function throws, a new result
+     * holding what it threw is returned.
+     *
+     * @param mapper the function to apply to the value
+     * @param <V> the type of the mapped value
+     * @return the mapped result
+     * @throws NullPointerException if {@code mapper} is null or returns null
+     */
+    public <V> Result<V> flatMap(final ThrowingFunction1<? super R, ? extends Result<V>> mapper) {
+        Objects.requireNonNull(mapper, "The mapping function cannot be null.");
+        if (this.thrown != null)
+            return new Result<>(null, this.thrown);
+        final Result<V> mapped;
+        try {
+            mapped = mapper.apply(this.value);
+        } catch (final Throwable t) {
+            return new Result<>(null, t);
+        }
+        return Objects.requireNonNull(mapped, "The mapped result cannot be null.");
+    }
+
+    @Override
+    public String toString() {
+        return this.thrown == null ? "Success[" + this.value + "]" : "Failure[" + this.thrown + "]";
+    }
+}
@@ -0,0 +1,16 @@
+/*
+ * Throwability (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+/**
+ * This package holds the {@code Results} of throwing calls, which carry either the value
+ * returned or the throwable thrown so that a failure can be inspected without a handler,
+ * along with reports of the failures collected while processing many inputs.
+ * Some results are specialized such that the value is a primitive with an additional type prefix.
+ */
+package net.ashwork.functionality.throwable.result;
\ No newline at end of file
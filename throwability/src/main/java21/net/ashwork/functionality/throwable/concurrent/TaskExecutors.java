@@ -0,0 +1,55 @@
+/*
+ * Throwability (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.throwable.concurrent;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Holds the executor which runs concurrent calls. This implementation runs
+ * each call on its own virtual thread, so blocking calls do not hold on to a
+ * platform thread.
+ *
+ * <p>This is the Java 21 layer of the multi-release jar.
+ *
+ * @since 1.0.0
+ */
+final class TaskExecutors {
+
+    private TaskExecutors() {}
+
+    /**
+     * Returns whether the created executors run calls on virtual threads.
+     *
+     * @return {@code true} if calls run on virtual threads, otherwise {@code false}
+     */
+    static boolean isVirtual() {
+        return true;
+    }
+
+    /**
+     * Returns the shared executor, which starts a new virtual thread for each call.
+     * The number of calls running at the same time is bounded by the caller. The
+     * executor must not be shut down.
+     *
+     * @return the shared executor
+     */
+    static ExecutorService executor() {
+        return Shared.EXECUTOR;
+    }
+
+    /**
+     * Creates the shared executor on first use.
+     */
+    private static final class Shared {
+
+        private static final ExecutorService EXECUTOR = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("Concurrent Call-", 0).factory());
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Throwability (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.test.throwable;
+
+import net.ashwork.functionality.Function1;
+import net.ashwork.functionality.throwable.ThrowingFunction1;
+import net.ashwork.functionality.throwable.ThrowingFunction2;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * A testing class that tests the asynchronous application of throwing functions.
+ */
+public final class AsyncThrowingFunctionTests {
+
+    /**
+     * Tests that a checked exception completes the future with the exception itself.
+     */
+    @Test
+    public void applyAsync() {
+        final ThrowingFunction1<String, Integer> parse = s -> {
+            if (s.isEmpty())
+                throw new IOException("empty");
+            return s.length();
+        };
+        Assertions.assertEquals(3, parse.applyAsync("abc", Runnable::run).join());
+        final ExecutionException thrown = Assertions.assertThrows(ExecutionException.class, () -> parse.applyAsync("", Runnable::run).get());
+        Assertions.assertTrue(thrown.getCause() instanceof IOException);
+
+        final ThrowingFunction2<Integer, Integer, Integer> add = Integer::sum;
+        Assertions.assertEquals(5, add.applyAsync(2, 3, Runnable::run).join());
+    }
+
+    /**
+     * Tests lifting a throwing function into an asynchronous function, with and
+     * without a handler.
+     */
+    @Test
+    public void async() {
+        final ThrowingFunction1<String, Integer> failing = s -> {
+            throw new IOException(s);
+        };
+        final Function1<String, CompletableFuture<Integer>> lifted = failing.async(Runnable::run);
+        final ExecutionException thrown = Assertions.assertThrows(ExecutionException.class, () -> lifted.apply("a").get());
+        Assertions.assertEquals("a", thrown.getCause().getMessage());
+
+        final Function1<String, CompletableFuture<Integer>> handled = failing.async(Runnable::run, (t, s) -> -s.length());
+        Assertions.assertEquals(-2, handled.apply("ab").join());
+
+        final ThrowingFunction2<Integer, Integer, Integer> divide = (a, b) -> a / b;
+        Assertions.assertEquals(0, divide.async(Runnable::run, (t, a, b) -> 0).apply(1, 0).join());
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Throwability (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.test.throwable;
+
+import net.ashwork.functionality.throwable.ThrowingFunction1;
+import net.ashwork.functionality.throwable.concurrent.Bulkhead;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A testing class that tests fixed and adaptive bulkheads.
+ */
+public final class BulkheadTests {
+
+    /**
+     * Tests that a fixed bulkhead rejects calls at its limit and never adapts it.
+     */
+    @Test
+    public void fixedLimit() {
+        final Bulkhead bulkhead = Bulkhead.fixed(2);
+        final long first = bulkhead.acquire();
+        final long second = bulkhead.acquire();
+        Assertions.assertThrows(Bulkhead.BulkheadFullException.class, bulkhead::acquire);
+        bulkhead.release(first, new IOException());
+        bulkhead.release(second, null);
+        Assertions.assertEquals(0, bulkhead.inFlight());
+        Assertions.assertEquals(2, bulkhead.limit());
+        Assertions.assertFalse(bulkhead.isAdaptive());
+    }
+
+    /**
+     * Tests that calls made one at a time do not grow the limit of an adaptive bulkhead.
+     */
+    @Test
+    public void sequentialDoesNotGrow() {
+        final Bulkhead bulkhead = Bulkhead.adaptive(2, 10, Duration.ofMinutes(1));
+        for (int i = 0; i < 100; i++)
+            bulkhead.release(bulkhead.acquire(), null);
+        Assertions.assertEquals(2, bulkhead.limit());
+    }
+
+    /**
+     * Tests that a fast call admitted while the bulkhead was more than half full
+     * raises the limit by one, up to the maximum.
+     */
+    @Test
+    public void additiveIncrease() {
+        final Bulkhead bulkhead = Bulkhead.adaptive(2, 3, Duration.ofMinutes(1));
+        final long idle = bulkhead.acquire();
+        final long busy = bulkhead.acquire();
+        bulkhead.release(idle, null);
+        Assertions.assertEquals(2, bulkhead.limit());
+        bulkhead.release(busy, null);
+        Assertions.assertEquals(3, bulkhead.limit());
+
+        final long[] permits = {bulkhead.acquire(), bulkhead.acquire(), bulkhead.acquire()};
+        for (final long permit : permits)
+            bulkhead.release(permit, null);
+        Assertions.assertEquals(3, bulkhead.limit());
+    }
+
+    /**
+     * Tests that slow calls, and failures taken as a sign of overload, shrink the
+     * limit multiplicatively, down to one, while other failures leave it alone.
+     */
+    @Test
+    public void multiplicativeDecrease() throws InterruptedException {
+        final Bulkhead bulkhead = Bulkhead.adaptive(10, 10, Duration.ofMinutes(1), t -> t instanceof IOException);
+        bulkhead.release(bulkhead.acquire(), new IllegalArgumentException());
+        Assertions.assertEquals(10, bulkhead.limit());
+        bulkhead.release(bulkhead.acquire(), new IOException());
+        Assertions.assertEquals(9, bulkhead.limit());
+        for (int i = 0; i < 100; i++)
+            bulkhead.release(bulkhead.acquire(), new IOException());
+        Assertions.assertEquals(1, bulkhead.limit());
+
+        final Bulkhead slow = Bulkhead.adaptive(10, 10, Duration.ofNanos(1));
+        final long permit = slow.acquire();
+        Thread.sleep(1);
+        slow.release(permit, null);
+        Assertions.assertEquals(9, slow.limit());
+    }
+
+    /**
+     * Tests that a burst of slow calls admitted together cuts the limit once,
+     * however many of them finish and from however many threads.
+     */
+    @Test
+    public void burstDecreasesOnce() throws InterruptedException {
+        final Bulkhead bulkhead = Bulkhead.adaptive(100, 100, Duration.ofNanos(1));
+        final long[] permits = new long[100];
+        for (int i = 0; i < permits.length; i++)
+            permits[i] = bulkhead.acquire();
+        Thread.sleep(1);
+
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        final CountDownLatch start = new CountDownLatch(1);
+        try {
+            for (final long permit : permits)
+                executor.execute(() -> {
+                    try {
+                        start.await();
+                    } catch (final InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    bulkhead.release(permit, null);
+                });
+            start.countDown();
+        } finally {
+            executor.shutdown();
+        }
+        Assertions.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        Assertions.assertEquals(0, bulkhead.inFlight());
+        Assertions.assertEquals(90, bulkhead.limit());
+
+        final long later = bulkhead.acquire();
+        Thread.sleep(1);
+        bulkhead.release(later, null);
+        Assertions.assertEquals(81, bulkhead.limit());
+    }
+
+    /**
+     * Tests that a guarded function is not called while the bulkhead is full
+     * and releases its permit when it fails.
+     */
+    @Test
+    public void guardedFunction() {
+        final Bulkhead bulkhead = Bulkhead.fixed(1);
+        final AtomicReference<ThrowingFunction1<Integer, Integer>> self = new AtomicReference<>();
+        self.set(((ThrowingFunction1<Integer, Integer>) i -> i == 0 ? 0 : self.get().apply(i - 1)).bulkhead(bulkhead));
+
+        Assertions.assertThrows(Bulkhead.BulkheadFullException.class, () -> self.get().apply(1));
+        Assertions.assertEquals(0, bulkhead.inFlight());
+        Assertions.assertEquals(-1, self.get().swallow().andThen(r -> r == null ? -1 : r).apply(1));
+    }
+}
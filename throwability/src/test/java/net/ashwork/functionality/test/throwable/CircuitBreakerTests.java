@@ -0,0 +1,146 @@
+/*
+ * Throwability (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.test.throwable;
+
+import net.ashwork.functionality.throwable.ThrowingFunction1;
+import net.ashwork.functionality.throwable.concurrent.CircuitBreaker;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A testing class that tests the state machine of circuit breakers.
+ */
+public final class CircuitBreakerTests {
+
+    private static final Duration OPEN = Duration.ofMillis(10);
+
+    /**
+     * Tests that the breaker opens once the failure rate reaches the threshold
+     * and rejects calls while open.
+     */
+    @Test
+    public void opensAtThreshold() {
+        final CircuitBreaker breaker = CircuitBreaker.of(0.5, 4, Duration.ofMinutes(1));
+        breaker.onSuccess(breaker.acquire());
+        breaker.onFailure(breaker.acquire());
+        breaker.onSuccess(breaker.acquire());
+        Assertions.assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+        breaker.onFailure(breaker.acquire());
+        Assertions.assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        Assertions.assertEquals(0.5, breaker.failureRate());
+        Assertions.assertThrows(CircuitBreaker.CallNotPermittedException.class, breaker::acquire);
+    }
+
+    /**
+     * Tests that a single trial call is let through after the open duration
+     * and closes the breaker with an empty window on success.
+     */
+    @Test
+    public void trialSuccessCloses() throws InterruptedException {
+        final CircuitBreaker breaker = opened();
+        Thread.sleep(OPEN.toMillis() * 5);
+        final long trial = breaker.acquire();
+        Assertions.assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.state());
+        Assertions.assertThrows(CircuitBreaker.CallNotPermittedException.class, breaker::acquire);
+        breaker.onSuccess(trial);
+        Assertions.assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+        Assertions.assertEquals(0, breaker.failureRate());
+    }
+
+    /**
+     * Tests that a failed trial call opens the breaker for another open duration.
+     */
+    @Test
+    public void trialFailureReopens() throws InterruptedException {
+        final CircuitBreaker breaker = opened();
+        Thread.sleep(OPEN.toMillis() * 5);
+        breaker.onFailure(breaker.acquire());
+        Assertions.assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        Assertions.assertThrows(CircuitBreaker.CallNotPermittedException.class, breaker::acquire);
+    }
+
+    /**
+     * Tests that a call admitted while closed which finishes during the trial
+     * does not decide the trial.
+     */
+    @Test
+    public void lateCallsIgnored() throws InterruptedException {
+        final CircuitBreaker breaker = CircuitBreaker.of(1, 1, OPEN);
+        final long late = breaker.acquire();
+        breaker.onFailure(breaker.acquire());
+        Thread.sleep(OPEN.toMillis() * 5);
+        final long trial = breaker.acquire();
+
+        breaker.onSuccess(late);
+        Assertions.assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.state());
+        breaker.onFailure(late);
+        Assertions.assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.state());
+
+        breaker.onSuccess(trial);
+        Assertions.assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+        breaker.onFailure(late);
+        Assertions.assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+        Assertions.assertEquals(0, breaker.failureRate());
+    }
+
+    /**
+     * Tests that a trial which outlived the open duration does not decide the
+     * trial which replaced it.
+     */
+    @Test
+    public void staleTrialIgnored() throws InterruptedException {
+        final CircuitBreaker breaker = opened();
+        Thread.sleep(OPEN.toMillis() * 5);
+        final long stale = breaker.acquire();
+        Thread.sleep(OPEN.toMillis() * 5);
+        final long trial = breaker.acquire();
+
+        breaker.onFailure(stale);
+        Assertions.assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.state());
+        breaker.onSuccess(trial);
+        Assertions.assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+    }
+
+    /**
+     * Tests that a guarded function records its failures and is not called
+     * while the breaker is open.
+     */
+    @Test
+    public void guardedFunction() throws Throwable {
+        final CircuitBreaker breaker = CircuitBreaker.of(1, 2, Duration.ofMinutes(1));
+        final AtomicInteger calls = new AtomicInteger();
+        final ThrowingFunction1<String, String> function = ((ThrowingFunction1<String, String>) s -> {
+            calls.incrementAndGet();
+            if (s.isEmpty())
+                throw new IOException();
+            return s;
+        }).circuitBreaker(breaker);
+
+        Assertions.assertEquals("a", function.apply("a"));
+        Assertions.assertThrows(IOException.class, () -> function.apply(""));
+        Assertions.assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+        Assertions.assertThrows(IOException.class, () -> function.apply(""));
+        Assertions.assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+
+        Assertions.assertNull(function.swallow().apply("b"));
+        Assertions.assertEquals(3, calls.get());
+    }
+
+    private static CircuitBreaker opened() {
+        final CircuitBreaker breaker = CircuitBreaker.of(1, 1, OPEN);
+        breaker.onFailure(breaker.acquire());
+        Assertions.assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        return breaker;
+    }
+}
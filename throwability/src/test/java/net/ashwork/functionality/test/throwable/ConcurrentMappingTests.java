@@ -0,0 +1,161 @@
+/*
+ * Throwability (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.test.throwable;
+
+import net.ashwork.functionality.throwable.ThrowingFunction1;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A testing class that tests the concurrent mapping of throwing functions.
+ */
+public final class ConcurrentMappingTests {
+
+    /**
+     * Tests that results are returned in input order, with failures replaced
+     * by the result of the handler, and that concurrency is bounded.
+     */
+    @Test
+    public void map() {
+        final AtomicInteger active = new AtomicInteger();
+        final AtomicInteger maxActive = new AtomicInteger();
+        final ThrowingFunction1<Integer, String> function = i -> {
+            maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(1);
+                if (i % 3 == 0)
+                    throw new IOException("multiple of three");
+                return "v" + i;
+            } finally {
+                active.decrementAndGet();
+            }
+        };
+        final List<Integer> inputs = new ArrayList<>();
+        for (int i = 1; i <= 20; i++)
+            inputs.add(i);
+        final List<String> results = function.mapConcurrent(inputs, 4, (t, i) -> "failed " + i);
+        for (int i = 1; i <= 20; i++)
+            Assertions.assertEquals(i % 3 == 0 ? "failed " + i : "v" + i, results.get(i - 1));
+        Assertions.assertTrue(maxActive.get() <= 4);
+        Assertions.assertTrue(function.mapConcurrent(new ArrayList<>(), 1, (t, i) -> null).isEmpty());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> function.mapConcurrent(inputs, 0, (t, i) -> null));
+    }
+
+    /**
+     * Tests that a failing handler is relayed once all calls complete.
+     */
+    @Test
+    public void failingHandler() {
+        final ThrowingFunction1<Integer, Integer> function = i -> {
+            throw new IOException("failed");
+        };
+        Assertions.assertThrows(IllegalStateException.class, () -> function.mapConcurrent(Arrays.asList(1, 2), 2, (t, i) -> {
+            throw new IllegalStateException("handler");
+        }));
+    }
+
+    /**
+     * Tests that interrupting the caller interrupts only the calls of its mapping.
+     */
+    @Test
+    public void interrupt() throws InterruptedException {
+        final CountDownLatch started = new CountDownLatch(2);
+        final CountDownLatch interrupted = new CountDownLatch(2);
+        final ThrowingFunction1<Integer, Integer> function = i -> {
+            started.countDown();
+            try {
+                Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+            } catch (final InterruptedException e) {
+                interrupted.countDown();
+                throw e;
+            }
+            return i;
+        };
+        final AtomicReference<Throwable> thrown = new AtomicReference<>();
+        final AtomicReference<Boolean> status = new AtomicReference<>();
+        final Thread caller = new Thread(() -> {
+            try {
+                function.mapConcurrent(Arrays.asList(1, 2), 2, (t, i) -> -1);
+            } catch (final Throwable t) {
+                thrown.set(t);
+                status.set(Thread.currentThread().isInterrupted());
+            }
+        });
+        caller.start();
+        Assertions.assertTrue(started.await(10, TimeUnit.SECONDS));
+        caller.interrupt();
+        caller.join();
+        Assertions.assertTrue(thrown.get() instanceof CancellationException);
+        Assertions.assertTrue(status.get());
+        Assertions.assertTrue(interrupted.await(10, TimeUnit.SECONDS));
+
+        // The shared executor keeps running later mappings
+        Assertions.assertEquals(Arrays.asList(1, 2), ((ThrowingFunction1<Integer, Integer>) i -> i).mapConcurrent(Arrays.asList(1, 2), 2, (t, i) -> -1));
+    }
+
+    /**
+     * Tests that an interrupted mapping waits for calls which ignore the interrupt
+     * before throwing, and does not pass their throwables to the handler.
+     */
+    @Test
+    public void interruptWaitsForCalls() throws InterruptedException {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger finished = new AtomicInteger();
+        final AtomicInteger handled = new AtomicInteger();
+        final ThrowingFunction1<Integer, Integer> function = i -> {
+            started.countDown();
+            boolean interrupted = false;
+            while (true) {
+                try {
+                    release.await();
+                    break;
+                } catch (final InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            finished.incrementAndGet();
+            if (interrupted)
+                throw new InterruptedException();
+            return i;
+        };
+        final AtomicReference<Throwable> thrown = new AtomicReference<>();
+        final AtomicInteger finishedWhenThrown = new AtomicInteger(-1);
+        final Thread caller = new Thread(() -> {
+            try {
+                function.mapConcurrent(Arrays.asList(1, 2), 1, (t, i) -> handled.incrementAndGet());
+            } catch (final Throwable t) {
+                finishedWhenThrown.set(finished.get());
+                thrown.set(t);
+            }
+        });
+        caller.start();
+        Assertions.assertTrue(started.await(10, TimeUnit.SECONDS));
+        caller.interrupt();
+        caller.join(50);
+        Assertions.assertTrue(caller.isAlive());
+        release.countDown();
+        caller.join();
+
+        Assertions.assertTrue(thrown.get() instanceof CancellationException);
+        Assertions.assertEquals(1, finishedWhenThrown.get());
+        Assertions.assertEquals(0, handled.get());
+    }
+}
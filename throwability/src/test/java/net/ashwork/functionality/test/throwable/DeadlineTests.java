@@ -0,0 +1,110 @@
+/*
+ * Throwability (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.test.throwable;
+
+import net.ashwork.functionality.throwable.ThrowingFunction1;
+import net.ashwork.functionality.throwable.concurrent.Deadline;
+import net.ashwork.functionality.throwable.consumer.ThrowingConsumer1;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A testing class that tests deadlines bound to the current thread.
+ */
+public final class DeadlineTests {
+
+    /**
+     * Tests that timeouts too large for nanoseconds saturate instead of overflowing.
+     */
+    @Test
+    public void saturates() {
+        final Deadline forever = Deadline.after(Duration.ofSeconds(Long.MAX_VALUE));
+        Assertions.assertFalse(forever.isExpired());
+        Assertions.assertTrue(forever.remainingNanos() > 0);
+
+        final Deadline past = Deadline.after(Duration.ofSeconds(Long.MIN_VALUE));
+        Assertions.assertTrue(past.isExpired());
+        Assertions.assertTrue(past.remainingNanos() < 0);
+    }
+
+    /**
+     * Tests that a nested deadline which expires later does not replace an earlier one,
+     * even when the later one is saturated.
+     */
+    @Test
+    public void nestedKeepsEarliest() throws Throwable {
+        final Deadline expired = Deadline.after(Duration.ofNanos(-1));
+        final Deadline bound = expired.call(() -> Deadline.after(Duration.ofSeconds(Long.MAX_VALUE)).call(Deadline::current));
+        Assertions.assertSame(expired, bound);
+        Assertions.assertNull(Deadline.current());
+    }
+
+    /**
+     * Tests that an expired deadline skips the wrapped stage.
+     */
+    @Test
+    public void skipsWrappedStage() throws Throwable {
+        final AtomicInteger calls = new AtomicInteger();
+        final ThrowingFunction1<String, String> function = ((ThrowingFunction1<String, String>) s -> {
+            calls.incrementAndGet();
+            return s;
+        }).withinDeadline();
+        Assertions.assertEquals("a", Deadline.after(Duration.ofMinutes(1)).call(() -> function.apply("a")));
+        Assertions.assertThrows(Deadline.DeadlineExceededException.class,
+                () -> Deadline.after(Duration.ofNanos(-1)).call(() -> function.apply("b")));
+        Assertions.assertEquals(1, calls.get());
+    }
+
+    /**
+     * Tests that stages chained onto a wrapped stage check the deadline as well.
+     */
+    @Test
+    public void chainedStagesChecked() throws Throwable {
+        final AtomicInteger calls = new AtomicInteger();
+        final Deadline deadline = Deadline.after(Duration.ofMillis(10));
+        // The deadline expires while the first stage is running
+        final ThrowingFunction1<String, String> waiting = s -> {
+            while (!deadline.isExpired())
+                Thread.yield();
+            return s;
+        };
+        final ThrowingFunction1<String, String> chained = waiting.withinDeadline().andThen(s -> {
+            calls.incrementAndGet();
+            return s;
+        });
+        Assertions.assertThrows(Deadline.DeadlineExceededException.class, () -> deadline.call(() -> chained.apply("a")));
+        Assertions.assertEquals(0, calls.get());
+
+        final ThrowingFunction1<String, Integer> composed = waiting.withinDeadline().<String>compose(String::trim).andThen(String::length);
+        Assertions.assertEquals(1, Deadline.after(Duration.ofMinutes(1)).call(() -> composed.apply("b")));
+    }
+
+    /**
+     * Tests that operations chained onto a wrapped operation check the deadline as well.
+     */
+    @Test
+    public void chainedOperationsChecked() throws Throwable {
+        final AtomicInteger calls = new AtomicInteger();
+        final Deadline deadline = Deadline.after(Duration.ofMillis(10));
+        final ThrowingConsumer1<String> waiting = s -> {
+            while (!deadline.isExpired())
+                Thread.yield();
+        };
+        final ThrowingConsumer1<String> chained = waiting.withinDeadline().andThen((ThrowingConsumer1<String>) s -> calls.incrementAndGet());
+        Assertions.assertThrows(Deadline.DeadlineExceededException.class, () -> deadline.run(() -> chained.accept("a")));
+        Assertions.assertEquals(0, calls.get());
+
+        Deadline.after(Duration.ofMinutes(1)).run(() -> chained.withinDeadline().accept("b"));
+        Assertions.assertEquals(1, calls.get());
+    }
+}
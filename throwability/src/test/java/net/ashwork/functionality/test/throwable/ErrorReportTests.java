@@ -0,0 +1,104 @@
+/*
+ * Throwability (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.test.throwable;
+
+import net.ashwork.functionality.throwable.ThrowingFunction1;
+import net.ashwork.functionality.throwable.consumer.ThrowingConsumer1;
+import net.ashwork.functionality.throwable.consumer.primitive.ints.ThrowingIntConsumer1;
+import net.ashwork.functionality.throwable.primitive.ints.ThrowingToIntFunction1;
+import net.ashwork.functionality.throwable.result.ErrorReport;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A testing class that tests collecting the failures of many inputs into an error report.
+ */
+public final class ErrorReportTests {
+
+    private static final List<String> INPUTS = Arrays.asList("1", "a", "3", "b", "5");
+
+    /**
+     * Tests that every input is passed to the operation and the failures are
+     * recorded with the indices of their inputs.
+     */
+    @Test
+    public void forEachHandled() {
+        final List<Integer> accepted = new ArrayList<>();
+        final ThrowingConsumer1<String> consumer = s -> accepted.add(Integer.parseInt(s));
+        final ErrorReport errors = consumer.forEachHandled(INPUTS, ErrorReport.create());
+        Assertions.assertEquals(Arrays.asList(1, 3, 5), accepted);
+        Assertions.assertArrayEquals(new int[]{1, 3}, errors.indices());
+        Assertions.assertTrue(errors.thrown(0) instanceof NumberFormatException);
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> errors.thrown(2));
+    }
+
+    /**
+     * Tests that the iteration stops once the report holds its maximum number of
+     * failures, and that a full report processes no inputs until cleared.
+     */
+    @Test
+    public void stopsWhenFull() {
+        final List<Integer> accepted = new ArrayList<>();
+        final ThrowingConsumer1<String> consumer = s -> accepted.add(Integer.parseInt(s));
+        final ErrorReport errors = consumer.forEachHandled(INPUTS, ErrorReport.stoppingAfter(1));
+        Assertions.assertEquals(Arrays.asList(1), accepted);
+        Assertions.assertTrue(errors.isFull());
+
+        consumer.forEachHandled(INPUTS, errors);
+        Assertions.assertEquals(Arrays.asList(1), accepted);
+
+        errors.clear();
+        Assertions.assertTrue(errors.isEmpty());
+        final int[] values = {1, -2, 3};
+        final ThrowingIntConsumer1 positive = i -> {
+            if (i < 0)
+                throw new IllegalArgumentException();
+        };
+        Assertions.assertArrayEquals(new int[]{1}, positive.forEachHandled(values, errors).indices());
+    }
+
+    /**
+     * Tests that failed inputs are left out of the mapped output, so the index of
+     * a result only matches the index of its input up to the first failure. The
+     * indices of the failed inputs are the ones in the report.
+     */
+    @Test
+    public void mapHandledDropsFailures() {
+        final ThrowingFunction1<String, Integer> parse = Integer::parseInt;
+        final ErrorReport errors = ErrorReport.create();
+        final List<Integer> results = parse.mapHandled(INPUTS, errors);
+        Assertions.assertEquals(Arrays.asList(1, 3, 5), results);
+        // The input at index 2 is mapped to the output at index 1
+        Assertions.assertEquals(3, results.get(1));
+        Assertions.assertArrayEquals(new int[]{1, 3}, errors.indices());
+
+        errors.clear();
+        final ThrowingToIntFunction1<String> parseInt = Integer::parseInt;
+        Assertions.assertArrayEquals(new int[]{1, 3, 5}, parseInt.mapHandled(INPUTS, errors));
+        Assertions.assertArrayEquals(new int[]{1, 3}, errors.indices());
+    }
+
+    /**
+     * Tests that mapping stops once the report is full, keeping the results
+     * computed before.
+     */
+    @Test
+    public void mapHandledStopsWhenFull() {
+        final ThrowingFunction1<String, Integer> parse = Integer::parseInt;
+        final ErrorReport errors = ErrorReport.stoppingAfter(1);
+        Assertions.assertEquals(Arrays.asList(1), parse.mapHandled(INPUTS, errors));
+        Assertions.assertTrue(parse.mapHandled(INPUTS, errors).isEmpty());
+        Assertions.assertEquals(1, errors.size());
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Throwability (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.test.throwable;
+
+import net.ashwork.functionality.throwable.ThrowingFunction0;
+import net.ashwork.functionality.throwable.ThrowingFunction1;
+import net.ashwork.functionality.throwable.concurrent.HedgeDelay;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A testing class that tests hedged calls of throwing functions.
+ */
+public final class HedgingTests {
+
+    /**
+     * Tests that a slow attempt is hedged and cancelled by interruption once
+     * the hedge wins.
+     */
+    @Test
+    public void losersCancelled() throws Throwable {
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            final AtomicInteger attempts = new AtomicInteger();
+            final CountDownLatch interrupted = new CountDownLatch(1);
+            final ThrowingFunction0<String> function = () -> {
+                if (attempts.incrementAndGet() > 1)
+                    return "hedge";
+                try {
+                    Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+                } catch (final InterruptedException e) {
+                    interrupted.countDown();
+                    throw e;
+                }
+                return "slow";
+            };
+            Assertions.assertEquals("hedge", function.hedged(Duration.ofMillis(10), 2, executor).apply());
+            Assertions.assertTrue(interrupted.await(10, TimeUnit.SECONDS));
+            Assertions.assertEquals(2, attempts.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Tests that interrupting the caller cancels every attempt and is relayed as
+     * an {@link InterruptedException}.
+     */
+    @Test
+    public void interruptPropagates() throws InterruptedException {
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            final CountDownLatch started = new CountDownLatch(2);
+            final CountDownLatch interrupted = new CountDownLatch(2);
+            final ThrowingFunction0<String> function = () -> {
+                started.countDown();
+                try {
+                    Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+                } catch (final InterruptedException e) {
+                    interrupted.countDown();
+                    throw e;
+                }
+                return "never";
+            };
+            final AtomicReference<Throwable> thrown = new AtomicReference<>();
+            final Thread caller = new Thread(() -> {
+                try {
+                    function.hedged(Duration.ofMillis(1), 2, executor).apply();
+                } catch (final Throwable t) {
+                    thrown.set(t);
+                }
+            });
+            caller.start();
+            Assertions.assertTrue(started.await(10, TimeUnit.SECONDS));
+            caller.interrupt();
+            caller.join();
+            Assertions.assertTrue(thrown.get() instanceof InterruptedException);
+            Assertions.assertTrue(interrupted.await(10, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Tests that a failed attempt launches the next one without waiting for the
+     * delay, and that the failures are combined once every attempt fails.
+     */
+    @Test
+    public void failures() throws Throwable {
+        final AtomicInteger attempts = new AtomicInteger();
+        final ThrowingFunction1<Integer, Integer> recovering = i -> {
+            if (attempts.incrementAndGet() == 1)
+                throw new IOException("first");
+            return i * 2;
+        };
+        Assertions.assertEquals(4, recovering.hedged(Duration.ofHours(1), 2, Runnable::run).apply(2));
+
+        final AtomicInteger failures = new AtomicInteger();
+        final ThrowingFunction0<String> failing = () -> {
+            throw new IOException("attempt " + failures.incrementAndGet());
+        };
+        final IOException thrown = Assertions.assertThrows(IOException.class, () -> failing.hedged(Duration.ofHours(1), 3, Runnable::run).apply());
+        Assertions.assertEquals("attempt 1", thrown.getMessage());
+        Assertions.assertEquals(2, thrown.getSuppressed().length);
+    }
+
+    /**
+     * Tests that an adaptive delay does not shrink when half of the first attempts
+     * are slow, even though every slow attempt is cancelled by a faster hedge.
+     */
+    @Test
+    public void adaptiveDelayKeepsTail() throws Throwable {
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            final Duration initial = Duration.ofMillis(20);
+            final HedgeDelay delay = HedgeDelay.percentile(0.9, initial);
+            final AtomicBoolean slow = new AtomicBoolean();
+            final ThrowingFunction0<String> function = ((ThrowingFunction0<String>) () -> {
+                if (slow.getAndSet(false))
+                    Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+                return "done";
+            }).hedged(delay, 2, executor);
+            for (int i = 0; i < 64; i++) {
+                slow.set(i % 2 == 0);
+                Assertions.assertEquals("done", function.apply());
+            }
+            Assertions.assertTrue(delay.delayNanos() >= initial.toNanos(), () -> "The delay shrank to " + delay.delayNanos());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Tests that a rejected first attempt runs on the calling thread without hedging.
+     */
+    @Test
+    public void rejected() throws Throwable {
+        final AtomicInteger attempts = new AtomicInteger();
+        final ThrowingFunction0<Thread> function = () -> {
+            attempts.incrementAndGet();
+            return Thread.currentThread();
+        };
+        Assertions.assertSame(Thread.currentThread(), function.hedged(Duration.ofMillis(1), 3, runnable -> {
+            throw new RejectedExecutionException();
+        }).apply());
+        Assertions.assertEquals(1, attempts.get());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> function.hedged(Duration.ofMillis(1), 0, Runnable::run));
+    }
+}
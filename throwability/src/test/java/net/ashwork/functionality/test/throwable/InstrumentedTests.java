@@ -0,0 +1,52 @@
+/*
+ * Throwability (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.test.throwable;
+
+import net.ashwork.functionality.metrics.InvocationMetrics;
+import net.ashwork.functionality.metrics.MetricsRegistry;
+import net.ashwork.functionality.throwable.operator.primitive.longs.ThrowingLongOperator1;
+import net.ashwork.functionality.throwable.predicate.ThrowingPredicate2;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+/**
+ * A testing class that tests recording the metrics of instrumented throwing functions.
+ */
+public final class InstrumentedTests {
+
+    /**
+     * Tests that checked throwables are counted as failures and rethrown unchanged.
+     */
+    @Test
+    public void countsCheckedFailures() throws Throwable {
+        final MetricsRegistry registry = MetricsRegistry.create();
+        final IOException thrown = new IOException();
+        final ThrowingLongOperator1 halve = ((ThrowingLongOperator1) l -> {
+            if (l % 2 != 0)
+                throw thrown;
+            return l / 2;
+        }).instrumented("halve", registry);
+        final ThrowingPredicate2<String, String> equal = ((ThrowingPredicate2<String, String>) String::equals).instrumented("equal", registry);
+
+        Assertions.assertEquals(2L, halve.applyAsLong(4L));
+        Assertions.assertSame(thrown, Assertions.assertThrows(IOException.class, () -> halve.applyAsLong(3L)));
+        Assertions.assertTrue(equal.test("a", "a"));
+        Assertions.assertFalse(equal.test("a", "b"));
+
+        final InvocationMetrics.Snapshot halveMetrics = registry.metrics("halve").snapshot();
+        Assertions.assertEquals(2, halveMetrics.calls());
+        Assertions.assertEquals(1, halveMetrics.failures());
+        final InvocationMetrics.Snapshot equalMetrics = registry.metrics("equal").snapshot();
+        Assertions.assertEquals(2, equalMetrics.calls());
+        Assertions.assertEquals(0, equalMetrics.failures());
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Throwability (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.test.throwable;
+
+import net.ashwork.functionality.throwable.result.IntResult;
+import net.ashwork.functionality.throwable.result.LongResult;
+import net.ashwork.functionality.throwable.result.Result;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+/**
+ * A testing class that tests mapping the results of throwing calls.
+ */
+public final class ResultTests {
+
+    /**
+     * Tests that a throwable thrown by the function passed to {@code flatMap}
+     * is captured in the returned result.
+     */
+    @Test
+    public void flatMapCaptures() {
+        final IOException thrown = new IOException();
+        final Result<String> success = Result.success("a");
+        Assertions.assertEquals("aa", success.flatMap(s -> Result.success(s + s)).value());
+        Assertions.assertSame(thrown, success.<String>flatMap(s -> {
+            throw thrown;
+        }).thrown());
+        Assertions.assertThrows(NullPointerException.class, () -> success.flatMap(s -> null));
+
+        final IntResult intSuccess = IntResult.success(1);
+        Assertions.assertEquals(2, intSuccess.flatMap(i -> IntResult.success(i + 1)).value());
+        Assertions.assertSame(thrown, intSuccess.flatMap(i -> {
+            throw thrown;
+        }).thrown());
+
+        final LongResult longSuccess = LongResult.success(1L);
+        Assertions.assertEquals(2L, longSuccess.flatMap(l -> LongResult.success(l + 1)).value());
+        Assertions.assertSame(thrown, longSuccess.flatMap(l -> {
+            throw thrown;
+        }).thrown());
+    }
+
+    /**
+     * Tests that a failed result is carried through {@code map} and {@code flatMap}
+     * without applying the function.
+     */
+    @Test
+    public void failurePropagates() {
+        final IOException thrown = new IOException();
+        final Result<String> failure = Result.failure(thrown);
+        Assertions.assertSame(thrown, failure.map(s -> {
+            throw new IllegalStateException();
+        }).thrown());
+        Assertions.assertSame(thrown, failure.<String>flatMap(s -> {
+            throw new IllegalStateException();
+        }).thrown());
+        Assertions.assertSame(thrown, IntResult.failure(thrown).flatMap(i -> {
+            throw new IllegalStateException();
+        }).thrown());
+        Assertions.assertSame(thrown, LongResult.failure(thrown).flatMap(l -> {
+            throw new IllegalStateException();
+        }).thrown());
+    }
+}
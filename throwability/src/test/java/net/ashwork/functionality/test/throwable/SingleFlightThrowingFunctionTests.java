@@ -0,0 +1,85 @@
+/*
+ * Throwability (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.test.throwable;
+
+import net.ashwork.functionality.throwable.ThrowingFunction1;
+import net.ashwork.functionality.throwable.concurrent.SingleFlightThrowingFunction1;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A testing class that tests the single-flight throwing function.
+ */
+public final class SingleFlightThrowingFunctionTests {
+
+    /**
+     * Tests that callers sharing a call receive the same checked exception and
+     * that the underlying function is called once.
+     */
+    @Test
+    public void sharedFailure() throws Throwable {
+        final CountDownLatch entered = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger calls = new AtomicInteger();
+        final IOException failure = new IOException("failed");
+        final ThrowingFunction1<String, String> function = s -> {
+            calls.incrementAndGet();
+            entered.countDown();
+            release.await();
+            throw failure;
+        };
+        final SingleFlightThrowingFunction1<String, String> singleFlight = function.singleFlight();
+
+        final AtomicReferenceArray<Throwable> thrown = new AtomicReferenceArray<>(2);
+        final Thread leader = new Thread(() -> {
+            try {
+                singleFlight.apply("key");
+            } catch (final Throwable t) {
+                thrown.set(0, t);
+            }
+        });
+        leader.start();
+        entered.await();
+        final Thread follower = new Thread(() -> {
+            try {
+                singleFlight.apply("key");
+            } catch (final Throwable t) {
+                thrown.set(1, t);
+            }
+        });
+        follower.start();
+        while (follower.getState() != Thread.State.WAITING)
+            Thread.yield();
+        Assertions.assertEquals(1, singleFlight.inFlight());
+        release.countDown();
+        leader.join();
+        follower.join();
+
+        Assertions.assertEquals(1, calls.get());
+        Assertions.assertSame(failure, thrown.get(0));
+        Assertions.assertSame(failure, thrown.get(1));
+        Assertions.assertEquals(0, singleFlight.inFlight());
+    }
+
+    /**
+     * Tests that a successful call returns the result of the underlying function.
+     */
+    @Test
+    public void result() throws Throwable {
+        final SingleFlightThrowingFunction1<Integer, Integer> singleFlight = SingleFlightThrowingFunction1.of(i -> i + 1);
+        Assertions.assertEquals(2, singleFlight.apply(1));
+        Assertions.assertEquals(0, singleFlight.inFlight());
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Throwability (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.test.throwable;
+
+import net.ashwork.functionality.throwable.ThrowingFunction1;
+import net.ashwork.functionality.throwable.abstracts.AbstractThrowingFunction1;
+import net.ashwork.functionality.throwable.abstracts.primitive.longs.AbstractThrowingToLongFunction1;
+import net.ashwork.functionality.throwable.partial.ThrowableDispatcher;
+import net.ashwork.functionality.throwable.primitive.longs.ThrowingToLongFunction1;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * A testing class that tests selecting handlers by the class of the thrown throwable.
+ */
+public final class ThrowableDispatcherTests {
+
+    /**
+     * Tests that the handler of the nearest registered superclass is selected,
+     * and the fallback handler if none is registered.
+     */
+    @Test
+    public void nearestRegistration() {
+        final ThrowableDispatcher<String> dispatcher = ThrowableDispatcher.builder("fallback")
+                .on(IOException.class, "io")
+                .on(RuntimeException.class, "runtime")
+                .on(RuntimeException.class, "replaced")
+                .build();
+        Assertions.assertEquals("io", dispatcher.handlerFor(new FileNotFoundException()));
+        Assertions.assertEquals("io", dispatcher.handlerFor(IOException.class));
+        Assertions.assertEquals("replaced", dispatcher.handlerFor(new IllegalStateException()));
+        Assertions.assertEquals("fallback", dispatcher.handlerFor(new InterruptedException()));
+        Assertions.assertEquals("fallback", dispatcher.handlerFor(new Error()));
+    }
+
+    /**
+     * Tests that registering on a builder after building does not change the
+     * built dispatcher.
+     */
+    @Test
+    public void builtDispatcherImmutable() {
+        final ThrowableDispatcher.Builder<String> builder = ThrowableDispatcher.builder("fallback");
+        final ThrowableDispatcher<String> before = builder.build();
+        final ThrowableDispatcher<String> after = builder.on(IOException.class, "io").build();
+        Assertions.assertEquals("fallback", before.handlerFor(IOException.class));
+        Assertions.assertEquals("io", after.handlerFor(IOException.class));
+    }
+
+    /**
+     * Tests that a dispatcher of function handlers adapts into a single handler.
+     */
+    @Test
+    public void functionHandler() {
+        final ThrowableDispatcher<AbstractThrowingFunction1.Handler<String, String>> dispatcher =
+                ThrowableDispatcher.<AbstractThrowingFunction1.Handler<String, String>>builder((t, s) -> "fallback " + s)
+                        .on(IOException.class, (t, s) -> "io " + s)
+                        .build();
+        final ThrowingFunction1<String, String> function = s -> {
+            if (s.isEmpty())
+                throw new FileNotFoundException();
+            throw new UncheckedIOException(new IOException());
+        };
+        Assertions.assertEquals("io ", function.handle(ThrowableDispatcher.toFunction1Handler(dispatcher)).apply(""));
+        Assertions.assertEquals("fallback a", function.handle(ThrowableDispatcher.toFunction1Handler(dispatcher)).apply("a"));
+    }
+
+    /**
+     * Tests that a dispatcher of {@code long}-producing function handlers adapts
+     * into a single handler without boxing the result.
+     */
+    @Test
+    public void longFunctionHandler() {
+        final ThrowableDispatcher<AbstractThrowingToLongFunction1.Handler<String>> dispatcher =
+                ThrowableDispatcher.<AbstractThrowingToLongFunction1.Handler<String>>builder((t, s) -> -1L)
+                        .on(NumberFormatException.class, (t, s) -> 0L)
+                        .build();
+        final ThrowingToLongFunction1<String> function = s -> {
+            if (s == null)
+                throw new IOException();
+            return Long.parseLong(s);
+        };
+        Assertions.assertEquals(5L, function.handle(ThrowableDispatcher.toLongFunction1Handler(dispatcher)).applyAsLong("5"));
+        Assertions.assertEquals(0L, function.handle(ThrowableDispatcher.toLongFunction1Handler(dispatcher)).applyAsLong("five"));
+        Assertions.assertEquals(-1L, function.handle(ThrowableDispatcher.toLongFunction1Handler(dispatcher)).applyAsLong(null));
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Throwability (Functionality)
+ * Copyright (c) 2021-2021 ChampionAsh5357.
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+
+package net.ashwork.functionality.test.throwable;
+
+import net.ashwork.functionality.throwable.abstracts.predicate.AbstractThrowingPredicate1;
+import net.ashwork.functionality.throwable.abstracts.predicate.primitive.ints.AbstractThrowingIntPredicate1;
+import net.ashwork.functionality.throwable.abstracts.predicate.primitive.longs.AbstractThrowingLongPredicate1;
+import net.ashwork.functionality.throwable.predicate.primitive.booleans.ThrowingBooleanPredicate1;
+import net.ashwork.functionality.throwable.predicate.primitive.chars.ThrowingCharPredicate1;
+import net.ashwork.functionality.throwable.predicate.primitive.doubles.ThrowingDoublePredicate1;
+import net.ashwork.functionality.throwable.predicate.primitive.ints.ThrowingIntPredicate1;
+import net.ashwork.functionality.throwable.predicate.primitive.longs.ThrowingLongPredicate1;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+/**
+ * A testing class that tests all primitive-based throwing predicates.
+ */
+public final class ThrowingPrimitivePredicateTests {
+
+    /**
+     * Tests composing a function before a throwing {@code int} predicate.
+     */
+    @Test
+    public void composeInt() throws Throwable {
+        final ThrowingIntPredicate1 even = value -> value % 2 == 0;
+        Assertions.assertTrue(even.<String>composeObj(String::length).test("four"));
+        Assertions.assertFalse(even.composeBoolean(value -> value ? 1 : 0).test(true));
+        Assertions.assertTrue(even.composeByte(value -> value * 3).test((byte) 2));
+        Assertions.assertTrue(even.composeChar(value -> value - 'a').test('c'));
+        Assertions.assertFalse(even.composeShort(value -> value).test((short) 7));
+        Assertions.assertTrue(even.composeInt(value -> value + 1).test(3));
+        Assertions.assertTrue(even.composeLong(value -> (int) (value >>> 32)).test(4L << 32));
+        Assertions.assertFalse(even.composeFloat(Math::round).test(2.6F));
+        Assertions.assertTrue(even.composeDouble(value -> (int) value).test(8.9));
+    }
+
+    /**
+     * Tests composing through the abstract throwing predicate declarations, which
+     * must resolve to the unboxed implementations.
+     */
+    @Test
+    public void composeAbstract() throws Throwable {
+        final AbstractThrowingIntPredicate1<?, ?> positive = (ThrowingIntPredicate1) value -> value > 0;
+        final AbstractThrowingPredicate1<String, ?, ?> nonEmpty = positive.composeObj(String::length);
+        Assertions.assertTrue(nonEmpty.test("a"));
+        Assertions.assertFalse(nonEmpty.test(""));
+
+        final AbstractThrowingLongPredicate1<?, ?> longs = positive.composeLong(Long::signum);
+        Assertions.assertTrue(longs instanceof ThrowingLongPredicate1);
+        Assertions.assertTrue(((ThrowingLongPredicate1) longs).test(Long.MAX_VALUE));
+        Assertions.assertTrue(positive.composeDouble(value -> (int) Math.signum(value)) instanceof ThrowingDoublePredicate1);
+        Assertions.assertTrue(positive.composeBoolean(value -> value ? 1 : -1) instanceof ThrowingBooleanPredicate1);
+        Assertions.assertTrue(positive.composeChar(value -> value) instanceof ThrowingCharPredicate1);
+    }
+
+    /**
+     * Tests that a composed throwing predicate relays the checked exception of
+     * the predicate and the unchecked exception of the function.
+     */
+    @Test
+    public void composeThrows() {
+        final ThrowingIntPredicate1 failing = value -> {
+            throw new IOException("Failed on " + value);
+        };
+        final IOException thrown = Assertions.assertThrows(IOException.class, () -> failing.composeLong(value -> (int) value).test(5L));
+        Assertions.assertEquals("Failed on 5", thrown.getMessage());
+        Assertions.assertFalse(failing.composeInt(value -> value).swallow().test(1));
+
+        final ThrowingIntPredicate1 even = value -> value % 2 == 0;
+        Assertions.assertThrows(NumberFormatException.class, () -> even.<String>composeObj(Integer::parseInt).test("one"));
+        Assertions.assertThrows(NullPointerException.class, () -> even.composeInt(null));
+    }
+}